@@ -21,5 +21,6 @@ public class JobConfiguration implements Serializable {
     private JobListenerConfiguration jobListenerConfiguration;
     private JobParameters jobParameters;
     private JobIncrementer jobIncrementer;
+    private Long version;
 
 }
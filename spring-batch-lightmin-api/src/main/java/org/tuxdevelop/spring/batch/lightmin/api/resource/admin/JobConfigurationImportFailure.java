@@ -0,0 +1,28 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.admin;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class JobConfigurationImportFailure implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long lineNumber;
+    private String jobName;
+    private String message;
+
+    public JobConfigurationImportFailure() {
+    }
+
+    public JobConfigurationImportFailure(final Long lineNumber, final String jobName, final String message) {
+        this.lineNumber = lineNumber;
+        this.jobName = jobName;
+        this.message = message;
+    }
+}
@@ -0,0 +1,27 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.admin;
+
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class JobConfigurationImportReport implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long importedCount;
+    private Long failedCount;
+    private List<JobConfigurationImportFailure> failures;
+
+    public JobConfigurationImportReport() {
+        this.importedCount = 0L;
+        this.failedCount = 0L;
+        this.failures = new LinkedList<>();
+    }
+}
@@ -0,0 +1,22 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.batch;
+
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Selects the {@link JobExecution}s of a bulk stop or restart, either by their ids or by a {@link JobExecutionSearch}
+ * matching all of them.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class BulkJobExecutionOperation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<Long> jobExecutionIds;
+    private JobExecutionSearch search;
+}
@@ -0,0 +1,24 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.batch;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * Stop or restart of a single {@link JobExecution} of a bulk operation
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class BulkJobExecutionOperationItem implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long jobExecutionId;
+    /**
+     * null as long as the operation is pending
+     */
+    private Boolean succeeded;
+    private String exitMessage;
+}
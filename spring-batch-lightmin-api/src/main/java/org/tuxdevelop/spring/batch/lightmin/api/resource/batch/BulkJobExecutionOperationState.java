@@ -0,0 +1,11 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.batch;
+
+/**
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public enum BulkJobExecutionOperationState {
+
+    RUNNING,
+    COMPLETED
+}
@@ -0,0 +1,29 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.batch;
+
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Aggregated progress of a bulk stop or restart of {@link JobExecution}s
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class BulkJobExecutionOperationStatus implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+    private BulkJobExecutionOperationType operation;
+    private BulkJobExecutionOperationState state;
+    private Date startTime;
+    private Date endTime;
+    private int itemCount;
+    private int succeededCount;
+    private int failedCount;
+    private List<BulkJobExecutionOperationItem> items;
+}
@@ -0,0 +1,31 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.batch;
+
+import lombok.Data;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameter;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Launches a job once per parameter set. The parameter sets are given either as list of {@link JobParameters} or as
+ * fan-out of one parameter name over a list of values. Both are merged with the common job parameters, item
+ * parameters override common parameters of the same name.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class BulkJobLaunch implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String jobName;
+    /**
+     * parameters common to all launches, optional
+     */
+    private JobParameters jobParameters;
+    private List<JobParameters> jobParametersList;
+    private String fanOutParameterName;
+    private List<JobParameter> fanOutParameters;
+}
@@ -0,0 +1,23 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.batch;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * Launch of a single parameter set of a {@link BulkJobLaunch}. The job execution id is null as long as the item has
+ * not been launched or if the launch failed.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class BulkJobLaunchItem implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private int index;
+    private Long jobExecutionId;
+    private BatchStatus status;
+    private String exitMessage;
+}
@@ -0,0 +1,33 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.batch;
+
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Progress of a {@link BulkJobLaunch}. A bulk launch is completed, as soon as every item has been launched or failed
+ * to launch, the launched jobs may still be running.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class BulkJobLaunchStatus implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+    private String jobName;
+    private BulkJobLaunchState state;
+    private Date startTime;
+    private Date endTime;
+    private int itemCount;
+    private int launchedCount;
+    private int failedCount;
+    /**
+     * ordered like the parameter sets of the bulk launch
+     */
+    private List<BulkJobLaunchItem> items;
+}
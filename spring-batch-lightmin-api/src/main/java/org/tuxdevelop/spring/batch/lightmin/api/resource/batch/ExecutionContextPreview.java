@@ -0,0 +1,27 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.batch;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * Serialized execution context of a {@link JobExecution} or a {@link StepExecution}, as stored by the job repository.
+ * Contexts larger than the max length are cut and marked as truncated.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class ExecutionContextPreview implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long jobExecutionId;
+    /**
+     * null for the context of the job execution
+     */
+    private Long stepExecutionId;
+    private String serializedContext;
+    private int maxLength;
+    private boolean truncated;
+}
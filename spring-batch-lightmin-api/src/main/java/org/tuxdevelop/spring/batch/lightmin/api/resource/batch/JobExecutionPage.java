@@ -20,4 +20,8 @@ public class JobExecutionPage implements Serializable {
     private Integer totalJobExecutionCount;
     private Long jobInstanceId;
     private List<JobExecution> jobExecutions;
+    /**
+     * opaque cursor to fetch the following page with, null if there are no further elements
+     */
+    private String nextCursor;
 }
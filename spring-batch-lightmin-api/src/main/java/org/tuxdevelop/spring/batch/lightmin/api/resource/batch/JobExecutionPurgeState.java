@@ -0,0 +1,13 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.batch;
+
+/**
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public enum JobExecutionPurgeState {
+
+    NOT_STARTED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,31 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.batch;
+
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * Progress of the running or the result of the last purge of {@link JobExecution}s
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class JobExecutionPurgeStatus implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private JobExecutionPurgeState state;
+    private RetentionPolicy retentionPolicy;
+    private Date startTime;
+    private Date endTime;
+    /**
+     * count of the chunks purged within their own transaction
+     */
+    private int chunkCount;
+    private long jobExecutionCount;
+    private long stepExecutionCount;
+    private long jobInstanceCount;
+    private String exitMessage;
+}
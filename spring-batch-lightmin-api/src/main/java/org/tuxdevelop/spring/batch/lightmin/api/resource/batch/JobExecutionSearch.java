@@ -0,0 +1,49 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.batch;
+
+import lombok.Data;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * Filter of a {@link JobExecution} search. All given criteria have to match, criteria without a value are ignored.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class JobExecutionSearch implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String jobName;
+    private Set<BatchStatus> statuses;
+    /**
+     * inclusive lower bound of the start time
+     */
+    private Date startTimeFrom;
+    /**
+     * exclusive upper bound of the start time
+     */
+    private Date startTimeTo;
+    /**
+     * inclusive lower bound of the end time
+     */
+    private Date endTimeFrom;
+    /**
+     * exclusive upper bound of the end time
+     */
+    private Date endTimeTo;
+    private String exitCode;
+    /**
+     * parameters, the {@link JobExecution}s have to contain with equal values
+     */
+    private JobParameters jobParameters;
+    /**
+     * the {@link JobExecutionPage#getNextCursor()} of the previous page, null for the first page
+     */
+    private String cursor;
+    private Integer pageSize;
+}
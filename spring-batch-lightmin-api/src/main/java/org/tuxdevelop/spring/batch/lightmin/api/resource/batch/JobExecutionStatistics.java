@@ -0,0 +1,44 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.batch;
+
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Statistics of the finished {@link JobExecution}s of a job, which have been started within a time window. Durations
+ * are given in milliseconds, the items per second relate the items of all steps to the duration of the job
+ * executions.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class JobExecutionStatistics implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String jobName;
+    /**
+     * inclusive lower bound of the start time
+     */
+    private Date startTimeFrom;
+    /**
+     * exclusive upper bound of the start time
+     */
+    private Date startTimeTo;
+    private int executionCount;
+    /**
+     * share of the executions with the status {@link BatchStatus#COMPLETED}, between 0 and 1
+     */
+    private double successRate;
+    private long durationP50;
+    private long durationP95;
+    private long durationP99;
+    private long readCount;
+    private long writeCount;
+    private double readItemsPerSecond;
+    private double writeItemsPerSecond;
+    private List<StepExecutionStatistics> stepExecutionStatistics;
+}
@@ -19,4 +19,8 @@ public class JobInstancePage implements Serializable {
     private Integer totalJobInstanceCount;
     private String jobName;
     private List<JobInstance> jobInstances;
+    /**
+     * opaque cursor to fetch the following page with, null if there are no further elements
+     */
+    private String nextCursor;
 }
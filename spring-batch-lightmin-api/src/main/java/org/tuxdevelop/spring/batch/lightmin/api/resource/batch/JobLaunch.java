@@ -16,4 +16,8 @@ public class JobLaunch implements Serializable {
 
     private String jobName;
     private JobParameters jobParameters;
+    /**
+     * optional key, a retried launch with the same key returns the execution of the first launch
+     */
+    private String idempotencyKey;
 }
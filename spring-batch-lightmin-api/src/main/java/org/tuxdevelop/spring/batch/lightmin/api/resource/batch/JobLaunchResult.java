@@ -0,0 +1,25 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.batch;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * Result of an asynchronous {@link JobLaunch}. The launch returns as soon as the {@link JobExecution} has been created,
+ * its completion is awaited separately by the id of the execution. If the launch has been a retry of an earlier
+ * launch with the same idempotency key, the result is marked as duplicate and carries the id of the earlier execution
+ * without its status.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class JobLaunchResult implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String jobName;
+    private Long jobExecutionId;
+    private BatchStatus status;
+    private Boolean duplicate = Boolean.FALSE;
+}
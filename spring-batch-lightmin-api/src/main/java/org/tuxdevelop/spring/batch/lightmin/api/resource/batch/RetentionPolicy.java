@@ -0,0 +1,33 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.batch;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * Retention policy of finished {@link JobExecution}s. Executions are purged, if they ended longer than the max age
+ * ago, or if they are older than the newest max executions per job of their job. Failed executions are kept until the
+ * failed max age, which defaults to the max age. Limits without a value are not applied.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class RetentionPolicy implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * max age in milliseconds
+     */
+    private Long maxAge;
+    /**
+     * max age of failed executions in milliseconds
+     */
+    private Long failedMaxAge;
+    private Integer maxExecutionsPerJob;
+    /**
+     * count of executions purged within a single transaction, defaults to 500
+     */
+    private Integer chunkSize;
+}
@@ -0,0 +1,32 @@
+package org.tuxdevelop.spring.batch.lightmin.api.resource.batch;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * Statistics of the finished {@link StepExecution}s of a step within the time window of the enclosing
+ * {@link JobExecutionStatistics}. Durations are given in milliseconds.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class StepExecutionStatistics implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String stepName;
+    private int executionCount;
+    /**
+     * share of the executions with the status {@link BatchStatus#COMPLETED}, between 0 and 1
+     */
+    private double successRate;
+    private long durationP50;
+    private long durationP95;
+    private long durationP99;
+    private long readCount;
+    private long writeCount;
+    private double readItemsPerSecond;
+    private double writeItemsPerSecond;
+}
@@ -3,6 +3,8 @@ package org.tuxdevelop.spring.batch.lightmin.admin.domain;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
+import org.tuxdevelop.spring.batch.lightmin.util.JobParametersTemplate;
 
 import java.io.Serializable;
 import java.util.Map;
@@ -24,6 +26,7 @@ public class JobConfiguration extends AbstractConfiguration implements Serializa
     private JobListenerConfiguration jobListenerConfiguration;
     private Map<String, Object> jobParameters;
     private JobIncrementer jobIncrementer;
+    private Long version;
 
     public void validateForSave() {
         if (jobConfigurationId != null) {
@@ -43,6 +46,11 @@ public class JobConfiguration extends AbstractConfiguration implements Serializa
         if (jobName == null) {
             throwExceptionAndLogError("jobName must not be null");
         }
+        try {
+            JobParametersTemplate.validate(jobParameters);
+        } catch (final SpringBatchLightminApplicationException e) {
+            throwExceptionAndLogError(e.getMessage());
+        }
         if (jobSchedulerConfiguration == null) {
             if (jobListenerConfiguration == null) {
                 throwExceptionAndLogError("jobSchedulerConfiguration or jobListenerConfiguration must not be null");
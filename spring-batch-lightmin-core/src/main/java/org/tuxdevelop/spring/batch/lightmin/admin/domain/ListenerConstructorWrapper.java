@@ -4,6 +4,7 @@ import lombok.Data;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.tuxdevelop.spring.batch.lightmin.util.JobParametersTemplate;
 
 /**
  * @author Marcel Becker
@@ -17,4 +18,5 @@ public class ListenerConstructorWrapper {
     private JobParameters jobParameters;
     private JobIncrementer jobIncrementer;
     private JobLauncher jobLauncher;
+    private JobParametersTemplate jobParametersTemplate;
 }
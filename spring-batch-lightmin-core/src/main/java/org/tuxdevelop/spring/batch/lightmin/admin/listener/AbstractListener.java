@@ -2,7 +2,6 @@ package org.tuxdevelop.spring.batch.lightmin.admin.listener;
 
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
@@ -12,7 +11,9 @@ import org.springframework.integration.dsl.StandardIntegrationFlow;
 import org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration;
 import org.tuxdevelop.spring.batch.lightmin.admin.domain.JobIncrementer;
 import org.tuxdevelop.spring.batch.lightmin.admin.domain.JobListenerConfiguration;
+import org.tuxdevelop.spring.batch.lightmin.admin.domain.ListenerConstructorWrapper;
 import org.tuxdevelop.spring.batch.lightmin.admin.domain.ListenerStatus;
+import org.tuxdevelop.spring.batch.lightmin.util.JobParametersTemplate;
 
 /**
  * @author Marcel Becker
@@ -27,6 +28,7 @@ public abstract class AbstractListener implements Listener {
     protected JobIncrementer jobIncrementer;
     protected Job job;
     protected JobParameters jobParameters;
+    protected JobParametersTemplate jobParametersTemplate;
     protected JobLauncher jobLauncher;
     protected ConfigurableApplicationContext applicationContext;
     protected ListenerStatus listenerStatus;
@@ -51,14 +53,20 @@ public abstract class AbstractListener implements Listener {
     }
 
 
-    protected void attachJobIncrementer() {
-        if (jobParameters == null) {
-            jobParameters = new JobParametersBuilder().toJobParameters();
-        }
-        if (JobIncrementer.DATE.equals(jobIncrementer)) {
-            final JobParametersBuilder jobParametersBuilder = new JobParametersBuilder(jobParameters);
-            jobParameters = jobParametersBuilder.addLong(JobIncrementer.DATE.getIncrementerIdentifier(), System.currentTimeMillis()).toJobParameters();
+    /**
+     * @param listenerConstructorWrapper the wrapper passed to the listener
+     * @return the template compiled on registration or a template compiled from the parameters of the wrapper, the
+     * {@link JobIncrementer#DATE} is evaluated for every launch
+     */
+    static JobParametersTemplate getJobParametersTemplate(final ListenerConstructorWrapper listenerConstructorWrapper) {
+        final JobParametersTemplate jobParametersTemplate;
+        if (listenerConstructorWrapper.getJobParametersTemplate() != null) {
+            jobParametersTemplate = listenerConstructorWrapper.getJobParametersTemplate();
+        } else {
+            jobParametersTemplate = JobParametersTemplate.compile(listenerConstructorWrapper.getJobParameters(),
+                    listenerConstructorWrapper.getJobIncrementer());
         }
+        return jobParametersTemplate;
     }
 
     protected void assertConstructor() {
@@ -2,6 +2,7 @@ package org.tuxdevelop.spring.batch.lightmin.admin.listener;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.integration.launch.JobLaunchRequest;
 import org.springframework.batch.integration.launch.JobLaunchingMessageHandler;
@@ -45,11 +46,11 @@ public class FolderListener extends AbstractListener implements Listener {
         this.jobParameters = listenerConstructorWrapper.getJobParameters();
         this.jobLauncher = listenerConstructorWrapper.getJobLauncher();
         this.jobIncrementer = listenerConstructorWrapper.getJobIncrementer();
+        this.jobParametersTemplate = getJobParametersTemplate(listenerConstructorWrapper);
         this.jobListenerConfiguration = jobConfiguration.getJobListenerConfiguration();
         this.listenerStatus = listenerConstructorWrapper.getJobConfiguration().getJobListenerConfiguration().getListenerStatus();
         assertConstructor();
         try {
-            attachJobIncrementer();
             initFileListFilter();
             initTransformer();
             initJobLaunchingMessageHandler();
@@ -103,8 +104,7 @@ public class FolderListener extends AbstractListener implements Listener {
         transformer = new AbstractFilePayloadTransformer<JobLaunchRequest>() {
             @Override
             protected JobLaunchRequest transformFile(final File file) throws Exception {
-                attachFileSourceToJobParameters(file);
-                return new JobLaunchRequest(job, jobParameters);
+                return new JobLaunchRequest(job, attachFileSource(jobParametersTemplate.evaluate(), file));
             }
         };
     }
@@ -113,16 +113,11 @@ public class FolderListener extends AbstractListener implements Listener {
         jobLaunchingMessageHandler = new JobLaunchingMessageHandler(jobLauncher);
     }
 
-    private void attachFileSourceToJobParameters(final File file) {
-        final JobParametersBuilder jobParametersBuilder;
-        if (jobParameters == null) {
-            jobParametersBuilder = new JobParametersBuilder();
-        } else {
-            jobParametersBuilder = new JobParametersBuilder(jobParameters);
-        }
+    private static JobParameters attachFileSource(final JobParameters jobParameters, final File file) {
+        final JobParametersBuilder jobParametersBuilder = new JobParametersBuilder(jobParameters);
         final String sourceFile = file.getAbsolutePath();
         jobParametersBuilder.addString(FILE_SOURCE_PARAMETER_NAME, sourceFile);
-        jobParameters = jobParametersBuilder.toJobParameters();
+        return jobParametersBuilder.toJobParameters();
     }
 
 }
@@ -0,0 +1,610 @@
+package org.tuxdevelop.spring.batch.lightmin.admin.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.tuxdevelop.spring.batch.lightmin.admin.domain.*;
+import org.tuxdevelop.spring.batch.lightmin.exception.JobConfigurationConflictException;
+import org.tuxdevelop.spring.batch.lightmin.exception.NoSuchJobConfigurationException;
+import org.tuxdevelop.spring.batch.lightmin.exception.NoSuchJobException;
+import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
+import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminConfigurationException;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * {@link JobConfigurationRepository} for deployments without a database. All {@link JobConfiguration}s are held in an
+ * in-memory index. Every mutation is appended to a memory-mapped journal file. If the journal reaches the compaction
+ * threshold or its capacity, the current state is written to a snapshot file and the journal is reset. On start, the
+ * snapshot is loaded, the journal is replayed on top of it and a fresh snapshot is written.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Slf4j
+public class FileJobConfigurationRepository implements JobConfigurationRepository, DisposableBean {
+
+    static final String SNAPSHOT_FILE_NAME = "job_configurations.snapshot";
+    static final String JOURNAL_FILE_NAME = "job_configurations.journal";
+
+    private static final Long INITIAL_VERSION = 0L;
+    private static final int SNAPSHOT_MAGIC = 0x4C4D4E53;
+    private static final int FORMAT_VERSION = 1;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    private final Path snapshotFile;
+    private final Path journalFile;
+    private final int compactionThreshold;
+    private final Journal journal;
+
+    private final ConcurrentMap<Long, JobConfiguration> jobConfigurations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<Long>> jobNameIndex = new ConcurrentHashMap<>();
+    private long nextJobConfigurationId = 1L;
+    private final String epoch = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    public FileJobConfigurationRepository(final String directory,
+                                          final int journalSize,
+                                          final int compactionThreshold,
+                                          final boolean forceWrite) {
+        try {
+            final Path directoryPath = Paths.get(directory);
+            Files.createDirectories(directoryPath);
+            this.snapshotFile = directoryPath.resolve(SNAPSHOT_FILE_NAME);
+            this.journalFile = directoryPath.resolve(JOURNAL_FILE_NAME);
+            this.compactionThreshold = compactionThreshold;
+            loadSnapshot();
+            this.journal = new Journal(journalFile, journalSize, forceWrite);
+            final int replayed = journal.replay(this);
+            log.info("Recovered {} JobConfigurations from {}, replayed {} journal records",
+                    jobConfigurations.size(), directoryPath.toAbsolutePath(), replayed);
+            compact();
+        } catch (final IOException e) {
+            throw new SpringBatchLightminConfigurationException(e, "Could not open FileJobConfigurationRepository in "
+                    + directory + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public JobConfiguration getJobConfiguration(final Long jobConfigurationId) throws NoSuchJobConfigurationException {
+        final JobConfiguration jobConfiguration = jobConfigurations.get(jobConfigurationId);
+        if (jobConfiguration == null) {
+            final String message = "No jobConfiguration could be found for id:" + jobConfigurationId;
+            log.error(message);
+            throw new NoSuchJobConfigurationException(message);
+        }
+        return copy(jobConfiguration);
+    }
+
+    @Override
+    public Collection<JobConfiguration> getJobConfigurations(final String jobName) throws NoSuchJobException {
+        final Collection<JobConfiguration> result = getByJobName(jobName);
+        if (result.isEmpty()) {
+            final String message = "No jobConfigurations found for jobName: " + jobName;
+            log.error(message);
+            throw new NoSuchJobException(message);
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized JobConfiguration add(final JobConfiguration jobConfiguration) {
+        if (jobConfiguration.getJobName() == null) {
+            throw new SpringBatchLightminConfigurationException("jobName must not be null!");
+        }
+        jobConfiguration.setJobConfigurationId(nextJobConfigurationId);
+        jobConfiguration.setVersion(INITIAL_VERSION);
+        append(PUT, jobConfiguration.getJobConfigurationId(), jobConfiguration);
+        modificationCount.incrementAndGet();
+        return jobConfiguration;
+    }
+
+    @Override
+    public synchronized JobConfiguration update(final JobConfiguration jobConfiguration)
+            throws NoSuchJobConfigurationException {
+        final JobConfiguration existingJobConfiguration = jobConfigurations.get(jobConfiguration.getJobConfigurationId());
+        if (existingJobConfiguration == null) {
+            final String message = "No jobConfiguration could be found for id:" + jobConfiguration.getJobConfigurationId();
+            log.error(message);
+            throw new NoSuchJobConfigurationException(message);
+        }
+        final Long existingVersion = existingJobConfiguration.getVersion();
+        final Long version = jobConfiguration.getVersion();
+        if (version != null && !version.equals(existingVersion)) {
+            final String message = "JobConfiguration with id:" + jobConfiguration.getJobConfigurationId() + " has been "
+                    + "modified concurrently, version " + version + " is outdated";
+            log.error(message);
+            throw new JobConfigurationConflictException(message);
+        }
+        jobConfiguration.setVersion(existingVersion + 1);
+        append(PUT, jobConfiguration.getJobConfigurationId(), jobConfiguration);
+        modificationCount.incrementAndGet();
+        return jobConfiguration;
+    }
+
+    @Override
+    public synchronized Collection<JobConfiguration> addAll(final Collection<JobConfiguration> jobConfigurations) {
+        for (final JobConfiguration jobConfiguration : jobConfigurations) {
+            add(jobConfiguration);
+        }
+        return jobConfigurations;
+    }
+
+    @Override
+    public synchronized Collection<JobConfiguration> updateAll(final Collection<JobConfiguration> jobConfigurations) {
+        final Collection<JobConfiguration> updatedJobConfigurations = new LinkedList<>();
+        final List<Long> failedJobConfigurationIds = new LinkedList<>();
+        for (final JobConfiguration jobConfiguration : jobConfigurations) {
+            try {
+                updatedJobConfigurations.add(update(jobConfiguration));
+            } catch (final NoSuchJobConfigurationException | JobConfigurationConflictException e) {
+                failedJobConfigurationIds.add(jobConfiguration.getJobConfigurationId());
+            }
+        }
+        if (!failedJobConfigurationIds.isEmpty()) {
+            final String message = "JobConfigurations with ids:" + failedJobConfigurationIds + " could not be updated, "
+                    + "they do not exist or have been modified concurrently";
+            log.error(message);
+            throw new JobConfigurationConflictException(message);
+        }
+        return updatedJobConfigurations;
+    }
+
+    @Override
+    public synchronized void delete(final JobConfiguration jobConfiguration) throws NoSuchJobConfigurationException {
+        final Long jobConfigurationId = jobConfiguration.getJobConfigurationId();
+        if (!jobConfigurations.containsKey(jobConfigurationId)) {
+            final String message = "No jobConfiguration could be found for id:" + jobConfigurationId + ". Nothing to delete";
+            log.error(message);
+            throw new NoSuchJobConfigurationException(message);
+        }
+        append(DELETE, jobConfigurationId, null);
+        modificationCount.incrementAndGet();
+    }
+
+    @Override
+    public Collection<JobConfiguration> getAllJobConfigurations() {
+        final Collection<JobConfiguration> result = new ArrayList<>(jobConfigurations.size());
+        for (final JobConfiguration jobConfiguration : jobConfigurations.values()) {
+            result.add(copy(jobConfiguration));
+        }
+        return result;
+    }
+
+    @Override
+    public Collection<JobConfiguration> getAllJobConfigurationsByJobNames(final Collection<String> jobNames) {
+        final Collection<JobConfiguration> result = new LinkedList<>();
+        for (final String jobName : jobNames) {
+            result.addAll(getByJobName(jobName));
+        }
+        return result;
+    }
+
+    /**
+     * The repository is written by a single application, the version consists of a random epoch of the
+     * repository and a counter of all modifications
+     */
+    @Override
+    public String getJobConfigurationsVersion() {
+        return epoch + "-" + modificationCount.get();
+    }
+
+    /**
+     * Writes a snapshot of the current state and resets the journal.
+     */
+    public synchronized void compact() {
+        try {
+            writeSnapshot();
+            journal.reset();
+        } catch (final IOException e) {
+            throw new SpringBatchLightminApplicationException(e, "Could not compact " + journalFile + ": "
+                    + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        journal.close();
+    }
+
+    /*
+     * -------------------------- HELPER CLASSES AND METHODS -------------------
+	 */
+
+    private void append(final byte type, final Long jobConfigurationId, final JobConfiguration jobConfiguration) {
+        try {
+            final byte[] payload = type == PUT ? JobConfigurationCodec.encode(jobConfiguration) : new byte[0];
+            if (journal.getRecordCount() >= compactionThreshold || !journal.append(type, jobConfigurationId, payload)) {
+                compact();
+                if (!journal.append(type, jobConfigurationId, payload)) {
+                    throw new SpringBatchLightminApplicationException("JobConfiguration with id:" + jobConfigurationId
+                            + " exceeds the journal size");
+                }
+            }
+            apply(type, jobConfigurationId, payload);
+        } catch (final IOException e) {
+            throw new SpringBatchLightminApplicationException(e, "Could not write JobConfiguration with id:"
+                    + jobConfigurationId + " to " + journalFile + ": " + e.getMessage());
+        }
+    }
+
+    void apply(final byte type, final Long jobConfigurationId, final byte[] payload) throws IOException {
+        final JobConfiguration existingJobConfiguration;
+        if (type == PUT) {
+            final JobConfiguration jobConfiguration = JobConfigurationCodec.decode(payload);
+            Set<Long> jobConfigurationIds = jobNameIndex.get(jobConfiguration.getJobName());
+            if (jobConfigurationIds == null) {
+                jobConfigurationIds = Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+                jobNameIndex.put(jobConfiguration.getJobName(), jobConfigurationIds);
+            }
+            jobConfigurationIds.add(jobConfigurationId);
+            // replaced in place, readers without the lock never miss an existing JobConfiguration
+            existingJobConfiguration = jobConfigurations.put(jobConfigurationId, jobConfiguration);
+            nextJobConfigurationId = Math.max(nextJobConfigurationId, jobConfigurationId + 1);
+            if (existingJobConfiguration != null
+                    && existingJobConfiguration.getJobName().equals(jobConfiguration.getJobName())) {
+                return;
+            }
+        } else {
+            existingJobConfiguration = jobConfigurations.remove(jobConfigurationId);
+        }
+        if (existingJobConfiguration != null) {
+            final Set<Long> jobConfigurationIds = jobNameIndex.get(existingJobConfiguration.getJobName());
+            if (jobConfigurationIds != null) {
+                jobConfigurationIds.remove(jobConfigurationId);
+            }
+        }
+    }
+
+    private Collection<JobConfiguration> getByJobName(final String jobName) {
+        final Collection<JobConfiguration> result = new LinkedList<>();
+        final Set<Long> jobConfigurationIds = jobNameIndex.get(jobName);
+        if (jobConfigurationIds != null) {
+            for (final Long jobConfigurationId : jobConfigurationIds) {
+                final JobConfiguration jobConfiguration = jobConfigurations.get(jobConfigurationId);
+                if (jobConfiguration != null) {
+                    result.add(copy(jobConfiguration));
+                }
+            }
+        }
+        return result;
+    }
+
+    private JobConfiguration copy(final JobConfiguration jobConfiguration) {
+        try {
+            return JobConfigurationCodec.decode(JobConfigurationCodec.encode(jobConfiguration));
+        } catch (final IOException e) {
+            throw new SpringBatchLightminApplicationException(e, e.getMessage());
+        }
+    }
+
+    private void loadSnapshot() throws IOException {
+        if (!Files.exists(snapshotFile)) {
+            log.info("No snapshot found at {}, starting with an empty repository", snapshotFile);
+            return;
+        }
+        final CRC32 crc = new CRC32();
+        try (final DataInputStream inputStream = new DataInputStream(new CheckedInputStream(new BufferedInputStream(
+                Files.newInputStream(snapshotFile)), crc))) {
+            if (inputStream.readInt() != SNAPSHOT_MAGIC || inputStream.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unknown snapshot format of " + snapshotFile);
+            }
+            final long snapshotNextId = inputStream.readLong();
+            final int count = inputStream.readInt();
+            for (int i = 0; i < count; i++) {
+                final long jobConfigurationId = inputStream.readLong();
+                final byte[] payload = new byte[inputStream.readInt()];
+                inputStream.readFully(payload);
+                apply(PUT, jobConfigurationId, payload);
+            }
+            final long expectedCrc = crc.getValue();
+            final long storedCrc = inputStream.readLong();
+            if (expectedCrc != storedCrc) {
+                throw new IOException("Checksum mismatch of snapshot " + snapshotFile);
+            }
+            nextJobConfigurationId = Math.max(nextJobConfigurationId, snapshotNextId);
+        }
+    }
+
+    private void writeSnapshot() throws IOException {
+        final Path temporaryFile = snapshotFile.resolveSibling(SNAPSHOT_FILE_NAME + ".tmp");
+        final CRC32 crc = new CRC32();
+        try (final FileOutputStream fileOutputStream = new FileOutputStream(temporaryFile.toFile());
+             final DataOutputStream outputStream = new DataOutputStream(new CheckedOutputStream(new
+                     BufferedOutputStream(fileOutputStream), crc))) {
+            outputStream.writeInt(SNAPSHOT_MAGIC);
+            outputStream.writeInt(FORMAT_VERSION);
+            outputStream.writeLong(nextJobConfigurationId);
+            final List<JobConfiguration> values = new ArrayList<>(jobConfigurations.values());
+            outputStream.writeInt(values.size());
+            for (final JobConfiguration jobConfiguration : values) {
+                final byte[] payload = JobConfigurationCodec.encode(jobConfiguration);
+                outputStream.writeLong(jobConfiguration.getJobConfigurationId());
+                outputStream.writeInt(payload.length);
+                outputStream.write(payload);
+            }
+            outputStream.flush();
+            outputStream.writeLong(crc.getValue());
+            outputStream.flush();
+            fileOutputStream.getFD().sync();
+        }
+        Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Append-only log of mutations within a memory-mapped file. A record consists of its size, a CRC32 checksum, the
+     * record type, the id of the {@link JobConfiguration} and the payload. The size is written last, a size of 0 marks
+     * the end of the journal. A record with a wrong checksum is treated as torn write and ends the replay.
+     */
+    private static class Journal {
+
+        private static final int RECORD_HEADER_SIZE = 4 + 4 + 1 + 8;
+
+        private final RandomAccessFile file;
+        private final MappedByteBuffer buffer;
+        private final boolean forceWrite;
+        private int recordCount;
+
+        Journal(final Path path, final int size, final boolean forceWrite) throws IOException {
+            this.file = new RandomAccessFile(path.toFile(), "rw");
+            final long capacity = Math.max(file.length(), size);
+            this.buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            this.forceWrite = forceWrite;
+        }
+
+        int replay(final FileJobConfigurationRepository repository) throws IOException {
+            int position = 0;
+            int replayed = 0;
+            while (position + RECORD_HEADER_SIZE <= buffer.capacity()) {
+                final int recordSize = buffer.getInt(position);
+                if (recordSize < RECORD_HEADER_SIZE || position + recordSize > buffer.capacity()) {
+                    break;
+                }
+                final int storedCrc = buffer.getInt(position + 4);
+                final byte type = buffer.get(position + 8);
+                final long jobConfigurationId = buffer.getLong(position + 9);
+                final byte[] payload = new byte[recordSize - RECORD_HEADER_SIZE];
+                for (int i = 0; i < payload.length; i++) {
+                    payload[i] = buffer.get(position + RECORD_HEADER_SIZE + i);
+                }
+                if (storedCrc != checksum(type, jobConfigurationId, payload)) {
+                    log.warn("Journal record at position {} is incomplete, ignoring the rest of the journal",
+                            position);
+                    break;
+                }
+                repository.apply(type, jobConfigurationId, payload);
+                position += recordSize;
+                replayed++;
+            }
+            buffer.position(position);
+            recordCount = replayed;
+            return replayed;
+        }
+
+        boolean append(final byte type, final long jobConfigurationId, final byte[] payload) {
+            final int position = buffer.position();
+            final int recordSize = RECORD_HEADER_SIZE + payload.length;
+            if (position + recordSize > buffer.capacity()) {
+                return false;
+            }
+            buffer.put(position + 8, type);
+            buffer.putLong(position + 9, jobConfigurationId);
+            for (int i = 0; i < payload.length; i++) {
+                buffer.put(position + RECORD_HEADER_SIZE + i, payload[i]);
+            }
+            buffer.putInt(position + 4, checksum(type, jobConfigurationId, payload));
+            buffer.putInt(position, recordSize);
+            buffer.position(position + recordSize);
+            if (forceWrite) {
+                buffer.force();
+            }
+            recordCount++;
+            return true;
+        }
+
+        void reset() {
+            final int end = buffer.position();
+            for (int i = 0; i < end; i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.position(0);
+            buffer.force();
+            recordCount = 0;
+        }
+
+        int getRecordCount() {
+            return recordCount;
+        }
+
+        void close() throws IOException {
+            buffer.force();
+            file.close();
+        }
+
+        private static int checksum(final byte type, final long jobConfigurationId, final byte[] payload) {
+            final CRC32 crc = new CRC32();
+            crc.update(type);
+            for (int i = 0; i < 8; i++) {
+                crc.update((int) (jobConfigurationId >>> (i * 8)));
+            }
+            crc.update(payload);
+            return (int) crc.getValue();
+        }
+    }
+
+    /**
+     * Binary encoding of a {@link JobConfiguration}, used for the journal, the snapshot and for the defensive copies
+     * handed out by the repository.
+     */
+    private static final class JobConfigurationCodec {
+
+        private static final byte STRING = 1;
+        private static final byte LONG = 2;
+        private static final byte DATE = 3;
+        private static final byte DOUBLE = 4;
+
+        private JobConfigurationCodec() {
+        }
+
+        static byte[] encode(final JobConfiguration jobConfiguration) throws IOException {
+            final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(256);
+            final DataOutputStream out = new DataOutputStream(byteArrayOutputStream);
+            writeLong(out, jobConfiguration.getJobConfigurationId());
+            writeString(out, jobConfiguration.getJobName());
+            writeEnum(out, jobConfiguration.getJobIncrementer());
+            writeLong(out, jobConfiguration.getVersion());
+            final JobSchedulerConfiguration jobSchedulerConfiguration = jobConfiguration.getJobSchedulerConfiguration();
+            out.writeBoolean(jobSchedulerConfiguration != null);
+            if (jobSchedulerConfiguration != null) {
+                writeEnum(out, jobSchedulerConfiguration.getJobSchedulerType());
+                writeString(out, jobSchedulerConfiguration.getCronExpression());
+                writeLong(out, jobSchedulerConfiguration.getInitialDelay());
+                writeLong(out, jobSchedulerConfiguration.getFixedDelay());
+                writeEnum(out, jobSchedulerConfiguration.getTaskExecutorType());
+                writeString(out, jobSchedulerConfiguration.getBeanName());
+                writeEnum(out, jobSchedulerConfiguration.getSchedulerStatus());
+            }
+            final JobListenerConfiguration jobListenerConfiguration = jobConfiguration.getJobListenerConfiguration();
+            out.writeBoolean(jobListenerConfiguration != null);
+            if (jobListenerConfiguration != null) {
+                writeEnum(out, jobListenerConfiguration.getJobListenerType());
+                writeString(out, jobListenerConfiguration.getSourceFolder());
+                writeString(out, jobListenerConfiguration.getFilePattern());
+                writeLong(out, jobListenerConfiguration.getPollerPeriod());
+                writeString(out, jobListenerConfiguration.getBeanName());
+                writeEnum(out, jobListenerConfiguration.getListenerStatus());
+                writeEnum(out, jobListenerConfiguration.getTaskExecutorType());
+            }
+            final Map<String, Object> jobParameters = jobConfiguration.getJobParameters();
+            out.writeInt(jobParameters != null ? jobParameters.size() : -1);
+            if (jobParameters != null) {
+                for (final Map.Entry<String, Object> jobParameter : jobParameters.entrySet()) {
+                    out.writeUTF(jobParameter.getKey());
+                    writeParameterValue(out, jobParameter.getValue());
+                }
+            }
+            out.flush();
+            return byteArrayOutputStream.toByteArray();
+        }
+
+        static JobConfiguration decode(final byte[] payload) throws IOException {
+            final DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            final JobConfiguration jobConfiguration = new JobConfiguration();
+            jobConfiguration.setJobConfigurationId(readLong(in));
+            jobConfiguration.setJobName(readString(in));
+            jobConfiguration.setJobIncrementer(readEnum(in, JobIncrementer.class));
+            jobConfiguration.setVersion(readLong(in));
+            if (in.readBoolean()) {
+                final JobSchedulerConfiguration jobSchedulerConfiguration = new JobSchedulerConfiguration();
+                jobSchedulerConfiguration.setJobSchedulerType(readEnum(in, JobSchedulerType.class));
+                jobSchedulerConfiguration.setCronExpression(readString(in));
+                jobSchedulerConfiguration.setInitialDelay(readLong(in));
+                jobSchedulerConfiguration.setFixedDelay(readLong(in));
+                jobSchedulerConfiguration.setTaskExecutorType(readEnum(in, TaskExecutorType.class));
+                jobSchedulerConfiguration.setBeanName(readString(in));
+                jobSchedulerConfiguration.setSchedulerStatus(readEnum(in, SchedulerStatus.class));
+                jobConfiguration.setJobSchedulerConfiguration(jobSchedulerConfiguration);
+            }
+            if (in.readBoolean()) {
+                final JobListenerConfiguration jobListenerConfiguration = new JobListenerConfiguration();
+                jobListenerConfiguration.setJobListenerType(readEnum(in, JobListenerType.class));
+                jobListenerConfiguration.setSourceFolder(readString(in));
+                jobListenerConfiguration.setFilePattern(readString(in));
+                jobListenerConfiguration.setPollerPeriod(readLong(in));
+                jobListenerConfiguration.setBeanName(readString(in));
+                jobListenerConfiguration.setListenerStatus(readEnum(in, ListenerStatus.class));
+                jobListenerConfiguration.setTaskExecutorType(readEnum(in, TaskExecutorType.class));
+                jobConfiguration.setJobListenerConfiguration(jobListenerConfiguration);
+            }
+            final int parameterCount = in.readInt();
+            if (parameterCount >= 0) {
+                final Map<String, Object> jobParameters = new HashMap<>();
+                for (int i = 0; i < parameterCount; i++) {
+                    final String key = in.readUTF();
+                    jobParameters.put(key, readParameterValue(in));
+                }
+                jobConfiguration.setJobParameters(jobParameters);
+            }
+            return jobConfiguration;
+        }
+
+        private static void writeParameterValue(final DataOutputStream out, final Object value) throws IOException {
+            if (value instanceof String) {
+                out.writeByte(STRING);
+                out.writeUTF((String) value);
+            } else if (value instanceof Long) {
+                out.writeByte(LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Date) {
+                out.writeByte(DATE);
+                out.writeLong(((Date) value).getTime());
+            } else if (value instanceof Double) {
+                out.writeByte(DOUBLE);
+                out.writeDouble((Double) value);
+            } else {
+                throw new SpringBatchLightminApplicationException("Unknown jobParameterType: "
+                        + (value != null ? value.getClass().getSimpleName() : null));
+            }
+        }
+
+        private static Object readParameterValue(final DataInputStream in) throws IOException {
+            final byte type = in.readByte();
+            switch (type) {
+                case STRING:
+                    return in.readUTF();
+                case LONG:
+                    return in.readLong();
+                case DATE:
+                    return new Date(in.readLong());
+                case DOUBLE:
+                    return in.readDouble();
+                default:
+                    throw new IOException("Unknown jobParameterType: " + type);
+            }
+        }
+
+        private static void writeString(final DataOutputStream out, final String value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeUTF(value);
+            }
+        }
+
+        private static String readString(final DataInputStream in) throws IOException {
+            return in.readBoolean() ? in.readUTF() : null;
+        }
+
+        private static void writeLong(final DataOutputStream out, final Long value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeLong(value);
+            }
+        }
+
+        private static Long readLong(final DataInputStream in) throws IOException {
+            return in.readBoolean() ? in.readLong() : null;
+        }
+
+        private static void writeEnum(final DataOutputStream out, final Enum<?> value) throws IOException {
+            writeString(out, value != null ? value.name() : null);
+        }
+
+        private static <T extends Enum<T>> T readEnum(final DataInputStream in, final Class<T> type) throws IOException {
+            final String name = readString(in);
+            return name != null ? Enum.valueOf(type, name) : null;
+        }
+    }
+}
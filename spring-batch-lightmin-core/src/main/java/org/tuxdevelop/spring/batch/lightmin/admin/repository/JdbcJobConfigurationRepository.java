@@ -5,10 +5,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.repository.dao.AbstractJdbcBatchMetadataDao;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.tuxdevelop.spring.batch.lightmin.admin.domain.*;
+import org.tuxdevelop.spring.batch.lightmin.exception.JobConfigurationConflictException;
 import org.tuxdevelop.spring.batch.lightmin.exception.NoSuchJobConfigurationException;
 import org.tuxdevelop.spring.batch.lightmin.exception.NoSuchJobException;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
@@ -29,6 +34,9 @@ import java.util.*;
 @Slf4j
 public class JdbcJobConfigurationRepository implements JobConfigurationRepository, InitializingBean {
 
+    private static final Long INITIAL_VERSION = 0L;
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
     private final JdbcTemplate jdbcTemplate;
     private final String tablePrefix;
     private final JobConfigurationDAO jobConfigurationDAO;
@@ -51,38 +59,35 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
 
     @Override
     public JobConfiguration getJobConfiguration(final Long jobConfigurationId) throws NoSuchJobConfigurationException {
-        if (checkJobConfigurationExists(jobConfigurationId)) {
-            final JobConfiguration jobConfiguration = jobConfigurationDAO.getById(jobConfigurationId);
-            jobSchedulerConfigurationDAO.attachJobSchedulerConfiguration(jobConfiguration);
-            jobListenerConfigurationDAO.attachJobListenerConfiguration(jobConfiguration);
-            jobConfigurationParameterDAO.attachParameters(jobConfiguration);
-            return jobConfiguration;
-        } else {
+        final JobConfiguration jobConfiguration;
+        try {
+            jobConfiguration = jobConfigurationDAO.getById(jobConfigurationId);
+        } catch (final EmptyResultDataAccessException e) {
             final String message = "No jobConfiguration could be found for id:" + jobConfigurationId;
             log.error(message);
-            throw new NoSuchJobConfigurationException(message);
+            throw new NoSuchJobConfigurationException(e, message);
         }
+        jobSchedulerConfigurationDAO.attachJobSchedulerConfiguration(jobConfiguration);
+        jobListenerConfigurationDAO.attachJobListenerConfiguration(jobConfiguration);
+        jobConfigurationParameterDAO.attachParameters(jobConfiguration);
+        return jobConfiguration;
     }
 
     @Override
     public Collection<JobConfiguration> getJobConfigurations(final String jobName) throws NoSuchJobException {
-        if (checkJobConfigurationExists(jobName)) {
-            final List<JobConfiguration> jobConfigurations = jobConfigurationDAO.getByJobName(jobName);
-            for (final JobConfiguration jobConfiguration : jobConfigurations) {
-                jobSchedulerConfigurationDAO.attachJobSchedulerConfiguration(jobConfiguration);
-                jobListenerConfigurationDAO.attachJobListenerConfiguration(jobConfiguration);
-                jobConfigurationParameterDAO.attachParameters(jobConfiguration);
-            }
-            return jobConfigurations;
-        } else {
+        final List<JobConfiguration> jobConfigurations = jobConfigurationDAO.getByJobName(jobName);
+        if (jobConfigurations.isEmpty()) {
             final String message = "No jobConfiguration could be found for jobName:" + jobName;
             log.error(message);
             throw new NoSuchJobException(message);
         }
+        attachAll(jobConfigurations);
+        return jobConfigurations;
     }
 
     @Override
     public JobConfiguration add(final JobConfiguration jobConfiguration) {
+        jobConfiguration.setVersion(INITIAL_VERSION);
         final Long jobConfigurationId = jobConfigurationDAO.add(jobConfiguration);
         jobConfiguration.setJobConfigurationId(jobConfigurationId);
         if (jobConfiguration.getJobSchedulerConfiguration() != null) {
@@ -95,64 +100,152 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
         return jobConfiguration;
     }
 
+    /**
+     * Updates the given {@link JobConfiguration} with a single conditional statement. If the JobConfiguration carries a
+     * version, the update only succeeds if the stored version is still the same. A JobConfiguration without a version
+     * is updated unconditionally. On success, the incremented version is set to the given JobConfiguration.
+     *
+     * @param jobConfiguration the JobConfiguration to update
+     * @return the updated JobConfiguration
+     * @throws NoSuchJobConfigurationException   if no JobConfiguration exists for the given id
+     * @throws JobConfigurationConflictException if the JobConfiguration has been modified concurrently
+     */
     @Override
     public JobConfiguration update(final JobConfiguration jobConfiguration) throws NoSuchJobConfigurationException {
         final Long jobConfigurationId = jobConfiguration.getJobConfigurationId();
-        if (checkJobConfigurationExists(jobConfigurationId)) {
-            jobConfigurationDAO.update(jobConfiguration);
-            if (jobConfiguration.getJobSchedulerConfiguration() != null) {
-                jobSchedulerConfigurationDAO.update(jobConfiguration);
-            }
-            if (jobConfiguration.getJobListenerConfiguration() != null) {
-                jobListenerConfigurationDAO.update(jobConfiguration);
+        final Long version = jobConfiguration.getVersion();
+        final int updatedRows = jobConfigurationDAO.update(jobConfiguration);
+        if (updatedRows == 0) {
+            if (version != null && jobConfigurationDAO.getJobConfigurationIdCount(jobConfigurationId) > 0) {
+                final String message = "JobConfiguration with id:" + jobConfigurationId + " has been modified " +
+                        "concurrently, version " + version + " is outdated";
+                log.error(message);
+                throw new JobConfigurationConflictException(message);
+            } else {
+                final String message = "No jobConfiguration could be found for id:" + jobConfigurationId;
+                log.error(message);
+                throw new NoSuchJobConfigurationException(message);
             }
-            jobConfigurationParameterDAO.delete(jobConfigurationId);
-            jobConfigurationParameterDAO.add(jobConfiguration);
-            return jobConfiguration;
+        }
+        if (version != null) {
+            jobConfiguration.setVersion(version + 1);
         } else {
-            final String message = "No jobConfiguration could be found for id:" + jobConfiguration;
-            log.error(message);
-            throw new NoSuchJobConfigurationException(message);
+            jobConfiguration.setVersion(jobConfigurationDAO.getVersion(jobConfigurationId));
+        }
+        if (jobConfiguration.getJobSchedulerConfiguration() != null) {
+            jobSchedulerConfigurationDAO.update(jobConfiguration);
         }
+        if (jobConfiguration.getJobListenerConfiguration() != null) {
+            jobListenerConfigurationDAO.update(jobConfiguration);
+        }
+        jobConfigurationParameterDAO.delete(jobConfigurationId);
+        jobConfigurationParameterDAO.add(jobConfiguration);
+        return jobConfiguration;
     }
 
     @Override
     public void delete(final JobConfiguration jobConfiguration) throws NoSuchJobConfigurationException {
         final Long jobConfigurationId = jobConfiguration.getJobConfigurationId();
-        if (checkJobConfigurationExists(jobConfigurationId)) {
-            jobConfigurationParameterDAO.delete(jobConfigurationId);
-            jobSchedulerConfigurationDAO.delete(jobConfigurationId);
-            jobListenerConfigurationDAO.delete(jobConfigurationId);
-            jobConfigurationDAO.delete(jobConfigurationId);
-        } else {
-            final String message = "No jobConfiguration could be found for id:" + jobConfiguration;
+        jobConfigurationParameterDAO.delete(jobConfigurationId);
+        jobSchedulerConfigurationDAO.delete(jobConfigurationId);
+        jobListenerConfigurationDAO.delete(jobConfigurationId);
+        final int deletedRows = jobConfigurationDAO.delete(jobConfigurationId);
+        if (deletedRows == 0) {
+            final String message = "No jobConfiguration could be found for id:" + jobConfigurationId;
             log.error(message);
             throw new NoSuchJobConfigurationException(message);
         }
     }
 
+    /**
+     * Adds the given {@link JobConfiguration}s. The JobConfiguration rows are inserted one by one to obtain the
+     * generated ids, the rows of the scheduler, listener and parameter tables are inserted as JDBC batches.
+     *
+     * @param jobConfigurations the JobConfigurations to add
+     * @return the added JobConfigurations
+     */
     @Override
-    public Collection<JobConfiguration> getAllJobConfigurations() {
-        final List<JobConfiguration> jobConfigurations = jobConfigurationDAO.getAll();
+    public Collection<JobConfiguration> addAll(final Collection<JobConfiguration> jobConfigurations) {
         for (final JobConfiguration jobConfiguration : jobConfigurations) {
-            jobSchedulerConfigurationDAO.attachJobSchedulerConfiguration(jobConfiguration);
-            jobListenerConfigurationDAO.attachJobListenerConfiguration(jobConfiguration);
-            jobConfigurationParameterDAO.attachParameters(jobConfiguration);
+            jobConfiguration.setVersion(INITIAL_VERSION);
+            final Long jobConfigurationId = jobConfigurationDAO.add(jobConfiguration);
+            jobConfiguration.setJobConfigurationId(jobConfigurationId);
         }
+        jobSchedulerConfigurationDAO.addAll(jobConfigurations);
+        jobListenerConfigurationDAO.addAll(jobConfigurations);
+        jobConfigurationParameterDAO.addAll(jobConfigurations);
+        return jobConfigurations;
+    }
+
+    /**
+     * Updates the given {@link JobConfiguration}s with JDBC batches. The version check is the same as for
+     * {@link #update(JobConfiguration)}. JobConfigurations failing the check are skipped, all others are updated.
+     *
+     * @param jobConfigurations the JobConfigurations to update
+     * @return the updated JobConfigurations
+     * @throws JobConfigurationConflictException if at least one JobConfiguration could not be updated
+     */
+    @Override
+    public Collection<JobConfiguration> updateAll(final Collection<JobConfiguration> jobConfigurations) {
+        final List<JobConfiguration> jobConfigurationList = new ArrayList<>(jobConfigurations);
+        final int[] updatedRows = jobConfigurationDAO.updateAll(jobConfigurationList);
+        final List<JobConfiguration> updatedJobConfigurations = new ArrayList<>(jobConfigurationList.size());
+        final List<Long> failedJobConfigurationIds = new LinkedList<>();
+        for (int i = 0; i < jobConfigurationList.size(); i++) {
+            final JobConfiguration jobConfiguration = jobConfigurationList.get(i);
+            if (updatedRows[i] == 0) {
+                failedJobConfigurationIds.add(jobConfiguration.getJobConfigurationId());
+            } else {
+                updatedJobConfigurations.add(jobConfiguration);
+            }
+        }
+        jobSchedulerConfigurationDAO.updateAll(updatedJobConfigurations);
+        jobListenerConfigurationDAO.updateAll(updatedJobConfigurations);
+        jobConfigurationParameterDAO.deleteAll(updatedJobConfigurations);
+        jobConfigurationParameterDAO.addAll(updatedJobConfigurations);
+        for (final JobConfiguration jobConfiguration : updatedJobConfigurations) {
+            if (jobConfiguration.getVersion() != null) {
+                jobConfiguration.setVersion(jobConfiguration.getVersion() + 1);
+            } else {
+                jobConfiguration.setVersion(jobConfigurationDAO.getVersion(jobConfiguration.getJobConfigurationId()));
+            }
+        }
+        if (!failedJobConfigurationIds.isEmpty()) {
+            final String message = "JobConfigurations with ids:" + failedJobConfigurationIds + " could not be updated, "
+                    + "they do not exist or have been modified concurrently";
+            log.error(message);
+            throw new JobConfigurationConflictException(message);
+        }
+        return updatedJobConfigurations;
+    }
+
+    @Override
+    public Collection<JobConfiguration> getAllJobConfigurations() {
+        final List<JobConfiguration> jobConfigurations = jobConfigurationDAO.getAll();
+        attachAll(jobConfigurations);
         return jobConfigurations;
     }
 
     @Override
     public Collection<JobConfiguration> getAllJobConfigurationsByJobNames(final Collection<String> jobNames) {
-        final List<JobConfiguration> jobConfigurations = jobConfigurationDAO.getAllByJobNames(jobNames);
-        for (final JobConfiguration jobConfiguration : jobConfigurations) {
-            jobSchedulerConfigurationDAO.attachJobSchedulerConfiguration(jobConfiguration);
-            jobListenerConfigurationDAO.attachJobListenerConfiguration(jobConfiguration);
-            jobConfigurationParameterDAO.attachParameters(jobConfiguration);
+        if (jobNames.isEmpty()) {
+            return new LinkedList<>();
         }
+        final List<JobConfiguration> jobConfigurations = jobConfigurationDAO.getAllByJobNames(jobNames);
+        attachAll(jobConfigurations);
         return jobConfigurations;
     }
 
+    /**
+     * Every update increments the version of the updated
+     * {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}, so the count, the highest id and the
+     * sum of all versions change with every add, update and delete
+     */
+    @Override
+    public String getJobConfigurationsVersion() {
+        return jobConfigurationDAO.getJobConfigurationsVersion();
+    }
+
     @Override
     public void afterPropertiesSet() {
         assert jdbcTemplate != null;
@@ -163,12 +256,38 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
      * -------------------------- HELPER CLASSES AND METHODS -------------------
 	 */
 
-    private Boolean checkJobConfigurationExists(final Long jobConfigurationId) {
-        return jobConfigurationDAO.getJobConfigurationIdCount(jobConfigurationId) > 0;
+    private void attachAll(final Collection<JobConfiguration> jobConfigurations) {
+        final Map<Long, JobConfiguration> jobConfigurationMap = new HashMap<>();
+        for (final JobConfiguration jobConfiguration : jobConfigurations) {
+            jobConfigurationMap.put(jobConfiguration.getJobConfigurationId(), jobConfiguration);
+        }
+        final List<Long> jobConfigurationIds = new ArrayList<>(jobConfigurationMap.keySet());
+        for (int i = 0; i < jobConfigurationIds.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+            final List<Long> chunk = jobConfigurationIds.subList(i,
+                    Math.min(i + IN_CLAUSE_CHUNK_SIZE, jobConfigurationIds.size()));
+            jobSchedulerConfigurationDAO.attachJobSchedulerConfigurations(chunk, jobConfigurationMap);
+            jobListenerConfigurationDAO.attachJobListenerConfigurations(chunk, jobConfigurationMap);
+            jobConfigurationParameterDAO.attachParameters(chunk, jobConfigurationMap);
+        }
+    }
+
+    private static String createInPlaceholders(final int count) {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                stringBuilder.append(",");
+            }
+            stringBuilder.append("?");
+        }
+        return stringBuilder.toString();
     }
 
-    private Boolean checkJobConfigurationExists(final String jobName) {
-        return jobConfigurationDAO.getJobNameCount(jobName) > 0;
+    private static SqlParameterSource[] toBatch(final List<Map<String, Object>> keyValuesList) {
+        final SqlParameterSource[] batch = new SqlParameterSource[keyValuesList.size()];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = new MapSqlParameterSource(keyValuesList.get(i));
+        }
+        return batch;
     }
 
     /**
@@ -186,7 +305,14 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
 
         private static final String UPDATE_STATEMENT = "UPDATE " + TABLE_NAME + " SET "
                 + JobConfigurationDomain.JOB_NAME + "" + " = ? , " + JobConfigurationDomain.JOB_INCREMENTER
-                + " = ? WHERE " + JobConfigurationDomain.JOB_CONFIGURATION_ID + " = ?";
+                + " = ? , " + JobConfigurationDomain.VERSION + " = " + JobConfigurationDomain.VERSION + " + 1 WHERE "
+                + JobConfigurationDomain.JOB_CONFIGURATION_ID + " = ?";
+
+        private static final String VERSIONED_UPDATE_STATEMENT = UPDATE_STATEMENT + " AND "
+                + JobConfigurationDomain.VERSION + " = ?";
+
+        private static final String GET_VERSION_QUERY = "SELECT " + JobConfigurationDomain.VERSION + " FROM "
+                + TABLE_NAME + " WHERE " + JobConfigurationDomain.JOB_CONFIGURATION_ID + " = ?";
 
         private static final String DELETE_STATEMENT = "DELETE FROM " + TABLE_NAME + " WHERE "
                 + JobConfigurationDomain.JOB_CONFIGURATION_ID + " = ?";
@@ -194,11 +320,12 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
         private static final String GET_JOB_CONFIGURATION_ID_COUNT_STATEMENT = "SELECT COUNT(1) FROM " + TABLE_NAME
                 + " WHERE" + " " + JobConfigurationDomain.JOB_CONFIGURATION_ID + " = ?";
 
-        private static final String GET_JOB_NAME_COUNT_STATEMENT = "SELECT COUNT(1) FROM " + TABLE_NAME + " WHERE"
-                + " " + JobConfigurationDomain.JOB_NAME + " = ?";
-
         private static final String GET_ALL_JOB_CONFIGURATION_QUERY = "SELECT * FROM " + TABLE_NAME;
 
+        private static final String GET_JOB_CONFIGURATIONS_VERSION_QUERY = "SELECT COUNT(1), MAX("
+                + JobConfigurationDomain.JOB_CONFIGURATION_ID + "), SUM(" + JobConfigurationDomain.VERSION + ") FROM "
+                + TABLE_NAME;
+
         private static final String GET_ALL_JOB_CONFIGURATION_BY_JOB_NAMES_QUERY = "SELECT * FROM " + TABLE_NAME + " " +
                 "WHERE " + JobConfigurationDomain.JOB_NAME + " IN (%s)";
 
@@ -231,19 +358,69 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
             return jdbcTemplate.query(sql, new JobConfigurationRowMapper(), jobName);
         }
 
-        public void update(final JobConfiguration jobConfiguration) {
-            final String sql = String.format(UPDATE_STATEMENT, tablePrefix);
-            jdbcTemplate.update(
-                    sql,
-                    new Object[]{jobConfiguration.getJobName(),
-                            jobConfiguration.getJobIncrementer().getIncrementerIdentifier(),
-                            jobConfiguration.getJobConfigurationId()}, new int[]{Types.VARCHAR, Types.VARCHAR,
-                            Types.NUMERIC});
+        public int update(final JobConfiguration jobConfiguration) {
+            if (jobConfiguration.getVersion() != null) {
+                final String sql = String.format(VERSIONED_UPDATE_STATEMENT, tablePrefix);
+                return jdbcTemplate.update(
+                        sql,
+                        new Object[]{jobConfiguration.getJobName(),
+                                jobConfiguration.getJobIncrementer().getIncrementerIdentifier(),
+                                jobConfiguration.getJobConfigurationId(),
+                                jobConfiguration.getVersion()}, new int[]{Types.VARCHAR, Types.VARCHAR,
+                                Types.NUMERIC, Types.NUMERIC});
+            } else {
+                final String sql = String.format(UPDATE_STATEMENT, tablePrefix);
+                return jdbcTemplate.update(
+                        sql,
+                        new Object[]{jobConfiguration.getJobName(),
+                                jobConfiguration.getJobIncrementer().getIncrementerIdentifier(),
+                                jobConfiguration.getJobConfigurationId()}, new int[]{Types.VARCHAR, Types.VARCHAR,
+                                Types.NUMERIC});
+            }
         }
 
-        public void delete(final Long jobConfigurationId) {
+        public int delete(final Long jobConfigurationId) {
             final String sql = String.format(DELETE_STATEMENT, tablePrefix);
-            jdbcTemplate.update(sql, new Object[]{jobConfigurationId}, new int[]{Types.NUMERIC});
+            return jdbcTemplate.update(sql, new Object[]{jobConfigurationId}, new int[]{Types.NUMERIC});
+        }
+
+        int[] updateAll(final List<JobConfiguration> jobConfigurations) {
+            final String sql = String.format(VERSIONED_UPDATE_STATEMENT, tablePrefix);
+            final String unversionedSql = String.format(UPDATE_STATEMENT, tablePrefix);
+            final int[] updatedRows = new int[jobConfigurations.size()];
+            final List<Object[]> batchArgs = new ArrayList<>();
+            final List<Integer> batchIndexes = new ArrayList<>();
+            for (int i = 0; i < jobConfigurations.size(); i++) {
+                final JobConfiguration jobConfiguration = jobConfigurations.get(i);
+                if (jobConfiguration.getVersion() != null) {
+                    batchArgs.add(new Object[]{jobConfiguration.getJobName(),
+                            jobConfiguration.getJobIncrementer().getIncrementerIdentifier(),
+                            jobConfiguration.getJobConfigurationId(),
+                            jobConfiguration.getVersion()});
+                    batchIndexes.add(i);
+                } else {
+                    updatedRows[i] = jdbcTemplate.update(
+                            unversionedSql,
+                            new Object[]{jobConfiguration.getJobName(),
+                                    jobConfiguration.getJobIncrementer().getIncrementerIdentifier(),
+                                    jobConfiguration.getJobConfigurationId()}, new int[]{Types.VARCHAR, Types.VARCHAR,
+                                    Types.NUMERIC});
+                }
+            }
+            if (!batchArgs.isEmpty()) {
+                final int[] batchResult = jdbcTemplate.batchUpdate(sql, batchArgs, new int[]{Types.VARCHAR,
+                        Types.VARCHAR, Types.NUMERIC, Types.NUMERIC});
+                for (int i = 0; i < batchResult.length; i++) {
+                    updatedRows[batchIndexes.get(i)] = batchResult[i];
+                }
+            }
+            return updatedRows;
+        }
+
+        Long getVersion(final Long jobConfigurationId) {
+            final String sql = String.format(GET_VERSION_QUERY, tablePrefix);
+            return jdbcTemplate.queryForObject(sql, new Object[]{jobConfigurationId}, new int[]{Types.NUMERIC},
+                    Long.class);
         }
 
         Long getJobConfigurationIdCount(final Long jobConfiguration) {
@@ -252,9 +429,14 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
                     Long.class);
         }
 
-        Long getJobNameCount(final String jobName) {
-            final String sql = String.format(GET_JOB_NAME_COUNT_STATEMENT, tablePrefix);
-            return jdbcTemplate.queryForObject(sql, new Object[]{jobName}, new int[]{Types.VARCHAR}, Long.class);
+        String getJobConfigurationsVersion() {
+            final String sql = String.format(GET_JOB_CONFIGURATIONS_VERSION_QUERY, tablePrefix);
+            return jdbcTemplate.queryForObject(sql, new RowMapper<String>() {
+                @Override
+                public String mapRow(final ResultSet resultSet, final int rowNum) throws SQLException {
+                    return resultSet.getLong(1) + "-" + resultSet.getLong(2) + "-" + resultSet.getLong(3);
+                }
+            });
         }
 
         List<JobConfiguration> getAll() {
@@ -263,7 +445,7 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
         }
 
         List<JobConfiguration> getAllByJobNames(final Collection<String> jobNames) {
-            final String inParameters = parseInCollection(jobNames);
+            final String inParameters = createInPlaceholders(jobNames.size());
             final String sql = String.format(GET_ALL_JOB_CONFIGURATION_BY_JOB_NAMES_QUERY, tablePrefix, inParameters);
             return jdbcTemplate
                     .query(sql, new JobConfigurationRowMapper(), jobNames.toArray());
@@ -274,24 +456,12 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
             keyValues.put(JobConfigurationDomain.JOB_NAME, jobConfiguration.getJobName());
             keyValues.put(JobConfigurationDomain.JOB_INCREMENTER, jobConfiguration.getJobIncrementer()
                     .getIncrementerIdentifier());
+            keyValues.put(JobConfigurationDomain.VERSION, jobConfiguration.getVersion());
             if (jobConfiguration.getJobConfigurationId() != null) {
                 keyValues.put(JobConfigurationDomain.JOB_CONFIGURATION_ID, jobConfiguration.getJobConfigurationId());
             }
             return keyValues;
         }
-
-        private String parseInCollection(final Collection<String> inParameters) {
-            final StringBuilder stringBuilder = new StringBuilder();
-            final Iterator<String> iterator = inParameters.iterator();
-            while (iterator.hasNext()) {
-                stringBuilder.append("?");
-                iterator.next();
-                if (iterator.hasNext()) {
-                    stringBuilder.append(",");
-                }
-            }
-            return stringBuilder.toString();
-        }
     }
 
     /**
@@ -304,6 +474,9 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
         private static final String GET_JOB_LISTENER_QUERY = "SELECT * FROM " + TABLE_NAME + " WHERE "
                 + JobListenerConfigurationDomain.JOB_CONFIGURATION_ID + " = ?";
 
+        private static final String GET_JOB_LISTENERS_BY_IDS_QUERY = "SELECT * FROM " + TABLE_NAME + " WHERE "
+                + JobListenerConfigurationDomain.JOB_CONFIGURATION_ID + " IN (%s)";
+
         private static final String DELETE_STATEMENT = "DELETE FROM " + TABLE_NAME + " WHERE "
                 + JobListenerConfigurationDomain.JOB_CONFIGURATION_ID + " = ?";
 
@@ -317,6 +490,16 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
                 + JobListenerConfigurationDomain.STATUS + " = ? WHERE "
                 + JobListenerConfigurationDomain.JOB_CONFIGURATION_ID + " = ? ";
 
+        private static final int[] UPDATE_TYPES = {
+                Types.INTEGER,
+                Types.VARCHAR,
+                Types.VARCHAR,
+                Types.INTEGER,
+                Types.NUMERIC,
+                Types.VARCHAR,
+                Types.VARCHAR,
+                Types.NUMERIC
+        };
 
         private final JdbcTemplate jdbcTemplate;
         private final SimpleJdbcInsert simpleJdbcInsert;
@@ -337,10 +520,39 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
             return key.longValue();
         }
 
+        void addAll(final Collection<JobConfiguration> jobConfigurations) {
+            final List<Map<String, Object>> keyValuesList = new ArrayList<>();
+            for (final JobConfiguration jobConfiguration : jobConfigurations) {
+                if (jobConfiguration.getJobListenerConfiguration() != null) {
+                    keyValuesList.add(map(jobConfiguration));
+                }
+            }
+            if (!keyValuesList.isEmpty()) {
+                simpleJdbcInsert.executeBatch(toBatch(keyValuesList));
+            }
+        }
+
         public void update(final JobConfiguration jobConfiguration) {
-            final JobListenerConfiguration jobListenerConfiguration = jobConfiguration.getJobListenerConfiguration();
             final String sql = String.format(UPDATE_STATEMENT, tablePrefix);
-            final Object[] objects = {
+            jdbcTemplate.update(sql, createUpdateParameters(jobConfiguration), UPDATE_TYPES);
+        }
+
+        void updateAll(final Collection<JobConfiguration> jobConfigurations) {
+            final List<Object[]> batchArgs = new ArrayList<>();
+            for (final JobConfiguration jobConfiguration : jobConfigurations) {
+                if (jobConfiguration.getJobListenerConfiguration() != null) {
+                    batchArgs.add(createUpdateParameters(jobConfiguration));
+                }
+            }
+            if (!batchArgs.isEmpty()) {
+                final String sql = String.format(UPDATE_STATEMENT, tablePrefix);
+                jdbcTemplate.batchUpdate(sql, batchArgs, UPDATE_TYPES);
+            }
+        }
+
+        private Object[] createUpdateParameters(final JobConfiguration jobConfiguration) {
+            final JobListenerConfiguration jobListenerConfiguration = jobConfiguration.getJobListenerConfiguration();
+            return new Object[]{
                     jobListenerConfiguration.getJobListenerType().getId(),
                     jobListenerConfiguration.getFilePattern(),
                     jobListenerConfiguration.getSourceFolder(),
@@ -350,17 +562,6 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
                     jobListenerConfiguration.getListenerStatus().getValue(),
                     jobConfiguration.getJobConfigurationId()
             };
-            final int[] types = {
-                    Types.INTEGER,
-                    Types.VARCHAR,
-                    Types.VARCHAR,
-                    Types.INTEGER,
-                    Types.NUMERIC,
-                    Types.VARCHAR,
-                    Types.VARCHAR,
-                    Types.NUMERIC
-            };
-            jdbcTemplate.update(sql, objects, types);
         }
 
         public void delete(final Long jobConfigurationId) {
@@ -379,6 +580,21 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
             }
         }
 
+        void attachJobListenerConfigurations(final List<Long> jobConfigurationIds,
+                                             final Map<Long, JobConfiguration> jobConfigurations) {
+            final String sql = String.format(GET_JOB_LISTENERS_BY_IDS_QUERY, tablePrefix,
+                    createInPlaceholders(jobConfigurationIds.size()));
+            final JobListenerConfigurationRowMapper rowMapper = new JobListenerConfigurationRowMapper();
+            jdbcTemplate.query(sql, jobConfigurationIds.toArray(), new RowCallbackHandler() {
+                @Override
+                public void processRow(final ResultSet resultSet) throws SQLException {
+                    final Long jobConfigurationId = resultSet.getLong(JobListenerConfigurationDomain.JOB_CONFIGURATION_ID);
+                    jobConfigurations.get(jobConfigurationId)
+                            .setJobListenerConfiguration(rowMapper.mapRow(resultSet, 0));
+                }
+            });
+        }
+
         private Map<String, Object> map(final JobConfiguration jobConfiguration) {
             final JobListenerConfiguration jobListenerConfiguration = jobConfiguration.getJobListenerConfiguration();
             final Map<String, Object> keyValues = new HashMap<>();
@@ -416,9 +632,22 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
                 + JobSchedulerConfigurationDomain.STATUS + " = ? WHERE "
                 + JobSchedulerConfigurationDomain.JOB_CONFIGURATION_ID + " = ? ";
 
+        private static final String GET_JOB_SCHEDULERS_BY_IDS_QUERY = "SELECT * FROM " + TABLE_NAME + " WHERE "
+                + JobSchedulerConfigurationDomain.JOB_CONFIGURATION_ID + " IN (%s)";
+
         private static final String DELETE_STATEMENT = "DELETE FROM " + TABLE_NAME + " WHERE "
                 + JobSchedulerConfigurationDomain.JOB_CONFIGURATION_ID + " = ?";
 
+        private static final int[] UPDATE_TYPES = {
+                Types.VARCHAR,
+                Types.NUMERIC,
+                Types.NUMERIC,
+                Types.NUMERIC,
+                Types.NUMERIC,
+                Types.VARCHAR,
+                Types.VARCHAR,
+                Types.NUMERIC};
+
         private final JdbcTemplate jdbcTemplate;
         private final SimpleJdbcInsert simpleJdbcInsert;
         private final String tablePrefix;
@@ -449,10 +678,54 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
             }
         }
 
+        void attachJobSchedulerConfigurations(final List<Long> jobConfigurationIds,
+                                              final Map<Long, JobConfiguration> jobConfigurations) {
+            final String sql = String.format(GET_JOB_SCHEDULERS_BY_IDS_QUERY, tablePrefix,
+                    createInPlaceholders(jobConfigurationIds.size()));
+            final JobSchedulerConfigurationRowMapper rowMapper = new JobSchedulerConfigurationRowMapper();
+            jdbcTemplate.query(sql, jobConfigurationIds.toArray(), new RowCallbackHandler() {
+                @Override
+                public void processRow(final ResultSet resultSet) throws SQLException {
+                    final Long jobConfigurationId = resultSet.getLong(JobSchedulerConfigurationDomain.JOB_CONFIGURATION_ID);
+                    jobConfigurations.get(jobConfigurationId)
+                            .setJobSchedulerConfiguration(rowMapper.mapRow(resultSet, 0));
+                }
+            });
+        }
+
+        void addAll(final Collection<JobConfiguration> jobConfigurations) {
+            final List<Map<String, Object>> keyValuesList = new ArrayList<>();
+            for (final JobConfiguration jobConfiguration : jobConfigurations) {
+                if (jobConfiguration.getJobSchedulerConfiguration() != null) {
+                    keyValuesList.add(map(jobConfiguration));
+                }
+            }
+            if (!keyValuesList.isEmpty()) {
+                simpleJdbcInsert.executeBatch(toBatch(keyValuesList));
+            }
+        }
+
         public void update(final JobConfiguration jobConfiguration) {
-            final JobSchedulerConfiguration jobSchedulerConfiguration = jobConfiguration.getJobSchedulerConfiguration();
             final String sql = String.format(UPDATE_STATEMENT, tablePrefix);
-            final Object[] parameters = {
+            jdbcTemplate.update(sql, createUpdateParameters(jobConfiguration), UPDATE_TYPES);
+        }
+
+        void updateAll(final Collection<JobConfiguration> jobConfigurations) {
+            final List<Object[]> batchArgs = new ArrayList<>();
+            for (final JobConfiguration jobConfiguration : jobConfigurations) {
+                if (jobConfiguration.getJobSchedulerConfiguration() != null) {
+                    batchArgs.add(createUpdateParameters(jobConfiguration));
+                }
+            }
+            if (!batchArgs.isEmpty()) {
+                final String sql = String.format(UPDATE_STATEMENT, tablePrefix);
+                jdbcTemplate.batchUpdate(sql, batchArgs, UPDATE_TYPES);
+            }
+        }
+
+        private Object[] createUpdateParameters(final JobConfiguration jobConfiguration) {
+            final JobSchedulerConfiguration jobSchedulerConfiguration = jobConfiguration.getJobSchedulerConfiguration();
+            return new Object[]{
                     jobSchedulerConfiguration.getCronExpression(),
                     jobSchedulerConfiguration.getFixedDelay(),
                     jobSchedulerConfiguration.getInitialDelay(),
@@ -461,16 +734,6 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
                     jobSchedulerConfiguration.getBeanName(),
                     jobSchedulerConfiguration.getSchedulerStatus().getValue(),
                     jobConfiguration.getJobConfigurationId()};
-            final int[] types = {
-                    Types.VARCHAR,
-                    Types.NUMERIC,
-                    Types.NUMERIC,
-                    Types.NUMERIC,
-                    Types.NUMERIC,
-                    Types.VARCHAR,
-                    Types.VARCHAR,
-                    Types.NUMERIC};
-            jdbcTemplate.update(sql, parameters, types);
         }
 
         public void delete(final Long jobConfigurationId) {
@@ -508,9 +771,15 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
         private static final String GET_JOB_PARAMETERS_QUERY = "SELECT * FROM " + TABLE_NAME + " WHERE "
                 + JobSchedulerConfigurationDomain.JOB_CONFIGURATION_ID + " = ?";
 
+        private static final String GET_JOB_PARAMETERS_BY_IDS_QUERY = "SELECT * FROM " + TABLE_NAME + " WHERE "
+                + JobConfigurationParameterDomain.JOB_CONFIGURATION_ID + " IN (%s)";
+
         private static final String DELETE_STATEMENT = "DELETE FROM " + TABLE_NAME + " WHERE "
                 + JobConfigurationParameterDomain.JOB_CONFIGURATION_ID + " = ? ";
 
+        private static final String DELETE_ALL_STATEMENT = "DELETE FROM " + TABLE_NAME + " WHERE "
+                + JobConfigurationParameterDomain.JOB_CONFIGURATION_ID + " IN (%s)";
+
         private final JdbcTemplate jdbcTemplate;
         private final SimpleJdbcInsert simpleJdbcInsert;
         private final String tablePrefix;
@@ -527,20 +796,9 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
         }
 
         public void add(final JobConfiguration jobConfiguration) {
-            final Long jobConfigurationId = jobConfiguration.getJobConfigurationId();
             final Map<String, Object> jobParameters = jobConfiguration.getJobParameters();
             if (jobParameters != null) {
-                for (final Map.Entry<String, Object> jobParameter : jobParameters.entrySet()) {
-                    final JobConfigurationParameter jobConfigurationParameter = createJobConfigurationParameter(
-                            jobParameter.getKey(), jobParameter.getValue());
-                    final String key = jobConfigurationParameter.getParameterName();
-                    final String value = jobConfigurationParameter.getParameterValue();
-                    final Long clazzType = jobConfigurationParameter.getParameterType();
-                    final Map<String, Object> parameters = new HashMap<>();
-                    parameters.put(JobConfigurationParameterDomain.JOB_CONFIGURATION_ID, jobConfigurationId);
-                    parameters.put(JobConfigurationParameterDomain.PARAMETER_NAME, key);
-                    parameters.put(JobConfigurationParameterDomain.PARAMETER_TYPE, clazzType);
-                    parameters.put(JobConfigurationParameterDomain.PARAMETER_VALUE, value);
+                for (final Map<String, Object> parameters : map(jobConfiguration)) {
                     simpleJdbcInsert.executeAndReturnKey(parameters);
                 }
             } else {
@@ -548,6 +806,38 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
             }
         }
 
+        void addAll(final Collection<JobConfiguration> jobConfigurations) {
+            final List<Map<String, Object>> keyValuesList = new ArrayList<>();
+            for (final JobConfiguration jobConfiguration : jobConfigurations) {
+                if (jobConfiguration.getJobParameters() != null) {
+                    keyValuesList.addAll(map(jobConfiguration));
+                }
+            }
+            if (!keyValuesList.isEmpty()) {
+                simpleJdbcInsert.executeBatch(toBatch(keyValuesList));
+            }
+        }
+
+        void attachParameters(final List<Long> jobConfigurationIds, final Map<Long, JobConfiguration> jobConfigurations) {
+            for (final Long jobConfigurationId : jobConfigurationIds) {
+                jobConfigurations.get(jobConfigurationId).setJobParameters(new HashMap<String, Object>());
+            }
+            final String sql = String.format(GET_JOB_PARAMETERS_BY_IDS_QUERY, tablePrefix,
+                    createInPlaceholders(jobConfigurationIds.size()));
+            final JobConfigurationParameterRowMapper rowMapper = new JobConfigurationParameterRowMapper();
+            jdbcTemplate.query(sql, jobConfigurationIds.toArray(), new RowCallbackHandler() {
+                @Override
+                public void processRow(final ResultSet resultSet) throws SQLException {
+                    final Long jobConfigurationId = resultSet.getLong(JobConfigurationParameterDomain.JOB_CONFIGURATION_ID);
+                    final JobConfigurationParameter jobConfigurationParameter = rowMapper.mapRow(resultSet, 0);
+                    final ParameterType parameterType = ParameterType.getById(jobConfigurationParameter.getParameterType());
+                    final Object value = createValue(jobConfigurationParameter.getParameterValue(), parameterType);
+                    jobConfigurations.get(jobConfigurationId).getJobParameters()
+                            .put(jobConfigurationParameter.getParameterName(), value);
+                }
+            });
+        }
+
         void attachParameters(final JobConfiguration jobConfiguration) {
             final Long jobConfigurationId = jobConfiguration.getJobConfigurationId();
             final String sql = String.format(GET_JOB_PARAMETERS_QUERY, tablePrefix);
@@ -570,6 +860,38 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
             jdbcTemplate.update(sql, new Object[]{jobConfigurationId}, new int[]{Types.NUMERIC});
         }
 
+        void deleteAll(final Collection<JobConfiguration> jobConfigurations) {
+            final List<Long> jobConfigurationIds = new ArrayList<>(jobConfigurations.size());
+            for (final JobConfiguration jobConfiguration : jobConfigurations) {
+                jobConfigurationIds.add(jobConfiguration.getJobConfigurationId());
+            }
+            for (int i = 0; i < jobConfigurationIds.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+                final List<Long> chunk = jobConfigurationIds.subList(i,
+                        Math.min(i + IN_CLAUSE_CHUNK_SIZE, jobConfigurationIds.size()));
+                final String sql = String.format(DELETE_ALL_STATEMENT, tablePrefix, createInPlaceholders(chunk.size()));
+                jdbcTemplate.update(sql, chunk.toArray());
+            }
+        }
+
+        private List<Map<String, Object>> map(final JobConfiguration jobConfiguration) {
+            final List<Map<String, Object>> keyValuesList = new ArrayList<>();
+            for (final Map.Entry<String, Object> jobParameter : jobConfiguration.getJobParameters().entrySet()) {
+                final JobConfigurationParameter jobConfigurationParameter = createJobConfigurationParameter(
+                        jobParameter.getKey(), jobParameter.getValue());
+                final Map<String, Object> parameters = new HashMap<>();
+                parameters.put(JobConfigurationParameterDomain.JOB_CONFIGURATION_ID,
+                        jobConfiguration.getJobConfigurationId());
+                parameters.put(JobConfigurationParameterDomain.PARAMETER_NAME,
+                        jobConfigurationParameter.getParameterName());
+                parameters.put(JobConfigurationParameterDomain.PARAMETER_TYPE,
+                        jobConfigurationParameter.getParameterType());
+                parameters.put(JobConfigurationParameterDomain.PARAMETER_VALUE,
+                        jobConfigurationParameter.getParameterValue());
+                keyValuesList.add(parameters);
+            }
+            return keyValuesList;
+        }
+
         private Object createValue(final String value, final ParameterType parameterType) {
             if (ParameterType.LONG.equals(parameterType)) {
                 return Long.parseLong(value);
@@ -652,6 +974,7 @@ public class JdbcJobConfigurationRepository implements JobConfigurationRepositor
             final JobIncrementer jobIncrementer = JobIncrementer.getByIdentifier(resultSet
                     .getString(JobConfigurationDomain.JOB_INCREMENTER));
             jobConfiguration.setJobIncrementer(jobIncrementer);
+            jobConfiguration.setVersion(resultSet.getLong(JobConfigurationDomain.VERSION));
             return jobConfiguration;
         }
     }
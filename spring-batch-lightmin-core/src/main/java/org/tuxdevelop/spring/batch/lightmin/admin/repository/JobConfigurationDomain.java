@@ -13,5 +13,6 @@ final class JobConfigurationDomain {
     static final String JOB_CONFIGURATION_ID = "job_configuration_id";
     static final String JOB_NAME = "job_name";
     static final String JOB_INCREMENTER = "job_incrementer";
+    static final String VERSION = "version";
 
 }
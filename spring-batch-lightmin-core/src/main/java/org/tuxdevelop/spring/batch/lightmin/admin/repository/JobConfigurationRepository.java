@@ -39,15 +39,39 @@ public interface JobConfigurationRepository {
     JobConfiguration add(JobConfiguration jobConfiguration);
 
     /**
-     * updates an existing {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}
+     * updates an existing {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}. If the
+     * {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration} carries a version, the update is only
+     * performed if the stored version is still the same.
      *
      * @param jobConfiguration {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration} to update
      * @return the updated {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}
      * @throws NoSuchJobConfigurationException -
      *                                         {@link org.tuxdevelop.spring.batch.lightmin.exception.NoSuchJobConfigurationException}
+     * @throws org.tuxdevelop.spring.batch.lightmin.exception.JobConfigurationConflictException if the version is outdated
      */
     JobConfiguration update(JobConfiguration jobConfiguration) throws NoSuchJobConfigurationException;
 
+    /**
+     * adds the given {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}s at once.
+     *
+     * @param jobConfigurations the {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}s to add
+     * @return the added {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}s
+     */
+    Collection<JobConfiguration> addAll(Collection<JobConfiguration> jobConfigurations);
+
+    /**
+     * updates the given {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}s at once. The
+     * version check of {@link #update(JobConfiguration)} is applied to each of them. All
+     * {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}s passing the check are updated.
+     *
+     * @param jobConfigurations the {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}s to
+     *                          update
+     * @return the updated {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}s
+     * @throws org.tuxdevelop.spring.batch.lightmin.exception.JobConfigurationConflictException if at least one of them
+     *                                                                                          could not be updated
+     */
+    Collection<JobConfiguration> updateAll(Collection<JobConfiguration> jobConfigurations);
+
 
     /**
      * deletes an existing {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}
@@ -75,4 +99,13 @@ public interface JobConfigurationRepository {
      * @return a Collection of {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}s
      */
     Collection<JobConfiguration> getAllJobConfigurationsByJobNames(Collection<String> jobNames);
+
+    /**
+     * returns the version of all {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}s within
+     * the repository. The version changes with every add, update and delete and is the same for all applications
+     * sharing the repository.
+     *
+     * @return the version of the {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}s
+     */
+    String getJobConfigurationsVersion();
 }
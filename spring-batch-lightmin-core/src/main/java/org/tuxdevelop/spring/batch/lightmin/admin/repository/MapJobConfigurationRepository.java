@@ -2,6 +2,7 @@ package org.tuxdevelop.spring.batch.lightmin.admin.repository;
 
 import lombok.extern.slf4j.Slf4j;
 import org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration;
+import org.tuxdevelop.spring.batch.lightmin.exception.JobConfigurationConflictException;
 import org.tuxdevelop.spring.batch.lightmin.exception.NoSuchJobConfigurationException;
 import org.tuxdevelop.spring.batch.lightmin.exception.NoSuchJobException;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
@@ -19,8 +20,12 @@ import java.util.concurrent.atomic.AtomicLong;
 @Slf4j
 public class MapJobConfigurationRepository implements JobConfigurationRepository {
 
+    private static final Long INITIAL_VERSION = 0L;
+
     private ConcurrentMap<String, Map<Long, JobConfiguration>> jobConfigurations;
     private final AtomicLong currentJobId = new AtomicLong(1L);
+    private final String epoch = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+    private final AtomicLong modificationCount = new AtomicLong();
 
     public MapJobConfigurationRepository() {
         jobConfigurations = new ConcurrentHashMap<>();
@@ -70,6 +75,7 @@ public class MapJobConfigurationRepository implements JobConfigurationRepository
         }
         final Long jobConfigurationId = getNextJobId();
         jobConfiguration.setJobConfigurationId(jobConfigurationId);
+        jobConfiguration.setVersion(INITIAL_VERSION);
         if (jobConfigurations.containsKey(jobName)) {
             jobConfigurations.get(jobName).put(jobConfigurationId, jobConfiguration);
         } else {
@@ -77,6 +83,7 @@ public class MapJobConfigurationRepository implements JobConfigurationRepository
             jobConfigurationMap.put(jobConfigurationId, jobConfiguration);
             jobConfigurations.put(jobName, jobConfigurationMap);
         }
+        modificationCount.incrementAndGet();
         return jobConfiguration;
     }
 
@@ -84,16 +91,54 @@ public class MapJobConfigurationRepository implements JobConfigurationRepository
     @Override
     public synchronized JobConfiguration update(final JobConfiguration jobConfiguration)
             throws NoSuchJobConfigurationException {
-        getJobConfiguration(jobConfiguration.getJobConfigurationId());
+        final JobConfiguration existingJobConfiguration = getJobConfiguration(jobConfiguration.getJobConfigurationId());
+        final Long existingVersion = existingJobConfiguration.getVersion();
+        final Long version = jobConfiguration.getVersion();
+        if (version != null && !version.equals(existingVersion)) {
+            final String message = "JobConfiguration with id:" + jobConfiguration.getJobConfigurationId() + " has been "
+                    + "modified concurrently, version " + version + " is outdated";
+            log.error(message);
+            throw new JobConfigurationConflictException(message);
+        }
+        jobConfiguration.setVersion(existingVersion != null ? existingVersion + 1 : INITIAL_VERSION);
         if (jobConfigurations.containsKey(jobConfiguration.getJobName())) {
             jobConfigurations.get(jobConfiguration.getJobName()).put(jobConfiguration.getJobConfigurationId(),
                     jobConfiguration);
+            modificationCount.incrementAndGet();
         } else {
             add(jobConfiguration);
         }
         return jobConfiguration;
     }
 
+    @Override
+    public synchronized Collection<JobConfiguration> addAll(final Collection<JobConfiguration> jobConfigurations) {
+        for (final JobConfiguration jobConfiguration : jobConfigurations) {
+            add(jobConfiguration);
+        }
+        return jobConfigurations;
+    }
+
+    @Override
+    public synchronized Collection<JobConfiguration> updateAll(final Collection<JobConfiguration> jobConfigurations) {
+        final Collection<JobConfiguration> updatedJobConfigurations = new LinkedList<>();
+        final List<Long> failedJobConfigurationIds = new LinkedList<>();
+        for (final JobConfiguration jobConfiguration : jobConfigurations) {
+            try {
+                updatedJobConfigurations.add(update(jobConfiguration));
+            } catch (final NoSuchJobConfigurationException | JobConfigurationConflictException e) {
+                failedJobConfigurationIds.add(jobConfiguration.getJobConfigurationId());
+            }
+        }
+        if (!failedJobConfigurationIds.isEmpty()) {
+            final String message = "JobConfigurations with ids:" + failedJobConfigurationIds + " could not be updated, "
+                    + "they do not exist or have been modified concurrently";
+            log.error(message);
+            throw new JobConfigurationConflictException(message);
+        }
+        return updatedJobConfigurations;
+    }
+
     @Override
     public synchronized void delete(final JobConfiguration jobConfiguration) throws
             NoSuchJobConfigurationException {
@@ -107,6 +152,7 @@ public class MapJobConfigurationRepository implements JobConfigurationRepository
             final Map<Long, JobConfiguration> jobConfigurationMap = jobConfigurations.get(jobName);
             jobConfigurationToDelete = getJobConfiguration(jobConfigurationId);
             jobConfigurationMap.remove(jobConfigurationToDelete.getJobConfigurationId());
+            modificationCount.incrementAndGet();
             log.debug("Removed JobConfiguration with id: " + jobConfiguration.getJobConfigurationId());
         } else {
             final String message = "No configuration found for job: " + jobName + ". Nothing to delete";
@@ -139,6 +185,15 @@ public class MapJobConfigurationRepository implements JobConfigurationRepository
         return jobConfigurationCollection;
     }
 
+    /**
+     * The repository is held in memory of a single application, the version consists of a random epoch of the
+     * repository and a counter of all modifications
+     */
+    @Override
+    public String getJobConfigurationsVersion() {
+        return epoch + "-" + modificationCount.get();
+    }
+
     private synchronized Long getNextJobId() {
         return currentJobId.getAndIncrement();
     }
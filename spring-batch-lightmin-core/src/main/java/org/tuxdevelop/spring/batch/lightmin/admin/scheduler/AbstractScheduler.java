@@ -3,13 +3,12 @@ package org.tuxdevelop.spring.batch.lightmin.admin.scheduler;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.batch.core.Job;
-import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.InitializingBean;
-import org.tuxdevelop.spring.batch.lightmin.admin.domain.JobIncrementer;
+import org.tuxdevelop.spring.batch.lightmin.admin.domain.SchedulerConstructorWrapper;
 import org.tuxdevelop.spring.batch.lightmin.admin.domain.SchedulerStatus;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
+import org.tuxdevelop.spring.batch.lightmin.util.JobParametersTemplate;
 
 /**
  * @author Marcel Becker
@@ -22,44 +21,44 @@ abstract class AbstractScheduler implements Scheduler, InitializingBean {
     @Setter
     private SchedulerStatus status;
 
+    /**
+     * @param schedulerConstructorWrapper the wrapper passed to the scheduler
+     * @return the template compiled on registration or a template compiled from the parameters of the wrapper
+     */
+    static JobParametersTemplate getJobParametersTemplate(final SchedulerConstructorWrapper schedulerConstructorWrapper) {
+        final JobParametersTemplate jobParametersTemplate;
+        if (schedulerConstructorWrapper.getJobParametersTemplate() != null) {
+            jobParametersTemplate = schedulerConstructorWrapper.getJobParametersTemplate();
+        } else {
+            jobParametersTemplate = JobParametersTemplate.compile(schedulerConstructorWrapper.getJobParameters(),
+                    schedulerConstructorWrapper.getJobIncrementer());
+        }
+        return jobParametersTemplate;
+    }
+
     static class JobRunner implements Runnable {
 
         @Getter
         private final Job job;
         private final JobLauncher jobLauncher;
         @Getter
-        private JobParameters jobParameters;
-        private final JobIncrementer jobIncrementer;
+        private final JobParametersTemplate jobParametersTemplate;
 
-        JobRunner(final Job job, final JobLauncher jobLauncher, final JobParameters jobParameters,
-                  final JobIncrementer jobIncrementer) {
+        JobRunner(final Job job, final JobLauncher jobLauncher, final JobParametersTemplate jobParametersTemplate) {
             this.job = job;
             this.jobLauncher = jobLauncher;
-            this.jobParameters = jobParameters;
-            this.jobIncrementer = jobIncrementer;
-            this.jobParameters = jobParameters;
+            this.jobParametersTemplate = jobParametersTemplate;
         }
 
         @Override
         public void run() {
             try {
-                attachJobIncrementer();
-                jobLauncher.run(job, jobParameters);
+                jobLauncher.run(job, jobParametersTemplate.evaluate());
             } catch (final Exception e) {
                 throw new SpringBatchLightminApplicationException(e, e.getMessage());
             }
         }
 
-        private void attachJobIncrementer() {
-            if (jobParameters == null) {
-                jobParameters = new JobParametersBuilder().toJobParameters();
-            }
-            if (JobIncrementer.DATE.equals(jobIncrementer)) {
-                final JobParametersBuilder jobParametersBuilder = new JobParametersBuilder(jobParameters);
-                jobParameters = jobParametersBuilder.addLong(JobIncrementer.DATE.getIncrementerIdentifier(), System.currentTimeMillis()).toJobParameters();
-            }
-        }
-
     }
 
     public SchedulerStatus getSchedulerStatus() {
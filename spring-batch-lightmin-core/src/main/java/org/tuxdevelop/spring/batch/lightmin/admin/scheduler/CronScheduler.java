@@ -39,8 +39,7 @@ public class CronScheduler extends AbstractScheduler {
         trigger = new CronTrigger(jobSchedulerConfiguration.getCronExpression(), timeZone);
         this.job = schedulerConstructorWrapper.getJob();
         jobRunner = new JobRunner(job, schedulerConstructorWrapper.getJobLauncher(),
-                schedulerConstructorWrapper.getJobParameters(),
-                schedulerConstructorWrapper.getJobIncrementer());
+                getJobParametersTemplate(schedulerConstructorWrapper));
         final SchedulerStatus schedulerStatus;
         if (jobSchedulerConfiguration.getSchedulerStatus() != null) {
             schedulerStatus = jobSchedulerConfiguration.getSchedulerStatus();
@@ -53,7 +52,7 @@ public class CronScheduler extends AbstractScheduler {
     @Override
     public void schedule() {
         log.info("Scheduling: " + jobRunner.getJob().getName() +
-                " with Parameters: " + jobRunner.getJobParameters().toProperties());
+                " with Parameters: " + jobRunner.getJobParametersTemplate());
         threadPoolTaskScheduler.schedule(jobRunner, trigger);
         setStatus(SchedulerStatus.RUNNING);
     }
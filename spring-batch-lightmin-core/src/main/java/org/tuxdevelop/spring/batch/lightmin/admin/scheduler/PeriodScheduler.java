@@ -33,8 +33,7 @@ public class PeriodScheduler extends AbstractScheduler {
         jobSchedulerConfiguration = jobConfiguration.getJobSchedulerConfiguration();
         this.job = schedulerConstructorWrapper.getJob();
         jobRunner = new JobRunner(job, schedulerConstructorWrapper.getJobLauncher(),
-                schedulerConstructorWrapper.getJobParameters(),
-                schedulerConstructorWrapper.getJobIncrementer());
+                getJobParametersTemplate(schedulerConstructorWrapper));
         final SchedulerStatus schedulerStatus;
         if (jobSchedulerConfiguration.getSchedulerStatus() != null) {
             schedulerStatus = jobSchedulerConfiguration.getSchedulerStatus();
@@ -48,7 +47,7 @@ public class PeriodScheduler extends AbstractScheduler {
     public void schedule() {
         final Date initialDelay = new Date(System.currentTimeMillis() + jobSchedulerConfiguration.getInitialDelay());
         log.debug("Scheduling: " + jobRunner.getJob().getName() +
-                " with Parameters: " + jobRunner.getJobParameters().toProperties());
+                " with Parameters: " + jobRunner.getJobParametersTemplate());
         threadPoolTaskScheduler.scheduleWithFixedDelay(jobRunner, initialDelay, jobSchedulerConfiguration.getFixedDelay());
         setStatus(SchedulerStatus.RUNNING);
     }
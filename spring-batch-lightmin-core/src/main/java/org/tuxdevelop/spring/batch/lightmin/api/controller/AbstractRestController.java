@@ -1,6 +1,18 @@
 package org.tuxdevelop.spring.batch.lightmin.api.controller;
 
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 
 /**
  * @author Marcel Becker
@@ -9,9 +21,78 @@ import org.springframework.http.MediaType;
 public abstract class AbstractRestController {
 
     static final String PRODUCES = MediaType.APPLICATION_JSON_VALUE;
-    static final String CONSUMES = MediaType.APPLICATION_JSON_VALUE;
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
 
     private static final String ROOT_URI = "/api";
+    private static final String ANY_ETAG = "*";
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    /**
+     * {@link RequestMapping} of a resource, which is produced as JSON or Smile. JSON is listed first, so requests
+     * without a preference for Smile get JSON. The request body is read by the message converter matching its content
+     * type, unsupported content types are rejected with HTTP Status Code 415.
+     */
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Documented
+    @RequestMapping(produces = {PRODUCES, APPLICATION_SMILE_VALUE})
+    @interface SmileRequestMapping {
+
+        @AliasFor(annotation = RequestMapping.class, attribute = "value")
+        String[] value() default {};
+
+        @AliasFor(annotation = RequestMapping.class, attribute = "method")
+        RequestMethod[] method() default {};
+
+        @AliasFor(annotation = RequestMapping.class, attribute = "consumes")
+        String[] consumes() default {};
+    }
+
+    /**
+     * Checks the If-None-Match header of a conditional GET request against the current ETag of the resource. The
+     * ETags are compared weakly, the JSON and Smile representations of a resource share the same weak ETag.
+     *
+     * @param ifNoneMatch the value of the If-None-Match header, may be null
+     * @param eTag        the current ETag of the resource, may be null
+     * @return true, if the client holds the current version of the resource
+     */
+    static boolean isNotModified(final String ifNoneMatch, final String eTag) {
+        if (ifNoneMatch != null && eTag != null) {
+            final String opaqueTag = getOpaqueTag(eTag);
+            for (final String candidate : ifNoneMatch.split(",")) {
+                final String value = candidate.trim();
+                if (ANY_ETAG.equals(value) || opaqueTag.equals(getOpaqueTag(value))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param eTag the current ETag of the resource
+     * @return HTTP Status Code 304, the ETag and the Vary header
+     */
+    static <T> ResponseEntity<T> notModified(final String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).header(HttpHeaders.VARY, VARY).body(null);
+    }
+
+    /**
+     * @param body the resource
+     * @param eTag the current ETag of the resource, may be null
+     * @return HTTP Status Code 200, the resource and the ETag and the Vary header, if an ETag is given
+     */
+    static <T> ResponseEntity<T> ok(final T body, final String eTag) {
+        return eTag != null ? ResponseEntity.ok().eTag(eTag).header(HttpHeaders.VARY, VARY).body(body)
+                : ResponseEntity.ok(body);
+    }
+
+    private static String getOpaqueTag(final String eTag) {
+        return eTag.startsWith(WEAK_ETAG_PREFIX) ? eTag.substring(WEAK_ETAG_PREFIX.length()) : eTag;
+    }
 
     public final class JobRestControllerAPI {
 
@@ -19,14 +100,23 @@ public abstract class AbstractRestController {
         }
 
         public static final String JOB_EXECUTIONS_JOB_EXECUTION_ID = ROOT_URI + "/jobexecutions/{jobexecutionid}";
+        public static final String JOB_EXECUTIONS_SEARCH = ROOT_URI + "/jobexecutions/search";
+        public static final String JOB_EXECUTIONS_EXPORT = ROOT_URI + "/jobexecutions/export";
         public static final String JOB_EXECUTION_PAGES_INSTANCE_ID = ROOT_URI + "/jobexecutionpages";
         public static final String JOB_EXECUTION_PAGES_INSTANCE_ID_ALL = ROOT_URI + "/jobexecutionpages/all";
         public static final String JOB_INSTANCES_JOB_NAME = ROOT_URI + "/jobinstances";
         public static final String APPLICATION_JOB_INFO = ROOT_URI + "/applicationjobinfos";
         public static final String JOB_INFO_JOB_NAME = ROOT_URI + "/jobinfos/{jobname}";
+        public static final String JOB_EXECUTION_STATISTICS_JOB_NAME = ROOT_URI + "/jobexecutionstatistics/{jobname}";
+        public static final String JOB_EXECUTION_PURGES = ROOT_URI + "/jobexecutionpurges";
+        public static final String JOB_EXECUTIONS_BULK_RESTART = ROOT_URI + "/jobexecutions/bulkrestarts";
+        public static final String JOB_EXECUTIONS_BULK_STOP = ROOT_URI + "/jobexecutions/bulkstops";
+        public static final String JOB_EXECUTIONS_BULK_OPERATION_ID = ROOT_URI + "/jobexecutions/bulkoperations/{bulkoperationid}";
         public static final String JOB_EXECUTIONS_RESTART = JOB_EXECUTIONS_JOB_EXECUTION_ID + "/restart";
         public static final String JOB_EXECUTIONS_STOP = JOB_EXECUTIONS_JOB_EXECUTION_ID + "/stop";
+        public static final String JOB_EXECUTIONS_CONTEXT = JOB_EXECUTIONS_JOB_EXECUTION_ID + "/context";
         public static final String STEP_EXECUTIONS = ROOT_URI + "/stepexecutions/{stepexecutionid}/jobexecutions/{jobexecutionid}";
+        public static final String STEP_EXECUTIONS_CONTEXT = STEP_EXECUTIONS + "/context";
         public static final String JOB_PARAMETERS = ROOT_URI + "/jobparameters";
     }
 
@@ -40,6 +130,8 @@ public abstract class AbstractRestController {
         public static final String JOB_CONFIGURATION_JOB_CONFIGURATION_ID = JOB_CONFIGURATIONS + "/jobconfiguration/{jobconfigurationid}";
         public static final String JOB_CONFIGURATION_START = JOB_CONFIGURATIONS + "/{jobconfigurationid}/start";
         public static final String JOB_CONFIGURATION_STOP = JOB_CONFIGURATIONS + "/{jobconfigurationid}/stop";
+        public static final String JOB_CONFIGURATIONS_IMPORT = JOB_CONFIGURATIONS + "/import";
+        public static final String JOB_CONFIGURATIONS_EXPORT = JOB_CONFIGURATIONS + "/export";
     }
 
     public final class JobLauncherRestControllerAPI {
@@ -48,5 +140,8 @@ public abstract class AbstractRestController {
         }
 
         public static final String JOB_LAUNCH = ROOT_URI + "/joblaunches";
+        public static final String JOB_LAUNCH_BULK = JOB_LAUNCH + "/bulk";
+        public static final String JOB_LAUNCH_BULK_ID = JOB_LAUNCH_BULK + "/{bulkjoblaunchid}";
+        public static final String JOB_EXECUTION_COMPLETION = JobRestControllerAPI.JOB_EXECUTIONS_JOB_EXECUTION_ID + "/completion";
     }
 }
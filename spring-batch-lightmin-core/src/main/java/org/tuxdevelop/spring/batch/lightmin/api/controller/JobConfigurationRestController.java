@@ -1,14 +1,27 @@
 package org.tuxdevelop.spring.batch.lightmin.api.controller;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.batch.core.configuration.JobRegistry;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfiguration;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfigurationImportFailure;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfigurationImportReport;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfigurations;
+import org.tuxdevelop.spring.batch.lightmin.exception.JobConfigurationConflictException;
+import org.tuxdevelop.spring.batch.lightmin.service.ResourceVersionTracker;
 import org.tuxdevelop.spring.batch.lightmin.support.ServiceEntry;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
 /**
  * @author Marcel Becker
  * @version 0.1
@@ -17,36 +30,64 @@ import org.tuxdevelop.spring.batch.lightmin.support.ServiceEntry;
 @RequestMapping("/")
 public class JobConfigurationRestController extends AbstractRestController implements InitializingBean {
 
+    private static final int IMPORT_CHUNK_SIZE = 500;
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
     private final ServiceEntry serviceEntry;
     private final JobRegistry jobRegistry;
+    private final ResourceVersionTracker resourceVersionTracker;
+    private final ObjectMapper objectMapper;
 
     public JobConfigurationRestController(final ServiceEntry serviceEntry, final JobRegistry jobRegistry) {
+        this(serviceEntry, jobRegistry, null);
+    }
+
+    public JobConfigurationRestController(final ServiceEntry serviceEntry, final JobRegistry jobRegistry,
+                                          final ResourceVersionTracker resourceVersionTracker) {
         this.serviceEntry = serviceEntry;
         this.jobRegistry = jobRegistry;
+        this.resourceVersionTracker = resourceVersionTracker;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     }
 
 
     /**
-     * Retrieves the {@link JobConfigurations} for all known Spring Batch Jobs
+     * Retrieves the {@link JobConfigurations} for all known Spring Batch Jobs, if they have changed since the given
+     * ETag
      *
-     * @return all JobConfigurations
+     * @param ifNoneMatch the ETag of the JobConfigurations known by the client, may be null
+     * @return all JobConfigurations or HTTP Status Code 304, if they have not changed
      */
-    @RequestMapping(value = JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS, produces = PRODUCES, method = RequestMethod.GET)
-    public ResponseEntity<JobConfigurations> getJobConfigurations() {
+    @SmileRequestMapping(value = JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS, method = RequestMethod.GET)
+    public ResponseEntity<JobConfigurations> getJobConfigurations(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+        final String eTag = getJobConfigurationsETag();
+        if (isNotModified(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
         final JobConfigurations jobConfigurations = serviceEntry.getJobConfigurations(jobRegistry.getJobNames());
-        return ResponseEntity.ok(jobConfigurations);
+        return ok(jobConfigurations, eTag);
     }
 
     /**
-     * Retrieves the {@link JobConfigurations} of a given Spring Batch Job name.
+     * Retrieves the {@link JobConfigurations} of a given Spring Batch Job name, if they have changed since the given
+     * ETag
      *
-     * @param jobName the name of the Spring Batch job
-     * @return the JobConfigurations of the Spring Batch Job
+     * @param jobName     the name of the Spring Batch job
+     * @param ifNoneMatch the ETag of the JobConfigurations known by the client, may be null
+     * @return the JobConfigurations of the Spring Batch Job or HTTP Status Code 304, if they have not changed
      */
-    @RequestMapping(value = JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS_JOB_NAME, produces = PRODUCES, method = RequestMethod.GET)
-    public ResponseEntity<JobConfigurations> getJobConfigurationsByJobName(@PathVariable("jobname") final String jobName) {
+    @SmileRequestMapping(value = JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS_JOB_NAME, method = RequestMethod.GET)
+    public ResponseEntity<JobConfigurations> getJobConfigurationsByJobName(
+            @PathVariable("jobname") final String jobName,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+        final String eTag = getJobConfigurationsETag();
+        if (isNotModified(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
         final JobConfigurations jobConfigurations = serviceEntry.getJobConfigurationsByJobName(jobName);
-        return ResponseEntity.ok(jobConfigurations);
+        return ok(jobConfigurations, eTag);
     }
 
     /**
@@ -55,7 +96,7 @@ public class JobConfigurationRestController extends AbstractRestController imple
      * @param jobConfigurationId the id of the jobConfiguration
      * @return the JobConfiguration
      */
-    @RequestMapping(value = JobConfigurationRestControllerAPI.JOB_CONFIGURATION_JOB_CONFIGURATION_ID, produces = PRODUCES, method = RequestMethod.GET)
+    @SmileRequestMapping(value = JobConfigurationRestControllerAPI.JOB_CONFIGURATION_JOB_CONFIGURATION_ID, method = RequestMethod.GET)
     public ResponseEntity<JobConfiguration> getJobConfigurationById(@PathVariable("jobconfigurationid") final Long jobConfigurationId) {
         final JobConfiguration jobConfiguration = serviceEntry.getJobConfigurationById(jobConfigurationId);
         return ResponseEntity.ok(jobConfiguration);
@@ -67,7 +108,7 @@ public class JobConfigurationRestController extends AbstractRestController imple
      * @param jobConfiguration the JobConfiguration to add
      * @return HTTP Status Code 201
      */
-    @RequestMapping(value = JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS, consumes = CONSUMES, method = RequestMethod.POST)
+    @RequestMapping(value = JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS, method = RequestMethod.POST)
     public ResponseEntity<Void> addJobConfiguration(@RequestBody final JobConfiguration jobConfiguration) {
         serviceEntry.saveJobConfiguration(jobConfiguration);
         return ResponseEntity.status(HttpStatus.CREATED).build();
@@ -77,12 +118,12 @@ public class JobConfigurationRestController extends AbstractRestController imple
      * Updates a given {@link JobConfiguration}
      *
      * @param jobConfiguration the JobConfiguration to update
-     * @return HTTP Status Code 200
+     * @return HTTP Status Code 200 and the updated JobConfiguration carrying its new version
      */
-    @RequestMapping(value = JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS, consumes = CONSUMES, method = RequestMethod.PUT)
-    public ResponseEntity<Void> updateJobConfiguration(@RequestBody final JobConfiguration jobConfiguration) {
+    @SmileRequestMapping(value = JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS, method = RequestMethod.PUT)
+    public ResponseEntity<JobConfiguration> updateJobConfiguration(@RequestBody final JobConfiguration jobConfiguration) {
         serviceEntry.updateJobConfiguration(jobConfiguration);
-        return ResponseEntity.status(HttpStatus.OK).build();
+        return ResponseEntity.ok(jobConfiguration);
     }
 
     /**
@@ -121,6 +162,102 @@ public class JobConfigurationRestController extends AbstractRestController imple
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Imports {@link JobConfiguration}s given as JSON lines, one JobConfiguration per line. The lines are read as a
+     * stream and saved in chunks. Lines which could not be parsed or saved do not abort the import, they are part of
+     * the returned report.
+     *
+     * @param inputStream the request body
+     * @return HTTP Status Code 200 and the {@link JobConfigurationImportReport}
+     * @throws IOException if the request body could not be read
+     */
+    @SmileRequestMapping(value = JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS_IMPORT, consumes = APPLICATION_NDJSON_VALUE, method = RequestMethod.POST)
+    public ResponseEntity<JobConfigurationImportReport> importJobConfigurations(final InputStream inputStream) throws IOException {
+        final JobConfigurationImportReport report = new JobConfigurationImportReport();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        final List<JobConfiguration> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        final List<Long> chunkLineNumbers = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                chunk.add(objectMapper.readValue(line, JobConfiguration.class));
+                chunkLineNumbers.add(lineNumber);
+            } catch (final IOException e) {
+                report.getFailures().add(new JobConfigurationImportFailure(lineNumber, null, e.getMessage()));
+            }
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                importChunk(chunk, chunkLineNumbers, report);
+            }
+        }
+        importChunk(chunk, chunkLineNumbers, report);
+        report.setFailedCount((long) report.getFailures().size());
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Exports the {@link JobConfiguration}s of all known Spring Batch Jobs as JSON lines, one JobConfiguration per
+     * line. The technical id and the version are not exported, so the output can be imported by
+     * {@link #importJobConfigurations(InputStream)}.
+     *
+     * @return HTTP Status Code 200 and the streamed JobConfigurations
+     */
+    @RequestMapping(value = JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS_EXPORT, produces = APPLICATION_NDJSON_VALUE, method = RequestMethod.GET)
+    public ResponseEntity<StreamingResponseBody> exportJobConfigurations() {
+        final Collection<String> jobNames = new ArrayList<>(jobRegistry.getJobNames());
+        final StreamingResponseBody body = new StreamingResponseBody() {
+            @Override
+            public void writeTo(final OutputStream outputStream) throws IOException {
+                for (final String jobName : jobNames) {
+                    final JobConfigurations jobConfigurations =
+                            serviceEntry.getJobConfigurations(Collections.singletonList(jobName));
+                    for (final JobConfiguration jobConfiguration : jobConfigurations.getJobConfigurations()) {
+                        jobConfiguration.setJobConfigurationId(null);
+                        jobConfiguration.setVersion(null);
+                        outputStream.write(objectMapper.writeValueAsBytes(jobConfiguration));
+                        outputStream.write(NEW_LINE);
+                    }
+                    outputStream.flush();
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.valueOf(APPLICATION_NDJSON_VALUE)).body(body);
+    }
+
+    /**
+     * Maps a concurrent modification of a {@link JobConfiguration} to HTTP Status Code 409
+     *
+     * @param e the JobConfigurationConflictException
+     * @return HTTP Status Code 409
+     */
+    @ExceptionHandler(JobConfigurationConflictException.class)
+    public ResponseEntity<String> handleJobConfigurationConflict(final JobConfigurationConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    private String getJobConfigurationsETag() {
+        return resourceVersionTracker != null ? resourceVersionTracker.getJobConfigurationsETag() : null;
+    }
+
+    private void importChunk(final List<JobConfiguration> chunk, final List<Long> chunkLineNumbers,
+                             final JobConfigurationImportReport report) {
+        if (!chunk.isEmpty()) {
+            final Map<Integer, String> failures = serviceEntry.saveJobConfigurations(chunk);
+            for (final Map.Entry<Integer, String> failure : failures.entrySet()) {
+                final JobConfiguration jobConfiguration = chunk.get(failure.getKey());
+                report.getFailures().add(new JobConfigurationImportFailure(chunkLineNumbers.get(failure.getKey()),
+                        jobConfiguration.getJobName(), failure.getValue()));
+            }
+            report.setImportedCount(report.getImportedCount() + chunk.size() - failures.size());
+            chunk.clear();
+            chunkLineNumbers.clear();
+        }
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         assert serviceEntry != null;
@@ -0,0 +1,174 @@
+package org.tuxdevelop.spring.batch.lightmin.api.controller;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameter;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobExecutionCallback;
+import org.tuxdevelop.spring.batch.lightmin.util.ParameterParser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Writes streamed {@link JobExecution}s as rows straight to an {@link OutputStream}, without mapping them to API
+ * resources first. Every row contains the id, job instance id, job name, status, exit status, the timestamps and the
+ * job parameters of an execution. The writer is bound to a single export and is not thread safe.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+abstract class JobExecutionExportWriter implements JobExecutionCallback {
+
+    static final String[] COLUMNS = {"jobExecutionId", "jobInstanceId", "jobName", "status", "exitCode",
+            "exitMessage", "createTime", "startTime", "endTime", "lastUpdated", "jobParameters"};
+
+    /**
+     * Writes one JSON object per line, timestamps are written as milliseconds since epoch
+     */
+    static JobExecutionExportWriter ndjson(final OutputStream outputStream, final JsonFactory jsonFactory)
+            throws IOException {
+        return new NdjsonJobExecutionExportWriter(jsonFactory.createGenerator(outputStream));
+    }
+
+    /**
+     * Writes a header line followed by one RFC 4180 line per execution, timestamps are written as ISO 8601 date times
+     * and job parameters in the format of {@link ParameterParser}
+     */
+    static JobExecutionExportWriter csv(final OutputStream outputStream) throws IOException {
+        return new CsvJobExecutionExportWriter(new BufferedWriter(new OutputStreamWriter(outputStream,
+                StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Writes all buffered rows to the underlying {@link OutputStream}
+     *
+     * @throws IOException if the rows could not be written
+     */
+    abstract void flush() throws IOException;
+
+    private static final class NdjsonJobExecutionExportWriter extends JobExecutionExportWriter {
+
+        private final JsonGenerator jsonGenerator;
+
+        private NdjsonJobExecutionExportWriter(final JsonGenerator jsonGenerator) {
+            this.jsonGenerator = jsonGenerator;
+            this.jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void doWithJobExecution(final JobExecution jobExecution) throws IOException {
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeNumberField(COLUMNS[0], jobExecution.getId());
+            jsonGenerator.writeNumberField(COLUMNS[1], jobExecution.getJobInstance().getId());
+            jsonGenerator.writeStringField(COLUMNS[2], jobExecution.getJobInstance().getJobName());
+            jsonGenerator.writeStringField(COLUMNS[3], jobExecution.getStatus().name());
+            jsonGenerator.writeStringField(COLUMNS[4], jobExecution.getExitStatus().getExitCode());
+            jsonGenerator.writeStringField(COLUMNS[5], jobExecution.getExitStatus().getExitDescription());
+            writeDate(COLUMNS[6], jobExecution.getCreateTime());
+            writeDate(COLUMNS[7], jobExecution.getStartTime());
+            writeDate(COLUMNS[8], jobExecution.getEndTime());
+            writeDate(COLUMNS[9], jobExecution.getLastUpdated());
+            jsonGenerator.writeObjectFieldStart(COLUMNS[10]);
+            for (final Map.Entry<String, JobParameter> entry : jobExecution.getJobParameters().getParameters()
+                    .entrySet()) {
+                final Object value = entry.getValue().getValue();
+                if (value instanceof Date) {
+                    writeDate(entry.getKey(), (Date) value);
+                } else if (value instanceof Long) {
+                    jsonGenerator.writeNumberField(entry.getKey(), (Long) value);
+                } else if (value instanceof Double) {
+                    jsonGenerator.writeNumberField(entry.getKey(), (Double) value);
+                } else {
+                    jsonGenerator.writeStringField(entry.getKey(), value == null ? null : value.toString());
+                }
+            }
+            jsonGenerator.writeEndObject();
+            jsonGenerator.writeEndObject();
+            jsonGenerator.writeRaw('\n');
+        }
+
+        @Override
+        void flush() throws IOException {
+            jsonGenerator.flush();
+        }
+
+        private void writeDate(final String fieldName, final Date date) throws IOException {
+            if (date == null) {
+                jsonGenerator.writeNullField(fieldName);
+            } else {
+                jsonGenerator.writeNumberField(fieldName, date.getTime());
+            }
+        }
+    }
+
+    private static final class CsvJobExecutionExportWriter extends JobExecutionExportWriter {
+
+        private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
+
+        private final Writer writer;
+        private final DateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
+
+        private CsvJobExecutionExportWriter(final Writer writer) throws IOException {
+            this.writer = writer;
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(COLUMNS[i]);
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void doWithJobExecution(final JobExecution jobExecution) throws IOException {
+            writer.write(String.valueOf(jobExecution.getId()));
+            writer.write(',');
+            writer.write(String.valueOf(jobExecution.getJobInstance().getId()));
+            writeValue(jobExecution.getJobInstance().getJobName());
+            writeValue(jobExecution.getStatus().name());
+            writeValue(jobExecution.getExitStatus().getExitCode());
+            writeValue(jobExecution.getExitStatus().getExitDescription());
+            writeDate(jobExecution.getCreateTime());
+            writeDate(jobExecution.getStartTime());
+            writeDate(jobExecution.getEndTime());
+            writeDate(jobExecution.getLastUpdated());
+            writeValue(ParameterParser.parseJobParametersToString(jobExecution.getJobParameters()));
+            writer.write("\r\n");
+        }
+
+        @Override
+        void flush() throws IOException {
+            writer.flush();
+        }
+
+        private void writeDate(final Date date) throws IOException {
+            writeValue(date == null ? null : dateFormat.format(date));
+        }
+
+        /**
+         * Writes the separator and the value, which is quoted if it contains a separator, a quote or a line break
+         */
+        private void writeValue(final String value) throws IOException {
+            writer.write(',');
+            if (value != null) {
+                if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0
+                        || value.indexOf('\r') >= 0) {
+                    writer.write('"');
+                    writer.write(value.replace("\"", "\"\""));
+                    writer.write('"');
+                } else {
+                    writer.write(value);
+                }
+            }
+        }
+    }
+}
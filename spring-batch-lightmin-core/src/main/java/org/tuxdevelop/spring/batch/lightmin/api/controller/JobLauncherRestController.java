@@ -1,14 +1,20 @@
 package org.tuxdevelop.spring.batch.lightmin.api.controller;
 
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestMethod;
-import org.springframework.web.bind.annotation.ResponseBody;
-import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.JobLaunch;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.*;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidBulkJobLaunchException;
+import org.tuxdevelop.spring.batch.lightmin.exception.JobLaunchConflictException;
 import org.tuxdevelop.spring.batch.lightmin.support.ServiceEntry;
 
+import java.net.URI;
+
 /**
  * @author Marcel Becker
  * @version 0.3
@@ -17,22 +23,147 @@ import org.tuxdevelop.spring.batch.lightmin.support.ServiceEntry;
 @RequestMapping("/")
 public class JobLauncherRestController extends AbstractRestController {
 
+    /**
+     * default max time in milliseconds to wait for the completion of a job execution
+     */
+    public static final long DEFAULT_COMPLETION_TIMEOUT = 30000L;
+
     private final ServiceEntry serviceEntry;
+    private final long completionTimeout;
 
     public JobLauncherRestController(final ServiceEntry serviceEntry) {
+        this(serviceEntry, DEFAULT_COMPLETION_TIMEOUT);
+    }
+
+    public JobLauncherRestController(final ServiceEntry serviceEntry,
+                                     final long completionTimeout) {
+        if (completionTimeout < 1) {
+            throw new IllegalArgumentException("The completion timeout must be positive");
+        }
         this.serviceEntry = serviceEntry;
+        this.completionTimeout = completionTimeout;
     }
 
     /**
-     * Lauches a {@link org.springframework.batch.core.Job} with the given values of the {@link JobLaunch} parameter
+     * Lauches a {@link org.springframework.batch.core.Job} with the given values of the {@link JobLaunch} parameter.
+     * The job runs asynchronously, the response is returned as soon as the {@link JobExecution} has been created.
+     * A retry with the idempotency key of an earlier launch returns the earlier JobExecution.
      *
      * @param jobLaunch the launch information for the Job
-     * @return HTTP Status Code 201
+     * @return HTTP Status Code 201, the location of the JobExecution and the JobLaunchResult, HTTP Status Code 200
+     * for a retried launch, 409 if the earlier launch of the idempotency key is still running
+     */
+    @SmileRequestMapping(value = JobLauncherRestControllerAPI.JOB_LAUNCH, method = RequestMethod.POST)
+    public ResponseEntity<JobLaunchResult> launchJob(@RequestBody final JobLaunch jobLaunch) {
+        final JobLaunchResult jobLaunchResult = serviceEntry.launchJob(jobLaunch);
+        final URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path(JobRestControllerAPI.JOB_EXECUTIONS_JOB_EXECUTION_ID)
+                .buildAndExpand(jobLaunchResult.getJobExecutionId())
+                .toUri();
+        if (Boolean.TRUE.equals(jobLaunchResult.getDuplicate())) {
+            return ResponseEntity.status(HttpStatus.OK).location(location).body(jobLaunchResult);
+        }
+        return ResponseEntity.created(location).body(jobLaunchResult);
+    }
+
+    /**
+     * Starts an asynchronous launch of a {@link org.springframework.batch.core.Job} once per parameter set of the
+     * {@link BulkJobLaunch}. The job is resolved once and the launches are admitted by a bounded pool.
+     *
+     * @param bulkJobLaunch the job name and the parameter sets
+     * @return HTTP Status Code 202, the location and the BulkJobLaunchStatus of the started bulk launch
+     */
+    @SmileRequestMapping(value = JobLauncherRestControllerAPI.JOB_LAUNCH_BULK, method = RequestMethod.POST)
+    public ResponseEntity<BulkJobLaunchStatus> launchJobs(@RequestBody final BulkJobLaunch bulkJobLaunch) {
+        final BulkJobLaunchStatus bulkJobLaunchStatus = serviceEntry.launchJobs(bulkJobLaunch);
+        final URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path(JobLauncherRestControllerAPI.JOB_LAUNCH_BULK_ID)
+                .buildAndExpand(bulkJobLaunchStatus.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(bulkJobLaunchStatus);
+    }
+
+    /**
+     * Retrieves the progress of a bulk launch, which contains the job execution ids of the launched items
+     *
+     * @param bulkJobLaunchId the id of the bulk launch
+     * @return the BulkJobLaunchStatus, 404 if the bulk launch is unknown
+     */
+    @SmileRequestMapping(value = JobLauncherRestControllerAPI.JOB_LAUNCH_BULK_ID, method = RequestMethod.GET)
+    public ResponseEntity<BulkJobLaunchStatus> getBulkJobLaunchStatus(@PathVariable("bulkjoblaunchid") final Long bulkJobLaunchId) {
+        final BulkJobLaunchStatus bulkJobLaunchStatus = serviceEntry.getBulkJobLaunchStatus(bulkJobLaunchId);
+        if (bulkJobLaunchStatus == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return ResponseEntity.ok(bulkJobLaunchStatus);
+    }
+
+    /**
+     * Waits until a {@link JobExecution} is finished or the timeout elapses (long polling). No request thread is held
+     * while waiting.
+     *
+     * @param jobExecutionId the id of the JobExecution
+     * @param timeout        max time in milliseconds to wait, capped and defaulted by the configured completion timeout
+     * @return HTTP Status Code 200 and the finished JobExecution, 202 and the current JobExecution if the timeout
+     * elapsed before
      */
-    @RequestMapping(value = JobLauncherRestControllerAPI.JOB_LAUNCH, consumes = CONSUMES, method = RequestMethod.POST)
-    public ResponseEntity<Void> launchJob(@RequestBody final JobLaunch jobLaunch) {
-        serviceEntry.launchJob(jobLaunch);
-        return ResponseEntity.status(HttpStatus.CREATED).build();
+    @SmileRequestMapping(value = JobLauncherRestControllerAPI.JOB_EXECUTION_COMPLETION, method = RequestMethod.GET)
+    public DeferredResult<ResponseEntity<JobExecution>> getJobExecutionCompletion(@PathVariable("jobexecutionid") final Long jobExecutionId,
+                                                                                  @RequestParam(value = "timeout", required = false) final Long timeout) {
+        final DeferredResult<ResponseEntity<JobExecution>> deferredResult =
+                new DeferredResult<>(getCompletionTimeout(timeout));
+        final ListenableFuture<JobExecution> completion = serviceEntry.getJobExecutionCompletion(jobExecutionId);
+        completion.addCallback(new ListenableFutureCallback<JobExecution>() {
+            @Override
+            public void onSuccess(final JobExecution jobExecution) {
+                deferredResult.setResult(ResponseEntity.ok(jobExecution));
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                deferredResult.setErrorResult(throwable);
+            }
+        });
+        deferredResult.onTimeout(new Runnable() {
+            @Override
+            public void run() {
+                completion.cancel(Boolean.FALSE);
+                final JobExecution jobExecution = serviceEntry.getByJobExecutionId(jobExecutionId);
+                deferredResult.setResult(new ResponseEntity<>(jobExecution, HttpStatus.ACCEPTED));
+            }
+        });
+        deferredResult.onCompletion(new Runnable() {
+            @Override
+            public void run() {
+                completion.cancel(Boolean.FALSE);
+            }
+        });
+        return deferredResult;
+    }
+
+    @ExceptionHandler(InvalidBulkJobLaunchException.class)
+    public ResponseEntity<String> handleInvalidBulkJobLaunch(final InvalidBulkJobLaunchException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(JobLaunchConflictException.class)
+    public ResponseEntity<String> handleJobLaunchConflict(final JobLaunchConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<String> handleTaskRejected(final TaskRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+
+    private long getCompletionTimeout(final Long timeout) {
+        if (timeout == null) {
+            return completionTimeout;
+        } else if (timeout < 0) {
+            throw new IllegalArgumentException("The timeout must not be negative");
+        } else {
+            return Math.max(Math.min(timeout, completionTimeout), 1L);
+        }
     }
 
 }
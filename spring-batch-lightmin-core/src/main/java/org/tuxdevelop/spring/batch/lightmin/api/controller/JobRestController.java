@@ -1,13 +1,34 @@
 package org.tuxdevelop.spring.batch.lightmin.api.controller;
 
 
+import com.fasterxml.jackson.core.JsonFactory;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.*;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidBulkJobExecutionOperationException;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidExecutionContextMaxLengthException;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidJobExecutionSearchException;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidPageCursorException;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidRetentionPolicyException;
+import org.tuxdevelop.spring.batch.lightmin.exception.JobExecutionPurgeNotSupportedException;
+import org.tuxdevelop.spring.batch.lightmin.service.ResourceVersionTracker;
 import org.tuxdevelop.spring.batch.lightmin.support.ServiceEntry;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Date;
+
 /**
  * @author Marcel Becker
  * @version 0.1
@@ -17,9 +38,16 @@ import org.tuxdevelop.spring.batch.lightmin.support.ServiceEntry;
 public class JobRestController extends AbstractRestController implements InitializingBean {
 
     private final ServiceEntry serviceEntry;
+    private final ResourceVersionTracker resourceVersionTracker;
+    private final JsonFactory jsonFactory = new JsonFactory();
 
     public JobRestController(final ServiceEntry serviceEntry) {
+        this(serviceEntry, null);
+    }
+
+    public JobRestController(final ServiceEntry serviceEntry, final ResourceVersionTracker resourceVersionTracker) {
         this.serviceEntry = serviceEntry;
+        this.resourceVersionTracker = resourceVersionTracker;
     }
 
     /**
@@ -28,7 +56,7 @@ public class JobRestController extends AbstractRestController implements Initial
      * @param jobExecutionId the id of the jobExecution
      * @return the JobExecution
      */
-    @RequestMapping(value = JobRestControllerAPI.JOB_EXECUTIONS_JOB_EXECUTION_ID, produces = PRODUCES, method = RequestMethod.GET)
+    @SmileRequestMapping(value = JobRestControllerAPI.JOB_EXECUTIONS_JOB_EXECUTION_ID, method = RequestMethod.GET)
     public ResponseEntity<JobExecution> getJobExecutionById(@PathVariable(value = "jobexecutionid") final Long jobExecutionId) {
         final JobExecution jobExecution = serviceEntry.getByJobExecutionId(jobExecutionId);
         return ResponseEntity.ok(jobExecution);
@@ -36,21 +64,81 @@ public class JobRestController extends AbstractRestController implements Initial
 
     /**
      * Retrieves {@link JobExecutionPage} containing {@link JobExecution}s for a given
-     * {@link org.springframework.batch.core.JobInstance} id
+     * {@link org.springframework.batch.core.JobInstance} id. If a cursor is given, the page starts right after the
+     * position encoded by it, otherwise at the given index position.
      *
      * @param jobInstanceId the id of the JobInstance
      * @param startIndex    the index position of the page
      * @param pageSize      the size of the page
+     * @param cursor        the nextCursor of the previous page
      * @return the JobExecutionPage
      */
-    @RequestMapping(value = JobRestControllerAPI.JOB_EXECUTION_PAGES_INSTANCE_ID, produces = PRODUCES, method = RequestMethod.GET)
+    @SmileRequestMapping(value = JobRestControllerAPI.JOB_EXECUTION_PAGES_INSTANCE_ID, method = RequestMethod.GET)
     public ResponseEntity<JobExecutionPage> getJobExecutionsByJobInstanceId(@RequestParam("jobinstanceid") final Long jobInstanceId,
                                                                             @RequestParam(value = "startindex", defaultValue = "0") final int startIndex,
-                                                                            @RequestParam(value = "pagesize", defaultValue = "10") final int pageSize) {
-        final JobExecutionPage jobInstanceExecutions = serviceEntry.getJobExecutionPage(jobInstanceId, startIndex, pageSize);
+                                                                            @RequestParam(value = "pagesize", defaultValue = "10") final int pageSize,
+                                                                            @RequestParam(value = "cursor", required = false) final String cursor) {
+        final JobExecutionPage jobInstanceExecutions;
+        if (StringUtils.hasText(cursor)) {
+            jobInstanceExecutions = serviceEntry.getJobExecutionPageByCursor(jobInstanceId, cursor, startIndex, pageSize);
+        } else {
+            jobInstanceExecutions = serviceEntry.getJobExecutionPage(jobInstanceId, startIndex, pageSize);
+        }
         return ResponseEntity.ok(jobInstanceExecutions);
     }
 
+    /**
+     * Retrieves {@link JobExecutionPage} containing the {@link JobExecution}s matching the given
+     * {@link JobExecutionSearch}. Statuses, time windows, exit code and job parameters can be combined, the page
+     * starts right after the position encoded by the cursor of the search.
+     *
+     * @param jobExecutionSearch the criteria, cursor and page size of the search
+     * @return the JobExecutionPage
+     */
+    @SmileRequestMapping(value = JobRestControllerAPI.JOB_EXECUTIONS_SEARCH, method = RequestMethod.POST)
+    public ResponseEntity<JobExecutionPage> searchJobExecutions(@RequestBody final JobExecutionSearch jobExecutionSearch) {
+        final JobExecutionPage jobExecutionPage = serviceEntry.searchJobExecutions(jobExecutionSearch);
+        return ResponseEntity.ok(jobExecutionPage);
+    }
+
+    /**
+     * Exports all {@link JobExecution}s matching the given {@link JobExecutionSearch} as JSON lines, one execution per
+     * line, by descending id. The executions are read by a single database cursor and written straight to the
+     * response, the heap usage does not depend on the number of exported executions.
+     *
+     * @param jobExecutionSearch the criteria of the export, cursor and page size are ignored
+     * @return HTTP Status Code 200 and the streamed JobExecutions
+     */
+    @RequestMapping(value = JobRestControllerAPI.JOB_EXECUTIONS_EXPORT, produces = APPLICATION_NDJSON_VALUE, method = RequestMethod.POST)
+    public ResponseEntity<StreamingResponseBody> exportJobExecutionsAsNdjson(@RequestBody final JobExecutionSearch jobExecutionSearch) {
+        final StreamingResponseBody body = new StreamingResponseBody() {
+            @Override
+            public void writeTo(final OutputStream outputStream) throws IOException {
+                export(jobExecutionSearch, JobExecutionExportWriter.ndjson(outputStream, jsonFactory));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.valueOf(APPLICATION_NDJSON_VALUE)).body(body);
+    }
+
+    /**
+     * Exports all {@link JobExecution}s matching the given {@link JobExecutionSearch} as CSV with a header line, one
+     * execution per line, by descending id. The executions are read by a single database cursor and written straight
+     * to the response, the heap usage does not depend on the number of exported executions.
+     *
+     * @param jobExecutionSearch the criteria of the export, cursor and page size are ignored
+     * @return HTTP Status Code 200 and the streamed JobExecutions
+     */
+    @RequestMapping(value = JobRestControllerAPI.JOB_EXECUTIONS_EXPORT, produces = TEXT_CSV_VALUE, method = RequestMethod.POST)
+    public ResponseEntity<StreamingResponseBody> exportJobExecutionsAsCsv(@RequestBody final JobExecutionSearch jobExecutionSearch) {
+        final StreamingResponseBody body = new StreamingResponseBody() {
+            @Override
+            public void writeTo(final OutputStream outputStream) throws IOException {
+                export(jobExecutionSearch, JobExecutionExportWriter.csv(outputStream));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.valueOf(TEXT_CSV_VALUE)).body(body);
+    }
+
     /**
      * Retrieves {@link JobExecutionPage} containing {@link JobExecution}s for a given
      * {@link org.springframework.batch.core.JobInstance} id
@@ -58,7 +146,7 @@ public class JobRestController extends AbstractRestController implements Initial
      * @param jobInstanceId the id of the JobInstance
      * @return the JobExecutionPage
      */
-    @RequestMapping(value = JobRestControllerAPI.JOB_EXECUTION_PAGES_INSTANCE_ID_ALL, produces = PRODUCES, method = RequestMethod.GET)
+    @SmileRequestMapping(value = JobRestControllerAPI.JOB_EXECUTION_PAGES_INSTANCE_ID_ALL, method = RequestMethod.GET)
     public ResponseEntity<JobExecutionPage> getAllJobExecutionsByJobInstanceId(@RequestParam("jobinstanceid") final Long
                                                                                        jobInstanceId) {
         final JobExecutionPage jobInstanceExecutions = serviceEntry.getJobExecutionPage(jobInstanceId);
@@ -67,42 +155,149 @@ public class JobRestController extends AbstractRestController implements Initial
 
     /**
      * Retrieves {@link JobInstancePage} containing {@link JobInstance}s for a given name of a
-     * {@link org.springframework.batch.core.Job}
+     * {@link org.springframework.batch.core.Job}. If a cursor is given, the page starts right after the position
+     * encoded by it, otherwise at the given index position.
      *
      * @param jobName    the name of the Spring Batch Job
      * @param startIndex the index position of the page
      * @param pageSize   the size of the page
-     * @return the JobInstancePage
+     * @param cursor      the nextCursor of the previous page
+     * @param ifNoneMatch the ETag of the JobInstancePage known by the client, may be null
+     * @return the JobInstancePage or HTTP Status Code 304, if the job instances have not changed
      */
-    @RequestMapping(value = JobRestControllerAPI.JOB_INSTANCES_JOB_NAME, produces = PRODUCES, method = RequestMethod.GET)
+    @SmileRequestMapping(value = JobRestControllerAPI.JOB_INSTANCES_JOB_NAME, method = RequestMethod.GET)
     public ResponseEntity<JobInstancePage> getJobInstancesByJobName(@RequestParam("jobname") final String jobName,
                                                                     @RequestParam(value = "startindex", defaultValue = "0") final int startIndex,
-                                                                    @RequestParam(value = "pagesize", defaultValue = "10") final int pageSize) {
-        final JobInstancePage jobInstancePage = serviceEntry.getJobInstancesByJobName(jobName, startIndex, pageSize);
-        return ResponseEntity.ok(jobInstancePage);
+                                                                    @RequestParam(value = "pagesize", defaultValue = "10") final int pageSize,
+                                                                    @RequestParam(value = "cursor", required = false) final String cursor,
+                                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+        final String eTag = getJobETag(jobName);
+        if (isNotModified(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+        final JobInstancePage jobInstancePage;
+        if (StringUtils.hasText(cursor)) {
+            jobInstancePage = serviceEntry.getJobInstancesByJobNameAndCursor(jobName, cursor, startIndex, pageSize);
+        } else {
+            jobInstancePage = serviceEntry.getJobInstancesByJobName(jobName, startIndex, pageSize);
+        }
+        return ok(jobInstancePage, eTag);
     }
 
     /**
      * Retrieves high level {@link ApplicationJobInfo} of the Application
      *
+     * @param estimated if true, cached job instance counts may be used without recounting
      * @return the ApplicationJobInfo
      */
-    @RequestMapping(value = JobRestControllerAPI.APPLICATION_JOB_INFO, produces = PRODUCES, method = RequestMethod.GET)
-    public ResponseEntity<ApplicationJobInfo> getApplicationJobInfo() {
-        final ApplicationJobInfo applicationJobInfo = serviceEntry.getApplicationJobInfo();
+    @SmileRequestMapping(value = JobRestControllerAPI.APPLICATION_JOB_INFO, method = RequestMethod.GET)
+    public ResponseEntity<ApplicationJobInfo> getApplicationJobInfo(
+            @RequestParam(value = "estimated", defaultValue = "false") final boolean estimated) {
+        final ApplicationJobInfo applicationJobInfo = serviceEntry.getApplicationJobInfo(estimated);
         return ResponseEntity.ok(applicationJobInfo);
     }
 
     /**
      * Retrieves high level {@link JobInfo} of a {@link org.springframework.batch.core.Job} for a given job name
      *
-     * @param jobName the name of the Spring Batch Job
-     * @return the JobInfo
+     * @param jobName     the name of the Spring Batch Job
+     * @param estimated   if true, a cached job instance count may be used without recounting
+     * @param ifNoneMatch the ETag of the JobInfo known by the client, may be null
+     * @return the JobInfo or HTTP Status Code 304, if the job instances have not changed
+     */
+    @SmileRequestMapping(value = JobRestControllerAPI.JOB_INFO_JOB_NAME, method = RequestMethod.GET)
+    public ResponseEntity<JobInfo> getJobInfo(@PathVariable("jobname") final String jobName,
+                                              @RequestParam(value = "estimated", defaultValue = "false") final boolean estimated,
+                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+        final String eTag = getJobETag(jobName);
+        if (isNotModified(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+        final JobInfo jobInfo = serviceEntry.getJobInfo(jobName, estimated);
+        return ok(jobInfo, eTag);
+    }
+
+    /**
+     * Retrieves the {@link JobExecutionStatistics} of a {@link org.springframework.batch.core.Job} for the executions
+     * started within the given time window. The window defaults to the last day.
+     *
+     * @param jobName       the name of the Spring Batch Job
+     * @param startTimeFrom inclusive lower bound of the start time as ISO date time
+     * @param startTimeTo   exclusive upper bound of the start time as ISO date time
+     * @return the JobExecutionStatistics
+     */
+    @SmileRequestMapping(value = JobRestControllerAPI.JOB_EXECUTION_STATISTICS_JOB_NAME, method = RequestMethod.GET)
+    public ResponseEntity<JobExecutionStatistics> getJobExecutionStatistics(
+            @PathVariable("jobname") final String jobName,
+            @RequestParam(value = "starttimefrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Date startTimeFrom,
+            @RequestParam(value = "starttimeto", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Date startTimeTo) {
+        final JobExecutionStatistics jobExecutionStatistics = serviceEntry.getJobExecutionStatistics(jobName,
+                startTimeFrom, startTimeTo);
+        return ResponseEntity.ok(jobExecutionStatistics);
+    }
+
+    /**
+     * Starts an asynchronous purge of finished {@link org.springframework.batch.core.JobExecution}s, if no purge is
+     * running. Without a request body, the configured retention policy is applied.
+     *
+     * @param retentionPolicy the retention policy to apply
+     * @return the JobExecutionPurgeStatus of the started or of the already running purge, HTTP Status Code 202, or
+     * HTTP Status Code 400, if the repository does not support purging
+     */
+    @SmileRequestMapping(value = JobRestControllerAPI.JOB_EXECUTION_PURGES, method = RequestMethod.POST)
+    public ResponseEntity<JobExecutionPurgeStatus> purgeJobExecutions(@RequestBody(required = false) final RetentionPolicy retentionPolicy) {
+        final JobExecutionPurgeStatus jobExecutionPurgeStatus = serviceEntry.purgeJobExecutions(retentionPolicy);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(jobExecutionPurgeStatus);
+    }
+
+    /**
+     * Retrieves the {@link JobExecutionPurgeStatus} of the running or of the last purge
+     *
+     * @return the JobExecutionPurgeStatus
+     */
+    @SmileRequestMapping(value = JobRestControllerAPI.JOB_EXECUTION_PURGES, method = RequestMethod.GET)
+    public ResponseEntity<JobExecutionPurgeStatus> getJobExecutionPurgeStatus() {
+        final JobExecutionPurgeStatus jobExecutionPurgeStatus = serviceEntry.getJobExecutionPurgeStatus();
+        return ResponseEntity.ok(jobExecutionPurgeStatus);
+    }
+
+    /**
+     * Starts an asynchronous restart of the {@link JobExecution}s selected by their ids or by a search. The restarts
+     * are executed by a bounded pool with a limited rate.
+     *
+     * @param bulkJobExecutionOperation the ids or the search of the JobExecutions
+     * @return HTTP Status Code 202, the location and the BulkJobExecutionOperationStatus of the bulk restart
+     */
+    @SmileRequestMapping(value = JobRestControllerAPI.JOB_EXECUTIONS_BULK_RESTART, method = RequestMethod.POST)
+    public ResponseEntity<BulkJobExecutionOperationStatus> restartJobExecutions(@RequestBody final BulkJobExecutionOperation bulkJobExecutionOperation) {
+        return toAcceptedResponse(serviceEntry.restartJobExecutions(bulkJobExecutionOperation));
+    }
+
+    /**
+     * Starts an asynchronous stop of the {@link JobExecution}s selected by their ids or by a search. The stops are
+     * executed by a bounded pool with a limited rate.
+     *
+     * @param bulkJobExecutionOperation the ids or the search of the JobExecutions
+     * @return HTTP Status Code 202, the location and the BulkJobExecutionOperationStatus of the bulk stop
      */
-    @RequestMapping(value = JobRestControllerAPI.JOB_INFO_JOB_NAME, produces = PRODUCES, method = RequestMethod.GET)
-    public ResponseEntity<JobInfo> getJobInfo(@PathVariable("jobname") final String jobName) {
-        final JobInfo jobInfo = serviceEntry.getJobInfo(jobName);
-        return ResponseEntity.ok(jobInfo);
+    @SmileRequestMapping(value = JobRestControllerAPI.JOB_EXECUTIONS_BULK_STOP, method = RequestMethod.POST)
+    public ResponseEntity<BulkJobExecutionOperationStatus> stopJobExecutions(@RequestBody final BulkJobExecutionOperation bulkJobExecutionOperation) {
+        return toAcceptedResponse(serviceEntry.stopJobExecutions(bulkJobExecutionOperation));
+    }
+
+    /**
+     * Retrieves the aggregated progress of a bulk stop or restart
+     *
+     * @param bulkOperationId the id of the bulk operation
+     * @return the BulkJobExecutionOperationStatus, 404 if the bulk operation is unknown
+     */
+    @SmileRequestMapping(value = JobRestControllerAPI.JOB_EXECUTIONS_BULK_OPERATION_ID, method = RequestMethod.GET)
+    public ResponseEntity<BulkJobExecutionOperationStatus> getBulkJobExecutionOperationStatus(@PathVariable("bulkoperationid") final Long bulkOperationId) {
+        final BulkJobExecutionOperationStatus status = serviceEntry.getBulkJobExecutionOperationStatus(bulkOperationId);
+        if (status == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return ResponseEntity.ok(status);
     }
 
     /**
@@ -136,25 +331,115 @@ public class JobRestController extends AbstractRestController implements Initial
      * @param stepExecutionId the id of the {@link org.springframework.batch.core.StepExecution}
      * @return the StepExecution
      */
-    @RequestMapping(value = JobRestControllerAPI.STEP_EXECUTIONS, produces = PRODUCES, method = RequestMethod.GET)
+    @SmileRequestMapping(value = JobRestControllerAPI.STEP_EXECUTIONS, method = RequestMethod.GET)
     public ResponseEntity<StepExecution> getStepExecution(@PathVariable("jobexecutionid") final Long jobExecutionId,
                                                           @PathVariable("stepexecutionid") final Long stepExecutionId) {
         final StepExecution stepExecution = serviceEntry.getStepExecution(jobExecutionId, stepExecutionId);
         return ResponseEntity.ok(stepExecution);
     }
 
+    /**
+     * Retrieves the serialized execution context of a {@link JobExecution}. It is not part of the
+     * {@link JobExecution} resource and has to be fetched separately.
+     *
+     * @param jobExecutionId the id of the {@link JobExecution}
+     * @param maxLength      max count of characters of the context, larger contexts are truncated
+     * @return the ExecutionContextPreview, 404 if no context exists
+     */
+    @SmileRequestMapping(value = JobRestControllerAPI.JOB_EXECUTIONS_CONTEXT, method = RequestMethod.GET)
+    public ResponseEntity<ExecutionContextPreview> getJobExecutionContext(@PathVariable("jobexecutionid") final Long jobExecutionId,
+                                                                          @RequestParam(value = "maxlength", required = false) final Integer maxLength) {
+        return toResponse(serviceEntry.getJobExecutionContext(jobExecutionId, maxLength));
+    }
+
+    /**
+     * Retrieves the serialized execution context of a {@link StepExecution}. It is not part of the
+     * {@link StepExecution} resource and has to be fetched separately.
+     *
+     * @param jobExecutionId  the id of the {@link JobExecution}
+     * @param stepExecutionId the id of the {@link StepExecution}
+     * @param maxLength       max count of characters of the context, larger contexts are truncated
+     * @return the ExecutionContextPreview, 404 if no context exists
+     */
+    @SmileRequestMapping(value = JobRestControllerAPI.STEP_EXECUTIONS_CONTEXT, method = RequestMethod.GET)
+    public ResponseEntity<ExecutionContextPreview> getStepExecutionContext(@PathVariable("jobexecutionid") final Long jobExecutionId,
+                                                                           @PathVariable("stepexecutionid") final Long stepExecutionId,
+                                                                           @RequestParam(value = "maxlength", required = false) final Integer maxLength) {
+        return toResponse(serviceEntry.getStepExecutionContext(jobExecutionId, stepExecutionId, maxLength));
+    }
+
     /**
      * Retrieves the last used {@link JobParameters} of a {@link org.springframework.batch.core.Job} run
      *
      * @param jobName the name of Spring Batch Job
      * @return the JobParamaters
      */
-    @RequestMapping(value = JobRestControllerAPI.JOB_PARAMETERS, produces = PRODUCES, method = RequestMethod.GET)
+    @SmileRequestMapping(value = JobRestControllerAPI.JOB_PARAMETERS, method = RequestMethod.GET)
     public ResponseEntity<JobParameters> getLastJobParameters(@RequestParam("jobname") final String jobName) {
         final JobParameters jobParameters = serviceEntry.getLastJobParameters(jobName);
         return ResponseEntity.ok(jobParameters);
     }
 
+    @ExceptionHandler(InvalidPageCursorException.class)
+    public ResponseEntity<String> handleInvalidPageCursor(final InvalidPageCursorException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(InvalidJobExecutionSearchException.class)
+    public ResponseEntity<String> handleInvalidJobExecutionSearch(final InvalidJobExecutionSearchException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(InvalidRetentionPolicyException.class)
+    public ResponseEntity<String> handleInvalidRetentionPolicy(final InvalidRetentionPolicyException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(JobExecutionPurgeNotSupportedException.class)
+    public ResponseEntity<String> handleJobExecutionPurgeNotSupported(final JobExecutionPurgeNotSupportedException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(InvalidBulkJobExecutionOperationException.class)
+    public ResponseEntity<String> handleInvalidBulkJobExecutionOperation(final InvalidBulkJobExecutionOperationException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(InvalidExecutionContextMaxLengthException.class)
+    public ResponseEntity<String> handleInvalidExecutionContextMaxLength(final InvalidExecutionContextMaxLengthException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<String> handleTaskRejected(final TaskRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+
+    private static ResponseEntity<BulkJobExecutionOperationStatus> toAcceptedResponse(final BulkJobExecutionOperationStatus status) {
+        final URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path(JobRestControllerAPI.JOB_EXECUTIONS_BULK_OPERATION_ID)
+                .buildAndExpand(status.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(status);
+    }
+
+    private static ResponseEntity<ExecutionContextPreview> toResponse(final ExecutionContextPreview executionContextPreview) {
+        if (executionContextPreview == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return ResponseEntity.ok(executionContextPreview);
+    }
+
+    private String getJobETag(final String jobName) {
+        return resourceVersionTracker != null ? resourceVersionTracker.getJobETag(jobName) : null;
+    }
+
+    private void export(final JobExecutionSearch jobExecutionSearch,
+                        final JobExecutionExportWriter jobExecutionExportWriter) throws IOException {
+        serviceEntry.exportJobExecutions(jobExecutionSearch, jobExecutionExportWriter);
+        jobExecutionExportWriter.flush();
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         assert serviceEntry != null;
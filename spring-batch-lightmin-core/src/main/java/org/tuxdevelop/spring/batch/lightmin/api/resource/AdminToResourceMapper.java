@@ -7,6 +7,7 @@ import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.ParameterType;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
@@ -25,6 +26,7 @@ public final class AdminToResourceMapper {
                                                 jobConfigurations) {
         final JobConfigurations response = new JobConfigurations();
         if (jobConfigurations != null && !jobConfigurations.isEmpty()) {
+            response.setJobConfigurations(new ArrayList<JobConfiguration>(jobConfigurations.size()));
             for (final org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration jobConfiguration : jobConfigurations) {
                 final JobConfiguration jobConfigurationReponse = map(jobConfiguration);
                 response.getJobConfigurations().add(jobConfigurationReponse);
@@ -42,6 +44,7 @@ public final class AdminToResourceMapper {
         response.setJobParameters(map(jobConfiguration.getJobParameters()));
         response.setJobSchedulerConfiguration(map(jobConfiguration.getJobSchedulerConfiguration()));
         response.setJobListenerConfiguration(map(jobConfiguration.getJobListenerConfiguration()));
+        response.setVersion(jobConfiguration.getVersion());
         return response;
     }
 
@@ -5,6 +5,7 @@ import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.*;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameter;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.ParameterType;
+import org.tuxdevelop.spring.batch.lightmin.dao.ExecutionStatistics;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
 
 import java.util.*;
@@ -16,7 +17,7 @@ public final class BatchToResourceMapper {
 
     public static List<JobExecution> mapExecutions(final Collection<org.springframework.batch.core.JobExecution>
                                                            jobExecutions) {
-        final List<JobExecution> response = new LinkedList<>();
+        final List<JobExecution> response = new ArrayList<>(jobExecutions.size());
         for (final org.springframework.batch.core.JobExecution jobExecution : jobExecutions) {
             response.add(map(jobExecution));
         }
@@ -43,7 +44,7 @@ public final class BatchToResourceMapper {
 
     public static List<JobInstance> mapInstances(final Collection<org.springframework.batch.core.JobInstance>
                                                          jobInstances) {
-        final List<JobInstance> response = new LinkedList<>();
+        final List<JobInstance> response = new ArrayList<>(jobInstances.size());
         for (final org.springframework.batch.core.JobInstance jobInstance : jobInstances) {
             response.add(map(jobInstance));
         }
@@ -62,13 +63,14 @@ public final class BatchToResourceMapper {
         final JobParameters response = new JobParameters();
         final Map<String, org.springframework.batch.core.JobParameter> parametersMap = jobParameters.getParameters();
         if (!parametersMap.isEmpty()) {
-            response.setParameters(new HashMap<String, JobParameter>());
+            final Map<String, JobParameter> parameters = new HashMap<>(getHashMapCapacity(parametersMap.size()));
             for (final Map.Entry<String, org.springframework.batch.core.JobParameter> entry : parametersMap.entrySet()) {
                 final JobParameter jobParameter = new JobParameter();
                 jobParameter.setParameter(entry.getValue().getValue());
                 jobParameter.setParameterType(map(entry.getValue().getType()));
-                response.getParameters().put(entry.getKey(), jobParameter);
+                parameters.put(entry.getKey(), jobParameter);
             }
+            response.setParameters(parameters);
         }
         return response;
     }
@@ -157,14 +159,146 @@ public final class BatchToResourceMapper {
         return response;
     }
 
+    public static JobExecutionStatistics map(final ExecutionStatistics executionStatistics,
+                                             final Date startTimeFrom,
+                                             final Date startTimeTo) {
+        final JobExecutionStatistics response = new JobExecutionStatistics();
+        response.setJobName(executionStatistics.getName());
+        response.setStartTimeFrom(startTimeFrom);
+        response.setStartTimeTo(startTimeTo);
+        response.setExecutionCount(executionStatistics.getExecutionCount());
+        response.setSuccessRate(getRate(executionStatistics.getCompletedCount(),
+                executionStatistics.getExecutionCount()));
+        response.setDurationP50(executionStatistics.getDurationP50());
+        response.setDurationP95(executionStatistics.getDurationP95());
+        response.setDurationP99(executionStatistics.getDurationP99());
+        response.setReadCount(executionStatistics.getReadCount());
+        response.setWriteCount(executionStatistics.getWriteCount());
+        response.setReadItemsPerSecond(getItemsPerSecond(executionStatistics.getReadCount(),
+                executionStatistics.getTotalDuration()));
+        response.setWriteItemsPerSecond(getItemsPerSecond(executionStatistics.getWriteCount(),
+                executionStatistics.getTotalDuration()));
+        final List<StepExecutionStatistics> stepExecutionStatistics = new ArrayList<>();
+        for (final ExecutionStatistics stepStatistics : executionStatistics.getStepStatistics()) {
+            stepExecutionStatistics.add(map(stepStatistics));
+        }
+        response.setStepExecutionStatistics(stepExecutionStatistics);
+        return response;
+    }
+
+    static StepExecutionStatistics map(final ExecutionStatistics executionStatistics) {
+        final StepExecutionStatistics response = new StepExecutionStatistics();
+        response.setStepName(executionStatistics.getName());
+        response.setExecutionCount(executionStatistics.getExecutionCount());
+        response.setSuccessRate(getRate(executionStatistics.getCompletedCount(),
+                executionStatistics.getExecutionCount()));
+        response.setDurationP50(executionStatistics.getDurationP50());
+        response.setDurationP95(executionStatistics.getDurationP95());
+        response.setDurationP99(executionStatistics.getDurationP99());
+        response.setReadCount(executionStatistics.getReadCount());
+        response.setWriteCount(executionStatistics.getWriteCount());
+        response.setReadItemsPerSecond(getItemsPerSecond(executionStatistics.getReadCount(),
+                executionStatistics.getTotalDuration()));
+        response.setWriteItemsPerSecond(getItemsPerSecond(executionStatistics.getWriteCount(),
+                executionStatistics.getTotalDuration()));
+        return response;
+    }
+
+    public static JobExecutionPurgeStatus map(final org.tuxdevelop.spring.batch.lightmin.service.JobExecutionPurgeStatus
+                                                      jobExecutionPurgeStatus) {
+        final JobExecutionPurgeStatus response = new JobExecutionPurgeStatus();
+        response.setState(JobExecutionPurgeState.valueOf(jobExecutionPurgeStatus.getState().name()));
+        if (jobExecutionPurgeStatus.getRetentionPolicy() != null) {
+            response.setRetentionPolicy(map(jobExecutionPurgeStatus.getRetentionPolicy()));
+        }
+        response.setStartTime(jobExecutionPurgeStatus.getStartTime());
+        response.setEndTime(jobExecutionPurgeStatus.getEndTime());
+        response.setChunkCount(jobExecutionPurgeStatus.getChunkCount());
+        response.setJobExecutionCount(jobExecutionPurgeStatus.getPurgeCount().getJobExecutionCount());
+        response.setStepExecutionCount(jobExecutionPurgeStatus.getPurgeCount().getStepExecutionCount());
+        response.setJobInstanceCount(jobExecutionPurgeStatus.getPurgeCount().getJobInstanceCount());
+        response.setExitMessage(jobExecutionPurgeStatus.getExitMessage());
+        return response;
+    }
+
+    public static BulkJobLaunchStatus map(final org.tuxdevelop.spring.batch.lightmin.service.BulkJobLaunchStatus
+                                                  bulkJobLaunchStatus) {
+        final BulkJobLaunchStatus response = new BulkJobLaunchStatus();
+        response.setId(bulkJobLaunchStatus.getId());
+        response.setJobName(bulkJobLaunchStatus.getJobName());
+        response.setState(BulkJobLaunchState.valueOf(bulkJobLaunchStatus.getState().name()));
+        response.setStartTime(bulkJobLaunchStatus.getStartTime());
+        response.setEndTime(bulkJobLaunchStatus.getEndTime());
+        response.setItemCount(bulkJobLaunchStatus.getItemCount());
+        response.setLaunchedCount(bulkJobLaunchStatus.getLaunchedCount());
+        response.setFailedCount(bulkJobLaunchStatus.getFailedCount());
+        final List<BulkJobLaunchItem> items = new ArrayList<>(bulkJobLaunchStatus.getItemCount());
+        for (final org.tuxdevelop.spring.batch.lightmin.service.BulkJobLaunchStatus.Item item :
+                bulkJobLaunchStatus.getItems()) {
+            final BulkJobLaunchItem bulkJobLaunchItem = new BulkJobLaunchItem();
+            bulkJobLaunchItem.setIndex(item.getIndex());
+            bulkJobLaunchItem.setJobExecutionId(item.getJobExecutionId());
+            if (item.getStatus() != null) {
+                bulkJobLaunchItem.setStatus(map(item.getStatus()));
+            }
+            bulkJobLaunchItem.setExitMessage(item.getExitMessage());
+            items.add(bulkJobLaunchItem);
+        }
+        response.setItems(items);
+        return response;
+    }
+
+    public static BulkJobExecutionOperationStatus map(
+            final org.tuxdevelop.spring.batch.lightmin.service.BulkJobExecutionOperationStatus bulkJobExecutionOperationStatus) {
+        final BulkJobExecutionOperationStatus response = new BulkJobExecutionOperationStatus();
+        response.setId(bulkJobExecutionOperationStatus.getId());
+        response.setOperation(BulkJobExecutionOperationType.valueOf(bulkJobExecutionOperationStatus.getOperation().name()));
+        response.setState(BulkJobExecutionOperationState.valueOf(bulkJobExecutionOperationStatus.getState().name()));
+        response.setStartTime(bulkJobExecutionOperationStatus.getStartTime());
+        response.setEndTime(bulkJobExecutionOperationStatus.getEndTime());
+        response.setItemCount(bulkJobExecutionOperationStatus.getItemCount());
+        response.setSucceededCount(bulkJobExecutionOperationStatus.getSucceededCount());
+        response.setFailedCount(bulkJobExecutionOperationStatus.getFailedCount());
+        final List<BulkJobExecutionOperationItem> items = new ArrayList<>(bulkJobExecutionOperationStatus.getItemCount());
+        for (final org.tuxdevelop.spring.batch.lightmin.service.BulkJobExecutionOperationStatus.Item item :
+                bulkJobExecutionOperationStatus.getItems()) {
+            final BulkJobExecutionOperationItem bulkJobExecutionOperationItem = new BulkJobExecutionOperationItem();
+            bulkJobExecutionOperationItem.setJobExecutionId(item.getJobExecutionId());
+            bulkJobExecutionOperationItem.setSucceeded(item.getSucceeded());
+            bulkJobExecutionOperationItem.setExitMessage(item.getExitMessage());
+            items.add(bulkJobExecutionOperationItem);
+        }
+        response.setItems(items);
+        return response;
+    }
+
+    public static RetentionPolicy map(final org.tuxdevelop.spring.batch.lightmin.dao.RetentionPolicy retentionPolicy) {
+        final RetentionPolicy response = new RetentionPolicy();
+        response.setMaxAge(retentionPolicy.getMaxAge());
+        response.setFailedMaxAge(retentionPolicy.getFailedMaxAge());
+        response.setMaxExecutionsPerJob(retentionPolicy.getMaxExecutionsPerJob());
+        response.setChunkSize(retentionPolicy.getChunkSize());
+        return response;
+    }
+
     static List<StepExecution> mapStepExecutions(final Collection<org.springframework.batch.core.StepExecution>
                                                          stepExecutions) {
-        final List<StepExecution> response = new LinkedList<>();
-        if (!stepExecutions.isEmpty()) {
-            for (final org.springframework.batch.core.StepExecution stepExecution : stepExecutions) {
-                response.add(map(stepExecution));
-            }
+        final List<StepExecution> response = new ArrayList<>(stepExecutions.size());
+        for (final org.springframework.batch.core.StepExecution stepExecution : stepExecutions) {
+            response.add(map(stepExecution));
         }
         return response;
     }
+
+    private static int getHashMapCapacity(final int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    private static double getRate(final int count, final int total) {
+        return total > 0 ? (double) count / total : 0.0;
+    }
+
+    private static double getItemsPerSecond(final long itemCount, final long duration) {
+        return duration > 0 ? itemCount * 1000.0 / duration : 0.0;
+    }
 }
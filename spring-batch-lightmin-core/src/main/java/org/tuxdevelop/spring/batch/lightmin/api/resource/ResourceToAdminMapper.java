@@ -1,10 +1,18 @@
 package org.tuxdevelop.spring.batch.lightmin.api.resource;
 
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.util.StringUtils;
 import org.tuxdevelop.spring.batch.lightmin.admin.domain.*;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfigurations;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.BatchStatus;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.BulkJobLaunch;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.JobExecutionSearch;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameter;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.ParameterType;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobExecutionSearchCriteria;
+import org.tuxdevelop.spring.batch.lightmin.dao.RetentionPolicy;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidBulkJobLaunchException;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
 
 import java.util.*;
@@ -19,7 +27,7 @@ public final class ResourceToAdminMapper {
     }
 
     public static Collection<JobConfiguration> map(final JobConfigurations jobConfigurations) {
-        final Collection<JobConfiguration> response = new LinkedList<>();
+        final Collection<JobConfiguration> response = new ArrayList<>(jobConfigurations.getJobConfigurations().size());
         for (final org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfiguration jobConfiguration : jobConfigurations.getJobConfigurations()) {
             final JobConfiguration jobConfigurationResponse = map(jobConfiguration);
             response.add(jobConfigurationResponse);
@@ -35,6 +43,7 @@ public final class ResourceToAdminMapper {
         response.setJobIncrementer(map(jobConfiguration.getJobIncrementer()));
         response.setJobSchedulerConfiguration(map(jobConfiguration.getJobSchedulerConfiguration()));
         response.setJobListenerConfiguration(map(jobConfiguration.getJobListenerConfiguration()));
+        response.setVersion(jobConfiguration.getVersion());
         return response;
     }
 
@@ -42,35 +51,116 @@ public final class ResourceToAdminMapper {
         final Map<String, org.springframework.batch.core.JobParameter> parametersMap = new HashMap<>();
         if (jobParameters != null) {
             for (final Map.Entry<String, JobParameter> entry : jobParameters.getParameters().entrySet()) {
-                final org.springframework.batch.core.JobParameter.ParameterType parameterType = map(entry.getValue()
-                        .getParameterType());
-                final org.springframework.batch.core.JobParameter jobParameter;
-                switch (parameterType) {
-                    case STRING:
-                        jobParameter = new org.springframework.batch.core.JobParameter((String) entry.getValue()
-                                .getParameter());
-                        break;
-                    case DOUBLE:
-                        jobParameter = new org.springframework.batch.core.JobParameter((Double) entry.getValue()
-                                .getParameter());
-                        break;
-                    case LONG:
-                        jobParameter = new org.springframework.batch.core.JobParameter((Long) entry.getValue()
-                                .getParameter());
-                        break;
-                    case DATE:
-                        jobParameter = new org.springframework.batch.core.JobParameter((Date) entry.getValue()
-                                .getParameter());
-                        break;
-                    default:
-                        throw new SpringBatchLightminApplicationException("Unknown JobParameterType: " + entry.getValue().getParameterType());
-                }
-                parametersMap.put(entry.getKey(), jobParameter);
+                parametersMap.put(entry.getKey(), map(entry.getValue()));
             }
         }
         return new org.springframework.batch.core.JobParameters(parametersMap);
     }
 
+    /**
+     * Expands the parameter sets of a {@link BulkJobLaunch}, either its list of parameter sets or its fan-out. The
+     * common parameters are mapped only once.
+     *
+     * @param bulkJobLaunch the bulk launch
+     * @return the merged parameter sets, ordered like the items of the bulk launch
+     * @throws InvalidBulkJobLaunchException if both or a fan-out without parameter name are given
+     */
+    public static List<org.springframework.batch.core.JobParameters> mapParameterSets(final BulkJobLaunch bulkJobLaunch) {
+        final List<JobParameters> jobParametersList = bulkJobLaunch.getJobParametersList();
+        final List<JobParameter> fanOutParameters = bulkJobLaunch.getFanOutParameters();
+        final boolean hasParameterSets = jobParametersList != null && !jobParametersList.isEmpty();
+        final boolean hasFanOut = fanOutParameters != null && !fanOutParameters.isEmpty();
+        if (hasParameterSets && hasFanOut) {
+            throw new InvalidBulkJobLaunchException("A bulk launch requires either a list of parameter sets or a "
+                    + "fan-out, not both");
+        }
+        if (hasFanOut && !StringUtils.hasText(bulkJobLaunch.getFanOutParameterName())) {
+            throw new InvalidBulkJobLaunchException("A fan-out requires the name of its parameter");
+        }
+        final org.springframework.batch.core.JobParameters commonJobParameters = map(bulkJobLaunch.getJobParameters());
+        final List<org.springframework.batch.core.JobParameters> response = new ArrayList<>();
+        if (hasParameterSets) {
+            for (final JobParameters jobParameters : jobParametersList) {
+                final JobParametersBuilder jobParametersBuilder = new JobParametersBuilder(commonJobParameters);
+                if (jobParameters != null) {
+                    for (final Map.Entry<String, JobParameter> entry : jobParameters.getParameters().entrySet()) {
+                        jobParametersBuilder.addParameter(entry.getKey(), map(entry.getValue()));
+                    }
+                }
+                response.add(jobParametersBuilder.toJobParameters());
+            }
+        } else if (hasFanOut) {
+            for (final JobParameter jobParameter : fanOutParameters) {
+                response.add(new JobParametersBuilder(commonJobParameters)
+                        .addParameter(bulkJobLaunch.getFanOutParameterName(), map(jobParameter))
+                        .toJobParameters());
+            }
+        }
+        return response;
+    }
+
+    private static org.springframework.batch.core.JobParameter map(final JobParameter jobParameter) {
+        final org.springframework.batch.core.JobParameter.ParameterType parameterType = map(jobParameter
+                .getParameterType());
+        final org.springframework.batch.core.JobParameter response;
+        switch (parameterType) {
+            case STRING:
+                response = new org.springframework.batch.core.JobParameter((String) jobParameter.getParameter());
+                break;
+            case DOUBLE:
+                response = new org.springframework.batch.core.JobParameter(((Number) jobParameter.getParameter())
+                        .doubleValue());
+                break;
+            case LONG:
+                response = new org.springframework.batch.core.JobParameter(((Number) jobParameter.getParameter())
+                        .longValue());
+                break;
+            case DATE:
+                response = new org.springframework.batch.core.JobParameter(mapToDate(jobParameter.getParameter()));
+                break;
+            default:
+                throw new SpringBatchLightminApplicationException("Unknown JobParameterType: " + jobParameter
+                        .getParameterType());
+        }
+        return response;
+    }
+
+    /*
+     * Dates and numbers of deserialized JSON arrive as Long or Integer
+     */
+    private static Date mapToDate(final Object value) {
+        return value instanceof Number ? new Date(((Number) value).longValue()) : (Date) value;
+    }
+
+    public static JobExecutionSearchCriteria map(final JobExecutionSearch jobExecutionSearch) {
+        final JobExecutionSearchCriteria response = new JobExecutionSearchCriteria();
+        response.setJobName(jobExecutionSearch.getJobName());
+        if (jobExecutionSearch.getStatuses() != null) {
+            for (final BatchStatus batchStatus : jobExecutionSearch.getStatuses()) {
+                response.getStatuses().add(org.springframework.batch.core.BatchStatus.valueOf(batchStatus.name()));
+            }
+        }
+        response.setStartTimeFrom(jobExecutionSearch.getStartTimeFrom());
+        response.setStartTimeTo(jobExecutionSearch.getStartTimeTo());
+        response.setEndTimeFrom(jobExecutionSearch.getEndTimeFrom());
+        response.setEndTimeTo(jobExecutionSearch.getEndTimeTo());
+        response.setExitCode(jobExecutionSearch.getExitCode());
+        response.setJobParameters(map(jobExecutionSearch.getJobParameters()));
+        return response;
+    }
+
+    public static RetentionPolicy map(final org.tuxdevelop.spring.batch.lightmin.api.resource.batch.RetentionPolicy
+                                              retentionPolicy) {
+        final RetentionPolicy response = new RetentionPolicy();
+        response.setMaxAge(retentionPolicy.getMaxAge());
+        response.setFailedMaxAge(retentionPolicy.getFailedMaxAge());
+        response.setMaxExecutionsPerJob(retentionPolicy.getMaxExecutionsPerJob());
+        if (retentionPolicy.getChunkSize() != null) {
+            response.setChunkSize(retentionPolicy.getChunkSize());
+        }
+        return response;
+    }
+
     private static JobSchedulerConfiguration map(final org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobSchedulerConfiguration jobSchedulerConfiguration) {
         final JobSchedulerConfiguration response;
         if (jobSchedulerConfiguration != null) {
@@ -1,5 +1,6 @@
 package org.tuxdevelop.spring.batch.lightmin.configuration;
 
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.configuration.JobRegistry;
 import org.springframework.batch.core.configuration.annotation.BatchConfigurer;
 import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
@@ -9,6 +10,7 @@ import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.JobOperator;
 import org.springframework.batch.core.launch.support.SimpleJobLauncher;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
@@ -16,11 +18,17 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.tuxdevelop.spring.batch.lightmin.admin.domain.TaskExecutorType;
 import org.tuxdevelop.spring.batch.lightmin.admin.repository.JobConfigurationRepository;
 import org.tuxdevelop.spring.batch.lightmin.dao.LightminJobExecutionDao;
 import org.tuxdevelop.spring.batch.lightmin.service.*;
 import org.tuxdevelop.spring.batch.lightmin.util.BeanRegistrar;
+import org.tuxdevelop.spring.batch.lightmin.util.BlockingRejectedExecutionHandler;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * @author Marcel Becker
@@ -36,6 +44,23 @@ public class CommonSpringBatchLightminConfiguration {
         return defaultSpringBatchLightminConfigurator.getJobService();
     }
 
+    @Bean
+    public JobCountCache jobCountCache(final SpringBatchLightminConfigurator defaultSpringBatchLightminConfigurator) {
+        return defaultSpringBatchLightminConfigurator.getJobCountCache();
+    }
+
+    @Bean
+    public ResourceVersionTracker resourceVersionTracker(final JobConfigurationRepository jobConfigurationRepository,
+                                                         final SpringBatchLightminConfigurator defaultSpringBatchLightminConfigurator) {
+        return new ResourceVersionTracker(jobConfigurationRepository,
+                defaultSpringBatchLightminConfigurator.getLightminJobExecutionDao());
+    }
+
+    @Bean
+    public JobExecutionPurger jobExecutionPurger(final SpringBatchLightminConfigurator defaultSpringBatchLightminConfigurator) {
+        return defaultSpringBatchLightminConfigurator.getJobExecutionPurger();
+    }
+
     @Bean
     public StepService stepService(final SpringBatchLightminConfigurator defaultSpringBatchLightminConfigurator) {
         return defaultSpringBatchLightminConfigurator.getStepService();
@@ -67,8 +92,8 @@ public class CommonSpringBatchLightminConfiguration {
     }
 
     @Bean
-    public JobRepository jobRepository(final BatchConfigurer batchConfigurer) throws Exception {
-        return batchConfigurer.getJobRepository();
+    public JobRepository jobRepository(final SpringBatchLightminConfigurator defaultSpringBatchLightminConfigurator) {
+        return defaultSpringBatchLightminConfigurator.getJobRepository();
     }
 
     @Bean
@@ -76,18 +101,28 @@ public class CommonSpringBatchLightminConfiguration {
         return new BeanRegistrar(context);
     }
 
+    @Bean
+    public JobLauncherRegistry jobLauncherRegistry(
+            final JobRepository jobRepository,
+            final SpringBatchLightminConfigurationProperties springBatchLightminConfigurationProperties) {
+        return new JobLauncherRegistry(jobRepository,
+                springBatchLightminConfigurationProperties.getAsynchronousJobThreads());
+    }
+
     @Bean
     public SchedulerService schedulerService(final BeanRegistrar beanRegistrar,
-                                             final JobRepository jobRepository,
-                                             final JobRegistry jobRegistry) throws Exception {
-        return new DefaultSchedulerService(beanRegistrar, jobRepository, jobRegistry);
+                                             final JobLauncherRegistry jobLauncherRegistry,
+                                             final JobRegistry jobRegistry,
+                                             final JobExplorer jobExplorer) throws Exception {
+        return new DefaultSchedulerService(beanRegistrar, jobLauncherRegistry, jobRegistry, jobExplorer);
     }
 
     @Bean
     public ListenerService listenerService(final BeanRegistrar beanRegistrar,
                                            final JobRegistry jobRegistry,
-                                           final JobRepository jobRepository) {
-        return new DefaultListenerService(beanRegistrar, jobRegistry, jobRepository);
+                                           final JobLauncherRegistry jobLauncherRegistry,
+                                           final JobExplorer jobExplorer) {
+        return new DefaultListenerService(beanRegistrar, jobRegistry, jobLauncherRegistry, jobExplorer);
     }
 
     @Bean
@@ -112,8 +147,19 @@ public class CommonSpringBatchLightminConfiguration {
                                                    final JobRegistry jobRegistry,
                                                    final AdminService adminService,
                                                    final SchedulerService schedulerService,
-                                                   final ListenerService listenerService) throws Exception {
-        return new JobCreationListener(applicationContext, jobRegistry, adminService, schedulerService, listenerService);
+                                                   final ListenerService listenerService,
+                                                   final JobCountCache jobCountCache,
+                                                   final SpringBatchLightminConfigurator defaultSpringBatchLightminConfigurator) throws Exception {
+        final List<JobExecutionListener> jobExecutionListeners = new ArrayList<>();
+        final LightminJobExecutionDao lightminJobExecutionDao =
+                defaultSpringBatchLightminConfigurator.getLightminJobExecutionDao();
+        // the map based dao indexes the execution, before the cache counts it
+        if (lightminJobExecutionDao instanceof JobExecutionListener) {
+            jobExecutionListeners.add((JobExecutionListener) lightminJobExecutionDao);
+        }
+        jobExecutionListeners.add(jobCountCache);
+        return new JobCreationListener(applicationContext, jobRegistry, adminService, schedulerService, listenerService,
+                jobExecutionListeners);
     }
 
     @Bean
@@ -122,11 +168,88 @@ public class CommonSpringBatchLightminConfiguration {
         return defaultSpringBatchLightminConfigurator.getJobConfigurationRepository();
     }
 
+    /**
+     * Bounded pool running the jobs launched by the {@link #defaultAsyncJobLauncher(JobRepository, TaskExecutor)},
+     * launches exceeding the queue capacity are rejected and their job executions are marked as failed
+     */
     @Bean
-    public JobLauncher defaultAsyncJobLauncher(final JobRepository jobRepository) {
+    public ThreadPoolTaskExecutor lightminJobLaunchTaskExecutor(
+            final SpringBatchLightminConfigurationProperties springBatchLightminConfigurationProperties) {
+        final ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix("lightmin-launch-");
+        taskExecutor.setCorePoolSize(springBatchLightminConfigurationProperties.getLaunchPoolSize());
+        taskExecutor.setMaxPoolSize(springBatchLightminConfigurationProperties.getLaunchPoolSize());
+        taskExecutor.setQueueCapacity(springBatchLightminConfigurationProperties.getLaunchQueueCapacity());
+        return taskExecutor;
+    }
+
+    @Bean
+    public JobLauncher defaultAsyncJobLauncher(final JobRepository jobRepository,
+                                               @Qualifier("lightminJobLaunchTaskExecutor") final TaskExecutor lightminJobLaunchTaskExecutor) {
         final SimpleJobLauncher jobLauncher = new SimpleJobLauncher();
         jobLauncher.setJobRepository(jobRepository);
-        jobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor());
+        jobLauncher.setTaskExecutor(lightminJobLaunchTaskExecutor);
         return jobLauncher;
     }
+
+    /**
+     * Pool running the jobs of bulk launches, sized like the {@link #lightminJobLaunchTaskExecutor}. If its queue is
+     * full, the admitting thread waits for a free slot, which throttles the admission instead of rejecting launches.
+     * The jobs are never run by the admission threads.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor lightminBulkJobLaunchTaskExecutor(
+            final SpringBatchLightminConfigurationProperties springBatchLightminConfigurationProperties) {
+        final ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix("lightmin-bulk-run-");
+        taskExecutor.setCorePoolSize(springBatchLightminConfigurationProperties.getLaunchPoolSize());
+        taskExecutor.setMaxPoolSize(springBatchLightminConfigurationProperties.getLaunchPoolSize());
+        taskExecutor.setQueueCapacity(springBatchLightminConfigurationProperties.getLaunchQueueCapacity());
+        taskExecutor.setRejectedExecutionHandler(new BlockingRejectedExecutionHandler());
+        return taskExecutor;
+    }
+
+    @Bean
+    public BulkJobLauncher bulkJobLauncher(final JobRepository jobRepository,
+                                           final JobRegistry jobRegistry,
+                                           @Qualifier("lightminBulkJobLaunchTaskExecutor") final TaskExecutor lightminBulkJobLaunchTaskExecutor,
+                                           final SpringBatchLightminConfigurationProperties springBatchLightminConfigurationProperties) {
+        final SimpleJobLauncher jobLauncher = new SimpleJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(lightminBulkJobLaunchTaskExecutor);
+        return new BulkJobLauncher(jobLauncher, jobRegistry,
+                springBatchLightminConfigurationProperties.getBulkLaunchAdmissionThreads(),
+                springBatchLightminConfigurationProperties.getBulkLaunchMaxPendingItems());
+    }
+
+    @Bean
+    public JobLaunchDeduplicator jobLaunchDeduplicator(
+            final SpringBatchLightminConfigurator defaultSpringBatchLightminConfigurator,
+            final SpringBatchLightminConfigurationProperties springBatchLightminConfigurationProperties) {
+        return new JobLaunchDeduplicator(defaultSpringBatchLightminConfigurator.getJobLaunchKeyDao(),
+                springBatchLightminConfigurationProperties.getLaunchIdempotencyKeyTimeToLive(),
+                springBatchLightminConfigurationProperties.getLaunchIdempotencyKeyCacheSize(),
+                springBatchLightminConfigurationProperties.getLaunchIdempotencyKeyLaunchTimeout());
+    }
+
+    @Bean
+    public BulkJobExecutionOperator bulkJobExecutionOperator(
+            final JobService jobService,
+            final JobRegistry jobRegistry,
+            final JobLauncherRegistry jobLauncherRegistry,
+            final SpringBatchLightminConfigurationProperties springBatchLightminConfigurationProperties) {
+        return new BulkJobExecutionOperator(jobService, jobRegistry,
+                jobLauncherRegistry.getJobLauncher(TaskExecutorType.ASYNCHRONOUS),
+                springBatchLightminConfigurationProperties.getBulkOperationThreads(),
+                springBatchLightminConfigurationProperties.getBulkOperationRate(),
+                springBatchLightminConfigurationProperties.getBulkOperationMaxPendingItems());
+    }
+
+    @Bean
+    public JobExecutionCompletionWatcher jobExecutionCompletionWatcher(
+            final JobService jobService,
+            final SpringBatchLightminConfigurationProperties springBatchLightminConfigurationProperties) {
+        return new JobExecutionCompletionWatcher(jobService,
+                springBatchLightminConfigurationProperties.getLaunchCompletionPollInterval());
+    }
 }
@@ -5,22 +5,36 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.JobRegistry;
 import org.springframework.batch.core.configuration.annotation.BatchConfigurer;
 import org.springframework.batch.core.configuration.support.MapJobRegistry;
+import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.support.SimpleJobLauncher;
 import org.springframework.batch.core.launch.support.SimpleJobOperator;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.incrementer.AbstractDataFieldMaxValueIncrementer;
 import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.tuxdevelop.spring.batch.lightmin.admin.repository.FileJobConfigurationRepository;
 import org.tuxdevelop.spring.batch.lightmin.admin.repository.JdbcJobConfigurationRepository;
 import org.tuxdevelop.spring.batch.lightmin.admin.repository.JobConfigurationRepository;
 import org.tuxdevelop.spring.batch.lightmin.admin.repository.MapJobConfigurationRepository;
+import org.tuxdevelop.spring.batch.lightmin.dao.ArchivingJobRepository;
+import org.tuxdevelop.spring.batch.lightmin.dao.ArchivingLightminJobExecutionDao;
+import org.tuxdevelop.spring.batch.lightmin.dao.JdbcJobLaunchKeyDao;
 import org.tuxdevelop.spring.batch.lightmin.dao.JdbcLightminJobExecutionDao;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobLaunchKeyDao;
 import org.tuxdevelop.spring.batch.lightmin.dao.LightminJobExecutionDao;
+import org.tuxdevelop.spring.batch.lightmin.dao.MapJobLaunchKeyDao;
 import org.tuxdevelop.spring.batch.lightmin.dao.MapLightminJobExecutionDao;
+import org.tuxdevelop.spring.batch.lightmin.dao.RetentionPolicy;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminConfigurationException;
 import org.tuxdevelop.spring.batch.lightmin.service.DefaultJobService;
 import org.tuxdevelop.spring.batch.lightmin.service.DefaultStepService;
+import org.tuxdevelop.spring.batch.lightmin.service.JobCountCache;
+import org.tuxdevelop.spring.batch.lightmin.service.JobExecutionArchiver;
+import org.tuxdevelop.spring.batch.lightmin.service.JobExecutionPurger;
 import org.tuxdevelop.spring.batch.lightmin.service.JobService;
 import org.tuxdevelop.spring.batch.lightmin.service.StepService;
 
@@ -32,7 +46,8 @@ import javax.sql.DataSource;
  * @version 0.1
  */
 @Slf4j
-public class DefaultSpringBatchLightminConfigurator implements SpringBatchLightminConfigurator, InitializingBean {
+public class DefaultSpringBatchLightminConfigurator implements SpringBatchLightminConfigurator, InitializingBean,
+        DisposableBean {
 
     @Setter
     private BatchConfigurer batchConfigurer;
@@ -40,8 +55,13 @@ public class DefaultSpringBatchLightminConfigurator implements SpringBatchLightm
     private StepService stepService;
     private JobOperator jobOperator;
     private JobRegistry jobRegistry;
+    private JobRepository jobRepository;
     private LightminJobExecutionDao lightminJobExecutionDao;
+    private JobCountCache jobCountCache;
+    private JobExecutionPurger jobExecutionPurger;
+    private JobExecutionArchiver jobExecutionArchiver;
     private JobConfigurationRepository jobConfigurationRepository;
+    private JobLaunchKeyDao jobLaunchKeyDao;
     private final SpringBatchLightminConfigurationProperties springBatchLightminConfigurationProperties;
     private DataSource dataSource;
     private DataSource batchDataSource;
@@ -100,11 +120,38 @@ public class DefaultSpringBatchLightminConfigurator implements SpringBatchLightm
         return jobRegistry;
     }
 
+    @Override
+    public JobRepository getJobRepository() {
+        return jobRepository;
+    }
+
     @Override
     public LightminJobExecutionDao getLightminJobExecutionDao() {
         return lightminJobExecutionDao;
     }
 
+    @Override
+    public JobCountCache getJobCountCache() {
+        return jobCountCache;
+    }
+
+    @Override
+    public JobExecutionPurger getJobExecutionPurger() {
+        return jobExecutionPurger;
+    }
+
+    /**
+     * @return the {@link JobExecutionArchiver}, null if no archive is configured
+     */
+    public JobExecutionArchiver getJobExecutionArchiver() {
+        return jobExecutionArchiver;
+    }
+
+    @Override
+    public JobLaunchKeyDao getJobLaunchKeyDao() {
+        return jobLaunchKeyDao;
+    }
+
     public String getRepositoryTablePrefix() {
         return repositoryTablePrefix;
     }
@@ -119,6 +166,13 @@ public class DefaultSpringBatchLightminConfigurator implements SpringBatchLightm
         assert batchConfigurer != null;
     }
 
+    @Override
+    public void destroy() {
+        if (jobExecutionArchiver != null) {
+            jobExecutionArchiver.destroy();
+        }
+    }
+
 
     @PostConstruct
     public void initialize() {
@@ -128,9 +182,15 @@ public class DefaultSpringBatchLightminConfigurator implements SpringBatchLightm
                     final DataSource dataSource = applicationContext.getBean(springBatchLightminConfigurationProperties.getDataSourceName(), DataSource.class);
                     setDataSource(dataSource);
                     createJdbcJobConfigurationRepository();
+                    createJdbcJobLaunchKeyDao();
                     break;
                 case MAP:
                     createMapJobConfigurationRepository();
+                    createMapJobLaunchKeyDao();
+                    break;
+                case FILE:
+                    createFileJobConfigurationRepository();
+                    createMapJobLaunchKeyDao();
                     break;
                 default:
                     throw new SpringBatchLightminConfigurationException("Unknown LightminRepositoryType: " + lightminRepositoryType);
@@ -150,7 +210,11 @@ public class DefaultSpringBatchLightminConfigurator implements SpringBatchLightm
             }
 
             this.jobRegistry = createJobRegistry();
+            this.jobRepository = createJobRepository();
             this.jobOperator = createJobOperator();
+            this.jobCountCache = createJobCountCache();
+            this.jobExecutionPurger = createJobExecutionPurger();
+            this.jobExecutionArchiver = createJobExecutionArchiver();
             this.jobService = createJobService();
             this.stepService = createStepService();
         } catch (final Exception e) {
@@ -171,17 +235,47 @@ public class DefaultSpringBatchLightminConfigurator implements SpringBatchLightm
         this.jobConfigurationRepository = new MapJobConfigurationRepository();
     }
 
+    protected void createFileJobConfigurationRepository() {
+        final String directory = springBatchLightminConfigurationProperties.getConfigurationFileDirectory();
+        log.debug("Using directory {} for configuration", directory);
+        this.jobConfigurationRepository = new FileJobConfigurationRepository(
+                directory,
+                springBatchLightminConfigurationProperties.getConfigurationFileJournalSize(),
+                springBatchLightminConfigurationProperties.getConfigurationFileCompactionThreshold(),
+                springBatchLightminConfigurationProperties.getConfigurationFileForceWrite());
+    }
+
     protected void createJdbcJobConfigurationRepository() {
         final String schema = springBatchLightminConfigurationProperties.getConfigurationDatabaseSchema();
         log.debug("Using Database Schema {} for configuration", schema);
         this.jobConfigurationRepository = new JdbcJobConfigurationRepository(jdbcTemplate, configurationTablePrefix, schema);
     }
 
+    protected void createJdbcJobLaunchKeyDao() {
+        this.jobLaunchKeyDao = new JdbcJobLaunchKeyDao(jdbcTemplate, configurationTablePrefix);
+    }
+
+    protected void createMapJobLaunchKeyDao() {
+        this.jobLaunchKeyDao = new MapJobLaunchKeyDao();
+    }
+
     protected LightminJobExecutionDao createLightminJobExecutionDao() throws Exception {
+        final JdbcLightminJobExecutionDao dao = createJdbcLightminJobExecutionDao(repositoryTablePrefix);
+        final String archiveTablePrefix = springBatchLightminConfigurationProperties.getArchiveTablePrefix();
+        if (archiveTablePrefix == null) {
+            return dao;
+        }
+        log.debug("Using archive tables with prefix {}", archiveTablePrefix);
+        return new ArchivingLightminJobExecutionDao(dao, createJdbcLightminJobExecutionDao(archiveTablePrefix),
+                archiveTablePrefix);
+    }
+
+    protected JdbcLightminJobExecutionDao createJdbcLightminJobExecutionDao(final String tablePrefix)
+            throws Exception {
         final JdbcLightminJobExecutionDao dao = new JdbcLightminJobExecutionDao(batchDataSource);
         dao.setJdbcTemplate(batchJdbcTemplate);
         dao.setJobExecutionIncrementer(incrementer);
-        dao.setTablePrefix(repositoryTablePrefix);
+        dao.setTablePrefix(tablePrefix);
         dao.afterPropertiesSet();
         return dao;
     }
@@ -189,29 +283,96 @@ public class DefaultSpringBatchLightminConfigurator implements SpringBatchLightm
     protected JobOperator createJobOperator() throws Exception {
         final SimpleJobOperator jobOperator = new SimpleJobOperator();
         jobOperator.setJobExplorer(batchConfigurer.getJobExplorer());
-        jobOperator.setJobLauncher(batchConfigurer.getJobLauncher());
-        jobOperator.setJobRepository(batchConfigurer.getJobRepository());
+        jobOperator.setJobLauncher(createJobOperatorLauncher());
+        jobOperator.setJobRepository(jobRepository);
         jobOperator.setJobRegistry(jobRegistry);
         jobOperator.afterPropertiesSet();
         return jobOperator;
     }
 
+    /**
+     * @return the {@link JobLauncher} of the batch configurer, if its {@link JobRepository} is used as is, otherwise a
+     * {@link SimpleJobLauncher} on the decorated {@link JobRepository}, so the starts and restarts of the
+     * {@link JobOperator} check the archive of the {@link ArchivingJobRepository} as well
+     */
+    protected JobLauncher createJobOperatorLauncher() throws Exception {
+        if (jobRepository == batchConfigurer.getJobRepository()) {
+            return batchConfigurer.getJobLauncher();
+        }
+        final SimpleJobLauncher jobLauncher = new SimpleJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.afterPropertiesSet();
+        return jobLauncher;
+    }
+
+    /**
+     * @return the {@link JobRepository} of the batch configurer, decorated by an {@link ArchivingJobRepository}, if
+     * the job executions are archived
+     */
+    protected JobRepository createJobRepository() throws Exception {
+        if (lightminJobExecutionDao instanceof ArchivingLightminJobExecutionDao) {
+            return new ArchivingJobRepository(batchConfigurer.getJobRepository(),
+                    (ArchivingLightminJobExecutionDao) lightminJobExecutionDao);
+        }
+        return batchConfigurer.getJobRepository();
+    }
+
     protected JobRegistry createJobRegistry() {
         return new MapJobRegistry();
     }
 
+    protected JobCountCache createJobCountCache() throws Exception {
+        return new JobCountCache(
+                lightminJobExecutionDao,
+                springBatchLightminConfigurationProperties.getJobCountReconciliationInterval());
+    }
+
+    protected JobExecutionPurger createJobExecutionPurger() throws Exception {
+        final RetentionPolicy retentionPolicy = new RetentionPolicy();
+        retentionPolicy.setMaxAge(springBatchLightminConfigurationProperties.getRetentionMaxAge());
+        retentionPolicy.setFailedMaxAge(springBatchLightminConfigurationProperties.getRetentionFailedMaxAge());
+        retentionPolicy.setMaxExecutionsPerJob(
+                springBatchLightminConfigurationProperties.getRetentionMaxExecutionsPerJob());
+        retentionPolicy.setChunkSize(springBatchLightminConfigurationProperties.getRetentionChunkSize());
+        return new JobExecutionPurger(
+                lightminJobExecutionDao,
+                batchConfigurer.getJobExplorer(),
+                jobCountCache,
+                retentionPolicy,
+                springBatchLightminConfigurationProperties.getRetentionPurgeInterval());
+    }
+
+    /**
+     * @return a {@link JobExecutionArchiver}, if the job executions are archived and an archive max age is configured,
+     * null otherwise
+     */
+    protected JobExecutionArchiver createJobExecutionArchiver() throws Exception {
+        final Long archiveMaxAge = springBatchLightminConfigurationProperties.getArchiveMaxAge();
+        if (archiveMaxAge == null || !(lightminJobExecutionDao instanceof ArchivingLightminJobExecutionDao)) {
+            return null;
+        }
+        return new JobExecutionArchiver(
+                (ArchivingLightminJobExecutionDao) lightminJobExecutionDao,
+                jobCountCache,
+                archiveMaxAge,
+                springBatchLightminConfigurationProperties.getArchiveChunkSize(),
+                springBatchLightminConfigurationProperties.getArchiveInterval());
+    }
+
     protected JobService createJobService() throws Exception {
         final JobService jobService = new DefaultJobService(
                 jobOperator,
                 jobRegistry,
                 batchConfigurer.getJobExplorer(),
-                lightminJobExecutionDao);
+                lightminJobExecutionDao,
+                jobCountCache);
         jobService.afterPropertiesSet();
         return jobService;
     }
 
     protected StepService createStepService() throws Exception {
-        final StepService stepService = new DefaultStepService(batchConfigurer.getJobExplorer());
+        final StepService stepService = new DefaultStepService(batchConfigurer.getJobExplorer(),
+                lightminJobExecutionDao);
         stepService.afterPropertiesSet();
         return stepService;
     }
@@ -2,8 +2,10 @@ package org.tuxdevelop.spring.batch.lightmin.configuration;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.configuration.DuplicateJobException;
 import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.job.AbstractJob;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
@@ -18,6 +20,8 @@ import org.tuxdevelop.spring.batch.lightmin.service.SchedulerService;
 import org.tuxdevelop.spring.batch.lightmin.util.CommonJobFactory;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -32,14 +36,24 @@ public class JobCreationListener implements ApplicationListener<ContextRefreshed
     private final AdminService adminService;
     private final SchedulerService schedulerService;
     private final ListenerService listenerService;
+    private final List<JobExecutionListener> jobExecutionListeners;
 
     public JobCreationListener(final ApplicationContext applicationContext, final JobRegistry jobRegistry,
                                final AdminService adminService, final SchedulerService schedulerService, final ListenerService listenerService) {
+        this(applicationContext, jobRegistry, adminService, schedulerService, listenerService,
+                Collections.<JobExecutionListener>emptyList());
+    }
+
+    public JobCreationListener(final ApplicationContext applicationContext, final JobRegistry jobRegistry,
+                               final AdminService adminService, final SchedulerService schedulerService,
+                               final ListenerService listenerService,
+                               final List<JobExecutionListener> jobExecutionListeners) {
         this.applicationContext = applicationContext;
         this.jobRegistry = jobRegistry;
         this.adminService = adminService;
         this.schedulerService = schedulerService;
         this.listenerService = listenerService;
+        this.jobExecutionListeners = jobExecutionListeners;
     }
 
     @Override
@@ -53,6 +67,11 @@ public class JobCreationListener implements ApplicationListener<ContextRefreshed
                 final CommonJobFactory commonJobFactory = new CommonJobFactory(job, jobName);
                 try {
                     jobRegistry.register(commonJobFactory);
+                    if (job instanceof AbstractJob) {
+                        for (final JobExecutionListener jobExecutionListener : jobExecutionListeners) {
+                            ((AbstractJob) job).registerJobExecutionListener(jobExecutionListener);
+                        }
+                    }
                 } catch (final DuplicateJobException e) {
                     log.error("Job with name: " + jobName + " is already registered!");
                 }
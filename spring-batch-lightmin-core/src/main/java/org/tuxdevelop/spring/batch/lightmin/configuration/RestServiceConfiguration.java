@@ -2,17 +2,30 @@ package org.tuxdevelop.spring.batch.lightmin.configuration;
 
 import org.springframework.batch.core.configuration.JobRegistry;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
 import org.tuxdevelop.spring.batch.lightmin.api.controller.JobConfigurationRestController;
 import org.tuxdevelop.spring.batch.lightmin.api.controller.JobLauncherRestController;
 import org.tuxdevelop.spring.batch.lightmin.api.controller.JobRestController;
 import org.tuxdevelop.spring.batch.lightmin.service.AdminService;
+import org.tuxdevelop.spring.batch.lightmin.service.BulkJobExecutionOperator;
+import org.tuxdevelop.spring.batch.lightmin.service.BulkJobLauncher;
+import org.tuxdevelop.spring.batch.lightmin.service.JobExecutionCompletionWatcher;
+import org.tuxdevelop.spring.batch.lightmin.service.JobExecutionPurger;
+import org.tuxdevelop.spring.batch.lightmin.service.JobLaunchDeduplicator;
 import org.tuxdevelop.spring.batch.lightmin.service.JobService;
+import org.tuxdevelop.spring.batch.lightmin.service.ResourceVersionTracker;
 import org.tuxdevelop.spring.batch.lightmin.service.StepService;
 import org.tuxdevelop.spring.batch.lightmin.support.ControllerServiceEntryBean;
 import org.tuxdevelop.spring.batch.lightmin.support.JobLauncherBean;
 import org.tuxdevelop.spring.batch.lightmin.support.ServiceEntry;
+import org.tuxdevelop.spring.batch.lightmin.util.SmileHttpMessageConverter;
+
+import java.util.List;
 
 /**
  * @author Marcel Becker
@@ -25,29 +38,56 @@ public class RestServiceConfiguration {
     public ServiceEntry serviceEntry(final AdminService adminService,
                                      final JobService jobService,
                                      final StepService stepService,
-                                     final JobLauncherBean jobLauncherBean) {
-        return new ControllerServiceEntryBean(adminService, jobService, stepService, jobLauncherBean);
+                                     final JobLauncherBean jobLauncherBean,
+                                     final JobExecutionPurger jobExecutionPurger,
+                                     final BulkJobExecutionOperator bulkJobExecutionOperator,
+                                     final SpringBatchLightminConfigurationProperties springBatchLightminConfigurationProperties) {
+        return new ControllerServiceEntryBean(adminService, jobService, stepService, jobLauncherBean,
+                jobExecutionPurger, springBatchLightminConfigurationProperties.getExecutionContextMaxLength(),
+                bulkJobExecutionOperator, springBatchLightminConfigurationProperties.getSearchMaxPageSize());
     }
 
     @Bean
     public JobConfigurationRestController jobConfigurationRestController(final ServiceEntry serviceEntry,
-                                                                         final JobRegistry jobRegistry) {
-        return new JobConfigurationRestController(serviceEntry, jobRegistry);
+                                                                         final JobRegistry jobRegistry,
+                                                                         final ResourceVersionTracker resourceVersionTracker) {
+        return new JobConfigurationRestController(serviceEntry, jobRegistry, resourceVersionTracker);
+    }
+
+    @Bean
+    public JobRestController jobRestController(final ServiceEntry serviceEntry,
+                                               final ResourceVersionTracker resourceVersionTracker) {
+        return new JobRestController(serviceEntry, resourceVersionTracker);
     }
 
     @Bean
-    public JobRestController jobRestController(final ServiceEntry serviceEntry) {
-        return new JobRestController(serviceEntry);
+    public JobLauncherRestController jobLauncherRestController(final ServiceEntry serviceEntry,
+                                                               final SpringBatchLightminConfigurationProperties springBatchLightminConfigurationProperties) {
+        return new JobLauncherRestController(serviceEntry,
+                springBatchLightminConfigurationProperties.getLaunchCompletionTimeout());
     }
 
     @Bean
-    public JobLauncherRestController jobLauncherRestController(final ServiceEntry serviceEntry) {
-        return new JobLauncherRestController(serviceEntry);
+    public JobLauncherBean jobLauncherBean(@Qualifier("defaultAsyncJobLauncher") final JobLauncher defaultAsyncJobLauncher,
+                                           final JobRegistry jobRegistry,
+                                           final JobExecutionCompletionWatcher jobExecutionCompletionWatcher,
+                                           final BulkJobLauncher bulkJobLauncher,
+                                           final JobLaunchDeduplicator jobLaunchDeduplicator) {
+        return new JobLauncherBean(defaultAsyncJobLauncher, jobRegistry, jobExecutionCompletionWatcher,
+                bulkJobLauncher, jobLaunchDeduplicator);
     }
 
+    /**
+     * Appends the Smile converter behind the converters of the application, so JSON stays the default representation
+     * and Smile is only written to clients asking for it
+     */
     @Bean
-    public JobLauncherBean jobLauncherBean(final JobLauncher defaultAsyncJobLauncher,
-                                           final JobRegistry jobRegistry) {
-        return new JobLauncherBean(defaultAsyncJobLauncher, jobRegistry);
+    public WebMvcConfigurer smileWebMvcConfigurer() {
+        return new WebMvcConfigurerAdapter() {
+            @Override
+            public void extendMessageConverters(final List<HttpMessageConverter<?>> converters) {
+                converters.add(new SmileHttpMessageConverter());
+            }
+        };
     }
 }
@@ -4,7 +4,10 @@ import lombok.Data;
 import org.springframework.batch.core.repository.dao.AbstractJdbcBatchMetadataDao;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.util.StringUtils;
+import org.tuxdevelop.spring.batch.lightmin.api.controller.JobLauncherRestController;
+import org.tuxdevelop.spring.batch.lightmin.dao.RetentionPolicy;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminConfigurationException;
+import org.tuxdevelop.spring.batch.lightmin.support.ControllerServiceEntryBean;
 
 @Data
 @ConfigurationProperties(prefix = "spring.batch.lightmin")
@@ -12,6 +15,30 @@ public class SpringBatchLightminConfigurationProperties {
 
     private static final Boolean FORCE_MAP_DEFAULT = Boolean.FALSE;
     private static final String DEFAULT_DATA_SOURCE_NAME = "dataSource";
+    private static final String DEFAULT_CONFIGURATION_FILE_DIRECTORY = "lightmin";
+    private static final Integer DEFAULT_CONFIGURATION_FILE_JOURNAL_SIZE = 4 * 1024 * 1024;
+    private static final Integer DEFAULT_CONFIGURATION_FILE_COMPACTION_THRESHOLD = 10000;
+    private static final Long DEFAULT_JOB_COUNT_RECONCILIATION_INTERVAL = 60000L;
+    private static final Integer DEFAULT_RETENTION_CHUNK_SIZE = RetentionPolicy.DEFAULT_CHUNK_SIZE;
+    private static final Long DEFAULT_RETENTION_PURGE_INTERVAL = 0L;
+    private static final Integer DEFAULT_ARCHIVE_CHUNK_SIZE = 500;
+    private static final Long DEFAULT_ARCHIVE_INTERVAL = 3600000L;
+    private static final Integer DEFAULT_EXECUTION_CONTEXT_MAX_LENGTH =
+            ControllerServiceEntryBean.DEFAULT_EXECUTION_CONTEXT_MAX_LENGTH;
+    private static final Integer DEFAULT_SEARCH_MAX_PAGE_SIZE = ControllerServiceEntryBean.DEFAULT_SEARCH_MAX_PAGE_SIZE;
+    private static final Integer DEFAULT_LAUNCH_POOL_SIZE = 10;
+    private static final Integer DEFAULT_LAUNCH_QUEUE_CAPACITY = 100;
+    private static final Long DEFAULT_LAUNCH_COMPLETION_POLL_INTERVAL = 500L;
+    private static final Long DEFAULT_LAUNCH_COMPLETION_TIMEOUT = JobLauncherRestController.DEFAULT_COMPLETION_TIMEOUT;
+    private static final Long DEFAULT_LAUNCH_IDEMPOTENCY_KEY_TIME_TO_LIVE = 86400000L;
+    private static final Integer DEFAULT_LAUNCH_IDEMPOTENCY_KEY_CACHE_SIZE = 10000;
+    private static final Long DEFAULT_LAUNCH_IDEMPOTENCY_KEY_LAUNCH_TIMEOUT = 60000L;
+    private static final Integer DEFAULT_BULK_LAUNCH_ADMISSION_THREADS = 4;
+    private static final Integer DEFAULT_BULK_LAUNCH_MAX_PENDING_ITEMS = 10000;
+    private static final Integer DEFAULT_BULK_OPERATION_THREADS = 4;
+    private static final Double DEFAULT_BULK_OPERATION_RATE = 10.0;
+    private static final Integer DEFAULT_BULK_OPERATION_MAX_PENDING_ITEMS = 1000;
+    private static final Integer DEFAULT_ASYNCHRONOUS_JOB_THREADS = 20;
 
     @Deprecated
     private Boolean repositoryForceMap = FORCE_MAP_DEFAULT;
@@ -28,6 +55,57 @@ public class SpringBatchLightminConfigurationProperties {
     private String dataSourceName = DEFAULT_DATA_SOURCE_NAME;
     private String configurationDatabaseSchema;
 
+    private String configurationFileDirectory = DEFAULT_CONFIGURATION_FILE_DIRECTORY;
+    private Integer configurationFileJournalSize = DEFAULT_CONFIGURATION_FILE_JOURNAL_SIZE;
+    private Integer configurationFileCompactionThreshold = DEFAULT_CONFIGURATION_FILE_COMPACTION_THRESHOLD;
+    private Boolean configurationFileForceWrite = Boolean.FALSE;
+
+    private Long jobCountReconciliationInterval = DEFAULT_JOB_COUNT_RECONCILIATION_INTERVAL;
+
+    private Long retentionMaxAge;
+    private Long retentionFailedMaxAge;
+    private Integer retentionMaxExecutionsPerJob;
+    private Integer retentionChunkSize = DEFAULT_RETENTION_CHUNK_SIZE;
+    private Long retentionPurgeInterval = DEFAULT_RETENTION_PURGE_INTERVAL;
+
+    private String archiveTablePrefix;
+    private Long archiveMaxAge;
+    private Integer archiveChunkSize = DEFAULT_ARCHIVE_CHUNK_SIZE;
+    private Long archiveInterval = DEFAULT_ARCHIVE_INTERVAL;
+
+    private Integer executionContextMaxLength = DEFAULT_EXECUTION_CONTEXT_MAX_LENGTH;
+
+    /**
+     * max page size of job execution searches, larger page sizes are capped
+     */
+    private Integer searchMaxPageSize = DEFAULT_SEARCH_MAX_PAGE_SIZE;
+
+    private Integer launchPoolSize = DEFAULT_LAUNCH_POOL_SIZE;
+    private Integer launchQueueCapacity = DEFAULT_LAUNCH_QUEUE_CAPACITY;
+    private Long launchCompletionPollInterval = DEFAULT_LAUNCH_COMPLETION_POLL_INTERVAL;
+    private Long launchCompletionTimeout = DEFAULT_LAUNCH_COMPLETION_TIMEOUT;
+    private Long launchIdempotencyKeyTimeToLive = DEFAULT_LAUNCH_IDEMPOTENCY_KEY_TIME_TO_LIVE;
+    private Integer launchIdempotencyKeyCacheSize = DEFAULT_LAUNCH_IDEMPOTENCY_KEY_CACHE_SIZE;
+    /**
+     * time in millis after which the reservation of an idempotency key without a created job execution is taken over
+     */
+    private Long launchIdempotencyKeyLaunchTimeout = DEFAULT_LAUNCH_IDEMPOTENCY_KEY_LAUNCH_TIMEOUT;
+    private Integer bulkLaunchAdmissionThreads = DEFAULT_BULK_LAUNCH_ADMISSION_THREADS;
+    private Integer bulkLaunchMaxPendingItems = DEFAULT_BULK_LAUNCH_MAX_PENDING_ITEMS;
+
+    private Integer bulkOperationThreads = DEFAULT_BULK_OPERATION_THREADS;
+    /**
+     * max count of stops and restarts per second of all bulk operations
+     */
+    private Double bulkOperationRate = DEFAULT_BULK_OPERATION_RATE;
+    private Integer bulkOperationMaxPendingItems = DEFAULT_BULK_OPERATION_MAX_PENDING_ITEMS;
+
+    /**
+     * count of threads running the jobs of schedulers and listeners with an asynchronous task executor and of bulk
+     * restarts
+     */
+    private Integer asynchronousJobThreads = DEFAULT_ASYNCHRONOUS_JOB_THREADS;
+
     public void setConfigurationDatabaseSchema(final String configurationDatabaseSchema) {
         if (configurationDatabaseSchema != null) {
             if (StringUtils.isEmpty(configurationDatabaseSchema)) {
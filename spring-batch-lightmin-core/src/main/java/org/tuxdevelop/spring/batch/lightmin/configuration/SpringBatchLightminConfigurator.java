@@ -2,8 +2,12 @@ package org.tuxdevelop.spring.batch.lightmin.configuration;
 
 import org.springframework.batch.core.configuration.JobRegistry;
 import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.repository.JobRepository;
 import org.tuxdevelop.spring.batch.lightmin.admin.repository.JobConfigurationRepository;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobLaunchKeyDao;
 import org.tuxdevelop.spring.batch.lightmin.dao.LightminJobExecutionDao;
+import org.tuxdevelop.spring.batch.lightmin.service.JobCountCache;
+import org.tuxdevelop.spring.batch.lightmin.service.JobExecutionPurger;
 import org.tuxdevelop.spring.batch.lightmin.service.JobService;
 import org.tuxdevelop.spring.batch.lightmin.service.StepService;
 
@@ -33,11 +37,32 @@ public interface SpringBatchLightminConfigurator {
      */
     JobRegistry getJobRegistry();
 
+    /**
+     * @return the {@link org.springframework.batch.core.repository.JobRepository} of the launchers, which checks the
+     * archive before job executions are created, if job executions are archived
+     */
+    JobRepository getJobRepository();
+
     /**
      * @return an instance of {@link org.tuxdevelop.spring.batch.lightmin.dao.LightminJobExecutionDao}
      */
     LightminJobExecutionDao getLightminJobExecutionDao();
 
+    /**
+     * @return an instance of {@link org.tuxdevelop.spring.batch.lightmin.service.JobCountCache}
+     */
+    JobCountCache getJobCountCache();
+
+    /**
+     * @return an instance of {@link org.tuxdevelop.spring.batch.lightmin.service.JobExecutionPurger}
+     */
+    JobExecutionPurger getJobExecutionPurger();
+
+    /**
+     * @return an instance of {@link org.tuxdevelop.spring.batch.lightmin.dao.JobLaunchKeyDao}
+     */
+    JobLaunchKeyDao getJobLaunchKeyDao();
+
     /**
      * @return the current value of configured table.prefix
      */
@@ -0,0 +1,109 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+
+import java.util.Collection;
+
+/**
+ * {@link JobRepository}, which checks the archive of an {@link ArchivingLightminJobExecutionDao} before a
+ * {@link JobExecution} is created. The executions of an archived {@link JobInstance} are not part of the Spring Batch
+ * tables any more, so the delegate cannot detect, that the job instance has already been completed.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class ArchivingJobRepository implements JobRepository {
+
+    private final JobRepository delegate;
+    private final ArchivingLightminJobExecutionDao archivingLightminJobExecutionDao;
+
+    public ArchivingJobRepository(final JobRepository delegate,
+                                  final ArchivingLightminJobExecutionDao archivingLightminJobExecutionDao) {
+        this.delegate = delegate;
+        this.archivingLightminJobExecutionDao = archivingLightminJobExecutionDao;
+    }
+
+    @Override
+    public boolean isJobInstanceExists(final String jobName, final JobParameters jobParameters) {
+        return delegate.isJobInstanceExists(jobName, jobParameters);
+    }
+
+    @Override
+    public JobInstance createJobInstance(final String jobName, final JobParameters jobParameters) {
+        return delegate.createJobInstance(jobName, jobParameters);
+    }
+
+    @Override
+    public JobExecution createJobExecution(final JobInstance jobInstance,
+                                           final JobParameters jobParameters,
+                                           final String jobConfigurationLocation) {
+        return delegate.createJobExecution(jobInstance, jobParameters, jobConfigurationLocation);
+    }
+
+    /**
+     * @throws JobInstanceAlreadyCompleteException if the job instance has been completed, including archived job
+     *                                             instances
+     */
+    @Override
+    public JobExecution createJobExecution(final String jobName, final JobParameters jobParameters)
+            throws JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
+        if (archivingLightminJobExecutionDao.isArchivedJobInstanceComplete(jobName, jobParameters)) {
+            throw new JobInstanceAlreadyCompleteException("A job instance already exists and is complete for "
+                    + "parameters=" + jobParameters + ", its executions have been archived. If you want to run this "
+                    + "job again, change the parameters.");
+        }
+        return delegate.createJobExecution(jobName, jobParameters);
+    }
+
+    @Override
+    public void update(final JobExecution jobExecution) {
+        delegate.update(jobExecution);
+    }
+
+    @Override
+    public void add(final StepExecution stepExecution) {
+        delegate.add(stepExecution);
+    }
+
+    @Override
+    public void addAll(final Collection<StepExecution> stepExecutions) {
+        delegate.addAll(stepExecutions);
+    }
+
+    @Override
+    public void update(final StepExecution stepExecution) {
+        delegate.update(stepExecution);
+    }
+
+    @Override
+    public void updateExecutionContext(final StepExecution stepExecution) {
+        delegate.updateExecutionContext(stepExecution);
+    }
+
+    @Override
+    public void updateExecutionContext(final JobExecution jobExecution) {
+        delegate.updateExecutionContext(jobExecution);
+    }
+
+    @Override
+    public StepExecution getLastStepExecution(final JobInstance jobInstance, final String stepName) {
+        return delegate.getLastStepExecution(jobInstance, stepName);
+    }
+
+    @Override
+    public int getStepExecutionCount(final JobInstance jobInstance, final String stepName) {
+        return delegate.getStepExecutionCount(jobInstance, stepName);
+    }
+
+    @Override
+    public JobExecution getLastJobExecution(final String jobName, final JobParameters jobParameters) {
+        return delegate.getLastJobExecution(jobName, jobParameters);
+    }
+}
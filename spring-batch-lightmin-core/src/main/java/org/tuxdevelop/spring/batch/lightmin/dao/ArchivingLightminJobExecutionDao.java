@@ -0,0 +1,375 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Entity;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * {@link LightminJobExecutionDao} on top of the Spring Batch tables, the hot tier, and a set of archive tables with
+ * the same layout but a different table prefix. Finished {@link JobExecution}s are moved into the archive by
+ * {@link #archiveJobExecutions(Collection)}, their {@link JobInstance}s are copied into the archive and kept in the hot
+ * tier.
+ * <p>
+ * Queries are answered by the hot tier. The archive is only read, if a page of the hot tier is not full or if the
+ * newest archived element of the query is newer than the last element of the hot page, i.e. the requested page or
+ * cursor goes past the hot range. In that case the pages of both tiers are merged by descending id.
+ * <p>
+ * The {@link ExecutionStatistics} are computed from the hot tier only.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class ArchivingLightminJobExecutionDao implements LightminJobExecutionDao {
+
+    private final JdbcLightminJobExecutionDao hotLightminJobExecutionDao;
+    private final JdbcLightminJobExecutionDao archiveLightminJobExecutionDao;
+    private final String archiveTablePrefix;
+
+    public ArchivingLightminJobExecutionDao(final JdbcLightminJobExecutionDao hotLightminJobExecutionDao,
+                                            final JdbcLightminJobExecutionDao archiveLightminJobExecutionDao,
+                                            final String archiveTablePrefix) {
+        this.hotLightminJobExecutionDao = hotLightminJobExecutionDao;
+        this.archiveLightminJobExecutionDao = archiveLightminJobExecutionDao;
+        this.archiveTablePrefix = archiveTablePrefix;
+    }
+
+    @Override
+    public List<JobExecution> findJobExecutions(final JobInstance jobInstance, final int start, final int count) {
+        final List<JobExecution> hotJobExecutions = hotLightminJobExecutionDao.findJobExecutions(jobInstance, start,
+                count);
+        if (isWithinHotRange(hotJobExecutions, count, getNewestArchivedJobExecutionId(jobInstance.getJobName()))) {
+            return hotJobExecutions;
+        }
+        return merge(hotLightminJobExecutionDao.findJobExecutions(jobInstance, 0, start + count),
+                archiveLightminJobExecutionDao.findJobExecutions(jobInstance, 0, start + count), start, count);
+    }
+
+    @Override
+    public List<JobExecution> findJobExecutionsAfter(final JobInstance jobInstance,
+                                                     final Long jobExecutionId,
+                                                     final int count) {
+        final List<JobExecution> hotJobExecutions = hotLightminJobExecutionDao.findJobExecutionsAfter(jobInstance,
+                jobExecutionId, count);
+        if (isWithinHotRange(hotJobExecutions, count, getNewestArchivedJobExecutionId(jobInstance.getJobName()))) {
+            return hotJobExecutions;
+        }
+        return merge(hotJobExecutions,
+                archiveLightminJobExecutionDao.findJobExecutionsAfter(jobInstance, jobExecutionId, count), 0, count);
+    }
+
+    @Override
+    public int getJobExecutionCount(final JobInstance jobInstance) {
+        return hotLightminJobExecutionDao.getJobExecutionCount(jobInstance)
+                + archiveLightminJobExecutionDao.getJobExecutionCount(jobInstance);
+    }
+
+    @Override
+    public List<JobExecution> getJobExecutions(final String jobName, final int start, final int count) {
+        final List<JobExecution> hotJobExecutions = hotLightminJobExecutionDao.getJobExecutions(jobName, start, count);
+        if (isWithinHotRange(hotJobExecutions, count, getNewestArchivedJobExecutionId(jobName))) {
+            return hotJobExecutions;
+        }
+        return merge(hotLightminJobExecutionDao.getJobExecutions(jobName, 0, start + count),
+                archiveLightminJobExecutionDao.getJobExecutions(jobName, 0, start + count), start, count);
+    }
+
+    @Override
+    public List<JobExecution> getJobExecutionsAfter(final String jobName, final Long jobExecutionId, final int count) {
+        final List<JobExecution> hotJobExecutions = hotLightminJobExecutionDao.getJobExecutionsAfter(jobName,
+                jobExecutionId, count);
+        if (isWithinHotRange(hotJobExecutions, count, getNewestArchivedJobExecutionId(jobName))) {
+            return hotJobExecutions;
+        }
+        return merge(hotJobExecutions,
+                archiveLightminJobExecutionDao.getJobExecutionsAfter(jobName, jobExecutionId, count), 0, count);
+    }
+
+    /**
+     * Job instances archived by earlier versions are only part of the archive, they are looked up there
+     */
+    @Override
+    public JobInstance getJobInstance(final Long jobInstanceId) {
+        final JobInstance jobInstance = hotLightminJobExecutionDao.getJobInstance(jobInstanceId);
+        return jobInstance != null ? jobInstance : archiveLightminJobExecutionDao.getJobInstance(jobInstanceId);
+    }
+
+    /**
+     * Archived {@link JobInstance}s are part of both tiers, they are returned once
+     */
+    @Override
+    public List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
+        final List<JobInstance> hotJobInstances = hotLightminJobExecutionDao.getJobInstances(jobName, start, count);
+        if (isWithinHotRange(hotJobInstances, count, getNewestArchivedJobInstanceId(jobName))) {
+            return hotJobInstances;
+        }
+        return merge(hotLightminJobExecutionDao.getJobInstances(jobName, 0, start + count),
+                archiveLightminJobExecutionDao.getJobInstances(jobName, 0, start + count), start, count);
+    }
+
+    /**
+     * Counts the {@link JobInstance}s of the hot tier and those, which are only part of the archive
+     */
+    @Override
+    public int getJobInstanceCount(final String jobName) {
+        return hotLightminJobExecutionDao.getJobInstanceCount(jobName)
+                + hotLightminJobExecutionDao.getArchivedJobInstanceCount(jobName, archiveTablePrefix);
+    }
+
+    /**
+     * Archiving moves executions from the hot tier into the archive, so the versions of both tiers are combined
+     */
+    @Override
+    public String getJobExecutionsVersion(final String jobName) {
+        return hotLightminJobExecutionDao.getJobExecutionsVersion(jobName) + "-"
+                + archiveLightminJobExecutionDao.getJobExecutionsVersion(jobName);
+    }
+
+    /**
+     * Archived {@link JobInstance}s are part of both tiers, they are returned once
+     */
+    @Override
+    public List<JobInstance> getJobInstancesAfter(final String jobName, final Long jobInstanceId, final int count) {
+        final List<JobInstance> hotJobInstances = hotLightminJobExecutionDao.getJobInstancesAfter(jobName,
+                jobInstanceId, count);
+        if (isWithinHotRange(hotJobInstances, count, getNewestArchivedJobInstanceId(jobName))) {
+            return hotJobInstances;
+        }
+        return merge(hotJobInstances,
+                archiveLightminJobExecutionDao.getJobInstancesAfter(jobName, jobInstanceId, count), 0, count);
+    }
+
+    @Override
+    public List<JobExecution> searchJobExecutions(final JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                                  final Long jobExecutionId,
+                                                  final int count) {
+        final List<JobExecution> hotJobExecutions = hotLightminJobExecutionDao.searchJobExecutions(
+                jobExecutionSearchCriteria, jobExecutionId, count);
+        if (isWithinHotRange(hotJobExecutions, count, getNewestArchivedJobExecutionId(jobExecutionSearchCriteria))) {
+            return hotJobExecutions;
+        }
+        return merge(hotJobExecutions, archiveLightminJobExecutionDao.searchJobExecutions(jobExecutionSearchCriteria,
+                jobExecutionId, count), 0, count);
+    }
+
+    @Override
+    public List<Long> findJobExecutionIds(final JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                          final Long jobExecutionId,
+                                          final int count) {
+        final List<Long> hotJobExecutionIds = hotLightminJobExecutionDao.findJobExecutionIds(
+                jobExecutionSearchCriteria, jobExecutionId, count);
+        final Long newestArchivedJobExecutionId = getNewestArchivedJobExecutionId(jobExecutionSearchCriteria);
+        if (newestArchivedJobExecutionId == null || (hotJobExecutionIds.size() == count
+                && newestArchivedJobExecutionId < hotJobExecutionIds.get(count - 1))) {
+            return hotJobExecutionIds;
+        }
+        final List<Long> jobExecutionIds = new ArrayList<>(hotJobExecutionIds);
+        jobExecutionIds.addAll(archiveLightminJobExecutionDao.findJobExecutionIds(jobExecutionSearchCriteria,
+                jobExecutionId, count));
+        Collections.sort(jobExecutionIds, Collections.reverseOrder());
+        return new ArrayList<>(jobExecutionIds.subList(0, Math.min(count, jobExecutionIds.size())));
+    }
+
+    /**
+     * Streams the matching {@link JobExecution}s of the hot tier followed by the archived ones
+     */
+    @Override
+    public void streamJobExecutions(final JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                    final JobExecutionCallback jobExecutionCallback) throws IOException {
+        hotLightminJobExecutionDao.streamJobExecutions(jobExecutionSearchCriteria, jobExecutionCallback);
+        archiveLightminJobExecutionDao.streamJobExecutions(jobExecutionSearchCriteria, jobExecutionCallback);
+    }
+
+    /**
+     * Deletes the given {@link JobExecution}s from both tiers. The {@link JobInstance}s of archived executions are
+     * removed from the hot tier, once they have been removed from the archive, and are counted once.
+     */
+    @Override
+    public PurgeCount deleteJobExecutions(final Collection<Long> jobExecutionIds) {
+        final List<Long> archivedJobInstanceIds = archiveLightminJobExecutionDao.findJobInstanceIds(jobExecutionIds);
+        final PurgeCount purgeCount = hotLightminJobExecutionDao.deleteJobExecutions(jobExecutionIds);
+        purgeCount.add(archiveLightminJobExecutionDao.deleteJobExecutions(jobExecutionIds));
+        if (!archivedJobInstanceIds.isEmpty()) {
+            hotLightminJobExecutionDao.deleteArchivedJobInstances(archivedJobInstanceIds, archiveTablePrefix);
+        }
+        return purgeCount;
+    }
+
+    @Override
+    public boolean isDeleteSupported() {
+        return hotLightminJobExecutionDao.isDeleteSupported() && archiveLightminJobExecutionDao.isDeleteSupported();
+    }
+
+    /**
+     * Computed from the hot tier only
+     */
+    @Override
+    public ExecutionStatistics getExecutionStatistics(final String jobName,
+                                                      final Date startTimeFrom,
+                                                      final Date startTimeTo) {
+        return hotLightminJobExecutionDao.getExecutionStatistics(jobName, startTimeFrom, startTimeTo);
+    }
+
+    /**
+     * Executions without any {@link org.springframework.batch.core.StepExecution} of the hot tier are looked up in the
+     * archive
+     */
+    @Override
+    public void attachStepExecutions(final Collection<JobExecution> jobExecutions) {
+        hotLightminJobExecutionDao.attachStepExecutions(jobExecutions);
+        final List<JobExecution> archivedJobExecutions = new ArrayList<>();
+        for (final JobExecution jobExecution : jobExecutions) {
+            if (jobExecution.getStepExecutions().isEmpty()) {
+                archivedJobExecutions.add(jobExecution);
+            }
+        }
+        if (!archivedJobExecutions.isEmpty()) {
+            archiveLightminJobExecutionDao.attachStepExecutions(archivedJobExecutions);
+        }
+    }
+
+    /**
+     * Ids, which are not found within the hot tier, are looked up in the archive
+     */
+    @Override
+    public List<JobExecution> getJobExecutionsWithStepExecutions(final Collection<Long> jobExecutionIds) {
+        final List<JobExecution> hotJobExecutions =
+                hotLightminJobExecutionDao.getJobExecutionsWithStepExecutions(jobExecutionIds);
+        if (hotJobExecutions.size() == jobExecutionIds.size()) {
+            return hotJobExecutions;
+        }
+        final Set<Long> archivedJobExecutionIds = new HashSet<>(jobExecutionIds);
+        for (final JobExecution jobExecution : hotJobExecutions) {
+            archivedJobExecutionIds.remove(jobExecution.getId());
+        }
+        return merge(hotJobExecutions,
+                archiveLightminJobExecutionDao.getJobExecutionsWithStepExecutions(archivedJobExecutionIds), 0,
+                jobExecutionIds.size());
+    }
+
+    @Override
+    public JobExecution getJobExecution(final Long jobExecutionId) {
+        final JobExecution jobExecution = hotLightminJobExecutionDao.getJobExecution(jobExecutionId);
+        return jobExecution != null ? jobExecution : archiveLightminJobExecutionDao.getJobExecution(jobExecutionId);
+    }
+
+    @Override
+    public SerializedExecutionContext getJobExecutionContext(final Long jobExecutionId, final int maxLength) {
+        final SerializedExecutionContext serializedExecutionContext =
+                hotLightminJobExecutionDao.getJobExecutionContext(jobExecutionId, maxLength);
+        return serializedExecutionContext != null ? serializedExecutionContext
+                : archiveLightminJobExecutionDao.getJobExecutionContext(jobExecutionId, maxLength);
+    }
+
+    @Override
+    public SerializedExecutionContext getStepExecutionContext(final Long jobExecutionId,
+                                                              final Long stepExecutionId,
+                                                              final int maxLength) {
+        final SerializedExecutionContext serializedExecutionContext =
+                hotLightminJobExecutionDao.getStepExecutionContext(jobExecutionId, stepExecutionId, maxLength);
+        return serializedExecutionContext != null ? serializedExecutionContext
+                : archiveLightminJobExecutionDao.getStepExecutionContext(jobExecutionId, stepExecutionId, maxLength);
+    }
+
+    /**
+     * Retrieves the ids of the completed {@link JobExecution}s of the hot tier, which have ended before the given
+     * date, in descending order
+     *
+     * @param endTimeTo      exclusive upper bound of the end time
+     * @param jobExecutionId id of the last execution of the previous chunk, null for the first chunk
+     * @param count          maximum number of ids
+     * @return the ids of the archivable job executions
+     */
+    public List<Long> findArchivableJobExecutionIds(final Date endTimeTo, final Long jobExecutionId, final int count) {
+        final JobExecutionSearchCriteria jobExecutionSearchCriteria = new JobExecutionSearchCriteria();
+        jobExecutionSearchCriteria.getStatuses().add(BatchStatus.COMPLETED);
+        jobExecutionSearchCriteria.setEndTimeTo(endTimeTo);
+        return hotLightminJobExecutionDao.findJobExecutionIds(jobExecutionSearchCriteria, jobExecutionId, count);
+    }
+
+    /**
+     * Moves the given {@link JobExecution}s of the hot tier into the archive within a single transaction
+     *
+     * @param jobExecutionIds ids of the job executions to archive
+     * @return the counts of the archived metadata
+     */
+    public PurgeCount archiveJobExecutions(final Collection<Long> jobExecutionIds) {
+        return hotLightminJobExecutionDao.archiveJobExecutions(jobExecutionIds, archiveTablePrefix);
+    }
+
+    /**
+     * Checks the archive for a completed {@link JobInstance}, which Spring Batch cannot see, because its executions
+     * have been moved out of the hot tier
+     *
+     * @param jobName       name of the {@link org.springframework.batch.core.Job}
+     * @param jobParameters the parameters of the launch
+     * @return true, if an archived job instance with the same identifying parameters has been completed
+     */
+    public boolean isArchivedJobInstanceComplete(final String jobName, final JobParameters jobParameters) {
+        return archiveLightminJobExecutionDao.isJobInstanceComplete(jobName, jobParameters);
+    }
+
+    private Long getNewestArchivedJobInstanceId(final String jobName) {
+        final List<JobInstance> jobInstances = archiveLightminJobExecutionDao.getJobInstancesAfter(jobName, null, 1);
+        return jobInstances.isEmpty() ? null : jobInstances.get(0).getId();
+    }
+
+    private Long getNewestArchivedJobExecutionId(final String jobName) {
+        final JobExecutionSearchCriteria jobExecutionSearchCriteria = new JobExecutionSearchCriteria();
+        jobExecutionSearchCriteria.setJobName(jobName);
+        return getNewestArchivedJobExecutionId(jobExecutionSearchCriteria);
+    }
+
+    private Long getNewestArchivedJobExecutionId(final JobExecutionSearchCriteria jobExecutionSearchCriteria) {
+        final List<Long> jobExecutionIds = archiveLightminJobExecutionDao.findJobExecutionIds(
+                jobExecutionSearchCriteria, null, 1);
+        return jobExecutionIds.isEmpty() ? null : jobExecutionIds.get(0);
+    }
+
+    /**
+     * @return true, if the archive is empty for the query or if the hot page is full and all of its elements are newer
+     * than the newest archived element
+     */
+    private static boolean isWithinHotRange(final List<? extends Entity> hotPage,
+                                            final int count,
+                                            final Long newestArchivedId) {
+        return newestArchivedId == null
+                || (hotPage.size() == count && newestArchivedId < hotPage.get(count - 1).getId());
+    }
+
+    /**
+     * Merges both pages by descending id, elements of the hot page take precedence over archived elements with the
+     * same id
+     */
+    private static <T extends Entity> List<T> merge(final List<T> hotPage,
+                                                    final List<T> archivePage,
+                                                    final int start,
+                                                    final int count) {
+        final Map<Long, T> entities = new TreeMap<>(Collections.<Long>reverseOrder());
+        for (final T entity : hotPage) {
+            entities.put(entity.getId(), entity);
+        }
+        for (final T entity : archivePage) {
+            if (!entities.containsKey(entity.getId())) {
+                entities.put(entity.getId(), entity);
+            }
+        }
+        final List<T> merged = new ArrayList<>(entities.values());
+        if (start >= merged.size()) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(merged.subList(start, Math.min(start + count, merged.size())));
+    }
+}
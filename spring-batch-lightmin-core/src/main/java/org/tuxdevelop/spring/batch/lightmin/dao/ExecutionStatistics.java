@@ -0,0 +1,30 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Aggregated statistics of the finished executions of a {@link org.springframework.batch.core.Job} or of a
+ * {@link org.springframework.batch.core.Step} within a time window. Durations are given in milliseconds, the
+ * percentiles are nearest rank percentiles of a histogram and deviate at most 1/16 from the exact value. The read and write counts of a job are the sums of the counts of its
+ * steps.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class ExecutionStatistics {
+
+    private String name;
+    private int executionCount;
+    private int completedCount;
+    private long totalDuration;
+    private long durationP50;
+    private long durationP95;
+    private long durationP99;
+    private long readCount;
+    private long writeCount;
+    private List<ExecutionStatistics> stepStatistics = new ArrayList<>();
+}
@@ -0,0 +1,125 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Collects the counts and durations of executions with the same name and builds the {@link ExecutionStatistics}
+ * of them. Not thread safe, an accumulator is used for the computation of a single statistic.
+ * <p>
+ * Durations are counted in a histogram of a fixed size instead of being kept, so the memory of an accumulator does not
+ * grow with the number of executions. Durations below 32 ms have a bucket each, above every power of two is split into
+ * 16 buckets. A bucket keeps the count and the sum of its durations, a percentile is the mean of the bucket holding the
+ * nearest rank, which deviates at most 1/16 from the exact value and is exact, if all durations of the bucket are
+ * equal.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+final class ExecutionStatisticsAccumulator {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKET_COUNT = 2 * SUB_BUCKET_COUNT;
+    private static final int BUCKET_COUNT = getBucket(Long.MAX_VALUE) + 1;
+
+    private final String name;
+    private int[] bucketCounts;
+    private long[] bucketDurations;
+    private int durationCount;
+    private long totalDuration;
+    private int executionCount;
+    private int completedCount;
+    private long readCount;
+    private long writeCount;
+
+    ExecutionStatisticsAccumulator(final String name) {
+        this.name = name;
+    }
+
+    void addCounts(final int executionCount, final int completedCount, final long readCount, final long writeCount) {
+        this.executionCount += executionCount;
+        this.completedCount += completedCount;
+        this.readCount += readCount;
+        this.writeCount += writeCount;
+    }
+
+    void addDuration(final Date startTime, final Date endTime) {
+        if (bucketCounts == null) {
+            bucketCounts = new int[BUCKET_COUNT];
+            bucketDurations = new long[BUCKET_COUNT];
+        }
+        final long duration = Math.max(0L, endTime.getTime() - startTime.getTime());
+        final int bucket = getBucket(duration);
+        bucketCounts[bucket]++;
+        bucketDurations[bucket] += duration;
+        durationCount++;
+        totalDuration += duration;
+    }
+
+    ExecutionStatistics build() {
+        final ExecutionStatistics executionStatistics = new ExecutionStatistics();
+        executionStatistics.setName(name);
+        executionStatistics.setExecutionCount(executionCount);
+        executionStatistics.setCompletedCount(completedCount);
+        executionStatistics.setReadCount(readCount);
+        executionStatistics.setWriteCount(writeCount);
+        executionStatistics.setTotalDuration(totalDuration);
+        executionStatistics.setDurationP50(getPercentile(50));
+        executionStatistics.setDurationP95(getPercentile(95));
+        executionStatistics.setDurationP99(getPercentile(99));
+        return executionStatistics;
+    }
+
+    /**
+     * Builds the statistics of a job and attaches the statistics of its steps, the read and write counts of the job
+     * are the sums of the counts of the steps
+     */
+    static ExecutionStatistics build(final ExecutionStatisticsAccumulator jobAccumulator,
+                                     final Collection<ExecutionStatisticsAccumulator> stepAccumulators) {
+        final ExecutionStatistics jobStatistics = jobAccumulator.build();
+        for (final ExecutionStatisticsAccumulator stepAccumulator : stepAccumulators) {
+            final ExecutionStatistics stepStatistics = stepAccumulator.build();
+            jobStatistics.setReadCount(jobStatistics.getReadCount() + stepStatistics.getReadCount());
+            jobStatistics.setWriteCount(jobStatistics.getWriteCount() + stepStatistics.getWriteCount());
+            jobStatistics.getStepStatistics().add(stepStatistics);
+        }
+        return jobStatistics;
+    }
+
+    static ExecutionStatisticsAccumulator get(final Map<String, ExecutionStatisticsAccumulator> accumulators,
+                                              final String name) {
+        ExecutionStatisticsAccumulator accumulator = accumulators.get(name);
+        if (accumulator == null) {
+            accumulator = new ExecutionStatisticsAccumulator(name);
+            accumulators.put(name, accumulator);
+        }
+        return accumulator;
+    }
+
+    private long getPercentile(final int percentile) {
+        if (durationCount == 0) {
+            return 0L;
+        }
+        final int rank = Math.max((int) Math.ceil(percentile / 100.0 * durationCount), 1);
+        int count = 0;
+        int bucket = 0;
+        while (count + bucketCounts[bucket] < rank) {
+            count += bucketCounts[bucket++];
+        }
+        return bucketDurations[bucket] / bucketCounts[bucket];
+    }
+
+    /*
+     * durations below LINEAR_BUCKET_COUNT are their own bucket, larger ones are located by their highest bit and the
+     * SUB_BUCKET_BITS bits below it
+     */
+    private static int getBucket(final long duration) {
+        if (duration < LINEAR_BUCKET_COUNT) {
+            return (int) duration;
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(duration) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (duration >>> shift);
+    }
+}
@@ -0,0 +1,108 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import org.springframework.batch.core.repository.dao.AbstractJdbcBatchMetadataDao;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Stores the idempotency keys of job launches in the table JOB_LAUNCH_KEY, whose primary key on the idempotency key
+ * makes the check and the insert of a key atomic.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class JdbcJobLaunchKeyDao implements JobLaunchKeyDao {
+
+    private static final String INSERT_STATEMENT = "INSERT INTO %sJOB_LAUNCH_KEY (launch_key, job_name, "
+            + "job_execution_id, create_time) VALUES (?, ?, ?, ?)";
+    private static final String GET_QUERY = "SELECT launch_key, job_name, job_execution_id, create_time FROM "
+            + "%sJOB_LAUNCH_KEY WHERE launch_key = ?";
+    private static final String UPDATE_STATEMENT = "UPDATE %sJOB_LAUNCH_KEY SET job_execution_id = ? WHERE "
+            + "launch_key = ? AND job_execution_id IS NULL AND create_time = ?";
+    private static final String TAKE_OVER_STATEMENT = "UPDATE %sJOB_LAUNCH_KEY SET job_name = ?, create_time = ? "
+            + "WHERE launch_key = ? AND job_execution_id IS NULL AND create_time = ?";
+    private static final String DELETE_STATEMENT = "DELETE FROM %sJOB_LAUNCH_KEY WHERE launch_key = ? "
+            + "AND create_time = ?";
+    private static final String DELETE_CREATED_BEFORE_STATEMENT = "DELETE FROM %sJOB_LAUNCH_KEY WHERE create_time < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String tablePrefix;
+
+    public JdbcJobLaunchKeyDao(final JdbcTemplate jdbcTemplate, final String tablePrefix) {
+        this.jdbcTemplate = jdbcTemplate;
+        if (tablePrefix != null && !tablePrefix.isEmpty()) {
+            this.tablePrefix = tablePrefix;
+        } else {
+            this.tablePrefix = AbstractJdbcBatchMetadataDao.DEFAULT_TABLE_PREFIX;
+        }
+    }
+
+    @Override
+    public boolean add(final JobLaunchKey jobLaunchKey) {
+        try {
+            jdbcTemplate.update(String.format(INSERT_STATEMENT, tablePrefix),
+                    new Object[]{jobLaunchKey.getKey(), jobLaunchKey.getJobName(), jobLaunchKey.getJobExecutionId(),
+                            jobLaunchKey.getCreateTime()},
+                    new int[]{Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.TIMESTAMP});
+            return true;
+        } catch (final DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public JobLaunchKey get(final String key) {
+        final List<JobLaunchKey> jobLaunchKeys = jdbcTemplate.query(String.format(GET_QUERY, tablePrefix),
+                new JobLaunchKeyRowMapper(), key);
+        return jobLaunchKeys.isEmpty() ? null : jobLaunchKeys.get(0);
+    }
+
+    @Override
+    public boolean updateJobExecutionId(final JobLaunchKey jobLaunchKey, final Long jobExecutionId) {
+        return jdbcTemplate.update(String.format(UPDATE_STATEMENT, tablePrefix),
+                new Object[]{jobExecutionId, jobLaunchKey.getKey(), jobLaunchKey.getCreateTime()},
+                new int[]{Types.BIGINT, Types.VARCHAR, Types.TIMESTAMP}) == 1;
+    }
+
+    @Override
+    public boolean takeOver(final JobLaunchKey staleJobLaunchKey, final JobLaunchKey jobLaunchKey) {
+        return jdbcTemplate.update(String.format(TAKE_OVER_STATEMENT, tablePrefix),
+                new Object[]{jobLaunchKey.getJobName(), jobLaunchKey.getCreateTime(), staleJobLaunchKey.getKey(),
+                        staleJobLaunchKey.getCreateTime()},
+                new int[]{Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR, Types.TIMESTAMP}) == 1;
+    }
+
+    @Override
+    public boolean remove(final JobLaunchKey jobLaunchKey) {
+        return jdbcTemplate.update(String.format(DELETE_STATEMENT, tablePrefix),
+                new Object[]{jobLaunchKey.getKey(), jobLaunchKey.getCreateTime()},
+                new int[]{Types.VARCHAR, Types.TIMESTAMP}) == 1;
+    }
+
+    @Override
+    public int removeCreatedBefore(final Date createTime) {
+        return jdbcTemplate.update(String.format(DELETE_CREATED_BEFORE_STATEMENT, tablePrefix),
+                new Object[]{createTime}, new int[]{Types.TIMESTAMP});
+    }
+
+    private static class JobLaunchKeyRowMapper implements RowMapper<JobLaunchKey> {
+
+        @Override
+        public JobLaunchKey mapRow(final ResultSet resultSet, final int rowNum) throws SQLException {
+            final JobLaunchKey jobLaunchKey = new JobLaunchKey();
+            jobLaunchKey.setKey(resultSet.getString(1));
+            jobLaunchKey.setJobName(resultSet.getString(2));
+            final long jobExecutionId = resultSet.getLong(3);
+            jobLaunchKey.setJobExecutionId(resultSet.wasNull() ? null : jobExecutionId);
+            jobLaunchKey.setCreateTime(resultSet.getTimestamp(4));
+            return jobLaunchKey;
+        }
+    }
+}
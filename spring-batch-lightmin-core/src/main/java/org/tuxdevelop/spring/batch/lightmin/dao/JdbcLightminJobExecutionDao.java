@@ -1,26 +1,49 @@
 package org.tuxdevelop.spring.batch.lightmin.dao;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import javax.sql.DataSource;
 
 import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.DefaultJobKeyGenerator;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobKeyGenerator;
+import org.springframework.batch.core.JobParameter;
+import org.springframework.batch.core.JobParameter.ParameterType;
 import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.repository.dao.JdbcJobExecutionDao;
 import org.springframework.batch.item.database.Order;
 import org.springframework.batch.item.database.PagingQueryProvider;
 import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.batch.support.DatabaseType;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
 public class JdbcLightminJobExecutionDao extends JdbcJobExecutionDao
         implements LightminJobExecutionDao, InitializingBean {
@@ -28,6 +51,175 @@ public class JdbcLightminJobExecutionDao extends JdbcJobExecutionDao
     private static final String FIELDS = "E.JOB_EXECUTION_ID, E.START_TIME, E.END_TIME, E.STATUS, E.EXIT_CODE, E.EXIT_MESSAGE, "
             + "E.CREATE_TIME, E.LAST_UPDATED, E.VERSION, I.JOB_INSTANCE_ID, I.JOB_NAME";
 
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
+    /**
+     * rows fetched per round trip by the cursor of {@link #streamJobExecutions}
+     */
+    static final int STREAM_FETCH_SIZE = 1000;
+
+    /**
+     * MySQL Connector/J only streams the rows of a forward only, read only result set with this fetch size, any other
+     * value reads the whole result into memory unless the JDBC URL contains useCursorFetch=true
+     */
+    static final int MYSQL_STREAM_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private static final String STREAM_JOB_EXECUTIONS = "SELECT " + FIELDS + ", P.KEY_NAME, P.TYPE_CD, "
+            + "P.STRING_VAL, P.DATE_VAL, P.LONG_VAL, P.DOUBLE_VAL, P.IDENTIFYING "
+            + "FROM %PREFIX%JOB_EXECUTION E JOIN %PREFIX%JOB_INSTANCE I ON E.JOB_INSTANCE_ID = I.JOB_INSTANCE_ID "
+            + "LEFT OUTER JOIN %PREFIX%JOB_EXECUTION_PARAMS P ON P.JOB_EXECUTION_ID = E.JOB_EXECUTION_ID";
+
+    private static final String GET_JOB_EXECUTIONS_FROM_IDS = "SELECT " + FIELDS + " "
+            + "FROM %PREFIX%JOB_EXECUTION E, %PREFIX%JOB_INSTANCE I WHERE E.JOB_INSTANCE_ID = I.JOB_INSTANCE_ID "
+            + "AND E.JOB_EXECUTION_ID IN (%IN%) ORDER BY E.JOB_EXECUTION_ID DESC";
+
+    private static final String GET_JOB_EXECUTION_CONTEXT = "SELECT SHORT_CONTEXT, SERIALIZED_CONTEXT "
+            + "FROM %PREFIX%JOB_EXECUTION_CONTEXT WHERE JOB_EXECUTION_ID = ?";
+
+    private static final String GET_STEP_EXECUTION_CONTEXT = "SELECT C.SHORT_CONTEXT, C.SERIALIZED_CONTEXT "
+            + "FROM %PREFIX%STEP_EXECUTION_CONTEXT C, %PREFIX%STEP_EXECUTION S "
+            + "WHERE C.STEP_EXECUTION_ID = S.STEP_EXECUTION_ID AND S.STEP_EXECUTION_ID = ? AND S.JOB_EXECUTION_ID = ?";
+
+    private static final String FIND_PARAMS_FROM_IDS = "SELECT JOB_EXECUTION_ID, KEY_NAME, TYPE_CD, "
+            + "STRING_VAL, DATE_VAL, LONG_VAL, DOUBLE_VAL, IDENTIFYING "
+            + "FROM %PREFIX%JOB_EXECUTION_PARAMS WHERE JOB_EXECUTION_ID IN (%IN%)";
+
+    private static final String GET_STEP_EXECUTIONS_FROM_IDS = "SELECT STEP_EXECUTION_ID, STEP_NAME, START_TIME, "
+            + "END_TIME, STATUS, COMMIT_COUNT, READ_COUNT, FILTER_COUNT, WRITE_COUNT, EXIT_CODE, EXIT_MESSAGE, "
+            + "READ_SKIP_COUNT, WRITE_SKIP_COUNT, PROCESS_SKIP_COUNT, ROLLBACK_COUNT, LAST_UPDATED, VERSION, "
+            + "JOB_EXECUTION_ID FROM %PREFIX%STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (%IN%) "
+            + "ORDER BY STEP_EXECUTION_ID";
+
+    private static final String PARAMETER_CRITERIA = "EXISTS (SELECT 1 FROM %PREFIX%JOB_EXECUTION_PARAMS P "
+            + "WHERE P.JOB_EXECUTION_ID = E.JOB_EXECUTION_ID AND P.KEY_NAME = ? AND P.TYPE_CD = ? AND P.%VALUE% = ?)";
+
+    private static final String STATISTICS_CRITERIA = "E.JOB_INSTANCE_ID = I.JOB_INSTANCE_ID AND I.JOB_NAME = ? "
+            + "AND E.START_TIME >= ? AND E.START_TIME < ?";
+
+    private static final String GET_JOB_EXECUTION_STATISTICS = "SELECT COUNT(*), "
+            + "SUM(CASE WHEN E.STATUS = 'COMPLETED' THEN 1 ELSE 0 END) "
+            + "FROM %PREFIX%JOB_EXECUTION E, %PREFIX%JOB_INSTANCE I WHERE " + STATISTICS_CRITERIA
+            + " AND E.END_TIME IS NOT NULL";
+
+    private static final String GET_JOB_EXECUTION_DURATIONS = "SELECT E.START_TIME, E.END_TIME "
+            + "FROM %PREFIX%JOB_EXECUTION E, %PREFIX%JOB_INSTANCE I WHERE " + STATISTICS_CRITERIA
+            + " AND E.END_TIME IS NOT NULL";
+
+    private static final String GET_STEP_EXECUTION_STATISTICS = "SELECT S.STEP_NAME, COUNT(*), "
+            + "SUM(CASE WHEN S.STATUS = 'COMPLETED' THEN 1 ELSE 0 END), SUM(S.READ_COUNT), SUM(S.WRITE_COUNT) "
+            + "FROM %PREFIX%STEP_EXECUTION S, %PREFIX%JOB_EXECUTION E, %PREFIX%JOB_INSTANCE I "
+            + "WHERE S.JOB_EXECUTION_ID = E.JOB_EXECUTION_ID AND " + STATISTICS_CRITERIA
+            + " AND S.END_TIME IS NOT NULL GROUP BY S.STEP_NAME";
+
+    private static final String GET_STEP_EXECUTION_DURATIONS = "SELECT S.STEP_NAME, S.START_TIME, S.END_TIME "
+            + "FROM %PREFIX%STEP_EXECUTION S, %PREFIX%JOB_EXECUTION E, %PREFIX%JOB_INSTANCE I "
+            + "WHERE S.JOB_EXECUTION_ID = E.JOB_EXECUTION_ID AND " + STATISTICS_CRITERIA
+            + " AND S.END_TIME IS NOT NULL";
+
+    private static final String DELETE_STEP_EXECUTION_CONTEXTS = "DELETE FROM %PREFIX%STEP_EXECUTION_CONTEXT "
+            + "WHERE STEP_EXECUTION_ID IN (SELECT STEP_EXECUTION_ID FROM %PREFIX%STEP_EXECUTION "
+            + "WHERE JOB_EXECUTION_ID IN (%IN%))";
+
+    private static final String DELETE_STEP_EXECUTIONS = "DELETE FROM %PREFIX%STEP_EXECUTION "
+            + "WHERE JOB_EXECUTION_ID IN (%IN%)";
+
+    private static final String DELETE_JOB_EXECUTION_CONTEXTS = "DELETE FROM %PREFIX%JOB_EXECUTION_CONTEXT "
+            + "WHERE JOB_EXECUTION_ID IN (%IN%)";
+
+    private static final String DELETE_JOB_EXECUTION_PARAMS = "DELETE FROM %PREFIX%JOB_EXECUTION_PARAMS "
+            + "WHERE JOB_EXECUTION_ID IN (%IN%)";
+
+    private static final String FIND_JOB_INSTANCE_IDS_FROM_IDS = "SELECT DISTINCT JOB_INSTANCE_ID "
+            + "FROM %PREFIX%JOB_EXECUTION WHERE JOB_EXECUTION_ID IN (%IN%)";
+
+    private static final String DELETE_JOB_EXECUTIONS = "DELETE FROM %PREFIX%JOB_EXECUTION "
+            + "WHERE JOB_EXECUTION_ID IN (%IN%)";
+
+    private static final String FIND_JOB_EXECUTION_IDS_OF_JOB_INSTANCES = "SELECT E.JOB_EXECUTION_ID "
+            + "FROM %PREFIX%JOB_EXECUTION E WHERE E.JOB_INSTANCE_ID IN (SELECT S.JOB_INSTANCE_ID "
+            + "FROM %PREFIX%JOB_EXECUTION S WHERE S.JOB_EXECUTION_ID IN (%IN%))";
+
+    private static final String FIND_JOB_EXECUTION_IDS_OF_LAST_JOB_EXECUTIONS = "SELECT E.JOB_EXECUTION_ID "
+            + "FROM %PREFIX%JOB_EXECUTION E WHERE E.JOB_INSTANCE_ID IN (SELECT S.JOB_INSTANCE_ID "
+            + "FROM %PREFIX%JOB_EXECUTION S WHERE S.JOB_EXECUTION_ID IN (%IN%) AND NOT EXISTS (SELECT 1 "
+            + "FROM %PREFIX%JOB_EXECUTION N WHERE N.JOB_INSTANCE_ID = S.JOB_INSTANCE_ID "
+            + "AND N.JOB_EXECUTION_ID > S.JOB_EXECUTION_ID))";
+
+    private static final String DELETE_JOB_INSTANCES = "DELETE FROM %PREFIX%JOB_INSTANCE "
+            + "WHERE JOB_INSTANCE_ID IN (%IN%) AND NOT EXISTS (SELECT 1 FROM %PREFIX%JOB_EXECUTION E "
+            + "WHERE E.JOB_INSTANCE_ID = %PREFIX%JOB_INSTANCE.JOB_INSTANCE_ID)";
+
+    private static final String DELETE_ARCHIVED_JOB_INSTANCES = "DELETE FROM %PREFIX%JOB_INSTANCE "
+            + "WHERE JOB_INSTANCE_ID IN (%IN%) AND NOT EXISTS (SELECT 1 FROM %PREFIX%JOB_EXECUTION E "
+            + "WHERE E.JOB_INSTANCE_ID = %PREFIX%JOB_INSTANCE.JOB_INSTANCE_ID) AND NOT EXISTS (SELECT 1 "
+            + "FROM %ARCHIVE%JOB_INSTANCE A WHERE A.JOB_INSTANCE_ID = %PREFIX%JOB_INSTANCE.JOB_INSTANCE_ID)";
+
+    private static final String ARCHIVE_JOB_INSTANCES = "INSERT INTO %ARCHIVE%JOB_INSTANCE "
+            + "(JOB_INSTANCE_ID, VERSION, JOB_NAME, JOB_KEY) "
+            + "SELECT I.JOB_INSTANCE_ID, I.VERSION, I.JOB_NAME, I.JOB_KEY FROM %PREFIX%JOB_INSTANCE I "
+            + "WHERE I.JOB_INSTANCE_ID IN (SELECT E.JOB_INSTANCE_ID FROM %PREFIX%JOB_EXECUTION E "
+            + "WHERE E.JOB_EXECUTION_ID IN (%IN%)) AND NOT EXISTS (SELECT 1 FROM %ARCHIVE%JOB_INSTANCE A "
+            + "WHERE A.JOB_INSTANCE_ID = I.JOB_INSTANCE_ID)";
+
+    private static final String ARCHIVE_JOB_EXECUTIONS = "INSERT INTO %ARCHIVE%JOB_EXECUTION "
+            + "(JOB_EXECUTION_ID, VERSION, JOB_INSTANCE_ID, CREATE_TIME, START_TIME, END_TIME, STATUS, EXIT_CODE, "
+            + "EXIT_MESSAGE, LAST_UPDATED, JOB_CONFIGURATION_LOCATION) "
+            + "SELECT JOB_EXECUTION_ID, VERSION, JOB_INSTANCE_ID, CREATE_TIME, START_TIME, END_TIME, STATUS, "
+            + "EXIT_CODE, EXIT_MESSAGE, LAST_UPDATED, JOB_CONFIGURATION_LOCATION FROM %PREFIX%JOB_EXECUTION "
+            + "WHERE JOB_EXECUTION_ID IN (%IN%)";
+
+    private static final String ARCHIVE_JOB_EXECUTION_PARAMS = "INSERT INTO %ARCHIVE%JOB_EXECUTION_PARAMS "
+            + "(JOB_EXECUTION_ID, TYPE_CD, KEY_NAME, STRING_VAL, DATE_VAL, LONG_VAL, DOUBLE_VAL, IDENTIFYING) "
+            + "SELECT JOB_EXECUTION_ID, TYPE_CD, KEY_NAME, STRING_VAL, DATE_VAL, LONG_VAL, DOUBLE_VAL, IDENTIFYING "
+            + "FROM %PREFIX%JOB_EXECUTION_PARAMS WHERE JOB_EXECUTION_ID IN (%IN%)";
+
+    private static final String ARCHIVE_JOB_EXECUTION_CONTEXTS = "INSERT INTO %ARCHIVE%JOB_EXECUTION_CONTEXT "
+            + "(JOB_EXECUTION_ID, SHORT_CONTEXT, SERIALIZED_CONTEXT) "
+            + "SELECT JOB_EXECUTION_ID, SHORT_CONTEXT, SERIALIZED_CONTEXT FROM %PREFIX%JOB_EXECUTION_CONTEXT "
+            + "WHERE JOB_EXECUTION_ID IN (%IN%)";
+
+    private static final String ARCHIVE_STEP_EXECUTIONS = "INSERT INTO %ARCHIVE%STEP_EXECUTION "
+            + "(STEP_EXECUTION_ID, VERSION, STEP_NAME, JOB_EXECUTION_ID, START_TIME, END_TIME, STATUS, COMMIT_COUNT, "
+            + "READ_COUNT, FILTER_COUNT, WRITE_COUNT, READ_SKIP_COUNT, WRITE_SKIP_COUNT, PROCESS_SKIP_COUNT, "
+            + "ROLLBACK_COUNT, EXIT_CODE, EXIT_MESSAGE, LAST_UPDATED) "
+            + "SELECT STEP_EXECUTION_ID, VERSION, STEP_NAME, JOB_EXECUTION_ID, START_TIME, END_TIME, STATUS, "
+            + "COMMIT_COUNT, READ_COUNT, FILTER_COUNT, WRITE_COUNT, READ_SKIP_COUNT, WRITE_SKIP_COUNT, "
+            + "PROCESS_SKIP_COUNT, ROLLBACK_COUNT, EXIT_CODE, EXIT_MESSAGE, LAST_UPDATED FROM %PREFIX%STEP_EXECUTION "
+            + "WHERE JOB_EXECUTION_ID IN (%IN%)";
+
+    private static final String ARCHIVE_STEP_EXECUTION_CONTEXTS = "INSERT INTO %ARCHIVE%STEP_EXECUTION_CONTEXT "
+            + "(STEP_EXECUTION_ID, SHORT_CONTEXT, SERIALIZED_CONTEXT) "
+            + "SELECT STEP_EXECUTION_ID, SHORT_CONTEXT, SERIALIZED_CONTEXT FROM %PREFIX%STEP_EXECUTION_CONTEXT "
+            + "WHERE STEP_EXECUTION_ID IN (SELECT STEP_EXECUTION_ID FROM %PREFIX%STEP_EXECUTION "
+            + "WHERE JOB_EXECUTION_ID IN (%IN%))";
+
+    /**
+     * copies the metadata into the archive tables in foreign key order
+     */
+    private static final String[] ARCHIVE_QUERIES = {ARCHIVE_JOB_INSTANCES, ARCHIVE_JOB_EXECUTIONS,
+            ARCHIVE_JOB_EXECUTION_PARAMS, ARCHIVE_JOB_EXECUTION_CONTEXTS, ARCHIVE_STEP_EXECUTIONS,
+            ARCHIVE_STEP_EXECUTION_CONTEXTS};
+
+    private static final String GET_JOB_INSTANCE = "SELECT JOB_INSTANCE_ID, JOB_NAME FROM %PREFIX%JOB_INSTANCE "
+            + "WHERE JOB_INSTANCE_ID = ?";
+
+    private static final String GET_JOB_INSTANCE_COUNT = "SELECT COUNT(*) FROM %PREFIX%JOB_INSTANCE "
+            + "WHERE JOB_NAME = ?";
+
+    private static final String GET_JOB_EXECUTIONS_VERSION = "SELECT COUNT(*), MIN(E.JOB_EXECUTION_ID), "
+            + "MAX(E.JOB_EXECUTION_ID) FROM %PREFIX%JOB_EXECUTION E, %PREFIX%JOB_INSTANCE I "
+            + "WHERE E.JOB_INSTANCE_ID = I.JOB_INSTANCE_ID AND I.JOB_NAME = ?";
+
+    private static final String GET_ARCHIVED_JOB_INSTANCE_COUNT = "SELECT COUNT(*) FROM %ARCHIVE%JOB_INSTANCE A "
+            + "WHERE A.JOB_NAME = ? AND NOT EXISTS (SELECT 1 FROM %PREFIX%JOB_INSTANCE I "
+            + "WHERE I.JOB_INSTANCE_ID = A.JOB_INSTANCE_ID)";
+
+    private static final String GET_COMPLETE_JOB_EXECUTION_COUNT = "SELECT COUNT(*) "
+            + "FROM %PREFIX%JOB_EXECUTION E, %PREFIX%JOB_INSTANCE I WHERE E.JOB_INSTANCE_ID = I.JOB_INSTANCE_ID "
+            + "AND I.JOB_NAME = ? AND I.JOB_KEY = ? AND E.STATUS IN ('COMPLETED', 'ABANDONED')";
+
+    private final JobKeyGenerator<JobParameters> jobKeyGenerator = new DefaultJobKeyGenerator();
+
     private final String GET_EXECUTION_COUNT = "SELECT " +
             "COUNT(*) " +
             "FROM %PREFIX%JOB_EXECUTION" +
@@ -35,8 +227,12 @@ public class JdbcLightminJobExecutionDao extends JdbcJobExecutionDao
 
     private PagingQueryProvider byJobNamePagingQueryProvider;
     private PagingQueryProvider byJobInstanceIdExecutionsPagingQueryProvider;
+    private PagingQueryProvider byJobNameInstancesPagingQueryProvider;
 
     private final DataSource dataSource;
+    private String databaseType;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate streamJdbcTemplate;
 
     public JdbcLightminJobExecutionDao(final DataSource dataSource) throws Exception {
         this.dataSource = dataSource;
@@ -45,21 +241,29 @@ public class JdbcLightminJobExecutionDao extends JdbcJobExecutionDao
     @Override
     public List<JobExecution> findJobExecutions(final JobInstance jobInstance, final int start, final int count) {
         if (start <= 0) {
-            return getJdbcTemplate().query(byJobInstanceIdExecutionsPagingQueryProvider.generateFirstPageQuery(count),
-                    new JobExecutionRowMapper(jobInstance), jobInstance.getInstanceId());
+            return findJobExecutionsAfter(jobInstance, null, count);
         }
         try {
             final Long startAfterValue = getJdbcTemplate().queryForObject(
                     byJobInstanceIdExecutionsPagingQueryProvider.generateJumpToItemQuery(start, count), Long.class,
                     jobInstance.getInstanceId());
-            return getJdbcTemplate().query(
-                    byJobInstanceIdExecutionsPagingQueryProvider.generateRemainingPagesQuery(count),
-                    new JobExecutionRowMapper(jobInstance), jobInstance.getInstanceId(), startAfterValue);
+            return findJobExecutionsAfter(jobInstance, startAfterValue, count);
         } catch (final IncorrectResultSizeDataAccessException e) {
             return Collections.emptyList();
         }
     }
 
+    @Override
+    public List<JobExecution> findJobExecutionsAfter(final JobInstance jobInstance, final Long jobExecutionId,
+                                                     final int count) {
+        if (jobExecutionId == null) {
+            return loadPage(byJobInstanceIdExecutionsPagingQueryProvider.generateFirstPageQuery(count), jobInstance,
+                    jobInstance.getInstanceId());
+        }
+        return loadPage(byJobInstanceIdExecutionsPagingQueryProvider.generateRemainingPagesQuery(count),
+                jobInstance, jobInstance.getInstanceId(), jobExecutionId);
+    }
+
     @Override
     public int getJobExecutionCount(final JobInstance jobInstance) {
         return getJdbcTemplate().queryForObject(getQuery(GET_EXECUTION_COUNT), Integer.class,
@@ -69,51 +273,500 @@ public class JdbcLightminJobExecutionDao extends JdbcJobExecutionDao
     @Override
     public List<JobExecution> getJobExecutions(final String jobName, final int start, final int count) {
         if (start <= 0) {
-            return getJdbcTemplate().query(byJobNamePagingQueryProvider.generateFirstPageQuery(count),
-                    new JobExecutionRowMapper(), jobName);
+            return getJobExecutionsAfter(jobName, null, count);
         }
         try {
             final Long startAfterValue = getJdbcTemplate().queryForObject(
                     byJobNamePagingQueryProvider.generateJumpToItemQuery(start, count), Long.class, jobName);
-            return getJdbcTemplate().query(byJobNamePagingQueryProvider.generateRemainingPagesQuery(count),
-                    new JobExecutionRowMapper(), jobName, startAfterValue);
+            return getJobExecutionsAfter(jobName, startAfterValue, count);
         } catch (final IncorrectResultSizeDataAccessException e) {
             return Collections.emptyList();
         }
     }
 
+    @Override
+    public List<JobExecution> getJobExecutionsAfter(final String jobName, final Long jobExecutionId, final int count) {
+        if (jobExecutionId == null) {
+            return loadPage(byJobNamePagingQueryProvider.generateFirstPageQuery(count), null, jobName);
+        }
+        return loadPage(byJobNamePagingQueryProvider.generateRemainingPagesQuery(count), null, jobName,
+                jobExecutionId);
+    }
+
+    @Override
+    public JobInstance getJobInstance(final Long jobInstanceId) {
+        final List<JobInstance> jobInstances = getJdbcTemplate().query(getQuery(GET_JOB_INSTANCE),
+                new JobInstanceRowMapper(), jobInstanceId);
+        return jobInstances.isEmpty() ? null : jobInstances.get(0);
+    }
+
+    @Override
+    public List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
+        if (start <= 0) {
+            return getJobInstancesAfter(jobName, null, count);
+        }
+        try {
+            final Long startAfterValue = getJdbcTemplate().queryForObject(
+                    byJobNameInstancesPagingQueryProvider.generateJumpToItemQuery(start, count), Long.class, jobName);
+            return getJobInstancesAfter(jobName, startAfterValue, count);
+        } catch (final IncorrectResultSizeDataAccessException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public int getJobInstanceCount(final String jobName) {
+        return getJdbcTemplate().queryForObject(getQuery(GET_JOB_INSTANCE_COUNT), Integer.class, jobName);
+    }
+
+    @Override
+    public String getJobExecutionsVersion(final String jobName) {
+        return getJdbcTemplate().queryForObject(getQuery(GET_JOB_EXECUTIONS_VERSION), new RowMapper<String>() {
+            @Override
+            public String mapRow(final ResultSet resultSet, final int rowNum) throws SQLException {
+                return resultSet.getLong(1) + "-" + resultSet.getLong(2) + "-" + resultSet.getLong(3);
+            }
+        }, jobName);
+    }
+
     /**
-     * Ported from
-     * {@link org.springframework.batch.core.repository.dao.JdbcJobExecutionDao}
+     * Counts the {@link JobInstance}s of a job, which are only part of the archive tables with the given prefix. Job
+     * instances archived by earlier versions have been removed from the Spring Batch tables.
+     *
+     * @param jobName            name of the {@link org.springframework.batch.core.Job}
+     * @param archiveTablePrefix table prefix of the archive tables
+     * @return the count of job instances, which are not part of the Spring Batch tables
      */
-    private final class JobExecutionRowMapper implements RowMapper<JobExecution> {
+    public int getArchivedJobInstanceCount(final String jobName, final String archiveTablePrefix) {
+        return getJdbcTemplate().queryForObject(getQuery(GET_ARCHIVED_JOB_INSTANCE_COUNT)
+                .replace("%ARCHIVE%", archiveTablePrefix), Integer.class, jobName);
+    }
 
-        private final JobInstance jobInstance;
-        private JobParameters jobParameters;
+    /**
+     * Mirrors the check of {@link org.springframework.batch.core.repository.support.SimpleJobRepository}, a job
+     * instance with identifying parameters is complete, if one of its executions has been completed or abandoned
+     *
+     * @param jobName       name of the {@link org.springframework.batch.core.Job}
+     * @param jobParameters the parameters of the launch
+     * @return true, if a complete {@link JobInstance} of the job with the same identifying parameters exists
+     */
+    public boolean isJobInstanceComplete(final String jobName, final JobParameters jobParameters) {
+        return !jobParameters.isEmpty() && getJdbcTemplate().queryForObject(
+                getQuery(GET_COMPLETE_JOB_EXECUTION_COUNT), Integer.class, jobName,
+                jobKeyGenerator.generateKey(jobParameters)) > 0;
+    }
 
-        public JobExecutionRowMapper() {
-            this(null);
+    @Override
+    public List<JobInstance> getJobInstancesAfter(final String jobName, final Long jobInstanceId, final int count) {
+        if (jobInstanceId == null) {
+            return getJdbcTemplate().query(byJobNameInstancesPagingQueryProvider.generateFirstPageQuery(count),
+                    new JobInstanceRowMapper(), jobName);
         }
+        return getJdbcTemplate().query(byJobNameInstancesPagingQueryProvider.generateRemainingPagesQuery(count),
+                new JobInstanceRowMapper(), jobName, jobInstanceId);
+    }
 
-        public JobExecutionRowMapper(final JobInstance jobInstance) {
-            this.jobInstance = jobInstance;
+    @Override
+    public List<JobExecution> searchJobExecutions(final JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                                  final Long jobExecutionId,
+                                                  final int count) {
+        final List<Object> args = new ArrayList<>();
+        final String sql = getSearchQuery(FIELDS, jobExecutionSearchCriteria, jobExecutionId, count, args);
+        return loadPage(sql, null, args.toArray());
+    }
+
+    @Override
+    public List<Long> findJobExecutionIds(final JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                          final Long jobExecutionId,
+                                          final int count) {
+        final List<Object> args = new ArrayList<>();
+        final String sql = getSearchQuery("E.JOB_EXECUTION_ID", jobExecutionSearchCriteria, jobExecutionId, count,
+                args);
+        return getJdbcTemplate().queryForList(sql, Long.class, args.toArray());
+    }
+
+    /**
+     * Runs a single forward only cursor over the job executions joined with their parameters. Rows are fetched in
+     * chunks of {@value #STREAM_FETCH_SIZE}, on MySQL row by row, only the current job execution is kept in memory.
+     */
+    @Override
+    public void streamJobExecutions(final JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                    final JobExecutionCallback jobExecutionCallback) throws IOException {
+        final List<Object> args = new ArrayList<>();
+        final String whereClause = getSearchClause(jobExecutionSearchCriteria, args);
+        final String sql = getQuery(STREAM_JOB_EXECUTIONS) + (whereClause == null ? "" : " WHERE " + whereClause)
+                + " ORDER BY E.JOB_EXECUTION_ID DESC";
+        final StreamingRowCallbackHandler streamingRowCallbackHandler =
+                new StreamingRowCallbackHandler(jobExecutionCallback);
+        try {
+            streamJdbcTemplate.query(sql, args.toArray(), streamingRowCallbackHandler);
+            streamingRowCallbackHandler.flush();
+        } catch (final StreamingException e) {
+            throw e.getCause();
         }
+    }
 
-        @Override
-        public JobExecution mapRow(final ResultSet resultSet, final int rowNumber) throws SQLException {
-            final Long id = Long.valueOf(resultSet.getLong(1));
-            final String jobConfigurationLocation = resultSet.getString(10);
-            if (jobParameters == null) {
-                jobParameters = getJobParameters(id);
+    /**
+     * Deletes in foreign key order, step execution contexts, step executions, job execution contexts, job execution
+     * parameters, job executions and finally the job instances without any remaining execution. If the last
+     * execution of a job instance is given, all executions of the job instance are deleted.
+     */
+    @Override
+    public PurgeCount deleteJobExecutions(final Collection<Long> jobExecutionIds) {
+        return transactionTemplate.execute(new TransactionCallback<PurgeCount>() {
+            @Override
+            public PurgeCount doInTransaction(final TransactionStatus status) {
+                final PurgeCount purgeCount = new PurgeCount();
+                final Set<Long> deletedJobExecutionIds = new TreeSet<>(Collections.<Long>reverseOrder());
+                deletedJobExecutionIds.addAll(jobExecutionIds);
+                deletedJobExecutionIds.addAll(findJobExecutionIds(FIND_JOB_EXECUTION_IDS_OF_LAST_JOB_EXECUTIONS,
+                        jobExecutionIds));
+                final List<Long> ids = new ArrayList<>(deletedJobExecutionIds);
+                for (int i = 0; i < ids.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+                    delete(ids.subList(i, Math.min(i + IN_CLAUSE_CHUNK_SIZE, ids.size())).toArray(), purgeCount,
+                            Boolean.TRUE);
+                }
+                return purgeCount;
             }
+        });
+    }
 
-            final JobExecution jobExecution;
-            if (jobInstance == null) {
-                jobExecution = new JobExecution(id, jobParameters, jobConfigurationLocation);
-            } else {
-                jobExecution = new JobExecution(jobInstance, id, jobParameters, jobConfigurationLocation);
+    @Override
+    public boolean isDeleteSupported() {
+        return Boolean.TRUE;
+    }
+
+    /**
+     * Moves the given {@link JobExecution}s together with all other executions of their {@link JobInstance}s within
+     * a single transaction into the archive tables with the given table prefix. The job instances are copied, if not
+     * archived yet, followed by the job executions, parameters, execution contexts and step executions in foreign key
+     * order. Afterwards the executions are deleted as by {@link #deleteJobExecutions(Collection)}, but the job
+     * instances are kept, so Spring Batch does not create a new job instance for the same identifying parameters.
+     *
+     * @param jobExecutionIds    ids of the {@link JobExecution}s to archive
+     * @param archiveTablePrefix table prefix of the archive tables
+     * @return the counts of archived job executions and step executions
+     */
+    public PurgeCount archiveJobExecutions(final Collection<Long> jobExecutionIds, final String archiveTablePrefix) {
+        return transactionTemplate.execute(new TransactionCallback<PurgeCount>() {
+            @Override
+            public PurgeCount doInTransaction(final TransactionStatus status) {
+                final PurgeCount purgeCount = new PurgeCount();
+                final List<Long> ids = new ArrayList<>(findJobExecutionIds(FIND_JOB_EXECUTION_IDS_OF_JOB_INSTANCES,
+                        jobExecutionIds));
+                for (int i = 0; i < ids.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+                    final Object[] chunk = ids.subList(i, Math.min(i + IN_CLAUSE_CHUNK_SIZE, ids.size())).toArray();
+                    for (final String archiveQuery : ARCHIVE_QUERIES) {
+                        getJdbcTemplate().update(getInQuery(archiveQuery, chunk.length)
+                                .replace("%ARCHIVE%", archiveTablePrefix), chunk);
+                    }
+                    delete(chunk, purgeCount, Boolean.FALSE);
+                }
+                return purgeCount;
             }
+        });
+    }
+
+    /**
+     * @param jobExecutionIds ids of {@link JobExecution}s
+     * @return the ids of the {@link JobInstance}s of the given job executions
+     */
+    public List<Long> findJobInstanceIds(final Collection<Long> jobExecutionIds) {
+        final List<Long> jobInstanceIds = new ArrayList<>();
+        final List<Long> ids = new ArrayList<>(jobExecutionIds);
+        for (int i = 0; i < ids.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+            final Object[] chunk = ids.subList(i, Math.min(i + IN_CLAUSE_CHUNK_SIZE, ids.size())).toArray();
+            jobInstanceIds.addAll(getJdbcTemplate().queryForList(
+                    getInQuery(FIND_JOB_INSTANCE_IDS_FROM_IDS, chunk.length), Long.class, chunk));
+        }
+        return jobInstanceIds;
+    }
+
+    /**
+     * Deletes the kept {@link JobInstance}s of deleted archived executions, which have neither an execution in the
+     * Spring Batch tables nor a job instance in the archive tables with the given prefix any more
+     *
+     * @param jobInstanceIds     ids of the job instances of the deleted archived executions
+     * @param archiveTablePrefix table prefix of the archive tables
+     */
+    public void deleteArchivedJobInstances(final Collection<Long> jobInstanceIds, final String archiveTablePrefix) {
+        final List<Long> ids = new ArrayList<>(jobInstanceIds);
+        for (int i = 0; i < ids.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+            final Object[] chunk = ids.subList(i, Math.min(i + IN_CLAUSE_CHUNK_SIZE, ids.size())).toArray();
+            getJdbcTemplate().update(getInQuery(DELETE_ARCHIVED_JOB_INSTANCES, chunk.length)
+                    .replace("%ARCHIVE%", archiveTablePrefix), chunk);
+        }
+    }
+
+    /*
+     * All executions of a job instance are archived together, a restart of a failed execution must not miss the
+     * archived completed one. The last execution of a job instance is only deleted together with all other
+     * executions of the job instance, Spring Batch must not see an older failed execution of a completed instance.
+     */
+    private Set<Long> findJobExecutionIds(final String query, final Collection<Long> jobExecutionIds) {
+        final Set<Long> result = new TreeSet<>(Collections.<Long>reverseOrder());
+        final List<Long> ids = new ArrayList<>(jobExecutionIds);
+        for (int i = 0; i < ids.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+            final Object[] chunk = ids.subList(i, Math.min(i + IN_CLAUSE_CHUNK_SIZE, ids.size())).toArray();
+            result.addAll(getJdbcTemplate().queryForList(getInQuery(query, chunk.length), Long.class, chunk));
+        }
+        return result;
+    }
+
+    private void delete(final Object[] chunk, final PurgeCount purgeCount, final boolean deleteJobInstances) {
+        final List<Long> jobInstanceIds = deleteJobInstances ? getJdbcTemplate().queryForList(
+                getInQuery(FIND_JOB_INSTANCE_IDS_FROM_IDS, chunk.length), Long.class, chunk)
+                : Collections.<Long>emptyList();
+        getJdbcTemplate().update(getInQuery(DELETE_STEP_EXECUTION_CONTEXTS, chunk.length), chunk);
+        purgeCount.setStepExecutionCount(purgeCount.getStepExecutionCount()
+                + getJdbcTemplate().update(getInQuery(DELETE_STEP_EXECUTIONS, chunk.length), chunk));
+        getJdbcTemplate().update(getInQuery(DELETE_JOB_EXECUTION_CONTEXTS, chunk.length), chunk);
+        getJdbcTemplate().update(getInQuery(DELETE_JOB_EXECUTION_PARAMS, chunk.length), chunk);
+        purgeCount.setJobExecutionCount(purgeCount.getJobExecutionCount()
+                + getJdbcTemplate().update(getInQuery(DELETE_JOB_EXECUTIONS, chunk.length), chunk));
+        if (!jobInstanceIds.isEmpty()) {
+            purgeCount.setJobInstanceCount(purgeCount.getJobInstanceCount()
+                    + getJdbcTemplate().update(getInQuery(DELETE_JOB_INSTANCES, jobInstanceIds.size()),
+                    jobInstanceIds.toArray()));
+        }
+    }
 
+    /**
+     * Counts, success counts and item counts are aggregated by the database. Durations are not portable across the
+     * supported databases, so only the start and end times of the window are streamed into the fixed size histograms
+     * of the {@link ExecutionStatisticsAccumulator}s, which compute the percentiles.
+     */
+    @Override
+    public ExecutionStatistics getExecutionStatistics(final String jobName,
+                                                      final Date startTimeFrom,
+                                                      final Date startTimeTo) {
+        final Object[] args = new Object[]{jobName, startTimeFrom, startTimeTo};
+        final ExecutionStatisticsAccumulator jobAccumulator = new ExecutionStatisticsAccumulator(jobName);
+        getJdbcTemplate().query(getQuery(GET_JOB_EXECUTION_STATISTICS), args, new RowCallbackHandler() {
+            @Override
+            public void processRow(final ResultSet resultSet) throws SQLException {
+                jobAccumulator.addCounts(resultSet.getInt(1), resultSet.getInt(2), 0L, 0L);
+            }
+        });
+        getJdbcTemplate().query(getQuery(GET_JOB_EXECUTION_DURATIONS), args, new RowCallbackHandler() {
+            @Override
+            public void processRow(final ResultSet resultSet) throws SQLException {
+                jobAccumulator.addDuration(resultSet.getTimestamp(1), resultSet.getTimestamp(2));
+            }
+        });
+        final Map<String, ExecutionStatisticsAccumulator> stepAccumulators = new LinkedHashMap<>();
+        getJdbcTemplate().query(getQuery(GET_STEP_EXECUTION_STATISTICS), args, new RowCallbackHandler() {
+            @Override
+            public void processRow(final ResultSet resultSet) throws SQLException {
+                ExecutionStatisticsAccumulator.get(stepAccumulators, resultSet.getString(1))
+                        .addCounts(resultSet.getInt(2), resultSet.getInt(3), resultSet.getLong(4),
+                                resultSet.getLong(5));
+            }
+        });
+        getJdbcTemplate().query(getQuery(GET_STEP_EXECUTION_DURATIONS), args, new RowCallbackHandler() {
+            @Override
+            public void processRow(final ResultSet resultSet) throws SQLException {
+                ExecutionStatisticsAccumulator.get(stepAccumulators, resultSet.getString(1))
+                        .addDuration(resultSet.getTimestamp(2), resultSet.getTimestamp(3));
+            }
+        });
+        return ExecutionStatisticsAccumulator.build(jobAccumulator, stepAccumulators.values());
+    }
+
+    @Override
+    public void attachStepExecutions(final Collection<JobExecution> jobExecutions) {
+        final Map<Long, JobExecution> jobExecutionMap = new HashMap<>();
+        for (final JobExecution jobExecution : jobExecutions) {
+            jobExecutionMap.put(jobExecution.getId(), jobExecution);
+        }
+        final List<Long> jobExecutionIds = new ArrayList<>(jobExecutionMap.keySet());
+        for (int i = 0; i < jobExecutionIds.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+            final List<Long> chunk = jobExecutionIds.subList(i,
+                    Math.min(i + IN_CLAUSE_CHUNK_SIZE, jobExecutionIds.size()));
+            getJdbcTemplate().query(getInQuery(GET_STEP_EXECUTIONS_FROM_IDS, chunk.size()), chunk.toArray(),
+                    new StepExecutionRowCallbackHandler(jobExecutionMap));
+        }
+    }
+
+    /**
+     * Needs three queries per chunk of {@value #IN_CLAUSE_CHUNK_SIZE} ids, the executions joined with their job
+     * instances, the parameters and the step executions.
+     */
+    @Override
+    public List<JobExecution> getJobExecutionsWithStepExecutions(final Collection<Long> jobExecutionIds) {
+        final List<Long> sortedJobExecutionIds = new ArrayList<>(jobExecutionIds);
+        Collections.sort(sortedJobExecutionIds, Collections.reverseOrder());
+        final List<JobExecution> jobExecutions = new ArrayList<>(sortedJobExecutionIds.size());
+        for (int i = 0; i < sortedJobExecutionIds.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+            final List<Long> chunk = sortedJobExecutionIds.subList(i,
+                    Math.min(i + IN_CLAUSE_CHUNK_SIZE, sortedJobExecutionIds.size()));
+            jobExecutions.addAll(loadPage(getInQuery(GET_JOB_EXECUTIONS_FROM_IDS, chunk.size()), null,
+                    chunk.toArray()));
+        }
+        for (final JobExecution jobExecution : jobExecutions) {
+            // persisted job instances have version 0, as returned by the JobExplorer
+            jobExecution.getJobInstance().incrementVersion();
+        }
+        attachStepExecutions(jobExecutions);
+        return jobExecutions;
+    }
+
+    @Override
+    public JobExecution getJobExecution(final Long jobExecutionId) {
+        final List<JobExecution> jobExecutions =
+                getJobExecutionsWithStepExecutions(Collections.singletonList(jobExecutionId));
+        return jobExecutions.isEmpty() ? null : jobExecutions.get(0);
+    }
+
+    @Override
+    public SerializedExecutionContext getJobExecutionContext(final Long jobExecutionId, final int maxLength) {
+        return getJdbcTemplate().query(getQuery(GET_JOB_EXECUTION_CONTEXT), new Object[]{jobExecutionId},
+                new SerializedExecutionContextExtractor(maxLength));
+    }
+
+    @Override
+    public SerializedExecutionContext getStepExecutionContext(final Long jobExecutionId,
+                                                              final Long stepExecutionId,
+                                                              final int maxLength) {
+        return getJdbcTemplate().query(getQuery(GET_STEP_EXECUTION_CONTEXT),
+                new Object[]{stepExecutionId, jobExecutionId}, new SerializedExecutionContextExtractor(maxLength));
+    }
+
+    /**
+     * Loads a page of {@link JobExecution}s and attaches the {@link JobParameters} of all executions of the page with
+     * a single query, instead of querying them row by row.
+     */
+    private List<JobExecution> loadPage(final String sql, final JobInstance jobInstance, final Object... args) {
+        final List<JobExecution> page = getJdbcTemplate().query(sql, new JobExecutionRowMapper(), args);
+        final Map<Long, Map<String, JobParameter>> jobParametersMap = getJobParameters(page);
+        final List<JobExecution> jobExecutions = new ArrayList<>(page.size());
+        for (final JobExecution row : page) {
+            final Map<String, JobParameter> parameters = jobParametersMap.get(row.getId());
+            final JobParameters jobParameters = parameters == null ? new JobParameters() : new JobParameters(parameters);
+            final JobExecution jobExecution = new JobExecution(jobInstance == null ? row.getJobInstance() : jobInstance,
+                    row.getId(), jobParameters, row.getJobConfigurationName());
+            jobExecution.setStartTime(row.getStartTime());
+            jobExecution.setEndTime(row.getEndTime());
+            jobExecution.setStatus(row.getStatus());
+            jobExecution.setExitStatus(row.getExitStatus());
+            jobExecution.setCreateTime(row.getCreateTime());
+            jobExecution.setLastUpdated(row.getLastUpdated());
+            jobExecution.setVersion(row.getVersion());
+            jobExecutions.add(jobExecution);
+        }
+        return jobExecutions;
+    }
+
+    private Map<Long, Map<String, JobParameter>> getJobParameters(final List<JobExecution> jobExecutions) {
+        final Map<Long, Map<String, JobParameter>> jobParametersMap = new HashMap<>();
+        final List<Long> jobExecutionIds = new ArrayList<>(jobExecutions.size());
+        for (final JobExecution jobExecution : jobExecutions) {
+            jobExecutionIds.add(jobExecution.getId());
+        }
+        for (int i = 0; i < jobExecutionIds.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+            final List<Long> chunk = jobExecutionIds.subList(i,
+                    Math.min(i + IN_CLAUSE_CHUNK_SIZE, jobExecutionIds.size()));
+            getJdbcTemplate().query(getInQuery(FIND_PARAMS_FROM_IDS, chunk.size()), chunk.toArray(),
+                    new JobParameterRowCallbackHandler(jobParametersMap));
+        }
+        return jobParametersMap;
+    }
+
+    /**
+     * Translates the given criteria into a where clause with positional parameters, which are added to the given args
+     */
+    private String getSearchClause(final JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                   final List<Object> args) {
+        final List<String> criteria = new ArrayList<>();
+        if (jobExecutionSearchCriteria.getJobName() != null) {
+            criteria.add("I.JOB_NAME = ?");
+            args.add(jobExecutionSearchCriteria.getJobName());
+        }
+        final Collection<BatchStatus> statuses = jobExecutionSearchCriteria.getStatuses();
+        if (statuses != null && !statuses.isEmpty()) {
+            final List<String> placeholders = new ArrayList<>(statuses.size());
+            for (final BatchStatus status : statuses) {
+                placeholders.add("?");
+                args.add(status.name());
+            }
+            criteria.add("E.STATUS IN (" + StringUtils.collectionToCommaDelimitedString(placeholders) + ")");
+        }
+        addCriteria(criteria, args, "E.START_TIME >= ?", jobExecutionSearchCriteria.getStartTimeFrom());
+        addCriteria(criteria, args, "E.START_TIME < ?", jobExecutionSearchCriteria.getStartTimeTo());
+        addCriteria(criteria, args, "E.END_TIME >= ?", jobExecutionSearchCriteria.getEndTimeFrom());
+        addCriteria(criteria, args, "E.END_TIME < ?", jobExecutionSearchCriteria.getEndTimeTo());
+        addCriteria(criteria, args, "E.EXIT_CODE = ?", jobExecutionSearchCriteria.getExitCode());
+        final JobParameters jobParameters = jobExecutionSearchCriteria.getJobParameters();
+        if (jobParameters != null) {
+            for (final Map.Entry<String, JobParameter> entry : jobParameters.getParameters().entrySet()) {
+                final ParameterType type = entry.getValue().getType();
+                criteria.add(getQuery(PARAMETER_CRITERIA.replace("%VALUE%", type.name() + "_VAL")));
+                args.add(entry.getKey());
+                args.add(type.name());
+                args.add(entry.getValue().getValue());
+            }
+        }
+        return criteria.isEmpty() ? null : StringUtils.collectionToDelimitedString(criteria, " AND ");
+    }
+
+    private String getSearchQuery(final String selectClause,
+                                  final JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                  final Long jobExecutionId,
+                                  final int count,
+                                  final List<Object> args) {
+        final String whereClause = getSearchClause(jobExecutionSearchCriteria, args);
+        final PagingQueryProvider pagingQueryProvider;
+        try {
+            pagingQueryProvider = getPagingQueryProvider(selectClause, null, whereClause);
+        } catch (final Exception e) {
+            throw new IllegalStateException("Could not create the search query: " + whereClause, e);
+        }
+        final String sql;
+        if (jobExecutionId == null) {
+            sql = pagingQueryProvider.generateFirstPageQuery(count);
+        } else {
+            sql = pagingQueryProvider.generateRemainingPagesQuery(count);
+            args.add(jobExecutionId);
+        }
+        return sql;
+    }
+
+    private static void addCriteria(final List<String> criteria,
+                                    final List<Object> args,
+                                    final String criterion,
+                                    final Object value) {
+        if (value != null) {
+            criteria.add(criterion);
+            args.add(value);
+        }
+    }
+
+    private String getInQuery(final String query, final int count) {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                stringBuilder.append(",");
+            }
+            stringBuilder.append("?");
+        }
+        return getQuery(query.replace("%IN%", stringBuilder.toString()));
+    }
+
+    /**
+     * Ported from
+     * {@link org.springframework.batch.core.repository.dao.JdbcJobExecutionDao}, the {@link JobParameters} are
+     * attached by {@link #loadPage(String, JobInstance, Object...)}. The {@link JobInstance} is built from the joined
+     * columns without version.
+     */
+    private static final class JobExecutionRowMapper implements RowMapper<JobExecution> {
+
+        @Override
+        public JobExecution mapRow(final ResultSet resultSet, final int rowNumber) throws SQLException {
+            final Long id = Long.valueOf(resultSet.getLong(1));
+            final String jobConfigurationLocation = resultSet.getString(10);
+            final JobInstance jobInstance = new JobInstance(resultSet.getLong(10), resultSet.getString(11));
+            final JobExecution jobExecution = new JobExecution(jobInstance, id, new JobParameters(),
+                    jobConfigurationLocation);
             jobExecution.setStartTime(resultSet.getTimestamp(2));
             jobExecution.setEndTime(resultSet.getTimestamp(3));
             jobExecution.setStatus(BatchStatus.valueOf(resultSet.getString(4)));
@@ -125,6 +778,208 @@ public class JdbcLightminJobExecutionDao extends JdbcJobExecutionDao
         }
     }
 
+    /**
+     * Reads the serialized context as character stream, only up to the max length, like
+     * {@link org.springframework.batch.core.repository.dao.JdbcExecutionContextDao} falls back to the short context, if
+     * no serialized context has been stored
+     */
+    private static final class SerializedExecutionContextExtractor
+            implements ResultSetExtractor<SerializedExecutionContext> {
+
+        private final int maxLength;
+
+        private SerializedExecutionContextExtractor(final int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public SerializedExecutionContext extractData(final ResultSet resultSet) throws SQLException {
+            if (!resultSet.next()) {
+                return null;
+            }
+            final Reader reader = resultSet.getCharacterStream(2);
+            if (reader == null) {
+                return SerializedExecutionContext.of(resultSet.getString(1), maxLength);
+            }
+            try {
+                return SerializedExecutionContext.read(reader, maxLength);
+            } catch (final IOException e) {
+                throw new SQLException("Could not read the serialized execution context", e);
+            } finally {
+                try {
+                    reader.close();
+                } catch (final IOException e) {
+                    // the stream is released with the result set
+                }
+            }
+        }
+    }
+
+    /**
+     * Ported from
+     * {@link org.springframework.batch.core.repository.dao.JdbcJobInstanceDao}
+     */
+    private static final class JobInstanceRowMapper implements RowMapper<JobInstance> {
+
+        @Override
+        public JobInstance mapRow(final ResultSet resultSet, final int rowNumber) throws SQLException {
+            final JobInstance jobInstance = new JobInstance(resultSet.getLong(1), resultSet.getString(2));
+            jobInstance.incrementVersion();
+            return jobInstance;
+        }
+    }
+
+    /**
+     * Ported from
+     * {@link org.springframework.batch.core.repository.dao.JdbcJobExecutionDao#getJobParameters(Long)}, collects the
+     * parameters of several {@link JobExecution}s grouped by their id
+     */
+    private static final class JobParameterRowCallbackHandler implements RowCallbackHandler {
+
+        private final Map<Long, Map<String, JobParameter>> jobParametersMap;
+
+        private JobParameterRowCallbackHandler(final Map<Long, Map<String, JobParameter>> jobParametersMap) {
+            this.jobParametersMap = jobParametersMap;
+        }
+
+        @Override
+        public void processRow(final ResultSet resultSet) throws SQLException {
+            final Long jobExecutionId = resultSet.getLong(1);
+            final ParameterType type = ParameterType.valueOf(resultSet.getString(3));
+            final boolean identifying = "Y".equalsIgnoreCase(resultSet.getString(8));
+            final JobParameter value;
+            if (type == ParameterType.STRING) {
+                value = new JobParameter(resultSet.getString(4), identifying);
+            } else if (type == ParameterType.LONG) {
+                value = new JobParameter(resultSet.getLong(6), identifying);
+            } else if (type == ParameterType.DOUBLE) {
+                value = new JobParameter(resultSet.getDouble(7), identifying);
+            } else {
+                value = new JobParameter(resultSet.getTimestamp(5), identifying);
+            }
+            Map<String, JobParameter> parameters = jobParametersMap.get(jobExecutionId);
+            if (parameters == null) {
+                parameters = new LinkedHashMap<>();
+                jobParametersMap.put(jobExecutionId, parameters);
+            }
+            parameters.put(resultSet.getString(2), value);
+        }
+    }
+
+    /**
+     * Ported from
+     * {@link org.springframework.batch.core.repository.dao.JdbcStepExecutionDao}, attaches the
+     * {@link StepExecution}s to the {@link JobExecution} referenced by the JOB_EXECUTION_ID column
+     */
+    private static final class StepExecutionRowCallbackHandler implements RowCallbackHandler {
+
+        private final Map<Long, JobExecution> jobExecutionMap;
+
+        private StepExecutionRowCallbackHandler(final Map<Long, JobExecution> jobExecutionMap) {
+            this.jobExecutionMap = jobExecutionMap;
+        }
+
+        @Override
+        public void processRow(final ResultSet resultSet) throws SQLException {
+            final JobExecution jobExecution = jobExecutionMap.get(resultSet.getLong(18));
+            final StepExecution stepExecution = new StepExecution(resultSet.getString(2), jobExecution,
+                    resultSet.getLong(1));
+            stepExecution.setStartTime(resultSet.getTimestamp(3));
+            stepExecution.setEndTime(resultSet.getTimestamp(4));
+            stepExecution.setStatus(BatchStatus.valueOf(resultSet.getString(5)));
+            stepExecution.setCommitCount(resultSet.getInt(6));
+            stepExecution.setReadCount(resultSet.getInt(7));
+            stepExecution.setFilterCount(resultSet.getInt(8));
+            stepExecution.setWriteCount(resultSet.getInt(9));
+            stepExecution.setExitStatus(new ExitStatus(resultSet.getString(10), resultSet.getString(11)));
+            stepExecution.setReadSkipCount(resultSet.getInt(12));
+            stepExecution.setWriteSkipCount(resultSet.getInt(13));
+            stepExecution.setProcessSkipCount(resultSet.getInt(14));
+            stepExecution.setRollbackCount(resultSet.getInt(15));
+            stepExecution.setLastUpdated(resultSet.getTimestamp(16));
+            stepExecution.setVersion(resultSet.getInt(17));
+        }
+    }
+
+    /**
+     * Groups the rows of {@link #STREAM_JOB_EXECUTIONS}, one row per parameter, by job execution id and passes every
+     * complete {@link JobExecution} to the callback
+     */
+    private static final class StreamingRowCallbackHandler implements RowCallbackHandler {
+
+        private final JobExecutionCallback jobExecutionCallback;
+        private final JobExecutionRowMapper jobExecutionRowMapper = new JobExecutionRowMapper();
+        private JobExecution jobExecution;
+        private Map<String, JobParameter> parameters;
+
+        private StreamingRowCallbackHandler(final JobExecutionCallback jobExecutionCallback) {
+            this.jobExecutionCallback = jobExecutionCallback;
+        }
+
+        @Override
+        public void processRow(final ResultSet resultSet) throws SQLException {
+            final long jobExecutionId = resultSet.getLong(1);
+            if (jobExecution == null || jobExecution.getId() != jobExecutionId) {
+                flush();
+                jobExecution = jobExecutionRowMapper.mapRow(resultSet, 0);
+                parameters = new LinkedHashMap<>();
+            }
+            final String keyName = resultSet.getString(12);
+            if (keyName != null) {
+                final ParameterType type = ParameterType.valueOf(resultSet.getString(13));
+                final boolean identifying = "Y".equalsIgnoreCase(resultSet.getString(18));
+                final JobParameter value;
+                if (type == ParameterType.STRING) {
+                    value = new JobParameter(resultSet.getString(14), identifying);
+                } else if (type == ParameterType.LONG) {
+                    value = new JobParameter(resultSet.getLong(16), identifying);
+                } else if (type == ParameterType.DOUBLE) {
+                    value = new JobParameter(resultSet.getDouble(17), identifying);
+                } else {
+                    value = new JobParameter(resultSet.getTimestamp(15), identifying);
+                }
+                parameters.put(keyName, value);
+            }
+        }
+
+        void flush() {
+            if (jobExecution != null) {
+                final JobExecution current = new JobExecution(jobExecution.getJobInstance(), jobExecution.getId(),
+                        new JobParameters(parameters), null);
+                current.setStartTime(jobExecution.getStartTime());
+                current.setEndTime(jobExecution.getEndTime());
+                current.setStatus(jobExecution.getStatus());
+                current.setExitStatus(jobExecution.getExitStatus());
+                current.setCreateTime(jobExecution.getCreateTime());
+                current.setLastUpdated(jobExecution.getLastUpdated());
+                current.setVersion(jobExecution.getVersion());
+                jobExecution = null;
+                try {
+                    jobExecutionCallback.doWithJobExecution(current);
+                } catch (final IOException e) {
+                    throw new StreamingException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Passes the {@link IOException} of a {@link JobExecutionCallback} through the {@link RowCallbackHandler}
+     */
+    private static final class StreamingException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private StreamingException(final IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+
     /**
      * Ported From Spring Batch Admin Searchable JdbcSearchableJobExecutionDao
      */
@@ -135,7 +990,7 @@ public class JdbcLightminJobExecutionDao extends JdbcJobExecutionDao
      * @throws Exception
      */
     private PagingQueryProvider getPagingQueryProvider(final String whereClause) throws Exception {
-        return getPagingQueryProvider(null, whereClause);
+        return getPagingQueryProvider(FIELDS, null, whereClause);
     }
 
     /**
@@ -143,12 +998,15 @@ public class JdbcLightminJobExecutionDao extends JdbcJobExecutionDao
      *         query
      * @throws Exception
      */
-    private PagingQueryProvider getPagingQueryProvider(String fromClause, String whereClause) throws Exception {
+    private PagingQueryProvider getPagingQueryProvider(final String selectClause,
+                                                       String fromClause,
+                                                       String whereClause) throws Exception {
         final SqlPagingQueryProviderFactoryBean factory = new SqlPagingQueryProviderFactoryBean();
         factory.setDataSource(dataSource);
+        factory.setDatabaseType(databaseType);
         fromClause = "%PREFIX%JOB_EXECUTION E, %PREFIX%JOB_INSTANCE I" + (fromClause == null ? "" : ", " + fromClause);
         factory.setFromClause(getQuery(fromClause));
-        factory.setSelectClause(FIELDS);
+        factory.setSelectClause(selectClause);
         final Map<String, Order> sortKeys = new HashMap<String, Order>();
         sortKeys.put("JOB_EXECUTION_ID", Order.DESCENDING);
         factory.setSortKeys(sortKeys);
@@ -158,10 +1016,48 @@ public class JdbcLightminJobExecutionDao extends JdbcJobExecutionDao
         return factory.getObject();
     }
 
+    /**
+     * @return a {@link PagingQueryProvider} for the job instances of a job name
+     * @throws Exception
+     */
+    private PagingQueryProvider getJobInstancePagingQueryProvider() throws Exception {
+        final SqlPagingQueryProviderFactoryBean factory = new SqlPagingQueryProviderFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setFromClause(getQuery("%PREFIX%JOB_INSTANCE I"));
+        factory.setSelectClause("I.JOB_INSTANCE_ID, I.JOB_NAME");
+        final Map<String, Order> sortKeys = new HashMap<String, Order>();
+        sortKeys.put("JOB_INSTANCE_ID", Order.DESCENDING);
+        factory.setSortKeys(sortKeys);
+        factory.setWhereClause("I.JOB_NAME=?");
+        return factory.getObject();
+    }
+
+    /**
+     * @param databaseType the name of the {@link DatabaseType}
+     * @return the fetch size, which makes the driver of the database stream the rows of {@link #streamJobExecutions}
+     */
+    static int getStreamFetchSize(final String databaseType) {
+        return DatabaseType.MYSQL.name().equals(databaseType) ? MYSQL_STREAM_FETCH_SIZE : STREAM_FETCH_SIZE;
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         super.afterPropertiesSet();
+        databaseType = DatabaseType.fromMetaData(dataSource).name();
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        final int streamFetchSize = getStreamFetchSize(databaseType);
+        streamJdbcTemplate = new JdbcTemplate(dataSource) {
+            /*
+             * JdbcTemplate only applies positive fetch sizes, so the MySQL fetch size is set on the statement directly
+             */
+            @Override
+            protected void applyStatementSettings(final Statement statement) throws SQLException {
+                super.applyStatementSettings(statement);
+                statement.setFetchSize(streamFetchSize);
+            }
+        };
         byJobNamePagingQueryProvider = getPagingQueryProvider("I.JOB_NAME=?");
         byJobInstanceIdExecutionsPagingQueryProvider = getPagingQueryProvider("I.JOB_INSTANCE_ID=?");
+        byJobNameInstancesPagingQueryProvider = getJobInstancePagingQueryProvider();
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import org.springframework.batch.core.JobExecution;
+
+import java.io.IOException;
+
+/**
+ * Callback for {@link JobExecution}s, which are streamed one by one, e.g. by
+ * {@link LightminJobExecutionDao#streamJobExecutions(JobExecutionSearchCriteria, JobExecutionCallback)}
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public interface JobExecutionCallback {
+
+    /**
+     * @param jobExecution the current {@link JobExecution} including its
+     *                     {@link org.springframework.batch.core.JobParameters}
+     * @throws IOException if the job execution could not be written
+     */
+    void doWithJobExecution(JobExecution jobExecution) throws IOException;
+}
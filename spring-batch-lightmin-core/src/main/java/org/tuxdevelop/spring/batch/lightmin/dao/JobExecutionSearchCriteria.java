@@ -0,0 +1,29 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import lombok.Data;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobParameters;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Criteria of a {@link org.springframework.batch.core.JobExecution} search. All given criteria have to match,
+ * criteria without a value are ignored.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class JobExecutionSearchCriteria {
+
+    private String jobName;
+    private Set<BatchStatus> statuses = new HashSet<>();
+    private Date startTimeFrom;
+    private Date startTimeTo;
+    private Date endTimeFrom;
+    private Date endTimeTo;
+    private String exitCode;
+    private JobParameters jobParameters = new JobParameters();
+}
@@ -0,0 +1,30 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * Idempotency key of a job launch and the id of the {@link org.springframework.batch.core.JobExecution} it created.
+ * The id is null while the launch is running.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class JobLaunchKey {
+
+    private String key;
+    private String jobName;
+    private Long jobExecutionId;
+    private Date createTime;
+
+    public JobLaunchKey copy() {
+        final JobLaunchKey copy = new JobLaunchKey();
+        copy.setKey(key);
+        copy.setJobName(jobName);
+        copy.setJobExecutionId(jobExecutionId);
+        copy.setCreateTime(createTime);
+        return copy;
+    }
+}
@@ -0,0 +1,60 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import java.util.Date;
+
+/**
+ * Stores the idempotency keys of job launches
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public interface JobLaunchKeyDao {
+
+    /**
+     * Adds the key, if it does not exist yet. The check and the insert are atomic.
+     *
+     * @param jobLaunchKey the key to add
+     * @return true if the key has been added, false if it already exists
+     */
+    boolean add(JobLaunchKey jobLaunchKey);
+
+    /**
+     * @param key the idempotency key
+     * @return the stored key, null if it does not exist
+     */
+    JobLaunchKey get(String key);
+
+    /**
+     * Sets the id of the {@link org.springframework.batch.core.JobExecution} created by the launch of a reservation.
+     * The check and the update are atomic, the reservation is only updated, if it has not been taken over.
+     *
+     * @param jobLaunchKey   the reservation without a JobExecution id
+     * @param jobExecutionId the id of the JobExecution
+     * @return true if the reservation has been updated, false if it has been taken over or removed in the meantime
+     */
+    boolean updateJobExecutionId(JobLaunchKey jobLaunchKey, Long jobExecutionId);
+
+    /**
+     * Replaces the reservation of a launch, which has not set its JobExecution id, by a new reservation. The check and
+     * the update are atomic, a reservation can only be taken over once.
+     *
+     * @param staleJobLaunchKey the stored reservation without a JobExecution id
+     * @param jobLaunchKey      the new reservation with the same key
+     * @return true if the reservation has been taken over, false if it has been changed or removed in the meantime
+     */
+    boolean takeOver(JobLaunchKey staleJobLaunchKey, JobLaunchKey jobLaunchKey);
+
+    /**
+     * Removes the key, if it has the create time of the given key. The check and the removal are atomic.
+     *
+     * @param jobLaunchKey the key to remove
+     * @return true if the key has been removed, false if it has been taken over or removed in the meantime
+     */
+    boolean remove(JobLaunchKey jobLaunchKey);
+
+    /**
+     * @param createTime the exclusive upper bound of the create time
+     * @return the count of removed keys
+     */
+    int removeCreatedBefore(Date createTime);
+}
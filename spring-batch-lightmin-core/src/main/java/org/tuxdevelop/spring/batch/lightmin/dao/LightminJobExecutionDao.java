@@ -3,6 +3,9 @@ package org.tuxdevelop.spring.batch.lightmin.dao;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
 
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 public interface LightminJobExecutionDao {
@@ -15,6 +18,18 @@ public interface LightminJobExecutionDao {
      */
     List<JobExecution> findJobExecutions(JobInstance jobInstance, int start, int count);
 
+    /**
+     * Keyset variant of {@link #findJobExecutions(JobInstance, int, int)}, which does not have to skip the previous
+     * pages
+     *
+     * @param jobInstance    {@link org.springframework.batch.core.JobInstance} to find {@link org.springframework.batch.core.JobExecution}s for.
+     * @param jobExecutionId id of the last {@link org.springframework.batch.core.JobExecution} of the previous page,
+     *                       null for the first page
+     * @param count          size of the page
+     * @return List of {@link org.springframework.batch.core.JobExecution}s, ordered by descending id
+     */
+    List<JobExecution> findJobExecutionsAfter(JobInstance jobInstance, Long jobExecutionId, int count);
+
     /**
      * @param jobInstance {@link org.springframework.batch.core.JobInstance} to the count for
      * @return the count of executions
@@ -28,4 +43,174 @@ public interface LightminJobExecutionDao {
      * @return a Page of {@link org.springframework.batch.core.JobExecution}s
      */
     List<JobExecution> getJobExecutions(String jobName, int start, int count);
+
+    /**
+     * Keyset variant of {@link #getJobExecutions(String, int, int)}, which does not have to skip the previous pages
+     *
+     * @param jobName        name of the {@link org.springframework.batch.core.Job}
+     * @param jobExecutionId id of the last {@link org.springframework.batch.core.JobExecution} of the previous page,
+     *                       null for the first page
+     * @param count          size of the page
+     * @return a Page of {@link org.springframework.batch.core.JobExecution}s, ordered by descending id
+     */
+    List<JobExecution> getJobExecutionsAfter(String jobName, Long jobExecutionId, int count);
+
+    /**
+     * @param jobInstanceId id of the {@link org.springframework.batch.core.JobInstance}
+     * @return the job instance, null if it does not exist
+     */
+    JobInstance getJobInstance(Long jobInstanceId);
+
+    /**
+     * @param jobName name of the {@link org.springframework.batch.core.Job}
+     * @param start   start index of the page
+     * @param count   size of the page
+     * @return a Page of {@link org.springframework.batch.core.JobInstance}s, ordered by descending id
+     */
+    List<JobInstance> getJobInstances(String jobName, int start, int count);
+
+    /**
+     * @param jobName name of the {@link org.springframework.batch.core.Job}
+     * @return the count of {@link org.springframework.batch.core.JobInstance}s, 0 for unknown jobs
+     */
+    int getJobInstanceCount(String jobName);
+
+    /**
+     * @param jobName       name of the {@link org.springframework.batch.core.Job}
+     * @param jobInstanceId id of the last {@link org.springframework.batch.core.JobInstance} of the previous page,
+     *                      null for the first page
+     * @param count         size of the page
+     * @return a Page of {@link org.springframework.batch.core.JobInstance}s, ordered by descending id
+     */
+    List<JobInstance> getJobInstancesAfter(String jobName, Long jobInstanceId, int count);
+
+    /**
+     * @param jobExecutionSearchCriteria criteria, the {@link org.springframework.batch.core.JobExecution}s have to match
+     * @param jobExecutionId             id of the last {@link org.springframework.batch.core.JobExecution} of the
+     *                                   previous page, null for the first page
+     * @param count                      size of the page
+     * @return a Page of matching {@link org.springframework.batch.core.JobExecution}s, ordered by descending id
+     */
+    List<JobExecution> searchJobExecutions(JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                           Long jobExecutionId,
+                                           int count);
+
+    /**
+     * Ids only variant of {@link #searchJobExecutions(JobExecutionSearchCriteria, Long, int)}
+     *
+     * @param jobExecutionSearchCriteria criteria, the {@link org.springframework.batch.core.JobExecution}s have to match
+     * @param jobExecutionId             id of the last {@link org.springframework.batch.core.JobExecution} of the
+     *                                   previous page, null for the first page
+     * @param count                      size of the page
+     * @return a Page of the ids of matching {@link org.springframework.batch.core.JobExecution}s, ordered descending
+     */
+    List<Long> findJobExecutionIds(JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                   Long jobExecutionId,
+                                   int count);
+
+    /**
+     * Streams all {@link org.springframework.batch.core.JobExecution}s matching the given criteria by descending id to
+     * the callback, without keeping them in memory. The {@link org.springframework.batch.core.StepExecution}s are not
+     * attached.
+     *
+     * @param jobExecutionSearchCriteria the criteria, which all streamed job executions match
+     * @param jobExecutionCallback       the callback, which is called for every job execution
+     * @throws IOException if the callback could not handle a job execution
+     */
+    void streamJobExecutions(JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                             JobExecutionCallback jobExecutionCallback) throws IOException;
+
+    /**
+     * Deletes the given {@link org.springframework.batch.core.JobExecution}s within a single transaction, including
+     * their {@link org.springframework.batch.core.StepExecution}s, execution contexts and parameters. If the last
+     * execution of a {@link org.springframework.batch.core.JobInstance} is given, all executions of the job instance
+     * are deleted, so an older failed execution never outlives its completed restart. The
+     * {@link org.springframework.batch.core.JobInstance}s are deleted as well, if no execution remains. Once the
+     * {@link org.springframework.batch.core.JobInstance} of a completed execution is deleted, the same identifying
+     * job parameters can be launched again.
+     *
+     * @param jobExecutionIds ids of the {@link org.springframework.batch.core.JobExecution}s to delete
+     * @return the counts of deleted job executions, step executions and job instances
+     * @throws UnsupportedOperationException if {@link #isDeleteSupported()} is false
+     */
+    PurgeCount deleteJobExecutions(Collection<Long> jobExecutionIds);
+
+    /**
+     * @return true, if the underlying repository supports {@link #deleteJobExecutions(Collection)}
+     */
+    boolean isDeleteSupported();
+
+    /**
+     * Aggregates the finished {@link org.springframework.batch.core.JobExecution}s of a job and their
+     * {@link org.springframework.batch.core.StepExecution}s, which have been started within the given time window
+     *
+     * @param jobName       name of the {@link org.springframework.batch.core.Job}
+     * @param startTimeFrom inclusive lower bound of the start time
+     * @param startTimeTo   exclusive upper bound of the start time
+     * @return the {@link ExecutionStatistics} of the job including the statistics of its steps
+     */
+    ExecutionStatistics getExecutionStatistics(String jobName, Date startTimeFrom, Date startTimeTo);
+
+    /**
+     * Computes a version of the {@link org.springframework.batch.core.JobExecution}s of a job with a single lookup.
+     * The version consists of the count and the lowest and highest id of the executions, so it changes, if executions
+     * of the job are created, purged or archived. Updates of an existing execution, e.g. of its status, are not
+     * reflected.
+     *
+     * @param jobName name of the {@link org.springframework.batch.core.Job}
+     * @return the version of the job executions, the same for all applications sharing the repository
+     */
+    String getJobExecutionsVersion(String jobName);
+
+    /**
+     * Attaches the {@link org.springframework.batch.core.StepExecution}s to all given
+     * {@link org.springframework.batch.core.JobExecution}s, e.g. to a page returned by
+     * {@link #getJobExecutions(String, int, int)}, with a minimal number of lookups.
+     *
+     * @param jobExecutions {@link org.springframework.batch.core.JobExecution}s to attach the
+     *                      {@link org.springframework.batch.core.StepExecution}s to
+     */
+    void attachStepExecutions(Collection<JobExecution> jobExecutions);
+
+    /**
+     * Loads the given {@link org.springframework.batch.core.JobExecution}s together with their
+     * {@link org.springframework.batch.core.JobInstance}, job parameters and
+     * {@link org.springframework.batch.core.StepExecution}s in a constant number of lookups, independent of the
+     * number of executions and steps. The execution contexts are not loaded.
+     *
+     * @param jobExecutionIds ids of the {@link org.springframework.batch.core.JobExecution}s to load
+     * @return the found {@link org.springframework.batch.core.JobExecution}s ordered by descending id, unknown ids are
+     * skipped
+     */
+    List<JobExecution> getJobExecutionsWithStepExecutions(Collection<Long> jobExecutionIds);
+
+    /**
+     * Loads a single {@link org.springframework.batch.core.JobExecution} like
+     * {@link #getJobExecutionsWithStepExecutions(Collection)}
+     *
+     * @param jobExecutionId id of the {@link org.springframework.batch.core.JobExecution}
+     * @return the job execution including its step executions, null if it does not exist
+     */
+    JobExecution getJobExecution(Long jobExecutionId);
+
+    /**
+     * Retrieves the serialized execution context of a {@link org.springframework.batch.core.JobExecution} without
+     * deserializing it
+     *
+     * @param jobExecutionId id of the {@link org.springframework.batch.core.JobExecution}
+     * @param maxLength      max count of characters to read
+     * @return the serialized context, cut after max length characters, or null if no context exists
+     */
+    SerializedExecutionContext getJobExecutionContext(Long jobExecutionId, int maxLength);
+
+    /**
+     * Retrieves the serialized execution context of a {@link org.springframework.batch.core.StepExecution} without
+     * deserializing it
+     *
+     * @param jobExecutionId  id of the {@link org.springframework.batch.core.JobExecution} of the step execution
+     * @param stepExecutionId id of the {@link org.springframework.batch.core.StepExecution}
+     * @param maxLength       max count of characters to read
+     * @return the serialized context, cut after max length characters, or null if no context exists
+     */
+    SerializedExecutionContext getStepExecutionContext(Long jobExecutionId, Long stepExecutionId, int maxLength);
 }
@@ -0,0 +1,73 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the idempotency keys of job launches in memory, they are lost on restart
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class MapJobLaunchKeyDao implements JobLaunchKeyDao {
+
+    private final ConcurrentMap<String, JobLaunchKey> jobLaunchKeys = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean add(final JobLaunchKey jobLaunchKey) {
+        return jobLaunchKeys.putIfAbsent(jobLaunchKey.getKey(), jobLaunchKey.copy()) == null;
+    }
+
+    @Override
+    public JobLaunchKey get(final String key) {
+        final JobLaunchKey jobLaunchKey = jobLaunchKeys.get(key);
+        return jobLaunchKey == null ? null : jobLaunchKey.copy();
+    }
+
+    @Override
+    public boolean updateJobExecutionId(final JobLaunchKey jobLaunchKey, final Long jobExecutionId) {
+        final JobLaunchKey stored = jobLaunchKeys.get(jobLaunchKey.getKey());
+        if (stored != null && stored.getJobExecutionId() == null && hasSameCreateTime(stored, jobLaunchKey)) {
+            final JobLaunchKey updated = stored.copy();
+            updated.setJobExecutionId(jobExecutionId);
+            return jobLaunchKeys.replace(jobLaunchKey.getKey(), stored, updated);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean takeOver(final JobLaunchKey staleJobLaunchKey, final JobLaunchKey jobLaunchKey) {
+        final JobLaunchKey stored = jobLaunchKeys.get(staleJobLaunchKey.getKey());
+        return stored != null
+                && stored.getJobExecutionId() == null
+                && hasSameCreateTime(stored, staleJobLaunchKey)
+                && jobLaunchKeys.replace(staleJobLaunchKey.getKey(), stored, jobLaunchKey.copy());
+    }
+
+    @Override
+    public boolean remove(final JobLaunchKey jobLaunchKey) {
+        final JobLaunchKey stored = jobLaunchKeys.get(jobLaunchKey.getKey());
+        return stored != null
+                && hasSameCreateTime(stored, jobLaunchKey)
+                && jobLaunchKeys.remove(jobLaunchKey.getKey(), stored);
+    }
+
+    @Override
+    public int removeCreatedBefore(final Date createTime) {
+        int count = 0;
+        final Iterator<JobLaunchKey> iterator = jobLaunchKeys.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getCreateTime().before(createTime)) {
+                iterator.remove();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean hasSameCreateTime(final JobLaunchKey jobLaunchKey, final JobLaunchKey other) {
+        return jobLaunchKey.getCreateTime().getTime() == other.getCreateTime().getTime();
+    }
+}
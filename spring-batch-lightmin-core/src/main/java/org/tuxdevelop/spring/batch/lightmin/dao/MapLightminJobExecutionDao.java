@@ -1,15 +1,48 @@
 package org.tuxdevelop.spring.batch.lightmin.dao;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameter;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.batch.item.ExecutionContext;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-public class MapLightminJobExecutionDao implements LightminJobExecutionDao {
+/**
+ * {@link LightminJobExecutionDao} for the map based Spring Batch repository. The {@link JobExecution}s are indexed per
+ * job name and per {@link JobInstance} in arrays ordered by id, so pages are read without loading and sorting all
+ * executions of a job and counts are read without loading any execution.
+ * <p>
+ * The index is fed as {@link JobExecutionListener} of the jobs. When a job is started, its execution and all
+ * executions created before it are indexed, so reads never probe the repository for new executions. Executions, which
+ * have been created but not started yet, are indexed with the next started execution. The map based repository does
+ * not delete single executions, executions removed by clearing the whole repository are skipped on read.
+ * <p>
+ * Execution statistics are maintained incrementally as well. Every finished {@link JobExecution} is recorded once as
+ * a sample of its durations and counts, so statistics are aggregated from the samples without loading any execution.
+ * The most recently finished {@value #MAX_EXECUTION_SAMPLES} executions of a job are kept, older samples are evicted.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class MapLightminJobExecutionDao implements LightminJobExecutionDao, JobExecutionListener {
+
+    static final int MAX_EXECUTION_SAMPLES = 10000;
 
     private final JobExplorer jobExplorer;
+    private final ConcurrentMap<String, JobExecutionIndex> jobExecutionsByJobName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, JobExecutionIndex> jobExecutionsByJobInstanceId = new ConcurrentHashMap<>();
+    private final JobExecutionIndex jobExecutions = new JobExecutionIndex();
+    private final ConcurrentMap<String, ExecutionSamples> executionSamplesByJobName = new ConcurrentHashMap<>();
+    private long nextJobExecutionId = 0L;
+    private final String epoch = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
 
     public MapLightminJobExecutionDao(final JobExplorer jobExplorer) {
         this.jobExplorer = jobExplorer;
@@ -17,48 +50,495 @@ public class MapLightminJobExecutionDao implements LightminJobExecutionDao {
 
     @Override
     public List<JobExecution> findJobExecutions(final JobInstance job, final int start, final int count) {
-        final ArrayList<JobExecution> result = new ArrayList<>(jobExplorer.getJobExecutions(job));
-        sortDescending(result);
-        return subset(result, start, count);
+        final JobExecutionIndex jobExecutionIndex = getJobExecutionIndex(jobExecutionsByJobInstanceId, job.getId());
+        return getJobExecutions(jobExecutionIndex.getJobExecutionIds(start, count));
+    }
+
+    @Override
+    public List<JobExecution> findJobExecutionsAfter(final JobInstance jobInstance, final Long jobExecutionId,
+                                                     final int count) {
+        final JobExecutionIndex jobExecutionIndex = getJobExecutionIndex(jobExecutionsByJobInstanceId,
+                jobInstance.getId());
+        return getJobExecutions(jobExecutionIndex.getJobExecutionIdsAfter(jobExecutionId, count));
     }
 
     @Override
     public int getJobExecutionCount(final JobInstance jobInstance) {
-        final List<JobExecution> jobExecutions = jobExplorer.getJobExecutions(jobInstance);
-        return jobExecutions.size();
+        return getJobExecutionIndex(jobExecutionsByJobInstanceId, jobInstance.getId()).size();
     }
 
     @Override
     public List<JobExecution> getJobExecutions(final String jobName, final int start, final int count) {
-        final List<JobExecution> jobExecutions = new LinkedList<>();
+        final JobExecutionIndex jobExecutionIndex = getJobExecutionIndex(jobExecutionsByJobName, jobName);
+        return getJobExecutions(jobExecutionIndex.getJobExecutionIds(start, count));
+    }
 
-        int jobInstanceCount;
+    @Override
+    public List<JobExecution> getJobExecutionsAfter(final String jobName, final Long jobExecutionId, final int count) {
+        final JobExecutionIndex jobExecutionIndex = getJobExecutionIndex(jobExecutionsByJobName, jobName);
+        return getJobExecutions(jobExecutionIndex.getJobExecutionIdsAfter(jobExecutionId, count));
+    }
+
+    @Override
+    public JobInstance getJobInstance(final Long jobInstanceId) {
+        return jobExplorer.getJobInstance(jobInstanceId);
+    }
+
+    @Override
+    public List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
+        return jobExplorer.getJobInstances(jobName, start, count);
+    }
+
+    @Override
+    public int getJobInstanceCount(final String jobName) {
         try {
-            jobInstanceCount = jobExplorer.getJobInstanceCount(jobName);
+            return jobExplorer.getJobInstanceCount(jobName);
         } catch (final NoSuchJobException e) {
-            jobInstanceCount = 0;
+            return 0;
+        }
+    }
+
+    @Override
+    public List<JobInstance> getJobInstancesAfter(final String jobName, final Long jobInstanceId, final int count) {
+        final List<JobInstance> result = new ArrayList<>();
+        for (final JobInstance jobInstance : jobExplorer.getJobInstances(jobName, 0, getJobInstanceCount(jobName))) {
+            if (result.size() == count) {
+                break;
+            }
+            if (jobInstanceId == null || jobInstance.getId() < jobInstanceId) {
+                result.add(jobInstance);
+            }
         }
-        final List<JobInstance> jobInstances = jobExplorer.getJobInstances(jobName, 0, jobInstanceCount);
-        for (final JobInstance jobInstance : jobInstances) {
-            final List<JobExecution> jobExecutionsByInstance = jobExplorer.getJobExecutions(jobInstance);
-            jobExecutions.addAll(jobExecutionsByInstance);
+        return result;
+    }
+
+    @Override
+    public List<JobExecution> searchJobExecutions(final JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                                  final Long jobExecutionId,
+                                                  final int count) {
+        final List<JobExecution> result = new ArrayList<>();
+        final Iterator<Long> iterator = getSearchIndex(jobExecutionSearchCriteria)
+                .iterator(jobExecutionId);
+        while (iterator.hasNext() && result.size() < count) {
+            final JobExecution jobExecution = jobExplorer.getJobExecution(iterator.next());
+            if (jobExecution != null && matches(jobExecutionSearchCriteria, jobExecution)) {
+                result.add(jobExecution);
+            }
         }
-        sortDescending(jobExecutions);
-        return subset(jobExecutions, start, count);
+        return result;
     }
 
-    private void sortDescending(final List<JobExecution> result) {
-        Collections.sort(result, new Comparator<JobExecution>() {
-            @Override
-            public int compare(final JobExecution jobExecution, final JobExecution jobExecutionToCompare) {
-                return Long.signum(jobExecutionToCompare.getId() - jobExecution.getId());
+    /**
+     * Iterates the index of the job executions, only the current execution is loaded from the repository
+     */
+    @Override
+    public void streamJobExecutions(final JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                    final JobExecutionCallback jobExecutionCallback) throws IOException {
+        final Iterator<Long> iterator = getSearchIndex(jobExecutionSearchCriteria).iterator(null);
+        while (iterator.hasNext()) {
+            final JobExecution jobExecution = jobExplorer.getJobExecution(iterator.next());
+            if (jobExecution != null && matches(jobExecutionSearchCriteria, jobExecution)) {
+                jobExecutionCallback.doWithJobExecution(jobExecution);
             }
-        });
+        }
+    }
+
+    @Override
+    public List<Long> findJobExecutionIds(final JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                          final Long jobExecutionId,
+                                          final int count) {
+        final List<Long> result = new ArrayList<>();
+        for (final JobExecution jobExecution : searchJobExecutions(jobExecutionSearchCriteria, jobExecutionId,
+                count)) {
+            result.add(jobExecution.getId());
+        }
+        return result;
+    }
+
+    /**
+     * The repository is held in memory of a single application, the version consists of a random epoch of the dao
+     * and the count and newest id of the indexed executions of the job
+     */
+    @Override
+    public String getJobExecutionsVersion(final String jobName) {
+        final JobExecutionIndex jobExecutionIndex = getJobExecutionIndex(jobExecutionsByJobName, jobName);
+        return epoch + "-" + jobExecutionIndex.getVersion();
+    }
+
+    /**
+     * The map based repository does not support the removal of single executions, it can only be cleared as a whole
+     */
+    @Override
+    public PurgeCount deleteJobExecutions(final Collection<Long> jobExecutionIds) {
+        throw new UnsupportedOperationException("The map based repository does not support the deletion of job "
+                + "executions");
+    }
+
+    @Override
+    public boolean isDeleteSupported() {
+        return Boolean.FALSE;
+    }
+
+    @Override
+    public ExecutionStatistics getExecutionStatistics(final String jobName,
+                                                      final Date startTimeFrom,
+                                                      final Date startTimeTo) {
+        final ExecutionStatisticsAccumulator jobAccumulator = new ExecutionStatisticsAccumulator(jobName);
+        final Map<String, ExecutionStatisticsAccumulator> stepAccumulators = new LinkedHashMap<>();
+        final ExecutionSamples executionSamples = executionSamplesByJobName.get(jobName);
+        if (executionSamples != null) {
+            executionSamples.addTo(jobAccumulator, stepAccumulators, startTimeFrom, startTimeTo);
+        }
+        return ExecutionStatisticsAccumulator.build(jobAccumulator, stepAccumulators.values());
+    }
+
+    /**
+     * Indexes the started {@link JobExecution} and all executions created before it
+     */
+    @Override
+    public void beforeJob(final JobExecution jobExecution) {
+        indexJobExecutions(jobExecution.getId());
+    }
+
+    /**
+     * Records the finished {@link JobExecution} as sample of the execution statistics
+     */
+    @Override
+    public void afterJob(final JobExecution jobExecution) {
+        indexJobExecutions(jobExecution.getId());
+        if (jobExecution.getStartTime() != null && jobExecution.getEndTime() != null) {
+            addExecutionSample(jobExecution);
+        }
+    }
+
+    @Override
+    public void attachStepExecutions(final Collection<JobExecution> jobExecutions) {
+        for (final JobExecution jobExecution : jobExecutions) {
+            final JobExecution storedJobExecution = jobExplorer.getJobExecution(jobExecution.getId());
+            if (storedJobExecution != null) {
+                jobExecution.addStepExecutions(new ArrayList<StepExecution>(storedJobExecution.getStepExecutions()));
+            }
+        }
+    }
+
+    /**
+     * The {@link JobExecution}s of the map repository already contain their job instance and step executions
+     */
+    @Override
+    public List<JobExecution> getJobExecutionsWithStepExecutions(final Collection<Long> jobExecutionIds) {
+        final List<Long> sortedJobExecutionIds = new ArrayList<>(jobExecutionIds);
+        Collections.sort(sortedJobExecutionIds, Collections.reverseOrder());
+        final List<JobExecution> result = new ArrayList<>(sortedJobExecutionIds.size());
+        for (final Long jobExecutionId : sortedJobExecutionIds) {
+            final JobExecution jobExecution = jobExplorer.getJobExecution(jobExecutionId);
+            if (jobExecution != null) {
+                result.add(jobExecution);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public JobExecution getJobExecution(final Long jobExecutionId) {
+        return jobExplorer.getJobExecution(jobExecutionId);
+    }
+
+    /**
+     * The map repository keeps the deserialized context, its string representation is returned
+     */
+    @Override
+    public SerializedExecutionContext getJobExecutionContext(final Long jobExecutionId, final int maxLength) {
+        final JobExecution jobExecution = jobExplorer.getJobExecution(jobExecutionId);
+        return jobExecution == null ? null : toSerializedExecutionContext(jobExecution.getExecutionContext(),
+                maxLength);
+    }
+
+    /**
+     * The map repository keeps the deserialized context, its string representation is returned
+     */
+    @Override
+    public SerializedExecutionContext getStepExecutionContext(final Long jobExecutionId,
+                                                              final Long stepExecutionId,
+                                                              final int maxLength) {
+        final StepExecution stepExecution = jobExplorer.getStepExecution(jobExecutionId, stepExecutionId);
+        return stepExecution == null ? null : toSerializedExecutionContext(stepExecution.getExecutionContext(),
+                maxLength);
+    }
+
+    private static SerializedExecutionContext toSerializedExecutionContext(final ExecutionContext executionContext,
+                                                                           final int maxLength) {
+        return executionContext == null ? null : SerializedExecutionContext.of(executionContext.toString(),
+                maxLength);
+    }
+
+    private JobExecutionIndex getSearchIndex(final JobExecutionSearchCriteria jobExecutionSearchCriteria) {
+        final JobExecutionIndex jobExecutionIndex;
+        if (jobExecutionSearchCriteria.getJobName() != null) {
+            jobExecutionIndex = getJobExecutionIndex(jobExecutionsByJobName, jobExecutionSearchCriteria.getJobName());
+        } else {
+            jobExecutionIndex = jobExecutions;
+        }
+        return jobExecutionIndex;
     }
 
-    private List<JobExecution> subset(final List<JobExecution> jobExecutions, final int start, final int count) {
-        final int startIndex = Math.min(start, jobExecutions.size());
-        final int endIndex = Math.min(start + count, jobExecutions.size());
-        return jobExecutions.subList(startIndex, endIndex);
+    private <K> JobExecutionIndex getJobExecutionIndex(final ConcurrentMap<K, JobExecutionIndex> jobExecutionIndexes,
+                                                       final K key) {
+        final JobExecutionIndex jobExecutionIndex = jobExecutionIndexes.get(key);
+        return jobExecutionIndex != null ? jobExecutionIndex : new JobExecutionIndex();
+    }
+
+    /*
+     * The map based repository assigns ascending ids, starting with 0. All ids up to the given one, which have not been
+     * indexed yet, are indexed, so the index stays ordered, even if the executions are started in another order.
+     */
+    private synchronized void indexJobExecutions(final Long jobExecutionId) {
+        for (; nextJobExecutionId <= jobExecutionId; nextJobExecutionId++) {
+            final JobExecution jobExecution = jobExplorer.getJobExecution(nextJobExecutionId);
+            if (jobExecution != null) {
+                final JobInstance jobInstance = jobExecution.getJobInstance();
+                addToIndex(jobExecutionsByJobName, jobInstance.getJobName(), jobExecution.getId());
+                addToIndex(jobExecutionsByJobInstanceId, jobInstance.getId(), jobExecution.getId());
+                jobExecutions.add(jobExecution.getId());
+            }
+        }
+    }
+
+    /*
+     * Records a sample of a finished job execution
+     */
+    private void addExecutionSample(final JobExecution jobExecution) {
+        final String jobName = jobExecution.getJobInstance().getJobName();
+        ExecutionSamples executionSamples = executionSamplesByJobName.get(jobName);
+        if (executionSamples == null) {
+            final ExecutionSamples newExecutionSamples = new ExecutionSamples();
+            executionSamples = executionSamplesByJobName.putIfAbsent(jobName, newExecutionSamples);
+            if (executionSamples == null) {
+                executionSamples = newExecutionSamples;
+            }
+        }
+        executionSamples.add(new ExecutionSample(jobExecution));
+    }
+
+    private <K> void addToIndex(final ConcurrentMap<K, JobExecutionIndex> jobExecutionIndexes,
+                                final K key,
+                                final Long jobExecutionId) {
+        JobExecutionIndex jobExecutionIndex = jobExecutionIndexes.get(key);
+        if (jobExecutionIndex == null) {
+            jobExecutionIndex = new JobExecutionIndex();
+            jobExecutionIndexes.put(key, jobExecutionIndex);
+        }
+        jobExecutionIndex.add(jobExecutionId);
+    }
+
+    private static boolean matches(final JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                   final JobExecution jobExecution) {
+        final Set<BatchStatus> statuses = jobExecutionSearchCriteria.getStatuses();
+        final Map<String, JobParameter> parameters = jobExecutionSearchCriteria.getJobParameters() != null
+                ? jobExecutionSearchCriteria.getJobParameters().getParameters()
+                : Collections.<String, JobParameter>emptyMap();
+        return (statuses == null || statuses.isEmpty() || statuses.contains(jobExecution.getStatus()))
+                && isInRange(jobExecution.getStartTime(), jobExecutionSearchCriteria.getStartTimeFrom(),
+                jobExecutionSearchCriteria.getStartTimeTo())
+                && isInRange(jobExecution.getEndTime(), jobExecutionSearchCriteria.getEndTimeFrom(),
+                jobExecutionSearchCriteria.getEndTimeTo())
+                && (jobExecutionSearchCriteria.getExitCode() == null
+                || jobExecutionSearchCriteria.getExitCode().equals(jobExecution.getExitStatus().getExitCode()))
+                && containsAll(jobExecution.getJobParameters().getParameters(), parameters);
+    }
+
+    private static boolean isInRange(final Date date, final Date from, final Date to) {
+        if (from == null && to == null) {
+            return true;
+        }
+        return date != null && (from == null || !date.before(from)) && (to == null || date.before(to));
+    }
+
+    private static boolean containsAll(final Map<String, JobParameter> parameters,
+                                       final Map<String, JobParameter> expectedParameters) {
+        for (final Map.Entry<String, JobParameter> entry : expectedParameters.entrySet()) {
+            final JobParameter parameter = parameters.get(entry.getKey());
+            if (parameter == null || parameter.getType() != entry.getValue().getType()
+                    || !parameter.getValue().equals(entry.getValue().getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<JobExecution> getJobExecutions(final List<Long> jobExecutionIds) {
+        final List<JobExecution> result = new ArrayList<>(jobExecutionIds.size());
+        for (final Long jobExecutionId : jobExecutionIds) {
+            final JobExecution jobExecution = jobExplorer.getJobExecution(jobExecutionId);
+            if (jobExecution != null) {
+                result.add(jobExecution);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Ids of {@link JobExecution}s and their count. The ids are appended in ascending order to an array and read in
+     * descending order, so a page at any offset or after any id is located without walking the preceding ids.
+     * Appended slots are never overwritten, readers iterate a snapshot of the array without holding the lock.
+     */
+    private static final class JobExecutionIndex {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] jobExecutionIds = new long[INITIAL_CAPACITY];
+        private int size;
+
+        synchronized void add(final Long jobExecutionId) {
+            if (size > 0 && jobExecutionIds[size - 1] >= jobExecutionId) {
+                return;
+            }
+            if (size == jobExecutionIds.length) {
+                jobExecutionIds = Arrays.copyOf(jobExecutionIds, size * 2);
+            }
+            jobExecutionIds[size++] = jobExecutionId;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized String getVersion() {
+            return size + "-" + (size > 0 ? jobExecutionIds[size - 1] : -1L);
+        }
+
+        synchronized void clear() {
+            jobExecutionIds = new long[INITIAL_CAPACITY];
+            size = 0;
+        }
+
+        synchronized List<Long> getJobExecutionIds(final int start, final int count) {
+            return collect(jobExecutionIds, size - start, count);
+        }
+
+        synchronized List<Long> getJobExecutionIdsAfter(final Long jobExecutionId, final int count) {
+            return collect(jobExecutionIds, getEnd(jobExecutionId), count);
+        }
+
+        /**
+         * Iterates the ids lower than the given one in descending order, all ids if it is null
+         */
+        Iterator<Long> iterator(final Long jobExecutionId) {
+            final long[] snapshot;
+            final int end;
+            synchronized (this) {
+                snapshot = jobExecutionIds;
+                end = getEnd(jobExecutionId);
+            }
+            return new Iterator<Long>() {
+
+                private int index = end - 1;
+
+                @Override
+                public boolean hasNext() {
+                    return index >= 0;
+                }
+
+                @Override
+                public Long next() {
+                    if (index < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    return snapshot[index--];
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        private int getEnd(final Long jobExecutionId) {
+            if (jobExecutionId == null) {
+                return size;
+            }
+            final int position = Arrays.binarySearch(jobExecutionIds, 0, size, jobExecutionId);
+            return position >= 0 ? position : -position - 1;
+        }
+
+        private static List<Long> collect(final long[] jobExecutionIds, final int end, final int count) {
+            final List<Long> result = new ArrayList<>(Math.max(0, Math.min(end, count)));
+            for (int i = end - 1; i >= 0 && result.size() < count; i--) {
+                result.add(jobExecutionIds[i]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The samples of the most recently finished {@link JobExecution}s of a job, the oldest sample is evicted, once
+     * {@link #MAX_EXECUTION_SAMPLES} samples are kept
+     */
+    private static final class ExecutionSamples {
+
+        private final Deque<ExecutionSample> executionSamples = new ArrayDeque<>();
+
+        synchronized void add(final ExecutionSample executionSample) {
+            if (executionSamples.size() == MAX_EXECUTION_SAMPLES) {
+                executionSamples.removeFirst();
+            }
+            executionSamples.addLast(executionSample);
+        }
+
+        synchronized void addTo(final ExecutionStatisticsAccumulator jobAccumulator,
+                                final Map<String, ExecutionStatisticsAccumulator> stepAccumulators,
+                                final Date startTimeFrom,
+                                final Date startTimeTo) {
+            for (final ExecutionSample jobSample : executionSamples) {
+                if (isInRange(jobSample.startTime, startTimeFrom, startTimeTo)) {
+                    jobSample.addTo(jobAccumulator);
+                    for (final ExecutionSample stepSample : jobSample.stepSamples) {
+                        stepSample.addTo(ExecutionStatisticsAccumulator.get(stepAccumulators, stepSample.name));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Durations and counts of a finished {@link JobExecution} or {@link StepExecution}
+     */
+    private static final class ExecutionSample {
+
+        private final String name;
+        private final Date startTime;
+        private final Date endTime;
+        private final boolean completed;
+        private final long readCount;
+        private final long writeCount;
+        private final List<ExecutionSample> stepSamples = new ArrayList<>();
+
+        ExecutionSample(final JobExecution jobExecution) {
+            this.name = jobExecution.getJobInstance().getJobName();
+            this.startTime = jobExecution.getStartTime();
+            this.endTime = jobExecution.getEndTime();
+            this.completed = jobExecution.getStatus() == BatchStatus.COMPLETED;
+            this.readCount = 0L;
+            this.writeCount = 0L;
+            for (final StepExecution stepExecution : jobExecution.getStepExecutions()) {
+                if (stepExecution.getStartTime() != null && stepExecution.getEndTime() != null) {
+                    stepSamples.add(new ExecutionSample(stepExecution));
+                }
+            }
+        }
+
+        ExecutionSample(final StepExecution stepExecution) {
+            this.name = stepExecution.getStepName();
+            this.startTime = stepExecution.getStartTime();
+            this.endTime = stepExecution.getEndTime();
+            this.completed = stepExecution.getStatus() == BatchStatus.COMPLETED;
+            this.readCount = stepExecution.getReadCount();
+            this.writeCount = stepExecution.getWriteCount();
+        }
+
+        void addTo(final ExecutionStatisticsAccumulator accumulator) {
+            accumulator.addCounts(1, completed ? 1 : 0, readCount, writeCount);
+            accumulator.addDuration(startTime, endTime);
+        }
     }
 }
@@ -0,0 +1,23 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import lombok.Data;
+
+/**
+ * Counts of the purged or archived Spring Batch metadata
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class PurgeCount {
+
+    private long jobExecutionCount;
+    private long stepExecutionCount;
+    private long jobInstanceCount;
+
+    public void add(final PurgeCount purgeCount) {
+        jobExecutionCount += purgeCount.getJobExecutionCount();
+        stepExecutionCount += purgeCount.getStepExecutionCount();
+        jobInstanceCount += purgeCount.getJobInstanceCount();
+    }
+}
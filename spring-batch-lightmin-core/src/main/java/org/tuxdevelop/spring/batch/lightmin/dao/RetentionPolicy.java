@@ -0,0 +1,40 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import lombok.Data;
+
+/**
+ * Retention policy of finished {@link org.springframework.batch.core.JobExecution}s. Executions are purged, if they
+ * ended longer than the max age ago, or if they are older than the newest max executions per job of their job. Failed
+ * executions are kept until the failed max age, which defaults to the max age. Limits without a value are not
+ * applied, running executions are never purged.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class RetentionPolicy {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    /**
+     * max age in milliseconds
+     */
+    private Long maxAge;
+    /**
+     * max age of failed executions in milliseconds
+     */
+    private Long failedMaxAge;
+    private Integer maxExecutionsPerJob;
+    /**
+     * count of executions purged within a single transaction
+     */
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    public Long getEffectiveFailedMaxAge() {
+        return failedMaxAge != null ? failedMaxAge : maxAge;
+    }
+
+    public boolean isEmpty() {
+        return maxAge == null && failedMaxAge == null && maxExecutionsPerJob == null;
+    }
+}
@@ -0,0 +1,55 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import lombok.Data;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Serialized form of a {@link org.springframework.batch.item.ExecutionContext} as stored by the job repository,
+ * which is not deserialized. Only the first characters up to the requested max length are kept, larger contexts are
+ * marked as truncated.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class SerializedExecutionContext {
+
+    private String content;
+    private boolean truncated;
+
+    /**
+     * @param content   the serialized context
+     * @param maxLength the max count of characters to keep
+     * @return the context cut after max length characters
+     */
+    public static SerializedExecutionContext of(final String content, final int maxLength) {
+        final SerializedExecutionContext serializedExecutionContext = new SerializedExecutionContext();
+        if (content.length() > maxLength) {
+            serializedExecutionContext.setContent(content.substring(0, maxLength));
+            serializedExecutionContext.setTruncated(Boolean.TRUE);
+        } else {
+            serializedExecutionContext.setContent(content);
+        }
+        return serializedExecutionContext;
+    }
+
+    /**
+     * Reads at most max length plus one characters, the remaining characters of the reader are never read
+     *
+     * @param reader    the reader of the serialized context
+     * @param maxLength the max count of characters to keep
+     * @return the context cut after max length characters
+     * @throws IOException if the reader could not be read
+     */
+    public static SerializedExecutionContext read(final Reader reader, final int maxLength) throws IOException {
+        final char[] buffer = new char[maxLength + 1];
+        int length = 0;
+        int read;
+        while (length < buffer.length && (read = reader.read(buffer, length, buffer.length - length)) != -1) {
+            length += read;
+        }
+        return of(new String(buffer, 0, length), maxLength);
+    }
+}
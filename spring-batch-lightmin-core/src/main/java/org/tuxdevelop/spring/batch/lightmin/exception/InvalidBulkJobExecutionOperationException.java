@@ -0,0 +1,16 @@
+package org.tuxdevelop.spring.batch.lightmin.exception;
+
+/**
+ * Thrown if a bulk stop or restart selects no job executions or more than the max count of job executions.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class InvalidBulkJobExecutionOperationException extends SpringBatchLightminApplicationException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidBulkJobExecutionOperationException(final String message) {
+        super(message);
+    }
+}
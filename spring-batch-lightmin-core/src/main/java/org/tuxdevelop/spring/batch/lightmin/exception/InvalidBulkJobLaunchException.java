@@ -0,0 +1,16 @@
+package org.tuxdevelop.spring.batch.lightmin.exception;
+
+/**
+ * Thrown if a bulk launch contains no parameter sets, too many parameter sets or an unknown job name.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class InvalidBulkJobLaunchException extends SpringBatchLightminApplicationException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidBulkJobLaunchException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package org.tuxdevelop.spring.batch.lightmin.exception;
+
+/**
+ * Thrown if the requested max length of an execution context is negative.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class InvalidExecutionContextMaxLengthException extends SpringBatchLightminApplicationException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidExecutionContextMaxLengthException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package org.tuxdevelop.spring.batch.lightmin.exception;
+
+/**
+ * Thrown if a search for job executions has invalid criteria or page size.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class InvalidJobExecutionSearchException extends SpringBatchLightminApplicationException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidJobExecutionSearchException(final String message) {
+        super(message);
+    }
+}
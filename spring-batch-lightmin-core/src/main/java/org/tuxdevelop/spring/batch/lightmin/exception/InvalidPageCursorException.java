@@ -0,0 +1,20 @@
+package org.tuxdevelop.spring.batch.lightmin.exception;
+
+/**
+ * Thrown if a page cursor could not be decoded or does not belong to the requested kind of page.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class InvalidPageCursorException extends SpringBatchLightminApplicationException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidPageCursorException(final String message) {
+        super(message);
+    }
+
+    public InvalidPageCursorException(final Throwable t, final String message) {
+        super(t, message);
+    }
+}
@@ -0,0 +1,16 @@
+package org.tuxdevelop.spring.batch.lightmin.exception;
+
+/**
+ * Thrown if a retention policy contains negative limits or a chunk size less than one.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class InvalidRetentionPolicyException extends SpringBatchLightminApplicationException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidRetentionPolicyException(final String message) {
+        super(message);
+    }
+}
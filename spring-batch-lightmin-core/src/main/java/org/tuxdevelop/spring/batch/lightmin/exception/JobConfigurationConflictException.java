@@ -0,0 +1,21 @@
+package org.tuxdevelop.spring.batch.lightmin.exception;
+
+/**
+ * Thrown if a {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration} could not be updated, because
+ * it has been modified concurrently and the given version is outdated.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class JobConfigurationConflictException extends SpringBatchLightminApplicationException {
+
+    private static final long serialVersionUID = 1L;
+
+    public JobConfigurationConflictException(final String message) {
+        super(message);
+    }
+
+    public JobConfigurationConflictException(final Throwable t, final String message) {
+        super(t, message);
+    }
+}
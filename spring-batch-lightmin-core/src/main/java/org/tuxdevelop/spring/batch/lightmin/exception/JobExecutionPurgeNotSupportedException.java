@@ -0,0 +1,16 @@
+package org.tuxdevelop.spring.batch.lightmin.exception;
+
+/**
+ * Thrown if a purge is requested, but the underlying repository does not support the deletion of job executions.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class JobExecutionPurgeNotSupportedException extends SpringBatchLightminApplicationException {
+
+    private static final long serialVersionUID = 1L;
+
+    public JobExecutionPurgeNotSupportedException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package org.tuxdevelop.spring.batch.lightmin.exception;
+
+/**
+ * Thrown if the idempotency key of a job launch is still reserved by a running launch or has been used for another
+ * job.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class JobLaunchConflictException extends SpringBatchLightminApplicationException {
+
+    private static final long serialVersionUID = 1L;
+
+    public JobLaunchConflictException(final String message) {
+        super(message);
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.beans.factory.InitializingBean;
 import org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -20,6 +21,17 @@ public interface AdminService extends InitializingBean {
      */
     void saveJobConfiguration(JobConfiguration jobConfiguration);
 
+    /**
+     * Creates and saves the given {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}s as one
+     * batch. Invalid {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}s do not abort the
+     * import, they are reported within the result.
+     *
+     * @param jobConfigurations {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}s to save.
+     * @return the failure messages, mapped by the index of the failed
+     * {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration} within the given list
+     */
+    Map<Integer, String> saveJobConfigurations(List<JobConfiguration> jobConfigurations);
+
     /**
      * Udpates a existing {@link org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration}
      *
@@ -0,0 +1,68 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Progress of a bulk stop or restart of the {@link BulkJobExecutionOperator}
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class BulkJobExecutionOperationStatus {
+
+    public enum Operation {
+        STOP, RESTART
+    }
+
+    public enum State {
+        RUNNING, COMPLETED
+    }
+
+    private Long id;
+    private Operation operation;
+    private State state = State.RUNNING;
+    private Date startTime;
+    private Date endTime;
+    private int succeededCount;
+    private int failedCount;
+    private List<Item> items = new ArrayList<>();
+
+    @Data
+    public static class Item {
+
+        private Long jobExecutionId;
+        /**
+         * null as long as the operation is pending
+         */
+        private Boolean succeeded;
+        private String exitMessage;
+    }
+
+    public int getItemCount() {
+        return items.size();
+    }
+
+    BulkJobExecutionOperationStatus copy() {
+        final BulkJobExecutionOperationStatus copy = new BulkJobExecutionOperationStatus();
+        copy.setId(id);
+        copy.setOperation(operation);
+        copy.setState(state);
+        copy.setStartTime(startTime);
+        copy.setEndTime(endTime);
+        copy.setSucceededCount(succeededCount);
+        copy.setFailedCount(failedCount);
+        for (final Item item : items) {
+            final Item itemCopy = new Item();
+            itemCopy.setJobExecutionId(item.getJobExecutionId());
+            itemCopy.setSucceeded(item.getSucceeded());
+            itemCopy.setExitMessage(item.getExitMessage());
+            copy.getItems().add(itemCopy);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,226 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.NoSuchJobExecutionException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidBulkJobExecutionOperationException;
+import org.tuxdevelop.spring.batch.lightmin.util.RateLimiter;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stops or restarts many {@link org.springframework.batch.core.JobExecution}s at once. The operations run on a fixed
+ * count of worker threads and are spaced by a {@link RateLimiter} shared by all bulk operations, so a large bulk
+ * neither floods the job repository nor starts all restarted jobs at the same moment. Restarts hand the job over to
+ * an asynchronous {@link JobLauncher}, a worker only creates the new job execution and is free for the next operation,
+ * so stops are not queued behind running jobs. The count of job executions waiting for their operation is bounded,
+ * bulk operations exceeding it are rejected as a whole.
+ * <p>
+ * The progress of the last bulk operations is kept in memory.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Slf4j
+public class BulkJobExecutionOperator implements DisposableBean {
+
+    static final int HISTORY_SIZE = 100;
+
+    private final JobService jobService;
+    private final JobRegistry jobRegistry;
+    private final JobLauncher jobLauncher;
+    private final RateLimiter rateLimiter;
+    private final int maxPendingItems;
+    private final ExecutorService workerExecutor;
+    private final AtomicInteger pendingItems = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, BulkJobExecutionOperationStatus> statuses =
+            new LinkedHashMap<Long, BulkJobExecutionOperationStatus>() {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Long, BulkJobExecutionOperationStatus> eldest) {
+                    return size() > HISTORY_SIZE;
+                }
+            };
+
+    /**
+     * @param jobService          the service stopping the job executions and looking up the restarted ones
+     * @param jobRegistry         the registry of the restarted jobs
+     * @param jobLauncher         the asynchronous launcher running the restarted jobs
+     * @param workerThreads       the count of threads operating the job executions
+     * @param operationsPerSecond the rate of operations shared by all bulk operations
+     * @param maxPendingItems     the max count of job executions waiting for their operation
+     */
+    public BulkJobExecutionOperator(final JobService jobService,
+                                    final JobRegistry jobRegistry,
+                                    final JobLauncher jobLauncher,
+                                    final int workerThreads,
+                                    final double operationsPerSecond,
+                                    final int maxPendingItems) {
+        if (workerThreads < 1 || maxPendingItems < 1) {
+            throw new IllegalArgumentException("The worker threads and max pending items must be positive");
+        }
+        this.jobService = jobService;
+        this.jobRegistry = jobRegistry;
+        this.jobLauncher = jobLauncher;
+        this.rateLimiter = new RateLimiter(operationsPerSecond);
+        this.maxPendingItems = maxPendingItems;
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lightmin-bulk-operation-");
+        threadFactory.setDaemon(Boolean.TRUE);
+        this.workerExecutor = Executors.newFixedThreadPool(workerThreads, threadFactory);
+    }
+
+    /**
+     * Starts an asynchronous bulk operation, duplicate ids are operated once
+     *
+     * @param operation       the operation to apply
+     * @param jobExecutionIds the ids of the job executions
+     * @return the status of the started bulk operation
+     * @throws InvalidBulkJobExecutionOperationException if no ids or more ids than the max pending items are given
+     * @throws TaskRejectedException                     if the ids exceed the remaining capacity
+     */
+    public BulkJobExecutionOperationStatus start(final BulkJobExecutionOperationStatus.Operation operation,
+                                                 final Collection<Long> jobExecutionIds) {
+        if (jobExecutionIds == null || jobExecutionIds.isEmpty()) {
+            throw new InvalidBulkJobExecutionOperationException("A bulk operation requires at least one job execution");
+        }
+        final Set<Long> uniqueJobExecutionIds = new LinkedHashSet<>(jobExecutionIds);
+        final int itemCount = uniqueJobExecutionIds.size();
+        if (itemCount > maxPendingItems) {
+            throw new InvalidBulkJobExecutionOperationException("A bulk operation is limited to " + maxPendingItems
+                    + " job executions, requested: " + itemCount);
+        }
+        if (pendingItems.addAndGet(itemCount) > maxPendingItems) {
+            pendingItems.addAndGet(-itemCount);
+            throw new TaskRejectedException("The " + itemCount + " job executions exceed the remaining capacity of "
+                    + "the bulk operator, max pending job executions: " + maxPendingItems);
+        }
+        final BulkJobExecutionOperationStatus status = new BulkJobExecutionOperationStatus();
+        status.setId(sequence.incrementAndGet());
+        status.setOperation(operation);
+        status.setStartTime(new Date());
+        for (final Long jobExecutionId : uniqueJobExecutionIds) {
+            final BulkJobExecutionOperationStatus.Item item = new BulkJobExecutionOperationStatus.Item();
+            item.setJobExecutionId(jobExecutionId);
+            status.getItems().add(item);
+        }
+        synchronized (statuses) {
+            statuses.put(status.getId(), status);
+        }
+        final BulkJobExecutionOperationStatus copy = copy(status);
+        for (int i = 0; i < itemCount; i++) {
+            final int index = i;
+            workerExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    execute(status, index);
+                }
+            });
+        }
+        return copy;
+    }
+
+    /**
+     * @param id the id of a bulk operation
+     * @return the status of the bulk operation, null if it is unknown or not kept anymore
+     */
+    public BulkJobExecutionOperationStatus getStatus(final Long id) {
+        final BulkJobExecutionOperationStatus status;
+        synchronized (statuses) {
+            status = statuses.get(id);
+        }
+        return status == null ? null : copy(status);
+    }
+
+    /**
+     * @return the max count of job executions of a single bulk operation
+     */
+    public int getMaxPendingItems() {
+        return maxPendingItems;
+    }
+
+    @Override
+    public void destroy() {
+        workerExecutor.shutdownNow();
+    }
+
+    private void execute(final BulkJobExecutionOperationStatus status, final int index) {
+        final Long jobExecutionId;
+        synchronized (status) {
+            jobExecutionId = status.getItems().get(index).getJobExecutionId();
+        }
+        try {
+            rateLimiter.acquire();
+            if (BulkJobExecutionOperationStatus.Operation.RESTART.equals(status.getOperation())) {
+                restart(jobExecutionId);
+            } else {
+                jobService.stopJobExecution(jobExecutionId);
+            }
+            complete(status, index, null);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            complete(status, index, "Interrupted");
+        } catch (final Exception e) {
+            log.debug("Could not " + status.getOperation() + " job execution " + jobExecutionId + ": "
+                    + e.getMessage());
+            complete(status, index, e.getMessage() == null ? e.getClass().getName() : e.getMessage());
+        } finally {
+            pendingItems.decrementAndGet();
+        }
+    }
+
+    /*
+     * Restarts like the JobOperator, but with the asynchronous launcher, so the worker does not wait for the job
+     */
+    private void restart(final Long jobExecutionId) throws Exception {
+        final JobExecution jobExecution = jobService.getJobExecution(jobExecutionId);
+        if (jobExecution == null) {
+            throw new NoSuchJobExecutionException("No JobExecution found for id: [" + jobExecutionId + "]");
+        }
+        final Job job = jobRegistry.getJob(jobExecution.getJobInstance().getJobName());
+        jobLauncher.run(job, jobExecution.getJobParameters());
+    }
+
+    private static void complete(final BulkJobExecutionOperationStatus status,
+                                 final int index,
+                                 final String failure) {
+        synchronized (status) {
+            final BulkJobExecutionOperationStatus.Item item = status.getItems().get(index);
+            if (failure == null) {
+                item.setSucceeded(Boolean.TRUE);
+                status.setSucceededCount(status.getSucceededCount() + 1);
+            } else {
+                item.setSucceeded(Boolean.FALSE);
+                item.setExitMessage(failure);
+                status.setFailedCount(status.getFailedCount() + 1);
+            }
+            if (status.getSucceededCount() + status.getFailedCount() == status.getItemCount()) {
+                status.setState(BulkJobExecutionOperationStatus.State.COMPLETED);
+                status.setEndTime(new Date());
+            }
+        }
+    }
+
+    private static BulkJobExecutionOperationStatus copy(final BulkJobExecutionOperationStatus status) {
+        synchronized (status) {
+            return status.copy();
+        }
+    }
+}
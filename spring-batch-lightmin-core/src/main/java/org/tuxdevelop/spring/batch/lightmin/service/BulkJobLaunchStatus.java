@@ -0,0 +1,64 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import lombok.Data;
+import org.springframework.batch.core.BatchStatus;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Progress of a bulk launch of the {@link BulkJobLauncher}
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class BulkJobLaunchStatus {
+
+    public enum State {
+        RUNNING, COMPLETED
+    }
+
+    private Long id;
+    private String jobName;
+    private State state = State.RUNNING;
+    private Date startTime;
+    private Date endTime;
+    private int launchedCount;
+    private int failedCount;
+    private List<Item> items = new ArrayList<>();
+
+    @Data
+    public static class Item {
+
+        private int index;
+        private Long jobExecutionId;
+        private BatchStatus status;
+        private String exitMessage;
+    }
+
+    public int getItemCount() {
+        return items.size();
+    }
+
+    BulkJobLaunchStatus copy() {
+        final BulkJobLaunchStatus copy = new BulkJobLaunchStatus();
+        copy.setId(id);
+        copy.setJobName(jobName);
+        copy.setState(state);
+        copy.setStartTime(startTime);
+        copy.setEndTime(endTime);
+        copy.setLaunchedCount(launchedCount);
+        copy.setFailedCount(failedCount);
+        for (final Item item : items) {
+            final Item itemCopy = new Item();
+            itemCopy.setIndex(item.getIndex());
+            itemCopy.setJobExecutionId(item.getJobExecutionId());
+            itemCopy.setStatus(item.getStatus());
+            itemCopy.setExitMessage(item.getExitMessage());
+            copy.getItems().add(itemCopy);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,176 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidBulkJobLaunchException;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Launches a {@link Job} once per parameter set. The job is resolved once per bulk launch, the launches are admitted
+ * by a fixed count of admission threads, which create the job executions in parallel and hand them over to the
+ * {@link JobLauncher}. The count of parameter sets waiting for admission is bounded, bulk launches exceeding it are
+ * rejected as a whole.
+ * <p>
+ * The progress of the last bulk launches is kept in memory.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Slf4j
+public class BulkJobLauncher implements DisposableBean {
+
+    static final int HISTORY_SIZE = 100;
+
+    private final JobLauncher jobLauncher;
+    private final JobRegistry jobRegistry;
+    private final int maxPendingItems;
+    private final ExecutorService admissionExecutor;
+    private final AtomicInteger pendingItems = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, BulkJobLaunchStatus> statuses = new LinkedHashMap<Long, BulkJobLaunchStatus>() {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, BulkJobLaunchStatus> eldest) {
+            return size() > HISTORY_SIZE;
+        }
+    };
+
+    public BulkJobLauncher(final JobLauncher jobLauncher,
+                           final JobRegistry jobRegistry,
+                           final int admissionThreads,
+                           final int maxPendingItems) {
+        if (admissionThreads < 1 || maxPendingItems < 1) {
+            throw new IllegalArgumentException("The admission threads and max pending items must be positive");
+        }
+        this.jobLauncher = jobLauncher;
+        this.jobRegistry = jobRegistry;
+        this.maxPendingItems = maxPendingItems;
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lightmin-bulk-launch-");
+        threadFactory.setDaemon(Boolean.TRUE);
+        this.admissionExecutor = Executors.newFixedThreadPool(admissionThreads, threadFactory);
+    }
+
+    /**
+     * Starts an asynchronous bulk launch
+     *
+     * @param jobName           the name of the {@link Job} to launch
+     * @param jobParametersList the parameter sets, the job is launched once per set
+     * @return the status of the started bulk launch
+     * @throws InvalidBulkJobLaunchException if the job is unknown or no parameter sets are given
+     * @throws TaskRejectedException         if the parameter sets exceed the remaining admission capacity
+     */
+    public BulkJobLaunchStatus launch(final String jobName, final List<JobParameters> jobParametersList) {
+        if (jobParametersList == null || jobParametersList.isEmpty()) {
+            throw new InvalidBulkJobLaunchException("A bulk launch requires at least one parameter set");
+        }
+        final Job job;
+        try {
+            job = jobRegistry.getJob(jobName);
+        } catch (final NoSuchJobException e) {
+            throw new InvalidBulkJobLaunchException("Unknown job: " + jobName);
+        }
+        final int itemCount = jobParametersList.size();
+        if (pendingItems.addAndGet(itemCount) > maxPendingItems) {
+            pendingItems.addAndGet(-itemCount);
+            throw new TaskRejectedException("The " + itemCount + " parameter sets exceed the remaining capacity of "
+                    + "the bulk launcher, max pending parameter sets: " + maxPendingItems);
+        }
+        final BulkJobLaunchStatus status = new BulkJobLaunchStatus();
+        status.setId(sequence.incrementAndGet());
+        status.setJobName(jobName);
+        status.setStartTime(new Date());
+        for (int i = 0; i < itemCount; i++) {
+            final BulkJobLaunchStatus.Item item = new BulkJobLaunchStatus.Item();
+            item.setIndex(i);
+            status.getItems().add(item);
+        }
+        synchronized (statuses) {
+            statuses.put(status.getId(), status);
+        }
+        final BulkJobLaunchStatus copy = copy(status);
+        for (int i = 0; i < itemCount; i++) {
+            final int index = i;
+            final JobParameters jobParameters = jobParametersList.get(i);
+            admissionExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    admit(status, index, job, jobParameters);
+                }
+            });
+        }
+        return copy;
+    }
+
+    /**
+     * @param id the id of a bulk launch
+     * @return the status of the bulk launch, null if it is unknown or not kept anymore
+     */
+    public BulkJobLaunchStatus getStatus(final Long id) {
+        final BulkJobLaunchStatus status;
+        synchronized (statuses) {
+            status = statuses.get(id);
+        }
+        return status == null ? null : copy(status);
+    }
+
+    @Override
+    public void destroy() {
+        admissionExecutor.shutdownNow();
+    }
+
+    private void admit(final BulkJobLaunchStatus status,
+                       final int index,
+                       final Job job,
+                       final JobParameters jobParameters) {
+        try {
+            final JobExecution jobExecution = jobLauncher.run(job, jobParameters);
+            synchronized (status) {
+                final BulkJobLaunchStatus.Item item = status.getItems().get(index);
+                item.setJobExecutionId(jobExecution.getId());
+                item.setStatus(jobExecution.getStatus());
+                status.setLaunchedCount(status.getLaunchedCount() + 1);
+                complete(status);
+            }
+        } catch (final Exception e) {
+            log.debug("Could not launch item " + index + " of bulk launch " + status.getId() + ": " + e.getMessage());
+            synchronized (status) {
+                status.getItems().get(index).setExitMessage(e.getMessage());
+                status.setFailedCount(status.getFailedCount() + 1);
+                complete(status);
+            }
+        } finally {
+            pendingItems.decrementAndGet();
+        }
+    }
+
+    private static void complete(final BulkJobLaunchStatus status) {
+        if (status.getLaunchedCount() + status.getFailedCount() == status.getItemCount()) {
+            status.setState(BulkJobLaunchStatus.State.COMPLETED);
+            status.setEndTime(new Date());
+        }
+    }
+
+    private static BulkJobLaunchStatus copy(final BulkJobLaunchStatus status) {
+        synchronized (status) {
+            return status.copy();
+        }
+    }
+}
@@ -6,11 +6,9 @@ import org.tuxdevelop.spring.batch.lightmin.admin.repository.JobConfigurationRep
 import org.tuxdevelop.spring.batch.lightmin.exception.NoSuchJobConfigurationException;
 import org.tuxdevelop.spring.batch.lightmin.exception.NoSuchJobException;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
+import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminConfigurationException;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.*;
 
 /**
  * @author Marcel Becker
@@ -72,6 +70,53 @@ public class DefaultAdminService implements AdminService {
         }
     }
 
+    @Override
+    public Map<Integer, String> saveJobConfigurations(final List<JobConfiguration> jobConfigurations) {
+        final Map<Integer, String> failures = new TreeMap<>();
+        final Map<JobConfiguration, Integer> indexes = new IdentityHashMap<>();
+        final List<JobConfiguration> validJobConfigurations = new ArrayList<>(jobConfigurations.size());
+        for (int i = 0; i < jobConfigurations.size(); i++) {
+            final JobConfiguration jobConfiguration = jobConfigurations.get(i);
+            try {
+                jobConfiguration.validateForSave();
+                setTempBeanName(jobConfiguration);
+                indexes.put(jobConfiguration, i);
+                validJobConfigurations.add(jobConfiguration);
+            } catch (final SpringBatchLightminApplicationException e) {
+                failures.put(i, e.getMessage());
+            }
+        }
+        if (validJobConfigurations.isEmpty()) {
+            return failures;
+        }
+        final Collection<JobConfiguration> addedJobConfigurations =
+                jobConfigurationRepository.addAll(validJobConfigurations);
+        final List<JobConfiguration> registeredJobConfigurations = new ArrayList<>(addedJobConfigurations.size());
+        for (final JobConfiguration jobConfiguration : addedJobConfigurations) {
+            try {
+                registerBean(jobConfiguration);
+                registeredJobConfigurations.add(jobConfiguration);
+            } catch (final SpringBatchLightminConfigurationException | SpringBatchLightminApplicationException e) {
+                log.error("Could not register bean for JobConfiguration {}: {}",
+                        jobConfiguration.getJobConfigurationId(), e.getMessage());
+                failures.put(indexes.get(jobConfiguration), e.getMessage());
+                deleteQuietly(jobConfiguration);
+            }
+        }
+        final List<JobConfiguration> updatedJobConfigurations = updateRegistered(registeredJobConfigurations,
+                indexes, failures);
+        for (final JobConfiguration jobConfiguration : updatedJobConfigurations) {
+            try {
+                startBean(jobConfiguration);
+            } catch (final SpringBatchLightminConfigurationException e) {
+                log.error("Could not start bean for JobConfiguration {}: {}",
+                        jobConfiguration.getJobConfigurationId(), e.getMessage());
+                failures.put(indexes.get(jobConfiguration), e.getMessage());
+            }
+        }
+        return failures;
+    }
+
     @Override
     public void updateJobConfiguration(final JobConfiguration jobConfiguration) {
         jobConfiguration.validateForUpdate();
@@ -217,6 +262,95 @@ public class DefaultAdminService implements AdminService {
         assert schedulerService != null;
     }
 
+    private void setTempBeanName(final JobConfiguration jobConfiguration) {
+        if (jobConfiguration.getJobSchedulerConfiguration() != null) {
+            jobConfiguration.getJobSchedulerConfiguration().setBeanName(TEMP_BEAN_NAME + "_SCHEDULER_" + jobConfiguration.getJobConfigurationId());
+        } else if (jobConfiguration.getJobListenerConfiguration() != null) {
+            jobConfiguration.getJobListenerConfiguration().setBeanName(TEMP_BEAN_NAME + "_LISTENER_" + jobConfiguration
+                    .getJobConfigurationId());
+        }
+    }
+
+    private void registerBean(final JobConfiguration jobConfiguration) {
+        if (jobConfiguration.getJobSchedulerConfiguration() != null) {
+            jobConfiguration.getJobSchedulerConfiguration().setBeanName(null);
+            final String beanName = schedulerService.registerSchedulerForJob(jobConfiguration);
+            jobConfiguration.getJobSchedulerConfiguration().setBeanName(beanName);
+        } else if (jobConfiguration.getJobListenerConfiguration() != null) {
+            jobConfiguration.getJobListenerConfiguration().setBeanName(null);
+            final String beanName = listenerService.registerListenerForJob(jobConfiguration);
+            jobConfiguration.getJobListenerConfiguration().setBeanName(beanName);
+        }
+    }
+
+    /*
+     * Stores the bean names of the registered JobConfigurations. If the bulk update fails, each JobConfiguration is
+     * updated on its own, so that a single conflict or mapping error only fails the affected item. Failed items get
+     * their bean unregistered and are removed again.
+     */
+    private List<JobConfiguration> updateRegistered(final List<JobConfiguration> registeredJobConfigurations,
+                                                    final Map<JobConfiguration, Integer> indexes,
+                                                    final Map<Integer, String> failures) {
+        if (registeredJobConfigurations.isEmpty()) {
+            return registeredJobConfigurations;
+        }
+        try {
+            jobConfigurationRepository.updateAll(registeredJobConfigurations);
+            return registeredJobConfigurations;
+        } catch (final RuntimeException e) {
+            log.warn("Bulk update of {} JobConfigurations failed, updating them one by one: {}",
+                    registeredJobConfigurations.size(), e.getMessage());
+        }
+        final List<JobConfiguration> updatedJobConfigurations = new ArrayList<>(registeredJobConfigurations.size());
+        for (final JobConfiguration jobConfiguration : registeredJobConfigurations) {
+            try {
+                jobConfigurationRepository.update(jobConfiguration);
+                updatedJobConfigurations.add(jobConfiguration);
+            } catch (final NoSuchJobConfigurationException | RuntimeException e) {
+                log.error("Could not update JobConfiguration {}: {}", jobConfiguration.getJobConfigurationId(),
+                        e.getMessage());
+                failures.put(indexes.get(jobConfiguration), e.getMessage());
+                unregisterBeanQuietly(jobConfiguration);
+                deleteQuietly(jobConfiguration);
+            }
+        }
+        return updatedJobConfigurations;
+    }
+
+    private void unregisterBeanQuietly(final JobConfiguration jobConfiguration) {
+        try {
+            if (jobConfiguration.getJobSchedulerConfiguration() != null) {
+                schedulerService.unregisterSchedulerForJob(jobConfiguration.getJobSchedulerConfiguration().getBeanName());
+            } else if (jobConfiguration.getJobListenerConfiguration() != null) {
+                listenerService.unregisterListenerForJob(jobConfiguration.getJobListenerConfiguration().getBeanName());
+            }
+        } catch (final RuntimeException e) {
+            log.warn("Could not unregister bean for JobConfiguration {}: {}", jobConfiguration.getJobConfigurationId(),
+                    e.getMessage());
+        }
+    }
+
+    private void startBean(final JobConfiguration jobConfiguration) {
+        final JobSchedulerConfiguration jobSchedulerConfiguration = jobConfiguration.getJobSchedulerConfiguration();
+        final JobListenerConfiguration jobListenerConfiguration = jobConfiguration.getJobListenerConfiguration();
+        if (jobSchedulerConfiguration != null
+                && SchedulerStatus.RUNNING.equals(jobSchedulerConfiguration.getSchedulerStatus())) {
+            schedulerService.schedule(jobSchedulerConfiguration.getBeanName(), Boolean.TRUE);
+        } else if (jobListenerConfiguration != null
+                && ListenerStatus.ACTIVE.equals(jobListenerConfiguration.getListenerStatus())) {
+            listenerService.activateListener(jobListenerConfiguration.getBeanName(), Boolean.TRUE);
+        }
+    }
+
+    private void deleteQuietly(final JobConfiguration jobConfiguration) {
+        try {
+            jobConfigurationRepository.delete(jobConfiguration);
+        } catch (final NoSuchJobConfigurationException e) {
+            log.warn("Could not remove JobConfiguration {}: {}", jobConfiguration.getJobConfigurationId(),
+                    e.getMessage());
+        }
+    }
+
     private void attachSchedulerStatus(final Collection<JobConfiguration> jobConfigurations) {
         for (final JobConfiguration jobConfiguration : jobConfigurations) {
             attachSchedulerStatus(jobConfiguration);
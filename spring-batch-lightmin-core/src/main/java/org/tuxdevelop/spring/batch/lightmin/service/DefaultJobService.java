@@ -10,9 +10,14 @@ import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobOperator;
 import org.springframework.batch.core.launch.NoSuchJobException;
 import org.springframework.util.CollectionUtils;
+import org.tuxdevelop.spring.batch.lightmin.dao.ExecutionStatistics;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobExecutionCallback;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobExecutionSearchCriteria;
 import org.tuxdevelop.spring.batch.lightmin.dao.LightminJobExecutionDao;
+import org.tuxdevelop.spring.batch.lightmin.dao.SerializedExecutionContext;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
 
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -28,31 +33,46 @@ public class DefaultJobService implements JobService {
     private final JobRegistry jobRegistry;
     private final JobExplorer jobExplorer;
     private final LightminJobExecutionDao lightminJobExecutionDao;
+    private final JobCountCache jobCountCache;
 
     public DefaultJobService(final JobOperator jobOperator,
                              final JobRegistry jobRegistry,
                              final JobExplorer jobExplorer,
                              final LightminJobExecutionDao lightminJobExecutionDao) {
+        this(jobOperator, jobRegistry, jobExplorer, lightminJobExecutionDao,
+                new JobCountCache(lightminJobExecutionDao, 0));
+    }
+
+    public DefaultJobService(final JobOperator jobOperator,
+                             final JobRegistry jobRegistry,
+                             final JobExplorer jobExplorer,
+                             final LightminJobExecutionDao lightminJobExecutionDao,
+                             final JobCountCache jobCountCache) {
         this.jobOperator = jobOperator;
         this.jobRegistry = jobRegistry;
         this.jobExplorer = jobExplorer;
         this.lightminJobExecutionDao = lightminJobExecutionDao;
+        this.jobCountCache = jobCountCache;
     }
 
     @Override
     public int getJobInstanceCount(final String jobName) {
-        int jobInstanceCount = 0;
-        try {
-            jobInstanceCount = jobExplorer.getJobInstanceCount(jobName);
-        } catch (final NoSuchJobException e) {
-            log.info(e.getMessage(), e);
-        }
-        return jobInstanceCount;
+        return getJobInstanceCount(jobName, false);
+    }
+
+    @Override
+    public int getJobInstanceCount(final String jobName, final boolean estimated) {
+        return jobCountCache.getJobInstanceCount(jobName, estimated);
     }
 
     @Override
     public int getJobExecutionCount(final JobInstance jobInstance) {
-        return lightminJobExecutionDao.getJobExecutionCount(jobInstance);
+        return getJobExecutionCount(jobInstance, false);
+    }
+
+    @Override
+    public int getJobExecutionCount(final JobInstance jobInstance, final boolean estimated) {
+        return jobCountCache.getJobExecutionCount(jobInstance, estimated);
     }
 
     @Override
@@ -74,38 +94,75 @@ public class DefaultJobService implements JobService {
 
     @Override
     public Collection<JobInstance> getJobInstances(final String jobName, final int startIndex, final int pageSize) {
-        return jobExplorer.getJobInstances(jobName, startIndex, pageSize);
+        return lightminJobExecutionDao.getJobInstances(jobName, startIndex, pageSize);
+    }
+
+    @Override
+    public Collection<JobInstance> getJobInstancesAfter(final String jobName, final Long jobInstanceId,
+                                                        final int pageSize) {
+        return lightminJobExecutionDao.getJobInstancesAfter(jobName, jobInstanceId, pageSize);
     }
 
     @Override
     public Collection<JobExecution> getJobExecutions(final JobInstance jobInstance) {
-        final Collection<JobExecution> jobExecutions = new LinkedList<>();
-        final List<JobExecution> jobExecutionList = jobExplorer.getJobExecutions(jobInstance);
-        jobExecutions.addAll(jobExecutionList);
-        return jobExecutions;
+        return lightminJobExecutionDao.findJobExecutions(jobInstance, 0,
+                lightminJobExecutionDao.getJobExecutionCount(jobInstance));
     }
 
     @Override
     public Collection<JobExecution> getJobExecutions(final JobInstance jobInstance, final int start, final int count) {
-        final Collection<JobExecution> jobExecutions = new LinkedList<>();
-        final List<JobExecution> jobExecutionList = lightminJobExecutionDao.findJobExecutions(jobInstance, start, count);
-        jobExecutions.addAll(jobExecutionList);
-        return jobExecutions;
+        return lightminJobExecutionDao.findJobExecutions(jobInstance, start, count);
+    }
+
+    @Override
+    public Collection<JobExecution> getJobExecutionsAfter(final JobInstance jobInstance, final Long jobExecutionId,
+                                                          final int count) {
+        return lightminJobExecutionDao.findJobExecutionsAfter(jobInstance, jobExecutionId, count);
+    }
+
+    @Override
+    public Collection<JobExecution> searchJobExecutions(final JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                                        final Long jobExecutionId,
+                                                        final int count) {
+        return lightminJobExecutionDao.searchJobExecutions(jobExecutionSearchCriteria, jobExecutionId, count);
+    }
+
+    @Override
+    public void streamJobExecutions(final JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                    final JobExecutionCallback jobExecutionCallback) throws IOException {
+        lightminJobExecutionDao.streamJobExecutions(jobExecutionSearchCriteria, jobExecutionCallback);
+    }
+
+    @Override
+    public ExecutionStatistics getExecutionStatistics(final String jobName,
+                                                      final Date startTimeFrom,
+                                                      final Date startTimeTo) {
+        return lightminJobExecutionDao.getExecutionStatistics(jobName, startTimeFrom, startTimeTo);
     }
 
     @Override
     public JobExecution getJobExecution(final Long jobExecutionId) {
-        return jobExplorer.getJobExecution(jobExecutionId);
+        return lightminJobExecutionDao.getJobExecution(jobExecutionId);
+    }
+
+    @Override
+    public List<JobExecution> getJobExecutionsWithStepExecutions(final Collection<Long> jobExecutionIds) {
+        return lightminJobExecutionDao.getJobExecutionsWithStepExecutions(jobExecutionIds);
+    }
+
+    @Override
+    public SerializedExecutionContext getJobExecutionContext(final Long jobExecutionId, final int maxLength) {
+        return lightminJobExecutionDao.getJobExecutionContext(jobExecutionId, maxLength);
     }
 
     @Override
     public JobInstance getJobInstance(final Long jobInstanceId) {
-        return jobExplorer.getJobInstance(jobInstanceId);
+        return lightminJobExecutionDao.getJobInstance(jobInstanceId);
     }
 
     @Override
     public void attachJobInstance(final JobExecution jobExecution) {
-        final JobInstance jobInstance = jobExplorer.getJobInstance(jobExecution.getJobInstance().getId());
+        final JobInstance jobInstance = lightminJobExecutionDao.getJobInstance(jobExecution.getJobInstance().getId());
         jobExecution.setJobInstance(jobInstance);
     }
 
@@ -4,8 +4,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
-import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
@@ -16,6 +16,7 @@ import org.tuxdevelop.spring.batch.lightmin.admin.listener.Listener;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminConfigurationException;
 import org.tuxdevelop.spring.batch.lightmin.util.BeanRegistrar;
+import org.tuxdevelop.spring.batch.lightmin.util.JobParametersTemplate;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -33,17 +34,29 @@ public class DefaultListenerService implements ListenerService, InitializingBean
 
     private final BeanRegistrar beanRegistrar;
     private final JobRegistry jobRegistry;
-    private final JobRepository jobRepository;
+    private final JobLauncherRegistry jobLauncherRegistry;
+    private final JobExplorer jobExplorer;
 
     @Autowired
     public void setApplicationContext(final ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
     }
 
-    public DefaultListenerService(final BeanRegistrar beanRegistrar, final JobRegistry jobRegistry, final JobRepository jobRepository) {
+    public DefaultListenerService(final BeanRegistrar beanRegistrar, final JobRegistry jobRegistry,
+                                  final JobLauncherRegistry jobLauncherRegistry) {
+        this(beanRegistrar, jobRegistry, jobLauncherRegistry, null);
+    }
+
+    /**
+     * @param jobExplorer explorer of the last launches of a job, ${seq} parameter templates continue after their
+     *                    values, may be null
+     */
+    public DefaultListenerService(final BeanRegistrar beanRegistrar, final JobRegistry jobRegistry,
+                                  final JobLauncherRegistry jobLauncherRegistry, final JobExplorer jobExplorer) {
         this.beanRegistrar = beanRegistrar;
         this.jobRegistry = jobRegistry;
-        this.jobRepository = jobRepository;
+        this.jobLauncherRegistry = jobLauncherRegistry;
+        this.jobExplorer = jobExplorer;
     }
 
     @Override
@@ -103,7 +116,7 @@ public class DefaultListenerService implements ListenerService, InitializingBean
         try {
             final ListenerConstructorWrapper listenerConstructorWrapper = new ListenerConstructorWrapper();
             final JobListenerConfiguration jobListenerConfiguration = jobConfiguration.getJobListenerConfiguration();
-            final JobLauncher jobLauncher = ServiceUtil.createJobLauncher(jobListenerConfiguration.getTaskExecutorType(), jobRepository);
+            final JobLauncher jobLauncher = jobLauncherRegistry.getJobLauncher(jobListenerConfiguration.getTaskExecutorType());
             final JobParameters jobParameters = ServiceUtil.mapToJobParameters(jobConfiguration.getJobParameters());
             final Job job = jobRegistry.getJob(jobConfiguration.getJobName());
             listenerConstructorWrapper.setJob(job);
@@ -111,6 +124,9 @@ public class DefaultListenerService implements ListenerService, InitializingBean
             listenerConstructorWrapper.setJobLauncher(jobLauncher);
             listenerConstructorWrapper.setJobConfiguration(jobConfiguration);
             listenerConstructorWrapper.setJobIncrementer(jobConfiguration.getJobIncrementer());
+            listenerConstructorWrapper.setJobParametersTemplate(JobParametersTemplate.compile(jobParameters,
+                    jobConfiguration.getJobIncrementer(), ServiceUtil.getLastJobParameters(jobExplorer,
+                            jobConfiguration.getJobName(), jobParameters)));
             if (!StringUtils.hasText(jobListenerConfiguration.getBeanName())) {
                 beanName = generateSchedulerBeanName(jobConfiguration.getJobName(),
                         jobConfiguration.getJobConfigurationId(), jobListenerConfiguration.getJobListenerType());
@@ -4,8 +4,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
-import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.tuxdevelop.spring.batch.lightmin.admin.domain.*;
@@ -14,6 +14,7 @@ import org.tuxdevelop.spring.batch.lightmin.admin.scheduler.PeriodScheduler;
 import org.tuxdevelop.spring.batch.lightmin.admin.scheduler.Scheduler;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminConfigurationException;
 import org.tuxdevelop.spring.batch.lightmin.util.BeanRegistrar;
+import org.tuxdevelop.spring.batch.lightmin.util.JobParametersTemplate;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -30,14 +31,25 @@ public class DefaultSchedulerService implements SchedulerService {
     private ApplicationContext applicationContext;
 
     private final BeanRegistrar beanRegistrar;
-    private final JobRepository jobRepository;
+    private final JobLauncherRegistry jobLauncherRegistry;
     private final JobRegistry jobRegistry;
+    private final JobExplorer jobExplorer;
 
-    public DefaultSchedulerService(final BeanRegistrar beanRegistrar, final JobRepository jobRepository,
+    public DefaultSchedulerService(final BeanRegistrar beanRegistrar, final JobLauncherRegistry jobLauncherRegistry,
                                    final JobRegistry jobRegistry) {
+        this(beanRegistrar, jobLauncherRegistry, jobRegistry, null);
+    }
+
+    /**
+     * @param jobExplorer explorer of the last launches of a job, ${seq} parameter templates continue after their
+     *                    values, may be null
+     */
+    public DefaultSchedulerService(final BeanRegistrar beanRegistrar, final JobLauncherRegistry jobLauncherRegistry,
+                                   final JobRegistry jobRegistry, final JobExplorer jobExplorer) {
         this.beanRegistrar = beanRegistrar;
-        this.jobRepository = jobRepository;
+        this.jobLauncherRegistry = jobLauncherRegistry;
         this.jobRegistry = jobRegistry;
+        this.jobExplorer = jobExplorer;
     }
 
     @Autowired
@@ -118,15 +130,15 @@ public class DefaultSchedulerService implements SchedulerService {
     @Override
     public void afterPropertiesSet() {
         assert beanRegistrar != null;
-        assert jobRepository != null;
+        assert jobLauncherRegistry != null;
         assert jobRegistry != null;
     }
 
     private String registerScheduler(final JobConfiguration jobConfiguration, final Class<?> schedulerClass) {
         try {
             final Set<Object> constructorValues = new HashSet<>();
-            final JobLauncher jobLauncher = ServiceUtil.createJobLauncher(jobConfiguration.getJobSchedulerConfiguration().getTaskExecutorType(),
-                    jobRepository);
+            final JobLauncher jobLauncher = jobLauncherRegistry.getJobLauncher(jobConfiguration
+                    .getJobSchedulerConfiguration().getTaskExecutorType());
             final Job job = jobRegistry.getJob(jobConfiguration.getJobName());
             final JobParameters jobParameters = ServiceUtil.mapToJobParameters(jobConfiguration.getJobParameters());
             final JobSchedulerConfiguration jobSchedulerConfiguration = jobConfiguration.getJobSchedulerConfiguration();
@@ -143,6 +155,9 @@ public class DefaultSchedulerService implements SchedulerService {
             schedulerConstructorWrapper.setJob(job);
             schedulerConstructorWrapper.setJobLauncher(jobLauncher);
             schedulerConstructorWrapper.setJobIncrementer(jobConfiguration.getJobIncrementer());
+            schedulerConstructorWrapper.setJobParametersTemplate(JobParametersTemplate.compile(jobParameters,
+                    jobConfiguration.getJobIncrementer(), ServiceUtil.getLastJobParameters(jobExplorer,
+                            jobConfiguration.getJobName(), jobParameters)));
             schedulerConstructorWrapper.setJobConfiguration(jobConfiguration);
             constructorValues.add(schedulerConstructorWrapper);
             beanRegistrar.registerBean(schedulerClass, beanName, constructorValues, null, null, null, null);
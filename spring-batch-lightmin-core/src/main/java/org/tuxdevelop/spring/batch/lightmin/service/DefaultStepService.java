@@ -3,7 +3,12 @@ package org.tuxdevelop.spring.batch.lightmin.service;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.explore.JobExplorer;
-import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
+import org.tuxdevelop.spring.batch.lightmin.dao.LightminJobExecutionDao;
+import org.tuxdevelop.spring.batch.lightmin.dao.SerializedExecutionContext;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Default implementation of {@link org.tuxdevelop.spring.batch.lightmin.service.StepService}
@@ -14,26 +19,62 @@ import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplica
 public class DefaultStepService implements StepService {
 
     private final JobExplorer jobExplorer;
+    private final LightminJobExecutionDao lightminJobExecutionDao;
 
-    public DefaultStepService(final JobExplorer jobExplorer) {
+    public DefaultStepService(final JobExplorer jobExplorer,
+                              final LightminJobExecutionDao lightminJobExecutionDao) {
         this.jobExplorer = jobExplorer;
+        this.lightminJobExecutionDao = lightminJobExecutionDao;
     }
 
+    /**
+     * The {@link StepExecution} is taken from the attached step executions, if present. Otherwise the step executions
+     * are loaded without their contexts, as opposed to {@link JobExplorer#getStepExecution(Long, Long)}, which
+     * deserializes the contexts of the job execution and of the step execution.
+     */
     @Override
     public StepExecution getStepExecution(final JobExecution jobExecution, final Long stepExecutionId) {
-        return jobExplorer.getStepExecution(jobExecution.getId(), stepExecutionId);
+        StepExecution stepExecution = findStepExecution(jobExecution.getStepExecutions(), stepExecutionId);
+        if (stepExecution == null) {
+            final List<JobExecution> jobExecutions = lightminJobExecutionDao.getJobExecutionsWithStepExecutions(
+                    Collections.singleton(jobExecution.getId()));
+            if (!jobExecutions.isEmpty()) {
+                stepExecution = findStepExecution(jobExecutions.get(0).getStepExecutions(), stepExecutionId);
+            }
+        }
+        return stepExecution;
     }
 
     @Override
-    public void attachStepExecutions(JobExecution jobExecution) {
-        jobExecution = jobExplorer.getJobExecution(jobExecution.getId());
-        if (jobExecution == null) {
-            throw new SpringBatchLightminApplicationException("Could not attach StepExecutions for JobExecution");
-        }
+    public void attachStepExecutions(final JobExecution jobExecution) {
+        attachStepExecutions(Collections.singleton(jobExecution));
+    }
+
+    @Override
+    public void attachStepExecutions(final Collection<JobExecution> jobExecutions) {
+        lightminJobExecutionDao.attachStepExecutions(jobExecutions);
+    }
+
+    @Override
+    public SerializedExecutionContext getStepExecutionContext(final Long jobExecutionId,
+                                                              final Long stepExecutionId,
+                                                              final int maxLength) {
+        return lightminJobExecutionDao.getStepExecutionContext(jobExecutionId, stepExecutionId, maxLength);
     }
 
     @Override
     public void afterPropertiesSet() {
         assert jobExplorer != null;
+        assert lightminJobExecutionDao != null;
+    }
+
+    private static StepExecution findStepExecution(final Collection<StepExecution> stepExecutions,
+                                                   final Long stepExecutionId) {
+        for (final StepExecution stepExecution : stepExecutions) {
+            if (stepExecutionId.equals(stepExecution.getId())) {
+                return stepExecution;
+            }
+        }
+        return null;
     }
 }
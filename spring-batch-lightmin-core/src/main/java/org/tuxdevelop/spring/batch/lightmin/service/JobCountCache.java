@@ -0,0 +1,185 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.tuxdevelop.spring.batch.lightmin.dao.LightminJobExecutionDao;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches the job instance count per job name and the job execution count per {@link JobInstance}. The counts are
+ * loaded on first access, incremented by {@link #beforeJob(JobExecution)} for every started execution and reconciled
+ * against the repository every reconciliation interval. Cached job execution counts are evicted on reconciliation and
+ * reloaded on the next access.
+ * <p>
+ * Exact counts are always read from the repository and refresh the cache. Only estimated counts are served from the
+ * cache, they may miss executions started by other instances sharing the repository until the next reconciliation.
+ * A reconciliation interval less or equal to zero disables the cache and every count is read from the repository.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Slf4j
+public class JobCountCache implements JobExecutionListener, DisposableBean {
+
+    private final LightminJobExecutionDao lightminJobExecutionDao;
+    private final long reconciliationInterval;
+    private final ConcurrentMap<String, Count> jobInstanceCounts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<JobInstance, Count> jobExecutionCounts = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService reconciliationExecutor;
+
+    public JobCountCache(final LightminJobExecutionDao lightminJobExecutionDao,
+                         final long reconciliationInterval) {
+        this.lightminJobExecutionDao = lightminJobExecutionDao;
+        this.reconciliationInterval = reconciliationInterval;
+        if (isEnabled()) {
+            final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lightmin-job-count-");
+            threadFactory.setDaemon(Boolean.TRUE);
+            this.reconciliationExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            this.reconciliationExecutor.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    reconcile();
+                }
+            }, reconciliationInterval, reconciliationInterval, TimeUnit.MILLISECONDS);
+        } else {
+            this.reconciliationExecutor = null;
+        }
+    }
+
+    /**
+     * Retrieves the count of job instances of a job
+     *
+     * @param jobName   name of the job
+     * @param estimated if true, a cached count is returned, otherwise the job instances are counted
+     * @return the count of job instances
+     */
+    public int getJobInstanceCount(final String jobName, final boolean estimated) {
+        final int jobInstanceCount;
+        if (isEnabled()) {
+            final Count count = jobInstanceCounts.get(jobName);
+            if (count == null || !estimated) {
+                jobInstanceCount = loadJobInstanceCount(jobName);
+            } else {
+                jobInstanceCount = count.get();
+            }
+        } else {
+            jobInstanceCount = lightminJobExecutionDao.getJobInstanceCount(jobName);
+        }
+        return jobInstanceCount;
+    }
+
+    /**
+     * Retrieves the count of job executions of a {@link JobInstance}
+     *
+     * @param jobInstance the job instance
+     * @param estimated   if true, a cached count is returned, otherwise the job executions are counted
+     * @return the count of job executions
+     */
+    public int getJobExecutionCount(final JobInstance jobInstance, final boolean estimated) {
+        final int jobExecutionCount;
+        if (isEnabled()) {
+            final Count count = jobExecutionCounts.get(jobInstance);
+            if (count == null || !estimated) {
+                jobExecutionCount = loadJobExecutionCount(jobInstance);
+            } else {
+                jobExecutionCount = count.get();
+            }
+        } else {
+            jobExecutionCount = lightminJobExecutionDao.getJobExecutionCount(jobInstance);
+        }
+        return jobExecutionCount;
+    }
+
+    /**
+     * Recounts the cached job instance counts and evicts the cached job execution counts
+     */
+    public void reconcile() {
+        for (final String jobName : jobInstanceCounts.keySet()) {
+            try {
+                loadJobInstanceCount(jobName);
+            } catch (final Exception e) {
+                log.warn("Could not reconcile job instance count of job {}: {}", jobName, e.getMessage());
+            }
+        }
+        jobExecutionCounts.clear();
+    }
+
+    /**
+     * Removes all cached counts
+     */
+    public void clear() {
+        jobInstanceCounts.clear();
+        jobExecutionCounts.clear();
+    }
+
+    @Override
+    public void beforeJob(final JobExecution jobExecution) {
+        if (isEnabled()) {
+            final JobInstance jobInstance = jobExecution.getJobInstance();
+            final Count jobExecutionCount = jobExecutionCounts.get(jobInstance);
+            if (jobExecutionCount != null) {
+                jobExecutionCount.increment();
+            } else {
+                final Count jobInstanceCount = jobInstanceCounts.get(jobInstance.getJobName());
+                if (jobInstanceCount != null && lightminJobExecutionDao.getJobExecutionCount(jobInstance) == 1) {
+                    jobInstanceCount.increment();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void afterJob(final JobExecution jobExecution) {
+        // nothing to count
+    }
+
+    @Override
+    public void destroy() {
+        if (reconciliationExecutor != null) {
+            reconciliationExecutor.shutdownNow();
+        }
+    }
+
+    private boolean isEnabled() {
+        return reconciliationInterval > 0;
+    }
+
+    private int loadJobInstanceCount(final String jobName) {
+        final int jobInstanceCount = lightminJobExecutionDao.getJobInstanceCount(jobName);
+        jobInstanceCounts.put(jobName, new Count(jobInstanceCount));
+        return jobInstanceCount;
+    }
+
+    private int loadJobExecutionCount(final JobInstance jobInstance) {
+        final int jobExecutionCount = lightminJobExecutionDao.getJobExecutionCount(jobInstance);
+        jobExecutionCounts.put(jobInstance, new Count(jobExecutionCount));
+        return jobExecutionCount;
+    }
+
+    private static final class Count {
+
+        private final AtomicInteger value;
+
+        Count(final int value) {
+            this.value = new AtomicInteger(value);
+        }
+
+        int get() {
+            return value.get();
+        }
+
+        void increment() {
+            value.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.tuxdevelop.spring.batch.lightmin.dao.ArchivingLightminJobExecutionDao;
+import org.tuxdevelop.spring.batch.lightmin.dao.PurgeCount;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves the completed {@link org.springframework.batch.core.JobExecution}s, which have ended longer than the max age
+ * ago, from the Spring Batch tables into the archive tables of an {@link ArchivingLightminJobExecutionDao}. The
+ * executions are archived chunk by chunk, every chunk within its own transaction, in the background within the
+ * configured archive interval. The {@link JobCountCache} is reconciled after every run.
+ * <p>
+ * An archive interval less or equal to zero disables the periodic archiving.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Slf4j
+public class JobExecutionArchiver implements DisposableBean {
+
+    private final ArchivingLightminJobExecutionDao archivingLightminJobExecutionDao;
+    private final JobCountCache jobCountCache;
+    private final long maxAge;
+    private final int chunkSize;
+    private final ScheduledExecutorService archiveExecutor;
+
+    public JobExecutionArchiver(final ArchivingLightminJobExecutionDao archivingLightminJobExecutionDao,
+                                final JobCountCache jobCountCache,
+                                final long maxAge,
+                                final int chunkSize,
+                                final long archiveInterval) {
+        if (maxAge < 0 || chunkSize < 1) {
+            throw new IllegalArgumentException("The max age of archived job executions must not be negative and the "
+                    + "chunk size must be positive");
+        }
+        this.archivingLightminJobExecutionDao = archivingLightminJobExecutionDao;
+        this.jobCountCache = jobCountCache;
+        this.maxAge = maxAge;
+        this.chunkSize = chunkSize;
+        if (archiveInterval > 0) {
+            final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lightmin-archive-");
+            threadFactory.setDaemon(Boolean.TRUE);
+            this.archiveExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            this.archiveExecutor.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        archive();
+                    } catch (final Exception e) {
+                        log.error("Error while archiving job executions: {}", e.getMessage(), e);
+                    }
+                }
+            }, archiveInterval, archiveInterval, TimeUnit.MILLISECONDS);
+        } else {
+            this.archiveExecutor = null;
+        }
+    }
+
+    /**
+     * Archives synchronously all completed job executions, which have ended longer than the max age ago
+     *
+     * @return the counts of the archived metadata
+     */
+    public synchronized PurgeCount archive() {
+        final PurgeCount purgeCount = new PurgeCount();
+        final Date endTimeTo = new Date(System.currentTimeMillis() - maxAge);
+        try {
+            List<Long> jobExecutionIds = archivingLightminJobExecutionDao.findArchivableJobExecutionIds(endTimeTo,
+                    null, chunkSize);
+            while (!jobExecutionIds.isEmpty()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new IllegalStateException("The archiving has been interrupted");
+                }
+                purgeCount.add(archivingLightminJobExecutionDao.archiveJobExecutions(jobExecutionIds));
+                jobExecutionIds = archivingLightminJobExecutionDao.findArchivableJobExecutionIds(endTimeTo,
+                        jobExecutionIds.get(jobExecutionIds.size() - 1), chunkSize);
+            }
+        } finally {
+            jobCountCache.reconcile();
+        }
+        log.info("Archived {} job executions and {} step executions", purgeCount.getJobExecutionCount(),
+                purgeCount.getStepExecutionCount());
+        return purgeCount;
+    }
+
+    @Override
+    public void destroy() {
+        if (archiveExecutor != null) {
+            archiveExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches {@link JobExecution}s until they are finished. Every watch is a {@link ListenableFuture}, which is
+ * completed with the finished execution including its step executions, or fails if the execution does not exist.
+ * Callers either subscribe to the future or block on it, no thread is held per watch. All pending watches are
+ * checked by a single thread within the poll interval, by one bulk load of the watched executions. Cancelled watches
+ * are dropped with the next poll.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Slf4j
+public class JobExecutionCompletionWatcher implements DisposableBean {
+
+    private final JobService jobService;
+    private final ConcurrentLinkedQueue<Watch> watches = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService watchExecutor;
+
+    public JobExecutionCompletionWatcher(final JobService jobService,
+                                         final long pollInterval) {
+        if (pollInterval < 1) {
+            throw new IllegalArgumentException("The poll interval of the completion watcher must be positive");
+        }
+        this.jobService = jobService;
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lightmin-completion-");
+        threadFactory.setDaemon(Boolean.TRUE);
+        this.watchExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        this.watchExecutor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                poll();
+            }
+        }, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Watches a {@link JobExecution} until it is finished
+     *
+     * @param jobExecutionId the id of the JobExecution
+     * @return the future of the finished JobExecution
+     */
+    public ListenableFuture<JobExecution> watch(final Long jobExecutionId) {
+        final Watch watch = new Watch(jobExecutionId);
+        watches.add(watch);
+        return watch.future;
+    }
+
+    /**
+     * @param batchStatus the status of a {@link JobExecution}
+     * @return true, if the execution has been finished and its status will not change anymore
+     */
+    public static boolean isFinished(final BatchStatus batchStatus) {
+        return BatchStatus.COMPLETED.equals(batchStatus) || batchStatus.isGreaterThan(BatchStatus.STOPPING);
+    }
+
+    @Override
+    public void destroy() {
+        watchExecutor.shutdownNow();
+    }
+
+    /**
+     * Completes the watches of all finished or unknown {@link JobExecution}s. Only watches present at the start of the
+     * poll are processed, watches added meanwhile are checked by the next one.
+     */
+    void poll() {
+        final List<Watch> pending = new ArrayList<>();
+        final Set<Long> jobExecutionIds = new HashSet<>();
+        for (final Watch watch : watches) {
+            if (watch.future.isDone()) {
+                watches.remove(watch);
+            } else {
+                pending.add(watch);
+                jobExecutionIds.add(watch.jobExecutionId);
+            }
+        }
+        if (!pending.isEmpty()) {
+            try {
+                final Map<Long, JobExecution> jobExecutions = new HashMap<>();
+                for (final JobExecution jobExecution :
+                        jobService.getJobExecutionsWithStepExecutions(jobExecutionIds)) {
+                    jobExecutions.put(jobExecution.getId(), jobExecution);
+                }
+                for (final Watch watch : pending) {
+                    final JobExecution jobExecution = jobExecutions.get(watch.jobExecutionId);
+                    if (jobExecution == null) {
+                        watch.future.setException(new SpringBatchLightminApplicationException(
+                                "Could not find JobExecution for id: " + watch.jobExecutionId));
+                        watches.remove(watch);
+                    } else if (isFinished(jobExecution.getStatus())) {
+                        watch.future.set(jobExecution);
+                        watches.remove(watch);
+                    }
+                }
+            } catch (final RuntimeException e) {
+                log.error("Could not poll the status of the watched job executions: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private static final class Watch {
+
+        private final Long jobExecutionId;
+        private final SettableListenableFuture<JobExecution> future = new SettableListenableFuture<>();
+
+        private Watch(final Long jobExecutionId) {
+            this.jobExecutionId = jobExecutionId;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import lombok.Data;
+import org.tuxdevelop.spring.batch.lightmin.dao.PurgeCount;
+import org.tuxdevelop.spring.batch.lightmin.dao.RetentionPolicy;
+
+import java.util.Date;
+
+/**
+ * Progress of the running or the result of the last purge of the {@link JobExecutionPurger}
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Data
+public class JobExecutionPurgeStatus {
+
+    public enum State {
+        NOT_STARTED, RUNNING, COMPLETED, FAILED
+    }
+
+    private State state = State.NOT_STARTED;
+    private RetentionPolicy retentionPolicy;
+    private Date startTime;
+    private Date endTime;
+    private int chunkCount;
+    private PurgeCount purgeCount = new PurgeCount();
+    private String exitMessage;
+
+    JobExecutionPurgeStatus copy() {
+        final JobExecutionPurgeStatus copy = new JobExecutionPurgeStatus();
+        copy.setState(state);
+        copy.setRetentionPolicy(retentionPolicy);
+        copy.setStartTime(startTime);
+        copy.setEndTime(endTime);
+        copy.setChunkCount(chunkCount);
+        copy.getPurgeCount().add(purgeCount);
+        copy.setExitMessage(exitMessage);
+        return copy;
+    }
+}
@@ -0,0 +1,225 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobExecutionSearchCriteria;
+import org.tuxdevelop.spring.batch.lightmin.dao.LightminJobExecutionDao;
+import org.tuxdevelop.spring.batch.lightmin.dao.PurgeCount;
+import org.tuxdevelop.spring.batch.lightmin.dao.RetentionPolicy;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidRetentionPolicyException;
+import org.tuxdevelop.spring.batch.lightmin.exception.JobExecutionPurgeNotSupportedException;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Purges finished {@link org.springframework.batch.core.JobExecution}s according to a {@link RetentionPolicy}. The
+ * executions to purge are looked up and deleted chunk by chunk, every chunk is deleted within its own transaction. A
+ * purge runs either on demand or within the configured purge interval with the default retention policy, only one
+ * purge runs at a time. The {@link JobCountCache} is reconciled after every purge.
+ * <p>
+ * A purge interval less or equal to zero disables the periodic purge. If the {@link LightminJobExecutionDao} does not
+ * support the deletion of job executions, no periodic purge is scheduled and purges are rejected.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Slf4j
+public class JobExecutionPurger implements DisposableBean {
+
+    private static final Set<BatchStatus> NOT_FAILED = EnumSet.complementOf(EnumSet.of(BatchStatus.FAILED));
+
+    private final LightminJobExecutionDao lightminJobExecutionDao;
+    private final JobExplorer jobExplorer;
+    private final JobCountCache jobCountCache;
+    private final RetentionPolicy retentionPolicy;
+    private final ScheduledExecutorService purgeExecutor;
+    private JobExecutionPurgeStatus status = new JobExecutionPurgeStatus();
+
+    public JobExecutionPurger(final LightminJobExecutionDao lightminJobExecutionDao,
+                              final JobExplorer jobExplorer,
+                              final JobCountCache jobCountCache,
+                              final RetentionPolicy retentionPolicy,
+                              final long purgeInterval) {
+        this.lightminJobExecutionDao = lightminJobExecutionDao;
+        this.jobExplorer = jobExplorer;
+        this.jobCountCache = jobCountCache;
+        this.retentionPolicy = retentionPolicy;
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lightmin-purge-");
+        threadFactory.setDaemon(Boolean.TRUE);
+        this.purgeExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        if (purgeInterval > 0 && !retentionPolicy.isEmpty() && !lightminJobExecutionDao.isDeleteSupported()) {
+            log.warn("The repository does not support the deletion of job executions, no periodic purge scheduled");
+        } else if (purgeInterval > 0 && !retentionPolicy.isEmpty()) {
+            this.purgeExecutor.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    purge(null);
+                }
+            }, purgeInterval, purgeInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Starts an asynchronous purge, if no purge is running
+     *
+     * @param retentionPolicy the policy to apply, null for the default retention policy
+     * @return the status of the started or of the already running purge
+     * @throws JobExecutionPurgeNotSupportedException if the repository does not support the deletion of job executions
+     */
+    public JobExecutionPurgeStatus start(final RetentionPolicy retentionPolicy) {
+        final RetentionPolicy policy = getRetentionPolicy(retentionPolicy);
+        checkDeleteSupported();
+        if (begin(policy)) {
+            purgeExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    execute(policy);
+                }
+            });
+        }
+        return getStatus();
+    }
+
+    /**
+     * Purges synchronously, if no purge is running
+     *
+     * @param retentionPolicy the policy to apply, null for the default retention policy
+     * @return the status of the finished or of the already running purge
+     * @throws JobExecutionPurgeNotSupportedException if the repository does not support the deletion of job executions
+     */
+    public JobExecutionPurgeStatus purge(final RetentionPolicy retentionPolicy) {
+        final RetentionPolicy policy = getRetentionPolicy(retentionPolicy);
+        checkDeleteSupported();
+        if (begin(policy)) {
+            execute(policy);
+        }
+        return getStatus();
+    }
+
+    /**
+     * @return the status of the running or of the last purge
+     */
+    public synchronized JobExecutionPurgeStatus getStatus() {
+        return status.copy();
+    }
+
+    @Override
+    public void destroy() {
+        purgeExecutor.shutdownNow();
+    }
+
+    private void checkDeleteSupported() {
+        if (!lightminJobExecutionDao.isDeleteSupported()) {
+            throw new JobExecutionPurgeNotSupportedException("The repository does not support the deletion of job "
+                    + "executions, the map based repository can only be cleared as a whole");
+        }
+    }
+
+    private RetentionPolicy getRetentionPolicy(final RetentionPolicy retentionPolicy) {
+        final RetentionPolicy policy = retentionPolicy != null ? retentionPolicy : this.retentionPolicy;
+        if (isNegative(policy.getMaxAge()) || isNegative(policy.getFailedMaxAge())
+                || (policy.getMaxExecutionsPerJob() != null && policy.getMaxExecutionsPerJob() < 1)
+                || policy.getChunkSize() < 1) {
+            throw new InvalidRetentionPolicyException("Max ages of a retention policy must not be negative, max "
+                    + "executions per job and chunk size must be positive: " + policy);
+        }
+        return policy;
+    }
+
+    private synchronized boolean begin(final RetentionPolicy retentionPolicy) {
+        final boolean begin = status.getState() != JobExecutionPurgeStatus.State.RUNNING;
+        if (begin) {
+            status = new JobExecutionPurgeStatus();
+            status.setState(JobExecutionPurgeStatus.State.RUNNING);
+            status.setRetentionPolicy(retentionPolicy);
+            status.setStartTime(new Date());
+        }
+        return begin;
+    }
+
+    private synchronized void add(final PurgeCount purgeCount) {
+        status.setChunkCount(status.getChunkCount() + 1);
+        status.getPurgeCount().add(purgeCount);
+    }
+
+    private synchronized void end(final JobExecutionPurgeStatus.State state, final String exitMessage) {
+        status.setState(state);
+        status.setExitMessage(exitMessage);
+        status.setEndTime(new Date());
+    }
+
+    private void execute(final RetentionPolicy retentionPolicy) {
+        try {
+            final long now = System.currentTimeMillis();
+            final int chunkSize = retentionPolicy.getChunkSize();
+            if (retentionPolicy.getMaxAge() != null) {
+                purge(createCriteria(null, NOT_FAILED, new Date(now - retentionPolicy.getMaxAge())), null,
+                        chunkSize);
+            }
+            final Long failedMaxAge = retentionPolicy.getEffectiveFailedMaxAge();
+            if (failedMaxAge != null) {
+                purge(createCriteria(null, EnumSet.of(BatchStatus.FAILED), new Date(now - failedMaxAge)), null,
+                        chunkSize);
+            }
+            final Integer maxExecutionsPerJob = retentionPolicy.getMaxExecutionsPerJob();
+            if (maxExecutionsPerJob != null) {
+                final Set<BatchStatus> statuses = failedMaxAge != null ? NOT_FAILED
+                        : Collections.<BatchStatus>emptySet();
+                for (final String jobName : jobExplorer.getJobNames()) {
+                    final List<Long> newestJobExecutionIds = lightminJobExecutionDao.findJobExecutionIds(
+                            createCriteria(jobName, Collections.<BatchStatus>emptySet(), null), null,
+                            maxExecutionsPerJob);
+                    if (newestJobExecutionIds.size() == maxExecutionsPerJob) {
+                        purge(createCriteria(jobName, statuses, new Date(now)),
+                                newestJobExecutionIds.get(maxExecutionsPerJob - 1), chunkSize);
+                    }
+                }
+            }
+            end(JobExecutionPurgeStatus.State.COMPLETED, null);
+        } catch (final Exception e) {
+            log.error("Error while purging job executions: {}", e.getMessage(), e);
+            end(JobExecutionPurgeStatus.State.FAILED, e.getMessage());
+        } finally {
+            jobCountCache.reconcile();
+        }
+    }
+
+    /*
+     * Deletes the matching job executions chunk by chunk, the next chunk starts after the last id of the previous one
+     */
+    private void purge(final JobExecutionSearchCriteria criteria, final Long jobExecutionId, final int chunkSize) {
+        List<Long> jobExecutionIds = lightminJobExecutionDao.findJobExecutionIds(criteria, jobExecutionId, chunkSize);
+        while (!jobExecutionIds.isEmpty()) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("The purge has been interrupted");
+            }
+            add(lightminJobExecutionDao.deleteJobExecutions(jobExecutionIds));
+            jobExecutionIds = lightminJobExecutionDao.findJobExecutionIds(criteria,
+                    jobExecutionIds.get(jobExecutionIds.size() - 1), chunkSize);
+        }
+    }
+
+    private static JobExecutionSearchCriteria createCriteria(final String jobName,
+                                                             final Set<BatchStatus> statuses,
+                                                             final Date endTimeTo) {
+        final JobExecutionSearchCriteria criteria = new JobExecutionSearchCriteria();
+        criteria.setJobName(jobName);
+        criteria.getStatuses().addAll(statuses);
+        criteria.setEndTimeTo(endTimeTo);
+        return criteria;
+    }
+
+    private static boolean isNegative(final Long value) {
+        return value != null && value < 0;
+    }
+}
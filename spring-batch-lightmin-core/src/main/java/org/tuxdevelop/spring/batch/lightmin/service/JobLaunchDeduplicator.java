@@ -0,0 +1,221 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobLaunchKey;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobLaunchKeyDao;
+import org.tuxdevelop.spring.batch.lightmin.exception.JobLaunchConflictException;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ensures that a job is launched once per idempotency key within the time to live of the key. A launch first reserves
+ * its key in the {@link JobLaunchKeyDao}, a retried launch with the same key gets the id of the
+ * {@link org.springframework.batch.core.JobExecution} of the first launch instead. The keys of finished launches are
+ * additionally kept in a bounded in-memory cache of the most recently used keys, so most retries are answered without
+ * a lookup in the store. Expired keys are removed from the store periodically.
+ * <p>
+ * A reservation, which has not been completed within the launch timeout, belongs to a launch that has died between
+ * the reservation and the creation of its JobExecution. It is taken over by the next launch with the same key. The
+ * create time of a reservation identifies its owner, a late launch can neither complete nor release a reservation,
+ * which has been taken over in the meantime. Create times are truncated to seconds, so the stored value equals the
+ * one of the owner on all supported databases.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Slf4j
+public class JobLaunchDeduplicator implements DisposableBean {
+
+    static final long DEFAULT_LAUNCH_TIMEOUT = 60000L;
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final JobLaunchKeyDao jobLaunchKeyDao;
+    private final long timeToLive;
+    private final long launchTimeout;
+    private final Map<String, JobLaunchKey> cache;
+    private final ScheduledExecutorService expiryExecutor;
+
+    /**
+     * @param jobLaunchKeyDao the store of the keys
+     * @param timeToLive      the time in millis a key is kept after its launch
+     * @param cacheSize       the max count of keys kept in memory
+     */
+    public JobLaunchDeduplicator(final JobLaunchKeyDao jobLaunchKeyDao,
+                                 final long timeToLive,
+                                 final int cacheSize) {
+        this(jobLaunchKeyDao, timeToLive, cacheSize, DEFAULT_LAUNCH_TIMEOUT);
+    }
+
+    /**
+     * @param jobLaunchKeyDao the store of the keys
+     * @param timeToLive      the time in millis a key is kept after its launch
+     * @param cacheSize       the max count of keys kept in memory
+     * @param launchTimeout   the time in millis after which an uncompleted reservation is taken over
+     */
+    public JobLaunchDeduplicator(final JobLaunchKeyDao jobLaunchKeyDao,
+                                 final long timeToLive,
+                                 final int cacheSize,
+                                 final long launchTimeout) {
+        if (timeToLive < 1 || cacheSize < 1 || launchTimeout < 1) {
+            throw new IllegalArgumentException("The time to live, the cache size and the launch timeout must be "
+                    + "positive");
+        }
+        this.jobLaunchKeyDao = jobLaunchKeyDao;
+        this.timeToLive = timeToLive;
+        this.launchTimeout = launchTimeout;
+        this.cache = new LinkedHashMap<String, JobLaunchKey>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, JobLaunchKey> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lightmin-launch-key-");
+        threadFactory.setDaemon(Boolean.TRUE);
+        this.expiryExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        this.expiryExecutor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                removeExpired();
+            }
+        }, timeToLive, timeToLive, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reserves the key for a launch of the given job
+     *
+     * @param key     the idempotency key of the launch
+     * @param jobName the name of the job to launch
+     * @return the reservation of the caller without a JobExecution id, if the job has to be launched by the caller,
+     * otherwise the key of an earlier launch with the same key carrying the id of its JobExecution
+     * @throws JobLaunchConflictException if the earlier launch is still running within the launch timeout or has
+     *                                     launched another job
+     */
+    public JobLaunchKey reserve(final String key, final String jobName) {
+        final JobLaunchKey cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached != null && !isExpired(cached)) {
+            return getLaunchedJobLaunchKey(cached, jobName);
+        }
+        final JobLaunchKey jobLaunchKey = new JobLaunchKey();
+        jobLaunchKey.setKey(key);
+        jobLaunchKey.setJobName(jobName);
+        for (int i = 0; i < MAX_RESERVE_ATTEMPTS; i++) {
+            final Date now = getCreateTime();
+            jobLaunchKey.setCreateTime(now);
+            if (jobLaunchKeyDao.add(jobLaunchKey)) {
+                return jobLaunchKey;
+            }
+            final JobLaunchKey existing = jobLaunchKeyDao.get(key);
+            if (existing != null) {
+                if (isAbandoned(existing, now)) {
+                    if (jobLaunchKeyDao.takeOver(existing, jobLaunchKey)) {
+                        log.warn("Took over the reservation of the idempotency key {}, its launch has not been "
+                                + "completed since {}", key, existing.getCreateTime());
+                        return jobLaunchKey;
+                    }
+                } else if (!isExpired(existing)) {
+                    if (existing.getJobExecutionId() != null) {
+                        putCache(existing);
+                    }
+                    return getLaunchedJobLaunchKey(existing, jobName);
+                } else {
+                    jobLaunchKeyDao.remove(existing);
+                }
+            }
+        }
+        throw new JobLaunchConflictException("The idempotency key " + key + " could not be reserved");
+    }
+
+    /**
+     * Completes a reservation with the id of the launched JobExecution. A reservation, which has been taken over by
+     * another launch in the meantime, is left unchanged.
+     *
+     * @param jobLaunchKey   the reservation returned by {@link #reserve(String, String)}
+     * @param jobExecutionId the id of the launched JobExecution
+     */
+    public void complete(final JobLaunchKey jobLaunchKey, final Long jobExecutionId) {
+        if (jobLaunchKeyDao.updateJobExecutionId(jobLaunchKey, jobExecutionId)) {
+            final JobLaunchKey completed = jobLaunchKey.copy();
+            completed.setJobExecutionId(jobExecutionId);
+            putCache(completed);
+        } else {
+            log.warn("The reservation of the idempotency key {} has been taken over, before its JobExecution {} "
+                    + "has been launched", jobLaunchKey.getKey(), jobExecutionId);
+        }
+    }
+
+    /**
+     * Releases a reservation, whose launch has failed, so the launch can be retried with the same key. A
+     * reservation, which has been taken over by another launch in the meantime, is left unchanged.
+     *
+     * @param jobLaunchKey the reservation returned by {@link #reserve(String, String)}
+     */
+    public void release(final JobLaunchKey jobLaunchKey) {
+        if (jobLaunchKeyDao.remove(jobLaunchKey)) {
+            synchronized (cache) {
+                cache.remove(jobLaunchKey.getKey());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        expiryExecutor.shutdownNow();
+    }
+
+    void removeExpired() {
+        try {
+            final int count = jobLaunchKeyDao.removeCreatedBefore(new Date(System.currentTimeMillis() - timeToLive));
+            log.debug("Removed {} expired job launch keys", count);
+        } catch (final RuntimeException e) {
+            log.error("Could not remove expired job launch keys: " + e.getMessage(), e);
+        }
+    }
+
+    private void putCache(final JobLaunchKey jobLaunchKey) {
+        synchronized (cache) {
+            cache.put(jobLaunchKey.getKey(), jobLaunchKey);
+        }
+    }
+
+    private boolean isExpired(final JobLaunchKey jobLaunchKey) {
+        return jobLaunchKey.getCreateTime().getTime() + timeToLive < System.currentTimeMillis();
+    }
+
+    /*
+     * the create time of a take over is always later than the one of the abandoned reservation
+     */
+    private boolean isAbandoned(final JobLaunchKey jobLaunchKey, final Date now) {
+        return jobLaunchKey.getJobExecutionId() == null
+                && jobLaunchKey.getCreateTime().getTime() + launchTimeout < now.getTime();
+    }
+
+    private static Date getCreateTime() {
+        final long now = System.currentTimeMillis();
+        return new Date(now - now % 1000);
+    }
+
+    private static JobLaunchKey getLaunchedJobLaunchKey(final JobLaunchKey jobLaunchKey, final String jobName) {
+        if (!jobLaunchKey.getJobName().equals(jobName)) {
+            throw new JobLaunchConflictException("The idempotency key " + jobLaunchKey.getKey()
+                    + " has already been used to launch the job " + jobLaunchKey.getJobName());
+        }
+        if (jobLaunchKey.getJobExecutionId() == null) {
+            throw new JobLaunchConflictException("The launch with the idempotency key " + jobLaunchKey.getKey()
+                    + " is still running");
+        }
+        return jobLaunchKey.copy();
+    }
+}
@@ -0,0 +1,158 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.SimpleJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.tuxdevelop.spring.batch.lightmin.admin.domain.TaskExecutorType;
+import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminConfigurationException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out one shared {@link JobLauncher} per {@link TaskExecutorType} to all schedulers and listeners, instead of
+ * creating a launcher and an executor for every registered bean. The asynchronous launcher runs the jobs on a fixed
+ * pool of daemon threads, launches exceeding the pool are queued. The pool is shut down with the registry without
+ * interrupting running jobs, unregistering or refreshing a scheduler or a listener does not leave executors behind.
+ * <p>
+ * The utilization of the launchers is published as metrics named lightmin.joblauncher.[type].[metric].
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class JobLauncherRegistry implements PublicMetrics, DisposableBean {
+
+    private static final String METRIC_PREFIX = "lightmin.joblauncher.";
+
+    private final Map<TaskExecutorType, InstrumentedTaskExecutor> taskExecutors = new EnumMap<>(TaskExecutorType.class);
+    private final Map<TaskExecutorType, JobLauncher> jobLaunchers = new EnumMap<>(TaskExecutorType.class);
+    private final ThreadPoolTaskExecutor asynchronousTaskExecutor;
+
+    /**
+     * @param jobRepository           the repository of the launched jobs
+     * @param asynchronousThreadCount the count of threads running the jobs of the asynchronous launcher
+     */
+    public JobLauncherRegistry(final JobRepository jobRepository, final int asynchronousThreadCount) {
+        asynchronousTaskExecutor = new ThreadPoolTaskExecutor();
+        asynchronousTaskExecutor.setCorePoolSize(asynchronousThreadCount);
+        asynchronousTaskExecutor.setMaxPoolSize(asynchronousThreadCount);
+        asynchronousTaskExecutor.setThreadNamePrefix("lightmin-job-");
+        asynchronousTaskExecutor.setDaemon(Boolean.TRUE);
+        asynchronousTaskExecutor.setWaitForTasksToCompleteOnShutdown(Boolean.TRUE);
+        asynchronousTaskExecutor.initialize();
+        register(TaskExecutorType.SYNCHRONOUS, new SyncTaskExecutor(), jobRepository);
+        register(TaskExecutorType.ASYNCHRONOUS, asynchronousTaskExecutor, jobRepository);
+    }
+
+    /**
+     * @param taskExecutorType the type of the executor, null for a synchronous launcher
+     * @return the shared launcher of the given type
+     */
+    public JobLauncher getJobLauncher(final TaskExecutorType taskExecutorType) {
+        return jobLaunchers.get(taskExecutorType == null ? TaskExecutorType.SYNCHRONOUS : taskExecutorType);
+    }
+
+    /**
+     * Publishes for every launcher the count of submitted, running and queued launches and of the threads of the
+     * asynchronous pool
+     */
+    @Override
+    public Collection<Metric<?>> metrics() {
+        final List<Metric<?>> metrics = new ArrayList<>();
+        for (final Map.Entry<TaskExecutorType, InstrumentedTaskExecutor> entry : taskExecutors.entrySet()) {
+            final String prefix = METRIC_PREFIX + entry.getKey().name().toLowerCase() + ".";
+            final InstrumentedTaskExecutor taskExecutor = entry.getValue();
+            final long submitted = taskExecutor.getSubmittedCount();
+            final int running = taskExecutor.getRunningCount();
+            final long finished = taskExecutor.getFinishedCount();
+            metrics.add(new Metric<>(prefix + "submitted", submitted));
+            metrics.add(new Metric<>(prefix + "running", running));
+            metrics.add(new Metric<>(prefix + "queued", Math.max(0L, submitted - finished - running)));
+        }
+        metrics.add(new Metric<>(METRIC_PREFIX + "asynchronous.threads", asynchronousTaskExecutor.getPoolSize()));
+        metrics.add(new Metric<>(METRIC_PREFIX + "asynchronous.threads.max",
+                asynchronousTaskExecutor.getMaxPoolSize()));
+        return metrics;
+    }
+
+    @Override
+    public void destroy() {
+        asynchronousTaskExecutor.shutdown();
+    }
+
+    private void register(final TaskExecutorType taskExecutorType,
+                          final TaskExecutor taskExecutor,
+                          final JobRepository jobRepository) {
+        final InstrumentedTaskExecutor instrumentedTaskExecutor = new InstrumentedTaskExecutor(taskExecutor);
+        final SimpleJobLauncher jobLauncher = new SimpleJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(instrumentedTaskExecutor);
+        try {
+            jobLauncher.afterPropertiesSet();
+        } catch (final Exception e) {
+            throw new SpringBatchLightminConfigurationException(e, e.getMessage());
+        }
+        taskExecutors.put(taskExecutorType, instrumentedTaskExecutor);
+        jobLaunchers.put(taskExecutorType, jobLauncher);
+    }
+
+    /**
+     * Counts the tasks passed to and run by the delegate
+     */
+    static final class InstrumentedTaskExecutor implements TaskExecutor {
+
+        private final TaskExecutor delegate;
+        private final AtomicLong submittedCount = new AtomicLong();
+        private final AtomicLong finishedCount = new AtomicLong();
+        private final AtomicInteger runningCount = new AtomicInteger();
+
+        InstrumentedTaskExecutor(final TaskExecutor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(final Runnable task) {
+            submittedCount.incrementAndGet();
+            try {
+                delegate.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        runningCount.incrementAndGet();
+                        try {
+                            task.run();
+                        } finally {
+                            runningCount.decrementAndGet();
+                            finishedCount.incrementAndGet();
+                        }
+                    }
+                });
+            } catch (final RuntimeException e) {
+                finishedCount.incrementAndGet();
+                throw e;
+            }
+        }
+
+        long getSubmittedCount() {
+            return submittedCount.get();
+        }
+
+        long getFinishedCount() {
+            return finishedCount.get();
+        }
+
+        int getRunningCount() {
+            return runningCount.get();
+        }
+    }
+}
@@ -5,8 +5,15 @@ import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.beans.factory.InitializingBean;
+import org.tuxdevelop.spring.batch.lightmin.dao.ExecutionStatistics;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobExecutionCallback;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobExecutionSearchCriteria;
+import org.tuxdevelop.spring.batch.lightmin.dao.SerializedExecutionContext;
 
+import java.io.IOException;
 import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -23,6 +30,15 @@ public interface JobService extends InitializingBean {
      */
     int getJobInstanceCount(String jobName);
 
+    /**
+     * Retrieves the count of job instances of a job
+     *
+     * @param jobName   name of the job
+     * @param estimated if true, a cached count may be returned, otherwise the repository is queried
+     * @return the count of job instances
+     */
+    int getJobInstanceCount(String jobName, boolean estimated);
+
     /**
      * Retrieves the current count of job executions of a {@link org.springframework.batch.core.JobInstance}
      *
@@ -31,6 +47,15 @@ public interface JobService extends InitializingBean {
      */
     int getJobExecutionCount(JobInstance jobInstance);
 
+    /**
+     * Retrieves the count of job executions of a {@link org.springframework.batch.core.JobInstance}
+     *
+     * @param jobInstance current jobInstance
+     * @param estimated   if true, a cached count may be returned, otherwise the repository is queried
+     * @return the count of job executions
+     */
+    int getJobExecutionCount(JobInstance jobInstance, boolean estimated);
+
     /**
      * Retrieves the names of all registered {@link org.springframework.batch.core.Job}
      *
@@ -57,6 +82,18 @@ public interface JobService extends InitializingBean {
      */
     Collection<JobInstance> getJobInstances(String jobName, int startIndex, int pageSize);
 
+    /**
+     * Retrieves the {@link org.springframework.batch.core.JobInstance}s for a given job name following a given
+     * {@link org.springframework.batch.core.JobInstance} id, limited by a page size
+     *
+     * @param jobName       name of the job
+     * @param jobInstanceId id of the last {@link org.springframework.batch.core.JobInstance} of the previous page,
+     *                      null for the first page
+     * @param pageSize      size of the page
+     * @return the {@link org.springframework.batch.core.JobInstance}s of the job name within the page
+     */
+    Collection<JobInstance> getJobInstancesAfter(String jobName, Long jobInstanceId, int pageSize);
+
     /**
      * Retrieves all {@link org.springframework.batch.core.JobExecution}s for a given {@link org.springframework
      * .batch.core.JobInstance}
@@ -77,6 +114,55 @@ public interface JobService extends InitializingBean {
      */
     Collection<JobExecution> getJobExecutions(JobInstance jobInstance, int start, int count);
 
+    /**
+     * Retrieves the {@link org.springframework.batch.core.JobExecution}s of a given {@link org.springframework
+     * .batch.core.JobInstance} following a given {@link org.springframework.batch.core.JobExecution} id
+     *
+     * @param jobInstance    the {@link org.springframework.batch.core.JobInstance} the get the executions for.
+     * @param jobExecutionId id of the last {@link org.springframework.batch.core.JobExecution} of the previous page,
+     *                       null for the first page
+     * @param count          count of {@link org.springframework.batch.core.JobExecution}s to fetch
+     * @return a {@link java.util.Collection} of {@link org.springframework.batch.core.JobExecution}s
+     */
+    Collection<JobExecution> getJobExecutionsAfter(JobInstance jobInstance, Long jobExecutionId, int count);
+
+    /**
+     * Retrieves the {@link org.springframework.batch.core.JobExecution}s matching the given criteria following a given
+     * {@link org.springframework.batch.core.JobExecution} id
+     *
+     * @param jobExecutionSearchCriteria criteria, the {@link org.springframework.batch.core.JobExecution}s have to match
+     * @param jobExecutionId             id of the last {@link org.springframework.batch.core.JobExecution} of the
+     *                                   previous page, null for the first page
+     * @param count                      count of {@link org.springframework.batch.core.JobExecution}s to fetch
+     * @return a {@link java.util.Collection} of {@link org.springframework.batch.core.JobExecution}s, ordered by
+     * descending id
+     */
+    Collection<JobExecution> searchJobExecutions(JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                                                 Long jobExecutionId,
+                                                 int count);
+
+    /**
+     * Streams all {@link org.springframework.batch.core.JobExecution}s matching the given criteria by descending id
+     *
+     * @param jobExecutionSearchCriteria the criteria, which all streamed job executions match
+     * @param jobExecutionCallback       the callback, which is called for every job execution
+     * @throws IOException if the callback could not handle a job execution
+     */
+    void streamJobExecutions(JobExecutionSearchCriteria jobExecutionSearchCriteria,
+                             JobExecutionCallback jobExecutionCallback) throws IOException;
+
+    /**
+     * Retrieves the aggregated statistics of the finished {@link org.springframework.batch.core.JobExecution}s of a
+     * job and of their {@link org.springframework.batch.core.StepExecution}s, which have been started within the given
+     * time window
+     *
+     * @param jobName       name of the job
+     * @param startTimeFrom inclusive lower bound of the start time
+     * @param startTimeTo   exclusive upper bound of the start time
+     * @return the {@link ExecutionStatistics} of the job including the statistics of its steps
+     */
+    ExecutionStatistics getExecutionStatistics(String jobName, Date startTimeFrom, Date startTimeTo);
+
     /**
      * Retrieves a {@link org.springframework.batch.core.JobExecution} for a give jobExceutionId
      *
@@ -85,6 +171,26 @@ public interface JobService extends InitializingBean {
      */
     JobExecution getJobExecution(Long jobExecutionId);
 
+    /**
+     * Retrieves the {@link org.springframework.batch.core.JobExecution}s for the given ids together with their
+     * {@link org.springframework.batch.core.JobInstance}s and {@link org.springframework.batch.core.StepExecution}s in
+     * a constant number of lookups
+     *
+     * @param jobExecutionIds Ids of the requested {@link org.springframework.batch.core.JobExecution}s
+     * @return the found {@link org.springframework.batch.core.JobExecution}s ordered by descending id
+     */
+    List<JobExecution> getJobExecutionsWithStepExecutions(Collection<Long> jobExecutionIds);
+
+    /**
+     * Retrieves the serialized {@link org.springframework.batch.item.ExecutionContext} of a
+     * {@link org.springframework.batch.core.JobExecution} without deserializing it
+     *
+     * @param jobExecutionId Id of the {@link org.springframework.batch.core.JobExecution}
+     * @param maxLength      max count of characters to read
+     * @return the serialized context, cut after max length characters, or null
+     */
+    SerializedExecutionContext getJobExecutionContext(Long jobExecutionId, int maxLength);
+
     /**
      * Retrieves a {@link org.springframework.batch.core.JobInstance} for a give jobInstanceId
      *
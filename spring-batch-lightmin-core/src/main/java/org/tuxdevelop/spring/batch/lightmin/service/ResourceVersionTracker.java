@@ -0,0 +1,45 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import org.tuxdevelop.spring.batch.lightmin.admin.repository.JobConfigurationRepository;
+import org.tuxdevelop.spring.batch.lightmin.dao.LightminJobExecutionDao;
+
+/**
+ * Computes weak ETags of the resources served by the REST API from the versions of the repositories. Each ETag
+ * costs a single aggregate lookup instead of loading and serializing the resource.
+ * <p>
+ * The versions are read from the repositories, so all applications sharing the same database compute the same ETags
+ * and changes made by any of them invalidate the ETags of all of them. The ETags of the job instances and infos of a
+ * job change, if executions of the job are created, purged or archived, see
+ * {@link LightminJobExecutionDao#getJobExecutionsVersion(String)}.
+ * <p>
+ * The ETags are weak, because the JSON and the Smile representation of a resource share the same ETag.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class ResourceVersionTracker {
+
+    private final JobConfigurationRepository jobConfigurationRepository;
+    private final LightminJobExecutionDao lightminJobExecutionDao;
+
+    public ResourceVersionTracker(final JobConfigurationRepository jobConfigurationRepository,
+                                  final LightminJobExecutionDao lightminJobExecutionDao) {
+        this.jobConfigurationRepository = jobConfigurationRepository;
+        this.lightminJobExecutionDao = lightminJobExecutionDao;
+    }
+
+    /**
+     * @return the ETag of the JobConfigurations
+     */
+    public String getJobConfigurationsETag() {
+        return "W/\"c-" + jobConfigurationRepository.getJobConfigurationsVersion() + "\"";
+    }
+
+    /**
+     * @param jobName name of the job
+     * @return the ETag of the job instances and the info of the job
+     */
+    public String getJobETag(final String jobName) {
+        return "W/\"j-" + lightminJobExecutionDao.getJobExecutionsVersion(jobName) + "\"";
+    }
+}
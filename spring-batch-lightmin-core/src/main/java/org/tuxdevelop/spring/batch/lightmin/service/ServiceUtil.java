@@ -2,35 +2,29 @@ package org.tuxdevelop.spring.batch.lightmin.service;
 
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameter;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
-import org.springframework.batch.core.launch.support.SimpleJobLauncher;
-import org.springframework.batch.core.repository.JobRepository;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
-import org.springframework.core.task.SyncTaskExecutor;
-import org.springframework.core.task.TaskExecutor;
-import org.tuxdevelop.spring.batch.lightmin.admin.domain.TaskExecutorType;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.tuxdevelop.spring.batch.lightmin.util.JobParametersTemplate;
 
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 public abstract class ServiceUtil {
 
-    public static JobLauncher createJobLauncher(final TaskExecutorType taskExecutorType,
-                                                final JobRepository jobRepository) {
-        final SimpleJobLauncher jobLauncher = new SimpleJobLauncher();
-        jobLauncher.setJobRepository(jobRepository);
-        if (TaskExecutorType.ASYNCHRONOUS.equals(taskExecutorType)) {
-            final SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
-            jobLauncher.setTaskExecutor(taskExecutor);
-        } else if (TaskExecutorType.SYNCHRONOUS.equals(taskExecutorType)) {
-            final TaskExecutor taskExecutor = new SyncTaskExecutor();
-            jobLauncher.setTaskExecutor(taskExecutor);
-        }
-        return jobLauncher;
-    }
+    /**
+     * max count of job instances scanned for the last values of the ${seq} parameters of a job
+     */
+    public static final int MAX_SEQUENCE_JOB_INSTANCES = 1000;
+
+    private static final int SEQUENCE_JOB_INSTANCES_PAGE_SIZE = 100;
 
     public static JobParameters mapToJobParameters(final Map<String, Object> parameters) {
         final JobParametersBuilder jobParametersBuilder = new JobParametersBuilder();
@@ -44,6 +38,53 @@ public abstract class ServiceUtil {
         return jobParametersBuilder.toJobParameters();
     }
 
+    /**
+     * Looks up the values of the ${seq} templates of the configured parameters in the last launches of the job. The
+     * job instances are scanned from the newest to the oldest, until each sequence has been found or
+     * {@link #MAX_SEQUENCE_JOB_INSTANCES} job instances have been scanned, so sequences continue after their last
+     * value, even if the latest launches of the job did not carry them.
+     *
+     * @param jobExplorer   explorer of the last launches of the job, may be null
+     * @param jobName       the name of the job
+     * @param jobParameters the configured parameters of the job
+     * @return the last values of the ${seq} parameters of the job, if the configured parameters contain a ${seq}
+     * template, null otherwise
+     */
+    public static JobParameters getLastJobParameters(final JobExplorer jobExplorer,
+                                                     final String jobName,
+                                                     final JobParameters jobParameters) {
+        JobParameters lastJobParameters = null;
+        final Set<String> sequenceNames = JobParametersTemplate.getSequenceNames(jobParameters);
+        if (jobExplorer != null && !sequenceNames.isEmpty()) {
+            final Map<String, JobParameter> lastParameters = new HashMap<>();
+            int start = 0;
+            List<JobInstance> jobInstances;
+            do {
+                jobInstances = jobExplorer.getJobInstances(jobName, start, SEQUENCE_JOB_INSTANCES_PAGE_SIZE);
+                for (final JobInstance jobInstance : jobInstances) {
+                    final List<JobExecution> jobExecutions = jobExplorer.getJobExecutions(jobInstance);
+                    if (!jobExecutions.isEmpty()) {
+                        final Map<String, JobParameter> parameters =
+                                jobExecutions.get(0).getJobParameters().getParameters();
+                        for (final String sequenceName : sequenceNames) {
+                            if (!lastParameters.containsKey(sequenceName) && parameters.containsKey(sequenceName)) {
+                                lastParameters.put(sequenceName, parameters.get(sequenceName));
+                            }
+                        }
+                        if (lastParameters.size() == sequenceNames.size()) {
+                            break;
+                        }
+                    }
+                }
+                start += SEQUENCE_JOB_INSTANCES_PAGE_SIZE;
+            } while (lastParameters.size() < sequenceNames.size()
+                    && jobInstances.size() == SEQUENCE_JOB_INSTANCES_PAGE_SIZE
+                    && start < MAX_SEQUENCE_JOB_INSTANCES);
+            lastJobParameters = new JobParameters(lastParameters);
+        }
+        return lastJobParameters;
+    }
+
     public static void attachJobParameter(final JobParametersBuilder jobParametersBuilder, final String parameterName,
                                           final Object parameterValue) {
         if (parameterValue instanceof Long) {
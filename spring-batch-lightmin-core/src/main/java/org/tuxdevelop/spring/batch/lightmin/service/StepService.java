@@ -3,6 +3,9 @@ package org.tuxdevelop.spring.batch.lightmin.service;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.beans.factory.InitializingBean;
+import org.tuxdevelop.spring.batch.lightmin.dao.SerializedExecutionContext;
+
+import java.util.Collection;
 
 /**
  * @author Marcel Becker
@@ -12,7 +15,8 @@ public interface StepService extends InitializingBean {
 
     /**
      * Retrieves a {@link org.springframework.batch.core.StepExecution} for a given
-     * {@link org.springframework.batch.core.JobExecution} and step execution id
+     * {@link org.springframework.batch.core.JobExecution} and step execution id, without its
+     * {@link org.springframework.batch.item.ExecutionContext}
      *
      * @param jobExecution    current {@link org.springframework.batch.core.JobExecution} to get the
      *                        {@link org.springframework.batch.core.StepExecution} from
@@ -31,4 +35,24 @@ public interface StepService extends InitializingBean {
      */
     void attachStepExecutions(JobExecution jobExecution);
 
+    /**
+     * attaches the corresponding {@link org.springframework.batch.core.StepExecution}s to all given
+     * {@link org.springframework.batch.core.JobExecution}s with a minimal number of lookups
+     *
+     * @param jobExecutions the {@link org.springframework.batch.core.JobExecution}s to attach the
+     *                      {@link org.springframework.batch.core.StepExecution}s
+     */
+    void attachStepExecutions(Collection<JobExecution> jobExecutions);
+
+    /**
+     * Retrieves the serialized {@link org.springframework.batch.item.ExecutionContext} of a
+     * {@link org.springframework.batch.core.StepExecution} without deserializing it
+     *
+     * @param jobExecutionId  Id of the {@link org.springframework.batch.core.JobExecution} of the step execution
+     * @param stepExecutionId Id of the {@link org.springframework.batch.core.StepExecution}
+     * @param maxLength       max count of characters to read
+     * @return the serialized context, cut after max length characters, or null
+     */
+    SerializedExecutionContext getStepExecutionContext(Long jobExecutionId, Long stepExecutionId, int maxLength);
+
 }
@@ -5,6 +5,7 @@ import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfiguration;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfigurations;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -20,8 +21,20 @@ public interface AdminServiceEntry {
      */
     void saveJobConfiguration(JobConfiguration jobConfiguration);
 
+    /**
+     * Creates and saves the given {@link org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfiguration}s
+     * as one batch.
+     *
+     * @param jobConfigurations {@link org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfiguration}s to
+     *                          save.
+     * @return the failure messages, mapped by the index of the failed
+     * {@link org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfiguration} within the given list
+     */
+    Map<Integer, String> saveJobConfigurations(List<JobConfiguration> jobConfigurations);
+
     /**
      * Udpates a existing {@link org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfiguration}
+     * and sets the new version to it
      *
      * @param jobConfiguration {@link org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfiguration} to update.
      */
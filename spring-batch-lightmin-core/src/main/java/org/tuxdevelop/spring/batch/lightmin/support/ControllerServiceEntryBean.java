@@ -1,6 +1,8 @@
 package org.tuxdevelop.spring.batch.lightmin.support;
 
 import org.springframework.batch.core.JobInstance;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureAdapter;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.AdminToResourceMapper;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.BatchToResourceMapper;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.ResourceToAdminMapper;
@@ -8,13 +10,21 @@ import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfiguration;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfigurations;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.*;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobExecutionCallback;
+import org.tuxdevelop.spring.batch.lightmin.dao.SerializedExecutionContext;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidBulkJobExecutionOperationException;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidExecutionContextMaxLengthException;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidJobExecutionSearchException;
+import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
 import org.tuxdevelop.spring.batch.lightmin.service.AdminService;
+import org.tuxdevelop.spring.batch.lightmin.service.BulkJobExecutionOperator;
+import org.tuxdevelop.spring.batch.lightmin.service.JobExecutionPurger;
 import org.tuxdevelop.spring.batch.lightmin.service.JobService;
 import org.tuxdevelop.spring.batch.lightmin.service.StepService;
+import org.tuxdevelop.spring.batch.lightmin.util.PageCursorHelper;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.util.*;
 
 /**
  * Default implementation of the {@link ServiceEntry}
@@ -24,19 +34,50 @@ import java.util.Map;
  */
 public class ControllerServiceEntryBean implements ServiceEntry {
 
+    /**
+     * default max count of characters of a returned execution context
+     */
+    public static final int DEFAULT_EXECUTION_CONTEXT_MAX_LENGTH = 64 * 1024;
+
+    /**
+     * default max page size of a job execution search
+     */
+    public static final int DEFAULT_SEARCH_MAX_PAGE_SIZE = 1000;
+
+    private static final int DEFAULT_SEARCH_PAGE_SIZE = 10;
+    private static final long DEFAULT_STATISTICS_WINDOW = 24L * 60L * 60L * 1000L;
+
     private final AdminService adminService;
     private final JobService jobService;
     private final StepService stepService;
     private final JobLauncherBean jobLauncherBean;
+    private final JobExecutionPurger jobExecutionPurger;
+    private final int executionContextMaxLength;
+    private final BulkJobExecutionOperator bulkJobExecutionOperator;
+    private final int searchMaxPageSize;
 
     public ControllerServiceEntryBean(final AdminService adminService,
                                       final JobService jobService,
                                       final StepService stepService,
-                                      final JobLauncherBean jobLauncherBean) {
+                                      final JobLauncherBean jobLauncherBean,
+                                      final JobExecutionPurger jobExecutionPurger,
+                                      final int executionContextMaxLength,
+                                      final BulkJobExecutionOperator bulkJobExecutionOperator,
+                                      final int searchMaxPageSize) {
+        if (executionContextMaxLength < 1) {
+            throw new IllegalArgumentException("The max length of execution contexts must be positive");
+        }
+        if (searchMaxPageSize < 1) {
+            throw new IllegalArgumentException("The max page size of job execution searches must be positive");
+        }
         this.adminService = adminService;
         this.jobService = jobService;
         this.stepService = stepService;
         this.jobLauncherBean = jobLauncherBean;
+        this.jobExecutionPurger = jobExecutionPurger;
+        this.executionContextMaxLength = executionContextMaxLength;
+        this.bulkJobExecutionOperator = bulkJobExecutionOperator;
+        this.searchMaxPageSize = searchMaxPageSize;
     }
 
 
@@ -45,9 +86,22 @@ public class ControllerServiceEntryBean implements ServiceEntry {
         adminService.saveJobConfiguration(ResourceToAdminMapper.map(jobConfiguration));
     }
 
+    @Override
+    public Map<Integer, String> saveJobConfigurations(final List<JobConfiguration> jobConfigurations) {
+        final List<org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration> adminJobConfigurations =
+                new ArrayList<>(jobConfigurations.size());
+        for (final JobConfiguration jobConfiguration : jobConfigurations) {
+            adminJobConfigurations.add(ResourceToAdminMapper.map(jobConfiguration));
+        }
+        return adminService.saveJobConfigurations(adminJobConfigurations);
+    }
+
     @Override
     public void updateJobConfiguration(final JobConfiguration jobConfiguration) {
-        adminService.updateJobConfiguration(ResourceToAdminMapper.map(jobConfiguration));
+        final org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration updatedJobConfiguration =
+                ResourceToAdminMapper.map(jobConfiguration);
+        adminService.updateJobConfiguration(updatedJobConfiguration);
+        jobConfiguration.setVersion(updatedJobConfiguration.getVersion());
     }
 
     @Override
@@ -94,18 +148,19 @@ public class ControllerServiceEntryBean implements ServiceEntry {
 
     @Override
     public JobExecution getByJobExecutionId(final Long jobExecutionId) {
-        final org.springframework.batch.core.JobExecution jobExecution = jobService.getJobExecution(jobExecutionId);
-        jobService.attachJobInstance(jobExecution);
-        stepService.attachStepExecutions(jobExecution);
-        return BatchToResourceMapper.map(jobExecution);
-
+        final List<org.springframework.batch.core.JobExecution> jobExecutions =
+                jobService.getJobExecutionsWithStepExecutions(Collections.singleton(jobExecutionId));
+        if (jobExecutions.isEmpty()) {
+            throw new SpringBatchLightminApplicationException("Could not find JobExecution for id: " + jobExecutionId);
+        }
+        return BatchToResourceMapper.map(jobExecutions.get(0));
     }
 
     @Override
     public JobExecutionPage getJobExecutionPage(final Long jobInstanceId,
                                                 final Integer startIndex,
                                                 final Integer pageSize) {
-        final JobInstance jobInstance = jobService.getJobInstance(jobInstanceId);
+        final JobInstance jobInstance = getJobInstance(jobInstanceId);
         final Collection<org.springframework.batch.core.JobExecution> jobExecutions = jobService.getJobExecutions(jobInstance, startIndex, pageSize);
         final Integer totalJobExecutionCount = jobService.getJobExecutionCount(jobInstance);
         final JobExecutionPage jobExecutionPage = new JobExecutionPage();
@@ -115,12 +170,73 @@ public class ControllerServiceEntryBean implements ServiceEntry {
         jobExecutionPage.setStartIndex(startIndex);
         jobExecutionPage.setPageSize(pageSize);
         jobExecutionPage.setTotalJobExecutionCount(totalJobExecutionCount);
+        if (startIndex + jobExecutions.size() < totalJobExecutionCount) {
+            jobExecutionPage.setNextCursor(PageCursorHelper.encode(PageCursorHelper.JOB_EXECUTION,
+                    getLastJobExecutionId(jobExecutions)));
+        }
+        return jobExecutionPage;
+    }
+
+    @Override
+    public JobExecutionPage getJobExecutionPageByCursor(final Long jobInstanceId,
+                                                        final String cursor,
+                                                        final Integer startIndex,
+                                                        final Integer pageSize) {
+        final Long jobExecutionId = PageCursorHelper.decode(PageCursorHelper.JOB_EXECUTION, cursor);
+        final JobInstance jobInstance = getJobInstance(jobInstanceId);
+        final List<org.springframework.batch.core.JobExecution> jobExecutions =
+                new ArrayList<>(jobService.getJobExecutionsAfter(jobInstance, jobExecutionId, pageSize + 1));
+        final boolean hasMore = jobExecutions.size() > pageSize;
+        if (hasMore) {
+            jobExecutions.remove(jobExecutions.size() - 1);
+        }
+        final Integer totalJobExecutionCount = jobService.getJobExecutionCount(jobInstance);
+        final JobExecutionPage jobExecutionPage = new JobExecutionPage();
+        jobExecutionPage.setJobName(jobInstance.getJobName());
+        jobExecutionPage.setJobInstanceId(jobInstanceId);
+        jobExecutionPage.setJobExecutions(BatchToResourceMapper.mapExecutions(jobExecutions));
+        jobExecutionPage.setStartIndex(startIndex);
+        jobExecutionPage.setPageSize(pageSize);
+        jobExecutionPage.setTotalJobExecutionCount(totalJobExecutionCount);
+        if (hasMore) {
+            jobExecutionPage.setNextCursor(PageCursorHelper.encode(PageCursorHelper.JOB_EXECUTION,
+                    getLastJobExecutionId(jobExecutions)));
+        }
         return jobExecutionPage;
     }
 
+    @Override
+    public JobExecutionPage searchJobExecutions(final JobExecutionSearch jobExecutionSearch) {
+        final Long jobExecutionId = PageCursorHelper.decode(PageCursorHelper.JOB_EXECUTION,
+                jobExecutionSearch.getCursor());
+        final int pageSize = getSearchPageSize(jobExecutionSearch.getPageSize());
+        final List<org.springframework.batch.core.JobExecution> jobExecutions = new ArrayList<>(
+                jobService.searchJobExecutions(ResourceToAdminMapper.map(jobExecutionSearch), jobExecutionId,
+                        pageSize + 1));
+        final boolean hasMore = jobExecutions.size() > pageSize;
+        if (hasMore) {
+            jobExecutions.remove(jobExecutions.size() - 1);
+        }
+        final JobExecutionPage jobExecutionPage = new JobExecutionPage();
+        jobExecutionPage.setJobName(jobExecutionSearch.getJobName());
+        jobExecutionPage.setJobExecutions(BatchToResourceMapper.mapExecutions(jobExecutions));
+        jobExecutionPage.setPageSize(pageSize);
+        if (hasMore) {
+            jobExecutionPage.setNextCursor(PageCursorHelper.encode(PageCursorHelper.JOB_EXECUTION,
+                    getLastJobExecutionId(jobExecutions)));
+        }
+        return jobExecutionPage;
+    }
+
+    @Override
+    public void exportJobExecutions(final JobExecutionSearch jobExecutionSearch,
+                                    final JobExecutionCallback jobExecutionCallback) throws IOException {
+        jobService.streamJobExecutions(ResourceToAdminMapper.map(jobExecutionSearch), jobExecutionCallback);
+    }
+
     @Override
     public JobExecutionPage getJobExecutionPage(final Long jobInstanceId) {
-        final JobInstance jobInstance = jobService.getJobInstance(jobInstanceId);
+        final JobInstance jobInstance = getJobInstance(jobInstanceId);
         final Collection<org.springframework.batch.core.JobExecution> jobExecutions = jobService.getJobExecutions(jobInstance);
         final Integer totalJobExecutionCount = jobService.getJobExecutionCount(jobInstance);
         final JobExecutionPage jobExecutionPage = new JobExecutionPage();
@@ -143,17 +259,52 @@ public class ControllerServiceEntryBean implements ServiceEntry {
         jobInstancePage.setPageSize(jobInstanceCollection.size());
         jobInstancePage.setStartIndex(startIndex);
         jobInstancePage.setTotalJobInstanceCount(jobInstanceCount);
+        if (startIndex + jobInstanceCollection.size() < jobInstanceCount) {
+            jobInstancePage.setNextCursor(PageCursorHelper.encode(PageCursorHelper.JOB_INSTANCE,
+                    getLastJobInstanceId(jobInstanceCollection)));
+        }
+        return jobInstancePage;
+    }
+
+    @Override
+    public JobInstancePage getJobInstancesByJobNameAndCursor(final String jobName,
+                                                             final String cursor,
+                                                             final int startIndex,
+                                                             final int pageSize) {
+        final Long jobInstanceId = PageCursorHelper.decode(PageCursorHelper.JOB_INSTANCE, cursor);
+        final List<JobInstance> jobInstances =
+                new ArrayList<>(jobService.getJobInstancesAfter(jobName, jobInstanceId, pageSize + 1));
+        final boolean hasMore = jobInstances.size() > pageSize;
+        if (hasMore) {
+            jobInstances.remove(jobInstances.size() - 1);
+        }
+        final Integer jobInstanceCount = jobService.getJobInstanceCount(jobName);
+        final JobInstancePage jobInstancePage = new JobInstancePage();
+        jobInstancePage.setJobName(jobName);
+        jobInstancePage.setJobInstances(BatchToResourceMapper.mapInstances(jobInstances));
+        jobInstancePage.setPageSize(jobInstances.size());
+        jobInstancePage.setStartIndex(startIndex);
+        jobInstancePage.setTotalJobInstanceCount(jobInstanceCount);
+        if (hasMore) {
+            jobInstancePage.setNextCursor(PageCursorHelper.encode(PageCursorHelper.JOB_INSTANCE,
+                    getLastJobInstanceId(jobInstances)));
+        }
         return jobInstancePage;
     }
 
     @Override
     public ApplicationJobInfo getApplicationJobInfo() {
+        return getApplicationJobInfo(false);
+    }
+
+    @Override
+    public ApplicationJobInfo getApplicationJobInfo(final boolean estimated) {
         final ApplicationJobInfo applicationJobInfo = new ApplicationJobInfo();
         final Collection<String> jobNames = jobService.getJobNames();
         for (final String jobName : jobNames) {
             final JobInfo jobInfo = new JobInfo();
             jobInfo.setJobName(jobName);
-            final int instanceCount = jobService.getJobInstanceCount(jobName);
+            final int instanceCount = jobService.getJobInstanceCount(jobName, estimated);
             jobInfo.setJobInstanceCount(instanceCount);
             applicationJobInfo.getJobInfos().add(jobInfo);
         }
@@ -162,13 +313,60 @@ public class ControllerServiceEntryBean implements ServiceEntry {
 
     @Override
     public JobInfo getJobInfo(final String jobName) {
-        final Integer jobInstanceCount = jobService.getJobInstanceCount(jobName);
+        return getJobInfo(jobName, false);
+    }
+
+    @Override
+    public JobInfo getJobInfo(final String jobName, final boolean estimated) {
+        final Integer jobInstanceCount = jobService.getJobInstanceCount(jobName, estimated);
         final JobInfo jobInfo = new JobInfo();
         jobInfo.setJobName(jobName);
         jobInfo.setJobInstanceCount(jobInstanceCount);
         return jobInfo;
     }
 
+    @Override
+    public JobExecutionStatistics getJobExecutionStatistics(final String jobName,
+                                                            final Date startTimeFrom,
+                                                            final Date startTimeTo) {
+        final Date to = startTimeTo != null ? startTimeTo : new Date();
+        final Date from = startTimeFrom != null ? startTimeFrom : new Date(to.getTime() - DEFAULT_STATISTICS_WINDOW);
+        return BatchToResourceMapper.map(jobService.getExecutionStatistics(jobName, from, to), from, to);
+    }
+
+    @Override
+    public JobExecutionPurgeStatus purgeJobExecutions(final RetentionPolicy retentionPolicy) {
+        final org.tuxdevelop.spring.batch.lightmin.dao.RetentionPolicy policy = retentionPolicy != null
+                ? ResourceToAdminMapper.map(retentionPolicy) : null;
+        return BatchToResourceMapper.map(jobExecutionPurger.start(policy));
+    }
+
+    @Override
+    public JobExecutionPurgeStatus getJobExecutionPurgeStatus() {
+        return BatchToResourceMapper.map(jobExecutionPurger.getStatus());
+    }
+
+    @Override
+    public BulkJobExecutionOperationStatus restartJobExecutions(final BulkJobExecutionOperation bulkJobExecutionOperation) {
+        return BatchToResourceMapper.map(bulkJobExecutionOperator.start(
+                org.tuxdevelop.spring.batch.lightmin.service.BulkJobExecutionOperationStatus.Operation.RESTART,
+                getJobExecutionIds(bulkJobExecutionOperation)));
+    }
+
+    @Override
+    public BulkJobExecutionOperationStatus stopJobExecutions(final BulkJobExecutionOperation bulkJobExecutionOperation) {
+        return BatchToResourceMapper.map(bulkJobExecutionOperator.start(
+                org.tuxdevelop.spring.batch.lightmin.service.BulkJobExecutionOperationStatus.Operation.STOP,
+                getJobExecutionIds(bulkJobExecutionOperation)));
+    }
+
+    @Override
+    public BulkJobExecutionOperationStatus getBulkJobExecutionOperationStatus(final Long bulkJobExecutionOperationId) {
+        final org.tuxdevelop.spring.batch.lightmin.service.BulkJobExecutionOperationStatus status =
+                bulkJobExecutionOperator.getStatus(bulkJobExecutionOperationId);
+        return status == null ? null : BatchToResourceMapper.map(status);
+    }
+
     @Override
     public void restartJobExecution(final Long jobExecutionId) {
         jobService.restartJobExecution(jobExecutionId);
@@ -181,13 +379,56 @@ public class ControllerServiceEntryBean implements ServiceEntry {
 
     @Override
     public StepExecution getStepExecution(final Long jobExecutionId, final Long stepExecutionId) {
-        final org.springframework.batch.core.JobExecution jobExecution = jobService.getJobExecution(jobExecutionId);
-        return BatchToResourceMapper.map(stepService.getStepExecution(jobExecution, stepExecutionId));
+        final List<org.springframework.batch.core.JobExecution> jobExecutions =
+                jobService.getJobExecutionsWithStepExecutions(Collections.singleton(jobExecutionId));
+        if (jobExecutions.isEmpty()) {
+            throw new SpringBatchLightminApplicationException("Could not find JobExecution for id: " + jobExecutionId);
+        }
+        return BatchToResourceMapper.map(stepService.getStepExecution(jobExecutions.get(0), stepExecutionId));
+    }
+
+    @Override
+    public ExecutionContextPreview getJobExecutionContext(final Long jobExecutionId, final Integer maxLength) {
+        final int length = getExecutionContextMaxLength(maxLength);
+        return map(jobService.getJobExecutionContext(jobExecutionId, length), jobExecutionId, null, length);
+    }
+
+    @Override
+    public ExecutionContextPreview getStepExecutionContext(final Long jobExecutionId,
+                                                           final Long stepExecutionId,
+                                                           final Integer maxLength) {
+        final int length = getExecutionContextMaxLength(maxLength);
+        return map(stepService.getStepExecutionContext(jobExecutionId, stepExecutionId, length), jobExecutionId,
+                stepExecutionId, length);
+    }
+
+    @Override
+    public JobLaunchResult launchJob(final JobLaunch jobLaunch) {
+        return jobLauncherBean.launchJob(jobLaunch);
+    }
+
+    @Override
+    public BulkJobLaunchStatus launchJobs(final BulkJobLaunch bulkJobLaunch) {
+        return BatchToResourceMapper.map(jobLauncherBean.launchJobs(bulkJobLaunch.getJobName(),
+                ResourceToAdminMapper.mapParameterSets(bulkJobLaunch)));
+    }
+
+    @Override
+    public BulkJobLaunchStatus getBulkJobLaunchStatus(final Long bulkJobLaunchId) {
+        final org.tuxdevelop.spring.batch.lightmin.service.BulkJobLaunchStatus bulkJobLaunchStatus =
+                jobLauncherBean.getBulkJobLaunchStatus(bulkJobLaunchId);
+        return bulkJobLaunchStatus == null ? null : BatchToResourceMapper.map(bulkJobLaunchStatus);
     }
 
     @Override
-    public void launchJob(final JobLaunch jobLaunch) {
-        jobLauncherBean.launchJob(jobLaunch);
+    public ListenableFuture<JobExecution> getJobExecutionCompletion(final Long jobExecutionId) {
+        return new ListenableFutureAdapter<JobExecution, org.springframework.batch.core.JobExecution>(
+                jobLauncherBean.getJobExecutionCompletion(jobExecutionId)) {
+            @Override
+            protected JobExecution adapt(final org.springframework.batch.core.JobExecution jobExecution) {
+                return BatchToResourceMapper.map(jobExecution);
+            }
+        };
     }
 
     @Override
@@ -195,4 +436,105 @@ public class ControllerServiceEntryBean implements ServiceEntry {
         final org.springframework.batch.core.JobParameters jobParameters = jobService.getLastJobParameters(jobName);
         return BatchToResourceMapper.map(jobParameters);
     }
+
+    /**
+     * Resolves the ids of the job executions selected by a bulk operation, a search is streamed and only the ids of
+     * the matching job executions are kept. The stream is aborted, as soon as the search matches more job executions
+     * than a single bulk operation may operate.
+     */
+    private List<Long> getJobExecutionIds(final BulkJobExecutionOperation bulkJobExecutionOperation) {
+        final List<Long> jobExecutionIds = bulkJobExecutionOperation.getJobExecutionIds();
+        final JobExecutionSearch search = bulkJobExecutionOperation.getSearch();
+        final List<Long> response;
+        if (jobExecutionIds != null && !jobExecutionIds.isEmpty()) {
+            if (search != null) {
+                throw new InvalidBulkJobExecutionOperationException("A bulk operation requires either job execution "
+                        + "ids or a search, not both");
+            }
+            response = jobExecutionIds;
+        } else if (search != null) {
+            final int maxJobExecutions = bulkJobExecutionOperator.getMaxPendingItems();
+            response = new ArrayList<>();
+            try {
+                jobService.streamJobExecutions(ResourceToAdminMapper.map(search), new JobExecutionCallback() {
+                    @Override
+                    public void doWithJobExecution(final org.springframework.batch.core.JobExecution jobExecution) {
+                        if (response.size() == maxJobExecutions) {
+                            throw new InvalidBulkJobExecutionOperationException("A bulk operation is limited to "
+                                    + maxJobExecutions + " job executions, the search matches more");
+                        }
+                        response.add(jobExecution.getId());
+                    }
+                });
+            } catch (final IOException e) {
+                throw new SpringBatchLightminApplicationException(e, e.getMessage());
+            }
+        } else {
+            response = Collections.emptyList();
+        }
+        return response;
+    }
+
+    private JobInstance getJobInstance(final Long jobInstanceId) {
+        final JobInstance jobInstance = jobService.getJobInstance(jobInstanceId);
+        if (jobInstance == null) {
+            throw new SpringBatchLightminApplicationException("Could not find JobInstance for id: " + jobInstanceId);
+        }
+        return jobInstance;
+    }
+
+    private static Long getLastJobExecutionId(final Collection<org.springframework.batch.core.JobExecution> jobExecutions) {
+        Long jobExecutionId = null;
+        for (final org.springframework.batch.core.JobExecution jobExecution : jobExecutions) {
+            jobExecutionId = jobExecution.getId();
+        }
+        return jobExecutionId;
+    }
+
+    private static Long getLastJobInstanceId(final Collection<JobInstance> jobInstances) {
+        Long jobInstanceId = null;
+        for (final JobInstance jobInstance : jobInstances) {
+            jobInstanceId = jobInstance.getId();
+        }
+        return jobInstanceId;
+    }
+
+    /*
+     * page sizes above the configured max are capped, the next page is requested by the cursor
+     */
+    private int getSearchPageSize(final Integer pageSize) {
+        if (pageSize == null) {
+            return Math.min(DEFAULT_SEARCH_PAGE_SIZE, searchMaxPageSize);
+        } else if (pageSize < 1) {
+            throw new InvalidJobExecutionSearchException("The page size must be positive");
+        }
+        return Math.min(pageSize, searchMaxPageSize);
+    }
+
+    private int getExecutionContextMaxLength(final Integer maxLength) {
+        if (maxLength == null || maxLength > executionContextMaxLength) {
+            return executionContextMaxLength;
+        }
+        if (maxLength < 0) {
+            throw new InvalidExecutionContextMaxLengthException("The max length of the execution context must not be "
+                    + "negative");
+        }
+        return maxLength;
+    }
+
+    private static ExecutionContextPreview map(final SerializedExecutionContext serializedExecutionContext,
+                                               final Long jobExecutionId,
+                                               final Long stepExecutionId,
+                                               final int maxLength) {
+        if (serializedExecutionContext == null) {
+            return null;
+        }
+        final ExecutionContextPreview executionContextPreview = new ExecutionContextPreview();
+        executionContextPreview.setJobExecutionId(jobExecutionId);
+        executionContextPreview.setStepExecutionId(stepExecutionId);
+        executionContextPreview.setSerializedContext(serializedExecutionContext.getContent());
+        executionContextPreview.setMaxLength(maxLength);
+        executionContextPreview.setTruncated(serializedExecutionContext.isTruncated());
+        return executionContextPreview;
+    }
 }
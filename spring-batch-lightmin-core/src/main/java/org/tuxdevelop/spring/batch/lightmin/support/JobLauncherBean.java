@@ -2,38 +2,124 @@ package org.tuxdevelop.spring.batch.lightmin.support;
 
 
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.configuration.JobRegistry;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.util.StringUtils;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.BatchToResourceMapper;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.ResourceToAdminMapper;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.JobLaunch;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.JobLaunchResult;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobLaunchKey;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
+import org.tuxdevelop.spring.batch.lightmin.service.BulkJobLaunchStatus;
+import org.tuxdevelop.spring.batch.lightmin.service.BulkJobLauncher;
+import org.tuxdevelop.spring.batch.lightmin.service.JobExecutionCompletionWatcher;
+import org.tuxdevelop.spring.batch.lightmin.service.JobLaunchDeduplicator;
+
+import java.util.List;
 
 public class JobLauncherBean {
 
     private final JobLauncher jobLauncher;
     private final JobRegistry JobRegistry;
+    private final JobExecutionCompletionWatcher jobExecutionCompletionWatcher;
+    private final BulkJobLauncher bulkJobLauncher;
+    private final JobLaunchDeduplicator jobLaunchDeduplicator;
 
     public JobLauncherBean(final JobLauncher jobLauncher,
-                           final JobRegistry jobRegistry) {
+                           final JobRegistry jobRegistry,
+                           final JobExecutionCompletionWatcher jobExecutionCompletionWatcher,
+                           final BulkJobLauncher bulkJobLauncher,
+                           final JobLaunchDeduplicator jobLaunchDeduplicator) {
         this.jobLauncher = jobLauncher;
         JobRegistry = jobRegistry;
+        this.jobExecutionCompletionWatcher = jobExecutionCompletionWatcher;
+        this.bulkJobLauncher = bulkJobLauncher;
+        this.jobLaunchDeduplicator = jobLaunchDeduplicator;
     }
 
     /**
-     * Lauches a {@link org.springframework.batch.core.Job} with the given values of the {@link JobLaunch} parameter
+     * Lauches a {@link org.springframework.batch.core.Job} with the given values of the {@link JobLaunch} parameter.
+     * With an asynchronous {@link JobLauncher} the created JobExecution is returned before the job has been run.
+     * <p>
+     * If the JobLaunch carries an idempotency key, which has already been used by an earlier launch, the job is not
+     * launched again and the id of the earlier JobExecution is returned.
      *
      * @param jobLaunch the launch information for the Job
+     * @return the JobLaunchResult of the launch
+     */
+    public JobLaunchResult launchJob(final JobLaunch jobLaunch) {
+        final String idempotencyKey = jobLaunch.getIdempotencyKey();
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return createJobLaunchResult(jobLaunch.getJobName(), run(jobLaunch));
+        }
+        final JobLaunchKey jobLaunchKey = jobLaunchDeduplicator.reserve(idempotencyKey, jobLaunch.getJobName());
+        if (jobLaunchKey.getJobExecutionId() != null) {
+            final JobLaunchResult jobLaunchResult = new JobLaunchResult();
+            jobLaunchResult.setJobName(jobLaunch.getJobName());
+            jobLaunchResult.setJobExecutionId(jobLaunchKey.getJobExecutionId());
+            jobLaunchResult.setDuplicate(Boolean.TRUE);
+            return jobLaunchResult;
+        }
+        final JobExecution jobExecution;
+        try {
+            jobExecution = run(jobLaunch);
+        } catch (final RuntimeException e) {
+            jobLaunchDeduplicator.release(jobLaunchKey);
+            throw e;
+        }
+        jobLaunchDeduplicator.complete(jobLaunchKey, jobExecution.getId());
+        return createJobLaunchResult(jobLaunch.getJobName(), jobExecution);
+    }
+
+    /**
+     * Starts an asynchronous launch of a {@link org.springframework.batch.core.Job} once per parameter set
+     *
+     * @param jobName           the name of the Job
+     * @param jobParametersList the parameter sets
+     * @return the status of the started bulk launch
+     */
+    public BulkJobLaunchStatus launchJobs(final String jobName, final List<JobParameters> jobParametersList) {
+        return bulkJobLauncher.launch(jobName, jobParametersList);
+    }
+
+    /**
+     * @param bulkJobLaunchId the id of a bulk launch
+     * @return the status of the bulk launch, null if it is unknown
      */
-    public void launchJob(final JobLaunch jobLaunch) {
+    public BulkJobLaunchStatus getBulkJobLaunchStatus(final Long bulkJobLaunchId) {
+        return bulkJobLauncher.getStatus(bulkJobLaunchId);
+    }
+
+    /**
+     * Watches a launched {@link JobExecution} until it is finished
+     *
+     * @param jobExecutionId the id of the JobExecution
+     * @return the future of the finished JobExecution
+     */
+    public ListenableFuture<JobExecution> getJobExecutionCompletion(final Long jobExecutionId) {
+        return jobExecutionCompletionWatcher.watch(jobExecutionId);
+    }
+
+    private JobExecution run(final JobLaunch jobLaunch) {
         final Job job;
         try {
             job = JobRegistry.getJob(jobLaunch.getJobName());
             final JobParameters jobParameters = ResourceToAdminMapper.map(jobLaunch.getJobParameters());
-            jobLauncher.run(job, jobParameters);
+            return jobLauncher.run(job, jobParameters);
         } catch (final Exception e) {
             throw new SpringBatchLightminApplicationException(e, e.getMessage());
         }
+    }
 
+    private static JobLaunchResult createJobLaunchResult(final String jobName, final JobExecution jobExecution) {
+        final JobLaunchResult jobLaunchResult = new JobLaunchResult();
+        jobLaunchResult.setJobName(jobName);
+        jobLaunchResult.setJobExecutionId(jobExecution.getId());
+        jobLaunchResult.setStatus(BatchToResourceMapper.map(jobExecution.getStatus()));
+        return jobLaunchResult;
     }
 }
@@ -1,7 +1,12 @@
 package org.tuxdevelop.spring.batch.lightmin.support;
 
+import org.springframework.util.concurrent.ListenableFuture;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.*;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobExecutionCallback;
+
+import java.io.IOException;
+import java.util.Date;
 
 /**
  * @author Marcel Becker
@@ -31,6 +36,41 @@ public interface JobServiceEntry {
                                          final Integer pageSize);
 
 
+    /**
+     * Retrieves {@link JobExecutionPage} containing {@link JobExecution}s for a given
+     * {@link org.springframework.batch.core.JobInstance} id, starting after the position encoded by the given cursor
+     *
+     * @param jobInstanceId the id of the JobInstance
+     * @param cursor        the {@link JobExecutionPage#getNextCursor()} of the previous page, null for the first page
+     * @param startIndex    the index position of the page as tracked by the caller, only used to describe the page
+     * @param pageSize      the size of the page
+     * @return the JobExecutionPage
+     */
+    JobExecutionPage getJobExecutionPageByCursor(final Long jobInstanceId,
+                                                 final String cursor,
+                                                 final Integer startIndex,
+                                                 final Integer pageSize);
+
+    /**
+     * Retrieves {@link JobExecutionPage} containing the {@link JobExecution}s matching the given
+     * {@link JobExecutionSearch}, starting after the position encoded by its cursor
+     *
+     * @param jobExecutionSearch the criteria, cursor and page size of the search
+     * @return the JobExecutionPage
+     */
+    JobExecutionPage searchJobExecutions(final JobExecutionSearch jobExecutionSearch);
+
+    /**
+     * Streams all {@link org.springframework.batch.core.JobExecution}s matching the given {@link JobExecutionSearch}
+     * by descending id to the callback. Cursor and page size of the search are ignored.
+     *
+     * @param jobExecutionSearch   the criteria of the export
+     * @param jobExecutionCallback the callback, which is called for every job execution
+     * @throws IOException if the callback could not handle a job execution
+     */
+    void exportJobExecutions(final JobExecutionSearch jobExecutionSearch,
+                             final JobExecutionCallback jobExecutionCallback) throws IOException;
+
     /**
      * Retrieves {@link JobExecutionPage} containing {@link JobExecution}s for a given
      * {@link org.springframework.batch.core.JobInstance} id
@@ -53,6 +93,21 @@ public interface JobServiceEntry {
                                              final int startIndex,
                                              final int pageSize);
 
+    /**
+     * Retrieves {@link JobInstancePage} containing {@link JobInstance}s for a given name of a
+     * {@link org.springframework.batch.core.Job}, starting after the position encoded by the given cursor
+     *
+     * @param jobName    the name of the Spring Batch Job
+     * @param cursor     the {@link JobInstancePage#getNextCursor()} of the previous page, null for the first page
+     * @param startIndex the index position of the page as tracked by the caller, only used to describe the page
+     * @param pageSize   the size of the page
+     * @return the JobInstancePage
+     */
+    JobInstancePage getJobInstancesByJobNameAndCursor(final String jobName,
+                                                      final String cursor,
+                                                      final int startIndex,
+                                                      final int pageSize);
+
     /**
      * Retrieves high level {@link ApplicationJobInfo} of the Application
      *
@@ -60,6 +115,14 @@ public interface JobServiceEntry {
      */
     ApplicationJobInfo getApplicationJobInfo();
 
+    /**
+     * Retrieves high level {@link ApplicationJobInfo} of the Application
+     *
+     * @param estimated if true, cached job instance counts may be used without recounting
+     * @return the ApplicationJobInfo
+     */
+    ApplicationJobInfo getApplicationJobInfo(final boolean estimated);
+
 
     /**
      * Retrieves high level {@link JobInfo} of a {@link org.springframework.batch.core.Job} for a given job name
@@ -69,6 +132,70 @@ public interface JobServiceEntry {
      */
     JobInfo getJobInfo(final String jobName);
 
+    /**
+     * Retrieves high level {@link JobInfo} of a {@link org.springframework.batch.core.Job} for a given job name
+     *
+     * @param jobName   the name of the Spring Batch Job
+     * @param estimated if true, a cached job instance count may be used without recounting
+     * @return the JobInfo
+     */
+    JobInfo getJobInfo(final String jobName, final boolean estimated);
+
+    /**
+     * Retrieves the {@link JobExecutionStatistics} of a {@link org.springframework.batch.core.Job} for the executions
+     * started within the given time window
+     *
+     * @param jobName       the name of the Spring Batch Job
+     * @param startTimeFrom inclusive lower bound of the start time, defaults to one day before the upper bound
+     * @param startTimeTo   exclusive upper bound of the start time, defaults to now
+     * @return the JobExecutionStatistics
+     */
+    JobExecutionStatistics getJobExecutionStatistics(final String jobName,
+                                                     final Date startTimeFrom,
+                                                     final Date startTimeTo);
+
+    /**
+     * Starts an asynchronous purge of finished {@link org.springframework.batch.core.JobExecution}s, if no purge is
+     * running
+     *
+     * @param retentionPolicy the policy to apply, null for the configured retention policy
+     * @return the JobExecutionPurgeStatus of the started or of the already running purge
+     */
+    JobExecutionPurgeStatus purgeJobExecutions(final RetentionPolicy retentionPolicy);
+
+    /**
+     * Retrieves the {@link JobExecutionPurgeStatus} of the running or of the last purge
+     *
+     * @return the JobExecutionPurgeStatus
+     */
+    JobExecutionPurgeStatus getJobExecutionPurgeStatus();
+
+    /**
+     * Starts an asynchronous restart of the {@link org.springframework.batch.core.JobExecution}s selected by their ids
+     * or by a search
+     *
+     * @param bulkJobExecutionOperation the ids or the search of the JobExecutions
+     * @return the BulkJobExecutionOperationStatus of the started bulk restart
+     */
+    BulkJobExecutionOperationStatus restartJobExecutions(final BulkJobExecutionOperation bulkJobExecutionOperation);
+
+    /**
+     * Starts an asynchronous stop of the {@link org.springframework.batch.core.JobExecution}s selected by their ids or
+     * by a search
+     *
+     * @param bulkJobExecutionOperation the ids or the search of the JobExecutions
+     * @return the BulkJobExecutionOperationStatus of the started bulk stop
+     */
+    BulkJobExecutionOperationStatus stopJobExecutions(final BulkJobExecutionOperation bulkJobExecutionOperation);
+
+    /**
+     * Retrieves the aggregated progress of a bulk stop or restart
+     *
+     * @param bulkJobExecutionOperationId the id of the bulk operation
+     * @return the BulkJobExecutionOperationStatus, null if the bulk operation is unknown
+     */
+    BulkJobExecutionOperationStatus getBulkJobExecutionOperationStatus(final Long bulkJobExecutionOperationId);
+
     /**
      * Restarts a {@link org.springframework.batch.core.JobExecution} of a given id
      *
@@ -93,11 +220,60 @@ public interface JobServiceEntry {
     StepExecution getStepExecution(final Long jobExecutionId, final Long stepExecutionId);
 
     /**
-     * Lauches a {@link org.springframework.batch.core.Job} with the given values of the {@link JobLaunch} parameter
+     * Retrieves the serialized execution context of a {@link org.springframework.batch.core.JobExecution}
+     *
+     * @param jobExecutionId the id of the {@link org.springframework.batch.core.JobExecution}
+     * @param maxLength      max count of characters, capped and defaulted by the configured max length
+     * @return the ExecutionContextPreview or null, if no context exists
+     */
+    ExecutionContextPreview getJobExecutionContext(final Long jobExecutionId, final Integer maxLength);
+
+    /**
+     * Retrieves the serialized execution context of a {@link org.springframework.batch.core.StepExecution}
+     *
+     * @param jobExecutionId  the id of the {@link org.springframework.batch.core.JobExecution}
+     * @param stepExecutionId the id of the {@link org.springframework.batch.core.StepExecution}
+     * @param maxLength       max count of characters, capped and defaulted by the configured max length
+     * @return the ExecutionContextPreview or null, if no context exists
+     */
+    ExecutionContextPreview getStepExecutionContext(final Long jobExecutionId,
+                                                    final Long stepExecutionId,
+                                                    final Integer maxLength);
+
+    /**
+     * Lauches a {@link org.springframework.batch.core.Job} with the given values of the {@link JobLaunch} parameter.
+     * The launch returns as soon as the {@link JobExecution} has been created, the job runs asynchronously. A retried
+     * launch with the idempotency key of an earlier launch does not launch the job again.
      *
      * @param jobLaunch the launch information for the Job
+     * @return the JobLaunchResult containing the id of the created or of the earlier JobExecution
+     */
+    JobLaunchResult launchJob(final JobLaunch jobLaunch);
+
+    /**
+     * Starts an asynchronous launch of a {@link org.springframework.batch.core.Job} once per parameter set of the
+     * {@link BulkJobLaunch}
+     *
+     * @param bulkJobLaunch the job name and the parameter sets
+     * @return the BulkJobLaunchStatus of the started bulk launch
+     */
+    BulkJobLaunchStatus launchJobs(final BulkJobLaunch bulkJobLaunch);
+
+    /**
+     * Retrieves the progress of a bulk launch
+     *
+     * @param bulkJobLaunchId the id of the bulk launch
+     * @return the BulkJobLaunchStatus, null if the bulk launch is unknown
+     */
+    BulkJobLaunchStatus getBulkJobLaunchStatus(final Long bulkJobLaunchId);
+
+    /**
+     * Watches a {@link JobExecution} until it is finished
+     *
+     * @param jobExecutionId the id of the JobExecution
+     * @return the future of the finished JobExecution including its step executions
      */
-    void launchJob(final JobLaunch jobLaunch);
+    ListenableFuture<JobExecution> getJobExecutionCompletion(final Long jobExecutionId);
 
     /**
      * Retrieves the last used {@link JobParameters} of a {@link org.springframework.batch.core.Job} run
@@ -0,0 +1,33 @@
+package org.tuxdevelop.spring.batch.lightmin.util;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Blocks the submitting thread until the queue of the {@link ThreadPoolExecutor} has a free slot. Tasks are only
+ * rejected, if the executor has been shut down or the submitting thread is interrupted while waiting.
+ * <p>
+ * The task is put into the queue directly, the pool must not grow beyond its core size on a full queue.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class BlockingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    @Override
+    public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("The executor has been shut down");
+        }
+        try {
+            executor.getQueue().put(runnable);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for a free slot of the executor", e);
+        }
+        if (executor.isShutdown() && executor.remove(runnable)) {
+            throw new RejectedExecutionException("The executor has been shut down");
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package org.tuxdevelop.spring.batch.lightmin.util;
+
+import org.springframework.batch.core.JobParameter;
+import org.springframework.batch.core.JobParameters;
+import org.tuxdevelop.spring.batch.lightmin.admin.domain.JobIncrementer;
+import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled {@link JobParameters} of a scheduler. String parameters with a value of the form ${expression} are
+ * templates, which are parsed once on compilation and evaluated each time the parameters are created. Supported
+ * expressions are
+ * <ul>
+ * <li>
+ * now and today, optionally shifted by an offset of seconds, minutes, hours or days, e.g. today-1d or now+2h,
+ * evaluated to a {@link java.util.Date} parameter
+ * </li>
+ * <li>
+ * seq, evaluated to a {@link Long} parameter, which is incremented on every evaluation and continues after the
+ * value of the last launch of the job
+ * </li>
+ * <li>
+ * latestFile:pattern, evaluated to the path of the last modified file in a directory matching a glob pattern, e.g.
+ * latestFile:/in/*.csv
+ * </li>
+ * </ul>
+ * Only the expressions above are templates, all other parameters, e.g. a String ${name}, are passed unchanged. The
+ * {@link JobIncrementer#DATE} adds the current time in millis.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public final class JobParametersTemplate {
+
+    private static final String PREFIX = "${";
+    private static final String SUFFIX = "}";
+    private static final String SEQUENCE = "seq";
+    private static final String LATEST_FILE = "latestFile:";
+    private static final Pattern DATE_PATTERN = Pattern.compile("(now|today)(?:([+-])(\\d+)([smhd]))?");
+    private static final Pattern DATE_KEYWORD_PATTERN = Pattern.compile("(now|today)(?:[+-].*)?");
+
+    private final JobParameters jobParameters;
+    private final Map<String, JobParameter> staticParameters;
+    private final Map<String, Expression> expressions;
+
+    private JobParametersTemplate(final JobParameters jobParameters,
+                                  final Map<String, JobParameter> staticParameters,
+                                  final Map<String, Expression> expressions) {
+        this.jobParameters = jobParameters;
+        this.staticParameters = staticParameters;
+        this.expressions = expressions;
+    }
+
+    /**
+     * Compiles the given parameters, sequences start with 1
+     *
+     * @param jobParameters  the parameters of the scheduler, may contain templates
+     * @param jobIncrementer the incrementer of the scheduler, may be null
+     * @return the compiled template
+     */
+    public static JobParametersTemplate compile(final JobParameters jobParameters,
+                                                final JobIncrementer jobIncrementer) {
+        return compile(jobParameters, jobIncrementer, null);
+    }
+
+    /**
+     * Compiles the given parameters
+     *
+     * @param jobParameters     the parameters of the scheduler, may contain templates
+     * @param jobIncrementer    the incrementer of the scheduler, may be null
+     * @param lastJobParameters the parameters of the last launch of the job, sequences continue after their values,
+     *                          may be null
+     * @return the compiled template
+     * @throws SpringBatchLightminApplicationException if a template is not valid
+     */
+    public static JobParametersTemplate compile(final JobParameters jobParameters,
+                                                final JobIncrementer jobIncrementer,
+                                                final JobParameters lastJobParameters) {
+        final Map<String, JobParameter> staticParameters = new LinkedHashMap<>();
+        final Map<String, Expression> expressions = new LinkedHashMap<>();
+        if (jobParameters != null) {
+            for (final Map.Entry<String, JobParameter> entry : jobParameters.getParameters().entrySet()) {
+                final JobParameter jobParameter = entry.getValue();
+                if (isTemplate(jobParameter.getValue())) {
+                    final Expression expression = compileExpression((String) jobParameter.getValue());
+                    if (expression instanceof SequenceExpression) {
+                        ((SequenceExpression) expression).continueAfter(lastJobParameters, entry.getKey());
+                    }
+                    expressions.put(entry.getKey(), expression);
+                } else {
+                    staticParameters.put(entry.getKey(), jobParameter);
+                }
+            }
+        }
+        if (JobIncrementer.DATE.equals(jobIncrementer)) {
+            expressions.put(JobIncrementer.DATE.getIncrementerIdentifier(), new TimestampExpression());
+        }
+        return new JobParametersTemplate(new JobParameters(staticParameters), staticParameters, expressions);
+    }
+
+    /**
+     * Checks the templates of the given parameters
+     *
+     * @param parameters the parameters to check
+     * @throws SpringBatchLightminApplicationException if a template is not valid
+     */
+    public static void validate(final Map<String, Object> parameters) {
+        if (parameters != null) {
+            for (final Object value : parameters.values()) {
+                if (isTemplate(value)) {
+                    compileExpression((String) value);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param jobParameters the parameters to check
+     * @return the names of the parameters, which are seq templates and require the last parameters of the job for
+     * compilation
+     */
+    public static Set<String> getSequenceNames(final JobParameters jobParameters) {
+        final Set<String> sequenceNames = new LinkedHashSet<>();
+        if (jobParameters != null) {
+            for (final Map.Entry<String, JobParameter> entry : jobParameters.getParameters().entrySet()) {
+                final Object value = entry.getValue().getValue();
+                if (isTemplate(value) && SEQUENCE.equals(getExpressionString((String) value))) {
+                    sequenceNames.add(entry.getKey());
+                }
+            }
+        }
+        return sequenceNames;
+    }
+
+    /**
+     * @return the parameters with all templates evaluated
+     * @throws SpringBatchLightminApplicationException if a template could not be evaluated
+     */
+    public JobParameters evaluate() {
+        final JobParameters result;
+        if (expressions.isEmpty()) {
+            result = jobParameters;
+        } else {
+            final long now = System.currentTimeMillis();
+            final Map<String, JobParameter> parameters = new LinkedHashMap<>(staticParameters);
+            for (final Map.Entry<String, Expression> entry : expressions.entrySet()) {
+                parameters.put(entry.getKey(), entry.getValue().evaluate(now));
+            }
+            result = new JobParameters(parameters);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "JobParametersTemplate{parameters=" + staticParameters + ", expressions=" + expressions.keySet() + "}";
+    }
+
+    private static boolean isTemplate(final Object value) {
+        final boolean template;
+        if (value instanceof String && ((String) value).startsWith(PREFIX) && ((String) value).endsWith(SUFFIX)) {
+            final String expressionString = getExpressionString((String) value);
+            template = SEQUENCE.equals(expressionString) || expressionString.startsWith(LATEST_FILE)
+                    || DATE_KEYWORD_PATTERN.matcher(expressionString).matches();
+        } else {
+            template = false;
+        }
+        return template;
+    }
+
+    private static String getExpressionString(final String template) {
+        return template.substring(PREFIX.length(), template.length() - SUFFIX.length()).trim();
+    }
+
+    private static Expression compileExpression(final String template) {
+        final String expressionString = getExpressionString(template);
+        final Expression expression;
+        final Matcher dateMatcher = DATE_PATTERN.matcher(expressionString);
+        if (SEQUENCE.equals(expressionString)) {
+            expression = new SequenceExpression();
+        } else if (expressionString.startsWith(LATEST_FILE)) {
+            expression = new LatestFileExpression(expressionString.substring(LATEST_FILE.length()).trim());
+        } else if (dateMatcher.matches()) {
+            expression = new DateExpression(dateMatcher);
+        } else {
+            throw new SpringBatchLightminApplicationException("Invalid job parameter template: " + template);
+        }
+        return expression;
+    }
+
+    private interface Expression {
+
+        JobParameter evaluate(long now);
+    }
+
+    private static final class TimestampExpression implements Expression {
+
+        @Override
+        public JobParameter evaluate(final long now) {
+            return new JobParameter(now);
+        }
+    }
+
+    private static final class DateExpression implements Expression {
+
+        private final boolean truncate;
+        private final int field;
+        private final int amount;
+
+        DateExpression(final Matcher matcher) {
+            this.truncate = "today".equals(matcher.group(1));
+            if (matcher.group(2) == null) {
+                this.field = Calendar.DAY_OF_MONTH;
+                this.amount = 0;
+            } else {
+                final int value;
+                try {
+                    value = Integer.parseInt(matcher.group(3));
+                } catch (final NumberFormatException e) {
+                    throw new SpringBatchLightminApplicationException(e, "Offset out of range: " + matcher.group());
+                }
+                this.amount = "-".equals(matcher.group(2)) ? -value : value;
+                switch (matcher.group(4).charAt(0)) {
+                    case 's':
+                        this.field = Calendar.SECOND;
+                        break;
+                    case 'm':
+                        this.field = Calendar.MINUTE;
+                        break;
+                    case 'h':
+                        this.field = Calendar.HOUR_OF_DAY;
+                        break;
+                    default:
+                        this.field = Calendar.DAY_OF_MONTH;
+                }
+            }
+        }
+
+        @Override
+        public JobParameter evaluate(final long now) {
+            final Calendar calendar = Calendar.getInstance();
+            calendar.setTimeInMillis(now);
+            if (truncate) {
+                calendar.set(Calendar.HOUR_OF_DAY, 0);
+                calendar.set(Calendar.MINUTE, 0);
+                calendar.set(Calendar.SECOND, 0);
+                calendar.set(Calendar.MILLISECOND, 0);
+            }
+            if (amount != 0) {
+                calendar.add(field, amount);
+            }
+            return new JobParameter(calendar.getTime());
+        }
+    }
+
+    private static final class SequenceExpression implements Expression {
+
+        private final AtomicLong sequence = new AtomicLong();
+
+        void continueAfter(final JobParameters lastJobParameters, final String key) {
+            if (lastJobParameters != null) {
+                final JobParameter lastJobParameter = lastJobParameters.getParameters().get(key);
+                if (lastJobParameter != null && lastJobParameter.getValue() instanceof Long) {
+                    sequence.set((Long) lastJobParameter.getValue());
+                }
+            }
+        }
+
+        @Override
+        public JobParameter evaluate(final long now) {
+            return new JobParameter(sequence.incrementAndGet());
+        }
+    }
+
+    private static final class LatestFileExpression implements Expression {
+
+        private final Path directory;
+        private final PathMatcher pathMatcher;
+        private final String pattern;
+
+        LatestFileExpression(final String pattern) {
+            final int separator = Math.max(pattern.lastIndexOf('/'), pattern.lastIndexOf('\\'));
+            final String glob = pattern.substring(separator + 1);
+            if (glob.isEmpty()) {
+                throw new SpringBatchLightminApplicationException("Missing file pattern in: " + pattern);
+            }
+            try {
+                this.directory = separator < 0 ? Paths.get(".") : Paths.get(pattern.substring(0, separator + 1));
+                this.pathMatcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+            } catch (final IllegalArgumentException e) {
+                throw new SpringBatchLightminApplicationException(e, "Invalid file pattern: " + pattern);
+            }
+            this.pattern = pattern;
+        }
+
+        @Override
+        public JobParameter evaluate(final long now) {
+            Path latestFile = null;
+            long latestModified = Long.MIN_VALUE;
+            try (final DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory)) {
+                for (final Path path : directoryStream) {
+                    if (pathMatcher.matches(path.getFileName())) {
+                        final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                        final long modified = attributes.lastModifiedTime().toMillis();
+                        if (attributes.isRegularFile() && (latestFile == null || modified > latestModified
+                                || (modified == latestModified && path.compareTo(latestFile) > 0))) {
+                            latestFile = path;
+                            latestModified = modified;
+                        }
+                    }
+                }
+            } catch (final IOException e) {
+                throw new SpringBatchLightminApplicationException(e, "Could not list files for: " + pattern);
+            }
+            if (latestFile == null) {
+                throw new SpringBatchLightminApplicationException("No file found for: " + pattern);
+            }
+            return new JobParameter(latestFile.toString());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.tuxdevelop.spring.batch.lightmin.util;
+
+import org.springframework.util.Base64Utils;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidPageCursorException;
+
+import java.nio.charset.Charset;
+
+/**
+ * @author Marcel Becker
+ * @since 0.3
+ * <p>
+ * Utility class to create and read the opaque cursors of keyset based pages. A cursor encodes the id of the last
+ * element of a page, the following page starts right after it. Cursors are unpadded URL safe Base64 values, so they
+ * can be passed as query parameter without further encoding.
+ * </p>
+ */
+public final class PageCursorHelper {
+
+    public static final String JOB_EXECUTION = "jobExecution";
+    public static final String JOB_INSTANCE = "jobInstance";
+
+    private static final Charset CHARSET = Charset.forName("UTF-8");
+    private static final String SEPARATOR = ":";
+    private static final String PADDING = "=";
+
+    private PageCursorHelper() {
+    }
+
+    /**
+     * Creates an opaque cursor
+     *
+     * @param type the kind of page, e.g. {@link #JOB_EXECUTION}
+     * @param id   the id of the last element of the current page
+     * @return the cursor or null if no id is given
+     */
+    public static String encode(final String type, final Long id) {
+        final String cursor;
+        if (id == null) {
+            cursor = null;
+        } else {
+            cursor = Base64Utils.encodeToUrlSafeString((type + SEPARATOR + id).getBytes(CHARSET))
+                    .replace(PADDING, "");
+        }
+        return cursor;
+    }
+
+    /**
+     * Reads the id of an opaque cursor
+     *
+     * @param type   the expected kind of page, e.g. {@link #JOB_EXECUTION}
+     * @param cursor the cursor created by {@link #encode(String, Long)}
+     * @return the id encoded in the cursor or null for an empty cursor
+     * @throws InvalidPageCursorException if the cursor is malformed or belongs to another kind of page
+     */
+    public static Long decode(final String type, final String cursor) {
+        final Long id;
+        if (cursor == null || cursor.isEmpty()) {
+            id = null;
+        } else {
+            final String value;
+            try {
+                value = new String(Base64Utils.decodeFromUrlSafeString(cursor), CHARSET);
+            } catch (final IllegalArgumentException e) {
+                throw new InvalidPageCursorException(e, "Invalid cursor: " + cursor);
+            }
+            final String prefix = type + SEPARATOR;
+            if (!value.startsWith(prefix)) {
+                throw new InvalidPageCursorException("Invalid cursor for " + type + ": " + cursor);
+            }
+            try {
+                id = Long.valueOf(value.substring(prefix.length()));
+            } catch (final NumberFormatException e) {
+                throw new InvalidPageCursorException(e, "Invalid cursor for " + type + ": " + cursor);
+            }
+        }
+        return id;
+    }
+}
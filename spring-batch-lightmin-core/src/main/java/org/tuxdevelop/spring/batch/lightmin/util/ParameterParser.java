@@ -7,11 +7,14 @@ import org.springframework.batch.core.JobParametersBuilder;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.ParameterType;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
 
+import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.*;
+import java.util.AbstractMap;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
-import java.util.regex.Pattern;
 
 /**
  * @author Marcel Becker
@@ -24,6 +27,10 @@ import java.util.regex.Pattern;
  * It is also possible to map {@link org.springframework.batch.core.JobParameters} and {@link java.util.Map} of
  * String and Object to human readble String parameters
  * </p>
+ * <p>
+ * The parser is stateless and may be used by concurrent threads, each thread parses and formats dates with its own
+ * {@link java.text.DateFormat}.
+ * </p>
  */
 @Slf4j
 public final class ParameterParser {
@@ -31,9 +38,22 @@ public final class ParameterParser {
     public static final String DATE_FORMAT_WITH_TIMESTAMP = "yyyy/MM/dd HH:mm:ss:SSS";
     public static final String DATE_FORMAT = "yyyy/MM/dd";
 
-    private static final SimpleDateFormat simpleDateFormatTimeStamp = new SimpleDateFormat(DATE_FORMAT_WITH_TIMESTAMP);
+    private static final char QUOTE = '"';
+    private static final char SEPARATOR = ',';
 
-    private static final SimpleDateFormat simpleDateFormat = new SimpleDateFormat(DATE_FORMAT);
+    private static final ThreadLocal<DateFormat> dateFormatTimeStamp = new ThreadLocal<DateFormat>() {
+        @Override
+        protected DateFormat initialValue() {
+            return new SimpleDateFormat(DATE_FORMAT_WITH_TIMESTAMP);
+        }
+    };
+
+    private static final ThreadLocal<DateFormat> dateFormat = new ThreadLocal<DateFormat>() {
+        @Override
+        protected DateFormat initialValue() {
+            return new SimpleDateFormat(DATE_FORMAT);
+        }
+    };
 
     private ParameterParser() {
     }
@@ -73,13 +93,13 @@ public final class ParameterParser {
                     valueString = value.toString();
                 } else if (value instanceof String) {
                     valueType = "(String)";
-                    valueString = (String) value;
+                    valueString = quote((String) value);
                 } else if (value instanceof Double) {
                     valueType = "(Double)";
                     valueString = value.toString();
                 } else if (value instanceof Date) {
                     valueType = "(Date)";
-                    valueString = simpleDateFormatTimeStamp.format((Date) value);
+                    valueString = dateFormatTimeStamp.get().format((Date) value);
                 } else {
                     throw new SpringBatchLightminApplicationException("Unknown ParameterType:" + value.getClass().getName());
                 }
@@ -108,7 +128,8 @@ public final class ParameterParser {
      * name(type)=value, name(type2)=value2
      * </li>
      * </ul>
-     * The name is the job parameter name, the type, the Java type to the value.
+     * The name is the job parameter name, the type, the Java type to the value. Values containing commas have to be
+     * enclosed in double quotes, a double quote within a quoted value is escaped by another double quote.
      * Following Types are supported
      * <ul>
      * <li>
@@ -157,7 +178,8 @@ public final class ParameterParser {
      * name(type)=value, name(type2)=value2
      * </li>
      * </ul>
-     * The name is the job parameter name, the type, the Java type to the value.
+     * The name is the job parameter name, the type, the Java type to the value. Values containing commas have to be
+     * enclosed in double quotes, a double quote within a quoted value is escaped by another double quote.
      * Following Types are supported
      * <ul>
      * <li>
@@ -218,8 +240,7 @@ public final class ParameterParser {
             log.info("parameters null or empty, nothing to map!");
             parameterMap = new HashMap<>();
         } else {
-            final List<String> parameterList = splitParameters(parameters);
-            parameterMap = evaluateParameters(parameterList);
+            parameterMap = evaluateParameters(parameters);
         }
         return parameterMap;
     }
@@ -239,41 +260,23 @@ public final class ParameterParser {
         return parseParameterMapToString(paramatersMap);
     }
 
-    private static List<String> splitParameters(final String parameters) {
-        final List<String> parameterList = new LinkedList<>();
-        final String[] parametersArray = parameters.split(",");
-        Collections.addAll(parameterList, parametersArray);
-        return parameterList;
-    }
-
-    private static Map<String, Object> evaluateParameters(final List<String> parameterList) {
-        final Map<String, Object> parameters = new HashMap<>();
-        for (final String parameter : parameterList) {
-            final Entry<String, Object> entry = generateParameterEntry(parameter);
-            parameters.put(entry.getKey(), entry.getValue());
+    private static Map<String, Object> evaluateParameters(final String parameters) {
+        final Map<String, Object> parameterMap = new HashMap<>();
+        final ParameterTokenizer parameterTokenizer = new ParameterTokenizer(parameters);
+        while (parameterTokenizer.hasNext()) {
+            final Entry<String, Object> entry = parameterTokenizer.next();
+            parameterMap.put(entry.getKey(), entry.getValue());
         }
-        return parameters;
+        return parameterMap;
     }
 
     static Entry<String, Object> generateParameterEntry(final String parameter) {
-        final String key;
-        final Object value;
-        log.debug("parsing: " + parameter);
-        final String[] firstSplit = parameter.split(Pattern.quote("("), 2);
-        key = firstSplit[0].trim();
-        log.debug("got key: " + key);
-        final String tempString = firstSplit[1];
-        log.debug("parsing second part: " + tempString);
-        final String[] secondSplit = tempString.split(Pattern.quote(")"), 2);
-        final String type = secondSplit[0].trim();
-        log.debug("got type: " + type);
-        final String tempSecondString = secondSplit[1];
-        log.debug("parsing third part:" + tempSecondString);
-        final String[] thirdSplit = tempSecondString.split("=", 2);
-        final String valueString = thirdSplit[1];
-        log.debug("got value: " + valueString);
-        value = createValueInstance(type, valueString);
-        return new AbstractMap.SimpleEntry<>(key, value);
+        final ParameterTokenizer parameterTokenizer = new ParameterTokenizer(parameter);
+        final Entry<String, Object> entry = parameterTokenizer.next();
+        if (parameterTokenizer.hasNext()) {
+            throw new SpringBatchLightminApplicationException("More than one parameter in: " + parameter);
+        }
+        return entry;
     }
 
     static Object createValueInstance(final String type, final String valueString) {
@@ -294,21 +297,45 @@ public final class ParameterParser {
     }
 
     static Date parseDate(final String dateString) {
-        Date date;
-        try {
-            date = simpleDateFormatTimeStamp.parse(dateString);
-        } catch (final ParseException e) {
-            log.info("Could not parse date: " + dateString);
+        Date date = null;
+        if (dateString.length() > DATE_FORMAT.length()) {
             try {
-                date = simpleDateFormat.parse(dateString);
-            } catch (final ParseException e1) {
+                date = dateFormatTimeStamp.get().parse(dateString);
+            } catch (final ParseException e) {
+                log.info("Could not parse date with timestamp: " + dateString);
+            }
+        }
+        if (date == null) {
+            try {
+                date = dateFormat.get().parse(dateString);
+            } catch (final ParseException e) {
                 log.error(e.getMessage());
-                throw new SpringBatchLightminApplicationException(e1, e1.getMessage());
+                throw new SpringBatchLightminApplicationException(e, e.getMessage());
             }
         }
         return date;
     }
 
+    private static String quote(final String value) {
+        final String result;
+        if (value.indexOf(SEPARATOR) < 0 && (value.isEmpty() || value.charAt(0) != QUOTE)) {
+            result = value;
+        } else {
+            final StringBuilder stringBuilder = new StringBuilder(value.length() + 2);
+            stringBuilder.append(QUOTE);
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                if (c == QUOTE) {
+                    stringBuilder.append(QUOTE);
+                }
+                stringBuilder.append(c);
+            }
+            stringBuilder.append(QUOTE);
+            result = stringBuilder.toString();
+        }
+        return result;
+    }
+
     private enum StringTypes {
 
         STRING("STRING"), LONG("LONG"), DATE("DATE"), DOUBLE("DOUBLE");
@@ -320,4 +347,99 @@ public final class ParameterParser {
         }
     }
 
+    /**
+     * Reads the parameters of a String in a single pass, without copying the String into intermediate arrays
+     */
+    private static final class ParameterTokenizer {
+
+        private final String parameters;
+        private final int length;
+        private int position;
+
+        ParameterTokenizer(final String parameters) {
+            this.parameters = parameters;
+            this.length = parameters.length();
+            this.position = 0;
+        }
+
+        boolean hasNext() {
+            return position < length;
+        }
+
+        Entry<String, Object> next() {
+            final int keyEnd = indexOf('(');
+            final String key = parameters.substring(position, keyEnd).trim();
+            position = keyEnd + 1;
+            final int typeEnd = indexOf(')');
+            final String type = parameters.substring(position, typeEnd).trim();
+            position = typeEnd + 1;
+            final int assignment = indexOf('=');
+            position = assignment + 1;
+            final String valueString;
+            if (position < length && parameters.charAt(position) == QUOTE) {
+                valueString = readQuotedValue();
+            } else {
+                valueString = readValue();
+            }
+            if (position < length) {
+                position++;
+            }
+            return new AbstractMap.SimpleEntry<>(key, createValueInstance(type, valueString));
+        }
+
+        private String readValue() {
+            int end = parameters.indexOf(SEPARATOR, position);
+            if (end < 0) {
+                end = length;
+            }
+            final String value = parameters.substring(position, end);
+            position = end;
+            return value;
+        }
+
+        private String readQuotedValue() {
+            final StringBuilder stringBuilder = new StringBuilder();
+            int i = position + 1;
+            while (true) {
+                if (i >= length) {
+                    throw new SpringBatchLightminApplicationException("Unterminated quoted value in: " + parameters);
+                }
+                final char c = parameters.charAt(i);
+                if (c == QUOTE) {
+                    if (i + 1 < length && parameters.charAt(i + 1) == QUOTE) {
+                        stringBuilder.append(QUOTE);
+                        i += 2;
+                    } else {
+                        i++;
+                        break;
+                    }
+                } else {
+                    stringBuilder.append(c);
+                    i++;
+                }
+            }
+            while (i < length && Character.isWhitespace(parameters.charAt(i))) {
+                i++;
+            }
+            if (i < length && parameters.charAt(i) != SEPARATOR) {
+                throw new SpringBatchLightminApplicationException("Unexpected character after quoted value at "
+                        + i + " in: " + parameters);
+            }
+            position = i;
+            return stringBuilder.toString();
+        }
+
+        private int indexOf(final char c) {
+            for (int i = position; i < length; i++) {
+                final char current = parameters.charAt(i);
+                if (current == c) {
+                    return i;
+                } else if (current == SEPARATOR) {
+                    break;
+                }
+            }
+            throw new SpringBatchLightminApplicationException("Missing '" + c + "' after position " + position
+                    + " in: " + parameters);
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package org.tuxdevelop.spring.batch.lightmin.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces operations evenly to a fixed rate. Every caller of {@link #acquire()} reserves the next free slot and waits
+ * until it is due, unused slots are not saved up for later bursts. The limiter is shared by all threads.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class RateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeNanos;
+
+    /**
+     * @param permitsPerSecond the max count of operations per second
+     */
+    public RateLimiter(final double permitsPerSecond) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("The permits per second must be positive");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.nextFreeNanos = System.nanoTime();
+    }
+
+    /**
+     * Blocks until the next free slot is due
+     *
+     * @throws InterruptedException if the waiting thread has been interrupted
+     */
+    public void acquire() throws InterruptedException {
+        final long waitNanos;
+        synchronized (this) {
+            final long now = System.nanoTime();
+            final long slot = Math.max(nextFreeNanos, now);
+            nextFreeNanos = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.tuxdevelop.spring.batch.lightmin.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.tuxdevelop.spring.batch.lightmin.api.controller.AbstractRestController;
+
+/**
+ * Reads and writes the resources of the REST API in the binary Smile format of Jackson. Smile keeps the data model of
+ * JSON, but encodes numbers binary and refers back to property names and short string values already written, so
+ * pages of job executions with their repeating names, statuses and parameters shrink considerably. The ObjectMapper is
+ * configured like the one of the JSON converter.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class SmileHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(AbstractRestController.APPLICATION_SMILE_VALUE);
+
+    public SmileHttpMessageConverter() {
+        this(createObjectMapper());
+    }
+
+    /**
+     * @param objectMapper the ObjectMapper, has to be backed by a {@link SmileFactory}
+     */
+    public SmileHttpMessageConverter(final ObjectMapper objectMapper) {
+        super(objectMapper, APPLICATION_SMILE);
+        if (!(objectMapper.getFactory() instanceof SmileFactory)) {
+            throw new IllegalArgumentException("The ObjectMapper has to be backed by a SmileFactory");
+        }
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        final SmileFactory smileFactory = new SmileFactory();
+        smileFactory.configure(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES, true);
+        final ObjectMapper objectMapper = new ObjectMapper(smileFactory);
+        Jackson2ObjectMapperBuilder.json().configure(objectMapper);
+        return objectMapper;
+    }
+}
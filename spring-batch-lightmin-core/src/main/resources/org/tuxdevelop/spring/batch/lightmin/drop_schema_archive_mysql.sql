@@ -0,0 +1,6 @@
+DROP TABLE IF EXISTS BATCH_ARCHIVE_STEP_EXECUTION_CONTEXT;
+DROP TABLE IF EXISTS BATCH_ARCHIVE_JOB_EXECUTION_CONTEXT;
+DROP TABLE IF EXISTS BATCH_ARCHIVE_STEP_EXECUTION;
+DROP TABLE IF EXISTS BATCH_ARCHIVE_JOB_EXECUTION_PARAMS;
+DROP TABLE IF EXISTS BATCH_ARCHIVE_JOB_EXECUTION;
+DROP TABLE IF EXISTS BATCH_ARCHIVE_JOB_INSTANCE;
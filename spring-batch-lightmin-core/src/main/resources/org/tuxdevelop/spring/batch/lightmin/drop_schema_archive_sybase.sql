@@ -0,0 +1,12 @@
+DROP TABLE BATCH_ARCHIVE_STEP_EXECUTION_CONTEXT
+go
+DROP TABLE BATCH_ARCHIVE_JOB_EXECUTION_CONTEXT
+go
+DROP TABLE BATCH_ARCHIVE_STEP_EXECUTION
+go
+DROP TABLE BATCH_ARCHIVE_JOB_EXECUTION_PARAMS
+go
+DROP TABLE BATCH_ARCHIVE_JOB_EXECUTION
+go
+DROP TABLE BATCH_ARCHIVE_JOB_INSTANCE
+go
\ No newline at end of file
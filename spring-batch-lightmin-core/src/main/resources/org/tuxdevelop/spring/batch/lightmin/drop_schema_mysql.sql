@@ -1,3 +1,4 @@
+DROP TABLE IF EXISTS BATCH_JOB_LAUNCH_KEY;
 DROP TABLE IF EXISTS BATCH_JOB_SCHEDULER_CONFIGURATION;
 DROP TABLE IF EXISTS BATCH_JOB_LISTENER_CONFIGURATION;
 DROP TABLE IF EXISTS BATCH_JOB_CONFIGURATION_PARAMETERS;
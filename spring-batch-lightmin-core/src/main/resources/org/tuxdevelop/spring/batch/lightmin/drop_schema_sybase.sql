@@ -1,3 +1,5 @@
+DROP TABLE BATCH_JOB_LAUNCH_KEY
+go
 DROP TABLE BATCH_JOB_SCHEDULER_CONFIGURATION
 go
 DROP TABLE BATCH_JOB_LISTENER_CONFIGURATION
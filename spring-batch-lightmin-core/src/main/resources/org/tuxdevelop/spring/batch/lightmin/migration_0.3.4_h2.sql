@@ -0,0 +1,12 @@
+ALTER TABLE BATCH_JOB_CONFIGURATION ADD COLUMN IF NOT EXISTS version NUMERIC DEFAULT 0 NOT NULL;
+
+CREATE INDEX IF NOT EXISTS IDX_JOB_CONF_JOB_NAME ON BATCH_JOB_CONFIGURATION (job_name);
+
+CREATE TABLE IF NOT EXISTS BATCH_JOB_LAUNCH_KEY (
+  launch_key           VARCHAR(255) PRIMARY KEY     NOT NULL,
+  job_name             VARCHAR(255)                 NOT NULL,
+  job_execution_id     NUMERIC                      NULL,
+  create_time          TIMESTAMP                    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS IDX_JOB_LAUNCH_KEY_CREATE_TIME ON BATCH_JOB_LAUNCH_KEY (create_time);
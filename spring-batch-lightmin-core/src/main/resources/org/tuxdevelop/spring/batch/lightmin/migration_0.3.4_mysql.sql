@@ -0,0 +1,13 @@
+ALTER TABLE BATCH_JOB_CONFIGURATION ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+CREATE INDEX IDX_JOB_CONF_JOB_NAME ON BATCH_JOB_CONFIGURATION (job_name);
+
+CREATE TABLE BATCH_JOB_LAUNCH_KEY (
+  launch_key           VARCHAR(255)          NOT NULL,
+  job_name             VARCHAR(255)          NOT NULL,
+  job_execution_id     BIGINT                NULL,
+  create_time          DATETIME              NOT NULL,
+  PRIMARY KEY (launch_key)
+);
+
+CREATE INDEX IDX_JOB_LAUNCH_KEY_CREATE_TIME ON BATCH_JOB_LAUNCH_KEY (create_time);
@@ -0,0 +1,92 @@
+CREATE TABLE BATCH_ARCHIVE_JOB_INSTANCE (
+  JOB_INSTANCE_ID            BIGINT        NOT NULL PRIMARY KEY,
+  VERSION                    BIGINT NULL,
+  JOB_NAME                   VARCHAR(100)  NOT NULL,
+  JOB_KEY                    VARCHAR(32)   NOT NULL
+)
+GO
+
+CREATE TABLE BATCH_ARCHIVE_JOB_EXECUTION (
+  JOB_EXECUTION_ID           BIGINT        NOT NULL PRIMARY KEY,
+  VERSION                    BIGINT NULL,
+  JOB_INSTANCE_ID            BIGINT        NOT NULL,
+  CREATE_TIME                DATETIME      NOT NULL,
+  START_TIME                 DATETIME      DEFAULT NULL NULL,
+  END_TIME                   DATETIME      DEFAULT NULL NULL,
+  STATUS                     VARCHAR(10) NULL,
+  EXIT_CODE                  VARCHAR(2500) NULL,
+  EXIT_MESSAGE               VARCHAR(2500) NULL,
+  LAST_UPDATED               DATETIME NULL,
+  JOB_CONFIGURATION_LOCATION VARCHAR(2500) NULL,
+  CONSTRAINT ARCH_JOB_INST_EXEC_FK FOREIGN KEY (JOB_INSTANCE_ID)
+  REFERENCES BATCH_ARCHIVE_JOB_INSTANCE (JOB_INSTANCE_ID)
+)
+GO
+
+CREATE TABLE BATCH_ARCHIVE_JOB_EXECUTION_PARAMS (
+  JOB_EXECUTION_ID           BIGINT        NOT NULL,
+  TYPE_CD                    VARCHAR(6)    NOT NULL,
+  KEY_NAME                   VARCHAR(100)  NOT NULL,
+  STRING_VAL                 VARCHAR(250) NULL,
+  DATE_VAL                   DATETIME      DEFAULT NULL NULL,
+  LONG_VAL                   BIGINT NULL,
+  DOUBLE_VAL                 DOUBLE PRECISION NULL,
+  IDENTIFYING                CHAR(1)       NOT NULL,
+  CONSTRAINT ARCH_JOB_EXEC_PARAMS_FK FOREIGN KEY (JOB_EXECUTION_ID)
+  REFERENCES BATCH_ARCHIVE_JOB_EXECUTION (JOB_EXECUTION_ID)
+)
+GO
+
+CREATE TABLE BATCH_ARCHIVE_STEP_EXECUTION (
+  STEP_EXECUTION_ID          BIGINT        NOT NULL PRIMARY KEY,
+  VERSION                    BIGINT        NOT NULL,
+  STEP_NAME                  VARCHAR(100)  NOT NULL,
+  JOB_EXECUTION_ID           BIGINT        NOT NULL,
+  START_TIME                 DATETIME      NOT NULL,
+  END_TIME                   DATETIME      DEFAULT NULL NULL,
+  STATUS                     VARCHAR(10) NULL,
+  COMMIT_COUNT               BIGINT NULL,
+  READ_COUNT                 BIGINT NULL,
+  FILTER_COUNT               BIGINT NULL,
+  WRITE_COUNT                BIGINT NULL,
+  READ_SKIP_COUNT            BIGINT NULL,
+  WRITE_SKIP_COUNT           BIGINT NULL,
+  PROCESS_SKIP_COUNT         BIGINT NULL,
+  ROLLBACK_COUNT             BIGINT NULL,
+  EXIT_CODE                  VARCHAR(2500) NULL,
+  EXIT_MESSAGE               VARCHAR(2500) NULL,
+  LAST_UPDATED               DATETIME NULL,
+  CONSTRAINT ARCH_JOB_EXEC_STEP_FK FOREIGN KEY (JOB_EXECUTION_ID)
+  REFERENCES BATCH_ARCHIVE_JOB_EXECUTION (JOB_EXECUTION_ID)
+)
+GO
+
+CREATE TABLE BATCH_ARCHIVE_STEP_EXECUTION_CONTEXT (
+  STEP_EXECUTION_ID          BIGINT        NOT NULL PRIMARY KEY,
+  SHORT_CONTEXT              VARCHAR(2500) NOT NULL,
+  SERIALIZED_CONTEXT         TEXT NULL,
+  CONSTRAINT ARCH_STEP_EXEC_CTX_FK FOREIGN KEY (STEP_EXECUTION_ID)
+  REFERENCES BATCH_ARCHIVE_STEP_EXECUTION (STEP_EXECUTION_ID)
+)
+GO
+
+CREATE TABLE BATCH_ARCHIVE_JOB_EXECUTION_CONTEXT (
+  JOB_EXECUTION_ID           BIGINT        NOT NULL PRIMARY KEY,
+  SHORT_CONTEXT              VARCHAR(2500) NOT NULL,
+  SERIALIZED_CONTEXT         TEXT NULL,
+  CONSTRAINT ARCH_JOB_EXEC_CTX_FK FOREIGN KEY (JOB_EXECUTION_ID)
+  REFERENCES BATCH_ARCHIVE_JOB_EXECUTION (JOB_EXECUTION_ID)
+)
+GO
+
+CREATE INDEX IDX_ARCH_JOB_INST_JOB_NAME ON BATCH_ARCHIVE_JOB_INSTANCE (JOB_NAME)
+GO
+
+CREATE INDEX IDX_ARCH_JOB_EXEC_JOB_INST ON BATCH_ARCHIVE_JOB_EXECUTION (JOB_INSTANCE_ID)
+GO
+
+CREATE INDEX IDX_ARCH_STEP_EXEC_JOB_EXEC ON BATCH_ARCHIVE_STEP_EXECUTION (JOB_EXECUTION_ID)
+GO
+
+CREATE INDEX IDX_ARCH_JOB_EXEC_PARAMS ON BATCH_ARCHIVE_JOB_EXECUTION_PARAMS (JOB_EXECUTION_ID)
+GO
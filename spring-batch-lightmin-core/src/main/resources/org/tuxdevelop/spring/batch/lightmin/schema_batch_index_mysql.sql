@@ -0,0 +1,4 @@
+CREATE INDEX IDX_JOB_EXEC_STATUS ON BATCH_JOB_EXECUTION (STATUS);
+CREATE INDEX IDX_JOB_EXEC_START_TIME ON BATCH_JOB_EXECUTION (START_TIME);
+CREATE INDEX IDX_JOB_EXEC_END_TIME ON BATCH_JOB_EXECUTION (END_TIME);
+CREATE INDEX IDX_JOB_EXEC_EXIT_CODE ON BATCH_JOB_EXECUTION (EXIT_CODE(100));
@@ -0,0 +1,8 @@
+CREATE INDEX IDX_JOB_EXEC_STATUS ON BATCH_JOB_EXECUTION (STATUS)
+GO
+
+CREATE INDEX IDX_JOB_EXEC_START_TIME ON BATCH_JOB_EXECUTION (START_TIME)
+GO
+
+CREATE INDEX IDX_JOB_EXEC_END_TIME ON BATCH_JOB_EXECUTION (END_TIME)
+GO
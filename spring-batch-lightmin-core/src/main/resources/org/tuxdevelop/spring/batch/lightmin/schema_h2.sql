@@ -1,7 +1,8 @@
 CREATE TABLE BATCH_JOB_CONFIGURATION (
   job_configuration_id NUMERIC IDENTITY PRIMARY KEY NOT NULL,
   job_name             VARCHAR(255),
-  job_incrementer      VARCHAR(255)
+  job_incrementer      VARCHAR(255),
+  version              NUMERIC DEFAULT 0                NOT NULL
 );
 
 CREATE TABLE BATCH_JOB_SCHEDULER_CONFIGURATION (
@@ -38,3 +39,13 @@ CREATE TABLE BATCH_JOB_CONFIGURATION_PARAMETERS (
   FOREIGN KEY (job_configuration_id) REFERENCES BATCH_JOB_CONFIGURATION (job_configuration_id)
 );
 
+CREATE INDEX IDX_JOB_CONF_JOB_NAME ON BATCH_JOB_CONFIGURATION (job_name);
+
+CREATE TABLE BATCH_JOB_LAUNCH_KEY (
+  launch_key           VARCHAR(255) PRIMARY KEY     NOT NULL,
+  job_name             VARCHAR(255)                 NOT NULL,
+  job_execution_id     NUMERIC                      NULL,
+  create_time          TIMESTAMP                    NOT NULL
+);
+
+CREATE INDEX IDX_JOB_LAUNCH_KEY_CREATE_TIME ON BATCH_JOB_LAUNCH_KEY (create_time);
@@ -2,6 +2,7 @@ CREATE TABLE BATCH_JOB_CONFIGURATION (
   job_configuration_id BIGINT AUTO_INCREMENT NOT NULL,
   job_name             VARCHAR(255),
   job_incrementer      VARCHAR(255),
+  version              BIGINT DEFAULT 0      NOT NULL,
   PRIMARY KEY (job_configuration_id)
 );
 
@@ -43,5 +44,14 @@ CREATE TABLE BATCH_JOB_CONFIGURATION_PARAMETERS (
   FOREIGN KEY (job_configuration_id) REFERENCES BATCH_JOB_CONFIGURATION (job_configuration_id)
 );
 
+CREATE INDEX IDX_JOB_CONF_JOB_NAME ON BATCH_JOB_CONFIGURATION (job_name);
 
+CREATE TABLE BATCH_JOB_LAUNCH_KEY (
+  launch_key           VARCHAR(255)          NOT NULL,
+  job_name             VARCHAR(255)          NOT NULL,
+  job_execution_id     BIGINT                NULL,
+  create_time          DATETIME              NOT NULL,
+  PRIMARY KEY (launch_key)
+);
 
+CREATE INDEX IDX_JOB_LAUNCH_KEY_CREATE_TIME ON BATCH_JOB_LAUNCH_KEY (create_time);
@@ -1,7 +1,8 @@
 CREATE TABLE BATCH_JOB_CONFIGURATION (
   job_configuration_id NUMERIC IDENTITY PRIMARY KEY NOT NULL,
   job_name             UNIVARCHAR(255),
-  job_incrementer      UNIVARCHAR(255)
+  job_incrementer      UNIVARCHAR(255),
+  version              NUMERIC DEFAULT 0                NOT NULL
 )
 GO
 
@@ -42,3 +43,25 @@ CREATE TABLE BATCH_JOB_CONFIGURATION_PARAMETERS (
 )
 GO
 
+CREATE INDEX IDX_JOB_CONF_JOB_NAME ON BATCH_JOB_CONFIGURATION (job_name)
+GO
+
+CREATE INDEX IDX_JOB_SCHED_CONF_JOB_CONF_ID ON BATCH_JOB_SCHEDULER_CONFIGURATION (job_configuration_id)
+GO
+
+CREATE INDEX IDX_JOB_LIST_CONF_JOB_CONF_ID ON BATCH_JOB_LISTENER_CONFIGURATION (job_configuration_id)
+GO
+
+CREATE INDEX IDX_JOB_CONF_PARAM_JOB_CONF_ID ON BATCH_JOB_CONFIGURATION_PARAMETERS (job_configuration_id)
+GO
+
+CREATE TABLE BATCH_JOB_LAUNCH_KEY (
+  launch_key           UNIVARCHAR(255) PRIMARY KEY  NOT NULL,
+  job_name             UNIVARCHAR(255)              NOT NULL,
+  job_execution_id     NUMERIC                      NULL,
+  create_time          DATETIME                     NOT NULL
+)
+GO
+
+CREATE INDEX IDX_JOB_LAUNCH_KEY_CREATE_TIME ON BATCH_JOB_LAUNCH_KEY (create_time)
+GO
@@ -0,0 +1,120 @@
+package org.tuxdevelop.spring.batch.lightmin;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.JobExecutionPage;
+import org.tuxdevelop.spring.batch.lightmin.service.AdminService;
+import org.tuxdevelop.spring.batch.lightmin.service.BulkJobExecutionOperator;
+import org.tuxdevelop.spring.batch.lightmin.service.JobExecutionPurger;
+import org.tuxdevelop.spring.batch.lightmin.service.JobService;
+import org.tuxdevelop.spring.batch.lightmin.service.StepService;
+import org.tuxdevelop.spring.batch.lightmin.support.ControllerServiceEntryBean;
+import org.tuxdevelop.spring.batch.lightmin.support.JobLauncherBean;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Fixtures and the time measurement shared by the benchmarks, which are not part of the regular build
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public final class BenchmarkSupport {
+
+    private static volatile int benchmarkSink;
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Creates a {@link ControllerServiceEntryBean} serving a page of {@link JobExecution}s of a single
+     * {@link JobInstance}, each execution having the given number of completed {@link StepExecution}s
+     */
+    public static ControllerServiceEntryBean createJobExecutionPageServiceEntry(final Long jobInstanceId,
+                                                                                final int pageSize,
+                                                                                final int stepCount) {
+        final JobInstance jobInstance = new JobInstance(jobInstanceId, "benchmarkJob");
+        final List<JobExecution> jobExecutions = new ArrayList<>(pageSize);
+        for (long i = 0; i < pageSize; i++) {
+            jobExecutions.add(createCompletedJobExecution(jobInstance, i, stepCount));
+        }
+        final JobService jobService = mock(JobService.class);
+        when(jobService.getJobInstance(jobInstanceId)).thenReturn(jobInstance);
+        when(jobService.getJobExecutions(jobInstance, 0, pageSize)).thenReturn(jobExecutions);
+        when(jobService.getJobExecutionCount(jobInstance)).thenReturn(pageSize);
+        return new ControllerServiceEntryBean(mock(AdminService.class), jobService, mock(StepService.class),
+                mock(JobLauncherBean.class), mock(JobExecutionPurger.class),
+                ControllerServiceEntryBean.DEFAULT_EXECUTION_CONTEXT_MAX_LENGTH, mock(BulkJobExecutionOperator.class),
+                ControllerServiceEntryBean.DEFAULT_SEARCH_MAX_PAGE_SIZE);
+    }
+
+    public static JobExecutionPage createJobExecutionPage(final Long jobInstanceId, final int pageSize,
+                                                          final int stepCount) {
+        return createJobExecutionPageServiceEntry(jobInstanceId, pageSize, stepCount)
+                .getJobExecutionPage(jobInstanceId, 0, pageSize);
+    }
+
+    public static JobExecution createCompletedJobExecution(final JobInstance jobInstance, final long id,
+                                                           final int stepCount) {
+        final JobExecution jobExecution = new JobExecution(jobInstance, id, new JobParametersBuilder()
+                .addLong("run", id)
+                .addString("file", "/in/import_" + id + ".csv")
+                .addDate("businessDate", new Date())
+                .addDouble("threshold", 0.75)
+                .toJobParameters(), null);
+        jobExecution.setVersion(1);
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+        jobExecution.setExitStatus(ExitStatus.COMPLETED);
+        jobExecution.setCreateTime(new Date());
+        jobExecution.setStartTime(new Date());
+        jobExecution.setEndTime(new Date());
+        jobExecution.setLastUpdated(new Date());
+        for (long s = 0; s < stepCount; s++) {
+            final StepExecution stepExecution = jobExecution.createStepExecution("step" + s);
+            stepExecution.setId(id * stepCount + s);
+            stepExecution.setVersion(1);
+            stepExecution.setStatus(BatchStatus.COMPLETED);
+            stepExecution.setExitStatus(ExitStatus.COMPLETED);
+            stepExecution.setReadCount(100);
+            stepExecution.setWriteCount(100);
+            stepExecution.setCommitCount(10);
+            stepExecution.setEndTime(new Date());
+            stepExecution.setLastUpdated(new Date());
+        }
+        return jobExecution;
+    }
+
+    /**
+     * Runs the operation for the warm up iterations and measures the average time of the following iterations
+     *
+     * @return the average time of an iteration in microseconds
+     */
+    public static double measure(final int warmUpIterations, final int iterations,
+                                 final BenchmarkOperation operation) throws Exception {
+        int sink = 0;
+        for (int i = 0; i < warmUpIterations; i++) {
+            sink += operation.run().hashCode();
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.run().hashCode();
+        }
+        final double result = (System.nanoTime() - start) / 1000.0 / iterations;
+        benchmarkSink = sink;
+        return result;
+    }
+
+    public interface BenchmarkOperation {
+
+        Object run() throws Exception;
+    }
+}
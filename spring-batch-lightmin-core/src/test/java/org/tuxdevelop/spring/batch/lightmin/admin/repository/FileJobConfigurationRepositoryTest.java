@@ -0,0 +1,134 @@
+package org.tuxdevelop.spring.batch.lightmin.admin.repository;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.util.FileSystemUtils;
+import org.tuxdevelop.spring.batch.lightmin.TestHelper;
+import org.tuxdevelop.spring.batch.lightmin.admin.domain.*;
+import org.tuxdevelop.spring.batch.lightmin.exception.NoSuchJobConfigurationException;
+import org.tuxdevelop.spring.batch.lightmin.test.util.ITFileJobConfigurationRepository;
+import org.tuxdevelop.spring.batch.lightmin.test.util.ITJobConfigurationRepository;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileJobConfigurationRepositoryTest extends JobConfigurationRepositoryIT {
+
+    private final File directory;
+    private FileJobConfigurationRepository jobConfigurationRepository;
+
+    public FileJobConfigurationRepositoryTest() throws IOException {
+        directory = Files.createTempDirectory("lightmin").toFile();
+        jobConfigurationRepository = new ITFileJobConfigurationRepository(directory.getAbsolutePath());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        jobConfigurationRepository.destroy();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Override
+    JobConfigurationRepository getJobConfigurationRepository() {
+        return jobConfigurationRepository;
+    }
+
+    @Override
+    ITJobConfigurationRepository getITItJdbcJobConfigurationRepository() {
+        return (ITJobConfigurationRepository) jobConfigurationRepository;
+    }
+
+    @Test
+    public void recoverFromJournalTest() throws Exception {
+        final JobConfiguration first = jobConfigurationRepository.add(createJobConfiguration());
+        final JobConfiguration second = jobConfigurationRepository.add(createJobConfiguration());
+        final JobConfiguration third = jobConfigurationRepository.add(createJobConfiguration());
+        second.getJobSchedulerConfiguration().setBeanName("updatedBean");
+        jobConfigurationRepository.update(second);
+        jobConfigurationRepository.delete(third);
+
+        reopen();
+
+        final Collection<JobConfiguration> jobConfigurations = jobConfigurationRepository.getAllJobConfigurations();
+        assertThat(jobConfigurations).hasSize(2);
+        assertThat(jobConfigurationRepository.getJobConfiguration(first.getJobConfigurationId())).isEqualTo(first);
+        final JobConfiguration recoveredSecond = jobConfigurationRepository.getJobConfiguration(second
+                .getJobConfigurationId());
+        assertThat(recoveredSecond).isEqualTo(second);
+        assertThat(recoveredSecond.getVersion()).isEqualTo(1L);
+        final JobConfiguration fourth = jobConfigurationRepository.add(createJobConfiguration());
+        assertThat(fourth.getJobConfigurationId()).isEqualTo(third.getJobConfigurationId() + 1);
+    }
+
+    @Test
+    public void recoverAfterCompactionTest() throws Exception {
+        JobConfiguration jobConfiguration = null;
+        for (int i = 0; i < 250; i++) {
+            jobConfiguration = jobConfigurationRepository.add(createJobConfiguration());
+        }
+        jobConfigurationRepository.compact();
+        jobConfigurationRepository.update(jobConfiguration);
+
+        reopen();
+
+        assertThat(jobConfigurationRepository.getAllJobConfigurations()).hasSize(250);
+        assertThat(jobConfigurationRepository.getJobConfigurations("sampleJob")).hasSize(250);
+        assertThat(jobConfigurationRepository.getJobConfiguration(jobConfiguration.getJobConfigurationId())
+                .getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    public void ignoreTornWriteTest() throws Exception {
+        final JobConfiguration first = jobConfigurationRepository.add(createJobConfiguration());
+        final JobConfiguration second = jobConfigurationRepository.add(createJobConfiguration());
+        jobConfigurationRepository.destroy();
+        final File journal = new File(directory, FileJobConfigurationRepository.JOURNAL_FILE_NAME);
+        try (final RandomAccessFile file = new RandomAccessFile(journal, "rw")) {
+            final int firstRecordSize = file.readInt();
+            file.seek(firstRecordSize + 20);
+            file.write(0xFF);
+        }
+        jobConfigurationRepository = new ITFileJobConfigurationRepository(directory.getAbsolutePath());
+
+        assertThat(jobConfigurationRepository.getJobConfiguration(first.getJobConfigurationId())).isEqualTo(first);
+        try {
+            jobConfigurationRepository.getJobConfiguration(second.getJobConfigurationId());
+        } catch (final NoSuchJobConfigurationException e) {
+            return;
+        }
+        throw new AssertionError("NoSuchJobConfigurationException expected");
+    }
+
+    @Test
+    public void returnsCopiesTest() throws Exception {
+        final JobConfiguration jobConfiguration = jobConfigurationRepository.add(createJobConfiguration());
+        final JobConfiguration fetched = jobConfigurationRepository.getJobConfiguration(jobConfiguration
+                .getJobConfigurationId());
+        fetched.setJobName("changed");
+        assertThat(jobConfigurationRepository.getJobConfiguration(jobConfiguration.getJobConfigurationId())
+                .getJobName()).isEqualTo("sampleJob");
+    }
+
+    private void reopen() throws IOException {
+        jobConfigurationRepository.destroy();
+        jobConfigurationRepository = new ITFileJobConfigurationRepository(directory.getAbsolutePath());
+    }
+
+    private static JobConfiguration createJobConfiguration() {
+        final JobSchedulerConfiguration jobSchedulerConfiguration = TestHelper.createJobSchedulerConfiguration(null,
+                10L, 10L, JobSchedulerType.PERIOD);
+        jobSchedulerConfiguration.setBeanName("testBean");
+        final JobConfiguration jobConfiguration = TestHelper.createJobConfiguration(jobSchedulerConfiguration);
+        jobConfiguration.getJobParameters().put("long", 1L);
+        jobConfiguration.getJobParameters().put("double", 1.5);
+        jobConfiguration.getJobParameters().put("date", new Date(1000L));
+        jobConfiguration.getJobParameters().put("string", "value");
+        return jobConfiguration;
+    }
+}
@@ -0,0 +1,145 @@
+package org.tuxdevelop.spring.batch.lightmin.admin.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.tuxdevelop.spring.batch.lightmin.BenchmarkSupport;
+import org.tuxdevelop.spring.batch.lightmin.TestHelper;
+import org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration;
+import org.tuxdevelop.spring.batch.lightmin.admin.domain.JobSchedulerConfiguration;
+import org.tuxdevelop.spring.batch.lightmin.admin.domain.JobSchedulerType;
+
+import java.sql.Connection;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the lookup latency of the {@link JdbcJobConfigurationRepository} against H2 with 50k
+ * {@link JobConfiguration}s, before and after applying the 0.3.4 migration script. The benchmark is not part of the
+ * regular build, run it with
+ * <pre>
+ *     mvn -pl spring-batch-lightmin-core test -Dtest=JdbcJobConfigurationRepositoryBenchmark
+ * </pre>
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Slf4j
+public class JdbcJobConfigurationRepositoryBenchmark {
+
+    private static final String SCHEMA = "org/tuxdevelop/spring/batch/lightmin/schema_h2.sql";
+    private static final String MIGRATION = "org/tuxdevelop/spring/batch/lightmin/migration_0.3.4_h2.sql";
+    private static final String JOB_NAME_INDEX = "IDX_JOB_CONF_JOB_NAME";
+    private static final int JOB_CONFIGURATION_COUNT = 50000;
+    private static final int JOB_NAME_COUNT = 1000;
+    private static final int INSERT_CHUNK_SIZE = 1000;
+    private static final int WARM_UP_ITERATIONS = 200;
+    private static final int ITERATIONS = 1000;
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcJobConfigurationRepository jobConfigurationRepository;
+    private final Random random = new Random(42L);
+
+    @Before
+    public void init() throws Exception {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setName("lightmin-benchmark")
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript(SCHEMA)
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP INDEX " + JOB_NAME_INDEX);
+        jobConfigurationRepository = new JdbcJobConfigurationRepository(jdbcTemplate, "BATCH_", null);
+        jobConfigurationRepository.afterPropertiesSet();
+        populate();
+    }
+
+    @After
+    public void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    public void benchmarkLookups() throws Exception {
+        assertThat(explainJobNameLookup()).doesNotContain(JOB_NAME_INDEX);
+        final Map<String, Double> before = measure();
+
+        try (final Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource(MIGRATION));
+        }
+        assertThat(explainJobNameLookup()).contains(JOB_NAME_INDEX);
+        final Map<String, Double> after = measure();
+
+        log.info("JobConfiguration lookups with {} configurations [µs/op]", JOB_CONFIGURATION_COUNT);
+        for (final Map.Entry<String, Double> entry : before.entrySet()) {
+            log.info(String.format("%-35s before: %10.1f after: %10.1f", entry.getKey(), entry.getValue(),
+                    after.get(entry.getKey())));
+        }
+    }
+
+    private Map<String, Double> measure() throws Exception {
+        final Map<String, Double> result = new LinkedHashMap<>();
+        result.put("getJobConfigurations(jobName)", measure(new BenchmarkSupport.BenchmarkOperation() {
+            @Override
+            public Object run() throws Exception {
+                return jobConfigurationRepository.getJobConfigurations(randomJobName());
+            }
+        }));
+        result.put("getAllJobConfigurationsByJobNames", measure(new BenchmarkSupport.BenchmarkOperation() {
+            @Override
+            public Object run() {
+                return jobConfigurationRepository.getAllJobConfigurationsByJobNames(Arrays.asList(randomJobName(),
+                        randomJobName(), randomJobName()));
+            }
+        }));
+        result.put("getJobConfiguration(id)", measure(new BenchmarkSupport.BenchmarkOperation() {
+            @Override
+            public Object run() throws Exception {
+                return jobConfigurationRepository.getJobConfiguration(
+                        (long) random.nextInt(JOB_CONFIGURATION_COUNT) + 1);
+            }
+        }));
+        return result;
+    }
+
+    private double measure(final BenchmarkSupport.BenchmarkOperation operation) throws Exception {
+        return BenchmarkSupport.measure(WARM_UP_ITERATIONS, ITERATIONS, operation);
+    }
+
+    private String explainJobNameLookup() {
+        return jdbcTemplate.queryForObject("EXPLAIN SELECT * FROM BATCH_JOB_CONFIGURATION WHERE job_name = ?",
+                String.class, randomJobName());
+    }
+
+    private String randomJobName() {
+        return "benchmarkJob" + random.nextInt(JOB_NAME_COUNT);
+    }
+
+    private void populate() {
+        final List<JobConfiguration> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (int i = 0; i < JOB_CONFIGURATION_COUNT; i++) {
+            final JobSchedulerConfiguration jobSchedulerConfiguration = TestHelper.createJobSchedulerConfiguration(null,
+                    10L, 10L, JobSchedulerType.PERIOD);
+            jobSchedulerConfiguration.setBeanName("benchmarkScheduler" + i);
+            final JobConfiguration jobConfiguration = TestHelper.createJobConfiguration(jobSchedulerConfiguration);
+            jobConfiguration.setJobName("benchmarkJob" + (i % JOB_NAME_COUNT));
+            jobConfiguration.getJobParameters().put("index", (long) i);
+            jobConfiguration.getJobParameters().put("name", "value" + i);
+            chunk.add(jobConfiguration);
+            if (chunk.size() == INSERT_CHUNK_SIZE) {
+                jobConfigurationRepository.addAll(chunk);
+                chunk.clear();
+            }
+        }
+        jobConfigurationRepository.addAll(chunk);
+    }
+}
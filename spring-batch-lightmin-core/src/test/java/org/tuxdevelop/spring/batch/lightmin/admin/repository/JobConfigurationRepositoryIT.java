@@ -5,6 +5,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.tuxdevelop.spring.batch.lightmin.TestHelper;
 import org.tuxdevelop.spring.batch.lightmin.admin.domain.*;
+import org.tuxdevelop.spring.batch.lightmin.exception.JobConfigurationConflictException;
 import org.tuxdevelop.spring.batch.lightmin.exception.NoSuchJobConfigurationException;
 import org.tuxdevelop.spring.batch.lightmin.exception.NoSuchJobException;
 import org.tuxdevelop.spring.batch.lightmin.test.util.ITJobConfigurationRepository;
@@ -12,6 +13,7 @@ import org.tuxdevelop.spring.batch.lightmin.test.util.ITJobConfigurationReposito
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
 
 public abstract class JobConfigurationRepositoryIT {
 
@@ -144,6 +146,150 @@ public abstract class JobConfigurationRepositoryIT {
         getJobConfigurationRepository().update(addedJobConfiguration);
     }
 
+    @Test
+    public void updateIncrementsVersionIT() throws NoSuchJobConfigurationException {
+        final JobSchedulerConfiguration jobSchedulerConfiguration = TestHelper.createJobSchedulerConfiguration(null,
+                10L, 10L, JobSchedulerType.PERIOD);
+        jobSchedulerConfiguration.setBeanName("testBean");
+        final JobConfiguration jobConfiguration = TestHelper.createJobConfiguration(jobSchedulerConfiguration);
+        final JobConfiguration addedJobConfiguration = getJobConfigurationRepository().add(jobConfiguration);
+        assertThat(addedJobConfiguration.getVersion()).isEqualTo(0L);
+        final JobConfiguration updatedJobConfiguration = getJobConfigurationRepository().update(addedJobConfiguration);
+        assertThat(updatedJobConfiguration.getVersion()).isEqualTo(1L);
+        final JobConfiguration fetchedJobConfiguration = getJobConfigurationRepository().getJobConfiguration
+                (updatedJobConfiguration.getJobConfigurationId());
+        assertThat(fetchedJobConfiguration.getVersion()).isEqualTo(1L);
+    }
+
+    @Test(expected = JobConfigurationConflictException.class)
+    public void updateOutdatedVersionIT() throws NoSuchJobConfigurationException {
+        final JobSchedulerConfiguration jobSchedulerConfiguration = TestHelper.createJobSchedulerConfiguration(null,
+                10L, 10L, JobSchedulerType.PERIOD);
+        jobSchedulerConfiguration.setBeanName("testBean");
+        final JobConfiguration jobConfiguration = TestHelper.createJobConfiguration(jobSchedulerConfiguration);
+        final JobConfiguration addedJobConfiguration = getJobConfigurationRepository().add(jobConfiguration);
+        final Long jobConfigurationId = addedJobConfiguration.getJobConfigurationId();
+        getJobConfigurationRepository().update(addedJobConfiguration);
+        final JobSchedulerConfiguration outdatedJobSchedulerConfiguration = TestHelper
+                .createJobSchedulerConfiguration(null, 20L, 20L, JobSchedulerType.PERIOD);
+        outdatedJobSchedulerConfiguration.setBeanName("testBean");
+        final JobConfiguration outdatedJobConfiguration = TestHelper.createJobConfiguration
+                (outdatedJobSchedulerConfiguration);
+        outdatedJobConfiguration.setJobConfigurationId(jobConfigurationId);
+        outdatedJobConfiguration.setVersion(0L);
+        getJobConfigurationRepository().update(outdatedJobConfiguration);
+    }
+
+    @Test
+    public void updateWithoutVersionIT() throws NoSuchJobConfigurationException {
+        final JobSchedulerConfiguration jobSchedulerConfiguration = TestHelper.createJobSchedulerConfiguration(null,
+                10L, 10L, JobSchedulerType.PERIOD);
+        jobSchedulerConfiguration.setBeanName("testBean");
+        final JobConfiguration jobConfiguration = TestHelper.createJobConfiguration(jobSchedulerConfiguration);
+        final JobConfiguration addedJobConfiguration = getJobConfigurationRepository().add(jobConfiguration);
+        final JobSchedulerConfiguration unversionedJobSchedulerConfiguration = TestHelper
+                .createJobSchedulerConfiguration(null, 20L, 20L, JobSchedulerType.PERIOD);
+        unversionedJobSchedulerConfiguration.setBeanName("testBean");
+        final JobConfiguration unversionedJobConfiguration = TestHelper.createJobConfiguration
+                (unversionedJobSchedulerConfiguration);
+        unversionedJobConfiguration.setJobConfigurationId(addedJobConfiguration.getJobConfigurationId());
+        final JobConfiguration updatedJobConfiguration = getJobConfigurationRepository().update
+                (unversionedJobConfiguration);
+        assertThat(updatedJobConfiguration.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    public void addAllIT() throws NoSuchJobException {
+        final JobSchedulerConfiguration jobSchedulerConfiguration = TestHelper.createJobSchedulerConfiguration(null,
+                10L, 10L, JobSchedulerType.PERIOD);
+        jobSchedulerConfiguration.setBeanName("testBean");
+        final JobConfiguration jobConfiguration = TestHelper.createJobConfiguration(jobSchedulerConfiguration);
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("test", "input");
+        jobConfiguration.setJobParameters(parameters);
+        final JobListenerConfiguration jobListenerConfiguration = TestHelper.createJobListenerConfiguration
+                ("src/test/", "*.txt", JobListenerType.LOCAL_FOLDER_LISTENER);
+        jobListenerConfiguration.setBeanName("testListenerBean");
+        final JobConfiguration listenerJobConfiguration = TestHelper.createJobConfiguration(jobListenerConfiguration);
+        final Collection<JobConfiguration> addedJobConfigurations = getJobConfigurationRepository().addAll(Arrays
+                .asList(jobConfiguration, listenerJobConfiguration));
+        assertThat(addedJobConfigurations).hasSize(2);
+        for (final JobConfiguration addedJobConfiguration : addedJobConfigurations) {
+            assertThat(addedJobConfiguration.getJobConfigurationId()).isNotNull();
+            assertThat(addedJobConfiguration.getVersion()).isEqualTo(0L);
+        }
+        final Collection<JobConfiguration> fetchedJobConfigurations = getJobConfigurationRepository()
+                .getJobConfigurations("sampleJob");
+        assertThat(fetchedJobConfigurations).hasSize(2);
+        assertThat(fetchedJobConfigurations).contains(jobConfiguration, listenerJobConfiguration);
+    }
+
+    @Test
+    public void updateAllIT() throws NoSuchJobConfigurationException {
+        final JobSchedulerConfiguration jobSchedulerConfiguration = TestHelper.createJobSchedulerConfiguration(null,
+                10L, 10L, JobSchedulerType.PERIOD);
+        jobSchedulerConfiguration.setBeanName("testBean");
+        final JobConfiguration jobConfiguration = TestHelper.createJobConfiguration(jobSchedulerConfiguration);
+        final JobListenerConfiguration jobListenerConfiguration = TestHelper.createJobListenerConfiguration
+                ("src/test/", "*.txt", JobListenerType.LOCAL_FOLDER_LISTENER);
+        jobListenerConfiguration.setBeanName("testListenerBean");
+        final JobConfiguration listenerJobConfiguration = TestHelper.createJobConfiguration(jobListenerConfiguration);
+        getJobConfigurationRepository().addAll(Arrays.asList(jobConfiguration, listenerJobConfiguration));
+        jobConfiguration.getJobSchedulerConfiguration().setBeanName("updatedBean");
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("test", "input");
+        jobConfiguration.setJobParameters(parameters);
+        listenerJobConfiguration.getJobListenerConfiguration().setBeanName("updatedListenerBean");
+        final Collection<JobConfiguration> updatedJobConfigurations = getJobConfigurationRepository().updateAll
+                (Arrays.asList(jobConfiguration, listenerJobConfiguration));
+        assertThat(updatedJobConfigurations).hasSize(2);
+        final JobConfiguration fetchedJobConfiguration = getJobConfigurationRepository().getJobConfiguration
+                (jobConfiguration.getJobConfigurationId());
+        assertThat(fetchedJobConfiguration.getVersion()).isEqualTo(1L);
+        assertThat(fetchedJobConfiguration.getJobSchedulerConfiguration().getBeanName()).isEqualTo("updatedBean");
+        assertThat(fetchedJobConfiguration.getJobParameters()).isEqualTo(parameters);
+        final JobConfiguration fetchedListenerJobConfiguration = getJobConfigurationRepository().getJobConfiguration
+                (listenerJobConfiguration.getJobConfigurationId());
+        assertThat(fetchedListenerJobConfiguration.getJobListenerConfiguration().getBeanName()).isEqualTo
+                ("updatedListenerBean");
+    }
+
+    @Test
+    public void updateAllOutdatedVersionIT() throws NoSuchJobConfigurationException {
+        final JobSchedulerConfiguration jobSchedulerConfiguration = TestHelper.createJobSchedulerConfiguration(null,
+                10L, 10L, JobSchedulerType.PERIOD);
+        jobSchedulerConfiguration.setBeanName("testBean");
+        final JobConfiguration jobConfiguration = TestHelper.createJobConfiguration(jobSchedulerConfiguration);
+        final JobSchedulerConfiguration secondJobSchedulerConfiguration = TestHelper.createJobSchedulerConfiguration
+                (null, 10L, 10L, JobSchedulerType.PERIOD);
+        secondJobSchedulerConfiguration.setBeanName("secondTestBean");
+        final JobConfiguration secondJobConfiguration = TestHelper.createJobConfiguration
+                (secondJobSchedulerConfiguration);
+        getJobConfigurationRepository().addAll(Arrays.asList(jobConfiguration, secondJobConfiguration));
+        final JobSchedulerConfiguration outdatedJobSchedulerConfiguration = TestHelper
+                .createJobSchedulerConfiguration(null, 20L, 20L, JobSchedulerType.PERIOD);
+        outdatedJobSchedulerConfiguration.setBeanName("outdatedBean");
+        final JobConfiguration outdatedJobConfiguration = TestHelper.createJobConfiguration
+                (outdatedJobSchedulerConfiguration);
+        outdatedJobConfiguration.setJobConfigurationId(jobConfiguration.getJobConfigurationId());
+        outdatedJobConfiguration.setVersion(5L);
+        secondJobConfiguration.getJobSchedulerConfiguration().setBeanName("updatedBean");
+        try {
+            getJobConfigurationRepository().updateAll(Arrays.asList(outdatedJobConfiguration,
+                    secondJobConfiguration));
+            fail("JobConfigurationConflictException expected");
+        } catch (final JobConfigurationConflictException e) {
+            assertThat(e.getMessage()).contains(String.valueOf(jobConfiguration.getJobConfigurationId()));
+        }
+        final JobConfiguration fetchedJobConfiguration = getJobConfigurationRepository().getJobConfiguration
+                (jobConfiguration.getJobConfigurationId());
+        assertThat(fetchedJobConfiguration.getJobSchedulerConfiguration().getBeanName()).isEqualTo("testBean");
+        final JobConfiguration fetchedSecondJobConfiguration = getJobConfigurationRepository().getJobConfiguration
+                (secondJobConfiguration.getJobConfigurationId());
+        assertThat(fetchedSecondJobConfiguration.getJobSchedulerConfiguration().getBeanName()).isEqualTo
+                ("updatedBean");
+    }
+
     @Test
     public void updateWithParametersIT() throws NoSuchJobConfigurationException {
         final JobSchedulerConfiguration jobSchedulerConfiguration = TestHelper.createJobSchedulerConfiguration(null,
@@ -220,6 +366,25 @@ public abstract class JobConfigurationRepositoryIT {
         getJobConfigurationRepository().getJobConfigurations("sampleJobUnknown");
     }
 
+    @Test
+    public void getJobConfigurationsVersionIT() throws NoSuchJobConfigurationException {
+        final JobSchedulerConfiguration jobSchedulerConfiguration = TestHelper.createJobSchedulerConfiguration(null,
+                10L, 10L, JobSchedulerType.PERIOD);
+        jobSchedulerConfiguration.setBeanName("testBean");
+        final String initialVersion = getJobConfigurationRepository().getJobConfigurationsVersion();
+        assertThat(getJobConfigurationRepository().getJobConfigurationsVersion()).isEqualTo(initialVersion);
+        final JobConfiguration addedJobConfiguration = getJobConfigurationRepository().add(
+                TestHelper.createJobConfiguration(jobSchedulerConfiguration));
+        final String addedVersion = getJobConfigurationRepository().getJobConfigurationsVersion();
+        assertThat(addedVersion).isNotEqualTo(initialVersion);
+        getJobConfigurationRepository().update(addedJobConfiguration);
+        final String updatedVersion = getJobConfigurationRepository().getJobConfigurationsVersion();
+        assertThat(updatedVersion).isNotEqualTo(addedVersion);
+        getJobConfigurationRepository().delete(addedJobConfiguration);
+        assertThat(getJobConfigurationRepository().getJobConfigurationsVersion()).isNotEqualTo(updatedVersion)
+                .isNotEqualTo(addedVersion);
+    }
+
     @Test(expected = NoSuchJobConfigurationException.class)
     public void deleteIT() throws NoSuchJobConfigurationException {
         final JobSchedulerConfiguration jobSchedulerConfiguration = TestHelper.createJobSchedulerConfiguration(null,
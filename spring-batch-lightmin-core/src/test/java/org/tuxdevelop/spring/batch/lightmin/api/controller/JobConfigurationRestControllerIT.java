@@ -1,12 +1,14 @@
 package org.tuxdevelop.spring.batch.lightmin.api.controller;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.Test;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.*;
+import org.springframework.web.client.HttpClientErrorException;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.AdminToResourceMapper;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfiguration;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfigurationImportReport;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfigurations;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.SchedulerStatus;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
@@ -16,6 +18,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
 
 
 public class JobConfigurationRestControllerIT extends CommonControllerIT {
@@ -43,6 +46,29 @@ public class JobConfigurationRestControllerIT extends CommonControllerIT {
         assertThat(jobConfigurationsCollection).hasSize(1);
     }
 
+    @Test
+    public void testGetJobConfigurationsNotModified() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobConfigurationRestControllerAPI
+                .JOB_CONFIGURATIONS;
+        final ResponseEntity<JobConfigurations> result = restTemplate.getForEntity(uri, JobConfigurations.class);
+        final String eTag = result.getHeaders().getETag();
+        assertThat(eTag).isNotNull();
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        final ResponseEntity<JobConfigurations> notModified = restTemplate.exchange(uri, HttpMethod.GET,
+                new HttpEntity<Void>(headers), JobConfigurations.class);
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(notModified.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo("Accept, Accept-Encoding");
+        assertThat(notModified.getBody()).isNull();
+        restTemplate.postForEntity(uri, AdminToResourceMapper.map(createJobConfiguration()), Void.class);
+        final ResponseEntity<JobConfigurations> modified = restTemplate.exchange(uri, HttpMethod.GET,
+                new HttpEntity<Void>(headers), JobConfigurations.class);
+        assertThat(modified.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(modified.getHeaders().getETag()).isNotEqualTo(eTag);
+        assertThat(modified.getBody().getJobConfigurations()).hasSize(2);
+    }
+
     @Test
     public void testGetJobConfigurationById() {
         final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController
@@ -51,7 +77,45 @@ public class JobConfigurationRestControllerIT extends CommonControllerIT {
         assertThat(result).isNotNull();
         final JobConfiguration jobConfiguration = result.getBody();
         assertThat(jobConfiguration).isNotNull();
-        assertThat(jobConfiguration.getJobConfigurationId()).isEqualTo(addedJobConfigurationId);
+        assertThat(jobConfiguration.getJobName()).isEqualTo("simpleJob");
+        assertThat(jobConfiguration.getJobConfigurationId()).isNull();
+        assertThat(jobConfiguration.getVersion()).isNull();
+    }
+
+    @Test
+    public void testExportAndImportJobConfigurations() throws Exception {
+        final String uriExport = LOCALHOST + ":" + getServerPort() + AbstractRestController
+                .JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS_EXPORT;
+        final String exported = restTemplate.getForEntity(uriExport, String.class).getBody();
+        final JobConfiguration exportedJobConfiguration = new ObjectMapper().readValue(exported.split("\n")[0],
+                JobConfiguration.class);
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.valueOf(AbstractRestController.APPLICATION_NDJSON_VALUE));
+        final String uriImport = LOCALHOST + ":" + getServerPort() + AbstractRestController
+                .JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS_IMPORT;
+        final ResponseEntity<JobConfigurationImportReport> response = restTemplate.postForEntity(uriImport, new
+                HttpEntity<>(exported, headers), JobConfigurationImportReport.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        final JobConfigurationImportReport report = response.getBody();
+        assertThat(report.getImportedCount()).isEqualTo(1L);
+        assertThat(report.getFailedCount()).isEqualTo(0L);
+        final String uriGet = LOCALHOST + ":" + getServerPort() + AbstractRestController
+                .JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS_JOB_NAME;
+        final ResponseEntity<JobConfigurations> result = restTemplate.getForEntity(uriGet, JobConfigurations.class,
+                "simpleJob");
+        final Collection<JobConfiguration> jobConfigurations = result.getBody().getJobConfigurations();
+        assertThat(jobConfigurations).hasSize(2);
+        JobConfiguration importedJobConfiguration = null;
+        for (final JobConfiguration jobConfiguration : jobConfigurations) {
+            if (!addedJobConfigurationId.equals(jobConfiguration.getJobConfigurationId())) {
+                importedJobConfiguration = jobConfiguration;
+            }
+        }
+        assertThat(importedJobConfiguration).isNotNull();
+        assertThat(importedJobConfiguration.getJobConfigurationId()).isNotNull();
+        importedJobConfiguration.setJobConfigurationId(null);
+        importedJobConfiguration.setVersion(null);
+        assertThat(importedJobConfiguration).isEqualTo(exportedJobConfiguration);
     }
 
     @Test
@@ -97,6 +161,69 @@ public class JobConfigurationRestControllerIT extends CommonControllerIT {
         assertThat(jobConfigurationUpdate.getJobParameters()).isEqualTo(jobParameters);
     }
 
+    @Test
+    public void testUpdateJobConfigurationConflict() {
+        final String uriGet = LOCALHOST + ":" + getServerPort() + AbstractRestController
+                .JobConfigurationRestControllerAPI.JOB_CONFIGURATION_JOB_CONFIGURATION_ID;
+        final ResponseEntity<JobConfiguration> result = restTemplate.getForEntity(uriGet, JobConfiguration.class, addedJobConfigurationId);
+        final JobConfiguration jobConfiguration = result.getBody();
+        assertThat(jobConfiguration).isNotNull();
+        assertThat(jobConfiguration.getVersion()).isNotNull();
+        final String uriPUT = LOCALHOST + ":" + getServerPort() + AbstractRestController
+                .JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS;
+        restTemplate.put(uriPUT, jobConfiguration);
+        try {
+            restTemplate.put(uriPUT, jobConfiguration);
+            fail("HttpClientErrorException expected");
+        } catch (final HttpClientErrorException e) {
+            assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        }
+    }
+
+    @Test
+    public void testImportJobConfigurations() throws Exception {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final JobConfiguration jobConfiguration = AdminToResourceMapper.map(createJobConfiguration());
+        final JobConfiguration unknownJobConfiguration = AdminToResourceMapper.map(createJobConfiguration());
+        unknownJobConfiguration.setJobName("unknownJob");
+        final String body = objectMapper.writeValueAsString(jobConfiguration) + "\n"
+                + "{not json}\n"
+                + objectMapper.writeValueAsString(unknownJobConfiguration) + "\n";
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.valueOf(AbstractRestController.APPLICATION_NDJSON_VALUE));
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController
+                .JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS_IMPORT;
+        final ResponseEntity<JobConfigurationImportReport> response = restTemplate.postForEntity(uri, new
+                HttpEntity<>(body, headers), JobConfigurationImportReport.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        final JobConfigurationImportReport report = response.getBody();
+        assertThat(report.getImportedCount()).isEqualTo(1L);
+        assertThat(report.getFailedCount()).isEqualTo(2L);
+        assertThat(report.getFailures()).hasSize(2);
+        assertThat(report.getFailures().get(0).getLineNumber()).isEqualTo(2L);
+        assertThat(report.getFailures().get(1).getLineNumber()).isEqualTo(3L);
+        assertThat(report.getFailures().get(1).getJobName()).isEqualTo("unknownJob");
+        final String uriGet = LOCALHOST + ":" + getServerPort() + AbstractRestController
+                .JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS_JOB_NAME;
+        final ResponseEntity<JobConfigurations> result = restTemplate.getForEntity(uriGet, JobConfigurations.class,
+                "simpleJob");
+        assertThat(result.getBody().getJobConfigurations()).hasSize(2);
+    }
+
+    @Test
+    public void testExportJobConfigurations() throws Exception {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController
+                .JobConfigurationRestControllerAPI.JOB_CONFIGURATIONS_EXPORT;
+        final ResponseEntity<String> response = restTemplate.getForEntity(uri, String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).startsWith(AbstractRestController
+                .APPLICATION_NDJSON_VALUE);
+        final String[] lines = response.getBody().split("\n");
+        assertThat(lines).hasSize(1);
+        final JobConfiguration jobConfiguration = new ObjectMapper().readValue(lines[0], JobConfiguration.class);
+        assertThat(jobConfiguration.getJobConfigurationId()).isEqualTo(addedJobConfigurationId);
+    }
+
     @Test
     public void testDeleteJobConfigurationById() {
         final String uriAdd = LOCALHOST + ":" + getServerPort() + AbstractRestController
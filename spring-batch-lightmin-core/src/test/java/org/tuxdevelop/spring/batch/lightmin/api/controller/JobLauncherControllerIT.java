@@ -5,15 +5,20 @@ import org.junit.Before;
 import org.junit.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.JobLaunch;
+import org.springframework.web.client.HttpClientErrorException;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.*;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameter;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.ParameterType;
 
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
 
 public class JobLauncherControllerIT extends CommonControllerIT {
 
@@ -35,6 +40,116 @@ public class JobLauncherControllerIT extends CommonControllerIT {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
     }
 
+    @Test
+    public void testLaunchJobAndAwaitCompletion() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobLauncherRestControllerAPI.JOB_LAUNCH;
+        final JobParameters jobParameters = new JobParameters();
+        final JobParameter jobParameter = new JobParameter();
+        jobParameter.setParameter(System.currentTimeMillis());
+        jobParameter.setParameterType(ParameterType.LONG);
+        final Map<String, JobParameter> map = new HashMap<>();
+        map.put("launchTime", jobParameter);
+        jobParameters.setParameters(map);
+        final JobLaunch jobLaunch = new JobLaunch();
+        jobLaunch.setJobName("simpleJob");
+        jobLaunch.setJobParameters(jobParameters);
+        final ResponseEntity<JobLaunchResult> response = restTemplate.postForEntity(uri, jobLaunch, JobLaunchResult.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        final JobLaunchResult jobLaunchResult = response.getBody();
+        assertThat(jobLaunchResult.getJobName()).isEqualTo("simpleJob");
+        assertThat(jobLaunchResult.getJobExecutionId()).isNotNull();
+        assertThat(response.getHeaders().getLocation().getPath()).isEqualTo("/api/jobexecutions/" + jobLaunchResult.getJobExecutionId());
+        final String completionUri = LOCALHOST + ":" + getServerPort()
+                + AbstractRestController.JobLauncherRestControllerAPI.JOB_EXECUTION_COMPLETION + "?timeout=10000";
+        final ResponseEntity<JobExecution> completion = restTemplate.getForEntity(completionUri, JobExecution.class,
+                jobLaunchResult.getJobExecutionId());
+        assertThat(completion.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(completion.getBody().getId()).isEqualTo(jobLaunchResult.getJobExecutionId());
+        assertThat(completion.getBody().getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(completion.getBody().getStepExecutions()).isNotEmpty();
+    }
+
+    @Test
+    public void testLaunchJobWithIdempotencyKey() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobLauncherRestControllerAPI.JOB_LAUNCH;
+        final JobParameters jobParameters = new JobParameters();
+        final JobParameter jobParameter = new JobParameter();
+        jobParameter.setParameter(System.currentTimeMillis());
+        jobParameter.setParameterType(ParameterType.LONG);
+        final Map<String, JobParameter> map = new HashMap<>();
+        map.put("launchTime", jobParameter);
+        jobParameters.setParameters(map);
+        final JobLaunch jobLaunch = new JobLaunch();
+        jobLaunch.setJobName("simpleJob");
+        jobLaunch.setJobParameters(jobParameters);
+        jobLaunch.setIdempotencyKey("launch-" + jobParameter.getParameter());
+        final ResponseEntity<JobLaunchResult> response = restTemplate.postForEntity(uri, jobLaunch, JobLaunchResult.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody().getDuplicate()).isFalse();
+
+        final ResponseEntity<JobLaunchResult> retry = restTemplate.postForEntity(uri, jobLaunch, JobLaunchResult.class);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(retry.getBody().getDuplicate()).isTrue();
+        assertThat(retry.getBody().getJobExecutionId()).isEqualTo(response.getBody().getJobExecutionId());
+        assertThat(retry.getHeaders().getLocation()).isEqualTo(response.getHeaders().getLocation());
+    }
+
+    @Test
+    public void testLaunchJobs() throws InterruptedException {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobLauncherRestControllerAPI.JOB_LAUNCH_BULK;
+        final BulkJobLaunch bulkJobLaunch = new BulkJobLaunch();
+        bulkJobLaunch.setJobName("simpleJob");
+        bulkJobLaunch.setFanOutParameterName("tenant");
+        final List<JobParameter> fanOutParameters = new ArrayList<>();
+        final long launchTime = System.currentTimeMillis();
+        for (int i = 0; i < 3; i++) {
+            final JobParameter jobParameter = new JobParameter();
+            jobParameter.setParameter(launchTime + i);
+            jobParameter.setParameterType(ParameterType.LONG);
+            fanOutParameters.add(jobParameter);
+        }
+        bulkJobLaunch.setFanOutParameters(fanOutParameters);
+        final ResponseEntity<BulkJobLaunchStatus> response = restTemplate.postForEntity(uri, bulkJobLaunch, BulkJobLaunchStatus.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody().getItemCount()).isEqualTo(3);
+        final URI location = response.getHeaders().getLocation();
+        assertThat(location.getPath()).isEqualTo(uri.substring(uri.indexOf("/api")) + "/" + response.getBody().getId());
+        BulkJobLaunchStatus status = restTemplate.getForObject(location, BulkJobLaunchStatus.class);
+        for (int i = 0; i < 100 && status.getState() != BulkJobLaunchState.COMPLETED; i++) {
+            Thread.sleep(50);
+            status = restTemplate.getForObject(location, BulkJobLaunchStatus.class);
+        }
+        assertThat(status.getState()).isEqualTo(BulkJobLaunchState.COMPLETED);
+        assertThat(status.getLaunchedCount()).isEqualTo(3);
+        for (final BulkJobLaunchItem item : status.getItems()) {
+            assertThat(item.getJobExecutionId()).isNotNull();
+        }
+    }
+
+    @Test
+    public void testLaunchJobsWithoutParameterSets() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobLauncherRestControllerAPI.JOB_LAUNCH_BULK;
+        final BulkJobLaunch bulkJobLaunch = new BulkJobLaunch();
+        bulkJobLaunch.setJobName("simpleJob");
+        try {
+            restTemplate.postForEntity(uri, bulkJobLaunch, BulkJobLaunchStatus.class);
+            fail("HttpClientErrorException expected");
+        } catch (final HttpClientErrorException e) {
+            assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Test
+    public void testGetBulkJobLaunchStatusNotFound() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobLauncherRestControllerAPI.JOB_LAUNCH_BULK_ID;
+        try {
+            restTemplate.getForEntity(uri, BulkJobLaunchStatus.class, -1L);
+            fail("HttpClientErrorException expected");
+        } catch (final HttpClientErrorException e) {
+            assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+    }
+
     @Before
     public void init() {
         this.cleanUp();
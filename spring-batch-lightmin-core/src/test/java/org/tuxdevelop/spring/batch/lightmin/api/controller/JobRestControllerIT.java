@@ -1,17 +1,56 @@
 package org.tuxdevelop.spring.batch.lightmin.api.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.*;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
+import org.tuxdevelop.spring.batch.lightmin.support.ControllerServiceEntryBean;
+import org.tuxdevelop.spring.batch.lightmin.util.PageCursorHelper;
+import org.tuxdevelop.spring.batch.lightmin.util.SmileHttpMessageConverter;
+
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
 
 public class JobRestControllerIT extends CommonControllerIT {
 
+    private BulkJobExecutionOperationStatus awaitBulkJobExecutionOperation(final String location)
+            throws InterruptedException {
+        BulkJobExecutionOperationStatus status = restTemplate.getForObject(location,
+                BulkJobExecutionOperationStatus.class);
+        for (int i = 0; i < 500 && status.getState() != BulkJobExecutionOperationState.COMPLETED; i++) {
+            Thread.sleep(10);
+            status = restTemplate.getForObject(location, BulkJobExecutionOperationStatus.class);
+        }
+        assertThat(status.getState()).isEqualTo(BulkJobExecutionOperationState.COMPLETED);
+        return status;
+    }
+
+    private ResponseEntity<String> exportJobExecutions(final String mediaType) {
+        final JobExecutionSearch jobExecutionSearch = new JobExecutionSearch();
+        jobExecutionSearch.setJobName("simpleJob");
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(Collections.singletonList(MediaType.valueOf(mediaType)));
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .JOB_EXECUTIONS_EXPORT;
+        return restTemplate.exchange(uri, HttpMethod.POST, new HttpEntity<>(jobExecutionSearch, headers),
+                String.class);
+    }
+
     @Test
     public void testGetJobExecutionById() {
         final Long jobExecutionId = launchedJobExecutionId;
@@ -72,6 +111,55 @@ public class JobRestControllerIT extends CommonControllerIT {
         assertThat(response.getBody().getJobInstanceId()).isEqualTo(jobInstanceId);
     }
 
+    @Test
+    public void testGetJobInstancesByJobNameCursor() {
+        final String jobName = "simpleJob";
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .JOB_INSTANCES_JOB_NAME;
+        final UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromUriString(uri);
+        uriComponentsBuilder.queryParam("jobname", jobName);
+        uriComponentsBuilder.queryParam("pagesize", 1);
+        uriComponentsBuilder.queryParam("cursor",
+                PageCursorHelper.encode(PageCursorHelper.JOB_INSTANCE, launchedJobInstanceId + 1));
+        final ResponseEntity<JobInstancePage> response = restTemplate.getForEntity(uriComponentsBuilder.toUriString(), JobInstancePage.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getJobInstances()).hasSize(1);
+        assertThat(response.getBody().getJobInstances().get(0).getId()).isEqualTo(launchedJobInstanceId);
+    }
+
+    @Test
+    public void testGetJobExecutionsByJobInstanceIdCursor() {
+        final Long jobInstanceId = launchedJobInstanceId;
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController
+                .JobRestControllerAPI.JOB_EXECUTION_PAGES_INSTANCE_ID;
+        final UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromUriString(uri);
+        uriComponentsBuilder.queryParam("jobinstanceid", jobInstanceId);
+        uriComponentsBuilder.queryParam("cursor",
+                PageCursorHelper.encode(PageCursorHelper.JOB_EXECUTION, launchedJobExecutionId + 1));
+        final ResponseEntity<JobExecutionPage> response = restTemplate.getForEntity(uriComponentsBuilder.toUriString(),
+                JobExecutionPage.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getJobExecutions()).hasSize(1);
+        assertThat(response.getBody().getJobExecutions().get(0).getId()).isEqualTo(launchedJobExecutionId);
+        assertThat(response.getBody().getNextCursor()).isNull();
+    }
+
+    @Test
+    public void testGetJobExecutionsByJobInstanceIdInvalidCursor() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController
+                .JobRestControllerAPI.JOB_EXECUTION_PAGES_INSTANCE_ID;
+        final UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromUriString(uri);
+        uriComponentsBuilder.queryParam("jobinstanceid", launchedJobInstanceId);
+        uriComponentsBuilder.queryParam("cursor",
+                PageCursorHelper.encode(PageCursorHelper.JOB_INSTANCE, launchedJobInstanceId));
+        try {
+            restTemplate.getForEntity(uriComponentsBuilder.toUriString(), JobExecutionPage.class);
+            fail("HttpClientErrorException expected");
+        } catch (final HttpClientErrorException e) {
+            assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     @Test
     public void testgetJobInstancesByJobName() {
         final String jobName = "simpleJob";
@@ -98,6 +186,288 @@ public class JobRestControllerIT extends CommonControllerIT {
         assertThat(response.getBody().getJobName()).isEqualTo(jobName);
     }
 
+    @Test
+    public void testGetJobInfoNotModified() {
+        final String jobName = "simpleJob";
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI.JOB_INFO_JOB_NAME;
+        final ResponseEntity<JobInfo> response = restTemplate.getForEntity(uri, JobInfo.class, jobName);
+        final String eTag = response.getHeaders().getETag();
+        assertThat(eTag).isNotNull();
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        final ResponseEntity<JobInfo> notModified = restTemplate.exchange(uri, HttpMethod.GET,
+                new HttpEntity<Void>(headers), JobInfo.class, jobName);
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(notModified.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo("Accept, Accept-Encoding");
+        launchSimpleJob();
+        final ResponseEntity<JobInfo> modified = restTemplate.exchange(uri, HttpMethod.GET,
+                new HttpEntity<Void>(headers), JobInfo.class, jobName);
+        assertThat(modified.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(modified.getHeaders().getETag()).isNotEqualTo(eTag);
+        assertThat(modified.getBody().getJobInstanceCount()).isEqualTo(response.getBody().getJobInstanceCount() + 1);
+    }
+
+    @Test
+    public void testGetApplicationJobInfoEstimated() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI.APPLICATION_JOB_INFO
+                + "?estimated=true";
+        final ResponseEntity<ApplicationJobInfo> response = restTemplate.getForEntity(uri, ApplicationJobInfo.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getJobInfos()).isNotEmpty();
+        for (final JobInfo jobInfo : response.getBody().getJobInfos()) {
+            if ("simpleJob".equals(jobInfo.getJobName())) {
+                assertThat(jobInfo.getJobInstanceCount()).isGreaterThan(0);
+            }
+        }
+    }
+
+    @Test
+    public void testSearchJobExecutions() {
+        final String jobExecutionUri = LOCALHOST + ":" + getServerPort() + AbstractRestController
+                .JobRestControllerAPI.JOB_EXECUTIONS_JOB_EXECUTION_ID;
+        final JobExecution launchedJobExecution = restTemplate.getForEntity(jobExecutionUri, JobExecution.class,
+                launchedJobExecutionId).getBody();
+        final JobExecutionSearch jobExecutionSearch = new JobExecutionSearch();
+        jobExecutionSearch.setJobName("simpleJob");
+        jobExecutionSearch.setStatuses(Collections.singleton(BatchStatus.COMPLETED));
+        jobExecutionSearch.setExitCode("COMPLETED");
+        jobExecutionSearch.setJobParameters(launchedJobExecution.getJobParameters());
+        jobExecutionSearch.setPageSize(5);
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .JOB_EXECUTIONS_SEARCH;
+        final ResponseEntity<JobExecutionPage> response = restTemplate.postForEntity(uri, jobExecutionSearch,
+                JobExecutionPage.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getJobExecutions()).hasSize(1);
+        assertThat(response.getBody().getJobExecutions().get(0).getId()).isEqualTo(launchedJobExecutionId);
+        assertThat(response.getBody().getNextCursor()).isNull();
+    }
+
+    @Test
+    public void testSearchJobExecutionsInvalidPageSize() {
+        final JobExecutionSearch jobExecutionSearch = new JobExecutionSearch();
+        jobExecutionSearch.setJobName("simpleJob");
+        jobExecutionSearch.setPageSize(0);
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .JOB_EXECUTIONS_SEARCH;
+        try {
+            restTemplate.postForEntity(uri, jobExecutionSearch, JobExecutionPage.class);
+            fail("HttpClientErrorException expected");
+        } catch (final HttpClientErrorException e) {
+            assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Test
+    public void testSearchJobExecutionsMaxPageSize() {
+        final JobExecutionSearch jobExecutionSearch = new JobExecutionSearch();
+        jobExecutionSearch.setJobName("simpleJob");
+        jobExecutionSearch.setPageSize(Integer.MAX_VALUE);
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .JOB_EXECUTIONS_SEARCH;
+        final ResponseEntity<JobExecutionPage> response = restTemplate.postForEntity(uri, jobExecutionSearch,
+                JobExecutionPage.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getPageSize())
+                .isEqualTo(ControllerServiceEntryBean.DEFAULT_SEARCH_MAX_PAGE_SIZE);
+    }
+
+    @Test
+    public void testSearchJobExecutionsAsSmile() {
+        final RestTemplate smileRestTemplate = new RestTemplate(Collections.<HttpMessageConverter<?>>singletonList(
+                new SmileHttpMessageConverter()));
+        final JobExecutionSearch jobExecutionSearch = new JobExecutionSearch();
+        jobExecutionSearch.setJobName("simpleJob");
+        jobExecutionSearch.setPageSize(1);
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .JOB_EXECUTIONS_SEARCH;
+        final ResponseEntity<JobExecutionPage> response = smileRestTemplate.postForEntity(uri, jobExecutionSearch,
+                JobExecutionPage.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().isCompatibleWith(SmileHttpMessageConverter
+                .APPLICATION_SMILE)).isTrue();
+        assertThat(response.getBody().getJobExecutions()).hasSize(1);
+        assertThat(response.getBody().getJobExecutions().get(0).getId()).isEqualTo(launchedJobExecutionId);
+    }
+
+    @Test
+    public void testGetJobInfoAsSmile() throws Exception {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(Collections.singletonList(SmileHttpMessageConverter.APPLICATION_SMILE));
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI.JOB_INFO_JOB_NAME;
+        final ResponseEntity<byte[]> response = restTemplate.exchange(uri, HttpMethod.GET,
+                new HttpEntity<Void>(headers), byte[].class, "simpleJob");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().isCompatibleWith(SmileHttpMessageConverter
+                .APPLICATION_SMILE)).isTrue();
+        final JobInfo jobInfo = new SmileHttpMessageConverter().getObjectMapper().readValue(response.getBody(),
+                JobInfo.class);
+        assertThat(jobInfo.getJobName()).isEqualTo("simpleJob");
+    }
+
+    @Test
+    public void testGetJobInfoDefaultsToJson() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI.JOB_INFO_JOB_NAME;
+        final ResponseEntity<String> response = restTemplate.getForEntity(uri, String.class, "simpleJob");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(response.getBody()).contains("\"jobName\":\"simpleJob\"");
+    }
+
+    @Test
+    public void testExportJobExecutionsAsNdjson() throws Exception {
+        final ResponseEntity<String> response = exportJobExecutions(AbstractRestController.APPLICATION_NDJSON_VALUE);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString())
+                .startsWith(AbstractRestController.APPLICATION_NDJSON_VALUE);
+        final String[] lines = response.getBody().split("\n");
+        assertThat(lines.length).isGreaterThan(0);
+        final ObjectMapper objectMapper = new ObjectMapper();
+        long previousId = Long.MAX_VALUE;
+        boolean launchedJobExecutionExported = false;
+        for (final String line : lines) {
+            final JsonNode row = objectMapper.readTree(line);
+            assertThat(row.get("jobName").asText()).isEqualTo("simpleJob");
+            assertThat(row.get("jobExecutionId").asLong()).isLessThan(previousId);
+            previousId = row.get("jobExecutionId").asLong();
+            launchedJobExecutionExported |= previousId == launchedJobExecutionId;
+        }
+        assertThat(launchedJobExecutionExported).isTrue();
+    }
+
+    @Test
+    public void testExportJobExecutionsAsCsv() {
+        final ResponseEntity<String> response = exportJobExecutions(AbstractRestController.TEXT_CSV_VALUE);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        final String[] lines = response.getBody().split("\r\n");
+        assertThat(lines[0]).isEqualTo("jobExecutionId,jobInstanceId,jobName,status,exitCode,exitMessage,"
+                + "createTime,startTime,endTime,lastUpdated,jobParameters");
+        assertThat(lines.length).isGreaterThan(1);
+        assertThat(lines[1]).contains(",simpleJob,");
+    }
+
+    @Test
+    public void testGetJobExecutionStatistics() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .JOB_EXECUTION_STATISTICS_JOB_NAME;
+        final ResponseEntity<JobExecutionStatistics> response = restTemplate.getForEntity(uri,
+                JobExecutionStatistics.class, "simpleJob");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getJobName()).isEqualTo("simpleJob");
+        assertThat(response.getBody().getExecutionCount()).isGreaterThan(0);
+        assertThat(response.getBody().getSuccessRate()).isEqualTo(1.0);
+        assertThat(response.getBody().getStepExecutionStatistics()).hasSize(1);
+        assertThat(response.getBody().getStepExecutionStatistics().get(0).getStepName()).isEqualTo("simpleStep");
+
+        final ResponseEntity<JobExecutionStatistics> emptyResponse = restTemplate.getForEntity(
+                uri + "?starttimefrom={from}&starttimeto={to}", JobExecutionStatistics.class, "simpleJob",
+                "2000-01-01T00:00:00.000-0000", "2000-01-02T00:00:00.000-0000");
+        assertThat(emptyResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(emptyResponse.getBody().getExecutionCount()).isEqualTo(0);
+        assertThat(emptyResponse.getBody().getStepExecutionStatistics()).isEmpty();
+    }
+
+    @Test
+    public void testPurgeJobExecutions() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .JOB_EXECUTION_PURGES;
+        final RetentionPolicy retentionPolicy = new RetentionPolicy();
+        retentionPolicy.setMaxAge(60L * 60L * 1000L);
+        try {
+            restTemplate.postForEntity(uri, retentionPolicy, JobExecutionPurgeStatus.class);
+            fail("HttpClientErrorException expected, the map based repository does not support purging");
+        } catch (final HttpClientErrorException e) {
+            assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        final ResponseEntity<JobExecutionPurgeStatus> statusResponse = restTemplate.getForEntity(uri,
+                JobExecutionPurgeStatus.class);
+        assertThat(statusResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(statusResponse.getBody().getState()).isEqualTo(JobExecutionPurgeState.NOT_STARTED);
+    }
+
+    @Test
+    public void testPurgeJobExecutionsInvalidRetentionPolicy() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .JOB_EXECUTION_PURGES;
+        final RetentionPolicy retentionPolicy = new RetentionPolicy();
+        retentionPolicy.setChunkSize(0);
+        try {
+            restTemplate.postForEntity(uri, retentionPolicy, JobExecutionPurgeStatus.class);
+            fail("HttpClientErrorException expected");
+        } catch (final HttpClientErrorException e) {
+            assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Test
+    public void testStopJobExecutions() throws Exception {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .JOB_EXECUTIONS_BULK_STOP;
+        final BulkJobExecutionOperation bulkJobExecutionOperation = new BulkJobExecutionOperation();
+        bulkJobExecutionOperation.setJobExecutionIds(Collections.singletonList(launchedJobExecutionId));
+        final ResponseEntity<BulkJobExecutionOperationStatus> response = restTemplate.postForEntity(uri,
+                bulkJobExecutionOperation, BulkJobExecutionOperationStatus.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getHeaders().getLocation()).isNotNull();
+        assertThat(response.getBody().getOperation()).isEqualTo(BulkJobExecutionOperationType.STOP);
+        assertThat(response.getBody().getItemCount()).isEqualTo(1);
+
+        final BulkJobExecutionOperationStatus status = awaitBulkJobExecutionOperation(response.getHeaders()
+                .getLocation().toString());
+        assertThat(status.getFailedCount()).isEqualTo(1);
+        assertThat(status.getItems().get(0).getJobExecutionId()).isEqualTo(launchedJobExecutionId);
+        assertThat(status.getItems().get(0).getExitMessage()).isNotNull();
+    }
+
+    @Test
+    public void testRestartJobExecutionsBySearch() throws Exception {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .JOB_EXECUTIONS_BULK_RESTART;
+        final JobExecutionSearch jobExecutionSearch = new JobExecutionSearch();
+        jobExecutionSearch.setJobName("simpleJob");
+        final BulkJobExecutionOperation bulkJobExecutionOperation = new BulkJobExecutionOperation();
+        bulkJobExecutionOperation.setSearch(jobExecutionSearch);
+        final ResponseEntity<BulkJobExecutionOperationStatus> response = restTemplate.postForEntity(uri,
+                bulkJobExecutionOperation, BulkJobExecutionOperationStatus.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody().getOperation()).isEqualTo(BulkJobExecutionOperationType.RESTART);
+        assertThat(response.getBody().getItemCount()).isGreaterThanOrEqualTo(1);
+
+        final BulkJobExecutionOperationStatus status = awaitBulkJobExecutionOperation(response.getHeaders()
+                .getLocation().toString());
+        assertThat(status.getSucceededCount() + status.getFailedCount()).isEqualTo(status.getItemCount());
+    }
+
+    @Test
+    public void testRestartJobExecutionsInvalidOperation() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .JOB_EXECUTIONS_BULK_RESTART;
+        final BulkJobExecutionOperation bulkJobExecutionOperation = new BulkJobExecutionOperation();
+        bulkJobExecutionOperation.setJobExecutionIds(Collections.singletonList(launchedJobExecutionId));
+        bulkJobExecutionOperation.setSearch(new JobExecutionSearch());
+        try {
+            restTemplate.postForEntity(uri, bulkJobExecutionOperation, BulkJobExecutionOperationStatus.class);
+            fail("HttpClientErrorException expected");
+        } catch (final HttpClientErrorException e) {
+            assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Test
+    public void testGetBulkJobExecutionOperationStatusNotFound() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .JOB_EXECUTIONS_BULK_OPERATION_ID;
+        try {
+            restTemplate.getForEntity(uri, BulkJobExecutionOperationStatus.class, -1L);
+            fail("HttpClientErrorException expected");
+        } catch (final HttpClientErrorException e) {
+            assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+    }
+
     @Test
     public void testGetStepExecution() {
         final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI.STEP_EXECUTIONS;
@@ -108,6 +478,57 @@ public class JobRestControllerIT extends CommonControllerIT {
         assertThat(response.getBody().getJobExecutionId()).isEqualTo(launchedJobExecutionId);
     }
 
+    @Test
+    public void testGetJobExecutionContext() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .JOB_EXECUTIONS_CONTEXT;
+        final ResponseEntity<ExecutionContextPreview> response = restTemplate.getForEntity(uri,
+                ExecutionContextPreview.class, launchedJobExecutionId);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getJobExecutionId()).isEqualTo(launchedJobExecutionId);
+        assertThat(response.getBody().getStepExecutionId()).isNull();
+        assertThat(response.getBody().getSerializedContext()).isNotEmpty();
+        assertThat(response.getBody().isTruncated()).isFalse();
+    }
+
+    @Test
+    public void testGetStepExecutionContextTruncated() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .STEP_EXECUTIONS_CONTEXT + "?maxlength={maxlength}";
+        final ResponseEntity<ExecutionContextPreview> response = restTemplate.getForEntity(uri,
+                ExecutionContextPreview.class, launchedStepExecutionId, launchedJobExecutionId, 2);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getStepExecutionId()).isEqualTo(launchedStepExecutionId);
+        assertThat(response.getBody().getSerializedContext()).hasSize(2);
+        assertThat(response.getBody().getMaxLength()).isEqualTo(2);
+        assertThat(response.getBody().isTruncated()).isTrue();
+    }
+
+    @Test
+    public void testGetStepExecutionContextNegativeMaxLength() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .STEP_EXECUTIONS_CONTEXT + "?maxlength={maxlength}";
+        try {
+            restTemplate.getForEntity(uri, ExecutionContextPreview.class, launchedStepExecutionId,
+                    launchedJobExecutionId, -1);
+            fail("HttpClientErrorException expected");
+        } catch (final HttpClientErrorException e) {
+            assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Test
+    public void testGetStepExecutionContextNotFound() {
+        final String uri = LOCALHOST + ":" + getServerPort() + AbstractRestController.JobRestControllerAPI
+                .STEP_EXECUTIONS_CONTEXT;
+        try {
+            restTemplate.getForEntity(uri, ExecutionContextPreview.class, Long.MAX_VALUE, launchedJobExecutionId);
+            fail("HttpClientErrorException expected");
+        } catch (final HttpClientErrorException e) {
+            assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+    }
+
     @Test
     public void testGetLastJobParameters() {
         final String jobName = "simpleJob";
@@ -4,13 +4,18 @@ import org.junit.Test;
 import org.tuxdevelop.spring.batch.lightmin.TestHelper;
 import org.tuxdevelop.spring.batch.lightmin.admin.domain.*;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfigurations;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.BulkJobLaunch;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameter;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.ParameterType;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidBulkJobLaunchException;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,6 +75,64 @@ public class ResourceToAdminMapperTest {
         assertJobConfigurations(result, jobConfigurationsToMap);
     }
 
+    @Test
+    public void testMapParameterSetsFanOut() {
+        final BulkJobLaunch bulkJobLaunch = new BulkJobLaunch();
+        bulkJobLaunch.setJobParameters(createJobParameters("region", "eu", ParameterType.STRING));
+        bulkJobLaunch.setFanOutParameterName("tenant");
+        bulkJobLaunch.setFanOutParameters(Arrays.asList(createJobParameter(1L, ParameterType.LONG),
+                createJobParameter(2L, ParameterType.LONG)));
+        final List<org.springframework.batch.core.JobParameters> result = ResourceToAdminMapper.mapParameterSets(bulkJobLaunch);
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getString("region")).isEqualTo("eu");
+        assertThat(result.get(0).getLong("tenant")).isEqualTo(1L);
+        assertThat(result.get(1).getString("region")).isEqualTo("eu");
+        assertThat(result.get(1).getLong("tenant")).isEqualTo(2L);
+    }
+
+    @Test
+    public void testMapParameterSetsList() {
+        final BulkJobLaunch bulkJobLaunch = new BulkJobLaunch();
+        bulkJobLaunch.setJobParameters(createJobParameters("region", "eu", ParameterType.STRING));
+        bulkJobLaunch.setJobParametersList(Arrays.asList(createJobParameters("region", "us", ParameterType.STRING),
+                createJobParameters("tenant", 2L, ParameterType.LONG)));
+        final List<org.springframework.batch.core.JobParameters> result = ResourceToAdminMapper.mapParameterSets(bulkJobLaunch);
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getString("region")).isEqualTo("us");
+        assertThat(result.get(1).getString("region")).isEqualTo("eu");
+        assertThat(result.get(1).getLong("tenant")).isEqualTo(2L);
+    }
+
+    @Test(expected = InvalidBulkJobLaunchException.class)
+    public void testMapParameterSetsListAndFanOut() {
+        final BulkJobLaunch bulkJobLaunch = new BulkJobLaunch();
+        bulkJobLaunch.setJobParametersList(Collections.singletonList(new JobParameters()));
+        bulkJobLaunch.setFanOutParameterName("tenant");
+        bulkJobLaunch.setFanOutParameters(Collections.singletonList(createJobParameter(1L, ParameterType.LONG)));
+        ResourceToAdminMapper.mapParameterSets(bulkJobLaunch);
+    }
+
+    @Test(expected = InvalidBulkJobLaunchException.class)
+    public void testMapParameterSetsFanOutWithoutName() {
+        final BulkJobLaunch bulkJobLaunch = new BulkJobLaunch();
+        bulkJobLaunch.setFanOutParameters(Collections.singletonList(createJobParameter(1L, ParameterType.LONG)));
+        ResourceToAdminMapper.mapParameterSets(bulkJobLaunch);
+    }
+
+    private static JobParameters createJobParameters(final String name, final Object value,
+                                                     final ParameterType parameterType) {
+        final JobParameters jobParameters = new JobParameters();
+        jobParameters.getParameters().put(name, createJobParameter(value, parameterType));
+        return jobParameters;
+    }
+
+    private static JobParameter createJobParameter(final Object value, final ParameterType parameterType) {
+        final JobParameter jobParameter = new JobParameter();
+        jobParameter.setParameter(value);
+        jobParameter.setParameterType(parameterType);
+        return jobParameter;
+    }
+
     private void assertJobConfigurations(final Collection<JobConfiguration> jobConfigurationCollection, final JobConfigurations jobConfigurations) {
         for (final JobConfiguration jobConfiguration : jobConfigurationCollection) {
             final org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfiguration compareWith = getById
@@ -7,6 +7,8 @@ import org.springframework.batch.core.launch.support.SimpleJobOperator;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.util.FileSystemUtils;
+import org.tuxdevelop.spring.batch.lightmin.admin.repository.FileJobConfigurationRepository;
 import org.tuxdevelop.spring.batch.lightmin.dao.JdbcLightminJobExecutionDao;
 import org.tuxdevelop.spring.batch.lightmin.service.DefaultJobService;
 import org.tuxdevelop.spring.batch.lightmin.service.DefaultStepService;
@@ -14,6 +16,8 @@ import org.tuxdevelop.test.configuration.ITConfiguration;
 import org.tuxdevelop.test.configuration.ITPersistenceConfiguration;
 
 import javax.sql.DataSource;
+import java.io.File;
+import java.nio.file.Files;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -57,6 +61,26 @@ public class DefaultSpringBatchLightminConfiguratorTest {
         ((ConfigurableApplicationContext) applicationContext).close();
     }
 
+    @Test
+    public void initializeFileTest() throws Exception {
+        this.applicationContext = new AnnotationConfigApplicationContext(ITConfiguration.class);
+        final File directory = Files.createTempDirectory("lightmin").toFile();
+        springBatchLightminConfigurationProperties.setBatchRepositoryType(BatchRepositoryType.MAP);
+        springBatchLightminConfigurationProperties.setLightminRepositoryType(LightminRepositoryType.FILE);
+        springBatchLightminConfigurationProperties.setConfigurationFileDirectory(directory.getAbsolutePath());
+        final DefaultSpringBatchLightminConfigurator configurator = new DefaultSpringBatchLightminConfigurator(springBatchLightminConfigurationProperties, applicationContext);
+        final DefaultSpringBatchLightminBatchConfigurer batchConfigurer = new DefaultSpringBatchLightminBatchConfigurer();
+        batchConfigurer.initialize();
+        configurator.setBatchConfigurer(batchConfigurer);
+        configurator.initialize();
+        assertThat(configurator.getJobConfigurationRepository()).isInstanceOf(FileJobConfigurationRepository.class);
+        assertMapComponents(configurator);
+        assertCommonComponents(configurator);
+        ((FileJobConfigurationRepository) configurator.getJobConfigurationRepository()).destroy();
+        FileSystemUtils.deleteRecursively(directory);
+        ((ConfigurableApplicationContext) applicationContext).close();
+    }
+
     @Before
     public void init() {
         this.springBatchLightminConfigurationProperties = new SpringBatchLightminConfigurationProperties();
@@ -0,0 +1,313 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.explore.support.JobExplorerFactoryBean;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncrementer;
+import org.tuxdevelop.spring.batch.lightmin.service.JobCountCache;
+import org.tuxdevelop.spring.batch.lightmin.service.JobExecutionArchiver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class ArchivingLightminJobExecutionDaoIT {
+
+    private static final String JOB_NAME = "archiveJob";
+    private static final String ARCHIVE_TABLE_PREFIX = "BATCH_ARCHIVE_";
+    private static final String ARCHIVE_SCHEMA = "org/tuxdevelop/spring/batch/lightmin/schema_archive_h2.sql";
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private JobRepository jobRepository;
+    private JobExplorer jobExplorer;
+    private JobCountCache jobCountCache;
+    private ArchivingLightminJobExecutionDao archivingLightminJobExecutionDao;
+
+    @Test
+    public void archiveIT() {
+        final PurgeCount purgeCount = archive();
+        assertThat(purgeCount.getJobExecutionCount()).isEqualTo(6);
+        assertThat(purgeCount.getStepExecutionCount()).isEqualTo(6);
+        assertThat(purgeCount.getJobInstanceCount()).isEqualTo(0);
+        assertThat(count("BATCH_JOB_EXECUTION")).isEqualTo(3);
+        assertThat(count("BATCH_JOB_INSTANCE")).isEqualTo(8);
+        assertThat(count("BATCH_ARCHIVE_JOB_EXECUTION")).isEqualTo(6);
+        assertThat(count("BATCH_ARCHIVE_JOB_INSTANCE")).isEqualTo(5);
+        assertThat(count("BATCH_ARCHIVE_JOB_EXECUTION_PARAMS")).isEqualTo(6);
+        assertThat(count("BATCH_ARCHIVE_JOB_EXECUTION_CONTEXT")).isEqualTo(6);
+        assertThat(count("BATCH_ARCHIVE_STEP_EXECUTION_CONTEXT")).isEqualTo(6);
+        assertThat(archive().getJobExecutionCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void getJobInstanceIT() {
+        archive();
+        assertThat(archivingLightminJobExecutionDao.getJobInstance(8L).getJobName()).isEqualTo(JOB_NAME);
+        assertThat(archivingLightminJobExecutionDao.getJobInstance(9L)).isNull();
+        jdbcTemplate.update("DELETE FROM BATCH_JOB_INSTANCE WHERE JOB_INSTANCE_ID = 1");
+        assertThat(archivingLightminJobExecutionDao.getJobInstance(1L).getJobName()).isEqualTo(JOB_NAME);
+    }
+
+    @Test
+    public void getJobInstancesIT() {
+        archive();
+        final List<Long> jobInstanceIds = new ArrayList<>();
+        for (final JobInstance jobInstance : archivingLightminJobExecutionDao.getJobInstances(JOB_NAME, 3, 3)) {
+            jobInstanceIds.add(jobInstance.getId());
+        }
+        assertThat(jobInstanceIds).containsExactly(5L, 4L, 3L);
+        assertThat(archivingLightminJobExecutionDao.getJobInstances(JOB_NAME, 8, 3)).isEmpty();
+    }
+
+    @Test
+    public void getJobInstanceCountIT() {
+        archive();
+        assertThat(archivingLightminJobExecutionDao.getJobInstanceCount(JOB_NAME)).isEqualTo(8);
+        jdbcTemplate.update("DELETE FROM BATCH_JOB_INSTANCE WHERE JOB_INSTANCE_ID = 1");
+        assertThat(archivingLightminJobExecutionDao.getJobInstanceCount(JOB_NAME)).isEqualTo(8);
+        assertThat(archivingLightminJobExecutionDao.getJobInstanceCount("notExisting")).isEqualTo(0);
+    }
+
+    @Test
+    public void getJobExecutionIT() {
+        archive();
+        final JobExecution archivedJobExecution = archivingLightminJobExecutionDao.getJobExecution(9L);
+        assertThat(archivedJobExecution.getJobInstance().getId()).isEqualTo(8L);
+        assertThat(archivedJobExecution.getStepExecutions()).hasSize(1);
+        assertThat(archivingLightminJobExecutionDao.getJobExecution(7L).getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(archivingLightminJobExecutionDao.getJobExecution(10L)).isNull();
+    }
+
+    @Test
+    public void createJobExecutionOfArchivedJobInstanceIT() throws Exception {
+        archive();
+        final ArchivingJobRepository archivingJobRepository = new ArchivingJobRepository(jobRepository,
+                archivingLightminJobExecutionDao);
+        for (final long run : new long[]{1L, 8L}) {
+            try {
+                archivingJobRepository.createJobExecution(JOB_NAME,
+                        new JobParametersBuilder().addLong("run", run).toJobParameters());
+                fail("JobInstanceAlreadyCompleteException expected");
+            } catch (final JobInstanceAlreadyCompleteException e) {
+                assertThat(e.getMessage()).contains("archived");
+            }
+        }
+        final JobExecution restartExecution = archivingJobRepository.createJobExecution(JOB_NAME,
+                new JobParametersBuilder().addLong("run", 7L).toJobParameters());
+        assertThat(restartExecution.getJobInstance().getId()).isEqualTo(7L);
+        final JobExecution newExecution = archivingJobRepository.createJobExecution(JOB_NAME,
+                new JobParametersBuilder().addLong("run", 10L).toJobParameters());
+        assertThat(newExecution.getJobInstance().getId()).isEqualTo(9L);
+    }
+
+    @Test
+    public void getJobExecutionsIT() {
+        archive();
+        assertThat(ids(archivingLightminJobExecutionDao.getJobExecutions(JOB_NAME, 0, 3))).containsExactly(9L, 8L, 7L);
+        assertThat(ids(archivingLightminJobExecutionDao.getJobExecutions(JOB_NAME, 4, 3))).containsExactly(5L, 4L, 3L);
+        assertThat(archivingLightminJobExecutionDao.getJobExecutions(JOB_NAME, 9, 3)).isEmpty();
+    }
+
+    @Test
+    public void getJobExecutionsAfterIT() {
+        archive();
+        final List<JobExecution> jobExecutions = archivingLightminJobExecutionDao.getJobExecutionsAfter(JOB_NAME,
+                null, 20);
+        assertThat(ids(jobExecutions)).containsExactly(9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L);
+        assertThat(jobExecutions.get(8).getJobParameters().getLong("run")).isEqualTo(1L);
+        assertThat(jobExecutions.get(8).getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(ids(archivingLightminJobExecutionDao.getJobExecutionsAfter(JOB_NAME, 5L, 3)))
+                .containsExactly(4L, 3L, 2L);
+    }
+
+    @Test
+    public void findJobExecutionsIT() {
+        archive();
+        final JobInstance jobInstance = new JobInstance(8L, JOB_NAME);
+        assertThat(ids(archivingLightminJobExecutionDao.findJobExecutions(jobInstance, 0, 10)))
+                .containsExactly(9L, 8L);
+        assertThat(ids(archivingLightminJobExecutionDao.findJobExecutionsAfter(jobInstance, 9L, 10)))
+                .containsExactly(8L);
+        assertThat(archivingLightminJobExecutionDao.getJobExecutionCount(jobInstance)).isEqualTo(2);
+    }
+
+    @Test
+    public void getJobInstancesAfterIT() {
+        archive();
+        final List<Long> jobInstanceIds = new ArrayList<>();
+        for (final JobInstance jobInstance : archivingLightminJobExecutionDao.getJobInstancesAfter(JOB_NAME, null,
+                20)) {
+            jobInstanceIds.add(jobInstance.getId());
+        }
+        assertThat(jobInstanceIds).containsExactly(8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    public void searchJobExecutionsIT() {
+        archive();
+        final JobExecutionSearchCriteria completed = new JobExecutionSearchCriteria();
+        completed.setJobName(JOB_NAME);
+        completed.getStatuses().add(BatchStatus.COMPLETED);
+        assertThat(ids(archivingLightminJobExecutionDao.searchJobExecutions(completed, null, 3)))
+                .containsExactly(9L, 6L, 5L);
+        assertThat(ids(archivingLightminJobExecutionDao.searchJobExecutions(completed, 5L, 10)))
+                .containsExactly(4L, 3L, 2L, 1L);
+        final JobExecutionSearchCriteria failed = new JobExecutionSearchCriteria();
+        failed.getStatuses().add(BatchStatus.FAILED);
+        assertThat(archivingLightminJobExecutionDao.findJobExecutionIds(failed, null, 10)).containsExactly(8L, 7L);
+    }
+
+    @Test
+    public void attachStepExecutionsIT() {
+        archive();
+        final List<JobExecution> jobExecutions = archivingLightminJobExecutionDao.getJobExecutionsAfter(JOB_NAME,
+                null, 20);
+        archivingLightminJobExecutionDao.attachStepExecutions(jobExecutions);
+        for (final JobExecution jobExecution : jobExecutions) {
+            assertThat(jobExecution.getStepExecutions()).hasSize(1);
+        }
+    }
+
+    @Test
+    public void getJobExecutionsWithStepExecutionsIT() {
+        archive();
+        final List<JobExecution> jobExecutions =
+                archivingLightminJobExecutionDao.getJobExecutionsWithStepExecutions(Arrays.asList(2L, 9L, 6L, 10L));
+        assertThat(ids(jobExecutions)).containsExactly(9L, 6L, 2L);
+        for (final JobExecution jobExecution : jobExecutions) {
+            assertThat(jobExecution.getJobInstance().getJobName()).isEqualTo(JOB_NAME);
+            assertThat(jobExecution.getStepExecutions()).hasSize(1);
+        }
+    }
+
+    @Test
+    public void streamJobExecutionsIT() throws Exception {
+        archive();
+        final JobExecutionSearchCriteria criteria = new JobExecutionSearchCriteria();
+        criteria.setJobName(JOB_NAME);
+        final List<JobExecution> streamed = new ArrayList<>();
+        archivingLightminJobExecutionDao.streamJobExecutions(criteria, new JobExecutionCallback() {
+            @Override
+            public void doWithJobExecution(final JobExecution jobExecution) {
+                streamed.add(jobExecution);
+            }
+        });
+        assertThat(ids(streamed)).containsExactly(7L, 6L, 5L, 9L, 8L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    public void deleteJobExecutionsIT() {
+        archive();
+        final PurgeCount purgeCount = archivingLightminJobExecutionDao.deleteJobExecutions(Arrays.asList(9L, 8L));
+        assertThat(purgeCount.getJobExecutionCount()).isEqualTo(2);
+        assertThat(purgeCount.getJobInstanceCount()).isEqualTo(1);
+        assertThat(ids(archivingLightminJobExecutionDao.getJobExecutionsAfter(JOB_NAME, null, 20)))
+                .containsExactly(7L, 6L, 5L, 4L, 3L, 2L, 1L);
+        assertThat(count("BATCH_JOB_INSTANCE")).isEqualTo(7);
+        assertThat(archivingLightminJobExecutionDao.getJobInstance(8L)).isNull();
+    }
+
+    @Before
+    public void init() throws Exception {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setName("lightmin-archive")
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("create.sql")
+                .addScript(ARCHIVE_SCHEMA)
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        final JobRepositoryFactoryBean jobRepositoryFactoryBean = new JobRepositoryFactoryBean();
+        jobRepositoryFactoryBean.setDataSource(dataSource);
+        jobRepositoryFactoryBean.setTransactionManager(new DataSourceTransactionManager(dataSource));
+        jobRepositoryFactoryBean.afterPropertiesSet();
+        jobRepository = jobRepositoryFactoryBean.getObject();
+        final JobExplorerFactoryBean jobExplorerFactoryBean = new JobExplorerFactoryBean();
+        jobExplorerFactoryBean.setDataSource(dataSource);
+        jobExplorerFactoryBean.afterPropertiesSet();
+        jobExplorer = jobExplorerFactoryBean.getObject();
+        archivingLightminJobExecutionDao = new ArchivingLightminJobExecutionDao(createDao("BATCH_"),
+                createDao(ARCHIVE_TABLE_PREFIX), ARCHIVE_TABLE_PREFIX);
+        jobCountCache = new JobCountCache(archivingLightminJobExecutionDao, 0);
+        final Date old = new Date(System.currentTimeMillis() - 2 * DAY);
+        final Date recent = new Date();
+        for (long run = 1; run <= 4; run++) {
+            createJobExecution(run, BatchStatus.COMPLETED, old);
+        }
+        createJobExecution(5L, BatchStatus.COMPLETED, recent);
+        createJobExecution(6L, BatchStatus.COMPLETED, recent);
+        createJobExecution(7L, BatchStatus.FAILED, old);
+        createJobExecution(8L, BatchStatus.FAILED, old);
+        createJobExecution(8L, BatchStatus.COMPLETED, old);
+    }
+
+    @After
+    public void tearDown() {
+        jobCountCache.destroy();
+        dataSource.shutdown();
+    }
+
+    private PurgeCount archive() {
+        final JobExecutionArchiver jobExecutionArchiver = new JobExecutionArchiver(archivingLightminJobExecutionDao,
+                jobCountCache, DAY, 2, 0);
+        final PurgeCount purgeCount = jobExecutionArchiver.archive();
+        jobExecutionArchiver.destroy();
+        return purgeCount;
+    }
+
+    private JdbcLightminJobExecutionDao createDao(final String tablePrefix) throws Exception {
+        final JdbcLightminJobExecutionDao dao = new JdbcLightminJobExecutionDao(dataSource);
+        dao.setJdbcTemplate(jdbcTemplate);
+        dao.setJobExecutionIncrementer(new H2SequenceMaxValueIncrementer(dataSource, "BATCH_JOB_EXECUTION_SEQ"));
+        dao.setTablePrefix(tablePrefix);
+        dao.afterPropertiesSet();
+        return dao;
+    }
+
+    private void createJobExecution(final Long run, final BatchStatus status, final Date endTime) throws Exception {
+        final JobParameters jobParameters = new JobParametersBuilder().addLong("run", run).toJobParameters();
+        final JobExecution jobExecution = jobRepository.createJobExecution(JOB_NAME, jobParameters);
+        final StepExecution stepExecution = jobExecution.createStepExecution("archiveStep");
+        jobRepository.add(stepExecution);
+        stepExecution.setStatus(status);
+        stepExecution.setEndTime(endTime);
+        jobRepository.update(stepExecution);
+        jobExecution.setStartTime(endTime);
+        jobExecution.setStatus(status);
+        jobExecution.setEndTime(endTime);
+        jobRepository.update(jobExecution);
+    }
+
+    private int count(final String tableName) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tableName, Integer.class);
+    }
+
+    private static List<Long> ids(final List<JobExecution> jobExecutions) {
+        final List<Long> ids = new ArrayList<>();
+        for (final JobExecution jobExecution : jobExecutions) {
+            ids.add(jobExecution.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,43 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import org.junit.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExecutionStatisticsAccumulatorTest {
+
+    @Test
+    public void buildTest() {
+        final ExecutionStatisticsAccumulator accumulator = new ExecutionStatisticsAccumulator("someJob");
+        for (long duration = 1; duration <= 10000L; duration++) {
+            accumulator.addDuration(new Date(0L), new Date(duration));
+        }
+        final ExecutionStatistics executionStatistics = accumulator.build();
+        assertThat(executionStatistics.getTotalDuration()).isEqualTo(50005000L);
+        assertThat(Math.abs(executionStatistics.getDurationP50() - 5000L)).isLessThanOrEqualTo(5000L / 16);
+        assertThat(Math.abs(executionStatistics.getDurationP95() - 9500L)).isLessThanOrEqualTo(9500L / 16);
+        assertThat(Math.abs(executionStatistics.getDurationP99() - 9900L)).isLessThanOrEqualTo(9900L / 16);
+    }
+
+    @Test
+    public void buildEqualDurationsTest() {
+        final ExecutionStatisticsAccumulator accumulator = new ExecutionStatisticsAccumulator("someJob");
+        for (int i = 0; i < 99; i++) {
+            accumulator.addDuration(new Date(0L), new Date(2000L));
+        }
+        accumulator.addDuration(new Date(0L), new Date(3600000L));
+        final ExecutionStatistics executionStatistics = accumulator.build();
+        assertThat(executionStatistics.getDurationP50()).isEqualTo(2000L);
+        assertThat(executionStatistics.getDurationP99()).isEqualTo(2000L);
+    }
+
+    @Test
+    public void buildEmptyTest() {
+        final ExecutionStatistics executionStatistics = new ExecutionStatisticsAccumulator("someJob").build();
+        assertThat(executionStatistics.getName()).isEqualTo("someJob");
+        assertThat(executionStatistics.getTotalDuration()).isEqualTo(0L);
+        assertThat(executionStatistics.getDurationP99()).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,82 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.tuxdevelop.spring.batch.lightmin.configuration.SpringBatchLightminConfigurator;
+import org.tuxdevelop.test.configuration.ITPersistenceConfiguration;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = ITPersistenceConfiguration.class)
+public class JdbcJobLaunchKeyDaoIT {
+
+    @Autowired
+    private SpringBatchLightminConfigurator springBatchLightminConfigurator;
+
+    @Test
+    public void testAddAndGet() {
+        final JobLaunchKeyDao jobLaunchKeyDao = springBatchLightminConfigurator.getJobLaunchKeyDao();
+        assertThat(jobLaunchKeyDao).isInstanceOf(JdbcJobLaunchKeyDao.class);
+        final JobLaunchKey jobLaunchKey = createJobLaunchKey("addAndGet", new Date());
+        assertThat(jobLaunchKeyDao.add(jobLaunchKey)).isTrue();
+        assertThat(jobLaunchKeyDao.add(jobLaunchKey)).isFalse();
+        final JobLaunchKey stored = jobLaunchKeyDao.get("addAndGet");
+        assertThat(stored.getJobName()).isEqualTo("simpleJob");
+        assertThat(stored.getJobExecutionId()).isNull();
+        assertThat(stored.getCreateTime().getTime()).isEqualTo(jobLaunchKey.getCreateTime().getTime());
+
+        assertThat(jobLaunchKeyDao.updateJobExecutionId(jobLaunchKey, 42L)).isTrue();
+        assertThat(jobLaunchKeyDao.get("addAndGet").getJobExecutionId()).isEqualTo(42L);
+        assertThat(jobLaunchKeyDao.updateJobExecutionId(jobLaunchKey, 43L)).isFalse();
+        assertThat(jobLaunchKeyDao.get("addAndGet").getJobExecutionId()).isEqualTo(42L);
+
+        assertThat(jobLaunchKeyDao.remove(jobLaunchKey)).isTrue();
+        assertThat(jobLaunchKeyDao.get("addAndGet")).isNull();
+    }
+
+    @Test
+    public void testRemoveCreatedBefore() {
+        final JobLaunchKeyDao jobLaunchKeyDao = springBatchLightminConfigurator.getJobLaunchKeyDao();
+        final long now = System.currentTimeMillis();
+        jobLaunchKeyDao.add(createJobLaunchKey("expired", new Date(now - 10000L)));
+        final JobLaunchKey alive = createJobLaunchKey("alive", new Date(now));
+        jobLaunchKeyDao.add(alive);
+        assertThat(jobLaunchKeyDao.removeCreatedBefore(new Date(now - 5000L))).isEqualTo(1);
+        assertThat(jobLaunchKeyDao.get("expired")).isNull();
+        assertThat(jobLaunchKeyDao.get("alive")).isNotNull();
+        jobLaunchKeyDao.remove(alive);
+    }
+
+    @Test
+    public void testTakeOver() {
+        final JobLaunchKeyDao jobLaunchKeyDao = springBatchLightminConfigurator.getJobLaunchKeyDao();
+        final long now = System.currentTimeMillis();
+        jobLaunchKeyDao.add(createJobLaunchKey("takeOver", new Date(now - 10000L)));
+        final JobLaunchKey stale = jobLaunchKeyDao.get("takeOver");
+        final JobLaunchKey jobLaunchKey = createJobLaunchKey("takeOver", new Date(now));
+        assertThat(jobLaunchKeyDao.takeOver(stale, jobLaunchKey)).isTrue();
+        assertThat(jobLaunchKeyDao.takeOver(stale, jobLaunchKey)).isFalse();
+        assertThat(jobLaunchKeyDao.get("takeOver").getCreateTime().getTime()).isEqualTo(now);
+        assertThat(jobLaunchKeyDao.updateJobExecutionId(stale, 7L)).isFalse();
+        assertThat(jobLaunchKeyDao.remove(stale)).isFalse();
+        assertThat(jobLaunchKeyDao.get("takeOver").getJobExecutionId()).isNull();
+        assertThat(jobLaunchKeyDao.updateJobExecutionId(jobLaunchKey, 42L)).isTrue();
+        assertThat(jobLaunchKeyDao.takeOver(jobLaunchKeyDao.get("takeOver"),
+                createJobLaunchKey("takeOver", new Date()))).isFalse();
+        assertThat(jobLaunchKeyDao.remove(jobLaunchKey)).isTrue();
+    }
+
+    private static JobLaunchKey createJobLaunchKey(final String key, final Date createTime) {
+        final JobLaunchKey jobLaunchKey = new JobLaunchKey();
+        jobLaunchKey.setKey(key);
+        jobLaunchKey.setJobName("simpleJob");
+        jobLaunchKey.setCreateTime(createTime);
+        return jobLaunchKey;
+    }
+}
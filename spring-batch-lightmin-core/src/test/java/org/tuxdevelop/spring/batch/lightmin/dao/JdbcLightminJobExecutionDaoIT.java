@@ -2,18 +2,26 @@ package org.tuxdevelop.spring.batch.lightmin.dao;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.support.DatabaseType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.tuxdevelop.test.configuration.ITPersistenceConfiguration;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,6 +46,9 @@ public class JdbcLightminJobExecutionDaoIT {
     @Autowired
     private JobLauncher jobLauncher;
 
+    @Autowired
+    private JobRepository jobRepository;
+
     @Test
     public void getJobExecutionCountIT() {
         init();
@@ -98,6 +109,319 @@ public class JdbcLightminJobExecutionDaoIT {
         }
     }
 
+    @Test
+    public void getJobExecutionsJobParametersIT() throws Exception {
+        final int count = 5;
+        for (long i = 0; i < count; i++) {
+            jobLauncher.run(simpleJob, new JobParametersBuilder()
+                    .addLong("index", i)
+                    .addString("name", "value" + i)
+                    .toJobParameters());
+        }
+        final List<JobExecution> jobExecutions = jdbcLightminJobExecutionDao.getJobExecutions("simpleJob", 0, count);
+        assertThat(jobExecutions).hasSize(count);
+        for (final JobExecution jobExecution : jobExecutions) {
+            final JobExecution fromRepo = jobExplorer.getJobExecution(jobExecution.getId());
+            assertThat(jobExecution.getJobParameters()).isEqualTo(fromRepo.getJobParameters());
+        }
+        assertThat(jobExecutions.get(0).getJobParameters()).isNotEqualTo(jobExecutions.get(1).getJobParameters());
+    }
+
+    @Test
+    public void findJobExecutionsAfterIT() {
+        init();
+        final int count = 3;
+        final JobInstance jobInstance = jobExplorer.getJobInstance(1L);
+        final List<JobExecution> firstPage = jdbcLightminJobExecutionDao.findJobExecutionsAfter(jobInstance, null,
+                count);
+        assertThat(firstPage).isEqualTo(jdbcLightminJobExecutionDao.findJobExecutions(jobInstance, 0, count));
+        final Long lastJobExecutionId = firstPage.get(count - 1).getId();
+        final List<JobExecution> secondPage = jdbcLightminJobExecutionDao.findJobExecutionsAfter(jobInstance,
+                lastJobExecutionId, count);
+        assertThat(secondPage).hasSize(count);
+        assertThat(secondPage).isEqualTo(jdbcLightminJobExecutionDao.findJobExecutions(jobInstance, count, count));
+        for (final JobExecution jobExecution : secondPage) {
+            assertThat(jobExecution.getId()).isLessThan(lastJobExecutionId);
+            assertThat(jobExecution.getJobInstance()).isEqualTo(jobInstance);
+        }
+    }
+
+    @Test
+    public void getJobInstancesAfterIT() throws Exception {
+        for (long i = 0; i < 3; i++) {
+            jobLauncher.run(simpleJob, new JobParametersBuilder().addLong("instance", i).toJobParameters());
+        }
+        final List<JobInstance> firstPage = jdbcLightminJobExecutionDao.getJobInstancesAfter("simpleJob", null, 2);
+        assertThat(firstPage).isEqualTo(jobExplorer.getJobInstances("simpleJob", 0, 2));
+        final List<JobInstance> secondPage = jdbcLightminJobExecutionDao.getJobInstancesAfter("simpleJob",
+                firstPage.get(1).getId(), 2);
+        assertThat(secondPage).isNotEmpty();
+        assertThat(secondPage).isEqualTo(jobExplorer.getJobInstances("simpleJob", 2, 2));
+    }
+
+    @Test
+    public void getJobInstanceIT() {
+        init();
+        final JobInstance jobInstance = jdbcLightminJobExecutionDao.getJobInstance(1L);
+        assertThat(jobInstance).isEqualTo(jobExplorer.getJobInstance(1L));
+        assertThat(jdbcLightminJobExecutionDao.getJobInstance(Long.MAX_VALUE)).isNull();
+    }
+
+    @Test
+    public void getJobInstancesIT() {
+        init();
+        assertThat(jdbcLightminJobExecutionDao.getJobInstances("simpleJob", 0, 3))
+                .isEqualTo(jobExplorer.getJobInstances("simpleJob", 0, 3));
+        assertThat(jdbcLightminJobExecutionDao.getJobInstances("simpleJob", 3, 3))
+                .isEqualTo(jobExplorer.getJobInstances("simpleJob", 3, 3));
+        assertThat(jdbcLightminJobExecutionDao.getJobInstances("notExisting", 0, 3)).isEmpty();
+    }
+
+    @Test
+    public void getJobInstanceCountIT() throws Exception {
+        init();
+        assertThat(jdbcLightminJobExecutionDao.getJobInstanceCount("simpleJob"))
+                .isEqualTo(jobExplorer.getJobInstanceCount("simpleJob"));
+        assertThat(jdbcLightminJobExecutionDao.getJobInstanceCount("notExisting")).isEqualTo(0);
+    }
+
+    @Test
+    public void getJobExecutionIT() {
+        init();
+        final JobExecution jobExecution = jdbcLightminJobExecutionDao.getJobExecution(1L);
+        final JobExecution fromRepo = jobExplorer.getJobExecution(1L);
+        assertThat(jobExecution).isEqualTo(fromRepo);
+        assertThat(jobExecution.getJobInstance()).isEqualTo(fromRepo.getJobInstance());
+        assertThat(jobExecution.getStepExecutions()).hasSameSizeAs(fromRepo.getStepExecutions());
+        assertThat(jdbcLightminJobExecutionDao.getJobExecution(Long.MAX_VALUE)).isNull();
+    }
+
+    @Test
+    public void attachStepExecutionsIT() {
+        init();
+        final JobInstance jobInstance = jobExplorer.getJobInstance(1L);
+        final List<JobExecution> jobExecutions = jdbcLightminJobExecutionDao.findJobExecutions(jobInstance, 0, 5);
+        jdbcLightminJobExecutionDao.attachStepExecutions(jobExecutions);
+        for (final JobExecution jobExecution : jobExecutions) {
+            final JobExecution fromRepo = jobExplorer.getJobExecution(jobExecution.getId());
+            assertThat(jobExecution.getStepExecutions()).isNotEmpty();
+            assertThat(jobExecution.getStepExecutions()).hasSameSizeAs(fromRepo.getStepExecutions());
+            for (final StepExecution stepExecution : jobExecution.getStepExecutions()) {
+                assertThat(stepExecution.getJobExecutionId()).isEqualTo(jobExecution.getId());
+                assertThat(fromRepo.getStepExecutions()).contains(stepExecution);
+            }
+        }
+    }
+
+    @Test
+    public void getJobExecutionsWithStepExecutionsIT() {
+        init();
+        final JobInstance jobInstance = jobExplorer.getJobInstance(1L);
+        final List<Long> jobExecutionIds = new ArrayList<>();
+        for (final JobExecution jobExecution : jdbcLightminJobExecutionDao.findJobExecutions(jobInstance, 0, 5)) {
+            jobExecutionIds.add(jobExecution.getId());
+        }
+        jobExecutionIds.add(Long.MAX_VALUE);
+        final List<JobExecution> jobExecutions =
+                jdbcLightminJobExecutionDao.getJobExecutionsWithStepExecutions(jobExecutionIds);
+        assertThat(jobExecutions).hasSize(jobExecutionIds.size() - 1);
+        for (final JobExecution jobExecution : jobExecutions) {
+            final JobExecution fromRepo = jobExplorer.getJobExecution(jobExecution.getId());
+            assertThat(jobExecution.getJobInstance()).isEqualTo(fromRepo.getJobInstance());
+            assertThat(jobExecution.getJobInstance().getVersion()).isEqualTo(fromRepo.getJobInstance().getVersion());
+            assertThat(jobExecution.getJobParameters()).isEqualTo(fromRepo.getJobParameters());
+            assertThat(jobExecution.getStepExecutions()).isNotEmpty();
+            assertThat(jobExecution.getStepExecutions()).hasSameSizeAs(fromRepo.getStepExecutions());
+        }
+    }
+
+    @Test
+    public void getSerializedExecutionContextIT() throws Exception {
+        final JobExecution launched = jobLauncher.run(simpleJob, new JobParametersBuilder()
+                .addLong("context", System.currentTimeMillis()).toJobParameters());
+        final SerializedExecutionContext jobExecutionContext =
+                jdbcLightminJobExecutionDao.getJobExecutionContext(launched.getId(), 1024);
+        assertThat(jobExecutionContext.getContent()).isNotEmpty();
+        assertThat(jobExecutionContext.isTruncated()).isFalse();
+        final StepExecution stepExecution = launched.getStepExecutions().iterator().next();
+        final SerializedExecutionContext stepExecutionContext =
+                jdbcLightminJobExecutionDao.getStepExecutionContext(launched.getId(), stepExecution.getId(), 1);
+        assertThat(stepExecutionContext.getContent()).hasSize(1);
+        assertThat(stepExecutionContext.isTruncated()).isTrue();
+        assertThat(jdbcLightminJobExecutionDao.getStepExecutionContext(Long.MAX_VALUE, stepExecution.getId(), 1))
+                .isNull();
+        assertThat(jdbcLightminJobExecutionDao.getJobExecutionContext(Long.MAX_VALUE, 1)).isNull();
+    }
+
+    @Test
+    public void searchJobExecutionsIT() throws Exception {
+        final Date before = new Date(System.currentTimeMillis() - 1000);
+        for (long i = 0; i < 3; i++) {
+            jobLauncher.run(simpleJob, new JobParametersBuilder()
+                    .addString("search", "searchJobExecutionsIT")
+                    .addLong("index", i)
+                    .toJobParameters());
+        }
+        final JobExecutionSearchCriteria criteria = new JobExecutionSearchCriteria();
+        criteria.setJobName("simpleJob");
+        criteria.getStatuses().add(BatchStatus.COMPLETED);
+        criteria.setExitCode(ExitStatus.COMPLETED.getExitCode());
+        criteria.setStartTimeFrom(before);
+        criteria.setJobParameters(new JobParametersBuilder().addString("search", "searchJobExecutionsIT")
+                .toJobParameters());
+        final List<JobExecution> firstPage = jdbcLightminJobExecutionDao.searchJobExecutions(criteria, null, 2);
+        assertThat(firstPage).hasSize(2);
+        final List<JobExecution> secondPage = jdbcLightminJobExecutionDao.searchJobExecutions(criteria,
+                firstPage.get(1).getId(), 2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage.get(0).getId()).isLessThan(firstPage.get(1).getId());
+        assertThat(secondPage.get(0).getJobInstance().getJobName()).isEqualTo("simpleJob");
+        assertThat(secondPage.get(0).getJobParameters().getLong("index")).isEqualTo(0L);
+
+        criteria.setJobParameters(new JobParametersBuilder().addString("search", "searchJobExecutionsIT")
+                .addLong("index", 1L).toJobParameters());
+        final List<JobExecution> byLongParameter = jdbcLightminJobExecutionDao.searchJobExecutions(criteria, null, 10);
+        assertThat(byLongParameter).hasSize(1);
+        assertThat(byLongParameter.get(0).getJobParameters().getLong("index")).isEqualTo(1L);
+
+        criteria.getStatuses().clear();
+        criteria.getStatuses().add(BatchStatus.FAILED);
+        assertThat(jdbcLightminJobExecutionDao.searchJobExecutions(criteria, null, 10)).isEmpty();
+
+        final JobExecutionSearchCriteria timeWindowCriteria = new JobExecutionSearchCriteria();
+        timeWindowCriteria.setEndTimeTo(before);
+        timeWindowCriteria.setJobParameters(new JobParametersBuilder().addString("search", "searchJobExecutionsIT")
+                .toJobParameters());
+        assertThat(jdbcLightminJobExecutionDao.searchJobExecutions(timeWindowCriteria, null, 10)).isEmpty();
+    }
+
+    @Test
+    public void streamJobExecutionsIT() throws Exception {
+        for (long i = 0; i < 3; i++) {
+            jobLauncher.run(simpleJob, new JobParametersBuilder()
+                    .addString("stream", "streamJobExecutionsIT")
+                    .addLong("index", i)
+                    .toJobParameters());
+        }
+        final JobExecutionSearchCriteria criteria = new JobExecutionSearchCriteria();
+        criteria.setJobName("simpleJob");
+        criteria.setJobParameters(new JobParametersBuilder().addString("stream", "streamJobExecutionsIT")
+                .toJobParameters());
+        final List<JobExecution> streamed = new ArrayList<>();
+        jdbcLightminJobExecutionDao.streamJobExecutions(criteria, new JobExecutionCallback() {
+            @Override
+            public void doWithJobExecution(final JobExecution jobExecution) {
+                streamed.add(jobExecution);
+            }
+        });
+        assertThat(streamed).hasSize(3);
+        for (int i = 0; i < 3; i++) {
+            assertThat(streamed.get(i).getJobInstance().getJobName()).isEqualTo("simpleJob");
+            assertThat(streamed.get(i).getStatus()).isEqualTo(BatchStatus.COMPLETED);
+            assertThat(streamed.get(i).getJobParameters().getParameters()).hasSize(2);
+            assertThat(streamed.get(i).getJobParameters().getLong("index")).isEqualTo(2L - i);
+        }
+    }
+
+    @Test
+    public void getExecutionStatisticsIT() throws Exception {
+        Date before = null;
+        for (long i = 0; i < 3; i++) {
+            final JobExecution jobExecution = jobLauncher.run(simpleJob, new JobParametersBuilder()
+                    .addString("statistics", "getExecutionStatisticsIT")
+                    .addLong("index", i)
+                    .toJobParameters());
+            if (before == null) {
+                before = jobExecution.getStartTime();
+            }
+        }
+        final Date after = new Date(System.currentTimeMillis() + 1000);
+        final ExecutionStatistics executionStatistics = jdbcLightminJobExecutionDao.getExecutionStatistics(
+                "simpleJob", before, after);
+        assertThat(executionStatistics.getName()).isEqualTo("simpleJob");
+        assertThat(executionStatistics.getExecutionCount()).isEqualTo(3);
+        assertThat(executionStatistics.getCompletedCount()).isEqualTo(3);
+        assertThat(executionStatistics.getDurationP50()).isLessThanOrEqualTo(executionStatistics.getDurationP95());
+        assertThat(executionStatistics.getDurationP95()).isLessThanOrEqualTo(executionStatistics.getDurationP99());
+        assertThat(executionStatistics.getDurationP99()).isLessThanOrEqualTo(executionStatistics.getTotalDuration());
+        assertThat(executionStatistics.getStepStatistics()).hasSize(1);
+        final ExecutionStatistics stepStatistics = executionStatistics.getStepStatistics().get(0);
+        assertThat(stepStatistics.getName()).isEqualTo("simpleStep");
+        assertThat(stepStatistics.getExecutionCount()).isEqualTo(3);
+        assertThat(stepStatistics.getCompletedCount()).isEqualTo(3);
+        assertThat(stepStatistics.getReadCount()).isEqualTo(stepStatistics.getWriteCount());
+        assertThat(executionStatistics.getReadCount()).isEqualTo(stepStatistics.getReadCount());
+
+        final ExecutionStatistics emptyStatistics = jdbcLightminJobExecutionDao.getExecutionStatistics("simpleJob",
+                after, new Date(after.getTime() + 1000));
+        assertThat(emptyStatistics.getExecutionCount()).isEqualTo(0);
+        assertThat(emptyStatistics.getDurationP99()).isEqualTo(0L);
+        assertThat(emptyStatistics.getStepStatistics()).isEmpty();
+    }
+
+    @Test
+    public void deleteJobExecutionsIT() throws Exception {
+        for (long i = 0; i < 3; i++) {
+            jobLauncher.run(simpleJob, new JobParametersBuilder()
+                    .addString("delete", "deleteJobExecutionsIT")
+                    .addLong("index", i)
+                    .toJobParameters());
+        }
+        final JobExecutionSearchCriteria criteria = new JobExecutionSearchCriteria();
+        criteria.setJobParameters(new JobParametersBuilder().addString("delete", "deleteJobExecutionsIT")
+                .toJobParameters());
+        final List<Long> jobExecutionIds = jdbcLightminJobExecutionDao.findJobExecutionIds(criteria, null, 2);
+        assertThat(jobExecutionIds).hasSize(2);
+        assertThat(jobExecutionIds.get(0)).isGreaterThan(jobExecutionIds.get(1));
+        final List<Long> remainingJobExecutionIds = jdbcLightminJobExecutionDao.findJobExecutionIds(criteria,
+                jobExecutionIds.get(1), 2);
+        assertThat(remainingJobExecutionIds).hasSize(1);
+
+        final PurgeCount purgeCount = jdbcLightminJobExecutionDao.deleteJobExecutions(jobExecutionIds);
+        assertThat(purgeCount.getJobExecutionCount()).isEqualTo(2L);
+        assertThat(purgeCount.getStepExecutionCount()).isEqualTo(2L);
+        assertThat(purgeCount.getJobInstanceCount()).isEqualTo(2L);
+        for (final Long jobExecutionId : jobExecutionIds) {
+            assertThat(jobExplorer.getJobExecution(jobExecutionId)).isNull();
+        }
+        assertThat(jdbcLightminJobExecutionDao.findJobExecutionIds(criteria, null, 10))
+                .isEqualTo(remainingJobExecutionIds);
+        assertThat(jobExplorer.getJobExecution(remainingJobExecutionIds.get(0)).getStepExecutions()).hasSize(1);
+    }
+
+    @Test
+    public void deleteJobExecutionsRestartedJobInstanceIT() throws Exception {
+        final List<JobExecution> jobExecutions = createRestartedJobInstance("deleteRestartedCompleted");
+        final PurgeCount purgeCount = jdbcLightminJobExecutionDao.deleteJobExecutions(
+                Collections.singletonList(jobExecutions.get(1).getId()));
+        assertThat(purgeCount.getJobExecutionCount()).isEqualTo(2L);
+        assertThat(purgeCount.getJobInstanceCount()).isEqualTo(1L);
+        for (final JobExecution jobExecution : jobExecutions) {
+            assertThat(jobExplorer.getJobExecution(jobExecution.getId())).isNull();
+        }
+        assertThat(jobExplorer.getJobInstance(jobExecutions.get(0).getJobId())).isNull();
+    }
+
+    @Test
+    public void deleteJobExecutionsFailedExecutionOfRestartedJobInstanceIT() throws Exception {
+        final List<JobExecution> jobExecutions = createRestartedJobInstance("deleteRestartedFailed");
+        final PurgeCount purgeCount = jdbcLightminJobExecutionDao.deleteJobExecutions(
+                Collections.singletonList(jobExecutions.get(0).getId()));
+        assertThat(purgeCount.getJobExecutionCount()).isEqualTo(1L);
+        assertThat(purgeCount.getJobInstanceCount()).isEqualTo(0L);
+        assertThat(jobExplorer.getJobExecution(jobExecutions.get(0).getId())).isNull();
+        assertThat(jobExplorer.getJobExecution(jobExecutions.get(1).getId()).getStatus())
+                .isEqualTo(BatchStatus.COMPLETED);
+    }
+
+    @Test
+    public void getStreamFetchSizeIT() {
+        assertThat(JdbcLightminJobExecutionDao.getStreamFetchSize(DatabaseType.MYSQL.name()))
+                .isEqualTo(Integer.MIN_VALUE);
+        assertThat(JdbcLightminJobExecutionDao.getStreamFetchSize(DatabaseType.H2.name()))
+                .isEqualTo(JdbcLightminJobExecutionDao.STREAM_FETCH_SIZE);
+    }
+
     @Test
     public void findJobExecutionsEmptyIT() {
         init();
@@ -107,6 +431,25 @@ public class JdbcLightminJobExecutionDaoIT {
         assertThat(jobExecutions).isEmpty();
     }
 
+    /*
+     * creates a failed execution and its completed restart
+     */
+    private List<JobExecution> createRestartedJobInstance(final String name) throws Exception {
+        final List<JobExecution> jobExecutions = new ArrayList<>();
+        for (final BatchStatus batchStatus : new BatchStatus[]{BatchStatus.FAILED, BatchStatus.COMPLETED}) {
+            final JobExecution jobExecution = jobRepository.createJobExecution(simpleJob.getName(),
+                    new JobParametersBuilder().addString("restart", name).toJobParameters());
+            jobExecution.setStartTime(new Date());
+            jobExecution.setEndTime(new Date());
+            jobExecution.setStatus(batchStatus);
+            jobExecution.setExitStatus(new ExitStatus(batchStatus.name()));
+            jobRepository.update(jobExecution);
+            jobExecutions.add(jobExecution);
+        }
+        assertThat(jobExecutions.get(1).getJobId()).isEqualTo(jobExecutions.get(0).getJobId());
+        return jobExecutions;
+    }
+
     private void init() {
         try {
             for (int i = 0; i < JOB_EXECUTION_COUNT; i++) {
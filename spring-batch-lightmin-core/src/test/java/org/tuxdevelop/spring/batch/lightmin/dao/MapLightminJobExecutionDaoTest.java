@@ -2,18 +2,27 @@ package org.tuxdevelop.spring.batch.lightmin.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.explore.support.MapJobExplorerFactoryBean;
+import org.springframework.batch.core.repository.dao.ExecutionContextDao;
 import org.springframework.batch.core.repository.dao.JobExecutionDao;
 import org.springframework.batch.core.repository.dao.JobInstanceDao;
+import org.springframework.batch.core.repository.dao.StepExecutionDao;
 import org.springframework.batch.core.repository.support.MapJobRepositoryFactoryBean;
+import org.springframework.batch.item.ExecutionContext;
 import org.tuxdevelop.spring.batch.lightmin.TestHelper;
 
 public class MapLightminJobExecutionDaoTest {
@@ -24,6 +33,8 @@ public class MapLightminJobExecutionDaoTest {
     private JobExplorer jobExplorer;
     private JobExecutionDao jobExecutionDao;
     private JobInstanceDao jobInstanceDao;
+    private StepExecutionDao stepExecutionDao;
+    private ExecutionContextDao executionContextDao;
     private JobInstance jobInstance;
 
     @Test
@@ -39,6 +50,39 @@ public class MapLightminJobExecutionDaoTest {
         assertThat(count).isEqualTo(0);
     }
 
+    @Test
+    public void getJobExecutionCountNewJobExecutionTest() {
+        assertThat(mapLightminJobExecutionDao.getJobExecutionCount(jobInstance)).isEqualTo(JOB_EXECUTION_COUNT);
+        final JobExecution jobExecution = TestHelper.createJobExecution(null);
+        jobExecution.setJobInstance(jobInstance);
+        jobExecutionDao.saveJobExecution(jobExecution);
+        assertThat(mapLightminJobExecutionDao.getJobExecutionCount(jobInstance)).isEqualTo(JOB_EXECUTION_COUNT);
+        mapLightminJobExecutionDao.beforeJob(jobExecution);
+        assertThat(mapLightminJobExecutionDao.getJobExecutionCount(jobInstance)).isEqualTo(JOB_EXECUTION_COUNT + 1);
+        final List<JobExecution> jobExecutions = mapLightminJobExecutionDao.getJobExecutions(jobInstance.getJobName(),
+                0, 1);
+        assertThat(jobExecutions).hasSize(1);
+        assertThat(jobExecutions.get(0).getId()).isEqualTo(jobExecution.getId());
+    }
+
+    @Test
+    public void beforeJobIndexesCreatedJobExecutionsTest() {
+        final JobExecution createdJobExecution = TestHelper.createJobExecution(null);
+        createdJobExecution.setJobInstance(jobInstance);
+        jobExecutionDao.saveJobExecution(createdJobExecution);
+        final JobExecution startedJobExecution = TestHelper.createJobExecution(null);
+        startedJobExecution.setJobInstance(jobInstance);
+        jobExecutionDao.saveJobExecution(startedJobExecution);
+        mapLightminJobExecutionDao.beforeJob(startedJobExecution);
+        mapLightminJobExecutionDao.beforeJob(createdJobExecution);
+        final List<JobExecution> jobExecutions = mapLightminJobExecutionDao.getJobExecutions(jobInstance.getJobName(),
+                0, 2);
+        assertThat(jobExecutions).hasSize(2);
+        assertThat(jobExecutions.get(0).getId()).isEqualTo(startedJobExecution.getId());
+        assertThat(jobExecutions.get(1).getId()).isEqualTo(createdJobExecution.getId());
+        assertThat(mapLightminJobExecutionDao.getJobExecutionCount(jobInstance)).isEqualTo(JOB_EXECUTION_COUNT + 2);
+    }
+
     @Test
     public void findJobExecutionsIT() {
         final List<JobExecution> jobExecutions = mapLightminJobExecutionDao.findJobExecutions(jobInstance, 0,
@@ -75,6 +119,17 @@ public class MapLightminJobExecutionDaoTest {
         }
     }
 
+    @Test
+    public void getJobExecutionsOffsetTest() {
+        final List<JobExecution> allJobExecutions = mapLightminJobExecutionDao.getJobExecutions(
+                jobInstance.getJobName(), 0, JOB_EXECUTION_COUNT);
+        final List<JobExecution> jobExecutions = mapLightminJobExecutionDao.getJobExecutions(
+                jobInstance.getJobName(), 7, 5);
+        assertThat(jobExecutions).isEqualTo(allJobExecutions.subList(7, JOB_EXECUTION_COUNT));
+        assertThat(mapLightminJobExecutionDao.getJobExecutions(jobInstance.getJobName(), JOB_EXECUTION_COUNT + 1,
+                5)).isEmpty();
+    }
+
     @Test
     public void findJobExecutionsEmptyIT() {
         final JobInstance jobInstance = new JobInstance(9999L, "notExisting");
@@ -83,12 +138,205 @@ public class MapLightminJobExecutionDaoTest {
         assertThat(jobExecutions).isEmpty();
     }
 
+    @Test
+    public void findJobExecutionsAfterTest() {
+        final int count = 3;
+        final List<JobExecution> firstPage = mapLightminJobExecutionDao.findJobExecutionsAfter(jobInstance, null,
+                count);
+        assertThat(firstPage).isEqualTo(mapLightminJobExecutionDao.findJobExecutions(jobInstance, 0, count));
+        final List<JobExecution> secondPage = mapLightminJobExecutionDao.findJobExecutionsAfter(jobInstance,
+                firstPage.get(count - 1).getId(), count);
+        assertThat(secondPage).isEqualTo(mapLightminJobExecutionDao.findJobExecutions(jobInstance, count, count));
+    }
+
+    @Test
+    public void getJobInstancesAfterTest() {
+        final JobInstance otherJobInstance = jobInstanceDao.createJobInstance("someJob",
+                new JobParametersBuilder().addLong("other", 1L).toJobParameters());
+        final List<JobInstance> firstPage = mapLightminJobExecutionDao.getJobInstancesAfter("someJob", null, 1);
+        assertThat(firstPage).containsExactly(otherJobInstance);
+        final List<JobInstance> secondPage = mapLightminJobExecutionDao.getJobInstancesAfter("someJob",
+                otherJobInstance.getId(), 1);
+        assertThat(secondPage).containsExactly(jobInstance);
+    }
+
+    @Test
+    public void getJobInstanceTest() {
+        assertThat(mapLightminJobExecutionDao.getJobInstance(jobInstance.getId())).isEqualTo(jobInstance);
+        assertThat(mapLightminJobExecutionDao.getJobInstance(9999L)).isNull();
+    }
+
+    @Test
+    public void getJobInstancesTest() {
+        final JobInstance otherJobInstance = jobInstanceDao.createJobInstance("someJob",
+                new JobParametersBuilder().addLong("other", 1L).toJobParameters());
+        assertThat(mapLightminJobExecutionDao.getJobInstances("someJob", 0, 2))
+                .containsExactly(otherJobInstance, jobInstance);
+        assertThat(mapLightminJobExecutionDao.getJobInstances("someJob", 1, 2)).containsExactly(jobInstance);
+    }
+
+    @Test
+    public void getJobInstanceCountTest() {
+        assertThat(mapLightminJobExecutionDao.getJobInstanceCount("someJob")).isEqualTo(1);
+        assertThat(mapLightminJobExecutionDao.getJobInstanceCount("notExisting")).isEqualTo(0);
+    }
+
+    @Test
+    public void getJobExecutionTest() {
+        final JobExecution jobExecution = mapLightminJobExecutionDao.getJobExecutions(jobInstance.getJobName(), 0, 1)
+                .get(0);
+        assertThat(mapLightminJobExecutionDao.getJobExecution(jobExecution.getId())).isEqualTo(jobExecution);
+        assertThat(mapLightminJobExecutionDao.getJobExecution(9999L)).isNull();
+    }
+
+    @Test
+    public void searchJobExecutionsTest() {
+        final List<JobExecution> jobExecutions = mapLightminJobExecutionDao.getJobExecutions(jobInstance.getJobName(),
+                0, JOB_EXECUTION_COUNT);
+        final JobExecution failedJobExecution = jobExecutions.get(3);
+        failedJobExecution.setStatus(BatchStatus.FAILED);
+        failedJobExecution.setExitStatus(ExitStatus.FAILED);
+        jobExecutionDao.updateJobExecution(failedJobExecution);
+        final JobExecutionSearchCriteria criteria = new JobExecutionSearchCriteria();
+        criteria.getStatuses().add(BatchStatus.FAILED);
+        criteria.setExitCode(ExitStatus.FAILED.getExitCode());
+        final List<JobExecution> result = mapLightminJobExecutionDao.searchJobExecutions(criteria, null, 10);
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getId()).isEqualTo(failedJobExecution.getId());
+        assertThat(mapLightminJobExecutionDao.searchJobExecutions(criteria, failedJobExecution.getId(), 10)).isEmpty();
+        criteria.setJobName("otherJob");
+        assertThat(mapLightminJobExecutionDao.searchJobExecutions(criteria, null, 10)).isEmpty();
+    }
+
+    @Test
+    public void searchJobExecutionsPageTest() {
+        final JobExecutionSearchCriteria criteria = new JobExecutionSearchCriteria();
+        criteria.setJobName(jobInstance.getJobName());
+        final List<JobExecution> firstPage = mapLightminJobExecutionDao.searchJobExecutions(criteria, null, 4);
+        assertThat(firstPage).isEqualTo(mapLightminJobExecutionDao.getJobExecutions(jobInstance.getJobName(), 0, 4));
+        final List<JobExecution> secondPage = mapLightminJobExecutionDao.searchJobExecutions(criteria,
+                firstPage.get(3).getId(), 4);
+        assertThat(secondPage).isEqualTo(mapLightminJobExecutionDao.getJobExecutions(jobInstance.getJobName(), 4, 4));
+    }
+
+    @Test
+    public void streamJobExecutionsTest() throws Exception {
+        final JobExecutionSearchCriteria criteria = new JobExecutionSearchCriteria();
+        criteria.setJobName(jobInstance.getJobName());
+        final List<JobExecution> streamed = new ArrayList<>();
+        mapLightminJobExecutionDao.streamJobExecutions(criteria, new JobExecutionCallback() {
+            @Override
+            public void doWithJobExecution(final JobExecution jobExecution) {
+                streamed.add(jobExecution);
+            }
+        });
+        assertThat(streamed).isEqualTo(mapLightminJobExecutionDao.getJobExecutions(jobInstance.getJobName(), 0,
+                Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void getExecutionStatisticsTest() {
+        final List<JobExecution> jobExecutions = mapLightminJobExecutionDao.getJobExecutions(jobInstance.getJobName(),
+                0, JOB_EXECUTION_COUNT);
+        final long now = System.currentTimeMillis();
+        for (int i = 0; i < 4; i++) {
+            final JobExecution jobExecution = jobExecutions.get(i);
+            jobExecution.setStartTime(new Date(now - 1000L * (i + 1)));
+            jobExecution.setEndTime(new Date(now));
+            jobExecution.setStatus(i == 0 ? BatchStatus.FAILED : BatchStatus.COMPLETED);
+            jobExecutionDao.updateJobExecution(jobExecution);
+            final StepExecution stepExecution = jobExplorer.getJobExecution(jobExecution.getId()).getStepExecutions()
+                    .iterator().next();
+            stepExecution.setStartTime(jobExecution.getStartTime());
+            stepExecution.setEndTime(jobExecution.getEndTime());
+            stepExecution.setStatus(jobExecution.getStatus());
+            stepExecution.setReadCount(10);
+            stepExecution.setWriteCount(5);
+            stepExecutionDao.updateStepExecution(stepExecution);
+            mapLightminJobExecutionDao.afterJob(jobExplorer.getJobExecution(jobExecution.getId()));
+        }
+        final ExecutionStatistics executionStatistics = mapLightminJobExecutionDao.getExecutionStatistics(
+                jobInstance.getJobName(), new Date(now - 10000L), new Date(now));
+        assertThat(executionStatistics.getExecutionCount()).isEqualTo(4);
+        assertThat(executionStatistics.getCompletedCount()).isEqualTo(3);
+        assertThat(executionStatistics.getDurationP50()).isEqualTo(2000L);
+        assertThat(executionStatistics.getDurationP95()).isEqualTo(4000L);
+        assertThat(executionStatistics.getDurationP99()).isEqualTo(4000L);
+        assertThat(executionStatistics.getTotalDuration()).isEqualTo(10000L);
+        assertThat(executionStatistics.getReadCount()).isEqualTo(40L);
+        assertThat(executionStatistics.getWriteCount()).isEqualTo(20L);
+        assertThat(executionStatistics.getStepStatistics()).hasSize(1);
+        final ExecutionStatistics stepStatistics = executionStatistics.getStepStatistics().get(0);
+        assertThat(stepStatistics.getName()).isEqualTo("someStep");
+        assertThat(stepStatistics.getExecutionCount()).isEqualTo(4);
+        assertThat(stepStatistics.getReadCount()).isEqualTo(40L);
+
+        final ExecutionStatistics windowStatistics = mapLightminJobExecutionDao.getExecutionStatistics(
+                jobInstance.getJobName(), new Date(now - 2500L), new Date(now));
+        assertThat(windowStatistics.getExecutionCount()).isEqualTo(2);
+        assertThat(mapLightminJobExecutionDao.getExecutionStatistics("otherJob", new Date(now - 10000L),
+                new Date(now)).getExecutionCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void attachStepExecutionsTest() {
+        final List<JobExecution> jobExecutions = mapLightminJobExecutionDao.getJobExecutions(jobInstance.getJobName(),
+                0, 5);
+        mapLightminJobExecutionDao.attachStepExecutions(jobExecutions);
+        for (final JobExecution jobExecution : jobExecutions) {
+            assertThat(jobExecution.getStepExecutions()).hasSize(1);
+            final StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+            assertThat(stepExecution.getStepName()).isEqualTo("someStep");
+            assertThat(stepExecution.getJobExecutionId()).isEqualTo(jobExecution.getId());
+        }
+    }
+
+    @Test
+    public void getJobExecutionsWithStepExecutionsTest() {
+        final List<JobExecution> jobExecutions = mapLightminJobExecutionDao.getJobExecutions(jobInstance.getJobName(),
+                0, 2);
+        final List<JobExecution> result = mapLightminJobExecutionDao.getJobExecutionsWithStepExecutions(
+                Arrays.asList(jobExecutions.get(1).getId(), Long.MAX_VALUE, jobExecutions.get(0).getId()));
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getId()).isEqualTo(jobExecutions.get(0).getId());
+        assertThat(result.get(1).getId()).isEqualTo(jobExecutions.get(1).getId());
+        for (final JobExecution jobExecution : result) {
+            assertThat(jobExecution.getJobInstance().getJobName()).isEqualTo(jobInstance.getJobName());
+            assertThat(jobExecution.getStepExecutions()).hasSize(1);
+        }
+    }
+
+    @Test
+    public void getExecutionContextTest() {
+        final JobExecution jobExecution = mapLightminJobExecutionDao.getJobExecutions(jobInstance.getJobName(), 0, 1)
+                .get(0);
+        final ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putString("file", "input.csv");
+        jobExecution.setExecutionContext(executionContext);
+        executionContextDao.saveExecutionContext(jobExecution);
+        final SerializedExecutionContext jobExecutionContext = mapLightminJobExecutionDao.getJobExecutionContext(
+                jobExecution.getId(), 100);
+        assertThat(jobExecutionContext.getContent()).contains("file=input.csv");
+        assertThat(jobExecutionContext.isTruncated()).isFalse();
+        assertThat(mapLightminJobExecutionDao.getJobExecutionContext(jobExecution.getId(), 4).isTruncated()).isTrue();
+        final StepExecution stepExecution = jobExplorer.getJobExecution(jobExecution.getId()).getStepExecutions()
+                .iterator().next();
+        stepExecution.setExecutionContext(new ExecutionContext());
+        executionContextDao.saveExecutionContext(stepExecution);
+        assertThat(mapLightminJobExecutionDao.getStepExecutionContext(jobExecution.getId(), stepExecution.getId(),
+                100).getContent()).isEqualTo("{}");
+        assertThat(mapLightminJobExecutionDao.getStepExecutionContext(jobExecution.getId(), Long.MAX_VALUE, 100))
+                .isNull();
+    }
+
     @Before
     public void init() throws Exception {
         final MapJobRepositoryFactoryBean mapJobRepositoryFactoryBean = new MapJobRepositoryFactoryBean();
         mapJobRepositoryFactoryBean.getObject();
         jobExecutionDao = mapJobRepositoryFactoryBean.getJobExecutionDao();
         jobInstanceDao = mapJobRepositoryFactoryBean.getJobInstanceDao();
+        stepExecutionDao = mapJobRepositoryFactoryBean.getStepExecutionDao();
+        executionContextDao = mapJobRepositoryFactoryBean.getExecutionContextDao();
         final MapJobExplorerFactoryBean mapJobExplorerFactoryBean = new MapJobExplorerFactoryBean(
                 mapJobRepositoryFactoryBean);
         jobExplorer = mapJobExplorerFactoryBean.getObject();
@@ -99,7 +347,9 @@ public class MapLightminJobExecutionDaoTest {
             jobExecution.setId(null);
             jobExecution.setJobInstance(jobInstance);
             jobExecutionDao.saveJobExecution(jobExecution);
+            stepExecutionDao.saveStepExecution(TestHelper.createStepExecution("someStep", jobExecution));
         }
+        mapLightminJobExecutionDao.beforeJob(jobExecutions.get(jobExecutions.size() - 1));
 
     }
 
@@ -0,0 +1,41 @@
+package org.tuxdevelop.spring.batch.lightmin.dao;
+
+import org.junit.Test;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SerializedExecutionContextTest {
+
+    @Test
+    public void ofTest() {
+        final SerializedExecutionContext serializedExecutionContext = SerializedExecutionContext.of("{}", 2);
+        assertThat(serializedExecutionContext.getContent()).isEqualTo("{}");
+        assertThat(serializedExecutionContext.isTruncated()).isFalse();
+    }
+
+    @Test
+    public void ofTruncatedTest() {
+        final SerializedExecutionContext serializedExecutionContext = SerializedExecutionContext.of("{\"a\":1}", 3);
+        assertThat(serializedExecutionContext.getContent()).isEqualTo("{\"a");
+        assertThat(serializedExecutionContext.isTruncated()).isTrue();
+    }
+
+    @Test
+    public void readTest() throws Exception {
+        final SerializedExecutionContext serializedExecutionContext = SerializedExecutionContext.read(
+                new StringReader("{\"a\":1}"), 7);
+        assertThat(serializedExecutionContext.getContent()).isEqualTo("{\"a\":1}");
+        assertThat(serializedExecutionContext.isTruncated()).isFalse();
+    }
+
+    @Test
+    public void readTruncatedTest() throws Exception {
+        final StringReader reader = new StringReader("{\"a\":1}");
+        final SerializedExecutionContext serializedExecutionContext = SerializedExecutionContext.read(reader, 3);
+        assertThat(serializedExecutionContext.getContent()).isEqualTo("{\"a");
+        assertThat(serializedExecutionContext.isTruncated()).isTrue();
+        assertThat((char) reader.read()).isEqualTo(':');
+    }
+}
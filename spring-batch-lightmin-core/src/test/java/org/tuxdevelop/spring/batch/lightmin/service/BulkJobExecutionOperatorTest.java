@@ -0,0 +1,174 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.NoSuchJobExecutionException;
+import org.springframework.core.task.TaskRejectedException;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidBulkJobExecutionOperationException;
+import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkJobExecutionOperatorTest {
+
+    private static final String JOB_NAME = "someJob";
+
+    @Mock
+    private JobService jobService;
+    @Mock
+    private JobRegistry jobRegistry;
+    @Mock
+    private JobLauncher jobLauncher;
+    @Mock
+    private Job job;
+
+    private BulkJobExecutionOperator bulkJobExecutionOperator;
+
+    @Test
+    public void restartTest() throws Exception {
+        final List<Long> jobExecutionIds = createJobExecutionIds(20);
+        when(jobRegistry.getJob(JOB_NAME)).thenReturn(job);
+        for (final Long jobExecutionId : jobExecutionIds) {
+            when(jobService.getJobExecution(jobExecutionId)).thenReturn(createJobExecution(jobExecutionId));
+        }
+        final BulkJobExecutionOperationStatus started = bulkJobExecutionOperator.start(
+                BulkJobExecutionOperationStatus.Operation.RESTART, jobExecutionIds);
+        assertThat(started.getId()).isNotNull();
+        assertThat(started.getOperation()).isEqualTo(BulkJobExecutionOperationStatus.Operation.RESTART);
+        assertThat(started.getItemCount()).isEqualTo(20);
+        final BulkJobExecutionOperationStatus status = awaitCompletion(started.getId());
+        assertThat(status.getSucceededCount()).isEqualTo(20);
+        assertThat(status.getFailedCount()).isEqualTo(0);
+        assertThat(status.getEndTime()).isNotNull();
+        for (final Long jobExecutionId : jobExecutionIds) {
+            verify(jobLauncher, times(1)).run(job, createJobParameters(jobExecutionId));
+        }
+        verify(jobService, never()).restartJobExecution(anyLong());
+        verify(jobService, never()).stopJobExecution(anyLong());
+    }
+
+    @Test
+    public void restartUnknownJobExecutionTest() throws Exception {
+        final BulkJobExecutionOperationStatus status = awaitCompletion(bulkJobExecutionOperator.start(
+                BulkJobExecutionOperationStatus.Operation.RESTART, Collections.singletonList(1L)).getId());
+        assertThat(status.getFailedCount()).isEqualTo(1);
+        assertThat(status.getItems().get(0).getExitMessage()).contains("1");
+        verifyZeroInteractions(jobLauncher);
+    }
+
+    @Test
+    public void stopFailedItemTest() throws Exception {
+        doThrow(new SpringBatchLightminApplicationException(new NoSuchJobExecutionException("unknown"), "unknown"))
+                .when(jobService).stopJobExecution(2L);
+        final BulkJobExecutionOperationStatus status = awaitCompletion(bulkJobExecutionOperator.start(
+                BulkJobExecutionOperationStatus.Operation.STOP, Arrays.asList(1L, 2L)).getId());
+        assertThat(status.getSucceededCount()).isEqualTo(1);
+        assertThat(status.getFailedCount()).isEqualTo(1);
+        assertThat(status.getItems().get(0).getSucceeded()).isTrue();
+        assertThat(status.getItems().get(1).getSucceeded()).isFalse();
+        assertThat(status.getItems().get(1).getExitMessage()).isEqualTo("unknown");
+    }
+
+    @Test
+    public void startDuplicateIdsTest() throws Exception {
+        final BulkJobExecutionOperationStatus status = awaitCompletion(bulkJobExecutionOperator.start(
+                BulkJobExecutionOperationStatus.Operation.STOP, Arrays.asList(1L, 1L, 2L)).getId());
+        assertThat(status.getItemCount()).isEqualTo(2);
+        verify(jobService, times(1)).stopJobExecution(1L);
+        verify(jobService, times(1)).stopJobExecution(2L);
+    }
+
+    @Test(expected = InvalidBulkJobExecutionOperationException.class)
+    public void startEmptyTest() {
+        bulkJobExecutionOperator.start(BulkJobExecutionOperationStatus.Operation.STOP,
+                Collections.<Long>emptyList());
+    }
+
+    @Test
+    public void startExceedingMaxPendingItemsTest() {
+        try {
+            bulkJobExecutionOperator.start(BulkJobExecutionOperationStatus.Operation.STOP,
+                    createJobExecutionIds(101));
+            fail("InvalidBulkJobExecutionOperationException expected");
+        } catch (final InvalidBulkJobExecutionOperationException e) {
+            verifyZeroInteractions(jobService);
+        }
+    }
+
+    @Test
+    public void startExceedingCapacityTest() throws Exception {
+        final BulkJobExecutionOperator slowOperator = new BulkJobExecutionOperator(jobService, jobRegistry,
+                jobLauncher, 1, 1.0, 3);
+        try {
+            slowOperator.start(BulkJobExecutionOperationStatus.Operation.STOP, createJobExecutionIds(3));
+            slowOperator.start(BulkJobExecutionOperationStatus.Operation.STOP, createJobExecutionIds(2));
+            fail("TaskRejectedException expected");
+        } catch (final TaskRejectedException e) {
+            // the first bulk is still pending because of the rate limit
+        } finally {
+            slowOperator.destroy();
+        }
+    }
+
+    @Test
+    public void getStatusUnknownTest() {
+        assertThat(bulkJobExecutionOperator.getStatus(-1L)).isNull();
+    }
+
+    @Before
+    public void init() {
+        bulkJobExecutionOperator = new BulkJobExecutionOperator(jobService, jobRegistry, jobLauncher, 4,
+                1000.0, 100);
+    }
+
+    @After
+    public void tearDown() {
+        bulkJobExecutionOperator.destroy();
+    }
+
+    private BulkJobExecutionOperationStatus awaitCompletion(final Long id) throws InterruptedException {
+        BulkJobExecutionOperationStatus status = bulkJobExecutionOperator.getStatus(id);
+        for (int i = 0; i < 500 && status.getState() != BulkJobExecutionOperationStatus.State.COMPLETED; i++) {
+            Thread.sleep(10);
+            status = bulkJobExecutionOperator.getStatus(id);
+        }
+        assertThat(status.getState()).isEqualTo(BulkJobExecutionOperationStatus.State.COMPLETED);
+        return status;
+    }
+
+    private static JobExecution createJobExecution(final Long jobExecutionId) {
+        return new JobExecution(new JobInstance(jobExecutionId, JOB_NAME), jobExecutionId,
+                createJobParameters(jobExecutionId), null);
+    }
+
+    private static JobParameters createJobParameters(final Long jobExecutionId) {
+        return new JobParametersBuilder().addLong("run", jobExecutionId).toJobParameters();
+    }
+
+    private static List<Long> createJobExecutionIds(final int count) {
+        final List<Long> jobExecutionIds = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            jobExecutionIds.add(i);
+        }
+        return jobExecutionIds;
+    }
+}
@@ -0,0 +1,150 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.core.task.TaskRejectedException;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidBulkJobLaunchException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkJobLauncherTest {
+
+    private static final String JOB_NAME = "someJob";
+
+    @Mock
+    private JobLauncher jobLauncher;
+    @Mock
+    private JobRegistry jobRegistry;
+    @Mock
+    private Job job;
+
+    private BulkJobLauncher bulkJobLauncher;
+
+    @Test
+    public void launchTest() throws Exception {
+        final AtomicLong sequence = new AtomicLong();
+        when(jobLauncher.run(eq(job), any(JobParameters.class))).thenAnswer(new Answer<JobExecution>() {
+            @Override
+            public JobExecution answer(final InvocationOnMock invocation) throws Throwable {
+                final JobExecution jobExecution = new JobExecution(sequence.incrementAndGet());
+                jobExecution.setStatus(BatchStatus.STARTING);
+                return jobExecution;
+            }
+        });
+        final List<JobParameters> jobParametersList = createJobParametersList(50);
+        final BulkJobLaunchStatus started = bulkJobLauncher.launch(JOB_NAME, jobParametersList);
+        assertThat(started.getId()).isNotNull();
+        assertThat(started.getItemCount()).isEqualTo(50);
+        final BulkJobLaunchStatus status = awaitCompletion(started.getId());
+        assertThat(status.getLaunchedCount()).isEqualTo(50);
+        assertThat(status.getFailedCount()).isEqualTo(0);
+        assertThat(status.getEndTime()).isNotNull();
+        for (final BulkJobLaunchStatus.Item item : status.getItems()) {
+            assertThat(item.getJobExecutionId()).isNotNull();
+            assertThat(item.getStatus()).isEqualTo(BatchStatus.STARTING);
+        }
+        verify(jobRegistry, times(1)).getJob(JOB_NAME);
+        for (final JobParameters jobParameters : jobParametersList) {
+            verify(jobLauncher, times(1)).run(job, jobParameters);
+        }
+    }
+
+    @Test
+    public void launchFailedItemTest() throws Exception {
+        final List<JobParameters> jobParametersList = createJobParametersList(2);
+        when(jobLauncher.run(job, jobParametersList.get(0))).thenReturn(new JobExecution(1L));
+        when(jobLauncher.run(job, jobParametersList.get(1)))
+                .thenThrow(new JobExecutionAlreadyRunningException("already running"));
+        final BulkJobLaunchStatus status = awaitCompletion(bulkJobLauncher.launch(JOB_NAME, jobParametersList).getId());
+        assertThat(status.getLaunchedCount()).isEqualTo(1);
+        assertThat(status.getFailedCount()).isEqualTo(1);
+        assertThat(status.getItems().get(0).getJobExecutionId()).isEqualTo(1L);
+        assertThat(status.getItems().get(1).getJobExecutionId()).isNull();
+        assertThat(status.getItems().get(1).getExitMessage()).isEqualTo("already running");
+    }
+
+    @Test(expected = InvalidBulkJobLaunchException.class)
+    public void launchEmptyTest() {
+        bulkJobLauncher.launch(JOB_NAME, Collections.<JobParameters>emptyList());
+    }
+
+    @Test
+    public void launchUnknownJobTest() throws Exception {
+        when(jobRegistry.getJob("unknownJob")).thenThrow(new NoSuchJobException("unknownJob"));
+        try {
+            bulkJobLauncher.launch("unknownJob", createJobParametersList(1));
+            fail("InvalidBulkJobLaunchException expected");
+        } catch (final InvalidBulkJobLaunchException e) {
+            verifyZeroInteractions(jobLauncher);
+        }
+    }
+
+    @Test
+    public void launchExceedingCapacityTest() {
+        try {
+            bulkJobLauncher.launch(JOB_NAME, createJobParametersList(101));
+            fail("TaskRejectedException expected");
+        } catch (final TaskRejectedException e) {
+            verifyZeroInteractions(jobLauncher);
+        }
+    }
+
+    @Test
+    public void getStatusUnknownTest() {
+        assertThat(bulkJobLauncher.getStatus(-1L)).isNull();
+    }
+
+    @Before
+    public void init() throws Exception {
+        when(jobRegistry.getJob(JOB_NAME)).thenReturn(job);
+        bulkJobLauncher = new BulkJobLauncher(jobLauncher, jobRegistry, 4, 100);
+    }
+
+    @After
+    public void tearDown() {
+        bulkJobLauncher.destroy();
+    }
+
+    private BulkJobLaunchStatus awaitCompletion(final Long id) throws InterruptedException {
+        BulkJobLaunchStatus status = bulkJobLauncher.getStatus(id);
+        for (int i = 0; i < 500 && status.getState() != BulkJobLaunchStatus.State.COMPLETED; i++) {
+            Thread.sleep(10);
+            status = bulkJobLauncher.getStatus(id);
+        }
+        assertThat(status.getState()).isEqualTo(BulkJobLaunchStatus.State.COMPLETED);
+        return status;
+    }
+
+    private static List<JobParameters> createJobParametersList(final int count) {
+        final List<JobParameters> jobParametersList = new ArrayList<>();
+        for (long i = 0; i < count; i++) {
+            jobParametersList.add(new JobParametersBuilder().addLong("tenant", i).toJobParameters());
+        }
+        return jobParametersList;
+    }
+}
@@ -49,17 +49,17 @@ public class DefaultJobServiceTest {
     private LightminJobExecutionDao lightminJobExecutionDao;
 
     @Test
-    public void getJobInstanceCountTest() throws NoSuchJobException {
+    public void getJobInstanceCountTest() {
         final Integer expectedInstanceCount = 10;
-        when(jobExplorer.getJobInstanceCount(JOB_NAME)).thenReturn(expectedInstanceCount);
+        when(lightminJobExecutionDao.getJobInstanceCount(JOB_NAME)).thenReturn(expectedInstanceCount);
         final Integer instanceCount = jobService.getJobInstanceCount(JOB_NAME);
         assertThat(instanceCount).isEqualTo(expectedInstanceCount);
     }
 
     @Test
-    public void getJobInstanceCountNoSuchJobExceptionTest() throws NoSuchJobException {
+    public void getJobInstanceCountNotExistingTest() {
         final Integer expectedInstanceCount = 0;
-        when(jobExplorer.getJobInstanceCount(JOB_NAME)).thenThrow(new NoSuchJobException("TEST"));
+        when(lightminJobExecutionDao.getJobInstanceCount(JOB_NAME)).thenReturn(expectedInstanceCount);
         final Integer instanceCount = jobService.getJobInstanceCount(JOB_NAME);
         assertThat(instanceCount).isEqualTo(expectedInstanceCount);
     }
@@ -89,7 +89,7 @@ public class DefaultJobServiceTest {
 
     @Test
     public void getJobInstancesTest() {
-        when(jobExplorer.getJobInstances(JOB_NAME, 0, 10)).thenReturn(TestHelper.createJobInstances(10, JOB_NAME));
+        when(lightminJobExecutionDao.getJobInstances(JOB_NAME, 0, 10)).thenReturn(TestHelper.createJobInstances(10, JOB_NAME));
         final Collection<JobInstance> jobInstances = jobService.getJobInstances(JOB_NAME, 0, 10);
         assertThat(jobInstances).isNotEmpty();
         assertThat(jobInstances.size()).isEqualTo(10);
@@ -98,7 +98,9 @@ public class DefaultJobServiceTest {
     @Test
     public void getJobExecutionsTest() {
         final JobInstance jobInstance = TestHelper.createJobInstance(1l, JOB_NAME);
-        when(jobExplorer.getJobExecutions(jobInstance)).thenReturn(TestHelper.createJobExecutions(10));
+        when(lightminJobExecutionDao.getJobExecutionCount(jobInstance)).thenReturn(10);
+        when(lightminJobExecutionDao.findJobExecutions(jobInstance, 0, 10))
+                .thenReturn(TestHelper.createJobExecutions(10));
         final Collection<JobExecution> jobExecutions = jobService.getJobExecutions(jobInstance);
         assertThat(jobExecutions).isNotEmpty();
         assertThat(jobExecutions.size()).isEqualTo(10);
@@ -117,16 +119,27 @@ public class DefaultJobServiceTest {
     @Test
     public void getJobExecutionTest() {
         final Long jobExecutionId = 10L;
-        when(jobExplorer.getJobExecution(jobExecutionId)).thenReturn(TestHelper.createJobExecution(jobExecutionId));
+        when(lightminJobExecutionDao.getJobExecution(jobExecutionId))
+                .thenReturn(TestHelper.createJobExecution(jobExecutionId));
         final JobExecution jobExecution = jobService.getJobExecution(jobExecutionId);
         assertThat(jobExecution).isNotNull();
         assertThat(jobExecution.getId()).isEqualTo(jobExecutionId);
     }
 
+    @Test
+    public void getJobExecutionsWithStepExecutionsTest() {
+        final List<Long> jobExecutionIds = Arrays.asList(10L, 11L);
+        when(lightminJobExecutionDao.getJobExecutionsWithStepExecutions(jobExecutionIds))
+                .thenReturn(Arrays.asList(TestHelper.createJobExecution(11L), TestHelper.createJobExecution(10L)));
+        final List<JobExecution> jobExecutions = jobService.getJobExecutionsWithStepExecutions(jobExecutionIds);
+        assertThat(jobExecutions).hasSize(2);
+        verify(lightminJobExecutionDao, times(1)).getJobExecutionsWithStepExecutions(jobExecutionIds);
+    }
+
     @Test
     public void getJobInstanceTest() {
         final Long jobInstanceId = 20L;
-        when(jobExplorer.getJobInstance(jobInstanceId)).thenReturn(
+        when(lightminJobExecutionDao.getJobInstance(jobInstanceId)).thenReturn(
                 TestHelper.createJobInstance(jobInstanceId, JOB_NAME));
         final JobInstance jobInstance = jobService.getJobInstance(jobInstanceId);
         assertThat(jobInstance).isNotNull();
@@ -139,7 +152,7 @@ public class DefaultJobServiceTest {
         final JobExecution jobExecution = TestHelper.createJobExecution(10L);
         final JobInstance jobInstance = TestHelper.createJobInstance(20L, JOB_NAME);
         jobExecution.setJobInstance(jobInstance);
-        when(jobExplorer.getJobInstance(jobExecution.getJobInstance().getId())).thenReturn(jobInstance);
+        when(lightminJobExecutionDao.getJobInstance(jobExecution.getJobInstance().getId())).thenReturn(jobInstance);
         jobService.attachJobInstance(jobExecution);
         assertThat(jobExecution.getJobInstance()).isEqualTo(jobInstance);
     }
@@ -3,12 +3,14 @@ package org.tuxdevelop.spring.batch.lightmin.service;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.configuration.JobRegistry;
 import org.springframework.batch.core.launch.JobLauncher;
@@ -22,9 +24,11 @@ import org.tuxdevelop.spring.batch.lightmin.admin.domain.*;
 import org.tuxdevelop.spring.batch.lightmin.admin.listener.FolderListener;
 import org.tuxdevelop.spring.batch.lightmin.util.BeanRegistrar;
 
+import java.util.Date;
 import java.util.Map;
 import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Fail.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
@@ -59,6 +63,24 @@ public class DefaultListenerServiceTest {
         verify(beanRegistrar, times(1)).registerBean(any(Class.class), anyString(), any(Set.class), any(Set.class), any(Map.class), any(Map.class), any(Set.class));
     }
 
+    @Test
+    public void testRegisterListenerForJobParametersTemplate() throws NoSuchJobException {
+        final JobListenerConfiguration jobListenerConfiguration = TestHelper.createJobListenerConfiguration
+                ("src/test/", "*.txt", JobListenerType.LOCAL_FOLDER_LISTENER);
+        jobListenerConfiguration.setBeanName("testBean");
+        final JobConfiguration jobConfiguration = TestHelper.createJobConfiguration(jobListenerConfiguration);
+        jobConfiguration.getJobParameters().put("day", "${today-1d}");
+        listenerService.registerListenerForJob(jobConfiguration);
+        final ArgumentCaptor<Set> constructorValues = ArgumentCaptor.forClass(Set.class);
+        verify(beanRegistrar, times(1)).registerBean(any(Class.class), anyString(), constructorValues.capture(),
+                any(Set.class), any(Map.class), any(Map.class), any(Set.class));
+        final ListenerConstructorWrapper listenerConstructorWrapper =
+                (ListenerConstructorWrapper) constructorValues.getValue().iterator().next();
+        final JobParameters jobParameters = listenerConstructorWrapper.getJobParametersTemplate().evaluate();
+        assertThat(jobParameters.getParameters().get("day").getValue()).isInstanceOf(Date.class);
+        assertThat(jobParameters.getLong(JobIncrementer.DATE.getIncrementerIdentifier())).isPositive();
+    }
+
     @Test
     public void testUnregisterListenerForJob() {
         final String beanName = "testBean";
@@ -117,7 +139,8 @@ public class DefaultListenerServiceTest {
     @Before
     public void init() {
         MockitoAnnotations.initMocks(this);
-        listenerService = new DefaultListenerService(beanRegistrar, jobRegistry, jobRepository);
+        listenerService = new DefaultListenerService(beanRegistrar, jobRegistry,
+                new JobLauncherRegistry(jobRepository, 1));
         ReflectionTestUtils.setField(listenerService, "applicationContext", applicationContext);
         job = TestHelper.createJob("testJob");
         jobLauncher = new SimpleJobLauncher();
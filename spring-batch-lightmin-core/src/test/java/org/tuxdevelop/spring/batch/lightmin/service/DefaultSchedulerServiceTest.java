@@ -3,13 +3,18 @@ package org.tuxdevelop.spring.batch.lightmin.service;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.NoSuchJobException;
 import org.springframework.batch.core.launch.support.SimpleJobLauncher;
 import org.springframework.batch.core.repository.JobRepository;
@@ -17,15 +22,21 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.tuxdevelop.spring.batch.lightmin.TestHelper;
 import org.tuxdevelop.spring.batch.lightmin.admin.domain.*;
+import org.tuxdevelop.spring.batch.lightmin.admin.scheduler.PeriodScheduler;
 import org.tuxdevelop.spring.batch.lightmin.admin.scheduler.Scheduler;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminConfigurationException;
 import org.tuxdevelop.spring.batch.lightmin.util.BeanRegistrar;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -44,6 +55,8 @@ public class DefaultSchedulerServiceTest {
     private ApplicationContext applicationContext;
     @Mock
     private Scheduler scheduler;
+    @Mock
+    private JobExplorer jobExplorer;
 
     private Job sampleJob;
 
@@ -70,6 +83,38 @@ public class DefaultSchedulerServiceTest {
         assertThat(beanName).isEqualTo("sampleJobCRON1");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void registerSchedulerForJobSequenceTest() throws NoSuchJobException {
+        when(jobRegistry.getJob("sampleJob")).thenReturn(sampleJob);
+        final JobInstance jobInstance = new JobInstance(1L, "sampleJob");
+        final JobExecution jobExecution = new JobExecution(jobInstance, 1L,
+                new JobParametersBuilder().addLong("run", 7L).toJobParameters(), null);
+        final JobInstance manualJobInstance = new JobInstance(2L, "sampleJob");
+        final JobExecution manualJobExecution = new JobExecution(manualJobInstance, 2L,
+                new JobParametersBuilder().addString("manual", "true").toJobParameters(), null);
+        when(jobExplorer.getJobInstances(eq("sampleJob"), eq(0), anyInt()))
+                .thenReturn(Arrays.asList(manualJobInstance, jobInstance));
+        when(jobExplorer.getJobExecutions(manualJobInstance))
+                .thenReturn(Collections.singletonList(manualJobExecution));
+        when(jobExplorer.getJobExecutions(jobInstance)).thenReturn(Collections.singletonList(jobExecution));
+        final JobSchedulerConfiguration jobSchedulerConfiguration = TestHelper.createJobSchedulerConfiguration(null,
+                10L, 10L, JobSchedulerType.PERIOD);
+        final JobConfiguration jobConfiguration = TestHelper.createJobConfiguration(jobSchedulerConfiguration);
+        jobConfiguration.setJobConfigurationId(1L);
+        jobConfiguration.getJobParameters().put("run", "${seq}");
+        schedulerService.registerSchedulerForJob(jobConfiguration);
+        final ArgumentCaptor<Set> constructorValues = ArgumentCaptor.forClass(Set.class);
+        verify(beanRegistrar).registerBean(eq(PeriodScheduler.class), eq("sampleJobPERIOD1"),
+                constructorValues.capture(), any(Set.class), any(Map.class), any(Map.class),
+                any(Set.class));
+        final SchedulerConstructorWrapper schedulerConstructorWrapper = (SchedulerConstructorWrapper)
+                constructorValues.getValue().iterator().next();
+        final JobParameters jobParameters = schedulerConstructorWrapper.getJobParametersTemplate().evaluate();
+        assertThat(jobParameters.getLong("run")).isEqualTo(8L);
+        assertThat(jobParameters.getParameters()).containsKey(JobIncrementer.DATE.getIncrementerIdentifier());
+    }
+
     @Test
     public void unregisterSchedulerForJobTest() {
         doNothing().when(beanRegistrar).unregisterBean(anyString());
@@ -220,7 +265,8 @@ public class DefaultSchedulerServiceTest {
     @Before
     public void init() {
         MockitoAnnotations.initMocks(this);
-        schedulerService = new DefaultSchedulerService(beanRegistrar, jobRepository, jobRegistry);
+        schedulerService = new DefaultSchedulerService(beanRegistrar, new JobLauncherRegistry(jobRepository, 1),
+                jobRegistry, jobExplorer);
         sampleJob = TestHelper.createJob("sampleJob");
         ReflectionTestUtils.setField(schedulerService, "applicationContext", applicationContext);
     }
@@ -11,6 +11,9 @@ import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.explore.JobExplorer;
 import org.tuxdevelop.spring.batch.lightmin.TestHelper;
+import org.tuxdevelop.spring.batch.lightmin.dao.LightminJobExecutionDao;
+
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -24,30 +27,45 @@ public class DefaultStepServiceTest {
     private DefaultStepService stepService;
     @Mock
     private JobExplorer jobExplorer;
+    @Mock
+    private LightminJobExecutionDao lightminJobExecutionDao;
 
     @Test
     public void getStepExecutionTest() {
         final JobExecution jobExecution = TestHelper.createJobExecution(10L);
         final Long stepExecutionId = 20L;
-        when(jobExplorer.getStepExecution(jobExecution.getId(), stepExecutionId)).thenReturn(
-                TestHelper.createStepExecution(STEP_NAME, jobExecution));
+        final JobExecution storedJobExecution = TestHelper.createJobExecution(10L);
+        storedJobExecution.createStepExecution(STEP_NAME).setId(stepExecutionId);
+        when(lightminJobExecutionDao.getJobExecutionsWithStepExecutions(Collections.singleton(jobExecution.getId())))
+                .thenReturn(Collections.singletonList(storedJobExecution));
         final StepExecution stepExecution = stepService.getStepExecution(jobExecution, stepExecutionId);
         assertThat(stepExecution).isNotNull();
         assertThat(stepExecution.getStepName()).isEqualTo(STEP_NAME);
+        verify(jobExplorer, never()).getStepExecution(jobExecution.getId(), stepExecutionId);
+    }
+
+    @Test
+    public void getStepExecutionAttachedTest() {
+        final JobExecution jobExecution = TestHelper.createJobExecution(10L);
+        final Long stepExecutionId = 20L;
+        jobExecution.createStepExecution(STEP_NAME).setId(stepExecutionId);
+        final StepExecution stepExecution = stepService.getStepExecution(jobExecution, stepExecutionId);
+        assertThat(stepExecution.getStepName()).isEqualTo(STEP_NAME);
+        verifyZeroInteractions(lightminJobExecutionDao);
     }
 
     @Test
     public void testAttachStepExecutions() {
         final JobExecution jobExecution = TestHelper.createJobExecution(20L);
-        when(jobExplorer.getJobExecution(jobExecution.getId())).thenReturn(jobExecution);
         stepService.attachStepExecutions(jobExecution);
-        verify(jobExplorer, times(1)).getJobExecution(jobExecution.getId());
+        verify(lightminJobExecutionDao, times(1)).attachStepExecutions(Collections.singleton(jobExecution));
+        verify(jobExplorer, never()).getJobExecution(jobExecution.getId());
     }
 
     @Before
     public void init() {
         MockitoAnnotations.initMocks(this);
-        stepService = new DefaultStepService(jobExplorer);
+        stepService = new DefaultStepService(jobExplorer, lightminJobExecutionDao);
     }
 
 }
@@ -0,0 +1,111 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.explore.support.MapJobExplorerFactoryBean;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.MapJobRepositoryFactoryBean;
+import org.tuxdevelop.spring.batch.lightmin.dao.MapLightminJobExecutionDao;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JobCountCacheTest {
+
+    private static final String JOB_NAME = "someJob";
+    private static final long RECONCILIATION_INTERVAL = 600000L;
+
+    private JobRepository jobRepository;
+    private JobExplorer jobExplorer;
+    private MapLightminJobExecutionDao lightminJobExecutionDao;
+    private JobCountCache jobCountCache;
+
+    @Test
+    public void getJobInstanceCountTest() throws Exception {
+        assertThat(jobCountCache.getJobInstanceCount(JOB_NAME, false)).isEqualTo(1);
+        jobRepository.createJobExecution(JOB_NAME, createJobParameters(2L));
+        assertThat(jobCountCache.getJobInstanceCount(JOB_NAME, true)).isEqualTo(1);
+        assertThat(jobCountCache.getJobInstanceCount(JOB_NAME, false)).isEqualTo(2);
+        assertThat(jobCountCache.getJobInstanceCount(JOB_NAME, true)).isEqualTo(2);
+        jobRepository.createJobExecution(JOB_NAME, createJobParameters(3L));
+        jobCountCache.reconcile();
+        assertThat(jobCountCache.getJobInstanceCount(JOB_NAME, true)).isEqualTo(3);
+    }
+
+    @Test
+    public void getJobExecutionCountTest() throws Exception {
+        final JobExecution jobExecution = jobExplorer.getJobExecutions(
+                jobExplorer.getJobInstances(JOB_NAME, 0, 1).get(0)).get(0);
+        assertThat(jobCountCache.getJobExecutionCount(jobExecution.getJobInstance(), false)).isEqualTo(1);
+        lightminJobExecutionDao.beforeJob(jobRepository.createJobExecution(JOB_NAME, createJobParameters(1L)));
+        assertThat(jobCountCache.getJobExecutionCount(jobExecution.getJobInstance(), true)).isEqualTo(1);
+        assertThat(jobCountCache.getJobExecutionCount(jobExecution.getJobInstance(), false)).isEqualTo(2);
+    }
+
+    @Test
+    public void getJobInstanceCountNoSuchJobTest() {
+        assertThat(jobCountCache.getJobInstanceCount("notExisting", false)).isEqualTo(0);
+    }
+
+    @Test
+    public void beforeJobNewJobInstanceTest() throws Exception {
+        assertThat(jobCountCache.getJobInstanceCount(JOB_NAME, false)).isEqualTo(1);
+        final JobExecution jobExecution = jobRepository.createJobExecution(JOB_NAME, createJobParameters(2L));
+        lightminJobExecutionDao.beforeJob(jobExecution);
+        jobCountCache.beforeJob(jobExecution);
+        assertThat(jobCountCache.getJobInstanceCount(JOB_NAME, false)).isEqualTo(2);
+        assertThat(jobCountCache.getJobExecutionCount(jobExecution.getJobInstance(), false)).isEqualTo(1);
+    }
+
+    @Test
+    public void beforeJobExistingJobInstanceTest() throws Exception {
+        final JobExecution jobExecution = jobExplorer.getJobExecutions(
+                jobExplorer.getJobInstances(JOB_NAME, 0, 1).get(0)).get(0);
+        assertThat(jobCountCache.getJobInstanceCount(JOB_NAME, false)).isEqualTo(1);
+        assertThat(jobCountCache.getJobExecutionCount(jobExecution.getJobInstance(), false)).isEqualTo(1);
+        final JobExecution restartExecution = jobRepository.createJobExecution(JOB_NAME, createJobParameters(1L));
+        lightminJobExecutionDao.beforeJob(restartExecution);
+        jobCountCache.beforeJob(restartExecution);
+        assertThat(jobCountCache.getJobInstanceCount(JOB_NAME, false)).isEqualTo(1);
+        assertThat(jobCountCache.getJobExecutionCount(jobExecution.getJobInstance(), false)).isEqualTo(2);
+    }
+
+    @Test
+    public void disabledTest() throws Exception {
+        final JobCountCache disabledJobCountCache = new JobCountCache(lightminJobExecutionDao, 0);
+        assertThat(disabledJobCountCache.getJobInstanceCount(JOB_NAME, true)).isEqualTo(1);
+        jobRepository.createJobExecution(JOB_NAME, createJobParameters(2L));
+        assertThat(disabledJobCountCache.getJobInstanceCount(JOB_NAME, true)).isEqualTo(2);
+        disabledJobCountCache.destroy();
+    }
+
+    @Before
+    public void init() throws Exception {
+        final MapJobRepositoryFactoryBean mapJobRepositoryFactoryBean = new MapJobRepositoryFactoryBean();
+        jobRepository = mapJobRepositoryFactoryBean.getObject();
+        jobExplorer = new MapJobExplorerFactoryBean(mapJobRepositoryFactoryBean).getObject();
+        lightminJobExecutionDao = new MapLightminJobExecutionDao(jobExplorer);
+        jobCountCache = new JobCountCache(lightminJobExecutionDao, RECONCILIATION_INTERVAL);
+        final JobExecution jobExecution = jobRepository.createJobExecution(JOB_NAME, createJobParameters(1L));
+        lightminJobExecutionDao.beforeJob(jobExecution);
+        jobExecution.setStatus(BatchStatus.FAILED);
+        jobExecution.setEndTime(new Date());
+        jobRepository.update(jobExecution);
+    }
+
+    @After
+    public void tearDown() {
+        jobCountCache.destroy();
+    }
+
+    private static JobParameters createJobParameters(final Long run) {
+        return new JobParametersBuilder().addLong("run", run).toJobParameters();
+    }
+}
@@ -0,0 +1,119 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class JobExecutionCompletionWatcherTest {
+
+    @Mock
+    private JobService jobService;
+
+    private JobExecutionCompletionWatcher jobExecutionCompletionWatcher;
+
+    @Test
+    public void watchTest() throws Exception {
+        final JobExecution running = new JobExecution(1L);
+        running.setStatus(BatchStatus.STARTED);
+        final JobExecution completed = new JobExecution(1L);
+        completed.setStatus(BatchStatus.COMPLETED);
+        when(jobService.getJobExecutionsWithStepExecutions(Collections.singleton(1L)))
+                .thenReturn(Collections.singletonList(running))
+                .thenReturn(Collections.singletonList(completed));
+        final ListenableFuture<JobExecution> future = jobExecutionCompletionWatcher.watch(1L);
+        jobExecutionCompletionWatcher.poll();
+        assertThat(future.isDone()).isFalse();
+        jobExecutionCompletionWatcher.poll();
+        assertThat(future.isDone()).isTrue();
+        assertThat(future.get()).isSameAs(completed);
+        jobExecutionCompletionWatcher.poll();
+        verify(jobService, times(2)).getJobExecutionsWithStepExecutions(anyCollectionOf(Long.class));
+    }
+
+    @Test
+    public void watchBulkTest() throws Exception {
+        final JobExecution failed = new JobExecution(1L);
+        failed.setStatus(BatchStatus.FAILED);
+        final JobExecution stopping = new JobExecution(2L);
+        stopping.setStatus(BatchStatus.STOPPING);
+        when(jobService.getJobExecutionsWithStepExecutions(anyCollectionOf(Long.class)))
+                .thenReturn(Arrays.asList(stopping, failed));
+        final ListenableFuture<JobExecution> first = jobExecutionCompletionWatcher.watch(1L);
+        final ListenableFuture<JobExecution> second = jobExecutionCompletionWatcher.watch(2L);
+        final ListenableFuture<JobExecution> third = jobExecutionCompletionWatcher.watch(1L);
+        jobExecutionCompletionWatcher.poll();
+        assertThat(first.get()).isSameAs(failed);
+        assertThat(third.get()).isSameAs(failed);
+        assertThat(second.isDone()).isFalse();
+        verify(jobService, times(1)).getJobExecutionsWithStepExecutions(anyCollectionOf(Long.class));
+    }
+
+    @Test
+    public void watchUnknownTest() throws Exception {
+        when(jobService.getJobExecutionsWithStepExecutions(anyCollectionOf(Long.class)))
+                .thenReturn(Collections.<JobExecution>emptyList());
+        final ListenableFuture<JobExecution> future = jobExecutionCompletionWatcher.watch(1L);
+        jobExecutionCompletionWatcher.poll();
+        try {
+            future.get();
+            fail("SpringBatchLightminApplicationException expected");
+        } catch (final ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(SpringBatchLightminApplicationException.class);
+        }
+    }
+
+    @Test
+    public void watchCancelledTest() {
+        final ListenableFuture<JobExecution> future = jobExecutionCompletionWatcher.watch(1L);
+        future.cancel(Boolean.FALSE);
+        jobExecutionCompletionWatcher.poll();
+        verify(jobService, never()).getJobExecutionsWithStepExecutions(anyCollectionOf(Long.class));
+    }
+
+    @Test
+    public void pollFailureTest() {
+        when(jobService.getJobExecutionsWithStepExecutions(anyCollectionOf(Long.class)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+        final ListenableFuture<JobExecution> future = jobExecutionCompletionWatcher.watch(1L);
+        jobExecutionCompletionWatcher.poll();
+        assertThat(future.isDone()).isFalse();
+    }
+
+    @Test
+    public void isFinishedTest() {
+        final Collection<BatchStatus> running = Arrays.asList(BatchStatus.STARTING, BatchStatus.STARTED,
+                BatchStatus.STOPPING);
+        for (final BatchStatus batchStatus : BatchStatus.values()) {
+            assertThat(JobExecutionCompletionWatcher.isFinished(batchStatus))
+                    .isEqualTo(!running.contains(batchStatus));
+        }
+    }
+
+    @Before
+    public void init() {
+        jobExecutionCompletionWatcher = new JobExecutionCompletionWatcher(jobService, Long.MAX_VALUE);
+    }
+
+    @After
+    public void tearDown() {
+        jobExecutionCompletionWatcher.destroy();
+    }
+}
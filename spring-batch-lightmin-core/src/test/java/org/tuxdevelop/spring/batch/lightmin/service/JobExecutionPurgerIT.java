@@ -0,0 +1,143 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.tuxdevelop.spring.batch.lightmin.dao.RetentionPolicy;
+import org.tuxdevelop.test.configuration.ITPersistenceConfiguration;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = ITPersistenceConfiguration.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class JobExecutionPurgerIT {
+
+    private static final String JOB_NAME = "simpleJob";
+
+    @Autowired
+    private JobExecutionPurger jobExecutionPurger;
+
+    @Autowired
+    private JobExplorer jobExplorer;
+
+    @Autowired
+    private Job simpleJob;
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Test
+    public void purgeEmptyPolicyIT() {
+        final JobExecutionPurgeStatus status = jobExecutionPurger.purge(new RetentionPolicy());
+        assertThat(status.getState()).isEqualTo(JobExecutionPurgeStatus.State.COMPLETED);
+        assertThat(status.getChunkCount()).isEqualTo(0);
+        assertThat(status.getPurgeCount().getJobExecutionCount()).isEqualTo(0L);
+        assertThat(status.getEndTime()).isNotNull();
+    }
+
+    @Test
+    public void purgeMaxExecutionsPerJobIT() throws Exception {
+        final List<Long> jobExecutionIds = launch("purgeMaxExecutionsPerJobIT", 5);
+        final RetentionPolicy retentionPolicy = new RetentionPolicy();
+        retentionPolicy.setMaxExecutionsPerJob(2);
+        retentionPolicy.setChunkSize(2);
+        final JobExecutionPurgeStatus status = jobExecutionPurger.purge(retentionPolicy);
+        assertThat(status.getState()).isEqualTo(JobExecutionPurgeStatus.State.COMPLETED);
+        assertThat(status.getPurgeCount().getJobExecutionCount()).isGreaterThanOrEqualTo(3L);
+        assertThat(status.getPurgeCount().getStepExecutionCount()).isGreaterThanOrEqualTo(3L);
+        assertThat(status.getPurgeCount().getJobInstanceCount()).isGreaterThanOrEqualTo(3L);
+        assertThat(status.getChunkCount()).isGreaterThanOrEqualTo(2);
+        assertThat(jobExplorer.getJobInstanceCount(JOB_NAME)).isEqualTo(2);
+        for (int i = 0; i < 3; i++) {
+            assertThat(jobExplorer.getJobExecution(jobExecutionIds.get(i))).isNull();
+        }
+        assertThat(jobExplorer.getJobExecution(jobExecutionIds.get(3))).isNotNull();
+        assertThat(jobExplorer.getJobExecution(jobExecutionIds.get(4)).getStepExecutions()).hasSize(1);
+    }
+
+    @Test
+    public void purgeMaxAgeIT() throws Exception {
+        launch("purgeMaxAgeIT", 2);
+        Thread.sleep(10);
+        final RetentionPolicy retentionPolicy = new RetentionPolicy();
+        retentionPolicy.setMaxAge(0L);
+        final JobExecutionPurgeStatus status = jobExecutionPurger.purge(retentionPolicy);
+        assertThat(status.getState()).isEqualTo(JobExecutionPurgeStatus.State.COMPLETED);
+        assertThat(status.getPurgeCount().getJobExecutionCount()).isGreaterThanOrEqualTo(2L);
+        assertThat(jobExplorer.getJobInstanceCount(JOB_NAME)).isEqualTo(0);
+    }
+
+    @Test
+    public void startFailedMaxAgeIT() throws Exception {
+        final List<Long> jobExecutionIds = launch("startFailedMaxAgeIT", 2);
+        final RetentionPolicy retentionPolicy = new RetentionPolicy();
+        retentionPolicy.setFailedMaxAge(0L);
+        jobExecutionPurger.start(retentionPolicy);
+        JobExecutionPurgeStatus status = jobExecutionPurger.getStatus();
+        while (status.getState() == JobExecutionPurgeStatus.State.RUNNING) {
+            Thread.sleep(10);
+            status = jobExecutionPurger.getStatus();
+        }
+        assertThat(status.getState()).isEqualTo(JobExecutionPurgeStatus.State.COMPLETED);
+        assertThat(status.getEndTime()).isNotNull();
+        for (final Long jobExecutionId : jobExecutionIds) {
+            assertThat(jobExplorer.getJobExecution(jobExecutionId)).isNotNull();
+        }
+    }
+
+    @Test
+    public void purgeCompletedRestartOfFailedExecutionIT() throws Exception {
+        final List<Long> jobExecutionIds = new ArrayList<>();
+        for (final BatchStatus batchStatus : new BatchStatus[]{BatchStatus.FAILED, BatchStatus.COMPLETED}) {
+            final JobExecution jobExecution = jobRepository.createJobExecution(JOB_NAME, new JobParametersBuilder()
+                    .addString("purge", "purgeCompletedRestartOfFailedExecutionIT")
+                    .toJobParameters());
+            jobExecution.setStartTime(new Date());
+            jobExecution.setEndTime(new Date());
+            jobExecution.setStatus(batchStatus);
+            jobExecution.setExitStatus(new ExitStatus(batchStatus.name()));
+            jobRepository.update(jobExecution);
+            jobExecutionIds.add(jobExecution.getId());
+        }
+        Thread.sleep(10);
+        final RetentionPolicy retentionPolicy = new RetentionPolicy();
+        retentionPolicy.setMaxAge(0L);
+        retentionPolicy.setFailedMaxAge(86400000L);
+        final JobExecutionPurgeStatus status = jobExecutionPurger.purge(retentionPolicy);
+        assertThat(status.getState()).isEqualTo(JobExecutionPurgeStatus.State.COMPLETED);
+        for (final Long jobExecutionId : jobExecutionIds) {
+            assertThat(jobExplorer.getJobExecution(jobExecutionId)).isNull();
+        }
+    }
+
+    private List<Long> launch(final String name, final int count) throws Exception {
+        final List<Long> jobExecutionIds = new ArrayList<>();
+        for (long i = 0; i < count; i++) {
+            final JobExecution jobExecution = jobLauncher.run(simpleJob, new JobParametersBuilder()
+                    .addString("purge", name)
+                    .addLong("index", i)
+                    .toJobParameters());
+            jobExecutionIds.add(jobExecution.getId());
+        }
+        return jobExecutionIds;
+    }
+}
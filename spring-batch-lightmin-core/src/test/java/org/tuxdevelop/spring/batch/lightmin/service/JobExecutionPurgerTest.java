@@ -0,0 +1,96 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.explore.support.MapJobExplorerFactoryBean;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.MapJobRepositoryFactoryBean;
+import org.tuxdevelop.spring.batch.lightmin.dao.LightminJobExecutionDao;
+import org.tuxdevelop.spring.batch.lightmin.dao.MapLightminJobExecutionDao;
+import org.tuxdevelop.spring.batch.lightmin.dao.RetentionPolicy;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidRetentionPolicyException;
+import org.tuxdevelop.spring.batch.lightmin.exception.JobExecutionPurgeNotSupportedException;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class JobExecutionPurgerTest {
+
+    private static final String JOB_NAME = "someJob";
+
+    private JobCountCache jobCountCache;
+    private JobExecutionPurger jobExecutionPurger;
+
+    @Test
+    public void getStatusNotStartedTest() {
+        final JobExecutionPurgeStatus status = jobExecutionPurger.getStatus();
+        assertThat(status.getState()).isEqualTo(JobExecutionPurgeStatus.State.NOT_STARTED);
+        assertThat(status.getStartTime()).isNull();
+    }
+
+    @Test
+    public void purgeUnsupportedTest() {
+        final RetentionPolicy retentionPolicy = new RetentionPolicy();
+        retentionPolicy.setMaxAge(0L);
+        try {
+            jobExecutionPurger.purge(retentionPolicy);
+            fail("JobExecutionPurgeNotSupportedException expected");
+        } catch (final JobExecutionPurgeNotSupportedException e) {
+            assertThat(jobExecutionPurger.getStatus().getState())
+                    .isEqualTo(JobExecutionPurgeStatus.State.NOT_STARTED);
+        }
+    }
+
+    @Test
+    public void startUnsupportedTest() {
+        try {
+            jobExecutionPurger.start(null);
+            fail("JobExecutionPurgeNotSupportedException expected");
+        } catch (final JobExecutionPurgeNotSupportedException e) {
+            assertThat(jobExecutionPurger.getStatus().getState())
+                    .isEqualTo(JobExecutionPurgeStatus.State.NOT_STARTED);
+        }
+    }
+
+    @Test
+    public void purgeInvalidPolicyTest() {
+        final RetentionPolicy retentionPolicy = new RetentionPolicy();
+        retentionPolicy.setMaxExecutionsPerJob(0);
+        try {
+            jobExecutionPurger.purge(retentionPolicy);
+            fail("InvalidRetentionPolicyException expected");
+        } catch (final InvalidRetentionPolicyException e) {
+            assertThat(jobExecutionPurger.getStatus().getState())
+                    .isEqualTo(JobExecutionPurgeStatus.State.NOT_STARTED);
+        }
+    }
+
+    @Before
+    public void init() throws Exception {
+        final MapJobRepositoryFactoryBean mapJobRepositoryFactoryBean = new MapJobRepositoryFactoryBean();
+        final JobRepository jobRepository = mapJobRepositoryFactoryBean.getObject();
+        final JobExplorer jobExplorer = new MapJobExplorerFactoryBean(mapJobRepositoryFactoryBean).getObject();
+        final LightminJobExecutionDao lightminJobExecutionDao = new MapLightminJobExecutionDao(jobExplorer);
+        jobCountCache = new JobCountCache(lightminJobExecutionDao, 0);
+        jobExecutionPurger = new JobExecutionPurger(lightminJobExecutionDao, jobExplorer, jobCountCache,
+                new RetentionPolicy(), 0);
+        final JobExecution jobExecution = jobRepository.createJobExecution(JOB_NAME,
+                new JobParametersBuilder().addLong("run", 1L).toJobParameters());
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+        jobExecution.setEndTime(new Date(System.currentTimeMillis() - 1000));
+        jobRepository.update(jobExecution);
+    }
+
+    @After
+    public void tearDown() {
+        jobExecutionPurger.destroy();
+        jobCountCache.destroy();
+    }
+}
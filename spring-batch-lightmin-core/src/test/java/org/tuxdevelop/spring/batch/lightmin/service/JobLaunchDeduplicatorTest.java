@@ -0,0 +1,165 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobLaunchKey;
+import org.tuxdevelop.spring.batch.lightmin.dao.JobLaunchKeyDao;
+import org.tuxdevelop.spring.batch.lightmin.dao.MapJobLaunchKeyDao;
+import org.tuxdevelop.spring.batch.lightmin.exception.JobLaunchConflictException;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class JobLaunchDeduplicatorTest {
+
+    private static final String JOB_NAME = "someJob";
+
+    private JobLaunchKeyDao jobLaunchKeyDao;
+    private JobLaunchDeduplicator jobLaunchDeduplicator;
+
+    @Test
+    public void reserveTest() {
+        final JobLaunchKey reservation = jobLaunchDeduplicator.reserve("key", JOB_NAME);
+        assertThat(reservation.getJobExecutionId()).isNull();
+        assertThat(reservation.getCreateTime().getTime() % 1000).isEqualTo(0L);
+        jobLaunchDeduplicator.complete(reservation, 42L);
+        assertThat(jobLaunchDeduplicator.reserve("key", JOB_NAME).getJobExecutionId()).isEqualTo(42L);
+        assertThat(jobLaunchKeyDao.get("key").getJobExecutionId()).isEqualTo(42L);
+    }
+
+    @Test
+    public void reserveCachedTest() {
+        final JobLaunchKey reservation = jobLaunchDeduplicator.reserve("key", JOB_NAME);
+        jobLaunchDeduplicator.complete(reservation, 42L);
+        final JobLaunchKey launched = jobLaunchDeduplicator.reserve("key", JOB_NAME);
+        assertThat(launched.getJobExecutionId()).isEqualTo(42L);
+        assertThat(launched.getCreateTime()).isEqualTo(reservation.getCreateTime());
+        verify(jobLaunchKeyDao, never()).get(anyString());
+    }
+
+    @Test
+    public void reserveStoredTest() {
+        final JobLaunchKey jobLaunchKey = new JobLaunchKey();
+        jobLaunchKey.setKey("stored");
+        jobLaunchKey.setJobName(JOB_NAME);
+        jobLaunchKey.setJobExecutionId(7L);
+        jobLaunchKey.setCreateTime(new Date());
+        jobLaunchKeyDao.add(jobLaunchKey);
+        assertThat(jobLaunchDeduplicator.reserve("stored", JOB_NAME).getJobExecutionId()).isEqualTo(7L);
+    }
+
+    @Test
+    public void reserveExpiredTest() {
+        final JobLaunchKey jobLaunchKey = new JobLaunchKey();
+        jobLaunchKey.setKey("expired");
+        jobLaunchKey.setJobName(JOB_NAME);
+        jobLaunchKey.setJobExecutionId(7L);
+        jobLaunchKey.setCreateTime(new Date(System.currentTimeMillis() - 120000L));
+        jobLaunchKeyDao.add(jobLaunchKey);
+        assertThat(jobLaunchDeduplicator.reserve("expired", JOB_NAME).getJobExecutionId()).isNull();
+        assertThat(jobLaunchKeyDao.get("expired").getJobExecutionId()).isNull();
+    }
+
+    @Test(expected = JobLaunchConflictException.class)
+    public void reserveRunningTest() {
+        jobLaunchDeduplicator.reserve("key", JOB_NAME);
+        jobLaunchDeduplicator.reserve("key", JOB_NAME);
+    }
+
+    @Test
+    public void reserveAbandonedTest() {
+        final JobLaunchKey jobLaunchKey = new JobLaunchKey();
+        jobLaunchKey.setKey("abandoned");
+        jobLaunchKey.setJobName(JOB_NAME);
+        jobLaunchKey.setCreateTime(new Date(System.currentTimeMillis() - 2000L));
+        jobLaunchKeyDao.add(jobLaunchKey);
+        final JobLaunchKey reservation = jobLaunchDeduplicator.reserve("abandoned", JOB_NAME);
+        assertThat(reservation.getJobExecutionId()).isNull();
+        final JobLaunchKey takenOver = jobLaunchKeyDao.get("abandoned");
+        assertThat(takenOver.getJobExecutionId()).isNull();
+        assertThat(takenOver.getCreateTime()).isAfter(jobLaunchKey.getCreateTime());
+        jobLaunchDeduplicator.complete(reservation, 42L);
+        assertThat(jobLaunchDeduplicator.reserve("abandoned", JOB_NAME).getJobExecutionId()).isEqualTo(42L);
+    }
+
+    @Test
+    public void completeTakenOverTest() {
+        final JobLaunchKey jobLaunchKey = new JobLaunchKey();
+        jobLaunchKey.setKey("abandoned");
+        jobLaunchKey.setJobName(JOB_NAME);
+        jobLaunchKey.setCreateTime(new Date(System.currentTimeMillis() - 2000L));
+        jobLaunchKeyDao.add(jobLaunchKey);
+        final JobLaunchKey reservation = jobLaunchDeduplicator.reserve("abandoned", JOB_NAME);
+        jobLaunchDeduplicator.complete(jobLaunchKey, 7L);
+        assertThat(jobLaunchKeyDao.get("abandoned").getJobExecutionId()).isNull();
+        jobLaunchDeduplicator.complete(reservation, 42L);
+        assertThat(jobLaunchDeduplicator.reserve("abandoned", JOB_NAME).getJobExecutionId()).isEqualTo(42L);
+    }
+
+    @Test
+    public void releaseTakenOverTest() {
+        final JobLaunchKey jobLaunchKey = new JobLaunchKey();
+        jobLaunchKey.setKey("abandoned");
+        jobLaunchKey.setJobName(JOB_NAME);
+        jobLaunchKey.setCreateTime(new Date(System.currentTimeMillis() - 2000L));
+        jobLaunchKeyDao.add(jobLaunchKey);
+        final JobLaunchKey reservation = jobLaunchDeduplicator.reserve("abandoned", JOB_NAME);
+        jobLaunchDeduplicator.release(jobLaunchKey);
+        assertThat(jobLaunchKeyDao.get("abandoned").getCreateTime()).isEqualTo(reservation.getCreateTime());
+    }
+
+    @Test(expected = JobLaunchConflictException.class)
+    public void reserveWithinLaunchTimeoutTest() {
+        final JobLaunchKey jobLaunchKey = new JobLaunchKey();
+        jobLaunchKey.setKey("running");
+        jobLaunchKey.setJobName(JOB_NAME);
+        jobLaunchKey.setCreateTime(new Date(System.currentTimeMillis() - 500L));
+        jobLaunchKeyDao.add(jobLaunchKey);
+        jobLaunchDeduplicator.reserve("running", JOB_NAME);
+    }
+
+    @Test(expected = JobLaunchConflictException.class)
+    public void reserveOtherJobTest() {
+        final JobLaunchKey reservation = jobLaunchDeduplicator.reserve("key", JOB_NAME);
+        jobLaunchDeduplicator.complete(reservation, 42L);
+        jobLaunchDeduplicator.reserve("key", "otherJob");
+    }
+
+    @Test
+    public void releaseTest() {
+        final JobLaunchKey reservation = jobLaunchDeduplicator.reserve("key", JOB_NAME);
+        jobLaunchDeduplicator.release(reservation);
+        assertThat(jobLaunchKeyDao.get("key")).isNull();
+        assertThat(jobLaunchDeduplicator.reserve("key", JOB_NAME).getJobExecutionId()).isNull();
+    }
+
+    @Test
+    public void removeExpiredTest() {
+        final JobLaunchKey jobLaunchKey = new JobLaunchKey();
+        jobLaunchKey.setKey("expired");
+        jobLaunchKey.setJobName(JOB_NAME);
+        jobLaunchKey.setCreateTime(new Date(System.currentTimeMillis() - 120000L));
+        jobLaunchKeyDao.add(jobLaunchKey);
+        jobLaunchDeduplicator.reserve("alive", JOB_NAME);
+        jobLaunchDeduplicator.removeExpired();
+        assertThat(jobLaunchKeyDao.get("expired")).isNull();
+        assertThat(jobLaunchKeyDao.get("alive")).isNotNull();
+    }
+
+    @Before
+    public void init() {
+        jobLaunchKeyDao = spy(new MapJobLaunchKeyDao());
+        jobLaunchDeduplicator = new JobLaunchDeduplicator(jobLaunchKeyDao, 60000L, 10, 1000L);
+    }
+
+    @After
+    public void tearDown() {
+        jobLaunchDeduplicator.destroy();
+    }
+}
@@ -0,0 +1,106 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.tuxdevelop.spring.batch.lightmin.admin.domain.TaskExecutorType;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public class JobLauncherRegistryTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    private JobLauncherRegistry jobLauncherRegistry;
+
+    @Test
+    public void getJobLauncherTest() {
+        final JobLauncher synchronousJobLauncher = jobLauncherRegistry.getJobLauncher(TaskExecutorType.SYNCHRONOUS);
+        final JobLauncher asynchronousJobLauncher = jobLauncherRegistry.getJobLauncher(TaskExecutorType.ASYNCHRONOUS);
+        assertThat(synchronousJobLauncher).isNotNull();
+        assertThat(asynchronousJobLauncher).isNotNull();
+        assertThat(asynchronousJobLauncher).isNotSameAs(synchronousJobLauncher);
+        assertThat(jobLauncherRegistry.getJobLauncher(TaskExecutorType.ASYNCHRONOUS))
+                .isSameAs(asynchronousJobLauncher);
+        assertThat(jobLauncherRegistry.getJobLauncher(null)).isSameAs(synchronousJobLauncher);
+    }
+
+    @Test
+    public void metricsTest() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final JobLauncherRegistry.InstrumentedTaskExecutor asynchronousTaskExecutor = getTaskExecutor(
+                TaskExecutorType.ASYNCHRONOUS);
+        asynchronousTaskExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        asynchronousTaskExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Map<String, Number> metrics = toMap(jobLauncherRegistry.metrics());
+        assertThat(metrics.get("lightmin.joblauncher.asynchronous.submitted")).isEqualTo(2L);
+        assertThat(metrics.get("lightmin.joblauncher.asynchronous.running")).isEqualTo(1);
+        assertThat(metrics.get("lightmin.joblauncher.asynchronous.queued")).isEqualTo(1L);
+        assertThat(metrics.get("lightmin.joblauncher.asynchronous.threads.max")).isEqualTo(1);
+        assertThat(metrics.get("lightmin.joblauncher.synchronous.submitted")).isEqualTo(0L);
+        release.countDown();
+        for (int i = 0; i < 500 && !Long.valueOf(0L).equals(metrics.get("lightmin.joblauncher.asynchronous.queued"));
+             i++) {
+            Thread.sleep(10);
+            metrics = toMap(jobLauncherRegistry.metrics());
+        }
+        assertThat(metrics.get("lightmin.joblauncher.asynchronous.queued")).isEqualTo(0L);
+    }
+
+    @Before
+    public void init() {
+        jobLauncherRegistry = new JobLauncherRegistry(jobRepository, 1);
+    }
+
+    @After
+    public void tearDown() {
+        jobLauncherRegistry.destroy();
+    }
+
+    @SuppressWarnings("unchecked")
+    private JobLauncherRegistry.InstrumentedTaskExecutor getTaskExecutor(final TaskExecutorType taskExecutorType) {
+        final Map<TaskExecutorType, JobLauncherRegistry.InstrumentedTaskExecutor> taskExecutors =
+                (Map<TaskExecutorType, JobLauncherRegistry.InstrumentedTaskExecutor>) ReflectionTestUtils
+                        .getField(jobLauncherRegistry, "taskExecutors");
+        return taskExecutors.get(taskExecutorType);
+    }
+
+    private static Map<String, Number> toMap(final Collection<Metric<?>> metrics) {
+        final Map<String, Number> map = new HashMap<>();
+        for (final Metric<?> metric : metrics) {
+            map.put(metric.getName(), metric.getValue());
+        }
+        return map;
+    }
+}
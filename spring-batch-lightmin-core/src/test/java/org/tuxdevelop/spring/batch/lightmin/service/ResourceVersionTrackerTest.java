@@ -0,0 +1,44 @@
+package org.tuxdevelop.spring.batch.lightmin.service;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.tuxdevelop.spring.batch.lightmin.admin.repository.JobConfigurationRepository;
+import org.tuxdevelop.spring.batch.lightmin.dao.LightminJobExecutionDao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResourceVersionTrackerTest {
+
+    private static final String JOB_NAME = "someJob";
+    private static final String OTHER_JOB_NAME = "otherJob";
+
+    @InjectMocks
+    private ResourceVersionTracker resourceVersionTracker;
+    @Mock
+    private JobConfigurationRepository jobConfigurationRepository;
+    @Mock
+    private LightminJobExecutionDao lightminJobExecutionDao;
+
+    @Test
+    public void getJobConfigurationsETagTest() {
+        when(jobConfigurationRepository.getJobConfigurationsVersion()).thenReturn("2-5-3", "2-5-4");
+        final String eTag = resourceVersionTracker.getJobConfigurationsETag();
+        assertThat(eTag).isEqualTo("W/\"c-2-5-3\"");
+        assertThat(resourceVersionTracker.getJobConfigurationsETag()).isNotEqualTo(eTag);
+    }
+
+    @Test
+    public void getJobETagTest() {
+        when(lightminJobExecutionDao.getJobExecutionsVersion(JOB_NAME)).thenReturn("3-1-3", "4-1-4");
+        when(lightminJobExecutionDao.getJobExecutionsVersion(OTHER_JOB_NAME)).thenReturn("0-0-0");
+        final String eTag = resourceVersionTracker.getJobETag(JOB_NAME);
+        assertThat(eTag).isEqualTo("W/\"j-3-1-3\"");
+        assertThat(resourceVersionTracker.getJobETag(OTHER_JOB_NAME)).isEqualTo("W/\"j-0-0-0\"");
+        assertThat(resourceVersionTracker.getJobETag(JOB_NAME)).isNotEqualTo(eTag);
+    }
+}
@@ -0,0 +1,66 @@
+package org.tuxdevelop.spring.batch.lightmin.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.tuxdevelop.spring.batch.lightmin.BenchmarkSupport;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.JobExecutionPage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.tuxdevelop.spring.batch.lightmin.BenchmarkSupport.measure;
+
+/**
+ * Measures the mapping of a page of 1000 {@link JobExecution}s with 5 {@link StepExecution}s each through
+ * {@link ControllerServiceEntryBean#getJobExecutionPage(Long, Integer, Integer)} to the resources and their
+ * serialization to JSON. The benchmark is not part of the regular build, run it with
+ * <pre>
+ *     mvn -pl spring-batch-lightmin-core test -Dtest=JobExecutionPageBenchmark
+ * </pre>
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Slf4j
+public class JobExecutionPageBenchmark {
+
+    private static final Long JOB_INSTANCE_ID = 1L;
+    private static final int PAGE_SIZE = 1000;
+    private static final int STEP_COUNT = 5;
+    private static final int WARM_UP_ITERATIONS = 200;
+    private static final int ITERATIONS = 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ControllerServiceEntryBean controllerServiceEntryBean;
+
+    @Before
+    public void init() {
+        controllerServiceEntryBean = BenchmarkSupport.createJobExecutionPageServiceEntry(JOB_INSTANCE_ID, PAGE_SIZE,
+                STEP_COUNT);
+    }
+
+    @Test
+    public void benchmarkGetJobExecutionPage() throws Exception {
+        final JobExecutionPage jobExecutionPage = controllerServiceEntryBean.getJobExecutionPage(JOB_INSTANCE_ID, 0,
+                PAGE_SIZE);
+        assertThat(jobExecutionPage.getJobExecutions()).hasSize(PAGE_SIZE);
+        final double mapping = measure(WARM_UP_ITERATIONS, ITERATIONS, new BenchmarkSupport.BenchmarkOperation() {
+            @Override
+            public Object run() {
+                return controllerServiceEntryBean.getJobExecutionPage(JOB_INSTANCE_ID, 0, PAGE_SIZE);
+            }
+        });
+        final double serialization = measure(WARM_UP_ITERATIONS, ITERATIONS, new BenchmarkSupport.BenchmarkOperation() {
+            @Override
+            public Object run() throws Exception {
+                return objectMapper.writeValueAsBytes(controllerServiceEntryBean.getJobExecutionPage(JOB_INSTANCE_ID,
+                        0, PAGE_SIZE));
+            }
+        });
+        log.info("JobExecutionPage of {} executions with {} steps [µs/op]", PAGE_SIZE, STEP_COUNT);
+        log.info(String.format("%-35s %10.1f", "mapping", mapping));
+        log.info(String.format("%-35s %10.1f", "mapping and serialization", serialization));
+    }
+}
@@ -0,0 +1,102 @@
+package org.tuxdevelop.spring.batch.lightmin.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.tuxdevelop.spring.batch.lightmin.BenchmarkSupport;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.JobExecutionPage;
+import org.tuxdevelop.spring.batch.lightmin.util.SmileHttpMessageConverter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.tuxdevelop.spring.batch.lightmin.BenchmarkSupport.measure;
+
+/**
+ * Compares the payload size and the serialization and deserialization time of pages of {@link JobExecution}s with 5
+ * {@link StepExecution}s each in JSON and Smile, both plain and gzip compressed. The benchmark is not part of the
+ * regular build, run it with
+ * <pre>
+ *     mvn -pl spring-batch-lightmin-core test -Dtest=WireFormatBenchmark
+ * </pre>
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Slf4j
+public class WireFormatBenchmark {
+
+    private static final Long JOB_INSTANCE_ID = 1L;
+    private static final int[] PAGE_SIZES = {10, 100, 1000};
+    private static final int STEP_COUNT = 5;
+    private static final int WARM_UP_ITERATIONS = 200;
+    private static final int ITERATIONS = 500;
+
+    private final ObjectMapper jsonObjectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper smileObjectMapper = new SmileHttpMessageConverter().getObjectMapper();
+
+    @Test
+    public void benchmarkWireFormats() throws Exception {
+        log.info(String.format("%-12s %10s %10s %10s %10s %12s %12s", "format", "page size", "bytes", "gzip bytes",
+                "ratio", "write µs/op", "read µs/op"));
+        for (final int pageSize : PAGE_SIZES) {
+            final JobExecutionPage jobExecutionPage = BenchmarkSupport.createJobExecutionPage(JOB_INSTANCE_ID, pageSize,
+                    STEP_COUNT);
+            final int jsonSize = benchmark("json", jsonObjectMapper, jobExecutionPage, pageSize, 0);
+            benchmark("smile", smileObjectMapper, jobExecutionPage, pageSize, jsonSize);
+        }
+    }
+
+    private int benchmark(final String format, final ObjectMapper objectMapper,
+                          final JobExecutionPage jobExecutionPage, final int pageSize,
+                          final int referenceSize) throws Exception {
+        final byte[] payload = objectMapper.writeValueAsBytes(jobExecutionPage);
+        final JobExecutionPage read = objectMapper.readValue(payload, JobExecutionPage.class);
+        assertThat(read.getJobExecutions()).hasSize(pageSize);
+        final byte[] compressed = gzip(payload);
+        assertThat(gunzip(compressed)).isEqualTo(payload);
+        final double write = measure(WARM_UP_ITERATIONS, ITERATIONS, new BenchmarkSupport.BenchmarkOperation() {
+            @Override
+            public Object run() throws Exception {
+                return objectMapper.writeValueAsBytes(jobExecutionPage);
+            }
+        });
+        final double readTime = measure(WARM_UP_ITERATIONS, ITERATIONS, new BenchmarkSupport.BenchmarkOperation() {
+            @Override
+            public Object run() throws Exception {
+                return objectMapper.readValue(payload, JobExecutionPage.class);
+            }
+        });
+        final double ratio = referenceSize > 0 ? (double) payload.length / referenceSize : 1.0;
+        log.info(String.format("%-12s %10d %10d %10d %10.2f %12.1f %12.1f", format, pageSize, payload.length,
+                compressed.length, ratio, write, readTime));
+        return payload.length;
+    }
+
+    private static byte[] gzip(final byte[] payload) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            gzipOutputStream.write(payload);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static byte[] gunzip(final byte[] compressed) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            final byte[] buffer = new byte[4096];
+            int count;
+            while ((count = gzipInputStream.read(buffer)) != -1) {
+                byteArrayOutputStream.write(buffer, 0, count);
+            }
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+}
@@ -0,0 +1,28 @@
+package org.tuxdevelop.spring.batch.lightmin.test.util;
+
+import org.tuxdevelop.spring.batch.lightmin.admin.domain.JobConfiguration;
+import org.tuxdevelop.spring.batch.lightmin.admin.repository.FileJobConfigurationRepository;
+import org.tuxdevelop.spring.batch.lightmin.exception.NoSuchJobConfigurationException;
+
+import java.util.Collection;
+
+import static org.junit.Assert.fail;
+
+public class ITFileJobConfigurationRepository extends FileJobConfigurationRepository implements ITJobConfigurationRepository {
+
+    public ITFileJobConfigurationRepository(final String directory) {
+        super(directory, 64 * 1024, 100, false);
+    }
+
+    @Override
+    public void clean() {
+        final Collection<JobConfiguration> allJobConfigurations = super.getAllJobConfigurations();
+        for (final JobConfiguration jobConfiguration : allJobConfigurations) {
+            try {
+                super.delete(jobConfiguration);
+            } catch (final NoSuchJobConfigurationException e) {
+                fail(e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.tuxdevelop.spring.batch.lightmin.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BlockingRejectedExecutionHandlerTest {
+
+    private static final String SUBMITTER = "submitter";
+
+    @Test
+    public void rejectedExecutionBlocksUntilQueueHasSpaceTest() throws Exception {
+        final ThreadPoolExecutor executor = createExecutor();
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger executedOnSubmitter = new AtomicInteger();
+        final AtomicInteger executed = new AtomicInteger();
+        final Thread submitter = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < 3; i++) {
+                    executor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            if (SUBMITTER.equals(Thread.currentThread().getName())) {
+                                executedOnSubmitter.incrementAndGet();
+                            }
+                            try {
+                                release.await();
+                            } catch (final InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            executed.incrementAndGet();
+                        }
+                    });
+                }
+            }
+        }, SUBMITTER);
+        submitter.start();
+        submitter.join(200);
+        assertThat(submitter.isAlive()).isTrue();
+        release.countDown();
+        submitter.join(5000);
+        assertThat(submitter.isAlive()).isFalse();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed.get()).isEqualTo(3);
+        assertThat(executedOnSubmitter.get()).isEqualTo(0);
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void rejectedExecutionShutdownTest() {
+        final ThreadPoolExecutor executor = createExecutor();
+        executor.shutdown();
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+            }
+        });
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(1),
+                new BlockingRejectedExecutionHandler());
+    }
+}
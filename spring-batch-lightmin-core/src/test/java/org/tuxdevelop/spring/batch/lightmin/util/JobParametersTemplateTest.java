@@ -0,0 +1,123 @@
+package org.tuxdevelop.spring.batch.lightmin.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.tuxdevelop.spring.batch.lightmin.admin.domain.JobIncrementer;
+import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
+
+import java.io.File;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JobParametersTemplateTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void evaluateStaticTest() {
+        final JobParameters jobParameters = new JobParametersBuilder().addString("name", "value").addLong("count", 2L)
+                .toJobParameters();
+        final JobParametersTemplate jobParametersTemplate = JobParametersTemplate.compile(jobParameters,
+                JobIncrementer.NONE);
+        final JobParameters result = jobParametersTemplate.evaluate();
+        assertThat(result).isEqualTo(jobParameters);
+        assertThat(jobParametersTemplate.evaluate()).isSameAs(result);
+    }
+
+    @Test
+    public void evaluateDateIncrementerTest() {
+        final JobParameters jobParameters = new JobParametersBuilder().addString("name", "value").toJobParameters();
+        final long start = System.currentTimeMillis();
+        final JobParameters result = JobParametersTemplate.compile(jobParameters, JobIncrementer.DATE).evaluate();
+        assertThat(result.getString("name")).isEqualTo("value");
+        assertThat(result.getLong(JobIncrementer.DATE.getIncrementerIdentifier())).isGreaterThanOrEqualTo(start);
+    }
+
+    @Test
+    public void evaluateTodayTest() {
+        final JobParameters jobParameters = new JobParametersBuilder()
+                .addString("today", "${today}")
+                .addString("businessDate", "${today-1d}")
+                .toJobParameters();
+        final JobParameters result = JobParametersTemplate.compile(jobParameters, null).evaluate();
+        final Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        final Date today = calendar.getTime();
+        calendar.add(Calendar.DAY_OF_MONTH, -1);
+        assertThat(result.getDate("today")).isEqualTo(today);
+        assertThat(result.getDate("businessDate")).isEqualTo(calendar.getTime());
+    }
+
+    @Test
+    public void evaluateNowTest() {
+        final JobParameters jobParameters = new JobParametersBuilder().addString("deadline", "${now+2h}")
+                .toJobParameters();
+        final long start = System.currentTimeMillis();
+        final Date deadline = JobParametersTemplate.compile(jobParameters, null).evaluate().getDate("deadline");
+        assertThat(deadline.getTime() - start).isBetween(7200000L, 7260000L);
+    }
+
+    @Test
+    public void evaluateSequenceTest() {
+        final JobParameters jobParameters = new JobParametersBuilder().addString("run", "${seq}").toJobParameters();
+        final JobParametersTemplate jobParametersTemplate = JobParametersTemplate.compile(jobParameters, null);
+        assertThat(jobParametersTemplate.evaluate().getLong("run")).isEqualTo(1L);
+        assertThat(jobParametersTemplate.evaluate().getLong("run")).isEqualTo(2L);
+    }
+
+    @Test
+    public void evaluateSequenceContinueTest() {
+        final JobParameters jobParameters = new JobParametersBuilder().addString("run", "${seq}").toJobParameters();
+        final JobParameters lastJobParameters = new JobParametersBuilder().addLong("run", 41L).toJobParameters();
+        assertThat(JobParametersTemplate.getSequenceNames(jobParameters)).containsExactly("run");
+        assertThat(JobParametersTemplate.compile(jobParameters, null, lastJobParameters).evaluate().getLong("run"))
+                .isEqualTo(42L);
+    }
+
+    @Test
+    public void evaluateLatestFileTest() throws Exception {
+        final File older = temporaryFolder.newFile("older.csv");
+        final File latest = temporaryFolder.newFile("latest.csv");
+        final File other = temporaryFolder.newFile("other.txt");
+        assertThat(older.setLastModified(1000000L)).isTrue();
+        assertThat(latest.setLastModified(2000000L)).isTrue();
+        assertThat(other.setLastModified(3000000L)).isTrue();
+        final JobParameters jobParameters = new JobParametersBuilder()
+                .addString("file", "${latestFile:" + temporaryFolder.getRoot().getPath() + "/*.csv}")
+                .toJobParameters();
+        final JobParameters result = JobParametersTemplate.compile(jobParameters, null).evaluate();
+        assertThat(new File(result.getString("file"))).isEqualTo(latest);
+    }
+
+    @Test(expected = SpringBatchLightminApplicationException.class)
+    public void evaluateLatestFileNotFoundTest() {
+        final JobParameters jobParameters = new JobParametersBuilder()
+                .addString("file", "${latestFile:" + temporaryFolder.getRoot().getPath() + "/*.csv}")
+                .toJobParameters();
+        JobParametersTemplate.compile(jobParameters, null).evaluate();
+    }
+
+    @Test
+    public void evaluateUnknownTemplateTest() {
+        final JobParameters jobParameters = new JobParametersBuilder().addString("date", "${yesterday}")
+                .toJobParameters();
+        JobParametersTemplate.validate(Collections.<String, Object>singletonMap("date", "${yesterday}"));
+        assertThat(JobParametersTemplate.getSequenceNames(jobParameters)).isEmpty();
+        assertThat(JobParametersTemplate.compile(jobParameters, null).evaluate()).isEqualTo(jobParameters);
+    }
+
+    @Test(expected = SpringBatchLightminApplicationException.class)
+    public void validateTest() {
+        JobParametersTemplate.validate(Collections.<String, Object>singletonMap("date", "${today-1w}"));
+    }
+}
@@ -0,0 +1,38 @@
+package org.tuxdevelop.spring.batch.lightmin.util;
+
+import org.junit.Test;
+import org.tuxdevelop.spring.batch.lightmin.exception.InvalidPageCursorException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PageCursorHelperTest {
+
+    @Test
+    public void encodeDecodeTest() {
+        final String cursor = PageCursorHelper.encode(PageCursorHelper.JOB_EXECUTION, 4711L);
+        assertThat(cursor).doesNotContain("4711").doesNotContain("=");
+        assertThat(PageCursorHelper.decode(PageCursorHelper.JOB_EXECUTION, cursor)).isEqualTo(4711L);
+    }
+
+    @Test
+    public void encodeNullTest() {
+        assertThat(PageCursorHelper.encode(PageCursorHelper.JOB_INSTANCE, null)).isNull();
+    }
+
+    @Test
+    public void decodeEmptyTest() {
+        assertThat(PageCursorHelper.decode(PageCursorHelper.JOB_INSTANCE, null)).isNull();
+        assertThat(PageCursorHelper.decode(PageCursorHelper.JOB_INSTANCE, "")).isNull();
+    }
+
+    @Test(expected = InvalidPageCursorException.class)
+    public void decodeOtherTypeTest() {
+        final String cursor = PageCursorHelper.encode(PageCursorHelper.JOB_EXECUTION, 1L);
+        PageCursorHelper.decode(PageCursorHelper.JOB_INSTANCE, cursor);
+    }
+
+    @Test(expected = InvalidPageCursorException.class)
+    public void decodeMalformedTest() {
+        PageCursorHelper.decode(PageCursorHelper.JOB_EXECUTION, "not a cursor");
+    }
+}
@@ -0,0 +1,119 @@
+package org.tuxdevelop.spring.batch.lightmin.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.tuxdevelop.spring.batch.lightmin.BenchmarkSupport;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.tuxdevelop.spring.batch.lightmin.BenchmarkSupport.measure;
+
+/**
+ * Measures the throughput of {@link ParameterParser#parseParameters(String)} against the former split based
+ * implementation, which is kept as {@link SplittingParameterParser} for comparison. The benchmark is not part of the
+ * regular build, run it with
+ * <pre>
+ *     mvn -pl spring-batch-lightmin-core test -Dtest=ParameterParserBenchmark
+ * </pre>
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+@Slf4j
+public class ParameterParserBenchmark {
+
+    private static final String PARAMETERS = "targetDirectory(String)=./import/diff/," +
+            "emailFile(String)=email.txt," +
+            "currentFile(String)=./import/current/email_current.txt," +
+            "pathToTempFolder(String)=./import/temp/," +
+            "maxLineCount(Long)=20000," +
+            "threshold(Double)=0.75," +
+            "runDate(Date)=2015/03/27 23:19:24:120," +
+            "businessDate(Date)=2015/03/27";
+    private static final int WARM_UP_ITERATIONS = 50000;
+    private static final int ITERATIONS = 200000;
+
+    @Test
+    public void benchmarkParseParameters() throws Exception {
+        assertThat(ParameterParser.parseParameters(PARAMETERS))
+                .isEqualTo(SplittingParameterParser.parseParameters(PARAMETERS));
+        final double before = measure(WARM_UP_ITERATIONS, ITERATIONS, new BenchmarkSupport.BenchmarkOperation() {
+            @Override
+            public Object run() {
+                return SplittingParameterParser.parseParameters(PARAMETERS);
+            }
+        });
+        final double after = measure(WARM_UP_ITERATIONS, ITERATIONS, new BenchmarkSupport.BenchmarkOperation() {
+            @Override
+            public Object run() {
+                return ParameterParser.parseParameters(PARAMETERS);
+            }
+        });
+        log.info(String.format("parseParameters [µs/op] before: %10.1f after: %10.1f", before, after));
+    }
+
+    /**
+     * The former implementation, splitting every parameter three times with regular expressions and sharing the
+     * date formats, single threaded use only
+     */
+    private static final class SplittingParameterParser {
+
+        private static final SimpleDateFormat simpleDateFormatTimeStamp = new SimpleDateFormat(ParameterParser
+                .DATE_FORMAT_WITH_TIMESTAMP);
+        private static final SimpleDateFormat simpleDateFormat = new SimpleDateFormat(ParameterParser.DATE_FORMAT);
+
+        static Map<String, Object> parseParameters(final String parameters) {
+            final Map<String, Object> parameterMap = new HashMap<>();
+            for (final String parameter : parameters.split(",")) {
+                final Map.Entry<String, Object> entry = generateParameterEntry(parameter);
+                parameterMap.put(entry.getKey(), entry.getValue());
+            }
+            return parameterMap;
+        }
+
+        private static Map.Entry<String, Object> generateParameterEntry(final String parameter) {
+            log.debug("parsing: " + parameter);
+            final String[] firstSplit = parameter.split(Pattern.quote("("), 2);
+            final String key = firstSplit[0].trim();
+            log.debug("got key: " + key);
+            final String[] secondSplit = firstSplit[1].split(Pattern.quote(")"), 2);
+            final String type = secondSplit[0].trim();
+            log.debug("got type: " + type);
+            final String valueString = secondSplit[1].split("=", 2)[1];
+            log.debug("got value: " + valueString);
+            final Object value;
+            switch (type.toUpperCase()) {
+                case "LONG":
+                    value = Long.parseLong(valueString);
+                    break;
+                case "DOUBLE":
+                    value = Double.parseDouble(valueString);
+                    break;
+                case "DATE":
+                    value = parseDate(valueString);
+                    break;
+                default:
+                    value = valueString;
+            }
+            return new AbstractMap.SimpleEntry<>(key, value);
+        }
+
+        private static Object parseDate(final String dateString) {
+            try {
+                return simpleDateFormatTimeStamp.parse(dateString);
+            } catch (final ParseException e) {
+                try {
+                    return simpleDateFormat.parse(dateString);
+                } catch (final ParseException e1) {
+                    throw new IllegalArgumentException(e1);
+                }
+            }
+        }
+    }
+}
@@ -6,9 +6,12 @@ import org.springframework.batch.core.JobParametersBuilder;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
 
 import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.Map;
+import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -134,4 +137,71 @@ public class ParameterParserTest {
         final String result = ParameterParser.parseJobParametersToString(jobParameters);
         assertThat(result).isEqualTo("String(String)=someString,long(Long)=1");
     }
+
+    @Test
+    public void parseParametersQuotedTest() {
+        final String parameters = "recipients(String)=\"a@b.de,c@d.de\", name(String)=\"say \"\"hello\"\"\",count(Long)=2";
+        final Map<String, Object> parameterMap = ParameterParser.parseParameters(parameters);
+        assertThat(parameterMap).hasSize(3);
+        assertThat(parameterMap.get("recipients")).isEqualTo("a@b.de,c@d.de");
+        assertThat(parameterMap.get("name")).isEqualTo("say \"hello\"");
+        assertThat(parameterMap.get("count")).isEqualTo(2L);
+    }
+
+    @Test
+    public void parseParameterMapToStringRoundTripTest() {
+        final Map<String, Object> parameterMap = new HashMap<>();
+        parameterMap.put("recipients", "a@b.de,c@d.de");
+        parameterMap.put("quoted", "\"quoted\"");
+        parameterMap.put("plain", "some value");
+        parameterMap.put("double", 1.5);
+        parameterMap.put("date", new Date(1427494764120L));
+        final String parameters = ParameterParser.parseParameterMapToString(parameterMap);
+        assertThat(ParameterParser.parseParameters(parameters)).isEqualTo(parameterMap);
+    }
+
+    @Test(expected = SpringBatchLightminApplicationException.class)
+    public void parseParametersMissingTypeTest() {
+        ParameterParser.parseParameters("test=1,other(Long)=2");
+    }
+
+    @Test(expected = SpringBatchLightminApplicationException.class)
+    public void parseParametersUnterminatedQuoteTest() {
+        ParameterParser.parseParameters("test(String)=\"a,b");
+    }
+
+    @Test
+    public void parseParametersConcurrentTest() throws Exception {
+        final int threadCount = 8;
+        final int iterations = 2000;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            final List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                final long offset = t * 86400000L * 31;
+                futures.add(executorService.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        int failures = 0;
+                        for (int i = 0; i < iterations; i++) {
+                            final Date expected = new Date(1427494764120L + offset + i * 3600001L);
+                            final Map<String, Object> parameterMap = new HashMap<>();
+                            parameterMap.put("date", expected);
+                            final String parameters = ParameterParser.parseParameterMapToString(parameterMap);
+                            final Object actual = ParameterParser.parseParameters(parameters).get("date");
+                            if (!expected.equals(actual)) {
+                                failures++;
+                            }
+                        }
+                        return failures;
+                    }
+                }));
+            }
+            for (final Future<Integer> future : futures) {
+                assertThat(future.get()).isEqualTo(0);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package org.tuxdevelop.spring.batch.lightmin.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimiterTest {
+
+    @Test
+    public void acquireTest() throws Exception {
+        final RateLimiter rateLimiter = new RateLimiter(50.0);
+        final long start = System.nanoTime();
+        for (int i = 0; i < 11; i++) {
+            rateLimiter.acquire();
+        }
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(190L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructNonPositiveRateTest() {
+        new RateLimiter(0);
+    }
+}
@@ -28,6 +28,7 @@ public class ITPersistenceConfiguration {
     public DataSource dataSource() {
         final EmbeddedDatabaseBuilder embeddedDatabaseBuilder = new EmbeddedDatabaseBuilder();
         return embeddedDatabaseBuilder.addScript("classpath:create.sql")
+                .addScript("classpath:org/tuxdevelop/spring/batch/lightmin/schema_batch_index_h2.sql")
                 .addScript("classpath:schema_h2.sql").setType(EmbeddedDatabaseType.H2).build();
     }
 
@@ -4,18 +4,22 @@ package org.tuxdevelop.spring.batch.lightmin.documentation.api.client;
 import com.jayway.restassured.http.ContentType;
 import org.junit.Test;
 import org.tuxdevelop.spring.batch.lightmin.api.controller.AbstractRestController;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.BulkJobLaunch;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.JobLaunch;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameter;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.ParameterType;
 import org.tuxdevelop.spring.batch.lightmin.documentation.api.AbstractServiceDocumentation;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.jayway.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.is;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.restdocs.restassured.RestAssuredRestDocumentation.document;
 import static org.springframework.restdocs.restassured.operation.preprocess.RestAssuredPreprocessors.modifyUris;
 
@@ -52,4 +56,65 @@ public class JobLauncherRestControllerDocumentation extends AbstractServiceDocum
 
     }
 
+    @Test
+    public void testLaunchJobs() {
+        final JobParameters jobParameters = new JobParameters();
+        final JobParameter jobParameter = new JobParameter();
+        jobParameter.setParameter("~/input/current_file.csv");
+        jobParameter.setParameterType(ParameterType.STRING);
+        jobParameters.getParameters().put("pathToTargetFile", jobParameter);
+        final List<JobParameter> fanOutParameters = new ArrayList<>();
+        for (final String tenant : new String[]{"tenant-1", "tenant-2"}) {
+            final JobParameter fanOutParameter = new JobParameter();
+            fanOutParameter.setParameter(tenant);
+            fanOutParameter.setParameterType(ParameterType.STRING);
+            fanOutParameters.add(fanOutParameter);
+        }
+        final BulkJobLaunch bulkJobLaunch = new BulkJobLaunch();
+        bulkJobLaunch.setJobName("simpleJob");
+        bulkJobLaunch.setJobParameters(jobParameters);
+        bulkJobLaunch.setFanOutParameterName("tenant");
+        bulkJobLaunch.setFanOutParameters(fanOutParameters);
+        given(this.documentationSpec)
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .filter(document("joblaunchercontroller/{method-name}",
+                        preprocessRequest(modifyUris()
+                                        .scheme("http")
+                                        .host("localhost")
+                                        .removePort(),
+                                prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+                .when()
+                .port(getServerPort())
+                .body(bulkJobLaunch)
+                .post(AbstractRestController.JobLauncherRestControllerAPI.JOB_LAUNCH_BULK)
+                .then()
+                .assertThat().statusCode(is(202));
+    }
+
+    @Test
+    public void testGetJobExecutionCompletion() {
+        given(this.documentationSpec)
+                .accept(ContentType.JSON)
+                .filter(document("joblaunchercontroller/{method-name}",
+                        preprocessRequest(modifyUris()
+                                        .scheme("http")
+                                        .host("localhost")
+                                        .removePort(),
+                                prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(
+                                parameterWithName("jobexecutionid").description("The id of the Job Execution")),
+                        requestParameters(
+                                parameterWithName("timeout").description("The max time in milliseconds to wait, "
+                                        + "capped by the configured completion timeout"))))
+                .when()
+                .port(getServerPort())
+                .get(AbstractRestController.JobLauncherRestControllerAPI.JOB_EXECUTION_COMPLETION + "?timeout=5000",
+                        launchedJobExecutionId)
+                .then()
+                .assertThat().statusCode(is(200));
+    }
+
 }
@@ -4,8 +4,14 @@ package org.tuxdevelop.spring.batch.lightmin.documentation.api.client;
 import com.jayway.restassured.http.ContentType;
 import org.junit.Test;
 import org.tuxdevelop.spring.batch.lightmin.api.controller.AbstractRestController;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.BatchStatus;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.BulkJobExecutionOperation;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.JobExecutionSearch;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.RetentionPolicy;
 import org.tuxdevelop.spring.batch.lightmin.documentation.api.AbstractServiceDocumentation;
 
+import java.util.Collections;
+
 import static com.jayway.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.is;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
@@ -62,6 +68,136 @@ public class JobRestControllerDocumentation extends AbstractServiceDocumentation
                 .assertThat().statusCode(is(200));
     }
 
+    @Test
+    public void testSearchJobExecutions() {
+        final JobExecutionSearch jobExecutionSearch = new JobExecutionSearch();
+        jobExecutionSearch.setJobName("simpleJob");
+        jobExecutionSearch.setStatuses(Collections.singleton(BatchStatus.COMPLETED));
+        jobExecutionSearch.setExitCode("COMPLETED");
+        jobExecutionSearch.setPageSize(5);
+        given(this.documentationSpec)
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .filter(document("jobcontroller/{method-name}",
+                        preprocessRequest(modifyUris()
+                                        .scheme("http")
+                                        .host("localhost")
+                                        .removePort(),
+                                prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+                .when()
+                .port(getServerPort())
+                .body(jobExecutionSearch)
+                .post(AbstractRestController.JobRestControllerAPI.JOB_EXECUTIONS_SEARCH)
+                .then()
+                .assertThat().statusCode(is(200));
+    }
+
+    @Test
+    public void testExportJobExecutions() {
+        final JobExecutionSearch jobExecutionSearch = new JobExecutionSearch();
+        jobExecutionSearch.setJobName("simpleJob");
+        jobExecutionSearch.setStatuses(Collections.singleton(BatchStatus.COMPLETED));
+        given(this.documentationSpec)
+                .accept(AbstractRestController.APPLICATION_NDJSON_VALUE)
+                .contentType(ContentType.JSON)
+                .filter(document("jobcontroller/{method-name}",
+                        preprocessRequest(modifyUris()
+                                        .scheme("http")
+                                        .host("localhost")
+                                        .removePort(),
+                                prettyPrint())))
+                .when()
+                .port(getServerPort())
+                .body(jobExecutionSearch)
+                .post(AbstractRestController.JobRestControllerAPI.JOB_EXECUTIONS_EXPORT)
+                .then()
+                .assertThat().statusCode(is(200));
+    }
+
+    @Test
+    public void testGetJobExecutionStatistics() {
+        given(this.documentationSpec)
+                .accept(ContentType.JSON)
+                .filter(document("jobcontroller/{method-name}",
+                        preprocessRequest(modifyUris()
+                                        .scheme("http")
+                                        .host("localhost")
+                                        .removePort(),
+                                prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(
+                                parameterWithName("jobname").description("The name of the job"))))
+                .when()
+                .port(getServerPort())
+                .get(AbstractRestController.JobRestControllerAPI.JOB_EXECUTION_STATISTICS_JOB_NAME, "simpleJob")
+                .then()
+                .assertThat().statusCode(is(200));
+    }
+
+    @Test
+    public void testPurgeJobExecutions() {
+        final RetentionPolicy retentionPolicy = new RetentionPolicy();
+        retentionPolicy.setMaxAge(30L * 24L * 60L * 60L * 1000L);
+        retentionPolicy.setMaxExecutionsPerJob(1000);
+        given(this.documentationSpec)
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .filter(document("jobcontroller/{method-name}",
+                        preprocessRequest(modifyUris()
+                                        .scheme("http")
+                                        .host("localhost")
+                                        .removePort(),
+                                prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+                .when()
+                .port(getServerPort())
+                .body(retentionPolicy)
+                .post(AbstractRestController.JobRestControllerAPI.JOB_EXECUTION_PURGES)
+                .then()
+                .assertThat().statusCode(is(400));
+    }
+
+    @Test
+    public void testGetJobExecutionPurgeStatus() {
+        given(this.documentationSpec)
+                .accept(ContentType.JSON)
+                .filter(document("jobcontroller/{method-name}",
+                        preprocessRequest(modifyUris()
+                                        .scheme("http")
+                                        .host("localhost")
+                                        .removePort(),
+                                prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+                .when()
+                .port(getServerPort())
+                .get(AbstractRestController.JobRestControllerAPI.JOB_EXECUTION_PURGES)
+                .then()
+                .assertThat().statusCode(is(200));
+    }
+
+    @Test
+    public void testStopJobExecutions() {
+        final BulkJobExecutionOperation bulkJobExecutionOperation = new BulkJobExecutionOperation();
+        bulkJobExecutionOperation.setJobExecutionIds(Collections.singletonList(launchedJobExecutionId));
+        given(this.documentationSpec)
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .filter(document("jobcontroller/{method-name}",
+                        preprocessRequest(modifyUris()
+                                        .scheme("http")
+                                        .host("localhost")
+                                        .removePort(),
+                                prettyPrint()),
+                        preprocessResponse(prettyPrint())))
+                .when()
+                .port(getServerPort())
+                .body(bulkJobExecutionOperation)
+                .post(AbstractRestController.JobRestControllerAPI.JOB_EXECUTIONS_BULK_STOP)
+                .then()
+                .assertThat().statusCode(is(202));
+    }
+
     @Test
     public void testGetAllJobExecutionsByJobInstanceId() {
         given(this.documentationSpec)
@@ -207,6 +343,32 @@ public class JobRestControllerDocumentation extends AbstractServiceDocumentation
                 .assertThat().statusCode(is(200));
     }
 
+    @Test
+    public void testGetStepExecutionContext() {
+        given(this.documentationSpec)
+                .accept(ContentType.JSON)
+                .filter(document("jobcontroller/{method-name}",
+                        preprocessRequest(modifyUris()
+                                        .scheme("http")
+                                        .host("localhost")
+                                        .removePort(),
+                                prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(
+                                parameterWithName("stepexecutionid").description("The id of the Step Execution"),
+                                parameterWithName("jobexecutionid").description("The id of the Job Execution the " +
+                                        "Step Excution belongs to")),
+                        requestParameters(
+                                parameterWithName("maxlength").description("The max count of characters of the "
+                                        + "context, capped by the configured max length"))))
+                .when()
+                .port(getServerPort())
+                .get(AbstractRestController.JobRestControllerAPI.STEP_EXECUTIONS_CONTEXT + "?maxlength=1024",
+                        launchedStepExecutionId, launchedJobExecutionId)
+                .then()
+                .assertThat().statusCode(is(200));
+    }
+
     @Test
     public void testGetLastJobParameters() {
         given(this.documentationSpec)
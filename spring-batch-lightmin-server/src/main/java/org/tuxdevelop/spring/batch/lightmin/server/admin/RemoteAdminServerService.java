@@ -1,6 +1,8 @@
 package org.tuxdevelop.spring.batch.lightmin.server.admin;
 
 
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
@@ -8,6 +10,7 @@ import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfiguration;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.admin.JobConfigurations;
 import org.tuxdevelop.spring.batch.lightmin.client.api.LightminClientApplication;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
+import org.tuxdevelop.spring.batch.lightmin.server.support.ConditionalGetCache;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -21,9 +24,15 @@ import java.util.Map;
 public class RemoteAdminServerService implements AdminServerService {
 
     private final RestTemplate restTemplate;
+    private final ConditionalGetCache conditionalGetCache;
 
     public RemoteAdminServerService(final RestTemplate restTemplate) {
+        this(restTemplate, new ConditionalGetCache(restTemplate, 0));
+    }
+
+    public RemoteAdminServerService(final RestTemplate restTemplate, final ConditionalGetCache conditionalGetCache) {
         this.restTemplate = restTemplate;
+        this.conditionalGetCache = conditionalGetCache;
     }
 
     @Override
@@ -37,12 +46,18 @@ public class RemoteAdminServerService implements AdminServerService {
 
     @Override
     public void updateJobConfiguration(final JobConfiguration jobConfiguration, final LightminClientApplication lightminClientApplication) {
-        restTemplate.put(getClientUri(lightminClientApplication), jobConfiguration);
+        final HttpEntity<JobConfiguration> request = new HttpEntity<>(jobConfiguration);
+        final ResponseEntity<JobConfiguration> response = restTemplate.exchange(getClientUri(lightminClientApplication),
+                HttpMethod.PUT, request, JobConfiguration.class);
+        checkHttpOk(response);
+        if (response.getBody() != null) {
+            jobConfiguration.setVersion(response.getBody().getVersion());
+        }
     }
 
     @Override
     public JobConfigurations getJobConfigurations(final LightminClientApplication lightminClientApplication) {
-        final ResponseEntity<JobConfigurations> response = restTemplate.getForEntity(getClientUri(lightminClientApplication), JobConfigurations.class);
+        final ResponseEntity<JobConfigurations> response = conditionalGetCache.getForEntity(getClientUri(lightminClientApplication), JobConfigurations.class);
         checkHttpOk(response);
         return response.getBody();
     }
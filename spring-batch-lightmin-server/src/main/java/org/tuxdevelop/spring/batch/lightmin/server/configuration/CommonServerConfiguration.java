@@ -8,9 +8,12 @@ import org.springframework.web.client.RestTemplate;
 import org.tuxdevelop.spring.batch.lightmin.client.configuration.BasicAuthHttpRequestInterceptor;
 import org.tuxdevelop.spring.batch.lightmin.server.repository.LightminApplicationRepository;
 import org.tuxdevelop.spring.batch.lightmin.server.repository.MapLightminApplicationRepository;
+import org.tuxdevelop.spring.batch.lightmin.server.support.GzipHttpRequestInterceptor;
 import org.tuxdevelop.spring.batch.lightmin.server.support.RegistrationBean;
+import org.tuxdevelop.spring.batch.lightmin.util.SmileHttpMessageConverter;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * @author Marcel Becker
@@ -38,14 +41,19 @@ public class CommonServerConfiguration {
 
             if (restTemplate == null) {
                 restTemplate = new RestTemplate();
+                if (Boolean.TRUE.equals(lightminServerProperties.getClientSmileEnabled())) {
+                    restTemplate.getMessageConverters().add(0, new SmileHttpMessageConverter());
+                }
             }
+            final List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
             if (lightminServerProperties.getClientUserName() != null) {
-                restTemplate.setInterceptors(
-                        Collections.<ClientHttpRequestInterceptor>singletonList(
-                                new BasicAuthHttpRequestInterceptor(lightminServerProperties.getClientUserName(),
-                                        lightminServerProperties.getClientPassword()))
-                );
+                interceptors.add(new BasicAuthHttpRequestInterceptor(lightminServerProperties.getClientUserName(),
+                        lightminServerProperties.getClientPassword()));
             }
+            if (Boolean.TRUE.equals(lightminServerProperties.getClientGzipEnabled())) {
+                interceptors.add(new GzipHttpRequestInterceptor());
+            }
+            restTemplate.setInterceptors(interceptors);
             return restTemplate;
         }
     }
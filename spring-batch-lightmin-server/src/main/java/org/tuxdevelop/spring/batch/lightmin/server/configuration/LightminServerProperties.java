@@ -18,6 +18,18 @@ public class LightminServerProperties {
     @Setter
     private Long heartbeatPeriod = 100000L;
 
+    @Getter
+    @Setter
+    private Integer responseCacheSize = 1000;
+
+    @Getter
+    @Setter
+    private Boolean clientSmileEnabled = Boolean.FALSE;
+
+    @Getter
+    @Setter
+    private Boolean clientGzipEnabled = Boolean.TRUE;
+
     @Getter
     @Setter
     private String clientUserName;
@@ -13,6 +13,7 @@ import org.tuxdevelop.spring.batch.lightmin.server.job.JobServerService;
 import org.tuxdevelop.spring.batch.lightmin.server.job.RemoteJobServerService;
 import org.tuxdevelop.spring.batch.lightmin.server.repository.LightminApplicationRepository;
 import org.tuxdevelop.spring.batch.lightmin.server.support.ClientApplicationStatusUpdater;
+import org.tuxdevelop.spring.batch.lightmin.server.support.ConditionalGetCache;
 import org.tuxdevelop.spring.batch.lightmin.server.support.RegistrationBean;
 
 /**
@@ -29,13 +30,23 @@ public class ServerConfiguration {
     }
 
     @Bean
-    public AdminServerService adminServerService(final LightminServerProperties lightminServerProperties) {
-        return new RemoteAdminServerService(CommonServerConfiguration.RestTemplateFactory.getRestTemplate(lightminServerProperties));
+    public ConditionalGetCache conditionalGetCache(final LightminServerProperties lightminServerProperties) {
+        return new ConditionalGetCache(CommonServerConfiguration.RestTemplateFactory.getRestTemplate(lightminServerProperties),
+                lightminServerProperties.getResponseCacheSize());
     }
 
     @Bean
-    public JobServerService jobServerService(final LightminServerProperties lightminServerProperties) {
-        return new RemoteJobServerService(CommonServerConfiguration.RestTemplateFactory.getRestTemplate(lightminServerProperties));
+    public AdminServerService adminServerService(final LightminServerProperties lightminServerProperties,
+                                                 final ConditionalGetCache conditionalGetCache) {
+        return new RemoteAdminServerService(CommonServerConfiguration.RestTemplateFactory.getRestTemplate(lightminServerProperties),
+                conditionalGetCache);
+    }
+
+    @Bean
+    public JobServerService jobServerService(final LightminServerProperties lightminServerProperties,
+                                             final ConditionalGetCache conditionalGetCache) {
+        return new RemoteJobServerService(CommonServerConfiguration.RestTemplateFactory.getRestTemplate(lightminServerProperties),
+                conditionalGetCache);
     }
 
     @Bean
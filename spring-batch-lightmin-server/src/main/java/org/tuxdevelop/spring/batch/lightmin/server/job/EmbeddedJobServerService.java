@@ -6,6 +6,8 @@ import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
 import org.tuxdevelop.spring.batch.lightmin.client.api.LightminClientApplication;
 import org.tuxdevelop.spring.batch.lightmin.support.ServiceEntry;
 
+import java.util.Date;
+
 /**
  * @author Marcel Becker
  * @since 0.3
@@ -30,6 +32,29 @@ public class EmbeddedJobServerService implements JobServerService {
         return serviceEntry.getJobInstancesByJobName(jobName, startIndexParam, pageSizeParam);
     }
 
+    @Override
+    public JobInstancePage getJobInstancesByCursor(final String jobName, final String cursor, final Integer startIndex,
+                                                   final Integer pageSize,
+                                                   final LightminClientApplication lightminClientApplication) {
+        final Integer startIndexParam = startIndex != null ? startIndex : 0;
+        final Integer pageSizeParam = pageSize != null ? pageSize : 10;
+        return serviceEntry.getJobInstancesByJobNameAndCursor(jobName, cursor, startIndexParam, pageSizeParam);
+    }
+
+    @Override
+    public JobExecutionPage searchJobExecutions(final JobExecutionSearch jobExecutionSearch,
+                                                final LightminClientApplication lightminClientApplication) {
+        return serviceEntry.searchJobExecutions(jobExecutionSearch);
+    }
+
+    @Override
+    public JobExecutionStatistics getJobExecutionStatistics(final String jobName,
+                                                            final Date startTimeFrom,
+                                                            final Date startTimeTo,
+                                                            final LightminClientApplication lightminClientApplication) {
+        return serviceEntry.getJobExecutionStatistics(jobName, startTimeFrom, startTimeTo);
+    }
+
     @Override
     public JobInfo getJobInfo(final String jobName, final LightminClientApplication lightminClientApplication) {
         return serviceEntry.getJobInfo(jobName);
@@ -43,12 +68,34 @@ public class EmbeddedJobServerService implements JobServerService {
         return serviceEntry.getJobExecutionPage(jobInstanceId, startIndex, pageSize);
     }
 
+    @Override
+    public JobExecutionPage getJobExecutionPageByCursor(final Long jobInstanceId,
+                                                        final String cursor,
+                                                        final Integer startIndex,
+                                                        final Integer pageSize,
+                                                        final LightminClientApplication lightminClientApplication) {
+        final Integer startIndexParam = startIndex != null ? startIndex : 0;
+        final Integer pageSizeParam = pageSize != null ? pageSize : 10;
+        return serviceEntry.getJobExecutionPageByCursor(jobInstanceId, cursor, startIndexParam, pageSizeParam);
+    }
+
     @Override
     public JobExecutionPage getJobExecutionPage(final Long jobInstanceId,
                                                 final LightminClientApplication lightminClientApplication) {
         return serviceEntry.getJobExecutionPage(jobInstanceId);
     }
 
+    @Override
+    public JobExecutionPurgeStatus purgeJobExecutions(final RetentionPolicy retentionPolicy,
+                                                      final LightminClientApplication lightminClientApplication) {
+        return serviceEntry.purgeJobExecutions(retentionPolicy);
+    }
+
+    @Override
+    public JobExecutionPurgeStatus getJobExecutionPurgeStatus(final LightminClientApplication lightminClientApplication) {
+        return serviceEntry.getJobExecutionPurgeStatus();
+    }
+
     @Override
     public void restartJobExecution(final Long jobExecutionId, final LightminClientApplication lightminClientApplication) {
         serviceEntry.restartJobExecution(jobExecutionId);
@@ -65,8 +112,8 @@ public class EmbeddedJobServerService implements JobServerService {
     }
 
     @Override
-    public void launchJob(final JobLaunch jobLaunch, final LightminClientApplication lightminClientApplication) {
-        serviceEntry.launchJob(jobLaunch);
+    public JobLaunchResult launchJob(final JobLaunch jobLaunch, final LightminClientApplication lightminClientApplication) {
+        return serviceEntry.launchJob(jobLaunch);
     }
 
     @Override
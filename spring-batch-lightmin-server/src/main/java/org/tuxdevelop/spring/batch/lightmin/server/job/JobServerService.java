@@ -4,6 +4,8 @@ import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.*;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
 import org.tuxdevelop.spring.batch.lightmin.client.api.LightminClientApplication;
 
+import java.util.Date;
+
 /**
  * @author Marcel Becker
  * @since 0.3
@@ -38,6 +40,24 @@ public interface JobServerService {
                                     Integer pageSize,
                                     LightminClientApplication lightminClientApplication);
 
+    /**
+     * Retrieves {@link JobInstancePage} containing {@link JobInstance}s for a given name of a
+     * {@link org.springframework.batch.core.Job}, starting after the position encoded by the given cursor
+     * for a given {@link LightminClientApplication}
+     *
+     * @param jobName                   the name of the Spring Batch Job
+     * @param cursor                    the {@link JobInstancePage#getNextCursor()} of the previous page
+     * @param startIndex                the index position of the page as tracked by the caller
+     * @param pageSize                  the size of the page
+     * @param lightminClientApplication the LightminClientApplication
+     * @return the JobInstancePage
+     */
+    JobInstancePage getJobInstancesByCursor(String jobName,
+                                            String cursor,
+                                            Integer startIndex,
+                                            Integer pageSize,
+                                            LightminClientApplication lightminClientApplication);
+
     /**
      * Retrieves high level {@link JobInfo} of a {@link org.springframework.batch.core.Job} for a given job name
      * for a given {@link LightminClientApplication}
@@ -49,6 +69,22 @@ public interface JobServerService {
     JobInfo getJobInfo(String jobName,
                        LightminClientApplication lightminClientApplication);
 
+    /**
+     * Retrieves the {@link JobExecutionStatistics} of a {@link org.springframework.batch.core.Job} for the executions
+     * started within the given time window
+     * for a given {@link LightminClientApplication}
+     *
+     * @param jobName                   the name of the Spring Batch Job
+     * @param startTimeFrom             inclusive lower bound of the start time, null for one day before the upper bound
+     * @param startTimeTo               exclusive upper bound of the start time, null for now
+     * @param lightminClientApplication the LightminClientApplication
+     * @return the JobExecutionStatistics
+     */
+    JobExecutionStatistics getJobExecutionStatistics(String jobName,
+                                                     Date startTimeFrom,
+                                                     Date startTimeTo,
+                                                     LightminClientApplication lightminClientApplication);
+
     /**
      * Retrieves {@link JobExecutionPage} containing {@link JobExecution}s for a given
      * {@link org.springframework.batch.core.JobInstance} id
@@ -65,6 +101,35 @@ public interface JobServerService {
                                          final Integer pageSize,
                                          final LightminClientApplication lightminClientApplication);
 
+    /**
+     * Retrieves {@link JobExecutionPage} containing {@link JobExecution}s for a given
+     * {@link org.springframework.batch.core.JobInstance} id, starting after the position encoded by the given cursor
+     * for a given {@link LightminClientApplication}
+     *
+     * @param jobInstanceId             the id of the JobInstance
+     * @param cursor                    the {@link JobExecutionPage#getNextCursor()} of the previous page
+     * @param startIndex                the index position of the page as tracked by the caller
+     * @param pageSize                  the size of the page
+     * @param lightminClientApplication the LightminClientApplication
+     * @return the JobExecutionPage
+     */
+    JobExecutionPage getJobExecutionPageByCursor(final Long jobInstanceId,
+                                                 final String cursor,
+                                                 final Integer startIndex,
+                                                 final Integer pageSize,
+                                                 final LightminClientApplication lightminClientApplication);
+
+    /**
+     * Retrieves {@link JobExecutionPage} containing the {@link JobExecution}s matching the given
+     * {@link JobExecutionSearch} for a given {@link LightminClientApplication}
+     *
+     * @param jobExecutionSearch        the criteria, cursor and page size of the search
+     * @param lightminClientApplication the LightminClientApplication
+     * @return the JobExecutionPage
+     */
+    JobExecutionPage searchJobExecutions(final JobExecutionSearch jobExecutionSearch,
+                                         final LightminClientApplication lightminClientApplication);
+
     /**
      * Retrieves {@link JobExecutionPage} containing {@link JobExecution}s for a given
      * {@link org.springframework.batch.core.JobInstance} id
@@ -77,6 +142,27 @@ public interface JobServerService {
     JobExecutionPage getJobExecutionPage(Long jobInstanceId,
                                          LightminClientApplication lightminClientApplication);
 
+    /**
+     * Starts an asynchronous purge of finished {@link org.springframework.batch.core.JobExecution}s, if no purge is
+     * running
+     * for a given {@link LightminClientApplication}
+     *
+     * @param retentionPolicy           the policy to apply, null for the configured retention policy
+     * @param lightminClientApplication the LightminClientApplication
+     * @return the JobExecutionPurgeStatus of the started or of the already running purge
+     */
+    JobExecutionPurgeStatus purgeJobExecutions(final RetentionPolicy retentionPolicy,
+                                               final LightminClientApplication lightminClientApplication);
+
+    /**
+     * Retrieves the {@link JobExecutionPurgeStatus} of the running or of the last purge
+     * for a given {@link LightminClientApplication}
+     *
+     * @param lightminClientApplication the LightminClientApplication
+     * @return the JobExecutionPurgeStatus
+     */
+    JobExecutionPurgeStatus getJobExecutionPurgeStatus(final LightminClientApplication lightminClientApplication);
+
     /**
      * Restarts a {@link org.springframework.batch.core.JobExecution} of a given id
      * for a given {@link LightminClientApplication}
@@ -109,12 +195,13 @@ public interface JobServerService {
 
     /**
      * Lauches a {@link org.springframework.batch.core.Job} with the given values of the {@link JobLaunch} parameter
-     * for a given {@link LightminClientApplication}
+     * for a given {@link LightminClientApplication}. The launch returns as soon as the JobExecution has been created.
      *
      * @param jobLaunch                 the launch information for the Job
      * @param lightminClientApplication the LightminClientApplication
+     * @return the JobLaunchResult containing the id of the created JobExecution, null if the client does not return it
      */
-    void launchJob(final JobLaunch jobLaunch, final LightminClientApplication lightminClientApplication);
+    JobLaunchResult launchJob(final JobLaunch jobLaunch, final LightminClientApplication lightminClientApplication);
 
     /**
      * Retrieves the last used {@link JobParameters} of a {@link org.springframework.batch.core.Job} run
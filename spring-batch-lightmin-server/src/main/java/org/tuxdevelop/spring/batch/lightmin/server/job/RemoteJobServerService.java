@@ -4,10 +4,17 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.*;
 import org.tuxdevelop.spring.batch.lightmin.api.resource.common.JobParameters;
 import org.tuxdevelop.spring.batch.lightmin.client.api.LightminClientApplication;
 import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
+import org.tuxdevelop.spring.batch.lightmin.server.support.ConditionalGetCache;
+
+import java.io.UnsupportedEncodingException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
 
 /**
  * @author Marcel Becker
@@ -15,10 +22,18 @@ import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplica
  */
 public class RemoteJobServerService implements JobServerService {
 
+    private static final String ISO_DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
+
     private final RestTemplate restTemplate;
+    private final ConditionalGetCache conditionalGetCache;
 
     public RemoteJobServerService(final RestTemplate restTemplate) {
+        this(restTemplate, new ConditionalGetCache(restTemplate, 0));
+    }
+
+    public RemoteJobServerService(final RestTemplate restTemplate, final ConditionalGetCache conditionalGetCache) {
         this.restTemplate = restTemplate;
+        this.conditionalGetCache = conditionalGetCache;
     }
 
     @Override
@@ -40,7 +55,54 @@ public class RemoteJobServerService implements JobServerService {
         uriComponentsBuilder.queryParam("jobname", jobName);
         uriComponentsBuilder.queryParam("startindex", startIndexParam);
         uriComponentsBuilder.queryParam("pagesize", pageSizeParam);
-        final ResponseEntity<JobInstancePage> response = restTemplate.getForEntity(uriComponentsBuilder.toUriString(), JobInstancePage.class, jobName);
+        final ResponseEntity<JobInstancePage> response = conditionalGetCache.getForEntity(uriComponentsBuilder.toUriString(), JobInstancePage.class, jobName);
+        checkHttpOk(response);
+        return response.getBody();
+    }
+
+    @Override
+    public JobInstancePage getJobInstancesByCursor(final String jobName, final String cursor, final Integer startIndex,
+                                                   final Integer pageSize,
+                                                   final LightminClientApplication lightminClientApplication) {
+        final String uri = getClientUri(lightminClientApplication) + "/jobinstances";
+        final UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromUriString(uri);
+        final Integer startIndexParam = startIndex != null ? startIndex : 0;
+        final Integer pageSizeParam = pageSize != null ? pageSize : 10;
+        uriComponentsBuilder.queryParam("jobname", jobName);
+        uriComponentsBuilder.queryParam("startindex", startIndexParam);
+        uriComponentsBuilder.queryParam("pagesize", pageSizeParam);
+        uriComponentsBuilder.queryParam("cursor", cursor);
+        final ResponseEntity<JobInstancePage> response = conditionalGetCache.getForEntity(uriComponentsBuilder.toUriString(), JobInstancePage.class);
+        checkHttpOk(response);
+        return response.getBody();
+    }
+
+    @Override
+    public JobExecutionPage searchJobExecutions(final JobExecutionSearch jobExecutionSearch,
+                                                final LightminClientApplication lightminClientApplication) {
+        final String uri = getClientUri(lightminClientApplication) + "/jobexecutions/search";
+        final ResponseEntity<JobExecutionPage> response = restTemplate.postForEntity(uri, jobExecutionSearch,
+                JobExecutionPage.class);
+        checkHttpOk(response);
+        return response.getBody();
+    }
+
+    @Override
+    public JobExecutionStatistics getJobExecutionStatistics(final String jobName,
+                                                            final Date startTimeFrom,
+                                                            final Date startTimeTo,
+                                                            final LightminClientApplication lightminClientApplication) {
+        final String uri = getClientUri(lightminClientApplication) + "/jobexecutionstatistics/"
+                + encode(jobName);
+        final UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromUriString(uri);
+        if (startTimeFrom != null) {
+            uriComponentsBuilder.queryParam("starttimefrom", encode(formatDateTime(startTimeFrom)));
+        }
+        if (startTimeTo != null) {
+            uriComponentsBuilder.queryParam("starttimeto", encode(formatDateTime(startTimeTo)));
+        }
+        final ResponseEntity<JobExecutionStatistics> response = restTemplate.getForEntity(
+                uriComponentsBuilder.build(true).toUri(), JobExecutionStatistics.class);
         checkHttpOk(response);
         return response.getBody();
     }
@@ -48,7 +110,7 @@ public class RemoteJobServerService implements JobServerService {
     @Override
     public JobInfo getJobInfo(final String jobName, final LightminClientApplication lightminClientApplication) {
         final String uri = getClientUri(lightminClientApplication) + "/jobinfos/{jobname}";
-        final ResponseEntity<JobInfo> response = restTemplate.getForEntity(uri, JobInfo.class, jobName);
+        final ResponseEntity<JobInfo> response = conditionalGetCache.getForEntity(uri, JobInfo.class, jobName);
         checkHttpOk(response);
         return response.getBody();
     }
@@ -70,6 +132,25 @@ public class RemoteJobServerService implements JobServerService {
         return response.getBody();
     }
 
+    @Override
+    public JobExecutionPage getJobExecutionPageByCursor(final Long jobInstanceId,
+                                                        final String cursor,
+                                                        final Integer startIndex,
+                                                        final Integer pageSize,
+                                                        final LightminClientApplication lightminClientApplication) {
+        final String uri = getClientUri(lightminClientApplication) + "/jobexecutionpages";
+        final UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromUriString(uri);
+        final Integer startIndexParam = startIndex != null ? startIndex : 0;
+        final Integer pageSizeParam = pageSize != null ? pageSize : 10;
+        uriComponentsBuilder.queryParam("jobinstanceid", jobInstanceId);
+        uriComponentsBuilder.queryParam("startindex", startIndexParam);
+        uriComponentsBuilder.queryParam("pagesize", pageSizeParam);
+        uriComponentsBuilder.queryParam("cursor", cursor);
+        final ResponseEntity<JobExecutionPage> response = restTemplate.getForEntity(uriComponentsBuilder.toUriString(), JobExecutionPage.class);
+        checkHttpOk(response);
+        return response.getBody();
+    }
+
     @Override
     public JobExecutionPage getJobExecutionPage(final Long jobInstanceId, final LightminClientApplication lightminClientApplication) {
         final String uri = getClientUri(lightminClientApplication) + "/jobexecutionpages/all";
@@ -82,6 +163,28 @@ public class RemoteJobServerService implements JobServerService {
         return response.getBody();
     }
 
+    @Override
+    public JobExecutionPurgeStatus purgeJobExecutions(final RetentionPolicy retentionPolicy,
+                                                      final LightminClientApplication lightminClientApplication) {
+        final String uri = getClientUri(lightminClientApplication) + "/jobexecutionpurges";
+        final ResponseEntity<JobExecutionPurgeStatus> response = restTemplate.postForEntity(uri, retentionPolicy,
+                JobExecutionPurgeStatus.class);
+        if (!HttpStatus.ACCEPTED.equals(response.getStatusCode())) {
+            final String errorMessage = "ERROR - HTTP STATUS: " + response.getStatusCode();
+            throw new SpringBatchLightminApplicationException(errorMessage);
+        }
+        return response.getBody();
+    }
+
+    @Override
+    public JobExecutionPurgeStatus getJobExecutionPurgeStatus(final LightminClientApplication lightminClientApplication) {
+        final String uri = getClientUri(lightminClientApplication) + "/jobexecutionpurges";
+        final ResponseEntity<JobExecutionPurgeStatus> response = restTemplate.getForEntity(uri,
+                JobExecutionPurgeStatus.class);
+        checkHttpOk(response);
+        return response.getBody();
+    }
+
     @Override
     public void restartJobExecution(final Long jobExecutionId, final LightminClientApplication lightminClientApplication) {
         final String uri = getClientUri(lightminClientApplication) + "/jobexecutions/{jobexecutionid}/restart";
@@ -105,13 +208,14 @@ public class RemoteJobServerService implements JobServerService {
     }
 
     @Override
-    public void launchJob(final JobLaunch jobLaunch, final LightminClientApplication lightminClientApplication) {
+    public JobLaunchResult launchJob(final JobLaunch jobLaunch, final LightminClientApplication lightminClientApplication) {
         final String uri = getClientUri(lightminClientApplication) + "/joblaunches";
-        final ResponseEntity<Void> response = restTemplate.postForEntity(uri, jobLaunch, Void.class);
+        final ResponseEntity<JobLaunchResult> response = restTemplate.postForEntity(uri, jobLaunch, JobLaunchResult.class);
         if (!HttpStatus.CREATED.equals(response.getStatusCode())) {
             final String errorMessage = "ERROR - HTTP STATUS: " + response.getStatusCode();
             throw new SpringBatchLightminApplicationException(errorMessage);
         }
+        return response.getBody();
     }
 
     @Override
@@ -133,6 +237,23 @@ public class RemoteJobServerService implements JobServerService {
         return stringBuilder.toString();
     }
 
+    private static String formatDateTime(final Date date) {
+        final SimpleDateFormat simpleDateFormat = new SimpleDateFormat(ISO_DATE_TIME_FORMAT);
+        simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return simpleDateFormat.format(date);
+    }
+
+    /*
+     * Encodes a value up front, because the plus sign of a time zone offset is not encoded within query parameters
+     */
+    private static String encode(final String value) {
+        try {
+            return UriUtils.encode(value, "UTF-8");
+        } catch (final UnsupportedEncodingException e) {
+            throw new SpringBatchLightminApplicationException(e, e.getMessage());
+        }
+    }
+
     private void checkHttpOk(final ResponseEntity<?> responseEntity) {
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
             final String errorMessage = "ERROR - HTTP STATUS: " + responseEntity.getStatusCode();
@@ -0,0 +1,204 @@
+package org.tuxdevelop.spring.batch.lightmin.server.support;
+
+import lombok.Data;
+import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+import org.tuxdevelop.spring.batch.lightmin.exception.SpringBatchLightminApplicationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Performs conditional GET requests against the REST API of the client applications. The raw responses of resources
+ * carrying an ETag are cached per URI, further requests send the ETag as If-None-Match validator and the cached
+ * response is used, if the client answers with HTTP Status Code 304. The cached responses are deserialized on every
+ * request, so callers never share the returned resources.
+ * <p>
+ * The representation is negotiated and deserialized by the message converters of the RestTemplate, the cached
+ * responses keep their content type. The raw responses are read without the message converters, so a converter able
+ * to read byte arrays, e.g. the Smile converter, can not interfere.
+ * <p>
+ * The least recently used responses are evicted, if the cache exceeds its max size. A max size less or equal to zero
+ * disables the cache and plain GET requests are sent.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class ConditionalGetCache {
+
+    private static final ResponseExtractor<ResponseEntity<byte[]>> RAW_RESPONSE_EXTRACTOR =
+            new ResponseExtractor<ResponseEntity<byte[]>>() {
+                @Override
+                public ResponseEntity<byte[]> extractData(final ClientHttpResponse response) throws IOException {
+                    final byte[] body = HttpStatus.NOT_MODIFIED.equals(response.getStatusCode())
+                            ? null : StreamUtils.copyToByteArray(response.getBody());
+                    return new ResponseEntity<>(body != null && body.length > 0 ? body : null, response.getHeaders(),
+                            response.getStatusCode());
+                }
+            };
+
+    private final RestTemplate restTemplate;
+    private final int maxSize;
+    private final Map<String, CachedResponse> responses;
+
+    public ConditionalGetCache(final RestTemplate restTemplate, final int maxSize) {
+        this.restTemplate = restTemplate;
+        this.maxSize = maxSize;
+        this.responses = new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedResponse> eldest) {
+                return size() > ConditionalGetCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Retrieves a resource by a conditional GET request
+     *
+     * @param uri          the URI template of the resource
+     * @param responseType the type of the resource
+     * @param uriVariables the variables to expand the URI template
+     * @return the response, HTTP Status Code 200 and the cached resource, if it has not been modified
+     */
+    public <T> ResponseEntity<T> getForEntity(final String uri, final Class<T> responseType,
+                                              final Object... uriVariables) {
+        if (maxSize <= 0) {
+            return restTemplate.getForEntity(uri, responseType, uriVariables);
+        }
+        final URI expandedUri = restTemplate.getUriTemplateHandler().expand(uri, uriVariables);
+        final String key = expandedUri.toString();
+        final CachedResponse cachedResponse = get(key);
+        final HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.setAccept(getAcceptableMediaTypes(responseType));
+        if (cachedResponse != null) {
+            requestHeaders.setIfNoneMatch(cachedResponse.getETag());
+        }
+        final ResponseEntity<byte[]> response = restTemplate.execute(expandedUri, HttpMethod.GET,
+                new RequestCallback() {
+                    @Override
+                    public void doWithRequest(final ClientHttpRequest request) {
+                        request.getHeaders().putAll(requestHeaders);
+                    }
+                }, RAW_RESPONSE_EXTRACTOR);
+        final byte[] body;
+        final MediaType contentType;
+        if (HttpStatus.NOT_MODIFIED.equals(response.getStatusCode()) && cachedResponse != null) {
+            body = cachedResponse.getBody();
+            contentType = cachedResponse.getContentType();
+        } else if (HttpStatus.OK.equals(response.getStatusCode())) {
+            body = response.getBody();
+            contentType = response.getHeaders().getContentType();
+            final String eTag = response.getHeaders().getETag();
+            if (eTag != null && body != null) {
+                put(key, new CachedResponse(eTag, contentType, body));
+            } else {
+                remove(key);
+            }
+        } else {
+            return new ResponseEntity<>(response.getHeaders(), response.getStatusCode());
+        }
+        return new ResponseEntity<>(read(body, contentType, responseType), response.getHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * @return the count of cached responses
+     */
+    public synchronized int size() {
+        return responses.size();
+    }
+
+    private List<MediaType> getAcceptableMediaTypes(final Class<?> responseType) {
+        final List<MediaType> mediaTypes = new ArrayList<>();
+        for (final HttpMessageConverter<?> messageConverter : restTemplate.getMessageConverters()) {
+            if (messageConverter.canRead(responseType, null)) {
+                for (final MediaType supportedMediaType : messageConverter.getSupportedMediaTypes()) {
+                    final MediaType mediaType = new MediaType(supportedMediaType.getType(),
+                            supportedMediaType.getSubtype());
+                    if (!mediaTypes.contains(mediaType)) {
+                        mediaTypes.add(mediaType);
+                    }
+                }
+            }
+        }
+        MediaType.sortBySpecificity(mediaTypes);
+        return mediaTypes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T read(final byte[] body, final MediaType contentType, final Class<T> responseType) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        final MediaType mediaType = contentType != null ? contentType : MediaType.APPLICATION_JSON;
+        for (final HttpMessageConverter<?> messageConverter : restTemplate.getMessageConverters()) {
+            if (messageConverter.canRead(responseType, mediaType)) {
+                try {
+                    return ((HttpMessageConverter<T>) messageConverter).read(responseType,
+                            new CachedHttpInputMessage(body, mediaType));
+                } catch (final IOException e) {
+                    throw new SpringBatchLightminApplicationException(e, "Could not read "
+                            + responseType.getSimpleName() + ": " + e.getMessage());
+                }
+            }
+        }
+        throw new SpringBatchLightminApplicationException("Could not read " + responseType.getSimpleName()
+                + ", no message converter for content type " + mediaType);
+    }
+
+    private synchronized CachedResponse get(final String key) {
+        return responses.get(key);
+    }
+
+    private synchronized void put(final String key, final CachedResponse cachedResponse) {
+        responses.put(key, cachedResponse);
+    }
+
+    private synchronized void remove(final String key) {
+        responses.remove(key);
+    }
+
+    @Data
+    private static final class CachedResponse {
+
+        private final String eTag;
+        private final MediaType contentType;
+        private final byte[] body;
+    }
+
+    private static final class CachedHttpInputMessage implements HttpInputMessage {
+
+        private final byte[] body;
+        private final HttpHeaders headers;
+
+        private CachedHttpInputMessage(final byte[] body, final MediaType contentType) {
+            this.body = body;
+            this.headers = new HttpHeaders();
+            this.headers.setContentType(contentType);
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.tuxdevelop.spring.batch.lightmin.server.support;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Asks the client applications for gzip compressed responses and decompresses them while they are read. Responses
+ * without the gzip Content-Encoding are passed through, e.g. if the compression of the client application is disabled
+ * or the response is below its min response size.
+ *
+ * @author Marcel Becker
+ * @since 0.3
+ */
+public class GzipHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String GZIP = "gzip";
+
+    @Override
+    public ClientHttpResponse intercept(final HttpRequest request,
+                                        final byte[] body,
+                                        final ClientHttpRequestExecution execution) throws IOException {
+        if (!request.getHeaders().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+            request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, GZIP);
+        }
+        final ClientHttpResponse response = execution.execute(request, body);
+        final List<String> contentEncodings = response.getHeaders().get(HttpHeaders.CONTENT_ENCODING);
+        if (contentEncodings != null) {
+            for (final String contentEncoding : contentEncodings) {
+                if (GZIP.equalsIgnoreCase(contentEncoding.trim())) {
+                    return new GzipClientHttpResponse(response);
+                }
+            }
+        }
+        return response;
+    }
+
+    private static final class GzipClientHttpResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse response;
+        private final HttpHeaders headers;
+        private InputStream body;
+
+        private GzipClientHttpResponse(final ClientHttpResponse response) {
+            this.response = response;
+            this.headers = new HttpHeaders();
+            this.headers.putAll(response.getHeaders());
+            this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+            this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new GZIPInputStream(response.getBody());
+            }
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public HttpStatus getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public int getRawStatusCode() throws IOException {
+            return response.getRawStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+}
@@ -131,6 +131,7 @@ public class JobConfigurationController extends CommonController {
         jobConfigurationAddModel.setJobConfigurationId(jobConfigurationId);
         jobConfigurationAddModel.setSchedulerStatus(jobConfiguration.getJobSchedulerConfiguration().getSchedulerStatus());
         jobConfigurationAddModel.setJobIncrementer(jobConfiguration.getJobIncrementer());
+        jobConfigurationAddModel.setVersion(jobConfiguration.getVersion());
         jobConfigurationAddModel.setApplicationId(lightminClientApplication.getId());
         model.addAttribute("jobConfigurationAddModel", jobConfigurationAddModel);
         model.addAttribute("jobSchedulerTypes", lightminClientInformation.getSupportedSchedulerTypes());
@@ -158,6 +159,7 @@ public class JobConfigurationController extends CommonController {
         jobConfigurationAddModel.setJobConfigurationId(jobConfigurationId);
         jobConfigurationAddModel.setListenerStatus(jobConfiguration.getJobListenerConfiguration().getListenerStatus());
         jobConfigurationAddModel.setJobIncrementer(jobConfiguration.getJobIncrementer());
+        jobConfigurationAddModel.setVersion(jobConfiguration.getVersion());
         jobConfigurationAddModel.setApplicationId(lightminClientApplication.getId());
         model.addAttribute("jobConfigurationAddModel", jobConfigurationAddModel);
         model.addAttribute("jobListenerTypes", lightminClientInformation.getSupportedJobListenerTypes());
@@ -313,6 +315,7 @@ public class JobConfigurationController extends CommonController {
         jobConfiguration.setJobParameters(jobParameters);
         jobConfiguration.setJobIncrementer(jobConfigurationAddModel.getJobIncrementer());
         jobConfiguration.setJobConfigurationId(jobConfigurationAddModel.getJobConfigurationId());
+        jobConfiguration.setVersion(jobConfigurationAddModel.getVersion());
         return jobConfiguration;
     }
 
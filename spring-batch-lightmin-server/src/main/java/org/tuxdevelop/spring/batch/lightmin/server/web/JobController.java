@@ -4,6 +4,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.ui.ModelMap;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -13,8 +14,8 @@ import org.tuxdevelop.spring.batch.lightmin.model.*;
 import org.tuxdevelop.spring.batch.lightmin.server.job.JobServerService;
 import org.tuxdevelop.spring.batch.lightmin.server.support.RegistrationBean;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 
 /**
  * @author Marcel Becker
@@ -36,9 +37,9 @@ public class JobController extends CommonController {
     @RequestMapping(value = "/jobs", method = RequestMethod.GET)
     public void initJobs(@RequestParam(value = "applicationid") final String applicationId, final Model model) {
         final LightminClientApplication lightminClientApplication = registrationBean.get(applicationId);
-        final Collection<JobInfoModel> jobInfoModels = new LinkedList<>();
         final Collection<String> jobNames = lightminClientApplication.getLightminClientInformation()
                 .getRegisteredJobs();
+        final Collection<JobInfoModel> jobInfoModels = new ArrayList<>(jobNames.size());
         for (final String jobName : jobNames) {
             final JobInfoModel jobInfoModel = new JobInfoModel();
             jobInfoModel.setJobName(jobName);
@@ -55,10 +56,17 @@ public class JobController extends CommonController {
     public String getJob(final Model model, @RequestParam("jobname") final String jobName,
                          @RequestParam(value = "startindex", defaultValue = "0") final int startIndex,
                          @RequestParam(value = "pagesize", defaultValue = "10") final int pageSize,
+                         @RequestParam(value = "cursor", required = false) final String cursor,
                          @RequestParam(value = "applicationid") final String applicationId) {
         final LightminClientApplication lightminClientApplication = registrationBean.get(applicationId);
-        final Collection<JobInstanceModel> jobInstanceModels = new LinkedList<>();
-        final JobInstancePage jobInstancePage = jobServerService.getJobInstances(jobName, startIndex, pageSize, lightminClientApplication);
+        final JobInstancePage jobInstancePage;
+        if (StringUtils.hasText(cursor)) {
+            jobInstancePage = jobServerService.getJobInstancesByCursor(jobName, cursor, startIndex, pageSize,
+                    lightminClientApplication);
+        } else {
+            jobInstancePage = jobServerService.getJobInstances(jobName, startIndex, pageSize, lightminClientApplication);
+        }
+        final Collection<JobInstanceModel> jobInstanceModels = new ArrayList<>(jobInstancePage.getJobInstances().size());
         for (final JobInstance jobInstance : jobInstancePage.getJobInstances()) {
             final JobInstanceModel jobInstanceModel = new JobInstanceModel();
             jobInstanceModel.setJobName(jobName);
@@ -66,7 +74,8 @@ public class JobController extends CommonController {
             enrichJobInstanceModel(jobInstanceModel, jobInstance, lightminClientApplication);
             jobInstanceModels.add(jobInstanceModel);
         }
-        final PageModel pageModel = new PageModel(startIndex, pageSize, jobInstancePage.getTotalJobInstanceCount());
+        final PageModel pageModel = new PageModel(startIndex, pageSize, jobInstancePage.getTotalJobInstanceCount(),
+                jobInstancePage.getNextCursor());
         model.addAttribute("jobName", jobName);
         model.addAttribute("jobPage", pageModel);
         model.addAttribute("jobInstances", jobInstanceModels);
@@ -78,11 +87,18 @@ public class JobController extends CommonController {
     public String getJobExecutions(final Model model, @RequestParam("jobInstanceId") final Long jobInstanceId,
                                    @RequestParam(value = "startindex", defaultValue = "0") final int startIndex,
                                    @RequestParam(value = "pagesize", defaultValue = "10") final int pageSize,
+                                   @RequestParam(value = "cursor", required = false) final String cursor,
                                    @RequestParam(value = "applicationid") final String applicationId) {
         final LightminClientApplication lightminClientApplication = registrationBean.get(applicationId);
-        final JobExecutionPage jobExecutionPage = jobServerService.getJobExecutionPage(jobInstanceId, startIndex, pageSize, lightminClientApplication);
+        final JobExecutionPage jobExecutionPage;
+        if (StringUtils.hasText(cursor)) {
+            jobExecutionPage = jobServerService.getJobExecutionPageByCursor(jobInstanceId, cursor, startIndex, pageSize,
+                    lightminClientApplication);
+        } else {
+            jobExecutionPage = jobServerService.getJobExecutionPage(jobInstanceId, startIndex, pageSize, lightminClientApplication);
+        }
         final Collection<JobExecution> jobExecutions = jobExecutionPage.getJobExecutions();
-        final Collection<JobExecutionModel> jobExecutionModels = new LinkedList<>();
+        final Collection<JobExecutionModel> jobExecutionModels = new ArrayList<>(jobExecutions.size());
         for (final JobExecution jobExecution : jobExecutions) {
             final JobExecutionModel jobExecutionModel = new JobExecutionModel();
             jobExecutionModel.setJobExecution(jobExecution);
@@ -90,7 +106,8 @@ public class JobController extends CommonController {
             jobExecutionModel.setJobName(jobExecutionPage.getJobName());
             jobExecutionModels.add(jobExecutionModel);
         }
-        final PageModel pageModel = new PageModel(startIndex, pageSize, jobExecutionPage.getTotalJobExecutionCount());
+        final PageModel pageModel = new PageModel(startIndex, pageSize, jobExecutionPage.getTotalJobExecutionCount(),
+                jobExecutionPage.getNextCursor());
         model.addAttribute("jobName", jobExecutionPage.getJobName());
         model.addAttribute("jobExecutions", jobExecutionModels);
         model.addAttribute("pageModel", pageModel);
@@ -135,7 +152,7 @@ public class JobController extends CommonController {
 
     void enrichJobExecution(final JobExecutionModel jobExecutionModel,
                             final Collection<StepExecution> stepExecutions) {
-        final Collection<StepExecutionModel> stepExecutionModels = new LinkedList<>();
+        final Collection<StepExecutionModel> stepExecutionModels = new ArrayList<>(stepExecutions.size());
         for (final StepExecution stepExecution : stepExecutions) {
             final StepExecutionModel stepExecutionModel = new StepExecutionModel();
             stepExecutionModel.setStepExecution(stepExecution);
@@ -148,10 +165,10 @@ public class JobController extends CommonController {
     void enrichJobInstanceModel(final JobInstanceModel jobInstanceModel,
                                 final JobInstance jobInstance,
                                 final LightminClientApplication lightminClientApplication) {
-        final Collection<JobExecutionModel> jobExecutionModels = new LinkedList<>();
-
         final JobExecutionPage jobExecutionPage = jobServerService.getJobExecutionPage(jobInstance.getId(),
                 lightminClientApplication);
+        final Collection<JobExecutionModel> jobExecutionModels = new ArrayList<>(jobExecutionPage.getJobExecutions()
+                .size());
         for (final JobExecution jobExecution : jobExecutionPage.getJobExecutions()) {
             final JobExecutionModel jobExecutionModel = new JobExecutionModel();
             jobExecutionModel.setJobInstanceId(jobInstance.getId());
@@ -11,6 +11,8 @@ import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.*;
 import org.tuxdevelop.spring.batch.lightmin.client.api.LightminClientApplication;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Fail.fail;
@@ -66,6 +68,74 @@ public abstract class JobServerServiceIT {
         assertThat(result.getJobExecutions()).hasSize(1);
     }
 
+    @Test
+    public void testGetPagesByCursor() throws Exception {
+        jobLauncher.run(simpleJob, new JobParametersBuilder().addLong("nano", System.nanoTime()).toJobParameters());
+        final LightminClientApplication lightminClientApplication = createLightminClientApplication();
+        final JobExecutionPage firstPage = getJobServerService().getJobExecutionPage(launchedJobInstanceId, 0, 10,
+                lightminClientApplication);
+        assertThat(firstPage.getNextCursor()).isNull();
+        final JobInstancePage jobInstancePage = getJobServerService().getJobInstances(simpleJob.getName(), 0, 1,
+                lightminClientApplication);
+        assertThat(jobInstancePage.getNextCursor()).isNotNull();
+        final JobInstancePage nextPage = getJobServerService().getJobInstancesByCursor(simpleJob.getName(),
+                jobInstancePage.getNextCursor(), 1, 1, lightminClientApplication);
+        assertThat(nextPage.getJobInstances()).hasSize(1);
+        assertThat(nextPage.getJobInstances().get(0).getId())
+                .isLessThan(jobInstancePage.getJobInstances().get(0).getId());
+    }
+
+    @Test
+    public void testSearchJobExecutions() throws Exception {
+        jobLauncher.run(simpleJob, new JobParametersBuilder().addLong("nano", System.nanoTime()).toJobParameters());
+        final LightminClientApplication lightminClientApplication = createLightminClientApplication();
+        final JobExecutionSearch jobExecutionSearch = new JobExecutionSearch();
+        jobExecutionSearch.setJobName(simpleJob.getName());
+        jobExecutionSearch.setStatuses(Collections.singleton(BatchStatus.COMPLETED));
+        jobExecutionSearch.setPageSize(1);
+        final JobExecutionPage firstPage = getJobServerService().searchJobExecutions(jobExecutionSearch,
+                lightminClientApplication);
+        assertThat(firstPage.getJobExecutions()).hasSize(1);
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        jobExecutionSearch.setCursor(firstPage.getNextCursor());
+        final JobExecutionPage nextPage = getJobServerService().searchJobExecutions(jobExecutionSearch,
+                lightminClientApplication);
+        assertThat(nextPage.getJobExecutions()).hasSize(1);
+        assertThat(nextPage.getJobExecutions().get(0).getId())
+                .isLessThan(firstPage.getJobExecutions().get(0).getId());
+    }
+
+    @Test
+    public void testGetJobExecutionStatistics() {
+        final LightminClientApplication lightminClientApplication = createLightminClientApplication();
+        final Date startTimeFrom = new Date(jobExecution.getStartTime().getTime() - 1000);
+        final Date startTimeTo = new Date(jobExecution.getStartTime().getTime() + 1000);
+        final JobExecutionStatistics result = getJobServerService().getJobExecutionStatistics(simpleJob.getName(),
+                startTimeFrom, startTimeTo, lightminClientApplication);
+        assertThat(result).isNotNull();
+        assertThat(result.getJobName()).isEqualTo(simpleJob.getName());
+        assertThat(result.getStartTimeFrom()).isEqualTo(startTimeFrom);
+        assertThat(result.getStartTimeTo()).isEqualTo(startTimeTo);
+        assertThat(result.getExecutionCount()).isGreaterThan(0);
+        assertThat(result.getStepExecutionStatistics()).isNotEmpty();
+    }
+
+    @Test
+    public void testPurgeJobExecutions() {
+        final LightminClientApplication lightminClientApplication = createLightminClientApplication();
+        final RetentionPolicy retentionPolicy = new RetentionPolicy();
+        retentionPolicy.setMaxExecutionsPerJob(1000);
+        try {
+            getJobServerService().purgeJobExecutions(retentionPolicy, lightminClientApplication);
+            fail("Exception expected, the map based repository does not support purging");
+        } catch (final RuntimeException e) {
+            final JobExecutionPurgeStatus status = getJobServerService().getJobExecutionPurgeStatus(
+                    lightminClientApplication);
+            assertThat(status).isNotNull();
+            assertThat(status.getState()).isEqualTo(JobExecutionPurgeState.NOT_STARTED);
+        }
+    }
+
     @Test
     public void testGetStepExecution() {
         final LightminClientApplication lightminClientApplication = createLightminClientApplication();
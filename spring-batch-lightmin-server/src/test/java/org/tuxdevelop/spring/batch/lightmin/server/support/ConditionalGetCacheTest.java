@@ -0,0 +1,125 @@
+package org.tuxdevelop.spring.batch.lightmin.server.support;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.JobInfo;
+import org.tuxdevelop.spring.batch.lightmin.util.SmileHttpMessageConverter;
+
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+public class ConditionalGetCacheTest {
+
+    private static final String URI = "http://localhost:8080/api/jobinfos/{jobname}";
+    private static final String EXPANDED_URI = "http://localhost:8080/api/jobinfos/simpleJob";
+    private static final String BODY = "{\"jobName\":\"simpleJob\",\"jobInstanceCount\":3}";
+    private static final String ETAG = "\"j-1-0-3\"";
+
+    private RestTemplate restTemplate;
+    private MockRestServiceServer mockRestServiceServer;
+
+    @Test
+    public void getForEntityNotModifiedTest() {
+        final ConditionalGetCache conditionalGetCache = new ConditionalGetCache(restTemplate, 10);
+        mockRestServiceServer.expect(requestTo(EXPANDED_URI))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(createETagHeaders(ETAG)));
+        mockRestServiceServer.expect(requestTo(EXPANDED_URI))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED).headers(createETagHeaders(ETAG)));
+        final ResponseEntity<JobInfo> first = conditionalGetCache.getForEntity(URI, JobInfo.class, "simpleJob");
+        final ResponseEntity<JobInfo> second = conditionalGetCache.getForEntity(URI, JobInfo.class, "simpleJob");
+        mockRestServiceServer.verify();
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getBody().getJobInstanceCount()).isEqualTo(3);
+        assertThat(second.getBody()).isEqualTo(first.getBody()).isNotSameAs(first.getBody());
+    }
+
+    @Test
+    public void getForEntityModifiedTest() {
+        final ConditionalGetCache conditionalGetCache = new ConditionalGetCache(restTemplate, 10);
+        mockRestServiceServer.expect(requestTo(EXPANDED_URI))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(createETagHeaders(ETAG)));
+        mockRestServiceServer.expect(requestTo(EXPANDED_URI))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andRespond(withSuccess("{\"jobName\":\"simpleJob\",\"jobInstanceCount\":4}",
+                        MediaType.APPLICATION_JSON).headers(createETagHeaders("\"j-1-0-4\"")));
+        mockRestServiceServer.expect(requestTo(EXPANDED_URI))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"j-1-0-4\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+        conditionalGetCache.getForEntity(URI, JobInfo.class, "simpleJob");
+        assertThat(conditionalGetCache.getForEntity(URI, JobInfo.class, "simpleJob").getBody()
+                .getJobInstanceCount()).isEqualTo(4);
+        assertThat(conditionalGetCache.getForEntity(URI, JobInfo.class, "simpleJob").getBody()
+                .getJobInstanceCount()).isEqualTo(4);
+        mockRestServiceServer.verify();
+    }
+
+    @Test
+    public void getForEntityMaxSizeTest() {
+        final ConditionalGetCache conditionalGetCache = new ConditionalGetCache(restTemplate, 1);
+        mockRestServiceServer.expect(requestTo(EXPANDED_URI))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(createETagHeaders(ETAG)));
+        mockRestServiceServer.expect(requestTo("http://localhost:8080/api/jobinfos/otherJob"))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(createETagHeaders(ETAG)));
+        conditionalGetCache.getForEntity(URI, JobInfo.class, "simpleJob");
+        conditionalGetCache.getForEntity(URI, JobInfo.class, "otherJob");
+        mockRestServiceServer.verify();
+        assertThat(conditionalGetCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void getForEntityWithoutETagTest() {
+        final ConditionalGetCache conditionalGetCache = new ConditionalGetCache(restTemplate, 10);
+        mockRestServiceServer.expect(requestTo(EXPANDED_URI))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON));
+        final ResponseEntity<JobInfo> response = conditionalGetCache.getForEntity(URI, JobInfo.class, "simpleJob");
+        mockRestServiceServer.verify();
+        assertThat(response.getBody().getJobName()).isEqualTo("simpleJob");
+        assertThat(conditionalGetCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void getForEntitySmileTest() throws Exception {
+        restTemplate.getMessageConverters().add(0, new SmileHttpMessageConverter());
+        final ConditionalGetCache conditionalGetCache = new ConditionalGetCache(restTemplate, 10);
+        final JobInfo jobInfo = new JobInfo();
+        jobInfo.setJobName("simpleJob");
+        jobInfo.setJobInstanceCount(3);
+        final byte[] body = new SmileHttpMessageConverter().getObjectMapper().writeValueAsBytes(jobInfo);
+        mockRestServiceServer.expect(requestTo(EXPANDED_URI))
+                .andExpect(header(HttpHeaders.ACCEPT, startsWith(SmileHttpMessageConverter.APPLICATION_SMILE.toString())))
+                .andRespond(withSuccess(body, SmileHttpMessageConverter.APPLICATION_SMILE)
+                        .headers(createETagHeaders(ETAG)));
+        mockRestServiceServer.expect(requestTo(EXPANDED_URI))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+        assertThat(conditionalGetCache.getForEntity(URI, JobInfo.class, "simpleJob").getBody()).isEqualTo(jobInfo);
+        assertThat(conditionalGetCache.getForEntity(URI, JobInfo.class, "simpleJob").getBody()).isEqualTo(jobInfo);
+        mockRestServiceServer.verify();
+    }
+
+    private static HttpHeaders createETagHeaders(final String eTag) {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setETag(eTag);
+        return headers;
+    }
+
+    @Before
+    public void init() {
+        restTemplate = new RestTemplate();
+        mockRestServiceServer = MockRestServiceServer.createServer(restTemplate);
+    }
+}
@@ -0,0 +1,68 @@
+package org.tuxdevelop.spring.batch.lightmin.server.support;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.tuxdevelop.spring.batch.lightmin.api.resource.batch.JobInfo;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+public class GzipHttpRequestInterceptorTest {
+
+    private static final String URI = "http://localhost:8080/api/jobinfos/simpleJob";
+    private static final String BODY = "{\"jobName\":\"simpleJob\",\"jobInstanceCount\":3}";
+
+    private RestTemplate restTemplate;
+    private MockRestServiceServer mockRestServiceServer;
+
+    @Test
+    public void interceptCompressedTest() throws Exception {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_ENCODING, GzipHttpRequestInterceptor.GZIP);
+        mockRestServiceServer.expect(requestTo(URI))
+                .andExpect(header(HttpHeaders.ACCEPT_ENCODING, GzipHttpRequestInterceptor.GZIP))
+                .andRespond(withSuccess(gzip(BODY), MediaType.APPLICATION_JSON).headers(headers));
+        final JobInfo jobInfo = restTemplate.getForObject(URI, JobInfo.class);
+        mockRestServiceServer.verify();
+        assertThat(jobInfo.getJobName()).isEqualTo("simpleJob");
+        assertThat(jobInfo.getJobInstanceCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void interceptUncompressedTest() {
+        mockRestServiceServer.expect(requestTo(URI))
+                .andExpect(header(HttpHeaders.ACCEPT_ENCODING, GzipHttpRequestInterceptor.GZIP))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON));
+        final JobInfo jobInfo = restTemplate.getForObject(URI, JobInfo.class);
+        mockRestServiceServer.verify();
+        assertThat(jobInfo.getJobName()).isEqualTo("simpleJob");
+    }
+
+    private static byte[] gzip(final String body) throws Exception {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            gzipOutputStream.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    @Before
+    public void init() {
+        restTemplate = new RestTemplate();
+        restTemplate.setInterceptors(Collections.<ClientHttpRequestInterceptor>singletonList(
+                new GzipHttpRequestInterceptor()));
+        mockRestServiceServer = MockRestServiceServer.createServer(restTemplate);
+    }
+}
@@ -1,3 +1,4 @@
+DROP TABLE BATCH_JOB_LAUNCH_KEY IF EXISTS;
 DROP TABLE BATCH_JOB_CONFIGURATION IF EXISTS;
 DROP TABLE BATCH_JOB_SCHEDULER_CONFIGURATION IF EXISTS;
 DROP TABLE BATCH_JOB_CONFIGURATION_PARAMETERS IF EXISTS;
@@ -5,7 +6,8 @@ DROP TABLE BATCH_JOB_CONFIGURATION_PARAMETERS IF EXISTS;
 CREATE TABLE BATCH_JOB_CONFIGURATION (
   job_configuration_id NUMERIC IDENTITY PRIMARY KEY NOT NULL,
   job_name             VARCHAR(255),
-  job_incrementer      VARCHAR(255)
+  job_incrementer      VARCHAR(255),
+  version              NUMERIC DEFAULT 0                NOT NULL
 );
 
 CREATE TABLE BATCH_JOB_SCHEDULER_CONFIGURATION (
@@ -41,3 +43,15 @@ CREATE TABLE BATCH_JOB_CONFIGURATION_PARAMETERS (
   parameter_type       INT                          NOT NULL
 );
 
+CREATE INDEX IDX_JOB_CONF_JOB_NAME ON BATCH_JOB_CONFIGURATION (job_name);
+CREATE INDEX IDX_JOB_SCHED_CONF_JOB_CONF_ID ON BATCH_JOB_SCHEDULER_CONFIGURATION (job_configuration_id);
+CREATE INDEX IDX_JOB_CONF_PARAM_JOB_CONF_ID ON BATCH_JOB_CONFIGURATION_PARAMETERS (job_configuration_id);
+
+CREATE TABLE BATCH_JOB_LAUNCH_KEY (
+  launch_key           VARCHAR(255) PRIMARY KEY     NOT NULL,
+  job_name             VARCHAR(255)                 NOT NULL,
+  job_execution_id     NUMERIC                      NULL,
+  create_time          TIMESTAMP                    NOT NULL
+);
+
+CREATE INDEX IDX_JOB_LAUNCH_KEY_CREATE_TIME ON BATCH_JOB_LAUNCH_KEY (create_time);
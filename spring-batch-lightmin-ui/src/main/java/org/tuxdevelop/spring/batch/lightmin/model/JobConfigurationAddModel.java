@@ -26,4 +26,5 @@ public class JobConfigurationAddModel {
     private JobIncrementer jobIncrementer;
     private TaskExecutorType taskExecutorType;
     private String applicationId;
+    private Long version;
 }
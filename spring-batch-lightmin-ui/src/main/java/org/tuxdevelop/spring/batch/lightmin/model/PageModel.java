@@ -12,11 +12,22 @@ public class PageModel implements Serializable{
     private final Integer currentIndex;
 	private final Integer pageSize;
     private final Integer totalSize;
+    private final String nextCursor;
 
     public PageModel(final Integer startIndex, final Integer pageSize, final Integer totalSize) {
+        this(startIndex, pageSize, totalSize, null);
+    }
+
+    public PageModel(final Integer startIndex, final Integer pageSize, final Integer totalSize,
+                     final String nextCursor) {
         this.currentIndex = startIndex;
         this.pageSize = pageSize;
         this.totalSize = totalSize;
+        this.nextCursor = nextCursor;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
     }
 
     public Integer getNextStartIndex() {
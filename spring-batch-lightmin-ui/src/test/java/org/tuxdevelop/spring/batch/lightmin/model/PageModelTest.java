@@ -53,4 +53,10 @@ public class PageModelTest {
         final PageModel pageModel = new PageModel(0, 10, 10);
         assertThat(pageModel.getHasPrevious()).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testNextCursor() {
+        assertThat(new PageModel(0, 10, 11, "cursor").getNextCursor()).isEqualTo("cursor");
+        assertThat(new PageModel(0, 10, 11).getNextCursor()).isNull();
+    }
+}